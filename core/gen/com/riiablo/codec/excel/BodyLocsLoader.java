@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link BodyLocs.Entry}, do not modify.
+ */
+public final class BodyLocsLoader extends Excel.Loader<BodyLocs.Entry> {
+  private int Body_Location;
+  private int Code;
+  private final int[] columnIds = new int[2];
+
+  public BodyLocsLoader() {
+    super("Body_Location", "Code");
+  }
+
+  @Override
+  public BodyLocs.Entry newEntry() {
+    return new BodyLocs.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Code";
+  }
+
+  @Override
+  public String stringKey(BodyLocs.Entry entry) {
+    return entry.Code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Body_Location = in.getColumnId("Body Location");
+    Code = in.getColumnId("Code");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, BodyLocs.Entry entry) {
+    entry.Body_Location = in.getString(Body_Location);
+    entry.Code = in.getString(Code);
+  }
+
+  @Override
+  public void readBin(DataInput in, BodyLocs.Entry entry) throws IOException {
+    entry.Body_Location = in.readUTF();
+    entry.Code = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, BodyLocs.Entry entry) throws IOException {
+    out.writeUTF(entry.Body_Location);
+    out.writeUTF(entry.Code);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Body_Location");
+    columnIds[1] = column(in, "Code");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, BodyLocs.Entry entry) {
+    entry.Body_Location = in.getString(row, columnIds[0]);
+    entry.Code = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(BodyLocs.Entry e1, BodyLocs.Entry e2) {
+    return StringUtils.equals(e1.Body_Location, e2.Body_Location)
+        && StringUtils.equals(e1.Code, e2.Code);
+  }
+}
@@ -0,0 +1,296 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link CharStats.Entry}, do not modify.
+ */
+public final class CharStatsLoader extends Excel.Loader<CharStats.Entry> {
+  private int _class;
+  private int str;
+  private int dex;
+  private int _int;
+  private int vit;
+  private int stamina;
+  private int hpadd;
+  private int ManaRegen;
+  private int ToHitFactor;
+  private int WalkVelocity;
+  private int RunVelocity;
+  private int RunDrain;
+  private int LifePerLevel;
+  private int StaminaPerLevel;
+  private int ManaPerLevel;
+  private int LifePerVitality;
+  private int StaminaPerVitality;
+  private int ManaPerMagic;
+  private int StatPerLevel;
+  private int BlockFactor;
+  private int StrAllSkills;
+  private int[] StrSkillTab;
+  private int StrClassOnly;
+  private int baseWClass;
+  private int[] Skill;
+  private int[] item;
+  private int[] itemloc;
+  private int[] itemcount;
+  private final int[] columnIds = new int[28];
+
+  public CharStatsLoader() {
+    super("_class", "str", "dex", "_int", "vit", "stamina", "hpadd", "ManaRegen", "ToHitFactor", "WalkVelocity", "RunVelocity", "RunDrain", "LifePerLevel", "StaminaPerLevel", "ManaPerLevel", "LifePerVitality", "StaminaPerVitality", "ManaPerMagic", "StatPerLevel", "BlockFactor", "StrAllSkills", "StrSkillTab", "StrClassOnly", "baseWClass", "Skill", "item", "itemloc", "itemcount");
+  }
+
+  @Override
+  public CharStats.Entry newEntry() {
+    return new CharStats.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "_class";
+  }
+
+  @Override
+  public String stringKey(CharStats.Entry entry) {
+    return entry._class;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    _class = in.getColumnId("class");
+    str = in.getColumnId("str");
+    dex = in.getColumnId("dex");
+    _int = in.getColumnId("int");
+    vit = in.getColumnId("vit");
+    stamina = in.getColumnId("stamina");
+    hpadd = in.getColumnId("hpadd");
+    ManaRegen = in.getColumnId("ManaRegen");
+    ToHitFactor = in.getColumnId("ToHitFactor");
+    WalkVelocity = in.getColumnId("WalkVelocity");
+    RunVelocity = in.getColumnId("RunVelocity");
+    RunDrain = in.getColumnId("RunDrain");
+    LifePerLevel = in.getColumnId("LifePerLevel");
+    StaminaPerLevel = in.getColumnId("StaminaPerLevel");
+    ManaPerLevel = in.getColumnId("ManaPerLevel");
+    LifePerVitality = in.getColumnId("LifePerVitality");
+    StaminaPerVitality = in.getColumnId("StaminaPerVitality");
+    ManaPerMagic = in.getColumnId("ManaPerMagic");
+    StatPerLevel = in.getColumnId("StatPerLevel");
+    BlockFactor = in.getColumnId("BlockFactor");
+    StrAllSkills = in.getColumnId("StrAllSkills");
+    StrSkillTab = in.getColumnId(new String[] { "StrSkillTab1", "StrSkillTab2", "StrSkillTab3" });
+    StrClassOnly = in.getColumnId("StrClassOnly");
+    baseWClass = in.getColumnId("baseWClass");
+    Skill = in.getColumnId(new String[] { "Skill 1", "Skill 2", "Skill 3", "Skill 4", "Skill 5", "Skill 6", "Skill 7", "Skill 8", "Skill 9", "Skill 10" });
+    item = in.getColumnId(new String[] { "item1", "item2", "item3", "item4", "item5", "item6", "item7", "item8", "item9", "item10" });
+    itemloc = in.getColumnId(new String[] { "item1loc", "item2loc", "item3loc", "item4loc", "item5loc", "item6loc", "item7loc", "item8loc", "item9loc", "item10loc" });
+    itemcount = in.getColumnId(new String[] { "item1count", "item2count", "item3count", "item4count", "item5count", "item6count", "item7count", "item8count", "item9count", "item10count" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, CharStats.Entry entry) {
+    entry._class = in.getString(_class);
+    entry.str = in.getInt(str);
+    entry.dex = in.getInt(dex);
+    entry._int = in.getInt(_int);
+    entry.vit = in.getInt(vit);
+    entry.stamina = in.getInt(stamina);
+    entry.hpadd = in.getInt(hpadd);
+    entry.ManaRegen = in.getInt(ManaRegen);
+    entry.ToHitFactor = in.getInt(ToHitFactor);
+    entry.WalkVelocity = in.getInt(WalkVelocity);
+    entry.RunVelocity = in.getInt(RunVelocity);
+    entry.RunDrain = in.getInt(RunDrain);
+    entry.LifePerLevel = in.getInt(LifePerLevel);
+    entry.StaminaPerLevel = in.getInt(StaminaPerLevel);
+    entry.ManaPerLevel = in.getInt(ManaPerLevel);
+    entry.LifePerVitality = in.getInt(LifePerVitality);
+    entry.StaminaPerVitality = in.getInt(StaminaPerVitality);
+    entry.ManaPerMagic = in.getInt(ManaPerMagic);
+    entry.StatPerLevel = in.getInt(StatPerLevel);
+    entry.BlockFactor = in.getInt(BlockFactor);
+    entry.StrAllSkills = in.getString(StrAllSkills);
+    entry.StrSkillTab = in.getString(StrSkillTab);
+    entry.StrClassOnly = in.getString(StrClassOnly);
+    entry.baseWClass = in.getString(baseWClass);
+    entry.Skill = in.getString(Skill);
+    entry.item = in.getString(item);
+    entry.itemloc = in.getString(itemloc);
+    entry.itemcount = in.getString(itemcount);
+  }
+
+  @Override
+  public void readBin(DataInput in, CharStats.Entry entry) throws IOException {
+    entry._class = in.readUTF();
+    entry.str = in.readInt();
+    entry.dex = in.readInt();
+    entry._int = in.readInt();
+    entry.vit = in.readInt();
+    entry.stamina = in.readInt();
+    entry.hpadd = in.readInt();
+    entry.ManaRegen = in.readInt();
+    entry.ToHitFactor = in.readInt();
+    entry.WalkVelocity = in.readInt();
+    entry.RunVelocity = in.readInt();
+    entry.RunDrain = in.readInt();
+    entry.LifePerLevel = in.readInt();
+    entry.StaminaPerLevel = in.readInt();
+    entry.ManaPerLevel = in.readInt();
+    entry.LifePerVitality = in.readInt();
+    entry.StaminaPerVitality = in.readInt();
+    entry.ManaPerMagic = in.readInt();
+    entry.StatPerLevel = in.readInt();
+    entry.BlockFactor = in.readInt();
+    entry.StrAllSkills = in.readUTF();
+    entry.StrSkillTab = new String[3];
+    for (int x = 0; x < 3; x++) entry.StrSkillTab[x] = in.readUTF();
+    entry.StrClassOnly = in.readUTF();
+    entry.baseWClass = in.readUTF();
+    entry.Skill = new String[10];
+    for (int x = 0; x < 10; x++) entry.Skill[x] = in.readUTF();
+    entry.item = new String[10];
+    for (int x = 0; x < 10; x++) entry.item[x] = in.readUTF();
+    entry.itemloc = new String[10];
+    for (int x = 0; x < 10; x++) entry.itemloc[x] = in.readUTF();
+    entry.itemcount = new String[10];
+    for (int x = 0; x < 10; x++) entry.itemcount[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, CharStats.Entry entry) throws IOException {
+    out.writeUTF(entry._class);
+    out.writeInt(entry.str);
+    out.writeInt(entry.dex);
+    out.writeInt(entry._int);
+    out.writeInt(entry.vit);
+    out.writeInt(entry.stamina);
+    out.writeInt(entry.hpadd);
+    out.writeInt(entry.ManaRegen);
+    out.writeInt(entry.ToHitFactor);
+    out.writeInt(entry.WalkVelocity);
+    out.writeInt(entry.RunVelocity);
+    out.writeInt(entry.RunDrain);
+    out.writeInt(entry.LifePerLevel);
+    out.writeInt(entry.StaminaPerLevel);
+    out.writeInt(entry.ManaPerLevel);
+    out.writeInt(entry.LifePerVitality);
+    out.writeInt(entry.StaminaPerVitality);
+    out.writeInt(entry.ManaPerMagic);
+    out.writeInt(entry.StatPerLevel);
+    out.writeInt(entry.BlockFactor);
+    out.writeUTF(entry.StrAllSkills);
+    for (String x : entry.StrSkillTab) out.writeUTF(x);
+    out.writeUTF(entry.StrClassOnly);
+    out.writeUTF(entry.baseWClass);
+    for (String x : entry.Skill) out.writeUTF(x);
+    for (String x : entry.item) out.writeUTF(x);
+    for (String x : entry.itemloc) out.writeUTF(x);
+    for (String x : entry.itemcount) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "_class");
+    columnIds[1] = column(in, "str");
+    columnIds[2] = column(in, "dex");
+    columnIds[3] = column(in, "_int");
+    columnIds[4] = column(in, "vit");
+    columnIds[5] = column(in, "stamina");
+    columnIds[6] = column(in, "hpadd");
+    columnIds[7] = column(in, "ManaRegen");
+    columnIds[8] = column(in, "ToHitFactor");
+    columnIds[9] = column(in, "WalkVelocity");
+    columnIds[10] = column(in, "RunVelocity");
+    columnIds[11] = column(in, "RunDrain");
+    columnIds[12] = column(in, "LifePerLevel");
+    columnIds[13] = column(in, "StaminaPerLevel");
+    columnIds[14] = column(in, "ManaPerLevel");
+    columnIds[15] = column(in, "LifePerVitality");
+    columnIds[16] = column(in, "StaminaPerVitality");
+    columnIds[17] = column(in, "ManaPerMagic");
+    columnIds[18] = column(in, "StatPerLevel");
+    columnIds[19] = column(in, "BlockFactor");
+    columnIds[20] = column(in, "StrAllSkills");
+    columnIds[21] = column(in, "StrSkillTab");
+    columnIds[22] = column(in, "StrClassOnly");
+    columnIds[23] = column(in, "baseWClass");
+    columnIds[24] = column(in, "Skill");
+    columnIds[25] = column(in, "item");
+    columnIds[26] = column(in, "itemloc");
+    columnIds[27] = column(in, "itemcount");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, CharStats.Entry entry) {
+    entry._class = in.getString(row, columnIds[0]);
+    entry.str = in.getInt(row, columnIds[1]);
+    entry.dex = in.getInt(row, columnIds[2]);
+    entry._int = in.getInt(row, columnIds[3]);
+    entry.vit = in.getInt(row, columnIds[4]);
+    entry.stamina = in.getInt(row, columnIds[5]);
+    entry.hpadd = in.getInt(row, columnIds[6]);
+    entry.ManaRegen = in.getInt(row, columnIds[7]);
+    entry.ToHitFactor = in.getInt(row, columnIds[8]);
+    entry.WalkVelocity = in.getInt(row, columnIds[9]);
+    entry.RunVelocity = in.getInt(row, columnIds[10]);
+    entry.RunDrain = in.getInt(row, columnIds[11]);
+    entry.LifePerLevel = in.getInt(row, columnIds[12]);
+    entry.StaminaPerLevel = in.getInt(row, columnIds[13]);
+    entry.ManaPerLevel = in.getInt(row, columnIds[14]);
+    entry.LifePerVitality = in.getInt(row, columnIds[15]);
+    entry.StaminaPerVitality = in.getInt(row, columnIds[16]);
+    entry.ManaPerMagic = in.getInt(row, columnIds[17]);
+    entry.StatPerLevel = in.getInt(row, columnIds[18]);
+    entry.BlockFactor = in.getInt(row, columnIds[19]);
+    entry.StrAllSkills = in.getString(row, columnIds[20]);
+    entry.StrSkillTab = in.getStrings(row, columnIds[21]);
+    entry.StrClassOnly = in.getString(row, columnIds[22]);
+    entry.baseWClass = in.getString(row, columnIds[23]);
+    entry.Skill = in.getStrings(row, columnIds[24]);
+    entry.item = in.getStrings(row, columnIds[25]);
+    entry.itemloc = in.getStrings(row, columnIds[26]);
+    entry.itemcount = in.getStrings(row, columnIds[27]);
+  }
+
+  @Override
+  public boolean equal(CharStats.Entry e1, CharStats.Entry e2) {
+    return StringUtils.equals(e1._class, e2._class)
+        && e1.str == e2.str
+        && e1.dex == e2.dex
+        && e1._int == e2._int
+        && e1.vit == e2.vit
+        && e1.stamina == e2.stamina
+        && e1.hpadd == e2.hpadd
+        && e1.ManaRegen == e2.ManaRegen
+        && e1.ToHitFactor == e2.ToHitFactor
+        && e1.WalkVelocity == e2.WalkVelocity
+        && e1.RunVelocity == e2.RunVelocity
+        && e1.RunDrain == e2.RunDrain
+        && e1.LifePerLevel == e2.LifePerLevel
+        && e1.StaminaPerLevel == e2.StaminaPerLevel
+        && e1.ManaPerLevel == e2.ManaPerLevel
+        && e1.LifePerVitality == e2.LifePerVitality
+        && e1.StaminaPerVitality == e2.StaminaPerVitality
+        && e1.ManaPerMagic == e2.ManaPerMagic
+        && e1.StatPerLevel == e2.StatPerLevel
+        && e1.BlockFactor == e2.BlockFactor
+        && StringUtils.equals(e1.StrAllSkills, e2.StrAllSkills)
+        && Arrays.equals(e1.StrSkillTab, e2.StrSkillTab)
+        && StringUtils.equals(e1.StrClassOnly, e2.StrClassOnly)
+        && StringUtils.equals(e1.baseWClass, e2.baseWClass)
+        && Arrays.equals(e1.Skill, e2.Skill)
+        && Arrays.equals(e1.item, e2.item)
+        && Arrays.equals(e1.itemloc, e2.itemloc)
+        && Arrays.equals(e1.itemcount, e2.itemcount);
+  }
+}
@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Colors.Entry}, do not modify.
+ */
+public final class ColorsLoader extends Excel.Loader<Colors.Entry> {
+  private int Transform_Color;
+  private int Code;
+  private final int[] columnIds = new int[2];
+
+  public ColorsLoader() {
+    super("Transform_Color", "Code");
+  }
+
+  @Override
+  public Colors.Entry newEntry() {
+    return new Colors.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Code";
+  }
+
+  @Override
+  public String stringKey(Colors.Entry entry) {
+    return entry.Code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Transform_Color = in.getColumnId("Transform Color");
+    Code = in.getColumnId("Code");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Colors.Entry entry) {
+    entry.Transform_Color = in.getString(Transform_Color);
+    entry.Code = in.getString(Code);
+  }
+
+  @Override
+  public void readBin(DataInput in, Colors.Entry entry) throws IOException {
+    entry.Transform_Color = in.readUTF();
+    entry.Code = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Colors.Entry entry) throws IOException {
+    out.writeUTF(entry.Transform_Color);
+    out.writeUTF(entry.Code);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Transform_Color");
+    columnIds[1] = column(in, "Code");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Colors.Entry entry) {
+    entry.Transform_Color = in.getString(row, columnIds[0]);
+    entry.Code = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(Colors.Entry e1, Colors.Entry e2) {
+    return StringUtils.equals(e1.Transform_Color, e2.Transform_Color)
+        && StringUtils.equals(e1.Code, e2.Code);
+  }
+}
@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link CompCode.Entry}, do not modify.
+ */
+public final class CompCodeLoader extends Excel.Loader<CompCode.Entry> {
+  private int component;
+  private int code;
+  private final int[] columnIds = new int[2];
+
+  public CompCodeLoader() {
+    super("component", "code");
+  }
+
+  @Override
+  public CompCode.Entry newEntry() {
+    return new CompCode.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "code";
+  }
+
+  @Override
+  public String stringKey(CompCode.Entry entry) {
+    return entry.code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    component = in.getColumnId("component");
+    code = in.getColumnId("code");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, CompCode.Entry entry) {
+    entry.component = in.getString(component);
+    entry.code = in.getString(code);
+  }
+
+  @Override
+  public void readBin(DataInput in, CompCode.Entry entry) throws IOException {
+    entry.component = in.readUTF();
+    entry.code = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, CompCode.Entry entry) throws IOException {
+    out.writeUTF(entry.component);
+    out.writeUTF(entry.code);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "component");
+    columnIds[1] = column(in, "code");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, CompCode.Entry entry) {
+    entry.component = in.getString(row, columnIds[0]);
+    entry.code = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(CompCode.Entry e1, CompCode.Entry e2) {
+    return StringUtils.equals(e1.component, e2.component)
+        && StringUtils.equals(e1.code, e2.code);
+  }
+}
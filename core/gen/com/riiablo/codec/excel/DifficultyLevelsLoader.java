@@ -0,0 +1,251 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link DifficultyLevels.Entry}, do not modify.
+ */
+public final class DifficultyLevelsLoader extends Excel.Loader<DifficultyLevels.Entry> {
+  private int Name;
+  private int ResistPenalty;
+  private int DeathExpPenalty;
+  private int UberCodeOddsNormal;
+  private int UberCodeOddsGood;
+  private int UltraCodeOddsNormal;
+  private int UltraCodeOddsGood;
+  private int MonsterSkillBonus;
+  private int MonsterFreezeDivisor;
+  private int MonsterColdDivisor;
+  private int AiCurseDivisor;
+  private int LifeStealDivisor;
+  private int ManaStealDivisor;
+  private int UniqueDamageBonus;
+  private int ChampionDamageBonus;
+  private int HireableBossDamagePercent;
+  private int MonsterCEDamagePercent;
+  private int StaticFieldMin;
+  private int GambleRare;
+  private int GambleSet;
+  private int GambleUnique;
+  private int GambleUber;
+  private int GambleUltra;
+  private final int[] columnIds = new int[23];
+
+  public DifficultyLevelsLoader() {
+    super("Name", "ResistPenalty", "DeathExpPenalty", "UberCodeOddsNormal", "UberCodeOddsGood", "UltraCodeOddsNormal", "UltraCodeOddsGood", "MonsterSkillBonus", "MonsterFreezeDivisor", "MonsterColdDivisor", "AiCurseDivisor", "LifeStealDivisor", "ManaStealDivisor", "UniqueDamageBonus", "ChampionDamageBonus", "HireableBossDamagePercent", "MonsterCEDamagePercent", "StaticFieldMin", "GambleRare", "GambleSet", "GambleUnique", "GambleUber", "GambleUltra");
+  }
+
+  @Override
+  public DifficultyLevels.Entry newEntry() {
+    return new DifficultyLevels.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Name";
+  }
+
+  @Override
+  public String stringKey(DifficultyLevels.Entry entry) {
+    return entry.Name;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    ResistPenalty = in.getColumnId("ResistPenalty");
+    DeathExpPenalty = in.getColumnId("DeathExpPenalty");
+    UberCodeOddsNormal = in.getColumnId("UberCodeOddsNormal");
+    UberCodeOddsGood = in.getColumnId("UberCodeOddsGood");
+    UltraCodeOddsNormal = in.getColumnId("UltraCodeOddsNormal");
+    UltraCodeOddsGood = in.getColumnId("UltraCodeOddsGood");
+    MonsterSkillBonus = in.getColumnId("MonsterSkillBonus");
+    MonsterFreezeDivisor = in.getColumnId("MonsterFreezeDivisor");
+    MonsterColdDivisor = in.getColumnId("MonsterColdDivisor");
+    AiCurseDivisor = in.getColumnId("AiCurseDivisor");
+    LifeStealDivisor = in.getColumnId("LifeStealDivisor");
+    ManaStealDivisor = in.getColumnId("ManaStealDivisor");
+    UniqueDamageBonus = in.getColumnId("UniqueDamageBonus");
+    ChampionDamageBonus = in.getColumnId("ChampionDamageBonus");
+    HireableBossDamagePercent = in.getColumnId("HireableBossDamagePercent");
+    MonsterCEDamagePercent = in.getColumnId("MonsterCEDamagePercent");
+    StaticFieldMin = in.getColumnId("StaticFieldMin");
+    GambleRare = in.getColumnId("GambleRare");
+    GambleSet = in.getColumnId("GambleSet");
+    GambleUnique = in.getColumnId("GambleUnique");
+    GambleUber = in.getColumnId("GambleUber");
+    GambleUltra = in.getColumnId("GambleUltra");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, DifficultyLevels.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.ResistPenalty = in.getInt(ResistPenalty);
+    entry.DeathExpPenalty = in.getInt(DeathExpPenalty);
+    entry.UberCodeOddsNormal = in.getInt(UberCodeOddsNormal);
+    entry.UberCodeOddsGood = in.getInt(UberCodeOddsGood);
+    entry.UltraCodeOddsNormal = in.getInt(UltraCodeOddsNormal);
+    entry.UltraCodeOddsGood = in.getInt(UltraCodeOddsGood);
+    entry.MonsterSkillBonus = in.getInt(MonsterSkillBonus);
+    entry.MonsterFreezeDivisor = in.getInt(MonsterFreezeDivisor);
+    entry.MonsterColdDivisor = in.getInt(MonsterColdDivisor);
+    entry.AiCurseDivisor = in.getInt(AiCurseDivisor);
+    entry.LifeStealDivisor = in.getInt(LifeStealDivisor);
+    entry.ManaStealDivisor = in.getInt(ManaStealDivisor);
+    entry.UniqueDamageBonus = in.getInt(UniqueDamageBonus);
+    entry.ChampionDamageBonus = in.getInt(ChampionDamageBonus);
+    entry.HireableBossDamagePercent = in.getInt(HireableBossDamagePercent);
+    entry.MonsterCEDamagePercent = in.getInt(MonsterCEDamagePercent);
+    entry.StaticFieldMin = in.getInt(StaticFieldMin);
+    entry.GambleRare = in.getInt(GambleRare);
+    entry.GambleSet = in.getInt(GambleSet);
+    entry.GambleUnique = in.getInt(GambleUnique);
+    entry.GambleUber = in.getInt(GambleUber);
+    entry.GambleUltra = in.getInt(GambleUltra);
+  }
+
+  @Override
+  public void readBin(DataInput in, DifficultyLevels.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.ResistPenalty = in.readInt();
+    entry.DeathExpPenalty = in.readInt();
+    entry.UberCodeOddsNormal = in.readInt();
+    entry.UberCodeOddsGood = in.readInt();
+    entry.UltraCodeOddsNormal = in.readInt();
+    entry.UltraCodeOddsGood = in.readInt();
+    entry.MonsterSkillBonus = in.readInt();
+    entry.MonsterFreezeDivisor = in.readInt();
+    entry.MonsterColdDivisor = in.readInt();
+    entry.AiCurseDivisor = in.readInt();
+    entry.LifeStealDivisor = in.readInt();
+    entry.ManaStealDivisor = in.readInt();
+    entry.UniqueDamageBonus = in.readInt();
+    entry.ChampionDamageBonus = in.readInt();
+    entry.HireableBossDamagePercent = in.readInt();
+    entry.MonsterCEDamagePercent = in.readInt();
+    entry.StaticFieldMin = in.readInt();
+    entry.GambleRare = in.readInt();
+    entry.GambleSet = in.readInt();
+    entry.GambleUnique = in.readInt();
+    entry.GambleUber = in.readInt();
+    entry.GambleUltra = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, DifficultyLevels.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeInt(entry.ResistPenalty);
+    out.writeInt(entry.DeathExpPenalty);
+    out.writeInt(entry.UberCodeOddsNormal);
+    out.writeInt(entry.UberCodeOddsGood);
+    out.writeInt(entry.UltraCodeOddsNormal);
+    out.writeInt(entry.UltraCodeOddsGood);
+    out.writeInt(entry.MonsterSkillBonus);
+    out.writeInt(entry.MonsterFreezeDivisor);
+    out.writeInt(entry.MonsterColdDivisor);
+    out.writeInt(entry.AiCurseDivisor);
+    out.writeInt(entry.LifeStealDivisor);
+    out.writeInt(entry.ManaStealDivisor);
+    out.writeInt(entry.UniqueDamageBonus);
+    out.writeInt(entry.ChampionDamageBonus);
+    out.writeInt(entry.HireableBossDamagePercent);
+    out.writeInt(entry.MonsterCEDamagePercent);
+    out.writeInt(entry.StaticFieldMin);
+    out.writeInt(entry.GambleRare);
+    out.writeInt(entry.GambleSet);
+    out.writeInt(entry.GambleUnique);
+    out.writeInt(entry.GambleUber);
+    out.writeInt(entry.GambleUltra);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "ResistPenalty");
+    columnIds[2] = column(in, "DeathExpPenalty");
+    columnIds[3] = column(in, "UberCodeOddsNormal");
+    columnIds[4] = column(in, "UberCodeOddsGood");
+    columnIds[5] = column(in, "UltraCodeOddsNormal");
+    columnIds[6] = column(in, "UltraCodeOddsGood");
+    columnIds[7] = column(in, "MonsterSkillBonus");
+    columnIds[8] = column(in, "MonsterFreezeDivisor");
+    columnIds[9] = column(in, "MonsterColdDivisor");
+    columnIds[10] = column(in, "AiCurseDivisor");
+    columnIds[11] = column(in, "LifeStealDivisor");
+    columnIds[12] = column(in, "ManaStealDivisor");
+    columnIds[13] = column(in, "UniqueDamageBonus");
+    columnIds[14] = column(in, "ChampionDamageBonus");
+    columnIds[15] = column(in, "HireableBossDamagePercent");
+    columnIds[16] = column(in, "MonsterCEDamagePercent");
+    columnIds[17] = column(in, "StaticFieldMin");
+    columnIds[18] = column(in, "GambleRare");
+    columnIds[19] = column(in, "GambleSet");
+    columnIds[20] = column(in, "GambleUnique");
+    columnIds[21] = column(in, "GambleUber");
+    columnIds[22] = column(in, "GambleUltra");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, DifficultyLevels.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.ResistPenalty = in.getInt(row, columnIds[1]);
+    entry.DeathExpPenalty = in.getInt(row, columnIds[2]);
+    entry.UberCodeOddsNormal = in.getInt(row, columnIds[3]);
+    entry.UberCodeOddsGood = in.getInt(row, columnIds[4]);
+    entry.UltraCodeOddsNormal = in.getInt(row, columnIds[5]);
+    entry.UltraCodeOddsGood = in.getInt(row, columnIds[6]);
+    entry.MonsterSkillBonus = in.getInt(row, columnIds[7]);
+    entry.MonsterFreezeDivisor = in.getInt(row, columnIds[8]);
+    entry.MonsterColdDivisor = in.getInt(row, columnIds[9]);
+    entry.AiCurseDivisor = in.getInt(row, columnIds[10]);
+    entry.LifeStealDivisor = in.getInt(row, columnIds[11]);
+    entry.ManaStealDivisor = in.getInt(row, columnIds[12]);
+    entry.UniqueDamageBonus = in.getInt(row, columnIds[13]);
+    entry.ChampionDamageBonus = in.getInt(row, columnIds[14]);
+    entry.HireableBossDamagePercent = in.getInt(row, columnIds[15]);
+    entry.MonsterCEDamagePercent = in.getInt(row, columnIds[16]);
+    entry.StaticFieldMin = in.getInt(row, columnIds[17]);
+    entry.GambleRare = in.getInt(row, columnIds[18]);
+    entry.GambleSet = in.getInt(row, columnIds[19]);
+    entry.GambleUnique = in.getInt(row, columnIds[20]);
+    entry.GambleUber = in.getInt(row, columnIds[21]);
+    entry.GambleUltra = in.getInt(row, columnIds[22]);
+  }
+
+  @Override
+  public boolean equal(DifficultyLevels.Entry e1, DifficultyLevels.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && e1.ResistPenalty == e2.ResistPenalty
+        && e1.DeathExpPenalty == e2.DeathExpPenalty
+        && e1.UberCodeOddsNormal == e2.UberCodeOddsNormal
+        && e1.UberCodeOddsGood == e2.UberCodeOddsGood
+        && e1.UltraCodeOddsNormal == e2.UltraCodeOddsNormal
+        && e1.UltraCodeOddsGood == e2.UltraCodeOddsGood
+        && e1.MonsterSkillBonus == e2.MonsterSkillBonus
+        && e1.MonsterFreezeDivisor == e2.MonsterFreezeDivisor
+        && e1.MonsterColdDivisor == e2.MonsterColdDivisor
+        && e1.AiCurseDivisor == e2.AiCurseDivisor
+        && e1.LifeStealDivisor == e2.LifeStealDivisor
+        && e1.ManaStealDivisor == e2.ManaStealDivisor
+        && e1.UniqueDamageBonus == e2.UniqueDamageBonus
+        && e1.ChampionDamageBonus == e2.ChampionDamageBonus
+        && e1.HireableBossDamagePercent == e2.HireableBossDamagePercent
+        && e1.MonsterCEDamagePercent == e2.MonsterCEDamagePercent
+        && e1.StaticFieldMin == e2.StaticFieldMin
+        && e1.GambleRare == e2.GambleRare
+        && e1.GambleSet == e2.GambleSet
+        && e1.GambleUnique == e2.GambleUnique
+        && e1.GambleUber == e2.GambleUber
+        && e1.GambleUltra == e2.GambleUltra;
+  }
+}
@@ -0,0 +1,215 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Gems.Entry}, do not modify.
+ */
+public final class GemsLoader extends Excel.Loader<Gems.Entry> {
+  private int code;
+  private int name;
+  private int letter;
+  private int transform;
+  private int nummods;
+  private int[] weaponModCode;
+  private int[] weaponModParam;
+  private int[] weaponModMin;
+  private int[] weaponModMax;
+  private int[] helmModCode;
+  private int[] helmModParam;
+  private int[] helmModMin;
+  private int[] helmModMax;
+  private int[] shieldModCode;
+  private int[] shieldModParam;
+  private int[] shieldModMin;
+  private int[] shieldModMax;
+  private final int[] columnIds = new int[17];
+
+  public GemsLoader() {
+    super("code", "name", "letter", "transform", "nummods", "weaponModCode", "weaponModParam", "weaponModMin", "weaponModMax", "helmModCode", "helmModParam", "helmModMin", "helmModMax", "shieldModCode", "shieldModParam", "shieldModMin", "shieldModMax");
+  }
+
+  @Override
+  public Gems.Entry newEntry() {
+    return new Gems.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "code";
+  }
+
+  @Override
+  public String stringKey(Gems.Entry entry) {
+    return entry.code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    code = in.getColumnId("code");
+    name = in.getColumnId("name");
+    letter = in.getColumnId("letter");
+    transform = in.getColumnId("transform");
+    nummods = in.getColumnId("nummods");
+    weaponModCode = in.getColumnId(new String[] { "weaponMod1Code", "weaponMod2Code", "weaponMod3Code" });
+    weaponModParam = in.getColumnId(new String[] { "weaponMod1Param", "weaponMod2Param", "weaponMod3Param" });
+    weaponModMin = in.getColumnId(new String[] { "weaponMod1Min", "weaponMod2Min", "weaponMod3Min" });
+    weaponModMax = in.getColumnId(new String[] { "weaponMod1Max", "weaponMod2Max", "weaponMod3Max" });
+    helmModCode = in.getColumnId(new String[] { "helmMod1Code", "helmMod2Code", "helmMod3Code" });
+    helmModParam = in.getColumnId(new String[] { "helmMod1Param", "helmMod2Param", "helmMod3Param" });
+    helmModMin = in.getColumnId(new String[] { "helmMod1Min", "helmMod2Min", "helmMod3Min" });
+    helmModMax = in.getColumnId(new String[] { "helmMod1Max", "helmMod2Max", "helmMod3Max" });
+    shieldModCode = in.getColumnId(new String[] { "shieldMod1Code", "shieldMod2Code", "shieldMod3Code" });
+    shieldModParam = in.getColumnId(new String[] { "shieldMod1Param", "shieldMod2Param", "shieldMod3Param" });
+    shieldModMin = in.getColumnId(new String[] { "shieldMod1Min", "shieldMod2Min", "shieldMod3Min" });
+    shieldModMax = in.getColumnId(new String[] { "shieldMod1Max", "shieldMod2Max", "shieldMod3Max" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Gems.Entry entry) {
+    entry.code = in.getString(code);
+    entry.name = in.getString(name);
+    entry.letter = in.getString(letter);
+    entry.transform = in.getInt(transform);
+    entry.nummods = in.getInt(nummods);
+    entry.weaponModCode = in.getString(weaponModCode);
+    entry.weaponModParam = in.getInt(weaponModParam);
+    entry.weaponModMin = in.getInt(weaponModMin);
+    entry.weaponModMax = in.getInt(weaponModMax);
+    entry.helmModCode = in.getString(helmModCode);
+    entry.helmModParam = in.getInt(helmModParam);
+    entry.helmModMin = in.getInt(helmModMin);
+    entry.helmModMax = in.getInt(helmModMax);
+    entry.shieldModCode = in.getString(shieldModCode);
+    entry.shieldModParam = in.getInt(shieldModParam);
+    entry.shieldModMin = in.getInt(shieldModMin);
+    entry.shieldModMax = in.getInt(shieldModMax);
+  }
+
+  @Override
+  public void readBin(DataInput in, Gems.Entry entry) throws IOException {
+    entry.code = in.readUTF();
+    entry.name = in.readUTF();
+    entry.letter = in.readUTF();
+    entry.transform = in.readInt();
+    entry.nummods = in.readInt();
+    entry.weaponModCode = new String[3];
+    for (int x = 0; x < 3; x++) entry.weaponModCode[x] = in.readUTF();
+    entry.weaponModParam = new int[3];
+    for (int x = 0; x < 3; x++) entry.weaponModParam[x] = in.readInt();
+    entry.weaponModMin = new int[3];
+    for (int x = 0; x < 3; x++) entry.weaponModMin[x] = in.readInt();
+    entry.weaponModMax = new int[3];
+    for (int x = 0; x < 3; x++) entry.weaponModMax[x] = in.readInt();
+    entry.helmModCode = new String[3];
+    for (int x = 0; x < 3; x++) entry.helmModCode[x] = in.readUTF();
+    entry.helmModParam = new int[3];
+    for (int x = 0; x < 3; x++) entry.helmModParam[x] = in.readInt();
+    entry.helmModMin = new int[3];
+    for (int x = 0; x < 3; x++) entry.helmModMin[x] = in.readInt();
+    entry.helmModMax = new int[3];
+    for (int x = 0; x < 3; x++) entry.helmModMax[x] = in.readInt();
+    entry.shieldModCode = new String[3];
+    for (int x = 0; x < 3; x++) entry.shieldModCode[x] = in.readUTF();
+    entry.shieldModParam = new int[3];
+    for (int x = 0; x < 3; x++) entry.shieldModParam[x] = in.readInt();
+    entry.shieldModMin = new int[3];
+    for (int x = 0; x < 3; x++) entry.shieldModMin[x] = in.readInt();
+    entry.shieldModMax = new int[3];
+    for (int x = 0; x < 3; x++) entry.shieldModMax[x] = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Gems.Entry entry) throws IOException {
+    out.writeUTF(entry.code);
+    out.writeUTF(entry.name);
+    out.writeUTF(entry.letter);
+    out.writeInt(entry.transform);
+    out.writeInt(entry.nummods);
+    for (String x : entry.weaponModCode) out.writeUTF(x);
+    for (int x : entry.weaponModParam) out.writeInt(x);
+    for (int x : entry.weaponModMin) out.writeInt(x);
+    for (int x : entry.weaponModMax) out.writeInt(x);
+    for (String x : entry.helmModCode) out.writeUTF(x);
+    for (int x : entry.helmModParam) out.writeInt(x);
+    for (int x : entry.helmModMin) out.writeInt(x);
+    for (int x : entry.helmModMax) out.writeInt(x);
+    for (String x : entry.shieldModCode) out.writeUTF(x);
+    for (int x : entry.shieldModParam) out.writeInt(x);
+    for (int x : entry.shieldModMin) out.writeInt(x);
+    for (int x : entry.shieldModMax) out.writeInt(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "code");
+    columnIds[1] = column(in, "name");
+    columnIds[2] = column(in, "letter");
+    columnIds[3] = column(in, "transform");
+    columnIds[4] = column(in, "nummods");
+    columnIds[5] = column(in, "weaponModCode");
+    columnIds[6] = column(in, "weaponModParam");
+    columnIds[7] = column(in, "weaponModMin");
+    columnIds[8] = column(in, "weaponModMax");
+    columnIds[9] = column(in, "helmModCode");
+    columnIds[10] = column(in, "helmModParam");
+    columnIds[11] = column(in, "helmModMin");
+    columnIds[12] = column(in, "helmModMax");
+    columnIds[13] = column(in, "shieldModCode");
+    columnIds[14] = column(in, "shieldModParam");
+    columnIds[15] = column(in, "shieldModMin");
+    columnIds[16] = column(in, "shieldModMax");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Gems.Entry entry) {
+    entry.code = in.getString(row, columnIds[0]);
+    entry.name = in.getString(row, columnIds[1]);
+    entry.letter = in.getString(row, columnIds[2]);
+    entry.transform = in.getInt(row, columnIds[3]);
+    entry.nummods = in.getInt(row, columnIds[4]);
+    entry.weaponModCode = in.getStrings(row, columnIds[5]);
+    entry.weaponModParam = in.getInts(row, columnIds[6]);
+    entry.weaponModMin = in.getInts(row, columnIds[7]);
+    entry.weaponModMax = in.getInts(row, columnIds[8]);
+    entry.helmModCode = in.getStrings(row, columnIds[9]);
+    entry.helmModParam = in.getInts(row, columnIds[10]);
+    entry.helmModMin = in.getInts(row, columnIds[11]);
+    entry.helmModMax = in.getInts(row, columnIds[12]);
+    entry.shieldModCode = in.getStrings(row, columnIds[13]);
+    entry.shieldModParam = in.getInts(row, columnIds[14]);
+    entry.shieldModMin = in.getInts(row, columnIds[15]);
+    entry.shieldModMax = in.getInts(row, columnIds[16]);
+  }
+
+  @Override
+  public boolean equal(Gems.Entry e1, Gems.Entry e2) {
+    return StringUtils.equals(e1.code, e2.code)
+        && StringUtils.equals(e1.name, e2.name)
+        && StringUtils.equals(e1.letter, e2.letter)
+        && e1.transform == e2.transform
+        && e1.nummods == e2.nummods
+        && Arrays.equals(e1.weaponModCode, e2.weaponModCode)
+        && Arrays.equals(e1.weaponModParam, e2.weaponModParam)
+        && Arrays.equals(e1.weaponModMin, e2.weaponModMin)
+        && Arrays.equals(e1.weaponModMax, e2.weaponModMax)
+        && Arrays.equals(e1.helmModCode, e2.helmModCode)
+        && Arrays.equals(e1.helmModParam, e2.helmModParam)
+        && Arrays.equals(e1.helmModMin, e2.helmModMin)
+        && Arrays.equals(e1.helmModMax, e2.helmModMax)
+        && Arrays.equals(e1.shieldModCode, e2.shieldModCode)
+        && Arrays.equals(e1.shieldModParam, e2.shieldModParam)
+        && Arrays.equals(e1.shieldModMin, e2.shieldModMin)
+        && Arrays.equals(e1.shieldModMax, e2.shieldModMax);
+  }
+}
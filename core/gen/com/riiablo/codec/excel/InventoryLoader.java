@@ -0,0 +1,651 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Inventory.Entry}, do not modify.
+ */
+public final class InventoryLoader extends Excel.Loader<Inventory.Entry> {
+  private int _class;
+  private int invLeft;
+  private int invRight;
+  private int invTop;
+  private int invBottom;
+  private int gridX;
+  private int gridY;
+  private int gridLeft;
+  private int gridRight;
+  private int gridTop;
+  private int gridBottom;
+  private int gridBoxWidth;
+  private int gridBoxHeight;
+  private int rArmLeft;
+  private int rArmRight;
+  private int rArmTop;
+  private int rArmBottom;
+  private int rArmWidth;
+  private int rArmHeight;
+  private int torsoLeft;
+  private int torsoRight;
+  private int torsoTop;
+  private int torsoBottom;
+  private int torsoWidth;
+  private int torsoHeight;
+  private int lArmLeft;
+  private int lArmRight;
+  private int lArmTop;
+  private int lArmBottom;
+  private int lArmWidth;
+  private int lArmHeight;
+  private int headLeft;
+  private int headRight;
+  private int headTop;
+  private int headBottom;
+  private int headWidth;
+  private int headHeight;
+  private int neckLeft;
+  private int neckRight;
+  private int neckTop;
+  private int neckBottom;
+  private int neckWidth;
+  private int neckHeight;
+  private int rHandLeft;
+  private int rHandRight;
+  private int rHandTop;
+  private int rHandBottom;
+  private int rHandWidth;
+  private int rHandHeight;
+  private int lHandLeft;
+  private int lHandRight;
+  private int lHandTop;
+  private int lHandBottom;
+  private int lHandWidth;
+  private int lHandHeight;
+  private int beltLeft;
+  private int beltRight;
+  private int beltTop;
+  private int beltBottom;
+  private int beltWidth;
+  private int beltHeight;
+  private int feetLeft;
+  private int feetRight;
+  private int feetTop;
+  private int feetBottom;
+  private int feetWidth;
+  private int feetHeight;
+  private int glovesLeft;
+  private int glovesRight;
+  private int glovesTop;
+  private int glovesBottom;
+  private int glovesWidth;
+  private int glovesHeight;
+  private final int[] columnIds = new int[73];
+
+  public InventoryLoader() {
+    super("_class", "invLeft", "invRight", "invTop", "invBottom", "gridX", "gridY", "gridLeft", "gridRight", "gridTop", "gridBottom", "gridBoxWidth", "gridBoxHeight", "rArmLeft", "rArmRight", "rArmTop", "rArmBottom", "rArmWidth", "rArmHeight", "torsoLeft", "torsoRight", "torsoTop", "torsoBottom", "torsoWidth", "torsoHeight", "lArmLeft", "lArmRight", "lArmTop", "lArmBottom", "lArmWidth", "lArmHeight", "headLeft", "headRight", "headTop", "headBottom", "headWidth", "headHeight", "neckLeft", "neckRight", "neckTop", "neckBottom", "neckWidth", "neckHeight", "rHandLeft", "rHandRight", "rHandTop", "rHandBottom", "rHandWidth", "rHandHeight", "lHandLeft", "lHandRight", "lHandTop", "lHandBottom", "lHandWidth", "lHandHeight", "beltLeft", "beltRight", "beltTop", "beltBottom", "beltWidth", "beltHeight", "feetLeft", "feetRight", "feetTop", "feetBottom", "feetWidth", "feetHeight", "glovesLeft", "glovesRight", "glovesTop", "glovesBottom", "glovesWidth", "glovesHeight");
+  }
+
+  @Override
+  public Inventory.Entry newEntry() {
+    return new Inventory.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "_class";
+  }
+
+  @Override
+  public String stringKey(Inventory.Entry entry) {
+    return entry._class;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    _class = in.getColumnId("class");
+    invLeft = in.getColumnId("invLeft");
+    invRight = in.getColumnId("invRight");
+    invTop = in.getColumnId("invTop");
+    invBottom = in.getColumnId("invBottom");
+    gridX = in.getColumnId("gridX");
+    gridY = in.getColumnId("gridY");
+    gridLeft = in.getColumnId("gridLeft");
+    gridRight = in.getColumnId("gridRight");
+    gridTop = in.getColumnId("gridTop");
+    gridBottom = in.getColumnId("gridBottom");
+    gridBoxWidth = in.getColumnId("gridBoxWidth");
+    gridBoxHeight = in.getColumnId("gridBoxHeight");
+    rArmLeft = in.getColumnId("rArmLeft");
+    rArmRight = in.getColumnId("rArmRight");
+    rArmTop = in.getColumnId("rArmTop");
+    rArmBottom = in.getColumnId("rArmBottom");
+    rArmWidth = in.getColumnId("rArmWidth");
+    rArmHeight = in.getColumnId("rArmHeight");
+    torsoLeft = in.getColumnId("torsoLeft");
+    torsoRight = in.getColumnId("torsoRight");
+    torsoTop = in.getColumnId("torsoTop");
+    torsoBottom = in.getColumnId("torsoBottom");
+    torsoWidth = in.getColumnId("torsoWidth");
+    torsoHeight = in.getColumnId("torsoHeight");
+    lArmLeft = in.getColumnId("lArmLeft");
+    lArmRight = in.getColumnId("lArmRight");
+    lArmTop = in.getColumnId("lArmTop");
+    lArmBottom = in.getColumnId("lArmBottom");
+    lArmWidth = in.getColumnId("lArmWidth");
+    lArmHeight = in.getColumnId("lArmHeight");
+    headLeft = in.getColumnId("headLeft");
+    headRight = in.getColumnId("headRight");
+    headTop = in.getColumnId("headTop");
+    headBottom = in.getColumnId("headBottom");
+    headWidth = in.getColumnId("headWidth");
+    headHeight = in.getColumnId("headHeight");
+    neckLeft = in.getColumnId("neckLeft");
+    neckRight = in.getColumnId("neckRight");
+    neckTop = in.getColumnId("neckTop");
+    neckBottom = in.getColumnId("neckBottom");
+    neckWidth = in.getColumnId("neckWidth");
+    neckHeight = in.getColumnId("neckHeight");
+    rHandLeft = in.getColumnId("rHandLeft");
+    rHandRight = in.getColumnId("rHandRight");
+    rHandTop = in.getColumnId("rHandTop");
+    rHandBottom = in.getColumnId("rHandBottom");
+    rHandWidth = in.getColumnId("rHandWidth");
+    rHandHeight = in.getColumnId("rHandHeight");
+    lHandLeft = in.getColumnId("lHandLeft");
+    lHandRight = in.getColumnId("lHandRight");
+    lHandTop = in.getColumnId("lHandTop");
+    lHandBottom = in.getColumnId("lHandBottom");
+    lHandWidth = in.getColumnId("lHandWidth");
+    lHandHeight = in.getColumnId("lHandHeight");
+    beltLeft = in.getColumnId("beltLeft");
+    beltRight = in.getColumnId("beltRight");
+    beltTop = in.getColumnId("beltTop");
+    beltBottom = in.getColumnId("beltBottom");
+    beltWidth = in.getColumnId("beltWidth");
+    beltHeight = in.getColumnId("beltHeight");
+    feetLeft = in.getColumnId("feetLeft");
+    feetRight = in.getColumnId("feetRight");
+    feetTop = in.getColumnId("feetTop");
+    feetBottom = in.getColumnId("feetBottom");
+    feetWidth = in.getColumnId("feetWidth");
+    feetHeight = in.getColumnId("feetHeight");
+    glovesLeft = in.getColumnId("glovesLeft");
+    glovesRight = in.getColumnId("glovesRight");
+    glovesTop = in.getColumnId("glovesTop");
+    glovesBottom = in.getColumnId("glovesBottom");
+    glovesWidth = in.getColumnId("glovesWidth");
+    glovesHeight = in.getColumnId("glovesHeight");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Inventory.Entry entry) {
+    entry._class = in.getString(_class);
+    entry.invLeft = in.getInt(invLeft);
+    entry.invRight = in.getInt(invRight);
+    entry.invTop = in.getInt(invTop);
+    entry.invBottom = in.getInt(invBottom);
+    entry.gridX = in.getInt(gridX);
+    entry.gridY = in.getInt(gridY);
+    entry.gridLeft = in.getInt(gridLeft);
+    entry.gridRight = in.getInt(gridRight);
+    entry.gridTop = in.getInt(gridTop);
+    entry.gridBottom = in.getInt(gridBottom);
+    entry.gridBoxWidth = in.getInt(gridBoxWidth);
+    entry.gridBoxHeight = in.getInt(gridBoxHeight);
+    entry.rArmLeft = in.getInt(rArmLeft);
+    entry.rArmRight = in.getInt(rArmRight);
+    entry.rArmTop = in.getInt(rArmTop);
+    entry.rArmBottom = in.getInt(rArmBottom);
+    entry.rArmWidth = in.getInt(rArmWidth);
+    entry.rArmHeight = in.getInt(rArmHeight);
+    entry.torsoLeft = in.getInt(torsoLeft);
+    entry.torsoRight = in.getInt(torsoRight);
+    entry.torsoTop = in.getInt(torsoTop);
+    entry.torsoBottom = in.getInt(torsoBottom);
+    entry.torsoWidth = in.getInt(torsoWidth);
+    entry.torsoHeight = in.getInt(torsoHeight);
+    entry.lArmLeft = in.getInt(lArmLeft);
+    entry.lArmRight = in.getInt(lArmRight);
+    entry.lArmTop = in.getInt(lArmTop);
+    entry.lArmBottom = in.getInt(lArmBottom);
+    entry.lArmWidth = in.getInt(lArmWidth);
+    entry.lArmHeight = in.getInt(lArmHeight);
+    entry.headLeft = in.getInt(headLeft);
+    entry.headRight = in.getInt(headRight);
+    entry.headTop = in.getInt(headTop);
+    entry.headBottom = in.getInt(headBottom);
+    entry.headWidth = in.getInt(headWidth);
+    entry.headHeight = in.getInt(headHeight);
+    entry.neckLeft = in.getInt(neckLeft);
+    entry.neckRight = in.getInt(neckRight);
+    entry.neckTop = in.getInt(neckTop);
+    entry.neckBottom = in.getInt(neckBottom);
+    entry.neckWidth = in.getInt(neckWidth);
+    entry.neckHeight = in.getInt(neckHeight);
+    entry.rHandLeft = in.getInt(rHandLeft);
+    entry.rHandRight = in.getInt(rHandRight);
+    entry.rHandTop = in.getInt(rHandTop);
+    entry.rHandBottom = in.getInt(rHandBottom);
+    entry.rHandWidth = in.getInt(rHandWidth);
+    entry.rHandHeight = in.getInt(rHandHeight);
+    entry.lHandLeft = in.getInt(lHandLeft);
+    entry.lHandRight = in.getInt(lHandRight);
+    entry.lHandTop = in.getInt(lHandTop);
+    entry.lHandBottom = in.getInt(lHandBottom);
+    entry.lHandWidth = in.getInt(lHandWidth);
+    entry.lHandHeight = in.getInt(lHandHeight);
+    entry.beltLeft = in.getInt(beltLeft);
+    entry.beltRight = in.getInt(beltRight);
+    entry.beltTop = in.getInt(beltTop);
+    entry.beltBottom = in.getInt(beltBottom);
+    entry.beltWidth = in.getInt(beltWidth);
+    entry.beltHeight = in.getInt(beltHeight);
+    entry.feetLeft = in.getInt(feetLeft);
+    entry.feetRight = in.getInt(feetRight);
+    entry.feetTop = in.getInt(feetTop);
+    entry.feetBottom = in.getInt(feetBottom);
+    entry.feetWidth = in.getInt(feetWidth);
+    entry.feetHeight = in.getInt(feetHeight);
+    entry.glovesLeft = in.getInt(glovesLeft);
+    entry.glovesRight = in.getInt(glovesRight);
+    entry.glovesTop = in.getInt(glovesTop);
+    entry.glovesBottom = in.getInt(glovesBottom);
+    entry.glovesWidth = in.getInt(glovesWidth);
+    entry.glovesHeight = in.getInt(glovesHeight);
+  }
+
+  @Override
+  public void readBin(DataInput in, Inventory.Entry entry) throws IOException {
+    entry._class = in.readUTF();
+    entry.invLeft = in.readInt();
+    entry.invRight = in.readInt();
+    entry.invTop = in.readInt();
+    entry.invBottom = in.readInt();
+    entry.gridX = in.readInt();
+    entry.gridY = in.readInt();
+    entry.gridLeft = in.readInt();
+    entry.gridRight = in.readInt();
+    entry.gridTop = in.readInt();
+    entry.gridBottom = in.readInt();
+    entry.gridBoxWidth = in.readInt();
+    entry.gridBoxHeight = in.readInt();
+    entry.rArmLeft = in.readInt();
+    entry.rArmRight = in.readInt();
+    entry.rArmTop = in.readInt();
+    entry.rArmBottom = in.readInt();
+    entry.rArmWidth = in.readInt();
+    entry.rArmHeight = in.readInt();
+    entry.torsoLeft = in.readInt();
+    entry.torsoRight = in.readInt();
+    entry.torsoTop = in.readInt();
+    entry.torsoBottom = in.readInt();
+    entry.torsoWidth = in.readInt();
+    entry.torsoHeight = in.readInt();
+    entry.lArmLeft = in.readInt();
+    entry.lArmRight = in.readInt();
+    entry.lArmTop = in.readInt();
+    entry.lArmBottom = in.readInt();
+    entry.lArmWidth = in.readInt();
+    entry.lArmHeight = in.readInt();
+    entry.headLeft = in.readInt();
+    entry.headRight = in.readInt();
+    entry.headTop = in.readInt();
+    entry.headBottom = in.readInt();
+    entry.headWidth = in.readInt();
+    entry.headHeight = in.readInt();
+    entry.neckLeft = in.readInt();
+    entry.neckRight = in.readInt();
+    entry.neckTop = in.readInt();
+    entry.neckBottom = in.readInt();
+    entry.neckWidth = in.readInt();
+    entry.neckHeight = in.readInt();
+    entry.rHandLeft = in.readInt();
+    entry.rHandRight = in.readInt();
+    entry.rHandTop = in.readInt();
+    entry.rHandBottom = in.readInt();
+    entry.rHandWidth = in.readInt();
+    entry.rHandHeight = in.readInt();
+    entry.lHandLeft = in.readInt();
+    entry.lHandRight = in.readInt();
+    entry.lHandTop = in.readInt();
+    entry.lHandBottom = in.readInt();
+    entry.lHandWidth = in.readInt();
+    entry.lHandHeight = in.readInt();
+    entry.beltLeft = in.readInt();
+    entry.beltRight = in.readInt();
+    entry.beltTop = in.readInt();
+    entry.beltBottom = in.readInt();
+    entry.beltWidth = in.readInt();
+    entry.beltHeight = in.readInt();
+    entry.feetLeft = in.readInt();
+    entry.feetRight = in.readInt();
+    entry.feetTop = in.readInt();
+    entry.feetBottom = in.readInt();
+    entry.feetWidth = in.readInt();
+    entry.feetHeight = in.readInt();
+    entry.glovesLeft = in.readInt();
+    entry.glovesRight = in.readInt();
+    entry.glovesTop = in.readInt();
+    entry.glovesBottom = in.readInt();
+    entry.glovesWidth = in.readInt();
+    entry.glovesHeight = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Inventory.Entry entry) throws IOException {
+    out.writeUTF(entry._class);
+    out.writeInt(entry.invLeft);
+    out.writeInt(entry.invRight);
+    out.writeInt(entry.invTop);
+    out.writeInt(entry.invBottom);
+    out.writeInt(entry.gridX);
+    out.writeInt(entry.gridY);
+    out.writeInt(entry.gridLeft);
+    out.writeInt(entry.gridRight);
+    out.writeInt(entry.gridTop);
+    out.writeInt(entry.gridBottom);
+    out.writeInt(entry.gridBoxWidth);
+    out.writeInt(entry.gridBoxHeight);
+    out.writeInt(entry.rArmLeft);
+    out.writeInt(entry.rArmRight);
+    out.writeInt(entry.rArmTop);
+    out.writeInt(entry.rArmBottom);
+    out.writeInt(entry.rArmWidth);
+    out.writeInt(entry.rArmHeight);
+    out.writeInt(entry.torsoLeft);
+    out.writeInt(entry.torsoRight);
+    out.writeInt(entry.torsoTop);
+    out.writeInt(entry.torsoBottom);
+    out.writeInt(entry.torsoWidth);
+    out.writeInt(entry.torsoHeight);
+    out.writeInt(entry.lArmLeft);
+    out.writeInt(entry.lArmRight);
+    out.writeInt(entry.lArmTop);
+    out.writeInt(entry.lArmBottom);
+    out.writeInt(entry.lArmWidth);
+    out.writeInt(entry.lArmHeight);
+    out.writeInt(entry.headLeft);
+    out.writeInt(entry.headRight);
+    out.writeInt(entry.headTop);
+    out.writeInt(entry.headBottom);
+    out.writeInt(entry.headWidth);
+    out.writeInt(entry.headHeight);
+    out.writeInt(entry.neckLeft);
+    out.writeInt(entry.neckRight);
+    out.writeInt(entry.neckTop);
+    out.writeInt(entry.neckBottom);
+    out.writeInt(entry.neckWidth);
+    out.writeInt(entry.neckHeight);
+    out.writeInt(entry.rHandLeft);
+    out.writeInt(entry.rHandRight);
+    out.writeInt(entry.rHandTop);
+    out.writeInt(entry.rHandBottom);
+    out.writeInt(entry.rHandWidth);
+    out.writeInt(entry.rHandHeight);
+    out.writeInt(entry.lHandLeft);
+    out.writeInt(entry.lHandRight);
+    out.writeInt(entry.lHandTop);
+    out.writeInt(entry.lHandBottom);
+    out.writeInt(entry.lHandWidth);
+    out.writeInt(entry.lHandHeight);
+    out.writeInt(entry.beltLeft);
+    out.writeInt(entry.beltRight);
+    out.writeInt(entry.beltTop);
+    out.writeInt(entry.beltBottom);
+    out.writeInt(entry.beltWidth);
+    out.writeInt(entry.beltHeight);
+    out.writeInt(entry.feetLeft);
+    out.writeInt(entry.feetRight);
+    out.writeInt(entry.feetTop);
+    out.writeInt(entry.feetBottom);
+    out.writeInt(entry.feetWidth);
+    out.writeInt(entry.feetHeight);
+    out.writeInt(entry.glovesLeft);
+    out.writeInt(entry.glovesRight);
+    out.writeInt(entry.glovesTop);
+    out.writeInt(entry.glovesBottom);
+    out.writeInt(entry.glovesWidth);
+    out.writeInt(entry.glovesHeight);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "_class");
+    columnIds[1] = column(in, "invLeft");
+    columnIds[2] = column(in, "invRight");
+    columnIds[3] = column(in, "invTop");
+    columnIds[4] = column(in, "invBottom");
+    columnIds[5] = column(in, "gridX");
+    columnIds[6] = column(in, "gridY");
+    columnIds[7] = column(in, "gridLeft");
+    columnIds[8] = column(in, "gridRight");
+    columnIds[9] = column(in, "gridTop");
+    columnIds[10] = column(in, "gridBottom");
+    columnIds[11] = column(in, "gridBoxWidth");
+    columnIds[12] = column(in, "gridBoxHeight");
+    columnIds[13] = column(in, "rArmLeft");
+    columnIds[14] = column(in, "rArmRight");
+    columnIds[15] = column(in, "rArmTop");
+    columnIds[16] = column(in, "rArmBottom");
+    columnIds[17] = column(in, "rArmWidth");
+    columnIds[18] = column(in, "rArmHeight");
+    columnIds[19] = column(in, "torsoLeft");
+    columnIds[20] = column(in, "torsoRight");
+    columnIds[21] = column(in, "torsoTop");
+    columnIds[22] = column(in, "torsoBottom");
+    columnIds[23] = column(in, "torsoWidth");
+    columnIds[24] = column(in, "torsoHeight");
+    columnIds[25] = column(in, "lArmLeft");
+    columnIds[26] = column(in, "lArmRight");
+    columnIds[27] = column(in, "lArmTop");
+    columnIds[28] = column(in, "lArmBottom");
+    columnIds[29] = column(in, "lArmWidth");
+    columnIds[30] = column(in, "lArmHeight");
+    columnIds[31] = column(in, "headLeft");
+    columnIds[32] = column(in, "headRight");
+    columnIds[33] = column(in, "headTop");
+    columnIds[34] = column(in, "headBottom");
+    columnIds[35] = column(in, "headWidth");
+    columnIds[36] = column(in, "headHeight");
+    columnIds[37] = column(in, "neckLeft");
+    columnIds[38] = column(in, "neckRight");
+    columnIds[39] = column(in, "neckTop");
+    columnIds[40] = column(in, "neckBottom");
+    columnIds[41] = column(in, "neckWidth");
+    columnIds[42] = column(in, "neckHeight");
+    columnIds[43] = column(in, "rHandLeft");
+    columnIds[44] = column(in, "rHandRight");
+    columnIds[45] = column(in, "rHandTop");
+    columnIds[46] = column(in, "rHandBottom");
+    columnIds[47] = column(in, "rHandWidth");
+    columnIds[48] = column(in, "rHandHeight");
+    columnIds[49] = column(in, "lHandLeft");
+    columnIds[50] = column(in, "lHandRight");
+    columnIds[51] = column(in, "lHandTop");
+    columnIds[52] = column(in, "lHandBottom");
+    columnIds[53] = column(in, "lHandWidth");
+    columnIds[54] = column(in, "lHandHeight");
+    columnIds[55] = column(in, "beltLeft");
+    columnIds[56] = column(in, "beltRight");
+    columnIds[57] = column(in, "beltTop");
+    columnIds[58] = column(in, "beltBottom");
+    columnIds[59] = column(in, "beltWidth");
+    columnIds[60] = column(in, "beltHeight");
+    columnIds[61] = column(in, "feetLeft");
+    columnIds[62] = column(in, "feetRight");
+    columnIds[63] = column(in, "feetTop");
+    columnIds[64] = column(in, "feetBottom");
+    columnIds[65] = column(in, "feetWidth");
+    columnIds[66] = column(in, "feetHeight");
+    columnIds[67] = column(in, "glovesLeft");
+    columnIds[68] = column(in, "glovesRight");
+    columnIds[69] = column(in, "glovesTop");
+    columnIds[70] = column(in, "glovesBottom");
+    columnIds[71] = column(in, "glovesWidth");
+    columnIds[72] = column(in, "glovesHeight");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Inventory.Entry entry) {
+    entry._class = in.getString(row, columnIds[0]);
+    entry.invLeft = in.getInt(row, columnIds[1]);
+    entry.invRight = in.getInt(row, columnIds[2]);
+    entry.invTop = in.getInt(row, columnIds[3]);
+    entry.invBottom = in.getInt(row, columnIds[4]);
+    entry.gridX = in.getInt(row, columnIds[5]);
+    entry.gridY = in.getInt(row, columnIds[6]);
+    entry.gridLeft = in.getInt(row, columnIds[7]);
+    entry.gridRight = in.getInt(row, columnIds[8]);
+    entry.gridTop = in.getInt(row, columnIds[9]);
+    entry.gridBottom = in.getInt(row, columnIds[10]);
+    entry.gridBoxWidth = in.getInt(row, columnIds[11]);
+    entry.gridBoxHeight = in.getInt(row, columnIds[12]);
+    entry.rArmLeft = in.getInt(row, columnIds[13]);
+    entry.rArmRight = in.getInt(row, columnIds[14]);
+    entry.rArmTop = in.getInt(row, columnIds[15]);
+    entry.rArmBottom = in.getInt(row, columnIds[16]);
+    entry.rArmWidth = in.getInt(row, columnIds[17]);
+    entry.rArmHeight = in.getInt(row, columnIds[18]);
+    entry.torsoLeft = in.getInt(row, columnIds[19]);
+    entry.torsoRight = in.getInt(row, columnIds[20]);
+    entry.torsoTop = in.getInt(row, columnIds[21]);
+    entry.torsoBottom = in.getInt(row, columnIds[22]);
+    entry.torsoWidth = in.getInt(row, columnIds[23]);
+    entry.torsoHeight = in.getInt(row, columnIds[24]);
+    entry.lArmLeft = in.getInt(row, columnIds[25]);
+    entry.lArmRight = in.getInt(row, columnIds[26]);
+    entry.lArmTop = in.getInt(row, columnIds[27]);
+    entry.lArmBottom = in.getInt(row, columnIds[28]);
+    entry.lArmWidth = in.getInt(row, columnIds[29]);
+    entry.lArmHeight = in.getInt(row, columnIds[30]);
+    entry.headLeft = in.getInt(row, columnIds[31]);
+    entry.headRight = in.getInt(row, columnIds[32]);
+    entry.headTop = in.getInt(row, columnIds[33]);
+    entry.headBottom = in.getInt(row, columnIds[34]);
+    entry.headWidth = in.getInt(row, columnIds[35]);
+    entry.headHeight = in.getInt(row, columnIds[36]);
+    entry.neckLeft = in.getInt(row, columnIds[37]);
+    entry.neckRight = in.getInt(row, columnIds[38]);
+    entry.neckTop = in.getInt(row, columnIds[39]);
+    entry.neckBottom = in.getInt(row, columnIds[40]);
+    entry.neckWidth = in.getInt(row, columnIds[41]);
+    entry.neckHeight = in.getInt(row, columnIds[42]);
+    entry.rHandLeft = in.getInt(row, columnIds[43]);
+    entry.rHandRight = in.getInt(row, columnIds[44]);
+    entry.rHandTop = in.getInt(row, columnIds[45]);
+    entry.rHandBottom = in.getInt(row, columnIds[46]);
+    entry.rHandWidth = in.getInt(row, columnIds[47]);
+    entry.rHandHeight = in.getInt(row, columnIds[48]);
+    entry.lHandLeft = in.getInt(row, columnIds[49]);
+    entry.lHandRight = in.getInt(row, columnIds[50]);
+    entry.lHandTop = in.getInt(row, columnIds[51]);
+    entry.lHandBottom = in.getInt(row, columnIds[52]);
+    entry.lHandWidth = in.getInt(row, columnIds[53]);
+    entry.lHandHeight = in.getInt(row, columnIds[54]);
+    entry.beltLeft = in.getInt(row, columnIds[55]);
+    entry.beltRight = in.getInt(row, columnIds[56]);
+    entry.beltTop = in.getInt(row, columnIds[57]);
+    entry.beltBottom = in.getInt(row, columnIds[58]);
+    entry.beltWidth = in.getInt(row, columnIds[59]);
+    entry.beltHeight = in.getInt(row, columnIds[60]);
+    entry.feetLeft = in.getInt(row, columnIds[61]);
+    entry.feetRight = in.getInt(row, columnIds[62]);
+    entry.feetTop = in.getInt(row, columnIds[63]);
+    entry.feetBottom = in.getInt(row, columnIds[64]);
+    entry.feetWidth = in.getInt(row, columnIds[65]);
+    entry.feetHeight = in.getInt(row, columnIds[66]);
+    entry.glovesLeft = in.getInt(row, columnIds[67]);
+    entry.glovesRight = in.getInt(row, columnIds[68]);
+    entry.glovesTop = in.getInt(row, columnIds[69]);
+    entry.glovesBottom = in.getInt(row, columnIds[70]);
+    entry.glovesWidth = in.getInt(row, columnIds[71]);
+    entry.glovesHeight = in.getInt(row, columnIds[72]);
+  }
+
+  @Override
+  public boolean equal(Inventory.Entry e1, Inventory.Entry e2) {
+    return StringUtils.equals(e1._class, e2._class)
+        && e1.invLeft == e2.invLeft
+        && e1.invRight == e2.invRight
+        && e1.invTop == e2.invTop
+        && e1.invBottom == e2.invBottom
+        && e1.gridX == e2.gridX
+        && e1.gridY == e2.gridY
+        && e1.gridLeft == e2.gridLeft
+        && e1.gridRight == e2.gridRight
+        && e1.gridTop == e2.gridTop
+        && e1.gridBottom == e2.gridBottom
+        && e1.gridBoxWidth == e2.gridBoxWidth
+        && e1.gridBoxHeight == e2.gridBoxHeight
+        && e1.rArmLeft == e2.rArmLeft
+        && e1.rArmRight == e2.rArmRight
+        && e1.rArmTop == e2.rArmTop
+        && e1.rArmBottom == e2.rArmBottom
+        && e1.rArmWidth == e2.rArmWidth
+        && e1.rArmHeight == e2.rArmHeight
+        && e1.torsoLeft == e2.torsoLeft
+        && e1.torsoRight == e2.torsoRight
+        && e1.torsoTop == e2.torsoTop
+        && e1.torsoBottom == e2.torsoBottom
+        && e1.torsoWidth == e2.torsoWidth
+        && e1.torsoHeight == e2.torsoHeight
+        && e1.lArmLeft == e2.lArmLeft
+        && e1.lArmRight == e2.lArmRight
+        && e1.lArmTop == e2.lArmTop
+        && e1.lArmBottom == e2.lArmBottom
+        && e1.lArmWidth == e2.lArmWidth
+        && e1.lArmHeight == e2.lArmHeight
+        && e1.headLeft == e2.headLeft
+        && e1.headRight == e2.headRight
+        && e1.headTop == e2.headTop
+        && e1.headBottom == e2.headBottom
+        && e1.headWidth == e2.headWidth
+        && e1.headHeight == e2.headHeight
+        && e1.neckLeft == e2.neckLeft
+        && e1.neckRight == e2.neckRight
+        && e1.neckTop == e2.neckTop
+        && e1.neckBottom == e2.neckBottom
+        && e1.neckWidth == e2.neckWidth
+        && e1.neckHeight == e2.neckHeight
+        && e1.rHandLeft == e2.rHandLeft
+        && e1.rHandRight == e2.rHandRight
+        && e1.rHandTop == e2.rHandTop
+        && e1.rHandBottom == e2.rHandBottom
+        && e1.rHandWidth == e2.rHandWidth
+        && e1.rHandHeight == e2.rHandHeight
+        && e1.lHandLeft == e2.lHandLeft
+        && e1.lHandRight == e2.lHandRight
+        && e1.lHandTop == e2.lHandTop
+        && e1.lHandBottom == e2.lHandBottom
+        && e1.lHandWidth == e2.lHandWidth
+        && e1.lHandHeight == e2.lHandHeight
+        && e1.beltLeft == e2.beltLeft
+        && e1.beltRight == e2.beltRight
+        && e1.beltTop == e2.beltTop
+        && e1.beltBottom == e2.beltBottom
+        && e1.beltWidth == e2.beltWidth
+        && e1.beltHeight == e2.beltHeight
+        && e1.feetLeft == e2.feetLeft
+        && e1.feetRight == e2.feetRight
+        && e1.feetTop == e2.feetTop
+        && e1.feetBottom == e2.feetBottom
+        && e1.feetWidth == e2.feetWidth
+        && e1.feetHeight == e2.feetHeight
+        && e1.glovesLeft == e2.glovesLeft
+        && e1.glovesRight == e2.glovesRight
+        && e1.glovesTop == e2.glovesTop
+        && e1.glovesBottom == e2.glovesBottom
+        && e1.glovesWidth == e2.glovesWidth
+        && e1.glovesHeight == e2.glovesHeight;
+  }
+}
@@ -0,0 +1,468 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link ItemStatCost.Entry}, do not modify.
+ */
+public final class ItemStatCostLoader extends Excel.Loader<ItemStatCost.Entry> {
+  private int Stat;
+  private int ID;
+  private int Send_Other;
+  private int Signed;
+  private int Send_Bits;
+  private int Send_Param_Bits;
+  private int UpdateAnimRate;
+  private int Saved;
+  private int CSvSigned;
+  private int CSvBits;
+  private int CSvParam;
+  private int fCallback;
+  private int fMin;
+  private int MinAccr;
+  private int Encode;
+  private int Add;
+  private int Multiply;
+  private int Divide;
+  private int ValShift;
+  private int Save_Bits_109;
+  private int Save_Add_109;
+  private int Save_Bits;
+  private int Save_Add;
+  private int Save_Param_Bits;
+  private int keepzero;
+  private int op;
+  private int op_param;
+  private int op_base;
+  private int[] op_stat;
+  private int direct;
+  private int maxstat;
+  private int itemspecific;
+  private int damagerelated;
+  private int itemevent1;
+  private int itemeventfunc1;
+  private int itemevent2;
+  private int itemeventfunc2;
+  private int descpriority;
+  private int descfunc;
+  private int descval;
+  private int descstrpos;
+  private int descstrneg;
+  private int descstr2;
+  private int dgrp;
+  private int dgrpfunc;
+  private int dgrpval;
+  private int dgrpstrpos;
+  private int dgrpstrneg;
+  private int dgrpstr2;
+  private int stuff;
+  private final int[] columnIds = new int[50];
+
+  public ItemStatCostLoader() {
+    super("Stat", "ID", "Send_Other", "Signed", "Send_Bits", "Send_Param_Bits", "UpdateAnimRate", "Saved", "CSvSigned", "CSvBits", "CSvParam", "fCallback", "fMin", "MinAccr", "Encode", "Add", "Multiply", "Divide", "ValShift", "Save_Bits_109", "Save_Add_109", "Save_Bits", "Save_Add", "Save_Param_Bits", "keepzero", "op", "op_param", "op_base", "op_stat", "direct", "maxstat", "itemspecific", "damagerelated", "itemevent1", "itemeventfunc1", "itemevent2", "itemeventfunc2", "descpriority", "descfunc", "descval", "descstrpos", "descstrneg", "descstr2", "dgrp", "dgrpfunc", "dgrpval", "dgrpstrpos", "dgrpstrneg", "dgrpstr2", "stuff");
+  }
+
+  @Override
+  public ItemStatCost.Entry newEntry() {
+    return new ItemStatCost.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Stat";
+  }
+
+  @Override
+  public String stringKey(ItemStatCost.Entry entry) {
+    return entry.Stat;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Stat = in.getColumnId("Stat");
+    ID = in.getColumnId("ID");
+    Send_Other = in.getColumnId("Send Other");
+    Signed = in.getColumnId("Signed");
+    Send_Bits = in.getColumnId("Send Bits");
+    Send_Param_Bits = in.getColumnId("Send Param Bits");
+    UpdateAnimRate = in.getColumnId("UpdateAnimRate");
+    Saved = in.getColumnId("Saved");
+    CSvSigned = in.getColumnId("CSvSigned");
+    CSvBits = in.getColumnId("CSvBits");
+    CSvParam = in.getColumnId("CSvParam");
+    fCallback = in.getColumnId("fCallback");
+    fMin = in.getColumnId("fMin");
+    MinAccr = in.getColumnId("MinAccr");
+    Encode = in.getColumnId("Encode");
+    Add = in.getColumnId("Add");
+    Multiply = in.getColumnId("Multiply");
+    Divide = in.getColumnId("Divide");
+    ValShift = in.getColumnId("ValShift");
+    Save_Bits_109 = in.getColumnId("1.09-Save Bits");
+    Save_Add_109 = in.getColumnId("1.09-Save Add");
+    Save_Bits = in.getColumnId("Save Bits");
+    Save_Add = in.getColumnId("Save Add");
+    Save_Param_Bits = in.getColumnId("Save Param Bits");
+    keepzero = in.getColumnId("keepzero");
+    op = in.getColumnId("op");
+    op_param = in.getColumnId("op param");
+    op_base = in.getColumnId("op base");
+    op_stat = in.getColumnId(new String[] { "op stat1", "op stat2", "op stat3" });
+    direct = in.getColumnId("direct");
+    maxstat = in.getColumnId("maxstat");
+    itemspecific = in.getColumnId("itemspecific");
+    damagerelated = in.getColumnId("damagerelated");
+    itemevent1 = in.getColumnId("itemevent1");
+    itemeventfunc1 = in.getColumnId("itemeventfunc1");
+    itemevent2 = in.getColumnId("itemevent2");
+    itemeventfunc2 = in.getColumnId("itemeventfunc2");
+    descpriority = in.getColumnId("descpriority");
+    descfunc = in.getColumnId("descfunc");
+    descval = in.getColumnId("descval");
+    descstrpos = in.getColumnId("descstrpos");
+    descstrneg = in.getColumnId("descstrneg");
+    descstr2 = in.getColumnId("descstr2");
+    dgrp = in.getColumnId("dgrp");
+    dgrpfunc = in.getColumnId("dgrpfunc");
+    dgrpval = in.getColumnId("dgrpval");
+    dgrpstrpos = in.getColumnId("dgrpstrpos");
+    dgrpstrneg = in.getColumnId("dgrpstrneg");
+    dgrpstr2 = in.getColumnId("dgrpstr2");
+    stuff = in.getColumnId("stuff");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, ItemStatCost.Entry entry) {
+    entry.Stat = in.getString(Stat);
+    entry.ID = in.getInt(ID);
+    entry.Send_Other = in.getBoolean(Send_Other);
+    entry.Signed = in.getBoolean(Signed);
+    entry.Send_Bits = in.getInt(Send_Bits);
+    entry.Send_Param_Bits = in.getInt(Send_Param_Bits);
+    entry.UpdateAnimRate = in.getBoolean(UpdateAnimRate);
+    entry.Saved = in.getBoolean(Saved);
+    entry.CSvSigned = in.getBoolean(CSvSigned);
+    entry.CSvBits = in.getInt(CSvBits);
+    entry.CSvParam = in.getInt(CSvParam);
+    entry.fCallback = in.getBoolean(fCallback);
+    entry.fMin = in.getInt(fMin);
+    entry.MinAccr = in.getInt(MinAccr);
+    entry.Encode = in.getInt(Encode);
+    entry.Add = in.getInt(Add);
+    entry.Multiply = in.getInt(Multiply);
+    entry.Divide = in.getInt(Divide);
+    entry.ValShift = in.getInt(ValShift);
+    entry.Save_Bits_109 = in.getInt(Save_Bits_109);
+    entry.Save_Add_109 = in.getInt(Save_Add_109);
+    entry.Save_Bits = in.getInt(Save_Bits);
+    entry.Save_Add = in.getInt(Save_Add);
+    entry.Save_Param_Bits = in.getInt(Save_Param_Bits);
+    entry.keepzero = in.getBoolean(keepzero);
+    entry.op = in.getInt(op);
+    entry.op_param = in.getInt(op_param);
+    entry.op_base = in.getString(op_base);
+    entry.op_stat = in.getString(op_stat);
+    entry.direct = in.getBoolean(direct);
+    entry.maxstat = in.getString(maxstat);
+    entry.itemspecific = in.getBoolean(itemspecific);
+    entry.damagerelated = in.getString(damagerelated);
+    entry.itemevent1 = in.getString(itemevent1);
+    entry.itemeventfunc1 = in.getInt(itemeventfunc1);
+    entry.itemevent2 = in.getString(itemevent2);
+    entry.itemeventfunc2 = in.getInt(itemeventfunc2);
+    entry.descpriority = in.getInt(descpriority);
+    entry.descfunc = in.getInt(descfunc);
+    entry.descval = in.getInt(descval);
+    entry.descstrpos = in.getString(descstrpos);
+    entry.descstrneg = in.getString(descstrneg);
+    entry.descstr2 = in.getString(descstr2);
+    entry.dgrp = in.getInt(dgrp);
+    entry.dgrpfunc = in.getInt(dgrpfunc);
+    entry.dgrpval = in.getInt(dgrpval);
+    entry.dgrpstrpos = in.getString(dgrpstrpos);
+    entry.dgrpstrneg = in.getString(dgrpstrneg);
+    entry.dgrpstr2 = in.getString(dgrpstr2);
+    entry.stuff = in.getInt(stuff);
+  }
+
+  @Override
+  public void readBin(DataInput in, ItemStatCost.Entry entry) throws IOException {
+    entry.Stat = in.readUTF();
+    entry.ID = in.readInt();
+    entry.Send_Other = in.readBoolean();
+    entry.Signed = in.readBoolean();
+    entry.Send_Bits = in.readInt();
+    entry.Send_Param_Bits = in.readInt();
+    entry.UpdateAnimRate = in.readBoolean();
+    entry.Saved = in.readBoolean();
+    entry.CSvSigned = in.readBoolean();
+    entry.CSvBits = in.readInt();
+    entry.CSvParam = in.readInt();
+    entry.fCallback = in.readBoolean();
+    entry.fMin = in.readInt();
+    entry.MinAccr = in.readInt();
+    entry.Encode = in.readInt();
+    entry.Add = in.readInt();
+    entry.Multiply = in.readInt();
+    entry.Divide = in.readInt();
+    entry.ValShift = in.readInt();
+    entry.Save_Bits_109 = in.readInt();
+    entry.Save_Add_109 = in.readInt();
+    entry.Save_Bits = in.readInt();
+    entry.Save_Add = in.readInt();
+    entry.Save_Param_Bits = in.readInt();
+    entry.keepzero = in.readBoolean();
+    entry.op = in.readInt();
+    entry.op_param = in.readInt();
+    entry.op_base = in.readUTF();
+    entry.op_stat = new String[3];
+    for (int x = 0; x < 3; x++) entry.op_stat[x] = in.readUTF();
+    entry.direct = in.readBoolean();
+    entry.maxstat = in.readUTF();
+    entry.itemspecific = in.readBoolean();
+    entry.damagerelated = in.readUTF();
+    entry.itemevent1 = in.readUTF();
+    entry.itemeventfunc1 = in.readInt();
+    entry.itemevent2 = in.readUTF();
+    entry.itemeventfunc2 = in.readInt();
+    entry.descpriority = in.readInt();
+    entry.descfunc = in.readInt();
+    entry.descval = in.readInt();
+    entry.descstrpos = in.readUTF();
+    entry.descstrneg = in.readUTF();
+    entry.descstr2 = in.readUTF();
+    entry.dgrp = in.readInt();
+    entry.dgrpfunc = in.readInt();
+    entry.dgrpval = in.readInt();
+    entry.dgrpstrpos = in.readUTF();
+    entry.dgrpstrneg = in.readUTF();
+    entry.dgrpstr2 = in.readUTF();
+    entry.stuff = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, ItemStatCost.Entry entry) throws IOException {
+    out.writeUTF(entry.Stat);
+    out.writeInt(entry.ID);
+    out.writeBoolean(entry.Send_Other);
+    out.writeBoolean(entry.Signed);
+    out.writeInt(entry.Send_Bits);
+    out.writeInt(entry.Send_Param_Bits);
+    out.writeBoolean(entry.UpdateAnimRate);
+    out.writeBoolean(entry.Saved);
+    out.writeBoolean(entry.CSvSigned);
+    out.writeInt(entry.CSvBits);
+    out.writeInt(entry.CSvParam);
+    out.writeBoolean(entry.fCallback);
+    out.writeInt(entry.fMin);
+    out.writeInt(entry.MinAccr);
+    out.writeInt(entry.Encode);
+    out.writeInt(entry.Add);
+    out.writeInt(entry.Multiply);
+    out.writeInt(entry.Divide);
+    out.writeInt(entry.ValShift);
+    out.writeInt(entry.Save_Bits_109);
+    out.writeInt(entry.Save_Add_109);
+    out.writeInt(entry.Save_Bits);
+    out.writeInt(entry.Save_Add);
+    out.writeInt(entry.Save_Param_Bits);
+    out.writeBoolean(entry.keepzero);
+    out.writeInt(entry.op);
+    out.writeInt(entry.op_param);
+    out.writeUTF(entry.op_base);
+    for (String x : entry.op_stat) out.writeUTF(x);
+    out.writeBoolean(entry.direct);
+    out.writeUTF(entry.maxstat);
+    out.writeBoolean(entry.itemspecific);
+    out.writeUTF(entry.damagerelated);
+    out.writeUTF(entry.itemevent1);
+    out.writeInt(entry.itemeventfunc1);
+    out.writeUTF(entry.itemevent2);
+    out.writeInt(entry.itemeventfunc2);
+    out.writeInt(entry.descpriority);
+    out.writeInt(entry.descfunc);
+    out.writeInt(entry.descval);
+    out.writeUTF(entry.descstrpos);
+    out.writeUTF(entry.descstrneg);
+    out.writeUTF(entry.descstr2);
+    out.writeInt(entry.dgrp);
+    out.writeInt(entry.dgrpfunc);
+    out.writeInt(entry.dgrpval);
+    out.writeUTF(entry.dgrpstrpos);
+    out.writeUTF(entry.dgrpstrneg);
+    out.writeUTF(entry.dgrpstr2);
+    out.writeInt(entry.stuff);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Stat");
+    columnIds[1] = column(in, "ID");
+    columnIds[2] = column(in, "Send_Other");
+    columnIds[3] = column(in, "Signed");
+    columnIds[4] = column(in, "Send_Bits");
+    columnIds[5] = column(in, "Send_Param_Bits");
+    columnIds[6] = column(in, "UpdateAnimRate");
+    columnIds[7] = column(in, "Saved");
+    columnIds[8] = column(in, "CSvSigned");
+    columnIds[9] = column(in, "CSvBits");
+    columnIds[10] = column(in, "CSvParam");
+    columnIds[11] = column(in, "fCallback");
+    columnIds[12] = column(in, "fMin");
+    columnIds[13] = column(in, "MinAccr");
+    columnIds[14] = column(in, "Encode");
+    columnIds[15] = column(in, "Add");
+    columnIds[16] = column(in, "Multiply");
+    columnIds[17] = column(in, "Divide");
+    columnIds[18] = column(in, "ValShift");
+    columnIds[19] = column(in, "Save_Bits_109");
+    columnIds[20] = column(in, "Save_Add_109");
+    columnIds[21] = column(in, "Save_Bits");
+    columnIds[22] = column(in, "Save_Add");
+    columnIds[23] = column(in, "Save_Param_Bits");
+    columnIds[24] = column(in, "keepzero");
+    columnIds[25] = column(in, "op");
+    columnIds[26] = column(in, "op_param");
+    columnIds[27] = column(in, "op_base");
+    columnIds[28] = column(in, "op_stat");
+    columnIds[29] = column(in, "direct");
+    columnIds[30] = column(in, "maxstat");
+    columnIds[31] = column(in, "itemspecific");
+    columnIds[32] = column(in, "damagerelated");
+    columnIds[33] = column(in, "itemevent1");
+    columnIds[34] = column(in, "itemeventfunc1");
+    columnIds[35] = column(in, "itemevent2");
+    columnIds[36] = column(in, "itemeventfunc2");
+    columnIds[37] = column(in, "descpriority");
+    columnIds[38] = column(in, "descfunc");
+    columnIds[39] = column(in, "descval");
+    columnIds[40] = column(in, "descstrpos");
+    columnIds[41] = column(in, "descstrneg");
+    columnIds[42] = column(in, "descstr2");
+    columnIds[43] = column(in, "dgrp");
+    columnIds[44] = column(in, "dgrpfunc");
+    columnIds[45] = column(in, "dgrpval");
+    columnIds[46] = column(in, "dgrpstrpos");
+    columnIds[47] = column(in, "dgrpstrneg");
+    columnIds[48] = column(in, "dgrpstr2");
+    columnIds[49] = column(in, "stuff");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, ItemStatCost.Entry entry) {
+    entry.Stat = in.getString(row, columnIds[0]);
+    entry.ID = in.getInt(row, columnIds[1]);
+    entry.Send_Other = in.getBoolean(row, columnIds[2]);
+    entry.Signed = in.getBoolean(row, columnIds[3]);
+    entry.Send_Bits = in.getInt(row, columnIds[4]);
+    entry.Send_Param_Bits = in.getInt(row, columnIds[5]);
+    entry.UpdateAnimRate = in.getBoolean(row, columnIds[6]);
+    entry.Saved = in.getBoolean(row, columnIds[7]);
+    entry.CSvSigned = in.getBoolean(row, columnIds[8]);
+    entry.CSvBits = in.getInt(row, columnIds[9]);
+    entry.CSvParam = in.getInt(row, columnIds[10]);
+    entry.fCallback = in.getBoolean(row, columnIds[11]);
+    entry.fMin = in.getInt(row, columnIds[12]);
+    entry.MinAccr = in.getInt(row, columnIds[13]);
+    entry.Encode = in.getInt(row, columnIds[14]);
+    entry.Add = in.getInt(row, columnIds[15]);
+    entry.Multiply = in.getInt(row, columnIds[16]);
+    entry.Divide = in.getInt(row, columnIds[17]);
+    entry.ValShift = in.getInt(row, columnIds[18]);
+    entry.Save_Bits_109 = in.getInt(row, columnIds[19]);
+    entry.Save_Add_109 = in.getInt(row, columnIds[20]);
+    entry.Save_Bits = in.getInt(row, columnIds[21]);
+    entry.Save_Add = in.getInt(row, columnIds[22]);
+    entry.Save_Param_Bits = in.getInt(row, columnIds[23]);
+    entry.keepzero = in.getBoolean(row, columnIds[24]);
+    entry.op = in.getInt(row, columnIds[25]);
+    entry.op_param = in.getInt(row, columnIds[26]);
+    entry.op_base = in.getString(row, columnIds[27]);
+    entry.op_stat = in.getStrings(row, columnIds[28]);
+    entry.direct = in.getBoolean(row, columnIds[29]);
+    entry.maxstat = in.getString(row, columnIds[30]);
+    entry.itemspecific = in.getBoolean(row, columnIds[31]);
+    entry.damagerelated = in.getString(row, columnIds[32]);
+    entry.itemevent1 = in.getString(row, columnIds[33]);
+    entry.itemeventfunc1 = in.getInt(row, columnIds[34]);
+    entry.itemevent2 = in.getString(row, columnIds[35]);
+    entry.itemeventfunc2 = in.getInt(row, columnIds[36]);
+    entry.descpriority = in.getInt(row, columnIds[37]);
+    entry.descfunc = in.getInt(row, columnIds[38]);
+    entry.descval = in.getInt(row, columnIds[39]);
+    entry.descstrpos = in.getString(row, columnIds[40]);
+    entry.descstrneg = in.getString(row, columnIds[41]);
+    entry.descstr2 = in.getString(row, columnIds[42]);
+    entry.dgrp = in.getInt(row, columnIds[43]);
+    entry.dgrpfunc = in.getInt(row, columnIds[44]);
+    entry.dgrpval = in.getInt(row, columnIds[45]);
+    entry.dgrpstrpos = in.getString(row, columnIds[46]);
+    entry.dgrpstrneg = in.getString(row, columnIds[47]);
+    entry.dgrpstr2 = in.getString(row, columnIds[48]);
+    entry.stuff = in.getInt(row, columnIds[49]);
+  }
+
+  @Override
+  public boolean equal(ItemStatCost.Entry e1, ItemStatCost.Entry e2) {
+    return StringUtils.equals(e1.Stat, e2.Stat)
+        && e1.ID == e2.ID
+        && e1.Send_Other == e2.Send_Other
+        && e1.Signed == e2.Signed
+        && e1.Send_Bits == e2.Send_Bits
+        && e1.Send_Param_Bits == e2.Send_Param_Bits
+        && e1.UpdateAnimRate == e2.UpdateAnimRate
+        && e1.Saved == e2.Saved
+        && e1.CSvSigned == e2.CSvSigned
+        && e1.CSvBits == e2.CSvBits
+        && e1.CSvParam == e2.CSvParam
+        && e1.fCallback == e2.fCallback
+        && e1.fMin == e2.fMin
+        && e1.MinAccr == e2.MinAccr
+        && e1.Encode == e2.Encode
+        && e1.Add == e2.Add
+        && e1.Multiply == e2.Multiply
+        && e1.Divide == e2.Divide
+        && e1.ValShift == e2.ValShift
+        && e1.Save_Bits_109 == e2.Save_Bits_109
+        && e1.Save_Add_109 == e2.Save_Add_109
+        && e1.Save_Bits == e2.Save_Bits
+        && e1.Save_Add == e2.Save_Add
+        && e1.Save_Param_Bits == e2.Save_Param_Bits
+        && e1.keepzero == e2.keepzero
+        && e1.op == e2.op
+        && e1.op_param == e2.op_param
+        && StringUtils.equals(e1.op_base, e2.op_base)
+        && Arrays.equals(e1.op_stat, e2.op_stat)
+        && e1.direct == e2.direct
+        && StringUtils.equals(e1.maxstat, e2.maxstat)
+        && e1.itemspecific == e2.itemspecific
+        && StringUtils.equals(e1.damagerelated, e2.damagerelated)
+        && StringUtils.equals(e1.itemevent1, e2.itemevent1)
+        && e1.itemeventfunc1 == e2.itemeventfunc1
+        && StringUtils.equals(e1.itemevent2, e2.itemevent2)
+        && e1.itemeventfunc2 == e2.itemeventfunc2
+        && e1.descpriority == e2.descpriority
+        && e1.descfunc == e2.descfunc
+        && e1.descval == e2.descval
+        && StringUtils.equals(e1.descstrpos, e2.descstrpos)
+        && StringUtils.equals(e1.descstrneg, e2.descstrneg)
+        && StringUtils.equals(e1.descstr2, e2.descstr2)
+        && e1.dgrp == e2.dgrp
+        && e1.dgrpfunc == e2.dgrpfunc
+        && e1.dgrpval == e2.dgrpval
+        && StringUtils.equals(e1.dgrpstrpos, e2.dgrpstrpos)
+        && StringUtils.equals(e1.dgrpstrneg, e2.dgrpstrneg)
+        && StringUtils.equals(e1.dgrpstr2, e2.dgrpstr2)
+        && e1.stuff == e2.stuff;
+  }
+}
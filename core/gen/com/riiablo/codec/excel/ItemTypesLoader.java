@@ -0,0 +1,302 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link ItemTypes.Entry}, do not modify.
+ */
+public final class ItemTypesLoader extends Excel.Loader<ItemTypes.Entry> {
+  private int ItemType;
+  private int Code;
+  private int[] Equiv;
+  private int Repair;
+  private int Body;
+  private int[] BodyLoc;
+  private int Shoots;
+  private int Quiver;
+  private int Throwable;
+  private int Reload;
+  private int ReEquip;
+  private int AutoStack;
+  private int Magic;
+  private int Rare;
+  private int Normal;
+  private int Charm;
+  private int Gem;
+  private int Beltable;
+  private int MaxSock1;
+  private int MaxSock25;
+  private int MaxSock40;
+  private int TreasureClass;
+  private int Rarity;
+  private int StaffMods;
+  private int CostFormula;
+  private int Class;
+  private int VarInvGfx;
+  private int[] InvGfx;
+  private int StorePage;
+  private final int[] columnIds = new int[29];
+
+  public ItemTypesLoader() {
+    super("ItemType", "Code", "Equiv", "Repair", "Body", "BodyLoc", "Shoots", "Quiver", "Throwable", "Reload", "ReEquip", "AutoStack", "Magic", "Rare", "Normal", "Charm", "Gem", "Beltable", "MaxSock1", "MaxSock25", "MaxSock40", "TreasureClass", "Rarity", "StaffMods", "CostFormula", "Class", "VarInvGfx", "InvGfx", "StorePage");
+  }
+
+  @Override
+  public ItemTypes.Entry newEntry() {
+    return new ItemTypes.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Code";
+  }
+
+  @Override
+  public String stringKey(ItemTypes.Entry entry) {
+    return entry.Code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    ItemType = in.getColumnId("ItemType");
+    Code = in.getColumnId("Code");
+    Equiv = in.getColumnId(new String[] { "Equiv1", "Equiv2" });
+    Repair = in.getColumnId("Repair");
+    Body = in.getColumnId("Body");
+    BodyLoc = in.getColumnId(new String[] { "BodyLoc1", "BodyLoc2" });
+    Shoots = in.getColumnId("Shoots");
+    Quiver = in.getColumnId("Quiver");
+    Throwable = in.getColumnId("Throwable");
+    Reload = in.getColumnId("Reload");
+    ReEquip = in.getColumnId("ReEquip");
+    AutoStack = in.getColumnId("AutoStack");
+    Magic = in.getColumnId("Magic");
+    Rare = in.getColumnId("Rare");
+    Normal = in.getColumnId("Normal");
+    Charm = in.getColumnId("Charm");
+    Gem = in.getColumnId("Gem");
+    Beltable = in.getColumnId("Beltable");
+    MaxSock1 = in.getColumnId("MaxSock1");
+    MaxSock25 = in.getColumnId("MaxSock25");
+    MaxSock40 = in.getColumnId("MaxSock40");
+    TreasureClass = in.getColumnId("TreasureClass");
+    Rarity = in.getColumnId("Rarity");
+    StaffMods = in.getColumnId("StaffMods");
+    CostFormula = in.getColumnId("CostFormula");
+    Class = in.getColumnId("Class");
+    VarInvGfx = in.getColumnId("VarInvGfx");
+    InvGfx = in.getColumnId(new String[] { "InvGfx1", "InvGfx2", "InvGfx3", "InvGfx4", "InvGfx5", "InvGfx6" });
+    StorePage = in.getColumnId("StorePage");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, ItemTypes.Entry entry) {
+    entry.ItemType = in.getString(ItemType);
+    entry.Code = in.getString(Code);
+    entry.Equiv = in.getString(Equiv);
+    entry.Repair = in.getBoolean(Repair);
+    entry.Body = in.getBoolean(Body);
+    entry.BodyLoc = in.getString(BodyLoc);
+    entry.Shoots = in.getString(Shoots);
+    entry.Quiver = in.getString(Quiver);
+    entry.Throwable = in.getBoolean(Throwable);
+    entry.Reload = in.getBoolean(Reload);
+    entry.ReEquip = in.getBoolean(ReEquip);
+    entry.AutoStack = in.getBoolean(AutoStack);
+    entry.Magic = in.getBoolean(Magic);
+    entry.Rare = in.getBoolean(Rare);
+    entry.Normal = in.getBoolean(Normal);
+    entry.Charm = in.getBoolean(Charm);
+    entry.Gem = in.getBoolean(Gem);
+    entry.Beltable = in.getBoolean(Beltable);
+    entry.MaxSock1 = in.getInt(MaxSock1);
+    entry.MaxSock25 = in.getInt(MaxSock25);
+    entry.MaxSock40 = in.getInt(MaxSock40);
+    entry.TreasureClass = in.getInt(TreasureClass);
+    entry.Rarity = in.getInt(Rarity);
+    entry.StaffMods = in.getString(StaffMods);
+    entry.CostFormula = in.getInt(CostFormula);
+    entry.Class = in.getString(Class);
+    entry.VarInvGfx = in.getInt(VarInvGfx);
+    entry.InvGfx = in.getString(InvGfx);
+    entry.StorePage = in.getString(StorePage);
+  }
+
+  @Override
+  public void readBin(DataInput in, ItemTypes.Entry entry) throws IOException {
+    entry.ItemType = in.readUTF();
+    entry.Code = in.readUTF();
+    entry.Equiv = new String[2];
+    for (int x = 0; x < 2; x++) entry.Equiv[x] = in.readUTF();
+    entry.Repair = in.readBoolean();
+    entry.Body = in.readBoolean();
+    entry.BodyLoc = new String[2];
+    for (int x = 0; x < 2; x++) entry.BodyLoc[x] = in.readUTF();
+    entry.Shoots = in.readUTF();
+    entry.Quiver = in.readUTF();
+    entry.Throwable = in.readBoolean();
+    entry.Reload = in.readBoolean();
+    entry.ReEquip = in.readBoolean();
+    entry.AutoStack = in.readBoolean();
+    entry.Magic = in.readBoolean();
+    entry.Rare = in.readBoolean();
+    entry.Normal = in.readBoolean();
+    entry.Charm = in.readBoolean();
+    entry.Gem = in.readBoolean();
+    entry.Beltable = in.readBoolean();
+    entry.MaxSock1 = in.readInt();
+    entry.MaxSock25 = in.readInt();
+    entry.MaxSock40 = in.readInt();
+    entry.TreasureClass = in.readInt();
+    entry.Rarity = in.readInt();
+    entry.StaffMods = in.readUTF();
+    entry.CostFormula = in.readInt();
+    entry.Class = in.readUTF();
+    entry.VarInvGfx = in.readInt();
+    entry.InvGfx = new String[6];
+    for (int x = 0; x < 6; x++) entry.InvGfx[x] = in.readUTF();
+    entry.StorePage = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, ItemTypes.Entry entry) throws IOException {
+    out.writeUTF(entry.ItemType);
+    out.writeUTF(entry.Code);
+    for (String x : entry.Equiv) out.writeUTF(x);
+    out.writeBoolean(entry.Repair);
+    out.writeBoolean(entry.Body);
+    for (String x : entry.BodyLoc) out.writeUTF(x);
+    out.writeUTF(entry.Shoots);
+    out.writeUTF(entry.Quiver);
+    out.writeBoolean(entry.Throwable);
+    out.writeBoolean(entry.Reload);
+    out.writeBoolean(entry.ReEquip);
+    out.writeBoolean(entry.AutoStack);
+    out.writeBoolean(entry.Magic);
+    out.writeBoolean(entry.Rare);
+    out.writeBoolean(entry.Normal);
+    out.writeBoolean(entry.Charm);
+    out.writeBoolean(entry.Gem);
+    out.writeBoolean(entry.Beltable);
+    out.writeInt(entry.MaxSock1);
+    out.writeInt(entry.MaxSock25);
+    out.writeInt(entry.MaxSock40);
+    out.writeInt(entry.TreasureClass);
+    out.writeInt(entry.Rarity);
+    out.writeUTF(entry.StaffMods);
+    out.writeInt(entry.CostFormula);
+    out.writeUTF(entry.Class);
+    out.writeInt(entry.VarInvGfx);
+    for (String x : entry.InvGfx) out.writeUTF(x);
+    out.writeUTF(entry.StorePage);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "ItemType");
+    columnIds[1] = column(in, "Code");
+    columnIds[2] = column(in, "Equiv");
+    columnIds[3] = column(in, "Repair");
+    columnIds[4] = column(in, "Body");
+    columnIds[5] = column(in, "BodyLoc");
+    columnIds[6] = column(in, "Shoots");
+    columnIds[7] = column(in, "Quiver");
+    columnIds[8] = column(in, "Throwable");
+    columnIds[9] = column(in, "Reload");
+    columnIds[10] = column(in, "ReEquip");
+    columnIds[11] = column(in, "AutoStack");
+    columnIds[12] = column(in, "Magic");
+    columnIds[13] = column(in, "Rare");
+    columnIds[14] = column(in, "Normal");
+    columnIds[15] = column(in, "Charm");
+    columnIds[16] = column(in, "Gem");
+    columnIds[17] = column(in, "Beltable");
+    columnIds[18] = column(in, "MaxSock1");
+    columnIds[19] = column(in, "MaxSock25");
+    columnIds[20] = column(in, "MaxSock40");
+    columnIds[21] = column(in, "TreasureClass");
+    columnIds[22] = column(in, "Rarity");
+    columnIds[23] = column(in, "StaffMods");
+    columnIds[24] = column(in, "CostFormula");
+    columnIds[25] = column(in, "Class");
+    columnIds[26] = column(in, "VarInvGfx");
+    columnIds[27] = column(in, "InvGfx");
+    columnIds[28] = column(in, "StorePage");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, ItemTypes.Entry entry) {
+    entry.ItemType = in.getString(row, columnIds[0]);
+    entry.Code = in.getString(row, columnIds[1]);
+    entry.Equiv = in.getStrings(row, columnIds[2]);
+    entry.Repair = in.getBoolean(row, columnIds[3]);
+    entry.Body = in.getBoolean(row, columnIds[4]);
+    entry.BodyLoc = in.getStrings(row, columnIds[5]);
+    entry.Shoots = in.getString(row, columnIds[6]);
+    entry.Quiver = in.getString(row, columnIds[7]);
+    entry.Throwable = in.getBoolean(row, columnIds[8]);
+    entry.Reload = in.getBoolean(row, columnIds[9]);
+    entry.ReEquip = in.getBoolean(row, columnIds[10]);
+    entry.AutoStack = in.getBoolean(row, columnIds[11]);
+    entry.Magic = in.getBoolean(row, columnIds[12]);
+    entry.Rare = in.getBoolean(row, columnIds[13]);
+    entry.Normal = in.getBoolean(row, columnIds[14]);
+    entry.Charm = in.getBoolean(row, columnIds[15]);
+    entry.Gem = in.getBoolean(row, columnIds[16]);
+    entry.Beltable = in.getBoolean(row, columnIds[17]);
+    entry.MaxSock1 = in.getInt(row, columnIds[18]);
+    entry.MaxSock25 = in.getInt(row, columnIds[19]);
+    entry.MaxSock40 = in.getInt(row, columnIds[20]);
+    entry.TreasureClass = in.getInt(row, columnIds[21]);
+    entry.Rarity = in.getInt(row, columnIds[22]);
+    entry.StaffMods = in.getString(row, columnIds[23]);
+    entry.CostFormula = in.getInt(row, columnIds[24]);
+    entry.Class = in.getString(row, columnIds[25]);
+    entry.VarInvGfx = in.getInt(row, columnIds[26]);
+    entry.InvGfx = in.getStrings(row, columnIds[27]);
+    entry.StorePage = in.getString(row, columnIds[28]);
+  }
+
+  @Override
+  public boolean equal(ItemTypes.Entry e1, ItemTypes.Entry e2) {
+    return StringUtils.equals(e1.ItemType, e2.ItemType)
+        && StringUtils.equals(e1.Code, e2.Code)
+        && Arrays.equals(e1.Equiv, e2.Equiv)
+        && e1.Repair == e2.Repair
+        && e1.Body == e2.Body
+        && Arrays.equals(e1.BodyLoc, e2.BodyLoc)
+        && StringUtils.equals(e1.Shoots, e2.Shoots)
+        && StringUtils.equals(e1.Quiver, e2.Quiver)
+        && e1.Throwable == e2.Throwable
+        && e1.Reload == e2.Reload
+        && e1.ReEquip == e2.ReEquip
+        && e1.AutoStack == e2.AutoStack
+        && e1.Magic == e2.Magic
+        && e1.Rare == e2.Rare
+        && e1.Normal == e2.Normal
+        && e1.Charm == e2.Charm
+        && e1.Gem == e2.Gem
+        && e1.Beltable == e2.Beltable
+        && e1.MaxSock1 == e2.MaxSock1
+        && e1.MaxSock25 == e2.MaxSock25
+        && e1.MaxSock40 == e2.MaxSock40
+        && e1.TreasureClass == e2.TreasureClass
+        && e1.Rarity == e2.Rarity
+        && StringUtils.equals(e1.StaffMods, e2.StaffMods)
+        && e1.CostFormula == e2.CostFormula
+        && StringUtils.equals(e1.Class, e2.Class)
+        && e1.VarInvGfx == e2.VarInvGfx
+        && Arrays.equals(e1.InvGfx, e2.InvGfx)
+        && StringUtils.equals(e1.StorePage, e2.StorePage);
+  }
+}
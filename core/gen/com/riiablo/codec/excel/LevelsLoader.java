@@ -0,0 +1,580 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Levels.Entry}, do not modify.
+ */
+public final class LevelsLoader extends Excel.Loader<Levels.Entry> {
+  private int Name;
+  private int Id;
+  private int Pal;
+  private int Act;
+  private int QuestFlag;
+  private int QuestFlagEx;
+  private int Layer;
+  private int[] SizeX;
+  private int[] SizeY;
+  private int OffsetX;
+  private int OffsetY;
+  private int Depend;
+  private int Teleport;
+  private int Rain;
+  private int Mud;
+  private int NoPer;
+  private int LOSDraw;
+  private int FloorFilter;
+  private int BlankScreen;
+  private int DrawEdges;
+  private int IsInside;
+  private int DrlgType;
+  private int LevelType;
+  private int SubType;
+  private int SubTheme;
+  private int SubWaypoint;
+  private int SubShrine;
+  private int[] Vis;
+  private int[] Warp;
+  private int Intensity;
+  private int Red;
+  private int Green;
+  private int Blue;
+  private int Portal;
+  private int Position;
+  private int SaveMonsters;
+  private int Quest;
+  private int WarpDist;
+  private int[] MonLvl;
+  private int[] MonLvlEx;
+  private int[] MonDen;
+  private int[] MonUMin;
+  private int[] MonUMax;
+  private int MonWndr;
+  private int MonSpcWalk;
+  private int NumMon;
+  private int[] mon;
+  private int rangedspawn;
+  private int[] nmon;
+  private int[] umon;
+  private int[] cmon;
+  private int[] cpct;
+  private int[] camt;
+  private int Themes;
+  private int SoundEnv;
+  private int Waypoint;
+  private int LevelName;
+  private int LevelWarp;
+  private int EntryFile;
+  private int[] ObjGrp;
+  private int[] ObjPrb;
+  private int Beta;
+  private final int[] columnIds = new int[62];
+
+  public LevelsLoader() {
+    super("Name", "Id", "Pal", "Act", "QuestFlag", "QuestFlagEx", "Layer", "SizeX", "SizeY", "OffsetX", "OffsetY", "Depend", "Teleport", "Rain", "Mud", "NoPer", "LOSDraw", "FloorFilter", "BlankScreen", "DrawEdges", "IsInside", "DrlgType", "LevelType", "SubType", "SubTheme", "SubWaypoint", "SubShrine", "Vis", "Warp", "Intensity", "Red", "Green", "Blue", "Portal", "Position", "SaveMonsters", "Quest", "WarpDist", "MonLvl", "MonLvlEx", "MonDen", "MonUMin", "MonUMax", "MonWndr", "MonSpcWalk", "NumMon", "mon", "rangedspawn", "nmon", "umon", "cmon", "cpct", "camt", "Themes", "SoundEnv", "Waypoint", "LevelName", "LevelWarp", "EntryFile", "ObjGrp", "ObjPrb", "Beta");
+  }
+
+  @Override
+  public Levels.Entry newEntry() {
+    return new Levels.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public int intKey(Levels.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Id = in.getColumnId("Id");
+    Pal = in.getColumnId("Pal");
+    Act = in.getColumnId("Act");
+    QuestFlag = in.getColumnId("QuestFlag");
+    QuestFlagEx = in.getColumnId("QuestFlagEx");
+    Layer = in.getColumnId("Layer");
+    SizeX = in.getColumnId(new String[] { "SizeX", "SizeX(N)", "SizeX(H)" });
+    SizeY = in.getColumnId(new String[] { "SizeY", "SizeY(N)", "SizeY(H)" });
+    OffsetX = in.getColumnId("OffsetX");
+    OffsetY = in.getColumnId("OffsetY");
+    Depend = in.getColumnId("Depend");
+    Teleport = in.getColumnId("Teleport");
+    Rain = in.getColumnId("Rain");
+    Mud = in.getColumnId("Mud");
+    NoPer = in.getColumnId("NoPer");
+    LOSDraw = in.getColumnId("LOSDraw");
+    FloorFilter = in.getColumnId("FloorFilter");
+    BlankScreen = in.getColumnId("BlankScreen");
+    DrawEdges = in.getColumnId("DrawEdges");
+    IsInside = in.getColumnId("IsInside");
+    DrlgType = in.getColumnId("DrlgType");
+    LevelType = in.getColumnId("LevelType");
+    SubType = in.getColumnId("SubType");
+    SubTheme = in.getColumnId("SubTheme");
+    SubWaypoint = in.getColumnId("SubWaypoint");
+    SubShrine = in.getColumnId("SubShrine");
+    Vis = in.getColumnId(new String[] { "Vis0", "Vis1", "Vis2", "Vis3", "Vis4", "Vis5", "Vis6", "Vis7" });
+    Warp = in.getColumnId(new String[] { "Warp0", "Warp1", "Warp2", "Warp3", "Warp4", "Warp5", "Warp6", "Warp7" });
+    Intensity = in.getColumnId("Intensity");
+    Red = in.getColumnId("Red");
+    Green = in.getColumnId("Green");
+    Blue = in.getColumnId("Blue");
+    Portal = in.getColumnId("Portal");
+    Position = in.getColumnId("Position");
+    SaveMonsters = in.getColumnId("SaveMonsters");
+    Quest = in.getColumnId("Quest");
+    WarpDist = in.getColumnId("WarpDist");
+    MonLvl = in.getColumnId(new String[] { "MonLvl1", "MonLvl2", "MonLvl3" });
+    MonLvlEx = in.getColumnId(new String[] { "MonLvl1Ex", "MonLvl2Ex", "MonLvl3Ex" });
+    MonDen = in.getColumnId(new String[] { "MonDen", "MonDen(N)", "MonDen(H)" });
+    MonUMin = in.getColumnId(new String[] { "MonUMin", "MonUMin(N)", "MonUMin(H)" });
+    MonUMax = in.getColumnId(new String[] { "MonUMin", "MonUMin(N)", "MonUMin(H)" });
+    MonWndr = in.getColumnId("MonWndr");
+    MonSpcWalk = in.getColumnId("MonSpcWalk");
+    NumMon = in.getColumnId("NumMon");
+    mon = in.getColumnId(new String[] { "mon1", "mon2", "mon3", "mon4", "mon5", "mon6", "mon7", "mon8", "mon9", "mon10" });
+    rangedspawn = in.getColumnId("rangedspawn");
+    nmon = in.getColumnId(new String[] { "nmon1", "nmon2", "nmon3", "nmon4", "nmon5", "nmon6", "nmon7", "nmon8", "nmon9", "nmon10" });
+    umon = in.getColumnId(new String[] { "umon1", "umon2", "umon3", "umon4", "umon5", "umon6", "umon7", "umon8", "umon9", "umon10" });
+    cmon = in.getColumnId(new String[] { "cmon1", "cmon2", "cmon3", "cmon4" });
+    cpct = in.getColumnId(new String[] { "cpct1", "cpct2", "cpct3", "cpct4" });
+    camt = in.getColumnId(new String[] { "camt1", "camt2", "camt3", "camt4" });
+    Themes = in.getColumnId("Themes");
+    SoundEnv = in.getColumnId("SoundEnv");
+    Waypoint = in.getColumnId("Waypoint");
+    LevelName = in.getColumnId("LevelName");
+    LevelWarp = in.getColumnId("LevelWarp");
+    EntryFile = in.getColumnId("EntryFile");
+    ObjGrp = in.getColumnId(new String[] { "ObjGrp0", "ObjGrp1", "ObjGrp2", "ObjGrp3", "ObjGrp4", "ObjGrp5", "ObjGrp6", "ObjGrp7" });
+    ObjPrb = in.getColumnId(new String[] { "ObjPrb0", "ObjPrb1", "ObjPrb2", "ObjPrb3", "ObjPrb4", "ObjPrb5", "ObjPrb6", "ObjPrb7" });
+    Beta = in.getColumnId("Beta");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Levels.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Id = in.getInt(Id);
+    entry.Pal = in.getInt(Pal);
+    entry.Act = in.getInt(Act);
+    entry.QuestFlag = in.getInt(QuestFlag);
+    entry.QuestFlagEx = in.getInt(QuestFlagEx);
+    entry.Layer = in.getInt(Layer);
+    entry.SizeX = in.getInt(SizeX);
+    entry.SizeY = in.getInt(SizeY);
+    entry.OffsetX = in.getInt(OffsetX);
+    entry.OffsetY = in.getInt(OffsetY);
+    entry.Depend = in.getInt(Depend);
+    entry.Teleport = in.getInt(Teleport);
+    entry.Rain = in.getBoolean(Rain);
+    entry.Mud = in.getBoolean(Mud);
+    entry.NoPer = in.getBoolean(NoPer);
+    entry.LOSDraw = in.getBoolean(LOSDraw);
+    entry.FloorFilter = in.getBoolean(FloorFilter);
+    entry.BlankScreen = in.getBoolean(BlankScreen);
+    entry.DrawEdges = in.getBoolean(DrawEdges);
+    entry.IsInside = in.getBoolean(IsInside);
+    entry.DrlgType = in.getInt(DrlgType);
+    entry.LevelType = in.getInt(LevelType);
+    entry.SubType = in.getInt(SubType);
+    entry.SubTheme = in.getInt(SubTheme);
+    entry.SubWaypoint = in.getInt(SubWaypoint);
+    entry.SubShrine = in.getInt(SubShrine);
+    entry.Vis = in.getInt(Vis);
+    entry.Warp = in.getInt(Warp);
+    entry.Intensity = in.getInt(Intensity);
+    entry.Red = in.getInt(Red);
+    entry.Green = in.getInt(Green);
+    entry.Blue = in.getInt(Blue);
+    entry.Portal = in.getBoolean(Portal);
+    entry.Position = in.getBoolean(Position);
+    entry.SaveMonsters = in.getBoolean(SaveMonsters);
+    entry.Quest = in.getInt(Quest);
+    entry.WarpDist = in.getInt(WarpDist);
+    entry.MonLvl = in.getInt(MonLvl);
+    entry.MonLvlEx = in.getInt(MonLvlEx);
+    entry.MonDen = in.getInt(MonDen);
+    entry.MonUMin = in.getInt(MonUMin);
+    entry.MonUMax = in.getInt(MonUMax);
+    entry.MonWndr = in.getBoolean(MonWndr);
+    entry.MonSpcWalk = in.getInt(MonSpcWalk);
+    entry.NumMon = in.getInt(NumMon);
+    entry.mon = in.getString(mon);
+    entry.rangedspawn = in.getBoolean(rangedspawn);
+    entry.nmon = in.getString(nmon);
+    entry.umon = in.getString(umon);
+    entry.cmon = in.getString(cmon);
+    entry.cpct = in.getInt(cpct);
+    entry.camt = in.getInt(camt);
+    entry.Themes = in.getInt(Themes);
+    entry.SoundEnv = in.getInt(SoundEnv);
+    entry.Waypoint = in.getInt(Waypoint);
+    entry.LevelName = in.getString(LevelName);
+    entry.LevelWarp = in.getString(LevelWarp);
+    entry.EntryFile = in.getString(EntryFile);
+    entry.ObjGrp = in.getInt(ObjGrp);
+    entry.ObjPrb = in.getInt(ObjPrb);
+    entry.Beta = in.getBoolean(Beta);
+  }
+
+  @Override
+  public void readBin(DataInput in, Levels.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Id = in.readInt();
+    entry.Pal = in.readInt();
+    entry.Act = in.readInt();
+    entry.QuestFlag = in.readInt();
+    entry.QuestFlagEx = in.readInt();
+    entry.Layer = in.readInt();
+    entry.SizeX = new int[3];
+    for (int x = 0; x < 3; x++) entry.SizeX[x] = in.readInt();
+    entry.SizeY = new int[3];
+    for (int x = 0; x < 3; x++) entry.SizeY[x] = in.readInt();
+    entry.OffsetX = in.readInt();
+    entry.OffsetY = in.readInt();
+    entry.Depend = in.readInt();
+    entry.Teleport = in.readInt();
+    entry.Rain = in.readBoolean();
+    entry.Mud = in.readBoolean();
+    entry.NoPer = in.readBoolean();
+    entry.LOSDraw = in.readBoolean();
+    entry.FloorFilter = in.readBoolean();
+    entry.BlankScreen = in.readBoolean();
+    entry.DrawEdges = in.readBoolean();
+    entry.IsInside = in.readBoolean();
+    entry.DrlgType = in.readInt();
+    entry.LevelType = in.readInt();
+    entry.SubType = in.readInt();
+    entry.SubTheme = in.readInt();
+    entry.SubWaypoint = in.readInt();
+    entry.SubShrine = in.readInt();
+    entry.Vis = new int[8];
+    for (int x = 0; x < 8; x++) entry.Vis[x] = in.readInt();
+    entry.Warp = new int[8];
+    for (int x = 0; x < 8; x++) entry.Warp[x] = in.readInt();
+    entry.Intensity = in.readInt();
+    entry.Red = in.readInt();
+    entry.Green = in.readInt();
+    entry.Blue = in.readInt();
+    entry.Portal = in.readBoolean();
+    entry.Position = in.readBoolean();
+    entry.SaveMonsters = in.readBoolean();
+    entry.Quest = in.readInt();
+    entry.WarpDist = in.readInt();
+    entry.MonLvl = new int[3];
+    for (int x = 0; x < 3; x++) entry.MonLvl[x] = in.readInt();
+    entry.MonLvlEx = new int[3];
+    for (int x = 0; x < 3; x++) entry.MonLvlEx[x] = in.readInt();
+    entry.MonDen = new int[3];
+    for (int x = 0; x < 3; x++) entry.MonDen[x] = in.readInt();
+    entry.MonUMin = new int[3];
+    for (int x = 0; x < 3; x++) entry.MonUMin[x] = in.readInt();
+    entry.MonUMax = new int[3];
+    for (int x = 0; x < 3; x++) entry.MonUMax[x] = in.readInt();
+    entry.MonWndr = in.readBoolean();
+    entry.MonSpcWalk = in.readInt();
+    entry.NumMon = in.readInt();
+    entry.mon = new String[10];
+    for (int x = 0; x < 10; x++) entry.mon[x] = in.readUTF();
+    entry.rangedspawn = in.readBoolean();
+    entry.nmon = new String[10];
+    for (int x = 0; x < 10; x++) entry.nmon[x] = in.readUTF();
+    entry.umon = new String[10];
+    for (int x = 0; x < 10; x++) entry.umon[x] = in.readUTF();
+    entry.cmon = new String[4];
+    for (int x = 0; x < 4; x++) entry.cmon[x] = in.readUTF();
+    entry.cpct = new int[4];
+    for (int x = 0; x < 4; x++) entry.cpct[x] = in.readInt();
+    entry.camt = new int[4];
+    for (int x = 0; x < 4; x++) entry.camt[x] = in.readInt();
+    entry.Themes = in.readInt();
+    entry.SoundEnv = in.readInt();
+    entry.Waypoint = in.readInt();
+    entry.LevelName = in.readUTF();
+    entry.LevelWarp = in.readUTF();
+    entry.EntryFile = in.readUTF();
+    entry.ObjGrp = new int[8];
+    for (int x = 0; x < 8; x++) entry.ObjGrp[x] = in.readInt();
+    entry.ObjPrb = new int[8];
+    for (int x = 0; x < 8; x++) entry.ObjPrb[x] = in.readInt();
+    entry.Beta = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Levels.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeInt(entry.Id);
+    out.writeInt(entry.Pal);
+    out.writeInt(entry.Act);
+    out.writeInt(entry.QuestFlag);
+    out.writeInt(entry.QuestFlagEx);
+    out.writeInt(entry.Layer);
+    for (int x : entry.SizeX) out.writeInt(x);
+    for (int x : entry.SizeY) out.writeInt(x);
+    out.writeInt(entry.OffsetX);
+    out.writeInt(entry.OffsetY);
+    out.writeInt(entry.Depend);
+    out.writeInt(entry.Teleport);
+    out.writeBoolean(entry.Rain);
+    out.writeBoolean(entry.Mud);
+    out.writeBoolean(entry.NoPer);
+    out.writeBoolean(entry.LOSDraw);
+    out.writeBoolean(entry.FloorFilter);
+    out.writeBoolean(entry.BlankScreen);
+    out.writeBoolean(entry.DrawEdges);
+    out.writeBoolean(entry.IsInside);
+    out.writeInt(entry.DrlgType);
+    out.writeInt(entry.LevelType);
+    out.writeInt(entry.SubType);
+    out.writeInt(entry.SubTheme);
+    out.writeInt(entry.SubWaypoint);
+    out.writeInt(entry.SubShrine);
+    for (int x : entry.Vis) out.writeInt(x);
+    for (int x : entry.Warp) out.writeInt(x);
+    out.writeInt(entry.Intensity);
+    out.writeInt(entry.Red);
+    out.writeInt(entry.Green);
+    out.writeInt(entry.Blue);
+    out.writeBoolean(entry.Portal);
+    out.writeBoolean(entry.Position);
+    out.writeBoolean(entry.SaveMonsters);
+    out.writeInt(entry.Quest);
+    out.writeInt(entry.WarpDist);
+    for (int x : entry.MonLvl) out.writeInt(x);
+    for (int x : entry.MonLvlEx) out.writeInt(x);
+    for (int x : entry.MonDen) out.writeInt(x);
+    for (int x : entry.MonUMin) out.writeInt(x);
+    for (int x : entry.MonUMax) out.writeInt(x);
+    out.writeBoolean(entry.MonWndr);
+    out.writeInt(entry.MonSpcWalk);
+    out.writeInt(entry.NumMon);
+    for (String x : entry.mon) out.writeUTF(x);
+    out.writeBoolean(entry.rangedspawn);
+    for (String x : entry.nmon) out.writeUTF(x);
+    for (String x : entry.umon) out.writeUTF(x);
+    for (String x : entry.cmon) out.writeUTF(x);
+    for (int x : entry.cpct) out.writeInt(x);
+    for (int x : entry.camt) out.writeInt(x);
+    out.writeInt(entry.Themes);
+    out.writeInt(entry.SoundEnv);
+    out.writeInt(entry.Waypoint);
+    out.writeUTF(entry.LevelName);
+    out.writeUTF(entry.LevelWarp);
+    out.writeUTF(entry.EntryFile);
+    for (int x : entry.ObjGrp) out.writeInt(x);
+    for (int x : entry.ObjPrb) out.writeInt(x);
+    out.writeBoolean(entry.Beta);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Id");
+    columnIds[2] = column(in, "Pal");
+    columnIds[3] = column(in, "Act");
+    columnIds[4] = column(in, "QuestFlag");
+    columnIds[5] = column(in, "QuestFlagEx");
+    columnIds[6] = column(in, "Layer");
+    columnIds[7] = column(in, "SizeX");
+    columnIds[8] = column(in, "SizeY");
+    columnIds[9] = column(in, "OffsetX");
+    columnIds[10] = column(in, "OffsetY");
+    columnIds[11] = column(in, "Depend");
+    columnIds[12] = column(in, "Teleport");
+    columnIds[13] = column(in, "Rain");
+    columnIds[14] = column(in, "Mud");
+    columnIds[15] = column(in, "NoPer");
+    columnIds[16] = column(in, "LOSDraw");
+    columnIds[17] = column(in, "FloorFilter");
+    columnIds[18] = column(in, "BlankScreen");
+    columnIds[19] = column(in, "DrawEdges");
+    columnIds[20] = column(in, "IsInside");
+    columnIds[21] = column(in, "DrlgType");
+    columnIds[22] = column(in, "LevelType");
+    columnIds[23] = column(in, "SubType");
+    columnIds[24] = column(in, "SubTheme");
+    columnIds[25] = column(in, "SubWaypoint");
+    columnIds[26] = column(in, "SubShrine");
+    columnIds[27] = column(in, "Vis");
+    columnIds[28] = column(in, "Warp");
+    columnIds[29] = column(in, "Intensity");
+    columnIds[30] = column(in, "Red");
+    columnIds[31] = column(in, "Green");
+    columnIds[32] = column(in, "Blue");
+    columnIds[33] = column(in, "Portal");
+    columnIds[34] = column(in, "Position");
+    columnIds[35] = column(in, "SaveMonsters");
+    columnIds[36] = column(in, "Quest");
+    columnIds[37] = column(in, "WarpDist");
+    columnIds[38] = column(in, "MonLvl");
+    columnIds[39] = column(in, "MonLvlEx");
+    columnIds[40] = column(in, "MonDen");
+    columnIds[41] = column(in, "MonUMin");
+    columnIds[42] = column(in, "MonUMax");
+    columnIds[43] = column(in, "MonWndr");
+    columnIds[44] = column(in, "MonSpcWalk");
+    columnIds[45] = column(in, "NumMon");
+    columnIds[46] = column(in, "mon");
+    columnIds[47] = column(in, "rangedspawn");
+    columnIds[48] = column(in, "nmon");
+    columnIds[49] = column(in, "umon");
+    columnIds[50] = column(in, "cmon");
+    columnIds[51] = column(in, "cpct");
+    columnIds[52] = column(in, "camt");
+    columnIds[53] = column(in, "Themes");
+    columnIds[54] = column(in, "SoundEnv");
+    columnIds[55] = column(in, "Waypoint");
+    columnIds[56] = column(in, "LevelName");
+    columnIds[57] = column(in, "LevelWarp");
+    columnIds[58] = column(in, "EntryFile");
+    columnIds[59] = column(in, "ObjGrp");
+    columnIds[60] = column(in, "ObjPrb");
+    columnIds[61] = column(in, "Beta");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Levels.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Id = in.getInt(row, columnIds[1]);
+    entry.Pal = in.getInt(row, columnIds[2]);
+    entry.Act = in.getInt(row, columnIds[3]);
+    entry.QuestFlag = in.getInt(row, columnIds[4]);
+    entry.QuestFlagEx = in.getInt(row, columnIds[5]);
+    entry.Layer = in.getInt(row, columnIds[6]);
+    entry.SizeX = in.getInts(row, columnIds[7]);
+    entry.SizeY = in.getInts(row, columnIds[8]);
+    entry.OffsetX = in.getInt(row, columnIds[9]);
+    entry.OffsetY = in.getInt(row, columnIds[10]);
+    entry.Depend = in.getInt(row, columnIds[11]);
+    entry.Teleport = in.getInt(row, columnIds[12]);
+    entry.Rain = in.getBoolean(row, columnIds[13]);
+    entry.Mud = in.getBoolean(row, columnIds[14]);
+    entry.NoPer = in.getBoolean(row, columnIds[15]);
+    entry.LOSDraw = in.getBoolean(row, columnIds[16]);
+    entry.FloorFilter = in.getBoolean(row, columnIds[17]);
+    entry.BlankScreen = in.getBoolean(row, columnIds[18]);
+    entry.DrawEdges = in.getBoolean(row, columnIds[19]);
+    entry.IsInside = in.getBoolean(row, columnIds[20]);
+    entry.DrlgType = in.getInt(row, columnIds[21]);
+    entry.LevelType = in.getInt(row, columnIds[22]);
+    entry.SubType = in.getInt(row, columnIds[23]);
+    entry.SubTheme = in.getInt(row, columnIds[24]);
+    entry.SubWaypoint = in.getInt(row, columnIds[25]);
+    entry.SubShrine = in.getInt(row, columnIds[26]);
+    entry.Vis = in.getInts(row, columnIds[27]);
+    entry.Warp = in.getInts(row, columnIds[28]);
+    entry.Intensity = in.getInt(row, columnIds[29]);
+    entry.Red = in.getInt(row, columnIds[30]);
+    entry.Green = in.getInt(row, columnIds[31]);
+    entry.Blue = in.getInt(row, columnIds[32]);
+    entry.Portal = in.getBoolean(row, columnIds[33]);
+    entry.Position = in.getBoolean(row, columnIds[34]);
+    entry.SaveMonsters = in.getBoolean(row, columnIds[35]);
+    entry.Quest = in.getInt(row, columnIds[36]);
+    entry.WarpDist = in.getInt(row, columnIds[37]);
+    entry.MonLvl = in.getInts(row, columnIds[38]);
+    entry.MonLvlEx = in.getInts(row, columnIds[39]);
+    entry.MonDen = in.getInts(row, columnIds[40]);
+    entry.MonUMin = in.getInts(row, columnIds[41]);
+    entry.MonUMax = in.getInts(row, columnIds[42]);
+    entry.MonWndr = in.getBoolean(row, columnIds[43]);
+    entry.MonSpcWalk = in.getInt(row, columnIds[44]);
+    entry.NumMon = in.getInt(row, columnIds[45]);
+    entry.mon = in.getStrings(row, columnIds[46]);
+    entry.rangedspawn = in.getBoolean(row, columnIds[47]);
+    entry.nmon = in.getStrings(row, columnIds[48]);
+    entry.umon = in.getStrings(row, columnIds[49]);
+    entry.cmon = in.getStrings(row, columnIds[50]);
+    entry.cpct = in.getInts(row, columnIds[51]);
+    entry.camt = in.getInts(row, columnIds[52]);
+    entry.Themes = in.getInt(row, columnIds[53]);
+    entry.SoundEnv = in.getInt(row, columnIds[54]);
+    entry.Waypoint = in.getInt(row, columnIds[55]);
+    entry.LevelName = in.getString(row, columnIds[56]);
+    entry.LevelWarp = in.getString(row, columnIds[57]);
+    entry.EntryFile = in.getString(row, columnIds[58]);
+    entry.ObjGrp = in.getInts(row, columnIds[59]);
+    entry.ObjPrb = in.getInts(row, columnIds[60]);
+    entry.Beta = in.getBoolean(row, columnIds[61]);
+  }
+
+  @Override
+  public boolean equal(Levels.Entry e1, Levels.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && e1.Id == e2.Id
+        && e1.Pal == e2.Pal
+        && e1.Act == e2.Act
+        && e1.QuestFlag == e2.QuestFlag
+        && e1.QuestFlagEx == e2.QuestFlagEx
+        && e1.Layer == e2.Layer
+        && Arrays.equals(e1.SizeX, e2.SizeX)
+        && Arrays.equals(e1.SizeY, e2.SizeY)
+        && e1.OffsetX == e2.OffsetX
+        && e1.OffsetY == e2.OffsetY
+        && e1.Depend == e2.Depend
+        && e1.Teleport == e2.Teleport
+        && e1.Rain == e2.Rain
+        && e1.Mud == e2.Mud
+        && e1.NoPer == e2.NoPer
+        && e1.LOSDraw == e2.LOSDraw
+        && e1.FloorFilter == e2.FloorFilter
+        && e1.BlankScreen == e2.BlankScreen
+        && e1.DrawEdges == e2.DrawEdges
+        && e1.IsInside == e2.IsInside
+        && e1.DrlgType == e2.DrlgType
+        && e1.LevelType == e2.LevelType
+        && e1.SubType == e2.SubType
+        && e1.SubTheme == e2.SubTheme
+        && e1.SubWaypoint == e2.SubWaypoint
+        && e1.SubShrine == e2.SubShrine
+        && Arrays.equals(e1.Vis, e2.Vis)
+        && Arrays.equals(e1.Warp, e2.Warp)
+        && e1.Intensity == e2.Intensity
+        && e1.Red == e2.Red
+        && e1.Green == e2.Green
+        && e1.Blue == e2.Blue
+        && e1.Portal == e2.Portal
+        && e1.Position == e2.Position
+        && e1.SaveMonsters == e2.SaveMonsters
+        && e1.Quest == e2.Quest
+        && e1.WarpDist == e2.WarpDist
+        && Arrays.equals(e1.MonLvl, e2.MonLvl)
+        && Arrays.equals(e1.MonLvlEx, e2.MonLvlEx)
+        && Arrays.equals(e1.MonDen, e2.MonDen)
+        && Arrays.equals(e1.MonUMin, e2.MonUMin)
+        && Arrays.equals(e1.MonUMax, e2.MonUMax)
+        && e1.MonWndr == e2.MonWndr
+        && e1.MonSpcWalk == e2.MonSpcWalk
+        && e1.NumMon == e2.NumMon
+        && Arrays.equals(e1.mon, e2.mon)
+        && e1.rangedspawn == e2.rangedspawn
+        && Arrays.equals(e1.nmon, e2.nmon)
+        && Arrays.equals(e1.umon, e2.umon)
+        && Arrays.equals(e1.cmon, e2.cmon)
+        && Arrays.equals(e1.cpct, e2.cpct)
+        && Arrays.equals(e1.camt, e2.camt)
+        && e1.Themes == e2.Themes
+        && e1.SoundEnv == e2.SoundEnv
+        && e1.Waypoint == e2.Waypoint
+        && StringUtils.equals(e1.LevelName, e2.LevelName)
+        && StringUtils.equals(e1.LevelWarp, e2.LevelWarp)
+        && StringUtils.equals(e1.EntryFile, e2.EntryFile)
+        && Arrays.equals(e1.ObjGrp, e2.ObjGrp)
+        && Arrays.equals(e1.ObjPrb, e2.ObjPrb)
+        && e1.Beta == e2.Beta;
+  }
+}
@@ -0,0 +1,65 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link LowQualityItems.Entry}, do not modify.
+ */
+public final class LowQualityItemsLoader extends Excel.Loader<LowQualityItems.Entry> {
+  private int Name;
+  private final int[] columnIds = new int[1];
+
+  public LowQualityItemsLoader() {
+    super("Name");
+  }
+
+  @Override
+  public LowQualityItems.Entry newEntry() {
+    return new LowQualityItems.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INDEX;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, LowQualityItems.Entry entry) {
+    entry.Name = in.getString(Name);
+  }
+
+  @Override
+  public void readBin(DataInput in, LowQualityItems.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, LowQualityItems.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, LowQualityItems.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+  }
+
+  @Override
+  public boolean equal(LowQualityItems.Entry e1, LowQualityItems.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name);
+  }
+}
@@ -0,0 +1,228 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link LvlPrest.Entry}, do not modify.
+ */
+public final class LvlPrestLoader extends Excel.Loader<LvlPrest.Entry> {
+  private int Name;
+  private int Def;
+  private int LevelId;
+  private int Populate;
+  private int Logicals;
+  private int Outdoors;
+  private int Animate;
+  private int KillEdge;
+  private int FillBlanks;
+  private int SizeX;
+  private int SizeY;
+  private int AutoMap;
+  private int Scan;
+  private int Pops;
+  private int PopPad;
+  private int Files;
+  private int[] File;
+  private int Dt1Mask;
+  private int Beta;
+  private int Expansion;
+  private final int[] columnIds = new int[20];
+
+  public LvlPrestLoader() {
+    super("Name", "Def", "LevelId", "Populate", "Logicals", "Outdoors", "Animate", "KillEdge", "FillBlanks", "SizeX", "SizeY", "AutoMap", "Scan", "Pops", "PopPad", "Files", "File", "Dt1Mask", "Beta", "Expansion");
+  }
+
+  @Override
+  public LvlPrest.Entry newEntry() {
+    return new LvlPrest.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Def";
+  }
+
+  @Override
+  public int intKey(LvlPrest.Entry entry) {
+    return entry.Def;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Def = in.getColumnId("Def");
+    LevelId = in.getColumnId("LevelId");
+    Populate = in.getColumnId("Populate");
+    Logicals = in.getColumnId("Logicals");
+    Outdoors = in.getColumnId("Outdoors");
+    Animate = in.getColumnId("Animate");
+    KillEdge = in.getColumnId("KillEdge");
+    FillBlanks = in.getColumnId("FillBlanks");
+    SizeX = in.getColumnId("SizeX");
+    SizeY = in.getColumnId("SizeY");
+    AutoMap = in.getColumnId("AutoMap");
+    Scan = in.getColumnId("Scan");
+    Pops = in.getColumnId("Pops");
+    PopPad = in.getColumnId("PopPad");
+    Files = in.getColumnId("Files");
+    File = in.getColumnId(new String[] { "File1", "File2", "File3", "File4", "File5", "File6" });
+    Dt1Mask = in.getColumnId("Dt1Mask");
+    Beta = in.getColumnId("Beta");
+    Expansion = in.getColumnId("Expansion");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, LvlPrest.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Def = in.getInt(Def);
+    entry.LevelId = in.getInt(LevelId);
+    entry.Populate = in.getBoolean(Populate);
+    entry.Logicals = in.getBoolean(Logicals);
+    entry.Outdoors = in.getBoolean(Outdoors);
+    entry.Animate = in.getBoolean(Animate);
+    entry.KillEdge = in.getBoolean(KillEdge);
+    entry.FillBlanks = in.getBoolean(FillBlanks);
+    entry.SizeX = in.getInt(SizeX);
+    entry.SizeY = in.getInt(SizeY);
+    entry.AutoMap = in.getBoolean(AutoMap);
+    entry.Scan = in.getBoolean(Scan);
+    entry.Pops = in.getInt(Pops);
+    entry.PopPad = in.getInt(PopPad);
+    entry.Files = in.getInt(Files);
+    entry.File = in.getString(File);
+    entry.Dt1Mask = in.getInt(Dt1Mask);
+    entry.Beta = in.getBoolean(Beta);
+    entry.Expansion = in.getBoolean(Expansion);
+  }
+
+  @Override
+  public void readBin(DataInput in, LvlPrest.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Def = in.readInt();
+    entry.LevelId = in.readInt();
+    entry.Populate = in.readBoolean();
+    entry.Logicals = in.readBoolean();
+    entry.Outdoors = in.readBoolean();
+    entry.Animate = in.readBoolean();
+    entry.KillEdge = in.readBoolean();
+    entry.FillBlanks = in.readBoolean();
+    entry.SizeX = in.readInt();
+    entry.SizeY = in.readInt();
+    entry.AutoMap = in.readBoolean();
+    entry.Scan = in.readBoolean();
+    entry.Pops = in.readInt();
+    entry.PopPad = in.readInt();
+    entry.Files = in.readInt();
+    entry.File = new String[6];
+    for (int x = 0; x < 6; x++) entry.File[x] = in.readUTF();
+    entry.Dt1Mask = in.readInt();
+    entry.Beta = in.readBoolean();
+    entry.Expansion = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, LvlPrest.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeInt(entry.Def);
+    out.writeInt(entry.LevelId);
+    out.writeBoolean(entry.Populate);
+    out.writeBoolean(entry.Logicals);
+    out.writeBoolean(entry.Outdoors);
+    out.writeBoolean(entry.Animate);
+    out.writeBoolean(entry.KillEdge);
+    out.writeBoolean(entry.FillBlanks);
+    out.writeInt(entry.SizeX);
+    out.writeInt(entry.SizeY);
+    out.writeBoolean(entry.AutoMap);
+    out.writeBoolean(entry.Scan);
+    out.writeInt(entry.Pops);
+    out.writeInt(entry.PopPad);
+    out.writeInt(entry.Files);
+    for (String x : entry.File) out.writeUTF(x);
+    out.writeInt(entry.Dt1Mask);
+    out.writeBoolean(entry.Beta);
+    out.writeBoolean(entry.Expansion);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Def");
+    columnIds[2] = column(in, "LevelId");
+    columnIds[3] = column(in, "Populate");
+    columnIds[4] = column(in, "Logicals");
+    columnIds[5] = column(in, "Outdoors");
+    columnIds[6] = column(in, "Animate");
+    columnIds[7] = column(in, "KillEdge");
+    columnIds[8] = column(in, "FillBlanks");
+    columnIds[9] = column(in, "SizeX");
+    columnIds[10] = column(in, "SizeY");
+    columnIds[11] = column(in, "AutoMap");
+    columnIds[12] = column(in, "Scan");
+    columnIds[13] = column(in, "Pops");
+    columnIds[14] = column(in, "PopPad");
+    columnIds[15] = column(in, "Files");
+    columnIds[16] = column(in, "File");
+    columnIds[17] = column(in, "Dt1Mask");
+    columnIds[18] = column(in, "Beta");
+    columnIds[19] = column(in, "Expansion");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, LvlPrest.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Def = in.getInt(row, columnIds[1]);
+    entry.LevelId = in.getInt(row, columnIds[2]);
+    entry.Populate = in.getBoolean(row, columnIds[3]);
+    entry.Logicals = in.getBoolean(row, columnIds[4]);
+    entry.Outdoors = in.getBoolean(row, columnIds[5]);
+    entry.Animate = in.getBoolean(row, columnIds[6]);
+    entry.KillEdge = in.getBoolean(row, columnIds[7]);
+    entry.FillBlanks = in.getBoolean(row, columnIds[8]);
+    entry.SizeX = in.getInt(row, columnIds[9]);
+    entry.SizeY = in.getInt(row, columnIds[10]);
+    entry.AutoMap = in.getBoolean(row, columnIds[11]);
+    entry.Scan = in.getBoolean(row, columnIds[12]);
+    entry.Pops = in.getInt(row, columnIds[13]);
+    entry.PopPad = in.getInt(row, columnIds[14]);
+    entry.Files = in.getInt(row, columnIds[15]);
+    entry.File = in.getStrings(row, columnIds[16]);
+    entry.Dt1Mask = in.getInt(row, columnIds[17]);
+    entry.Beta = in.getBoolean(row, columnIds[18]);
+    entry.Expansion = in.getBoolean(row, columnIds[19]);
+  }
+
+  @Override
+  public boolean equal(LvlPrest.Entry e1, LvlPrest.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && e1.Def == e2.Def
+        && e1.LevelId == e2.LevelId
+        && e1.Populate == e2.Populate
+        && e1.Logicals == e2.Logicals
+        && e1.Outdoors == e2.Outdoors
+        && e1.Animate == e2.Animate
+        && e1.KillEdge == e2.KillEdge
+        && e1.FillBlanks == e2.FillBlanks
+        && e1.SizeX == e2.SizeX
+        && e1.SizeY == e2.SizeY
+        && e1.AutoMap == e2.AutoMap
+        && e1.Scan == e2.Scan
+        && e1.Pops == e2.Pops
+        && e1.PopPad == e2.PopPad
+        && e1.Files == e2.Files
+        && Arrays.equals(e1.File, e2.File)
+        && e1.Dt1Mask == e2.Dt1Mask
+        && e1.Beta == e2.Beta
+        && e1.Expansion == e2.Expansion;
+  }
+}
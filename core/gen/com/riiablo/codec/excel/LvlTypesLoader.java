@@ -0,0 +1,116 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link LvlTypes.Entry}, do not modify.
+ */
+public final class LvlTypesLoader extends Excel.Loader<LvlTypes.Entry> {
+  private int Name;
+  private int Id;
+  private int[] File;
+  private int Beta;
+  private int Act;
+  private int Expansion;
+  private final int[] columnIds = new int[6];
+
+  public LvlTypesLoader() {
+    super("Name", "Id", "File", "Beta", "Act", "Expansion");
+  }
+
+  @Override
+  public LvlTypes.Entry newEntry() {
+    return new LvlTypes.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public int intKey(LvlTypes.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Id = in.getColumnId("Id");
+    File = in.getColumnId(new String[] { "File 1", "File 2", "File 3", "File 4", "File 5", "File 6", "File 7", "File 8", "File 9", "File 10", "File 11", "File 12", "File 13", "File 14", "File 15", "File 16", "File 17", "File 18", "File 19", "File 20", "File 21", "File 22", "File 23", "File 24", "File 25", "File 26", "File 27", "File 28", "File 29", "File 30", "File 31", "File 32" });
+    Beta = in.getColumnId("Beta");
+    Act = in.getColumnId("Act");
+    Expansion = in.getColumnId("Expansion");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, LvlTypes.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Id = in.getInt(Id);
+    entry.File = in.getString(File);
+    entry.Beta = in.getBoolean(Beta);
+    entry.Act = in.getInt(Act);
+    entry.Expansion = in.getBoolean(Expansion);
+  }
+
+  @Override
+  public void readBin(DataInput in, LvlTypes.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Id = in.readInt();
+    entry.File = new String[32];
+    for (int x = 0; x < 32; x++) entry.File[x] = in.readUTF();
+    entry.Beta = in.readBoolean();
+    entry.Act = in.readInt();
+    entry.Expansion = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, LvlTypes.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeInt(entry.Id);
+    for (String x : entry.File) out.writeUTF(x);
+    out.writeBoolean(entry.Beta);
+    out.writeInt(entry.Act);
+    out.writeBoolean(entry.Expansion);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Id");
+    columnIds[2] = column(in, "File");
+    columnIds[3] = column(in, "Beta");
+    columnIds[4] = column(in, "Act");
+    columnIds[5] = column(in, "Expansion");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, LvlTypes.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Id = in.getInt(row, columnIds[1]);
+    entry.File = in.getStrings(row, columnIds[2]);
+    entry.Beta = in.getBoolean(row, columnIds[3]);
+    entry.Act = in.getInt(row, columnIds[4]);
+    entry.Expansion = in.getBoolean(row, columnIds[5]);
+  }
+
+  @Override
+  public boolean equal(LvlTypes.Entry e1, LvlTypes.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && e1.Id == e2.Id
+        && Arrays.equals(e1.File, e2.File)
+        && e1.Beta == e2.Beta
+        && e1.Act == e2.Act
+        && e1.Expansion == e2.Expansion;
+  }
+}
@@ -0,0 +1,179 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link LvlWarp.Entry}, do not modify.
+ */
+public final class LvlWarpLoader extends Excel.Loader<LvlWarp.Entry> {
+  private int Name;
+  private int Id;
+  private int SelectX;
+  private int SelectY;
+  private int SelectDX;
+  private int SelectDY;
+  private int ExitWalkX;
+  private int ExitWalkY;
+  private int OffsetX;
+  private int OffsetY;
+  private int LitVersion;
+  private int Tiles;
+  private int Direction;
+  private int Beta;
+  private final int[] columnIds = new int[14];
+
+  public LvlWarpLoader() {
+    super("Name", "Id", "SelectX", "SelectY", "SelectDX", "SelectDY", "ExitWalkX", "ExitWalkY", "OffsetX", "OffsetY", "LitVersion", "Tiles", "Direction", "Beta");
+  }
+
+  @Override
+  public LvlWarp.Entry newEntry() {
+    return new LvlWarp.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public int intKey(LvlWarp.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Id = in.getColumnId("Id");
+    SelectX = in.getColumnId("SelectX");
+    SelectY = in.getColumnId("SelectY");
+    SelectDX = in.getColumnId("SelectDX");
+    SelectDY = in.getColumnId("SelectDY");
+    ExitWalkX = in.getColumnId("ExitWalkX");
+    ExitWalkY = in.getColumnId("ExitWalkY");
+    OffsetX = in.getColumnId("OffsetX");
+    OffsetY = in.getColumnId("OffsetY");
+    LitVersion = in.getColumnId("LitVersion");
+    Tiles = in.getColumnId("Tiles");
+    Direction = in.getColumnId("Direction");
+    Beta = in.getColumnId("Beta");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, LvlWarp.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Id = in.getInt(Id);
+    entry.SelectX = in.getInt(SelectX);
+    entry.SelectY = in.getInt(SelectY);
+    entry.SelectDX = in.getInt(SelectDX);
+    entry.SelectDY = in.getInt(SelectDY);
+    entry.ExitWalkX = in.getInt(ExitWalkX);
+    entry.ExitWalkY = in.getInt(ExitWalkY);
+    entry.OffsetX = in.getInt(OffsetX);
+    entry.OffsetY = in.getInt(OffsetY);
+    entry.LitVersion = in.getBoolean(LitVersion);
+    entry.Tiles = in.getInt(Tiles);
+    entry.Direction = in.getString(Direction);
+    entry.Beta = in.getBoolean(Beta);
+  }
+
+  @Override
+  public void readBin(DataInput in, LvlWarp.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Id = in.readInt();
+    entry.SelectX = in.readInt();
+    entry.SelectY = in.readInt();
+    entry.SelectDX = in.readInt();
+    entry.SelectDY = in.readInt();
+    entry.ExitWalkX = in.readInt();
+    entry.ExitWalkY = in.readInt();
+    entry.OffsetX = in.readInt();
+    entry.OffsetY = in.readInt();
+    entry.LitVersion = in.readBoolean();
+    entry.Tiles = in.readInt();
+    entry.Direction = in.readUTF();
+    entry.Beta = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, LvlWarp.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeInt(entry.Id);
+    out.writeInt(entry.SelectX);
+    out.writeInt(entry.SelectY);
+    out.writeInt(entry.SelectDX);
+    out.writeInt(entry.SelectDY);
+    out.writeInt(entry.ExitWalkX);
+    out.writeInt(entry.ExitWalkY);
+    out.writeInt(entry.OffsetX);
+    out.writeInt(entry.OffsetY);
+    out.writeBoolean(entry.LitVersion);
+    out.writeInt(entry.Tiles);
+    out.writeUTF(entry.Direction);
+    out.writeBoolean(entry.Beta);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Id");
+    columnIds[2] = column(in, "SelectX");
+    columnIds[3] = column(in, "SelectY");
+    columnIds[4] = column(in, "SelectDX");
+    columnIds[5] = column(in, "SelectDY");
+    columnIds[6] = column(in, "ExitWalkX");
+    columnIds[7] = column(in, "ExitWalkY");
+    columnIds[8] = column(in, "OffsetX");
+    columnIds[9] = column(in, "OffsetY");
+    columnIds[10] = column(in, "LitVersion");
+    columnIds[11] = column(in, "Tiles");
+    columnIds[12] = column(in, "Direction");
+    columnIds[13] = column(in, "Beta");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, LvlWarp.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Id = in.getInt(row, columnIds[1]);
+    entry.SelectX = in.getInt(row, columnIds[2]);
+    entry.SelectY = in.getInt(row, columnIds[3]);
+    entry.SelectDX = in.getInt(row, columnIds[4]);
+    entry.SelectDY = in.getInt(row, columnIds[5]);
+    entry.ExitWalkX = in.getInt(row, columnIds[6]);
+    entry.ExitWalkY = in.getInt(row, columnIds[7]);
+    entry.OffsetX = in.getInt(row, columnIds[8]);
+    entry.OffsetY = in.getInt(row, columnIds[9]);
+    entry.LitVersion = in.getBoolean(row, columnIds[10]);
+    entry.Tiles = in.getInt(row, columnIds[11]);
+    entry.Direction = in.getString(row, columnIds[12]);
+    entry.Beta = in.getBoolean(row, columnIds[13]);
+  }
+
+  @Override
+  public boolean equal(LvlWarp.Entry e1, LvlWarp.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && e1.Id == e2.Id
+        && e1.SelectX == e2.SelectX
+        && e1.SelectY == e2.SelectY
+        && e1.SelectDX == e2.SelectDX
+        && e1.SelectDY == e2.SelectDY
+        && e1.ExitWalkX == e2.ExitWalkX
+        && e1.ExitWalkY == e2.ExitWalkY
+        && e1.OffsetX == e2.OffsetX
+        && e1.OffsetY == e2.OffsetY
+        && e1.LitVersion == e2.LitVersion
+        && e1.Tiles == e2.Tiles
+        && StringUtils.equals(e1.Direction, e2.Direction)
+        && e1.Beta == e2.Beta;
+  }
+}
@@ -0,0 +1,395 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link MagicPrefix.Entry}, do not modify.
+ */
+public final class MagicPrefixLoader extends Excel.Loader<MagicPrefix.Entry> {
+  private int mod1code;
+  private int mod1param;
+  private int mod1min;
+  private int mod1max;
+  private int mod2code;
+  private int mod2param;
+  private int mod2min;
+  private int mod2max;
+  private int mod3code;
+  private int mod3param;
+  private int mod3min;
+  private int mod3max;
+  private int itype1;
+  private int itype2;
+  private int itype3;
+  private int itype4;
+  private int itype5;
+  private int itype6;
+  private int itype7;
+  private int etype1;
+  private int etype2;
+  private int etype3;
+  private int etype4;
+  private int etype5;
+  private int spawnable;
+  private int rare;
+  private int level;
+  private int maxlevel;
+  private int levelreq;
+  private int classspecific;
+  private int _class;
+  private int classlevelreq;
+  private int frequency;
+  private int group;
+  private int transform;
+  private int transformcolor;
+  private int name;
+  private int version;
+  private int add;
+  private int multiply;
+  private int divide;
+  private final int[] columnIds = new int[41];
+
+  public MagicPrefixLoader() {
+    super("mod1code", "mod1param", "mod1min", "mod1max", "mod2code", "mod2param", "mod2min", "mod2max", "mod3code", "mod3param", "mod3min", "mod3max", "itype1", "itype2", "itype3", "itype4", "itype5", "itype6", "itype7", "etype1", "etype2", "etype3", "etype4", "etype5", "spawnable", "rare", "level", "maxlevel", "levelreq", "classspecific", "_class", "classlevelreq", "frequency", "group", "transform", "transformcolor", "name", "version", "add", "multiply", "divide");
+  }
+
+  @Override
+  public MagicPrefix.Entry newEntry() {
+    return new MagicPrefix.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "name";
+  }
+
+  @Override
+  public String stringKey(MagicPrefix.Entry entry) {
+    return entry.name;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    mod1code = in.getColumnId("mod1code");
+    mod1param = in.getColumnId("mod1param");
+    mod1min = in.getColumnId("mod1min");
+    mod1max = in.getColumnId("mod1max");
+    mod2code = in.getColumnId("mod2code");
+    mod2param = in.getColumnId("mod2param");
+    mod2min = in.getColumnId("mod2min");
+    mod2max = in.getColumnId("mod2max");
+    mod3code = in.getColumnId("mod3code");
+    mod3param = in.getColumnId("mod3param");
+    mod3min = in.getColumnId("mod3min");
+    mod3max = in.getColumnId("mod3max");
+    itype1 = in.getColumnId("itype1");
+    itype2 = in.getColumnId("itype2");
+    itype3 = in.getColumnId("itype3");
+    itype4 = in.getColumnId("itype4");
+    itype5 = in.getColumnId("itype5");
+    itype6 = in.getColumnId("itype6");
+    itype7 = in.getColumnId("itype7");
+    etype1 = in.getColumnId("etype1");
+    etype2 = in.getColumnId("etype2");
+    etype3 = in.getColumnId("etype3");
+    etype4 = in.getColumnId("etype4");
+    etype5 = in.getColumnId("etype5");
+    spawnable = in.getColumnId("spawnable");
+    rare = in.getColumnId("rare");
+    level = in.getColumnId("level");
+    maxlevel = in.getColumnId("maxlevel");
+    levelreq = in.getColumnId("levelreq");
+    classspecific = in.getColumnId("classspecific");
+    _class = in.getColumnId("class");
+    classlevelreq = in.getColumnId("classlevelreq");
+    frequency = in.getColumnId("frequency");
+    group = in.getColumnId("group");
+    transform = in.getColumnId("transform");
+    transformcolor = in.getColumnId("transformcolor");
+    name = in.getColumnId("name");
+    version = in.getColumnId("version");
+    add = in.getColumnId("add");
+    multiply = in.getColumnId("multiply");
+    divide = in.getColumnId("divide");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, MagicPrefix.Entry entry) {
+    entry.mod1code = in.getString(mod1code);
+    entry.mod1param = in.getInt(mod1param);
+    entry.mod1min = in.getInt(mod1min);
+    entry.mod1max = in.getInt(mod1max);
+    entry.mod2code = in.getString(mod2code);
+    entry.mod2param = in.getInt(mod2param);
+    entry.mod2min = in.getInt(mod2min);
+    entry.mod2max = in.getInt(mod2max);
+    entry.mod3code = in.getString(mod3code);
+    entry.mod3param = in.getInt(mod3param);
+    entry.mod3min = in.getInt(mod3min);
+    entry.mod3max = in.getInt(mod3max);
+    entry.itype1 = in.getString(itype1);
+    entry.itype2 = in.getString(itype2);
+    entry.itype3 = in.getString(itype3);
+    entry.itype4 = in.getString(itype4);
+    entry.itype5 = in.getString(itype5);
+    entry.itype6 = in.getString(itype6);
+    entry.itype7 = in.getString(itype7);
+    entry.etype1 = in.getString(etype1);
+    entry.etype2 = in.getString(etype2);
+    entry.etype3 = in.getString(etype3);
+    entry.etype4 = in.getString(etype4);
+    entry.etype5 = in.getString(etype5);
+    entry.spawnable = in.getBoolean(spawnable);
+    entry.rare = in.getBoolean(rare);
+    entry.level = in.getInt(level);
+    entry.maxlevel = in.getInt(maxlevel);
+    entry.levelreq = in.getInt(levelreq);
+    entry.classspecific = in.getString(classspecific);
+    entry._class = in.getString(_class);
+    entry.classlevelreq = in.getInt(classlevelreq);
+    entry.frequency = in.getInt(frequency);
+    entry.group = in.getInt(group);
+    entry.transform = in.getBoolean(transform);
+    entry.transformcolor = in.getString(transformcolor);
+    entry.name = in.getString(name);
+    entry.version = in.getInt(version);
+    entry.add = in.getInt(add);
+    entry.multiply = in.getInt(multiply);
+    entry.divide = in.getInt(divide);
+  }
+
+  @Override
+  public void readBin(DataInput in, MagicPrefix.Entry entry) throws IOException {
+    entry.mod1code = in.readUTF();
+    entry.mod1param = in.readInt();
+    entry.mod1min = in.readInt();
+    entry.mod1max = in.readInt();
+    entry.mod2code = in.readUTF();
+    entry.mod2param = in.readInt();
+    entry.mod2min = in.readInt();
+    entry.mod2max = in.readInt();
+    entry.mod3code = in.readUTF();
+    entry.mod3param = in.readInt();
+    entry.mod3min = in.readInt();
+    entry.mod3max = in.readInt();
+    entry.itype1 = in.readUTF();
+    entry.itype2 = in.readUTF();
+    entry.itype3 = in.readUTF();
+    entry.itype4 = in.readUTF();
+    entry.itype5 = in.readUTF();
+    entry.itype6 = in.readUTF();
+    entry.itype7 = in.readUTF();
+    entry.etype1 = in.readUTF();
+    entry.etype2 = in.readUTF();
+    entry.etype3 = in.readUTF();
+    entry.etype4 = in.readUTF();
+    entry.etype5 = in.readUTF();
+    entry.spawnable = in.readBoolean();
+    entry.rare = in.readBoolean();
+    entry.level = in.readInt();
+    entry.maxlevel = in.readInt();
+    entry.levelreq = in.readInt();
+    entry.classspecific = in.readUTF();
+    entry._class = in.readUTF();
+    entry.classlevelreq = in.readInt();
+    entry.frequency = in.readInt();
+    entry.group = in.readInt();
+    entry.transform = in.readBoolean();
+    entry.transformcolor = in.readUTF();
+    entry.name = in.readUTF();
+    entry.version = in.readInt();
+    entry.add = in.readInt();
+    entry.multiply = in.readInt();
+    entry.divide = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, MagicPrefix.Entry entry) throws IOException {
+    out.writeUTF(entry.mod1code);
+    out.writeInt(entry.mod1param);
+    out.writeInt(entry.mod1min);
+    out.writeInt(entry.mod1max);
+    out.writeUTF(entry.mod2code);
+    out.writeInt(entry.mod2param);
+    out.writeInt(entry.mod2min);
+    out.writeInt(entry.mod2max);
+    out.writeUTF(entry.mod3code);
+    out.writeInt(entry.mod3param);
+    out.writeInt(entry.mod3min);
+    out.writeInt(entry.mod3max);
+    out.writeUTF(entry.itype1);
+    out.writeUTF(entry.itype2);
+    out.writeUTF(entry.itype3);
+    out.writeUTF(entry.itype4);
+    out.writeUTF(entry.itype5);
+    out.writeUTF(entry.itype6);
+    out.writeUTF(entry.itype7);
+    out.writeUTF(entry.etype1);
+    out.writeUTF(entry.etype2);
+    out.writeUTF(entry.etype3);
+    out.writeUTF(entry.etype4);
+    out.writeUTF(entry.etype5);
+    out.writeBoolean(entry.spawnable);
+    out.writeBoolean(entry.rare);
+    out.writeInt(entry.level);
+    out.writeInt(entry.maxlevel);
+    out.writeInt(entry.levelreq);
+    out.writeUTF(entry.classspecific);
+    out.writeUTF(entry._class);
+    out.writeInt(entry.classlevelreq);
+    out.writeInt(entry.frequency);
+    out.writeInt(entry.group);
+    out.writeBoolean(entry.transform);
+    out.writeUTF(entry.transformcolor);
+    out.writeUTF(entry.name);
+    out.writeInt(entry.version);
+    out.writeInt(entry.add);
+    out.writeInt(entry.multiply);
+    out.writeInt(entry.divide);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "mod1code");
+    columnIds[1] = column(in, "mod1param");
+    columnIds[2] = column(in, "mod1min");
+    columnIds[3] = column(in, "mod1max");
+    columnIds[4] = column(in, "mod2code");
+    columnIds[5] = column(in, "mod2param");
+    columnIds[6] = column(in, "mod2min");
+    columnIds[7] = column(in, "mod2max");
+    columnIds[8] = column(in, "mod3code");
+    columnIds[9] = column(in, "mod3param");
+    columnIds[10] = column(in, "mod3min");
+    columnIds[11] = column(in, "mod3max");
+    columnIds[12] = column(in, "itype1");
+    columnIds[13] = column(in, "itype2");
+    columnIds[14] = column(in, "itype3");
+    columnIds[15] = column(in, "itype4");
+    columnIds[16] = column(in, "itype5");
+    columnIds[17] = column(in, "itype6");
+    columnIds[18] = column(in, "itype7");
+    columnIds[19] = column(in, "etype1");
+    columnIds[20] = column(in, "etype2");
+    columnIds[21] = column(in, "etype3");
+    columnIds[22] = column(in, "etype4");
+    columnIds[23] = column(in, "etype5");
+    columnIds[24] = column(in, "spawnable");
+    columnIds[25] = column(in, "rare");
+    columnIds[26] = column(in, "level");
+    columnIds[27] = column(in, "maxlevel");
+    columnIds[28] = column(in, "levelreq");
+    columnIds[29] = column(in, "classspecific");
+    columnIds[30] = column(in, "_class");
+    columnIds[31] = column(in, "classlevelreq");
+    columnIds[32] = column(in, "frequency");
+    columnIds[33] = column(in, "group");
+    columnIds[34] = column(in, "transform");
+    columnIds[35] = column(in, "transformcolor");
+    columnIds[36] = column(in, "name");
+    columnIds[37] = column(in, "version");
+    columnIds[38] = column(in, "add");
+    columnIds[39] = column(in, "multiply");
+    columnIds[40] = column(in, "divide");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, MagicPrefix.Entry entry) {
+    entry.mod1code = in.getString(row, columnIds[0]);
+    entry.mod1param = in.getInt(row, columnIds[1]);
+    entry.mod1min = in.getInt(row, columnIds[2]);
+    entry.mod1max = in.getInt(row, columnIds[3]);
+    entry.mod2code = in.getString(row, columnIds[4]);
+    entry.mod2param = in.getInt(row, columnIds[5]);
+    entry.mod2min = in.getInt(row, columnIds[6]);
+    entry.mod2max = in.getInt(row, columnIds[7]);
+    entry.mod3code = in.getString(row, columnIds[8]);
+    entry.mod3param = in.getInt(row, columnIds[9]);
+    entry.mod3min = in.getInt(row, columnIds[10]);
+    entry.mod3max = in.getInt(row, columnIds[11]);
+    entry.itype1 = in.getString(row, columnIds[12]);
+    entry.itype2 = in.getString(row, columnIds[13]);
+    entry.itype3 = in.getString(row, columnIds[14]);
+    entry.itype4 = in.getString(row, columnIds[15]);
+    entry.itype5 = in.getString(row, columnIds[16]);
+    entry.itype6 = in.getString(row, columnIds[17]);
+    entry.itype7 = in.getString(row, columnIds[18]);
+    entry.etype1 = in.getString(row, columnIds[19]);
+    entry.etype2 = in.getString(row, columnIds[20]);
+    entry.etype3 = in.getString(row, columnIds[21]);
+    entry.etype4 = in.getString(row, columnIds[22]);
+    entry.etype5 = in.getString(row, columnIds[23]);
+    entry.spawnable = in.getBoolean(row, columnIds[24]);
+    entry.rare = in.getBoolean(row, columnIds[25]);
+    entry.level = in.getInt(row, columnIds[26]);
+    entry.maxlevel = in.getInt(row, columnIds[27]);
+    entry.levelreq = in.getInt(row, columnIds[28]);
+    entry.classspecific = in.getString(row, columnIds[29]);
+    entry._class = in.getString(row, columnIds[30]);
+    entry.classlevelreq = in.getInt(row, columnIds[31]);
+    entry.frequency = in.getInt(row, columnIds[32]);
+    entry.group = in.getInt(row, columnIds[33]);
+    entry.transform = in.getBoolean(row, columnIds[34]);
+    entry.transformcolor = in.getString(row, columnIds[35]);
+    entry.name = in.getString(row, columnIds[36]);
+    entry.version = in.getInt(row, columnIds[37]);
+    entry.add = in.getInt(row, columnIds[38]);
+    entry.multiply = in.getInt(row, columnIds[39]);
+    entry.divide = in.getInt(row, columnIds[40]);
+  }
+
+  @Override
+  public boolean equal(MagicPrefix.Entry e1, MagicPrefix.Entry e2) {
+    return StringUtils.equals(e1.mod1code, e2.mod1code)
+        && e1.mod1param == e2.mod1param
+        && e1.mod1min == e2.mod1min
+        && e1.mod1max == e2.mod1max
+        && StringUtils.equals(e1.mod2code, e2.mod2code)
+        && e1.mod2param == e2.mod2param
+        && e1.mod2min == e2.mod2min
+        && e1.mod2max == e2.mod2max
+        && StringUtils.equals(e1.mod3code, e2.mod3code)
+        && e1.mod3param == e2.mod3param
+        && e1.mod3min == e2.mod3min
+        && e1.mod3max == e2.mod3max
+        && StringUtils.equals(e1.itype1, e2.itype1)
+        && StringUtils.equals(e1.itype2, e2.itype2)
+        && StringUtils.equals(e1.itype3, e2.itype3)
+        && StringUtils.equals(e1.itype4, e2.itype4)
+        && StringUtils.equals(e1.itype5, e2.itype5)
+        && StringUtils.equals(e1.itype6, e2.itype6)
+        && StringUtils.equals(e1.itype7, e2.itype7)
+        && StringUtils.equals(e1.etype1, e2.etype1)
+        && StringUtils.equals(e1.etype2, e2.etype2)
+        && StringUtils.equals(e1.etype3, e2.etype3)
+        && StringUtils.equals(e1.etype4, e2.etype4)
+        && StringUtils.equals(e1.etype5, e2.etype5)
+        && e1.spawnable == e2.spawnable
+        && e1.rare == e2.rare
+        && e1.level == e2.level
+        && e1.maxlevel == e2.maxlevel
+        && e1.levelreq == e2.levelreq
+        && StringUtils.equals(e1.classspecific, e2.classspecific)
+        && StringUtils.equals(e1._class, e2._class)
+        && e1.classlevelreq == e2.classlevelreq
+        && e1.frequency == e2.frequency
+        && e1.group == e2.group
+        && e1.transform == e2.transform
+        && StringUtils.equals(e1.transformcolor, e2.transformcolor)
+        && StringUtils.equals(e1.name, e2.name)
+        && e1.version == e2.version
+        && e1.add == e2.add
+        && e1.multiply == e2.multiply
+        && e1.divide == e2.divide;
+  }
+}
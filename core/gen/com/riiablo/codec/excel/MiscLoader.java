@@ -0,0 +1,339 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Misc.Entry}, do not modify.
+ */
+public final class MiscLoader extends Excel.Loader<Misc.Entry> {
+  private int pSpell;
+  private int spelldesc;
+  private int spelldescstr;
+  private int code;
+  private int name;
+  private int namestr;
+  private int version;
+  private int alternateGfx;
+  private int type;
+  private int type2;
+  private int component;
+  private int flippyfile;
+  private int invfile;
+  private int uniqueinvfile;
+  private int setinvfile;
+  private int Transform;
+  private int InvTrans;
+  private int invwidth;
+  private int invheight;
+  private int dropsound;
+  private int dropsfxframe;
+  private int stackable;
+  private int minstack;
+  private int maxstack;
+  private int useable;
+  private int usesound;
+  private int quest;
+  private int nodurability;
+  private int level;
+  private int levelreq;
+  private int mindam;
+  private int maxdam;
+  private int speed;
+  private int gemapplytype;
+  private final int[] columnIds = new int[34];
+
+  public MiscLoader() {
+    super("pSpell", "spelldesc", "spelldescstr", "code", "name", "namestr", "version", "alternateGfx", "type", "type2", "component", "flippyfile", "invfile", "uniqueinvfile", "setinvfile", "Transform", "InvTrans", "invwidth", "invheight", "dropsound", "dropsfxframe", "stackable", "minstack", "maxstack", "useable", "usesound", "quest", "nodurability", "level", "levelreq", "mindam", "maxdam", "speed", "gemapplytype");
+  }
+
+  @Override
+  public Misc.Entry newEntry() {
+    return new Misc.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "code";
+  }
+
+  @Override
+  public String stringKey(Misc.Entry entry) {
+    return entry.code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    pSpell = in.getColumnId("pSpell");
+    spelldesc = in.getColumnId("spelldesc");
+    spelldescstr = in.getColumnId("spelldescstr");
+    code = in.getColumnId("code");
+    name = in.getColumnId("name");
+    namestr = in.getColumnId("namestr");
+    version = in.getColumnId("version");
+    alternateGfx = in.getColumnId("alternateGfx");
+    type = in.getColumnId("type");
+    type2 = in.getColumnId("type2");
+    component = in.getColumnId("component");
+    flippyfile = in.getColumnId("flippyfile");
+    invfile = in.getColumnId("invfile");
+    uniqueinvfile = in.getColumnId("uniqueinvfile");
+    setinvfile = in.getColumnId("setinvfile");
+    Transform = in.getColumnId("Transform");
+    InvTrans = in.getColumnId("InvTrans");
+    invwidth = in.getColumnId("invwidth");
+    invheight = in.getColumnId("invheight");
+    dropsound = in.getColumnId("dropsound");
+    dropsfxframe = in.getColumnId("dropsfxframe");
+    stackable = in.getColumnId("stackable");
+    minstack = in.getColumnId("minstack");
+    maxstack = in.getColumnId("maxstack");
+    useable = in.getColumnId("useable");
+    usesound = in.getColumnId("usesound");
+    quest = in.getColumnId("quest");
+    nodurability = in.getColumnId("nodurability");
+    level = in.getColumnId("level");
+    levelreq = in.getColumnId("levelreq");
+    mindam = in.getColumnId("mindam");
+    maxdam = in.getColumnId("maxdam");
+    speed = in.getColumnId("speed");
+    gemapplytype = in.getColumnId("gemapplytype");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Misc.Entry entry) {
+    entry.pSpell = in.getInt(pSpell);
+    entry.spelldesc = in.getInt(spelldesc);
+    entry.spelldescstr = in.getString(spelldescstr);
+    entry.code = in.getString(code);
+    entry.name = in.getString(name);
+    entry.namestr = in.getString(namestr);
+    entry.version = in.getInt(version);
+    entry.alternateGfx = in.getString(alternateGfx);
+    entry.type = in.getString(type);
+    entry.type2 = in.getString(type2);
+    entry.component = in.getInt(component);
+    entry.flippyfile = in.getString(flippyfile);
+    entry.invfile = in.getString(invfile);
+    entry.uniqueinvfile = in.getString(uniqueinvfile);
+    entry.setinvfile = in.getString(setinvfile);
+    entry.Transform = in.getInt(Transform);
+    entry.InvTrans = in.getInt(InvTrans);
+    entry.invwidth = in.getInt(invwidth);
+    entry.invheight = in.getInt(invheight);
+    entry.dropsound = in.getString(dropsound);
+    entry.dropsfxframe = in.getInt(dropsfxframe);
+    entry.stackable = in.getBoolean(stackable);
+    entry.minstack = in.getInt(minstack);
+    entry.maxstack = in.getInt(maxstack);
+    entry.useable = in.getBoolean(useable);
+    entry.usesound = in.getString(usesound);
+    entry.quest = in.getInt(quest);
+    entry.nodurability = in.getBoolean(nodurability);
+    entry.level = in.getInt(level);
+    entry.levelreq = in.getInt(levelreq);
+    entry.mindam = in.getInt(mindam);
+    entry.maxdam = in.getInt(maxdam);
+    entry.speed = in.getInt(speed);
+    entry.gemapplytype = in.getInt(gemapplytype);
+  }
+
+  @Override
+  public void readBin(DataInput in, Misc.Entry entry) throws IOException {
+    entry.pSpell = in.readInt();
+    entry.spelldesc = in.readInt();
+    entry.spelldescstr = in.readUTF();
+    entry.code = in.readUTF();
+    entry.name = in.readUTF();
+    entry.namestr = in.readUTF();
+    entry.version = in.readInt();
+    entry.alternateGfx = in.readUTF();
+    entry.type = in.readUTF();
+    entry.type2 = in.readUTF();
+    entry.component = in.readInt();
+    entry.flippyfile = in.readUTF();
+    entry.invfile = in.readUTF();
+    entry.uniqueinvfile = in.readUTF();
+    entry.setinvfile = in.readUTF();
+    entry.Transform = in.readInt();
+    entry.InvTrans = in.readInt();
+    entry.invwidth = in.readInt();
+    entry.invheight = in.readInt();
+    entry.dropsound = in.readUTF();
+    entry.dropsfxframe = in.readInt();
+    entry.stackable = in.readBoolean();
+    entry.minstack = in.readInt();
+    entry.maxstack = in.readInt();
+    entry.useable = in.readBoolean();
+    entry.usesound = in.readUTF();
+    entry.quest = in.readInt();
+    entry.nodurability = in.readBoolean();
+    entry.level = in.readInt();
+    entry.levelreq = in.readInt();
+    entry.mindam = in.readInt();
+    entry.maxdam = in.readInt();
+    entry.speed = in.readInt();
+    entry.gemapplytype = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Misc.Entry entry) throws IOException {
+    out.writeInt(entry.pSpell);
+    out.writeInt(entry.spelldesc);
+    out.writeUTF(entry.spelldescstr);
+    out.writeUTF(entry.code);
+    out.writeUTF(entry.name);
+    out.writeUTF(entry.namestr);
+    out.writeInt(entry.version);
+    out.writeUTF(entry.alternateGfx);
+    out.writeUTF(entry.type);
+    out.writeUTF(entry.type2);
+    out.writeInt(entry.component);
+    out.writeUTF(entry.flippyfile);
+    out.writeUTF(entry.invfile);
+    out.writeUTF(entry.uniqueinvfile);
+    out.writeUTF(entry.setinvfile);
+    out.writeInt(entry.Transform);
+    out.writeInt(entry.InvTrans);
+    out.writeInt(entry.invwidth);
+    out.writeInt(entry.invheight);
+    out.writeUTF(entry.dropsound);
+    out.writeInt(entry.dropsfxframe);
+    out.writeBoolean(entry.stackable);
+    out.writeInt(entry.minstack);
+    out.writeInt(entry.maxstack);
+    out.writeBoolean(entry.useable);
+    out.writeUTF(entry.usesound);
+    out.writeInt(entry.quest);
+    out.writeBoolean(entry.nodurability);
+    out.writeInt(entry.level);
+    out.writeInt(entry.levelreq);
+    out.writeInt(entry.mindam);
+    out.writeInt(entry.maxdam);
+    out.writeInt(entry.speed);
+    out.writeInt(entry.gemapplytype);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "pSpell");
+    columnIds[1] = column(in, "spelldesc");
+    columnIds[2] = column(in, "spelldescstr");
+    columnIds[3] = column(in, "code");
+    columnIds[4] = column(in, "name");
+    columnIds[5] = column(in, "namestr");
+    columnIds[6] = column(in, "version");
+    columnIds[7] = column(in, "alternateGfx");
+    columnIds[8] = column(in, "type");
+    columnIds[9] = column(in, "type2");
+    columnIds[10] = column(in, "component");
+    columnIds[11] = column(in, "flippyfile");
+    columnIds[12] = column(in, "invfile");
+    columnIds[13] = column(in, "uniqueinvfile");
+    columnIds[14] = column(in, "setinvfile");
+    columnIds[15] = column(in, "Transform");
+    columnIds[16] = column(in, "InvTrans");
+    columnIds[17] = column(in, "invwidth");
+    columnIds[18] = column(in, "invheight");
+    columnIds[19] = column(in, "dropsound");
+    columnIds[20] = column(in, "dropsfxframe");
+    columnIds[21] = column(in, "stackable");
+    columnIds[22] = column(in, "minstack");
+    columnIds[23] = column(in, "maxstack");
+    columnIds[24] = column(in, "useable");
+    columnIds[25] = column(in, "usesound");
+    columnIds[26] = column(in, "quest");
+    columnIds[27] = column(in, "nodurability");
+    columnIds[28] = column(in, "level");
+    columnIds[29] = column(in, "levelreq");
+    columnIds[30] = column(in, "mindam");
+    columnIds[31] = column(in, "maxdam");
+    columnIds[32] = column(in, "speed");
+    columnIds[33] = column(in, "gemapplytype");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Misc.Entry entry) {
+    entry.pSpell = in.getInt(row, columnIds[0]);
+    entry.spelldesc = in.getInt(row, columnIds[1]);
+    entry.spelldescstr = in.getString(row, columnIds[2]);
+    entry.code = in.getString(row, columnIds[3]);
+    entry.name = in.getString(row, columnIds[4]);
+    entry.namestr = in.getString(row, columnIds[5]);
+    entry.version = in.getInt(row, columnIds[6]);
+    entry.alternateGfx = in.getString(row, columnIds[7]);
+    entry.type = in.getString(row, columnIds[8]);
+    entry.type2 = in.getString(row, columnIds[9]);
+    entry.component = in.getInt(row, columnIds[10]);
+    entry.flippyfile = in.getString(row, columnIds[11]);
+    entry.invfile = in.getString(row, columnIds[12]);
+    entry.uniqueinvfile = in.getString(row, columnIds[13]);
+    entry.setinvfile = in.getString(row, columnIds[14]);
+    entry.Transform = in.getInt(row, columnIds[15]);
+    entry.InvTrans = in.getInt(row, columnIds[16]);
+    entry.invwidth = in.getInt(row, columnIds[17]);
+    entry.invheight = in.getInt(row, columnIds[18]);
+    entry.dropsound = in.getString(row, columnIds[19]);
+    entry.dropsfxframe = in.getInt(row, columnIds[20]);
+    entry.stackable = in.getBoolean(row, columnIds[21]);
+    entry.minstack = in.getInt(row, columnIds[22]);
+    entry.maxstack = in.getInt(row, columnIds[23]);
+    entry.useable = in.getBoolean(row, columnIds[24]);
+    entry.usesound = in.getString(row, columnIds[25]);
+    entry.quest = in.getInt(row, columnIds[26]);
+    entry.nodurability = in.getBoolean(row, columnIds[27]);
+    entry.level = in.getInt(row, columnIds[28]);
+    entry.levelreq = in.getInt(row, columnIds[29]);
+    entry.mindam = in.getInt(row, columnIds[30]);
+    entry.maxdam = in.getInt(row, columnIds[31]);
+    entry.speed = in.getInt(row, columnIds[32]);
+    entry.gemapplytype = in.getInt(row, columnIds[33]);
+  }
+
+  @Override
+  public boolean equal(Misc.Entry e1, Misc.Entry e2) {
+    return e1.pSpell == e2.pSpell
+        && e1.spelldesc == e2.spelldesc
+        && StringUtils.equals(e1.spelldescstr, e2.spelldescstr)
+        && StringUtils.equals(e1.code, e2.code)
+        && StringUtils.equals(e1.name, e2.name)
+        && StringUtils.equals(e1.namestr, e2.namestr)
+        && e1.version == e2.version
+        && StringUtils.equals(e1.alternateGfx, e2.alternateGfx)
+        && StringUtils.equals(e1.type, e2.type)
+        && StringUtils.equals(e1.type2, e2.type2)
+        && e1.component == e2.component
+        && StringUtils.equals(e1.flippyfile, e2.flippyfile)
+        && StringUtils.equals(e1.invfile, e2.invfile)
+        && StringUtils.equals(e1.uniqueinvfile, e2.uniqueinvfile)
+        && StringUtils.equals(e1.setinvfile, e2.setinvfile)
+        && e1.Transform == e2.Transform
+        && e1.InvTrans == e2.InvTrans
+        && e1.invwidth == e2.invwidth
+        && e1.invheight == e2.invheight
+        && StringUtils.equals(e1.dropsound, e2.dropsound)
+        && e1.dropsfxframe == e2.dropsfxframe
+        && e1.stackable == e2.stackable
+        && e1.minstack == e2.minstack
+        && e1.maxstack == e2.maxstack
+        && e1.useable == e2.useable
+        && StringUtils.equals(e1.usesound, e2.usesound)
+        && e1.quest == e2.quest
+        && e1.nodurability == e2.nodurability
+        && e1.level == e2.level
+        && e1.levelreq == e2.levelreq
+        && e1.mindam == e2.mindam
+        && e1.maxdam == e2.maxdam
+        && e1.speed == e2.speed
+        && e1.gemapplytype == e2.gemapplytype;
+  }
+}
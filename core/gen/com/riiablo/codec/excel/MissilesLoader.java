@@ -0,0 +1,929 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Missiles.Entry}, do not modify.
+ */
+public final class MissilesLoader extends Excel.Loader<Missiles.Entry> {
+  private int Missile;
+  private int Id;
+  private int pCltDoFunc;
+  private int pCltHitFunc;
+  private int pSrvDoFunc;
+  private int pSrvHitFunc;
+  private int pSrvDmgFunc;
+  private int SrvCalc1;
+  private int[] Param;
+  private int CltCalc1;
+  private int[] CltParam;
+  private int SHitCalc1;
+  private int[] sHitPar;
+  private int CHitCalc1;
+  private int[] cHitPar;
+  private int DmgCalc1;
+  private int[] dParam;
+  private int Vel;
+  private int MaxVel;
+  private int VelLev;
+  private int Accel;
+  private int Range;
+  private int LevRange;
+  private int Light;
+  private int Flicker;
+  private int Red;
+  private int Green;
+  private int Blue;
+  private int InitSteps;
+  private int Activate;
+  private int LoopAnim;
+  private int CelFile;
+  private int animrate;
+  private int AnimLen;
+  private int AnimSpeed;
+  private int RandStart;
+  private int SubLoop;
+  private int SubStart;
+  private int SubStop;
+  private int CollideType;
+  private int CollideKill;
+  private int CollideFriend;
+  private int LastCollide;
+  private int Collision;
+  private int ClientCol;
+  private int ClientSend;
+  private int NextHit;
+  private int NextDelay;
+  private int xoffset;
+  private int yoffset;
+  private int zoffset;
+  private int Size;
+  private int SrcTown;
+  private int CltSrcTown;
+  private int CanDestroy;
+  private int ToHit;
+  private int AlwaysExplode;
+  private int Explosion;
+  private int Town;
+  private int NoUniqueMod;
+  private int NoMultiShot;
+  private int Holy;
+  private int CanSlow;
+  private int ReturnFire;
+  private int GetHit;
+  private int SoftHit;
+  private int KnockBack;
+  private int Trans;
+  private int Qty;
+  private int Pierce;
+  private int SpecialSetup;
+  private int MissileSkill;
+  private int Skill;
+  private int ResultFlags;
+  private int HitFlags;
+  private int HitShift;
+  private int ApplyMastery;
+  private int SrcDamage;
+  private int Half2HSrc;
+  private int SrcMissDmg;
+  private int MinDamage;
+  private int[] MinLevDam;
+  private int MaxDamage;
+  private int[] MaxLevDam;
+  private int DmgSymPerCalc;
+  private int EType;
+  private int EMin;
+  private int[] MinELev;
+  private int Emax;
+  private int[] MaxELev;
+  private int EDmgSymPerCalc;
+  private int ELen;
+  private int[] ELevLen;
+  private int HitClass;
+  private int NumDirections;
+  private int LocalBlood;
+  private int DamageRate;
+  private int TravelSound;
+  private int HitSound;
+  private int ProgSound;
+  private int ProgOverlay;
+  private int ExplosionMissile;
+  private int[] SubMissile;
+  private int[] HitSubMissile;
+  private int[] CltSubMissile;
+  private int[] CltHitSubMissile;
+  private final int[] columnIds = new int[106];
+
+  public MissilesLoader() {
+    super("Missile", "Id", "pCltDoFunc", "pCltHitFunc", "pSrvDoFunc", "pSrvHitFunc", "pSrvDmgFunc", "SrvCalc1", "Param", "CltCalc1", "CltParam", "SHitCalc1", "sHitPar", "CHitCalc1", "cHitPar", "DmgCalc1", "dParam", "Vel", "MaxVel", "VelLev", "Accel", "Range", "LevRange", "Light", "Flicker", "Red", "Green", "Blue", "InitSteps", "Activate", "LoopAnim", "CelFile", "animrate", "AnimLen", "AnimSpeed", "RandStart", "SubLoop", "SubStart", "SubStop", "CollideType", "CollideKill", "CollideFriend", "LastCollide", "Collision", "ClientCol", "ClientSend", "NextHit", "NextDelay", "xoffset", "yoffset", "zoffset", "Size", "SrcTown", "CltSrcTown", "CanDestroy", "ToHit", "AlwaysExplode", "Explosion", "Town", "NoUniqueMod", "NoMultiShot", "Holy", "CanSlow", "ReturnFire", "GetHit", "SoftHit", "KnockBack", "Trans", "Qty", "Pierce", "SpecialSetup", "MissileSkill", "Skill", "ResultFlags", "HitFlags", "HitShift", "ApplyMastery", "SrcDamage", "Half2HSrc", "SrcMissDmg", "MinDamage", "MinLevDam", "MaxDamage", "MaxLevDam", "DmgSymPerCalc", "EType", "EMin", "MinELev", "Emax", "MaxELev", "EDmgSymPerCalc", "ELen", "ELevLen", "HitClass", "NumDirections", "LocalBlood", "DamageRate", "TravelSound", "HitSound", "ProgSound", "ProgOverlay", "ExplosionMissile", "SubMissile", "HitSubMissile", "CltSubMissile", "CltHitSubMissile");
+  }
+
+  @Override
+  public Missiles.Entry newEntry() {
+    return new Missiles.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Missile";
+  }
+
+  @Override
+  public String stringKey(Missiles.Entry entry) {
+    return entry.Missile;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Missile = in.getColumnId("Missile");
+    Id = in.getColumnId("Id");
+    pCltDoFunc = in.getColumnId("pCltDoFunc");
+    pCltHitFunc = in.getColumnId("pCltHitFunc");
+    pSrvDoFunc = in.getColumnId("pSrvDoFunc");
+    pSrvHitFunc = in.getColumnId("pSrvHitFunc");
+    pSrvDmgFunc = in.getColumnId("pSrvDmgFunc");
+    SrvCalc1 = in.getColumnId("SrvCalc1");
+    Param = in.getColumnId(new String[] { "Param1", "Param2", "Param3", "Param4", "Param5" });
+    CltCalc1 = in.getColumnId("CltCalc1");
+    CltParam = in.getColumnId(new String[] { "CltParam1", "CltParam2", "CltParam3", "CltParam4", "CltParam5" });
+    SHitCalc1 = in.getColumnId("SHitCalc1");
+    sHitPar = in.getColumnId(new String[] { "sHitPar1", "sHitPar2", "sHitPar3" });
+    CHitCalc1 = in.getColumnId("CHitCalc1");
+    cHitPar = in.getColumnId(new String[] { "cHitPar1", "cHitPar2", "cHitPar3" });
+    DmgCalc1 = in.getColumnId("DmgCalc1");
+    dParam = in.getColumnId(new String[] { "dParam1", "dParam2" });
+    Vel = in.getColumnId("Vel");
+    MaxVel = in.getColumnId("MaxVel");
+    VelLev = in.getColumnId("VelLev");
+    Accel = in.getColumnId("Accel");
+    Range = in.getColumnId("Range");
+    LevRange = in.getColumnId("LevRange");
+    Light = in.getColumnId("Light");
+    Flicker = in.getColumnId("Flicker");
+    Red = in.getColumnId("Red");
+    Green = in.getColumnId("Green");
+    Blue = in.getColumnId("Blue");
+    InitSteps = in.getColumnId("InitSteps");
+    Activate = in.getColumnId("Activate");
+    LoopAnim = in.getColumnId("LoopAnim");
+    CelFile = in.getColumnId("CelFile");
+    animrate = in.getColumnId("animrate");
+    AnimLen = in.getColumnId("AnimLen");
+    AnimSpeed = in.getColumnId("AnimSpeed");
+    RandStart = in.getColumnId("RandStart");
+    SubLoop = in.getColumnId("SubLoop");
+    SubStart = in.getColumnId("SubStart");
+    SubStop = in.getColumnId("SubStop");
+    CollideType = in.getColumnId("CollideType");
+    CollideKill = in.getColumnId("CollideKill");
+    CollideFriend = in.getColumnId("CollideFriend");
+    LastCollide = in.getColumnId("LastCollide");
+    Collision = in.getColumnId("Collision");
+    ClientCol = in.getColumnId("ClientCol");
+    ClientSend = in.getColumnId("ClientSend");
+    NextHit = in.getColumnId("NextHit");
+    NextDelay = in.getColumnId("NextDelay");
+    xoffset = in.getColumnId("xoffset");
+    yoffset = in.getColumnId("yoffset");
+    zoffset = in.getColumnId("zoffset");
+    Size = in.getColumnId("Size");
+    SrcTown = in.getColumnId("SrcTown");
+    CltSrcTown = in.getColumnId("CltSrcTown");
+    CanDestroy = in.getColumnId("CanDestroy");
+    ToHit = in.getColumnId("ToHit");
+    AlwaysExplode = in.getColumnId("AlwaysExplode");
+    Explosion = in.getColumnId("Explosion");
+    Town = in.getColumnId("Town");
+    NoUniqueMod = in.getColumnId("NoUniqueMod");
+    NoMultiShot = in.getColumnId("NoMultiShot");
+    Holy = in.getColumnId("Holy");
+    CanSlow = in.getColumnId("CanSlow");
+    ReturnFire = in.getColumnId("ReturnFire");
+    GetHit = in.getColumnId("GetHit");
+    SoftHit = in.getColumnId("SoftHit");
+    KnockBack = in.getColumnId("KnockBack");
+    Trans = in.getColumnId("Trans");
+    Qty = in.getColumnId("Qty");
+    Pierce = in.getColumnId("Pierce");
+    SpecialSetup = in.getColumnId("SpecialSetup");
+    MissileSkill = in.getColumnId("MissileSkill");
+    Skill = in.getColumnId("Skill");
+    ResultFlags = in.getColumnId("ResultFlags");
+    HitFlags = in.getColumnId("HitFlags");
+    HitShift = in.getColumnId("HitShift");
+    ApplyMastery = in.getColumnId("ApplyMastery");
+    SrcDamage = in.getColumnId("SrcDamage");
+    Half2HSrc = in.getColumnId("Half2HSrc");
+    SrcMissDmg = in.getColumnId("SrcMissDmg");
+    MinDamage = in.getColumnId("MinDamage");
+    MinLevDam = in.getColumnId(new String[] { "MinLevDam1", "MinLevDam2", "MinLevDam3", "MinLevDam4", "MinLevDam5" });
+    MaxDamage = in.getColumnId("MaxDamage");
+    MaxLevDam = in.getColumnId(new String[] { "MaxLevDam1", "MaxLevDam2", "MaxLevDam3", "MaxLevDam4", "MaxLevDam5" });
+    DmgSymPerCalc = in.getColumnId("DmgSymPerCalc");
+    EType = in.getColumnId("EType");
+    EMin = in.getColumnId("EMin");
+    MinELev = in.getColumnId(new String[] { "MinELev1", "MinELev2", "MinELev3", "MinELev4", "MinELev5" });
+    Emax = in.getColumnId("Emax");
+    MaxELev = in.getColumnId(new String[] { "MaxELev1", "MaxELev2", "MaxELev3", "MaxELev4", "MaxELev5" });
+    EDmgSymPerCalc = in.getColumnId("EDmgSymPerCalc");
+    ELen = in.getColumnId("ELen");
+    ELevLen = in.getColumnId(new String[] { "ELevLen1", "ELevLen2", "ELevLen3" });
+    HitClass = in.getColumnId("HitClass");
+    NumDirections = in.getColumnId("NumDirections");
+    LocalBlood = in.getColumnId("LocalBlood");
+    DamageRate = in.getColumnId("DamageRate");
+    TravelSound = in.getColumnId("TravelSound");
+    HitSound = in.getColumnId("HitSound");
+    ProgSound = in.getColumnId("ProgSound");
+    ProgOverlay = in.getColumnId("ProgOverlay");
+    ExplosionMissile = in.getColumnId("ExplosionMissile");
+    SubMissile = in.getColumnId(new String[] { "SubMissile1", "SubMissile2", "SubMissile3" });
+    HitSubMissile = in.getColumnId(new String[] { "HitSubMissile1", "HitSubMissile2", "HitSubMissile3", "HitSubMissile4" });
+    CltSubMissile = in.getColumnId(new String[] { "CltSubMissile1", "CltSubMissile2", "CltSubMissile3" });
+    CltHitSubMissile = in.getColumnId(new String[] { "CltHitSubMissile1", "CltHitSubMissile2", "CltHitSubMissile3", "CltHitSubMissile4" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Missiles.Entry entry) {
+    entry.Missile = in.getString(Missile);
+    entry.Id = in.getInt(Id);
+    entry.pCltDoFunc = in.getInt(pCltDoFunc);
+    entry.pCltHitFunc = in.getInt(pCltHitFunc);
+    entry.pSrvDoFunc = in.getInt(pSrvDoFunc);
+    entry.pSrvHitFunc = in.getInt(pSrvHitFunc);
+    entry.pSrvDmgFunc = in.getInt(pSrvDmgFunc);
+    entry.SrvCalc1 = in.getString(SrvCalc1);
+    entry.Param = in.getInt(Param);
+    entry.CltCalc1 = in.getString(CltCalc1);
+    entry.CltParam = in.getInt(CltParam);
+    entry.SHitCalc1 = in.getString(SHitCalc1);
+    entry.sHitPar = in.getInt(sHitPar);
+    entry.CHitCalc1 = in.getString(CHitCalc1);
+    entry.cHitPar = in.getInt(cHitPar);
+    entry.DmgCalc1 = in.getString(DmgCalc1);
+    entry.dParam = in.getInt(dParam);
+    entry.Vel = in.getInt(Vel);
+    entry.MaxVel = in.getInt(MaxVel);
+    entry.VelLev = in.getInt(VelLev);
+    entry.Accel = in.getInt(Accel);
+    entry.Range = in.getInt(Range);
+    entry.LevRange = in.getInt(LevRange);
+    entry.Light = in.getInt(Light);
+    entry.Flicker = in.getInt(Flicker);
+    entry.Red = in.getInt(Red);
+    entry.Green = in.getInt(Green);
+    entry.Blue = in.getInt(Blue);
+    entry.InitSteps = in.getInt(InitSteps);
+    entry.Activate = in.getInt(Activate);
+    entry.LoopAnim = in.getInt(LoopAnim);
+    entry.CelFile = in.getString(CelFile);
+    entry.animrate = in.getInt(animrate);
+    entry.AnimLen = in.getInt(AnimLen);
+    entry.AnimSpeed = in.getInt(AnimSpeed);
+    entry.RandStart = in.getInt(RandStart);
+    entry.SubLoop = in.getInt(SubLoop);
+    entry.SubStart = in.getInt(SubStart);
+    entry.SubStop = in.getInt(SubStop);
+    entry.CollideType = in.getInt(CollideType);
+    entry.CollideKill = in.getBoolean(CollideKill);
+    entry.CollideFriend = in.getBoolean(CollideFriend);
+    entry.LastCollide = in.getBoolean(LastCollide);
+    entry.Collision = in.getBoolean(Collision);
+    entry.ClientCol = in.getBoolean(ClientCol);
+    entry.ClientSend = in.getBoolean(ClientSend);
+    entry.NextHit = in.getBoolean(NextHit);
+    entry.NextDelay = in.getInt(NextDelay);
+    entry.xoffset = in.getInt(xoffset);
+    entry.yoffset = in.getInt(yoffset);
+    entry.zoffset = in.getInt(zoffset);
+    entry.Size = in.getInt(Size);
+    entry.SrcTown = in.getBoolean(SrcTown);
+    entry.CltSrcTown = in.getInt(CltSrcTown);
+    entry.CanDestroy = in.getBoolean(CanDestroy);
+    entry.ToHit = in.getBoolean(ToHit);
+    entry.AlwaysExplode = in.getBoolean(AlwaysExplode);
+    entry.Explosion = in.getInt(Explosion);
+    entry.Town = in.getBoolean(Town);
+    entry.NoUniqueMod = in.getBoolean(NoUniqueMod);
+    entry.NoMultiShot = in.getInt(NoMultiShot);
+    entry.Holy = in.getInt(Holy);
+    entry.CanSlow = in.getBoolean(CanSlow);
+    entry.ReturnFire = in.getBoolean(ReturnFire);
+    entry.GetHit = in.getBoolean(GetHit);
+    entry.SoftHit = in.getBoolean(SoftHit);
+    entry.KnockBack = in.getInt(KnockBack);
+    entry.Trans = in.getInt(Trans);
+    entry.Qty = in.getBoolean(Qty);
+    entry.Pierce = in.getBoolean(Pierce);
+    entry.SpecialSetup = in.getBoolean(SpecialSetup);
+    entry.MissileSkill = in.getBoolean(MissileSkill);
+    entry.Skill = in.getString(Skill);
+    entry.ResultFlags = in.getInt(ResultFlags);
+    entry.HitFlags = in.getInt(HitFlags);
+    entry.HitShift = in.getInt(HitShift);
+    entry.ApplyMastery = in.getBoolean(ApplyMastery);
+    entry.SrcDamage = in.getInt(SrcDamage);
+    entry.Half2HSrc = in.getBoolean(Half2HSrc);
+    entry.SrcMissDmg = in.getInt(SrcMissDmg);
+    entry.MinDamage = in.getInt(MinDamage);
+    entry.MinLevDam = in.getString(MinLevDam);
+    entry.MaxDamage = in.getString(MaxDamage);
+    entry.MaxLevDam = in.getInt(MaxLevDam);
+    entry.DmgSymPerCalc = in.getString(DmgSymPerCalc);
+    entry.EType = in.getString(EType);
+    entry.EMin = in.getInt(EMin);
+    entry.MinELev = in.getInt(MinELev);
+    entry.Emax = in.getString(Emax);
+    entry.MaxELev = in.getString(MaxELev);
+    entry.EDmgSymPerCalc = in.getString(EDmgSymPerCalc);
+    entry.ELen = in.getInt(ELen);
+    entry.ELevLen = in.getInt(ELevLen);
+    entry.HitClass = in.getInt(HitClass);
+    entry.NumDirections = in.getInt(NumDirections);
+    entry.LocalBlood = in.getBoolean(LocalBlood);
+    entry.DamageRate = in.getInt(DamageRate);
+    entry.TravelSound = in.getString(TravelSound);
+    entry.HitSound = in.getString(HitSound);
+    entry.ProgSound = in.getString(ProgSound);
+    entry.ProgOverlay = in.getString(ProgOverlay);
+    entry.ExplosionMissile = in.getString(ExplosionMissile);
+    entry.SubMissile = in.getString(SubMissile);
+    entry.HitSubMissile = in.getString(HitSubMissile);
+    entry.CltSubMissile = in.getString(CltSubMissile);
+    entry.CltHitSubMissile = in.getString(CltHitSubMissile);
+  }
+
+  @Override
+  public void readBin(DataInput in, Missiles.Entry entry) throws IOException {
+    entry.Missile = in.readUTF();
+    entry.Id = in.readInt();
+    entry.pCltDoFunc = in.readInt();
+    entry.pCltHitFunc = in.readInt();
+    entry.pSrvDoFunc = in.readInt();
+    entry.pSrvHitFunc = in.readInt();
+    entry.pSrvDmgFunc = in.readInt();
+    entry.SrvCalc1 = in.readUTF();
+    entry.Param = new int[5];
+    for (int x = 0; x < 5; x++) entry.Param[x] = in.readInt();
+    entry.CltCalc1 = in.readUTF();
+    entry.CltParam = new int[5];
+    for (int x = 0; x < 5; x++) entry.CltParam[x] = in.readInt();
+    entry.SHitCalc1 = in.readUTF();
+    entry.sHitPar = new int[3];
+    for (int x = 0; x < 3; x++) entry.sHitPar[x] = in.readInt();
+    entry.CHitCalc1 = in.readUTF();
+    entry.cHitPar = new int[3];
+    for (int x = 0; x < 3; x++) entry.cHitPar[x] = in.readInt();
+    entry.DmgCalc1 = in.readUTF();
+    entry.dParam = new int[2];
+    for (int x = 0; x < 2; x++) entry.dParam[x] = in.readInt();
+    entry.Vel = in.readInt();
+    entry.MaxVel = in.readInt();
+    entry.VelLev = in.readInt();
+    entry.Accel = in.readInt();
+    entry.Range = in.readInt();
+    entry.LevRange = in.readInt();
+    entry.Light = in.readInt();
+    entry.Flicker = in.readInt();
+    entry.Red = in.readInt();
+    entry.Green = in.readInt();
+    entry.Blue = in.readInt();
+    entry.InitSteps = in.readInt();
+    entry.Activate = in.readInt();
+    entry.LoopAnim = in.readInt();
+    entry.CelFile = in.readUTF();
+    entry.animrate = in.readInt();
+    entry.AnimLen = in.readInt();
+    entry.AnimSpeed = in.readInt();
+    entry.RandStart = in.readInt();
+    entry.SubLoop = in.readInt();
+    entry.SubStart = in.readInt();
+    entry.SubStop = in.readInt();
+    entry.CollideType = in.readInt();
+    entry.CollideKill = in.readBoolean();
+    entry.CollideFriend = in.readBoolean();
+    entry.LastCollide = in.readBoolean();
+    entry.Collision = in.readBoolean();
+    entry.ClientCol = in.readBoolean();
+    entry.ClientSend = in.readBoolean();
+    entry.NextHit = in.readBoolean();
+    entry.NextDelay = in.readInt();
+    entry.xoffset = in.readInt();
+    entry.yoffset = in.readInt();
+    entry.zoffset = in.readInt();
+    entry.Size = in.readInt();
+    entry.SrcTown = in.readBoolean();
+    entry.CltSrcTown = in.readInt();
+    entry.CanDestroy = in.readBoolean();
+    entry.ToHit = in.readBoolean();
+    entry.AlwaysExplode = in.readBoolean();
+    entry.Explosion = in.readInt();
+    entry.Town = in.readBoolean();
+    entry.NoUniqueMod = in.readBoolean();
+    entry.NoMultiShot = in.readInt();
+    entry.Holy = in.readInt();
+    entry.CanSlow = in.readBoolean();
+    entry.ReturnFire = in.readBoolean();
+    entry.GetHit = in.readBoolean();
+    entry.SoftHit = in.readBoolean();
+    entry.KnockBack = in.readInt();
+    entry.Trans = in.readInt();
+    entry.Qty = in.readBoolean();
+    entry.Pierce = in.readBoolean();
+    entry.SpecialSetup = in.readBoolean();
+    entry.MissileSkill = in.readBoolean();
+    entry.Skill = in.readUTF();
+    entry.ResultFlags = in.readInt();
+    entry.HitFlags = in.readInt();
+    entry.HitShift = in.readInt();
+    entry.ApplyMastery = in.readBoolean();
+    entry.SrcDamage = in.readInt();
+    entry.Half2HSrc = in.readBoolean();
+    entry.SrcMissDmg = in.readInt();
+    entry.MinDamage = in.readInt();
+    entry.MinLevDam = new String[5];
+    for (int x = 0; x < 5; x++) entry.MinLevDam[x] = in.readUTF();
+    entry.MaxDamage = in.readUTF();
+    entry.MaxLevDam = new int[5];
+    for (int x = 0; x < 5; x++) entry.MaxLevDam[x] = in.readInt();
+    entry.DmgSymPerCalc = in.readUTF();
+    entry.EType = in.readUTF();
+    entry.EMin = in.readInt();
+    entry.MinELev = new int[5];
+    for (int x = 0; x < 5; x++) entry.MinELev[x] = in.readInt();
+    entry.Emax = in.readUTF();
+    entry.MaxELev = new String[5];
+    for (int x = 0; x < 5; x++) entry.MaxELev[x] = in.readUTF();
+    entry.EDmgSymPerCalc = in.readUTF();
+    entry.ELen = in.readInt();
+    entry.ELevLen = new int[3];
+    for (int x = 0; x < 3; x++) entry.ELevLen[x] = in.readInt();
+    entry.HitClass = in.readInt();
+    entry.NumDirections = in.readInt();
+    entry.LocalBlood = in.readBoolean();
+    entry.DamageRate = in.readInt();
+    entry.TravelSound = in.readUTF();
+    entry.HitSound = in.readUTF();
+    entry.ProgSound = in.readUTF();
+    entry.ProgOverlay = in.readUTF();
+    entry.ExplosionMissile = in.readUTF();
+    entry.SubMissile = new String[3];
+    for (int x = 0; x < 3; x++) entry.SubMissile[x] = in.readUTF();
+    entry.HitSubMissile = new String[4];
+    for (int x = 0; x < 4; x++) entry.HitSubMissile[x] = in.readUTF();
+    entry.CltSubMissile = new String[3];
+    for (int x = 0; x < 3; x++) entry.CltSubMissile[x] = in.readUTF();
+    entry.CltHitSubMissile = new String[4];
+    for (int x = 0; x < 4; x++) entry.CltHitSubMissile[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Missiles.Entry entry) throws IOException {
+    out.writeUTF(entry.Missile);
+    out.writeInt(entry.Id);
+    out.writeInt(entry.pCltDoFunc);
+    out.writeInt(entry.pCltHitFunc);
+    out.writeInt(entry.pSrvDoFunc);
+    out.writeInt(entry.pSrvHitFunc);
+    out.writeInt(entry.pSrvDmgFunc);
+    out.writeUTF(entry.SrvCalc1);
+    for (int x : entry.Param) out.writeInt(x);
+    out.writeUTF(entry.CltCalc1);
+    for (int x : entry.CltParam) out.writeInt(x);
+    out.writeUTF(entry.SHitCalc1);
+    for (int x : entry.sHitPar) out.writeInt(x);
+    out.writeUTF(entry.CHitCalc1);
+    for (int x : entry.cHitPar) out.writeInt(x);
+    out.writeUTF(entry.DmgCalc1);
+    for (int x : entry.dParam) out.writeInt(x);
+    out.writeInt(entry.Vel);
+    out.writeInt(entry.MaxVel);
+    out.writeInt(entry.VelLev);
+    out.writeInt(entry.Accel);
+    out.writeInt(entry.Range);
+    out.writeInt(entry.LevRange);
+    out.writeInt(entry.Light);
+    out.writeInt(entry.Flicker);
+    out.writeInt(entry.Red);
+    out.writeInt(entry.Green);
+    out.writeInt(entry.Blue);
+    out.writeInt(entry.InitSteps);
+    out.writeInt(entry.Activate);
+    out.writeInt(entry.LoopAnim);
+    out.writeUTF(entry.CelFile);
+    out.writeInt(entry.animrate);
+    out.writeInt(entry.AnimLen);
+    out.writeInt(entry.AnimSpeed);
+    out.writeInt(entry.RandStart);
+    out.writeInt(entry.SubLoop);
+    out.writeInt(entry.SubStart);
+    out.writeInt(entry.SubStop);
+    out.writeInt(entry.CollideType);
+    out.writeBoolean(entry.CollideKill);
+    out.writeBoolean(entry.CollideFriend);
+    out.writeBoolean(entry.LastCollide);
+    out.writeBoolean(entry.Collision);
+    out.writeBoolean(entry.ClientCol);
+    out.writeBoolean(entry.ClientSend);
+    out.writeBoolean(entry.NextHit);
+    out.writeInt(entry.NextDelay);
+    out.writeInt(entry.xoffset);
+    out.writeInt(entry.yoffset);
+    out.writeInt(entry.zoffset);
+    out.writeInt(entry.Size);
+    out.writeBoolean(entry.SrcTown);
+    out.writeInt(entry.CltSrcTown);
+    out.writeBoolean(entry.CanDestroy);
+    out.writeBoolean(entry.ToHit);
+    out.writeBoolean(entry.AlwaysExplode);
+    out.writeInt(entry.Explosion);
+    out.writeBoolean(entry.Town);
+    out.writeBoolean(entry.NoUniqueMod);
+    out.writeInt(entry.NoMultiShot);
+    out.writeInt(entry.Holy);
+    out.writeBoolean(entry.CanSlow);
+    out.writeBoolean(entry.ReturnFire);
+    out.writeBoolean(entry.GetHit);
+    out.writeBoolean(entry.SoftHit);
+    out.writeInt(entry.KnockBack);
+    out.writeInt(entry.Trans);
+    out.writeBoolean(entry.Qty);
+    out.writeBoolean(entry.Pierce);
+    out.writeBoolean(entry.SpecialSetup);
+    out.writeBoolean(entry.MissileSkill);
+    out.writeUTF(entry.Skill);
+    out.writeInt(entry.ResultFlags);
+    out.writeInt(entry.HitFlags);
+    out.writeInt(entry.HitShift);
+    out.writeBoolean(entry.ApplyMastery);
+    out.writeInt(entry.SrcDamage);
+    out.writeBoolean(entry.Half2HSrc);
+    out.writeInt(entry.SrcMissDmg);
+    out.writeInt(entry.MinDamage);
+    for (String x : entry.MinLevDam) out.writeUTF(x);
+    out.writeUTF(entry.MaxDamage);
+    for (int x : entry.MaxLevDam) out.writeInt(x);
+    out.writeUTF(entry.DmgSymPerCalc);
+    out.writeUTF(entry.EType);
+    out.writeInt(entry.EMin);
+    for (int x : entry.MinELev) out.writeInt(x);
+    out.writeUTF(entry.Emax);
+    for (String x : entry.MaxELev) out.writeUTF(x);
+    out.writeUTF(entry.EDmgSymPerCalc);
+    out.writeInt(entry.ELen);
+    for (int x : entry.ELevLen) out.writeInt(x);
+    out.writeInt(entry.HitClass);
+    out.writeInt(entry.NumDirections);
+    out.writeBoolean(entry.LocalBlood);
+    out.writeInt(entry.DamageRate);
+    out.writeUTF(entry.TravelSound);
+    out.writeUTF(entry.HitSound);
+    out.writeUTF(entry.ProgSound);
+    out.writeUTF(entry.ProgOverlay);
+    out.writeUTF(entry.ExplosionMissile);
+    for (String x : entry.SubMissile) out.writeUTF(x);
+    for (String x : entry.HitSubMissile) out.writeUTF(x);
+    for (String x : entry.CltSubMissile) out.writeUTF(x);
+    for (String x : entry.CltHitSubMissile) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Missile");
+    columnIds[1] = column(in, "Id");
+    columnIds[2] = column(in, "pCltDoFunc");
+    columnIds[3] = column(in, "pCltHitFunc");
+    columnIds[4] = column(in, "pSrvDoFunc");
+    columnIds[5] = column(in, "pSrvHitFunc");
+    columnIds[6] = column(in, "pSrvDmgFunc");
+    columnIds[7] = column(in, "SrvCalc1");
+    columnIds[8] = column(in, "Param");
+    columnIds[9] = column(in, "CltCalc1");
+    columnIds[10] = column(in, "CltParam");
+    columnIds[11] = column(in, "SHitCalc1");
+    columnIds[12] = column(in, "sHitPar");
+    columnIds[13] = column(in, "CHitCalc1");
+    columnIds[14] = column(in, "cHitPar");
+    columnIds[15] = column(in, "DmgCalc1");
+    columnIds[16] = column(in, "dParam");
+    columnIds[17] = column(in, "Vel");
+    columnIds[18] = column(in, "MaxVel");
+    columnIds[19] = column(in, "VelLev");
+    columnIds[20] = column(in, "Accel");
+    columnIds[21] = column(in, "Range");
+    columnIds[22] = column(in, "LevRange");
+    columnIds[23] = column(in, "Light");
+    columnIds[24] = column(in, "Flicker");
+    columnIds[25] = column(in, "Red");
+    columnIds[26] = column(in, "Green");
+    columnIds[27] = column(in, "Blue");
+    columnIds[28] = column(in, "InitSteps");
+    columnIds[29] = column(in, "Activate");
+    columnIds[30] = column(in, "LoopAnim");
+    columnIds[31] = column(in, "CelFile");
+    columnIds[32] = column(in, "animrate");
+    columnIds[33] = column(in, "AnimLen");
+    columnIds[34] = column(in, "AnimSpeed");
+    columnIds[35] = column(in, "RandStart");
+    columnIds[36] = column(in, "SubLoop");
+    columnIds[37] = column(in, "SubStart");
+    columnIds[38] = column(in, "SubStop");
+    columnIds[39] = column(in, "CollideType");
+    columnIds[40] = column(in, "CollideKill");
+    columnIds[41] = column(in, "CollideFriend");
+    columnIds[42] = column(in, "LastCollide");
+    columnIds[43] = column(in, "Collision");
+    columnIds[44] = column(in, "ClientCol");
+    columnIds[45] = column(in, "ClientSend");
+    columnIds[46] = column(in, "NextHit");
+    columnIds[47] = column(in, "NextDelay");
+    columnIds[48] = column(in, "xoffset");
+    columnIds[49] = column(in, "yoffset");
+    columnIds[50] = column(in, "zoffset");
+    columnIds[51] = column(in, "Size");
+    columnIds[52] = column(in, "SrcTown");
+    columnIds[53] = column(in, "CltSrcTown");
+    columnIds[54] = column(in, "CanDestroy");
+    columnIds[55] = column(in, "ToHit");
+    columnIds[56] = column(in, "AlwaysExplode");
+    columnIds[57] = column(in, "Explosion");
+    columnIds[58] = column(in, "Town");
+    columnIds[59] = column(in, "NoUniqueMod");
+    columnIds[60] = column(in, "NoMultiShot");
+    columnIds[61] = column(in, "Holy");
+    columnIds[62] = column(in, "CanSlow");
+    columnIds[63] = column(in, "ReturnFire");
+    columnIds[64] = column(in, "GetHit");
+    columnIds[65] = column(in, "SoftHit");
+    columnIds[66] = column(in, "KnockBack");
+    columnIds[67] = column(in, "Trans");
+    columnIds[68] = column(in, "Qty");
+    columnIds[69] = column(in, "Pierce");
+    columnIds[70] = column(in, "SpecialSetup");
+    columnIds[71] = column(in, "MissileSkill");
+    columnIds[72] = column(in, "Skill");
+    columnIds[73] = column(in, "ResultFlags");
+    columnIds[74] = column(in, "HitFlags");
+    columnIds[75] = column(in, "HitShift");
+    columnIds[76] = column(in, "ApplyMastery");
+    columnIds[77] = column(in, "SrcDamage");
+    columnIds[78] = column(in, "Half2HSrc");
+    columnIds[79] = column(in, "SrcMissDmg");
+    columnIds[80] = column(in, "MinDamage");
+    columnIds[81] = column(in, "MinLevDam");
+    columnIds[82] = column(in, "MaxDamage");
+    columnIds[83] = column(in, "MaxLevDam");
+    columnIds[84] = column(in, "DmgSymPerCalc");
+    columnIds[85] = column(in, "EType");
+    columnIds[86] = column(in, "EMin");
+    columnIds[87] = column(in, "MinELev");
+    columnIds[88] = column(in, "Emax");
+    columnIds[89] = column(in, "MaxELev");
+    columnIds[90] = column(in, "EDmgSymPerCalc");
+    columnIds[91] = column(in, "ELen");
+    columnIds[92] = column(in, "ELevLen");
+    columnIds[93] = column(in, "HitClass");
+    columnIds[94] = column(in, "NumDirections");
+    columnIds[95] = column(in, "LocalBlood");
+    columnIds[96] = column(in, "DamageRate");
+    columnIds[97] = column(in, "TravelSound");
+    columnIds[98] = column(in, "HitSound");
+    columnIds[99] = column(in, "ProgSound");
+    columnIds[100] = column(in, "ProgOverlay");
+    columnIds[101] = column(in, "ExplosionMissile");
+    columnIds[102] = column(in, "SubMissile");
+    columnIds[103] = column(in, "HitSubMissile");
+    columnIds[104] = column(in, "CltSubMissile");
+    columnIds[105] = column(in, "CltHitSubMissile");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Missiles.Entry entry) {
+    entry.Missile = in.getString(row, columnIds[0]);
+    entry.Id = in.getInt(row, columnIds[1]);
+    entry.pCltDoFunc = in.getInt(row, columnIds[2]);
+    entry.pCltHitFunc = in.getInt(row, columnIds[3]);
+    entry.pSrvDoFunc = in.getInt(row, columnIds[4]);
+    entry.pSrvHitFunc = in.getInt(row, columnIds[5]);
+    entry.pSrvDmgFunc = in.getInt(row, columnIds[6]);
+    entry.SrvCalc1 = in.getString(row, columnIds[7]);
+    entry.Param = in.getInts(row, columnIds[8]);
+    entry.CltCalc1 = in.getString(row, columnIds[9]);
+    entry.CltParam = in.getInts(row, columnIds[10]);
+    entry.SHitCalc1 = in.getString(row, columnIds[11]);
+    entry.sHitPar = in.getInts(row, columnIds[12]);
+    entry.CHitCalc1 = in.getString(row, columnIds[13]);
+    entry.cHitPar = in.getInts(row, columnIds[14]);
+    entry.DmgCalc1 = in.getString(row, columnIds[15]);
+    entry.dParam = in.getInts(row, columnIds[16]);
+    entry.Vel = in.getInt(row, columnIds[17]);
+    entry.MaxVel = in.getInt(row, columnIds[18]);
+    entry.VelLev = in.getInt(row, columnIds[19]);
+    entry.Accel = in.getInt(row, columnIds[20]);
+    entry.Range = in.getInt(row, columnIds[21]);
+    entry.LevRange = in.getInt(row, columnIds[22]);
+    entry.Light = in.getInt(row, columnIds[23]);
+    entry.Flicker = in.getInt(row, columnIds[24]);
+    entry.Red = in.getInt(row, columnIds[25]);
+    entry.Green = in.getInt(row, columnIds[26]);
+    entry.Blue = in.getInt(row, columnIds[27]);
+    entry.InitSteps = in.getInt(row, columnIds[28]);
+    entry.Activate = in.getInt(row, columnIds[29]);
+    entry.LoopAnim = in.getInt(row, columnIds[30]);
+    entry.CelFile = in.getString(row, columnIds[31]);
+    entry.animrate = in.getInt(row, columnIds[32]);
+    entry.AnimLen = in.getInt(row, columnIds[33]);
+    entry.AnimSpeed = in.getInt(row, columnIds[34]);
+    entry.RandStart = in.getInt(row, columnIds[35]);
+    entry.SubLoop = in.getInt(row, columnIds[36]);
+    entry.SubStart = in.getInt(row, columnIds[37]);
+    entry.SubStop = in.getInt(row, columnIds[38]);
+    entry.CollideType = in.getInt(row, columnIds[39]);
+    entry.CollideKill = in.getBoolean(row, columnIds[40]);
+    entry.CollideFriend = in.getBoolean(row, columnIds[41]);
+    entry.LastCollide = in.getBoolean(row, columnIds[42]);
+    entry.Collision = in.getBoolean(row, columnIds[43]);
+    entry.ClientCol = in.getBoolean(row, columnIds[44]);
+    entry.ClientSend = in.getBoolean(row, columnIds[45]);
+    entry.NextHit = in.getBoolean(row, columnIds[46]);
+    entry.NextDelay = in.getInt(row, columnIds[47]);
+    entry.xoffset = in.getInt(row, columnIds[48]);
+    entry.yoffset = in.getInt(row, columnIds[49]);
+    entry.zoffset = in.getInt(row, columnIds[50]);
+    entry.Size = in.getInt(row, columnIds[51]);
+    entry.SrcTown = in.getBoolean(row, columnIds[52]);
+    entry.CltSrcTown = in.getInt(row, columnIds[53]);
+    entry.CanDestroy = in.getBoolean(row, columnIds[54]);
+    entry.ToHit = in.getBoolean(row, columnIds[55]);
+    entry.AlwaysExplode = in.getBoolean(row, columnIds[56]);
+    entry.Explosion = in.getInt(row, columnIds[57]);
+    entry.Town = in.getBoolean(row, columnIds[58]);
+    entry.NoUniqueMod = in.getBoolean(row, columnIds[59]);
+    entry.NoMultiShot = in.getInt(row, columnIds[60]);
+    entry.Holy = in.getInt(row, columnIds[61]);
+    entry.CanSlow = in.getBoolean(row, columnIds[62]);
+    entry.ReturnFire = in.getBoolean(row, columnIds[63]);
+    entry.GetHit = in.getBoolean(row, columnIds[64]);
+    entry.SoftHit = in.getBoolean(row, columnIds[65]);
+    entry.KnockBack = in.getInt(row, columnIds[66]);
+    entry.Trans = in.getInt(row, columnIds[67]);
+    entry.Qty = in.getBoolean(row, columnIds[68]);
+    entry.Pierce = in.getBoolean(row, columnIds[69]);
+    entry.SpecialSetup = in.getBoolean(row, columnIds[70]);
+    entry.MissileSkill = in.getBoolean(row, columnIds[71]);
+    entry.Skill = in.getString(row, columnIds[72]);
+    entry.ResultFlags = in.getInt(row, columnIds[73]);
+    entry.HitFlags = in.getInt(row, columnIds[74]);
+    entry.HitShift = in.getInt(row, columnIds[75]);
+    entry.ApplyMastery = in.getBoolean(row, columnIds[76]);
+    entry.SrcDamage = in.getInt(row, columnIds[77]);
+    entry.Half2HSrc = in.getBoolean(row, columnIds[78]);
+    entry.SrcMissDmg = in.getInt(row, columnIds[79]);
+    entry.MinDamage = in.getInt(row, columnIds[80]);
+    entry.MinLevDam = in.getStrings(row, columnIds[81]);
+    entry.MaxDamage = in.getString(row, columnIds[82]);
+    entry.MaxLevDam = in.getInts(row, columnIds[83]);
+    entry.DmgSymPerCalc = in.getString(row, columnIds[84]);
+    entry.EType = in.getString(row, columnIds[85]);
+    entry.EMin = in.getInt(row, columnIds[86]);
+    entry.MinELev = in.getInts(row, columnIds[87]);
+    entry.Emax = in.getString(row, columnIds[88]);
+    entry.MaxELev = in.getStrings(row, columnIds[89]);
+    entry.EDmgSymPerCalc = in.getString(row, columnIds[90]);
+    entry.ELen = in.getInt(row, columnIds[91]);
+    entry.ELevLen = in.getInts(row, columnIds[92]);
+    entry.HitClass = in.getInt(row, columnIds[93]);
+    entry.NumDirections = in.getInt(row, columnIds[94]);
+    entry.LocalBlood = in.getBoolean(row, columnIds[95]);
+    entry.DamageRate = in.getInt(row, columnIds[96]);
+    entry.TravelSound = in.getString(row, columnIds[97]);
+    entry.HitSound = in.getString(row, columnIds[98]);
+    entry.ProgSound = in.getString(row, columnIds[99]);
+    entry.ProgOverlay = in.getString(row, columnIds[100]);
+    entry.ExplosionMissile = in.getString(row, columnIds[101]);
+    entry.SubMissile = in.getStrings(row, columnIds[102]);
+    entry.HitSubMissile = in.getStrings(row, columnIds[103]);
+    entry.CltSubMissile = in.getStrings(row, columnIds[104]);
+    entry.CltHitSubMissile = in.getStrings(row, columnIds[105]);
+  }
+
+  @Override
+  public boolean equal(Missiles.Entry e1, Missiles.Entry e2) {
+    return StringUtils.equals(e1.Missile, e2.Missile)
+        && e1.Id == e2.Id
+        && e1.pCltDoFunc == e2.pCltDoFunc
+        && e1.pCltHitFunc == e2.pCltHitFunc
+        && e1.pSrvDoFunc == e2.pSrvDoFunc
+        && e1.pSrvHitFunc == e2.pSrvHitFunc
+        && e1.pSrvDmgFunc == e2.pSrvDmgFunc
+        && StringUtils.equals(e1.SrvCalc1, e2.SrvCalc1)
+        && Arrays.equals(e1.Param, e2.Param)
+        && StringUtils.equals(e1.CltCalc1, e2.CltCalc1)
+        && Arrays.equals(e1.CltParam, e2.CltParam)
+        && StringUtils.equals(e1.SHitCalc1, e2.SHitCalc1)
+        && Arrays.equals(e1.sHitPar, e2.sHitPar)
+        && StringUtils.equals(e1.CHitCalc1, e2.CHitCalc1)
+        && Arrays.equals(e1.cHitPar, e2.cHitPar)
+        && StringUtils.equals(e1.DmgCalc1, e2.DmgCalc1)
+        && Arrays.equals(e1.dParam, e2.dParam)
+        && e1.Vel == e2.Vel
+        && e1.MaxVel == e2.MaxVel
+        && e1.VelLev == e2.VelLev
+        && e1.Accel == e2.Accel
+        && e1.Range == e2.Range
+        && e1.LevRange == e2.LevRange
+        && e1.Light == e2.Light
+        && e1.Flicker == e2.Flicker
+        && e1.Red == e2.Red
+        && e1.Green == e2.Green
+        && e1.Blue == e2.Blue
+        && e1.InitSteps == e2.InitSteps
+        && e1.Activate == e2.Activate
+        && e1.LoopAnim == e2.LoopAnim
+        && StringUtils.equals(e1.CelFile, e2.CelFile)
+        && e1.animrate == e2.animrate
+        && e1.AnimLen == e2.AnimLen
+        && e1.AnimSpeed == e2.AnimSpeed
+        && e1.RandStart == e2.RandStart
+        && e1.SubLoop == e2.SubLoop
+        && e1.SubStart == e2.SubStart
+        && e1.SubStop == e2.SubStop
+        && e1.CollideType == e2.CollideType
+        && e1.CollideKill == e2.CollideKill
+        && e1.CollideFriend == e2.CollideFriend
+        && e1.LastCollide == e2.LastCollide
+        && e1.Collision == e2.Collision
+        && e1.ClientCol == e2.ClientCol
+        && e1.ClientSend == e2.ClientSend
+        && e1.NextHit == e2.NextHit
+        && e1.NextDelay == e2.NextDelay
+        && e1.xoffset == e2.xoffset
+        && e1.yoffset == e2.yoffset
+        && e1.zoffset == e2.zoffset
+        && e1.Size == e2.Size
+        && e1.SrcTown == e2.SrcTown
+        && e1.CltSrcTown == e2.CltSrcTown
+        && e1.CanDestroy == e2.CanDestroy
+        && e1.ToHit == e2.ToHit
+        && e1.AlwaysExplode == e2.AlwaysExplode
+        && e1.Explosion == e2.Explosion
+        && e1.Town == e2.Town
+        && e1.NoUniqueMod == e2.NoUniqueMod
+        && e1.NoMultiShot == e2.NoMultiShot
+        && e1.Holy == e2.Holy
+        && e1.CanSlow == e2.CanSlow
+        && e1.ReturnFire == e2.ReturnFire
+        && e1.GetHit == e2.GetHit
+        && e1.SoftHit == e2.SoftHit
+        && e1.KnockBack == e2.KnockBack
+        && e1.Trans == e2.Trans
+        && e1.Qty == e2.Qty
+        && e1.Pierce == e2.Pierce
+        && e1.SpecialSetup == e2.SpecialSetup
+        && e1.MissileSkill == e2.MissileSkill
+        && StringUtils.equals(e1.Skill, e2.Skill)
+        && e1.ResultFlags == e2.ResultFlags
+        && e1.HitFlags == e2.HitFlags
+        && e1.HitShift == e2.HitShift
+        && e1.ApplyMastery == e2.ApplyMastery
+        && e1.SrcDamage == e2.SrcDamage
+        && e1.Half2HSrc == e2.Half2HSrc
+        && e1.SrcMissDmg == e2.SrcMissDmg
+        && e1.MinDamage == e2.MinDamage
+        && Arrays.equals(e1.MinLevDam, e2.MinLevDam)
+        && StringUtils.equals(e1.MaxDamage, e2.MaxDamage)
+        && Arrays.equals(e1.MaxLevDam, e2.MaxLevDam)
+        && StringUtils.equals(e1.DmgSymPerCalc, e2.DmgSymPerCalc)
+        && StringUtils.equals(e1.EType, e2.EType)
+        && e1.EMin == e2.EMin
+        && Arrays.equals(e1.MinELev, e2.MinELev)
+        && StringUtils.equals(e1.Emax, e2.Emax)
+        && Arrays.equals(e1.MaxELev, e2.MaxELev)
+        && StringUtils.equals(e1.EDmgSymPerCalc, e2.EDmgSymPerCalc)
+        && e1.ELen == e2.ELen
+        && Arrays.equals(e1.ELevLen, e2.ELevLen)
+        && e1.HitClass == e2.HitClass
+        && e1.NumDirections == e2.NumDirections
+        && e1.LocalBlood == e2.LocalBlood
+        && e1.DamageRate == e2.DamageRate
+        && StringUtils.equals(e1.TravelSound, e2.TravelSound)
+        && StringUtils.equals(e1.HitSound, e2.HitSound)
+        && StringUtils.equals(e1.ProgSound, e2.ProgSound)
+        && StringUtils.equals(e1.ProgOverlay, e2.ProgOverlay)
+        && StringUtils.equals(e1.ExplosionMissile, e2.ExplosionMissile)
+        && Arrays.equals(e1.SubMissile, e2.SubMissile)
+        && Arrays.equals(e1.HitSubMissile, e2.HitSubMissile)
+        && Arrays.equals(e1.CltSubMissile, e2.CltSubMissile)
+        && Arrays.equals(e1.CltHitSubMissile, e2.CltHitSubMissile);
+  }
+}
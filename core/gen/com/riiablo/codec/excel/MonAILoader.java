@@ -0,0 +1,84 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link MonAI.Entry}, do not modify.
+ */
+public final class MonAILoader extends Excel.Loader<MonAI.Entry> {
+  private int AI;
+  private int[] aip;
+  private final int[] columnIds = new int[2];
+
+  public MonAILoader() {
+    super("AI", "aip");
+  }
+
+  @Override
+  public MonAI.Entry newEntry() {
+    return new MonAI.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "AI";
+  }
+
+  @Override
+  public String stringKey(MonAI.Entry entry) {
+    return entry.AI;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    AI = in.getColumnId("AI");
+    aip = in.getColumnId(new String[] { "*aip1", "*aip2", "*aip3", "*aip4", "*aip5", "*aip6", "*aip7", "*aip8" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, MonAI.Entry entry) {
+    entry.AI = in.getString(AI);
+    entry.aip = in.getString(aip);
+  }
+
+  @Override
+  public void readBin(DataInput in, MonAI.Entry entry) throws IOException {
+    entry.AI = in.readUTF();
+    entry.aip = new String[8];
+    for (int x = 0; x < 8; x++) entry.aip[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, MonAI.Entry entry) throws IOException {
+    out.writeUTF(entry.AI);
+    for (String x : entry.aip) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "AI");
+    columnIds[1] = column(in, "aip");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, MonAI.Entry entry) {
+    entry.AI = in.getString(row, columnIds[0]);
+    entry.aip = in.getStrings(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(MonAI.Entry e1, MonAI.Entry e2) {
+    return StringUtils.equals(e1.AI, e2.AI)
+        && Arrays.equals(e1.aip, e2.aip);
+  }
+}
@@ -0,0 +1,73 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link MonPreset.Entry}, do not modify.
+ */
+public final class MonPresetLoader extends Excel.Loader<MonPreset.Entry> {
+  private int Act;
+  private int Place;
+  private final int[] columnIds = new int[2];
+
+  public MonPresetLoader() {
+    super("Act", "Place");
+  }
+
+  @Override
+  public MonPreset.Entry newEntry() {
+    return new MonPreset.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INDEX;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Act = in.getColumnId("Act");
+    Place = in.getColumnId("Place");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, MonPreset.Entry entry) {
+    entry.Act = in.getInt(Act);
+    entry.Place = in.getString(Place);
+  }
+
+  @Override
+  public void readBin(DataInput in, MonPreset.Entry entry) throws IOException {
+    entry.Act = in.readInt();
+    entry.Place = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, MonPreset.Entry entry) throws IOException {
+    out.writeInt(entry.Act);
+    out.writeUTF(entry.Place);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Act");
+    columnIds[1] = column(in, "Place");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, MonPreset.Entry entry) {
+    entry.Act = in.getInt(row, columnIds[0]);
+    entry.Place = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(MonPreset.Entry e1, MonPreset.Entry e2) {
+    return e1.Act == e2.Act
+        && StringUtils.equals(e1.Place, e2.Place);
+  }
+}
@@ -0,0 +1,514 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link MonStats2.Entry}, do not modify.
+ */
+public final class MonStats2Loader extends Excel.Loader<MonStats2.Entry> {
+  private int Id;
+  private int Height;
+  private int OverlayHeight;
+  private int pixHeight;
+  private int SizeX;
+  private int SizeY;
+  private int spawnCol;
+  private int MeleeRng;
+  private int BaseW;
+  private int HitClass;
+  private int[] ComponentV;
+  private int[] Components;
+  private int TotalPieces;
+  private int[] mMode;
+  private int[] dMode;
+  private int[] Modemv;
+  private int noGfxHitTest;
+  private int htTop;
+  private int htLeft;
+  private int htWidth;
+  private int htHeight;
+  private int restore;
+  private int automapCel;
+  private int noMap;
+  private int noOvly;
+  private int isSel;
+  private int alSel;
+  private int noSel;
+  private int shiftSel;
+  private int corpseSel;
+  private int isAtt;
+  private int revive;
+  private int critter;
+  private int small;
+  private int large;
+  private int soft;
+  private int inert;
+  private int objCol;
+  private int deadCol;
+  private int unflatDead;
+  private int Shadow;
+  private int noUniqueShift;
+  private int compositeDeath;
+  private int localBlood;
+  private int Bleed;
+  private int Light;
+  private int[] light;
+  private int[] Utrans;
+  private int Heart;
+  private int BodyPart;
+  private int InfernoLen;
+  private int InfernoAnim;
+  private int InfernoRollback;
+  private int ResurrectMode;
+  private int ResurrectSkill;
+  private final int[] columnIds = new int[55];
+
+  public MonStats2Loader() {
+    super("Id", "Height", "OverlayHeight", "pixHeight", "SizeX", "SizeY", "spawnCol", "MeleeRng", "BaseW", "HitClass", "ComponentV", "Components", "TotalPieces", "mMode", "dMode", "Modemv", "noGfxHitTest", "htTop", "htLeft", "htWidth", "htHeight", "restore", "automapCel", "noMap", "noOvly", "isSel", "alSel", "noSel", "shiftSel", "corpseSel", "isAtt", "revive", "critter", "small", "large", "soft", "inert", "objCol", "deadCol", "unflatDead", "Shadow", "noUniqueShift", "compositeDeath", "localBlood", "Bleed", "Light", "light", "Utrans", "Heart", "BodyPart", "InfernoLen", "InfernoAnim", "InfernoRollback", "ResurrectMode", "ResurrectSkill");
+  }
+
+  @Override
+  public MonStats2.Entry newEntry() {
+    return new MonStats2.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public String stringKey(MonStats2.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Id = in.getColumnId("Id");
+    Height = in.getColumnId("Height");
+    OverlayHeight = in.getColumnId("OverlayHeight");
+    pixHeight = in.getColumnId("pixHeight");
+    SizeX = in.getColumnId("SizeX");
+    SizeY = in.getColumnId("SizeY");
+    spawnCol = in.getColumnId("spawnCol");
+    MeleeRng = in.getColumnId("MeleeRng");
+    BaseW = in.getColumnId("BaseW");
+    HitClass = in.getColumnId("HitClass");
+    ComponentV = in.getColumnId(new String[] { "HDv", "TRv", "LGv", "RAv", "LAv", "RHv", "LHv", "SHv", "S1v", "S2v", "S3v", "S4v", "S5v", "S6v", "S7v", "S8v" });
+    Components = in.getColumnId(new String[] { "HD", "TR", "LG", "RA", "LA", "RH", "LH", "SH", "S1", "S2", "S3", "S4", "S5", "S6", "S7", "S8" });
+    TotalPieces = in.getColumnId("TotalPieces");
+    mMode = in.getColumnId(new String[] { "mDT", "mNU", "mWL", "mGH", "mA1", "mA2", "mBL", "mSC", "mS1", "mS2", "mS3", "mS4", "mDD", "mKB", "mSQ", "mRN" });
+    dMode = in.getColumnId(new String[] { "dDT", "dNU", "dWL", "dGH", "dA1", "dA2", "dBL", "dSC", "dS1", "dS2", "dS3", "dS4", "dDD", "dKB", "dSQ", "dRN" });
+    Modemv = in.getColumnId(new String[] { "DTmv", "NUmv", "WLmv", "GHmv", "A1mv", "A2mv", "BLmv", "SCmv", "S1mv", "S2mv", "S3mv", "S4mv", "DDmv", "KBmv", "SQmv", "RNmv" });
+    noGfxHitTest = in.getColumnId("noGfxHitTest");
+    htTop = in.getColumnId("htTop");
+    htLeft = in.getColumnId("htLeft");
+    htWidth = in.getColumnId("htWidth");
+    htHeight = in.getColumnId("htHeight");
+    restore = in.getColumnId("restore");
+    automapCel = in.getColumnId("automapCel");
+    noMap = in.getColumnId("noMap");
+    noOvly = in.getColumnId("noOvly");
+    isSel = in.getColumnId("isSel");
+    alSel = in.getColumnId("alSel");
+    noSel = in.getColumnId("noSel");
+    shiftSel = in.getColumnId("shiftSel");
+    corpseSel = in.getColumnId("corpseSel");
+    isAtt = in.getColumnId("isAtt");
+    revive = in.getColumnId("revive");
+    critter = in.getColumnId("critter");
+    small = in.getColumnId("small");
+    large = in.getColumnId("large");
+    soft = in.getColumnId("soft");
+    inert = in.getColumnId("inert");
+    objCol = in.getColumnId("objCol");
+    deadCol = in.getColumnId("deadCol");
+    unflatDead = in.getColumnId("unflatDead");
+    Shadow = in.getColumnId("Shadow");
+    noUniqueShift = in.getColumnId("noUniqueShift");
+    compositeDeath = in.getColumnId("compositeDeath");
+    localBlood = in.getColumnId("localBlood");
+    Bleed = in.getColumnId("Bleed");
+    Light = in.getColumnId("Light");
+    light = in.getColumnId(new String[] { "light-r", "light-g", "light-b" });
+    Utrans = in.getColumnId(new String[] { "Utrans", "Utrans(N)", "Utrans(H)" });
+    Heart = in.getColumnId("Heart");
+    BodyPart = in.getColumnId("BodyPart");
+    InfernoLen = in.getColumnId("InfernoLen");
+    InfernoAnim = in.getColumnId("InfernoAnim");
+    InfernoRollback = in.getColumnId("InfernoRollback");
+    ResurrectMode = in.getColumnId("ResurrectMode");
+    ResurrectSkill = in.getColumnId("ResurrectSkill");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, MonStats2.Entry entry) {
+    entry.Id = in.getString(Id);
+    entry.Height = in.getInt(Height);
+    entry.OverlayHeight = in.getInt(OverlayHeight);
+    entry.pixHeight = in.getInt(pixHeight);
+    entry.SizeX = in.getInt(SizeX);
+    entry.SizeY = in.getInt(SizeY);
+    entry.spawnCol = in.getInt(spawnCol);
+    entry.MeleeRng = in.getInt(MeleeRng);
+    entry.BaseW = in.getString(BaseW);
+    entry.HitClass = in.getInt(HitClass);
+    entry.ComponentV = in.getString(ComponentV);
+    entry.Components = in.getBoolean(Components);
+    entry.TotalPieces = in.getInt(TotalPieces);
+    entry.mMode = in.getBoolean(mMode);
+    entry.dMode = in.getInt(dMode);
+    entry.Modemv = in.getBoolean(Modemv);
+    entry.noGfxHitTest = in.getBoolean(noGfxHitTest);
+    entry.htTop = in.getInt(htTop);
+    entry.htLeft = in.getInt(htLeft);
+    entry.htWidth = in.getInt(htWidth);
+    entry.htHeight = in.getInt(htHeight);
+    entry.restore = in.getInt(restore);
+    entry.automapCel = in.getInt(automapCel);
+    entry.noMap = in.getBoolean(noMap);
+    entry.noOvly = in.getBoolean(noOvly);
+    entry.isSel = in.getBoolean(isSel);
+    entry.alSel = in.getBoolean(alSel);
+    entry.noSel = in.getBoolean(noSel);
+    entry.shiftSel = in.getBoolean(shiftSel);
+    entry.corpseSel = in.getBoolean(corpseSel);
+    entry.isAtt = in.getBoolean(isAtt);
+    entry.revive = in.getBoolean(revive);
+    entry.critter = in.getBoolean(critter);
+    entry.small = in.getBoolean(small);
+    entry.large = in.getBoolean(large);
+    entry.soft = in.getBoolean(soft);
+    entry.inert = in.getBoolean(inert);
+    entry.objCol = in.getBoolean(objCol);
+    entry.deadCol = in.getBoolean(deadCol);
+    entry.unflatDead = in.getBoolean(unflatDead);
+    entry.Shadow = in.getBoolean(Shadow);
+    entry.noUniqueShift = in.getBoolean(noUniqueShift);
+    entry.compositeDeath = in.getBoolean(compositeDeath);
+    entry.localBlood = in.getInt(localBlood);
+    entry.Bleed = in.getInt(Bleed);
+    entry.Light = in.getInt(Light);
+    entry.light = in.getInt(light);
+    entry.Utrans = in.getInt(Utrans);
+    entry.Heart = in.getString(Heart);
+    entry.BodyPart = in.getString(BodyPart);
+    entry.InfernoLen = in.getInt(InfernoLen);
+    entry.InfernoAnim = in.getInt(InfernoAnim);
+    entry.InfernoRollback = in.getInt(InfernoRollback);
+    entry.ResurrectMode = in.getString(ResurrectMode);
+    entry.ResurrectSkill = in.getString(ResurrectSkill);
+  }
+
+  @Override
+  public void readBin(DataInput in, MonStats2.Entry entry) throws IOException {
+    entry.Id = in.readUTF();
+    entry.Height = in.readInt();
+    entry.OverlayHeight = in.readInt();
+    entry.pixHeight = in.readInt();
+    entry.SizeX = in.readInt();
+    entry.SizeY = in.readInt();
+    entry.spawnCol = in.readInt();
+    entry.MeleeRng = in.readInt();
+    entry.BaseW = in.readUTF();
+    entry.HitClass = in.readInt();
+    entry.ComponentV = new String[16];
+    for (int x = 0; x < 16; x++) entry.ComponentV[x] = in.readUTF();
+    entry.Components = new boolean[16];
+    for (int x = 0; x < 16; x++) entry.Components[x] = in.readBoolean();
+    entry.TotalPieces = in.readInt();
+    entry.mMode = new boolean[16];
+    for (int x = 0; x < 16; x++) entry.mMode[x] = in.readBoolean();
+    entry.dMode = new int[16];
+    for (int x = 0; x < 16; x++) entry.dMode[x] = in.readInt();
+    entry.Modemv = new boolean[16];
+    for (int x = 0; x < 16; x++) entry.Modemv[x] = in.readBoolean();
+    entry.noGfxHitTest = in.readBoolean();
+    entry.htTop = in.readInt();
+    entry.htLeft = in.readInt();
+    entry.htWidth = in.readInt();
+    entry.htHeight = in.readInt();
+    entry.restore = in.readInt();
+    entry.automapCel = in.readInt();
+    entry.noMap = in.readBoolean();
+    entry.noOvly = in.readBoolean();
+    entry.isSel = in.readBoolean();
+    entry.alSel = in.readBoolean();
+    entry.noSel = in.readBoolean();
+    entry.shiftSel = in.readBoolean();
+    entry.corpseSel = in.readBoolean();
+    entry.isAtt = in.readBoolean();
+    entry.revive = in.readBoolean();
+    entry.critter = in.readBoolean();
+    entry.small = in.readBoolean();
+    entry.large = in.readBoolean();
+    entry.soft = in.readBoolean();
+    entry.inert = in.readBoolean();
+    entry.objCol = in.readBoolean();
+    entry.deadCol = in.readBoolean();
+    entry.unflatDead = in.readBoolean();
+    entry.Shadow = in.readBoolean();
+    entry.noUniqueShift = in.readBoolean();
+    entry.compositeDeath = in.readBoolean();
+    entry.localBlood = in.readInt();
+    entry.Bleed = in.readInt();
+    entry.Light = in.readInt();
+    entry.light = new int[3];
+    for (int x = 0; x < 3; x++) entry.light[x] = in.readInt();
+    entry.Utrans = new int[3];
+    for (int x = 0; x < 3; x++) entry.Utrans[x] = in.readInt();
+    entry.Heart = in.readUTF();
+    entry.BodyPart = in.readUTF();
+    entry.InfernoLen = in.readInt();
+    entry.InfernoAnim = in.readInt();
+    entry.InfernoRollback = in.readInt();
+    entry.ResurrectMode = in.readUTF();
+    entry.ResurrectSkill = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, MonStats2.Entry entry) throws IOException {
+    out.writeUTF(entry.Id);
+    out.writeInt(entry.Height);
+    out.writeInt(entry.OverlayHeight);
+    out.writeInt(entry.pixHeight);
+    out.writeInt(entry.SizeX);
+    out.writeInt(entry.SizeY);
+    out.writeInt(entry.spawnCol);
+    out.writeInt(entry.MeleeRng);
+    out.writeUTF(entry.BaseW);
+    out.writeInt(entry.HitClass);
+    for (String x : entry.ComponentV) out.writeUTF(x);
+    for (boolean x : entry.Components) out.writeBoolean(x);
+    out.writeInt(entry.TotalPieces);
+    for (boolean x : entry.mMode) out.writeBoolean(x);
+    for (int x : entry.dMode) out.writeInt(x);
+    for (boolean x : entry.Modemv) out.writeBoolean(x);
+    out.writeBoolean(entry.noGfxHitTest);
+    out.writeInt(entry.htTop);
+    out.writeInt(entry.htLeft);
+    out.writeInt(entry.htWidth);
+    out.writeInt(entry.htHeight);
+    out.writeInt(entry.restore);
+    out.writeInt(entry.automapCel);
+    out.writeBoolean(entry.noMap);
+    out.writeBoolean(entry.noOvly);
+    out.writeBoolean(entry.isSel);
+    out.writeBoolean(entry.alSel);
+    out.writeBoolean(entry.noSel);
+    out.writeBoolean(entry.shiftSel);
+    out.writeBoolean(entry.corpseSel);
+    out.writeBoolean(entry.isAtt);
+    out.writeBoolean(entry.revive);
+    out.writeBoolean(entry.critter);
+    out.writeBoolean(entry.small);
+    out.writeBoolean(entry.large);
+    out.writeBoolean(entry.soft);
+    out.writeBoolean(entry.inert);
+    out.writeBoolean(entry.objCol);
+    out.writeBoolean(entry.deadCol);
+    out.writeBoolean(entry.unflatDead);
+    out.writeBoolean(entry.Shadow);
+    out.writeBoolean(entry.noUniqueShift);
+    out.writeBoolean(entry.compositeDeath);
+    out.writeInt(entry.localBlood);
+    out.writeInt(entry.Bleed);
+    out.writeInt(entry.Light);
+    for (int x : entry.light) out.writeInt(x);
+    for (int x : entry.Utrans) out.writeInt(x);
+    out.writeUTF(entry.Heart);
+    out.writeUTF(entry.BodyPart);
+    out.writeInt(entry.InfernoLen);
+    out.writeInt(entry.InfernoAnim);
+    out.writeInt(entry.InfernoRollback);
+    out.writeUTF(entry.ResurrectMode);
+    out.writeUTF(entry.ResurrectSkill);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Id");
+    columnIds[1] = column(in, "Height");
+    columnIds[2] = column(in, "OverlayHeight");
+    columnIds[3] = column(in, "pixHeight");
+    columnIds[4] = column(in, "SizeX");
+    columnIds[5] = column(in, "SizeY");
+    columnIds[6] = column(in, "spawnCol");
+    columnIds[7] = column(in, "MeleeRng");
+    columnIds[8] = column(in, "BaseW");
+    columnIds[9] = column(in, "HitClass");
+    columnIds[10] = column(in, "ComponentV");
+    columnIds[11] = column(in, "Components");
+    columnIds[12] = column(in, "TotalPieces");
+    columnIds[13] = column(in, "mMode");
+    columnIds[14] = column(in, "dMode");
+    columnIds[15] = column(in, "Modemv");
+    columnIds[16] = column(in, "noGfxHitTest");
+    columnIds[17] = column(in, "htTop");
+    columnIds[18] = column(in, "htLeft");
+    columnIds[19] = column(in, "htWidth");
+    columnIds[20] = column(in, "htHeight");
+    columnIds[21] = column(in, "restore");
+    columnIds[22] = column(in, "automapCel");
+    columnIds[23] = column(in, "noMap");
+    columnIds[24] = column(in, "noOvly");
+    columnIds[25] = column(in, "isSel");
+    columnIds[26] = column(in, "alSel");
+    columnIds[27] = column(in, "noSel");
+    columnIds[28] = column(in, "shiftSel");
+    columnIds[29] = column(in, "corpseSel");
+    columnIds[30] = column(in, "isAtt");
+    columnIds[31] = column(in, "revive");
+    columnIds[32] = column(in, "critter");
+    columnIds[33] = column(in, "small");
+    columnIds[34] = column(in, "large");
+    columnIds[35] = column(in, "soft");
+    columnIds[36] = column(in, "inert");
+    columnIds[37] = column(in, "objCol");
+    columnIds[38] = column(in, "deadCol");
+    columnIds[39] = column(in, "unflatDead");
+    columnIds[40] = column(in, "Shadow");
+    columnIds[41] = column(in, "noUniqueShift");
+    columnIds[42] = column(in, "compositeDeath");
+    columnIds[43] = column(in, "localBlood");
+    columnIds[44] = column(in, "Bleed");
+    columnIds[45] = column(in, "Light");
+    columnIds[46] = column(in, "light");
+    columnIds[47] = column(in, "Utrans");
+    columnIds[48] = column(in, "Heart");
+    columnIds[49] = column(in, "BodyPart");
+    columnIds[50] = column(in, "InfernoLen");
+    columnIds[51] = column(in, "InfernoAnim");
+    columnIds[52] = column(in, "InfernoRollback");
+    columnIds[53] = column(in, "ResurrectMode");
+    columnIds[54] = column(in, "ResurrectSkill");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, MonStats2.Entry entry) {
+    entry.Id = in.getString(row, columnIds[0]);
+    entry.Height = in.getInt(row, columnIds[1]);
+    entry.OverlayHeight = in.getInt(row, columnIds[2]);
+    entry.pixHeight = in.getInt(row, columnIds[3]);
+    entry.SizeX = in.getInt(row, columnIds[4]);
+    entry.SizeY = in.getInt(row, columnIds[5]);
+    entry.spawnCol = in.getInt(row, columnIds[6]);
+    entry.MeleeRng = in.getInt(row, columnIds[7]);
+    entry.BaseW = in.getString(row, columnIds[8]);
+    entry.HitClass = in.getInt(row, columnIds[9]);
+    entry.ComponentV = in.getStrings(row, columnIds[10]);
+    entry.Components = in.getBooleans(row, columnIds[11]);
+    entry.TotalPieces = in.getInt(row, columnIds[12]);
+    entry.mMode = in.getBooleans(row, columnIds[13]);
+    entry.dMode = in.getInts(row, columnIds[14]);
+    entry.Modemv = in.getBooleans(row, columnIds[15]);
+    entry.noGfxHitTest = in.getBoolean(row, columnIds[16]);
+    entry.htTop = in.getInt(row, columnIds[17]);
+    entry.htLeft = in.getInt(row, columnIds[18]);
+    entry.htWidth = in.getInt(row, columnIds[19]);
+    entry.htHeight = in.getInt(row, columnIds[20]);
+    entry.restore = in.getInt(row, columnIds[21]);
+    entry.automapCel = in.getInt(row, columnIds[22]);
+    entry.noMap = in.getBoolean(row, columnIds[23]);
+    entry.noOvly = in.getBoolean(row, columnIds[24]);
+    entry.isSel = in.getBoolean(row, columnIds[25]);
+    entry.alSel = in.getBoolean(row, columnIds[26]);
+    entry.noSel = in.getBoolean(row, columnIds[27]);
+    entry.shiftSel = in.getBoolean(row, columnIds[28]);
+    entry.corpseSel = in.getBoolean(row, columnIds[29]);
+    entry.isAtt = in.getBoolean(row, columnIds[30]);
+    entry.revive = in.getBoolean(row, columnIds[31]);
+    entry.critter = in.getBoolean(row, columnIds[32]);
+    entry.small = in.getBoolean(row, columnIds[33]);
+    entry.large = in.getBoolean(row, columnIds[34]);
+    entry.soft = in.getBoolean(row, columnIds[35]);
+    entry.inert = in.getBoolean(row, columnIds[36]);
+    entry.objCol = in.getBoolean(row, columnIds[37]);
+    entry.deadCol = in.getBoolean(row, columnIds[38]);
+    entry.unflatDead = in.getBoolean(row, columnIds[39]);
+    entry.Shadow = in.getBoolean(row, columnIds[40]);
+    entry.noUniqueShift = in.getBoolean(row, columnIds[41]);
+    entry.compositeDeath = in.getBoolean(row, columnIds[42]);
+    entry.localBlood = in.getInt(row, columnIds[43]);
+    entry.Bleed = in.getInt(row, columnIds[44]);
+    entry.Light = in.getInt(row, columnIds[45]);
+    entry.light = in.getInts(row, columnIds[46]);
+    entry.Utrans = in.getInts(row, columnIds[47]);
+    entry.Heart = in.getString(row, columnIds[48]);
+    entry.BodyPart = in.getString(row, columnIds[49]);
+    entry.InfernoLen = in.getInt(row, columnIds[50]);
+    entry.InfernoAnim = in.getInt(row, columnIds[51]);
+    entry.InfernoRollback = in.getInt(row, columnIds[52]);
+    entry.ResurrectMode = in.getString(row, columnIds[53]);
+    entry.ResurrectSkill = in.getString(row, columnIds[54]);
+  }
+
+  @Override
+  public boolean equal(MonStats2.Entry e1, MonStats2.Entry e2) {
+    return StringUtils.equals(e1.Id, e2.Id)
+        && e1.Height == e2.Height
+        && e1.OverlayHeight == e2.OverlayHeight
+        && e1.pixHeight == e2.pixHeight
+        && e1.SizeX == e2.SizeX
+        && e1.SizeY == e2.SizeY
+        && e1.spawnCol == e2.spawnCol
+        && e1.MeleeRng == e2.MeleeRng
+        && StringUtils.equals(e1.BaseW, e2.BaseW)
+        && e1.HitClass == e2.HitClass
+        && Arrays.equals(e1.ComponentV, e2.ComponentV)
+        && Arrays.equals(e1.Components, e2.Components)
+        && e1.TotalPieces == e2.TotalPieces
+        && Arrays.equals(e1.mMode, e2.mMode)
+        && Arrays.equals(e1.dMode, e2.dMode)
+        && Arrays.equals(e1.Modemv, e2.Modemv)
+        && e1.noGfxHitTest == e2.noGfxHitTest
+        && e1.htTop == e2.htTop
+        && e1.htLeft == e2.htLeft
+        && e1.htWidth == e2.htWidth
+        && e1.htHeight == e2.htHeight
+        && e1.restore == e2.restore
+        && e1.automapCel == e2.automapCel
+        && e1.noMap == e2.noMap
+        && e1.noOvly == e2.noOvly
+        && e1.isSel == e2.isSel
+        && e1.alSel == e2.alSel
+        && e1.noSel == e2.noSel
+        && e1.shiftSel == e2.shiftSel
+        && e1.corpseSel == e2.corpseSel
+        && e1.isAtt == e2.isAtt
+        && e1.revive == e2.revive
+        && e1.critter == e2.critter
+        && e1.small == e2.small
+        && e1.large == e2.large
+        && e1.soft == e2.soft
+        && e1.inert == e2.inert
+        && e1.objCol == e2.objCol
+        && e1.deadCol == e2.deadCol
+        && e1.unflatDead == e2.unflatDead
+        && e1.Shadow == e2.Shadow
+        && e1.noUniqueShift == e2.noUniqueShift
+        && e1.compositeDeath == e2.compositeDeath
+        && e1.localBlood == e2.localBlood
+        && e1.Bleed == e2.Bleed
+        && e1.Light == e2.Light
+        && Arrays.equals(e1.light, e2.light)
+        && Arrays.equals(e1.Utrans, e2.Utrans)
+        && StringUtils.equals(e1.Heart, e2.Heart)
+        && StringUtils.equals(e1.BodyPart, e2.BodyPart)
+        && e1.InfernoLen == e2.InfernoLen
+        && e1.InfernoAnim == e2.InfernoAnim
+        && e1.InfernoRollback == e2.InfernoRollback
+        && StringUtils.equals(e1.ResurrectMode, e2.ResurrectMode)
+        && StringUtils.equals(e1.ResurrectSkill, e2.ResurrectSkill);
+  }
+}
@@ -0,0 +1,1364 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link MonStats.Entry}, do not modify.
+ */
+public final class MonStatsLoader extends Excel.Loader<MonStats.Entry> {
+  private int Id;
+  private int hcIdx;
+  private int BaseId;
+  private int NextInClass;
+  private int TransLvl;
+  private int NameStr;
+  private int MonStatsEx;
+  private int MonProp;
+  private int MonType;
+  private int AI;
+  private int DescStr;
+  private int Code;
+  private int enabled;
+  private int rangedtype;
+  private int placespawn;
+  private int spawn;
+  private int spawnx;
+  private int spawny;
+  private int spawnmode;
+  private int minion1;
+  private int minion2;
+  private int SetBoss;
+  private int BossXfer;
+  private int PartyMin;
+  private int PartyMax;
+  private int MinGrp;
+  private int MaxGrp;
+  private int sparsePopulate;
+  private int Velocity;
+  private int Run;
+  private int Rarity;
+  private int[] Level;
+  private int MonSound;
+  private int UMonSound;
+  private int threat;
+  private int[] aidel;
+  private int[] aidist;
+  private int[] aip1;
+  private int[] aip2;
+  private int[] aip3;
+  private int[] aip4;
+  private int[] aip5;
+  private int[] aip6;
+  private int[] aip7;
+  private int[] aip8;
+  private int MissA1;
+  private int MissA2;
+  private int MissS1;
+  private int MissS2;
+  private int MissS3;
+  private int MissS4;
+  private int MissC;
+  private int MissSQ;
+  private int Align;
+  private int isSpawn;
+  private int isMelee;
+  private int npc;
+  private int interact;
+  private int inventory;
+  private int inTown;
+  private int lUndead;
+  private int hUndead;
+  private int demon;
+  private int flying;
+  private int opendoors;
+  private int boss;
+  private int primeevil;
+  private int killable;
+  private int switchai;
+  private int noAura;
+  private int nomultishot;
+  private int neverCount;
+  private int petIgnore;
+  private int deathDmg;
+  private int genericSpawn;
+  private int zoo;
+  private int SendSkills;
+  private int Skill1;
+  private int Sk1mode;
+  private int Sk1lvl;
+  private int Skill2;
+  private int Sk2mode;
+  private int Sk2lvl;
+  private int Skill3;
+  private int Sk3mode;
+  private int Sk3lvl;
+  private int Skill4;
+  private int Sk4mode;
+  private int Sk4lvl;
+  private int Skill5;
+  private int Sk5mode;
+  private int Sk5lvl;
+  private int Skill6;
+  private int Sk6mode;
+  private int Sk6lvl;
+  private int Skill7;
+  private int Sk7mode;
+  private int Sk7lvl;
+  private int Skill8;
+  private int Sk8mode;
+  private int Sk8lvl;
+  private int[] Drain;
+  private int[] coldeffect;
+  private int[] ResDm;
+  private int[] ResMa;
+  private int[] ResFi;
+  private int[] ResLi;
+  private int[] ResCo;
+  private int[] ResPo;
+  private int DamageRegen;
+  private int SkillDamage;
+  private int noRatio;
+  private int NoShldBlock;
+  private int[] ToBlock;
+  private int Crit;
+  private int[] minHP;
+  private int[] maxHP;
+  private int[] AC;
+  private int[] Exp;
+  private int[] A1MinD;
+  private int[] A1MaxD;
+  private int[] A1TH;
+  private int[] A2MinD;
+  private int[] A2MaxD;
+  private int[] A2TH;
+  private int[] S1MinD;
+  private int[] S1MaxD;
+  private int[] S1TH;
+  private int El1Mode;
+  private int El1Type;
+  private int[] El1Pct;
+  private int[] El1MinD;
+  private int[] El1MaxD;
+  private int[] El1Dur;
+  private int El2Mode;
+  private int El2Type;
+  private int[] El2Pct;
+  private int[] El2MinD;
+  private int[] El2MaxD;
+  private int[] El2Dur;
+  private int El3Mode;
+  private int El3Type;
+  private int[] El3Pct;
+  private int[] El3MinD;
+  private int[] El3MaxD;
+  private int[] El3Dur;
+  private int[] TreasureClass1;
+  private int[] TreasureClass2;
+  private int[] TreasureClass3;
+  private int[] TreasureClass4;
+  private int TCQuestId;
+  private int TCQuestCP;
+  private int SplEndDeath;
+  private int SplGetModeChart;
+  private int SplEndGeneric;
+  private int SplClientEnd;
+  private final int[] columnIds = new int[156];
+
+  public MonStatsLoader() {
+    super("Id", "hcIdx", "BaseId", "NextInClass", "TransLvl", "NameStr", "MonStatsEx", "MonProp", "MonType", "AI", "DescStr", "Code", "enabled", "rangedtype", "placespawn", "spawn", "spawnx", "spawny", "spawnmode", "minion1", "minion2", "SetBoss", "BossXfer", "PartyMin", "PartyMax", "MinGrp", "MaxGrp", "sparsePopulate", "Velocity", "Run", "Rarity", "Level", "MonSound", "UMonSound", "threat", "aidel", "aidist", "aip1", "aip2", "aip3", "aip4", "aip5", "aip6", "aip7", "aip8", "MissA1", "MissA2", "MissS1", "MissS2", "MissS3", "MissS4", "MissC", "MissSQ", "Align", "isSpawn", "isMelee", "npc", "interact", "inventory", "inTown", "lUndead", "hUndead", "demon", "flying", "opendoors", "boss", "primeevil", "killable", "switchai", "noAura", "nomultishot", "neverCount", "petIgnore", "deathDmg", "genericSpawn", "zoo", "SendSkills", "Skill1", "Sk1mode", "Sk1lvl", "Skill2", "Sk2mode", "Sk2lvl", "Skill3", "Sk3mode", "Sk3lvl", "Skill4", "Sk4mode", "Sk4lvl", "Skill5", "Sk5mode", "Sk5lvl", "Skill6", "Sk6mode", "Sk6lvl", "Skill7", "Sk7mode", "Sk7lvl", "Skill8", "Sk8mode", "Sk8lvl", "Drain", "coldeffect", "ResDm", "ResMa", "ResFi", "ResLi", "ResCo", "ResPo", "DamageRegen", "SkillDamage", "noRatio", "NoShldBlock", "ToBlock", "Crit", "minHP", "maxHP", "AC", "Exp", "A1MinD", "A1MaxD", "A1TH", "A2MinD", "A2MaxD", "A2TH", "S1MinD", "S1MaxD", "S1TH", "El1Mode", "El1Type", "El1Pct", "El1MinD", "El1MaxD", "El1Dur", "El2Mode", "El2Type", "El2Pct", "El2MinD", "El2MaxD", "El2Dur", "El3Mode", "El3Type", "El3Pct", "El3MinD", "El3MaxD", "El3Dur", "TreasureClass1", "TreasureClass2", "TreasureClass3", "TreasureClass4", "TCQuestId", "TCQuestCP", "SplEndDeath", "SplGetModeChart", "SplEndGeneric", "SplClientEnd");
+  }
+
+  @Override
+  public MonStats.Entry newEntry() {
+    return new MonStats.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public String stringKey(MonStats.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Id = in.getColumnId("Id");
+    hcIdx = in.getColumnId("hcIdx");
+    BaseId = in.getColumnId("BaseId");
+    NextInClass = in.getColumnId("NextInClass");
+    TransLvl = in.getColumnId("TransLvl");
+    NameStr = in.getColumnId("NameStr");
+    MonStatsEx = in.getColumnId("MonStatsEx");
+    MonProp = in.getColumnId("MonProp");
+    MonType = in.getColumnId("MonType");
+    AI = in.getColumnId("AI");
+    DescStr = in.getColumnId("DescStr");
+    Code = in.getColumnId("Code");
+    enabled = in.getColumnId("enabled");
+    rangedtype = in.getColumnId("rangedtype");
+    placespawn = in.getColumnId("placespawn");
+    spawn = in.getColumnId("spawn");
+    spawnx = in.getColumnId("spawnx");
+    spawny = in.getColumnId("spawny");
+    spawnmode = in.getColumnId("spawnmode");
+    minion1 = in.getColumnId("minion1");
+    minion2 = in.getColumnId("minion2");
+    SetBoss = in.getColumnId("SetBoss");
+    BossXfer = in.getColumnId("BossXfer");
+    PartyMin = in.getColumnId("PartyMin");
+    PartyMax = in.getColumnId("PartyMax");
+    MinGrp = in.getColumnId("MinGrp");
+    MaxGrp = in.getColumnId("MaxGrp");
+    sparsePopulate = in.getColumnId("sparsePopulate");
+    Velocity = in.getColumnId("Velocity");
+    Run = in.getColumnId("Run");
+    Rarity = in.getColumnId("Rarity");
+    Level = in.getColumnId(new String[] { "Level", "Level(N)", "Level(H)" });
+    MonSound = in.getColumnId("MonSound");
+    UMonSound = in.getColumnId("UMonSound");
+    threat = in.getColumnId("threat");
+    aidel = in.getColumnId(new String[] { "aidel", "aidel(N)", "aidel(H)" });
+    aidist = in.getColumnId(new String[] { "aidist", "aidist(N)", "aidist(H)" });
+    aip1 = in.getColumnId(new String[] { "aip1", "aip1(N)", "aip1(H)" });
+    aip2 = in.getColumnId(new String[] { "aip2", "aip2(N)", "aip2(H)" });
+    aip3 = in.getColumnId(new String[] { "aip3", "aip3(N)", "aip3(H)" });
+    aip4 = in.getColumnId(new String[] { "aip4", "aip4(N)", "aip4(H)" });
+    aip5 = in.getColumnId(new String[] { "aip5", "aip5(N)", "aip5(H)" });
+    aip6 = in.getColumnId(new String[] { "aip6", "aip6(N)", "aip6(H)" });
+    aip7 = in.getColumnId(new String[] { "aip7", "aip7(N)", "aip7(H)" });
+    aip8 = in.getColumnId(new String[] { "aip8", "aip8(N)", "aip8(H)" });
+    MissA1 = in.getColumnId("MissA1");
+    MissA2 = in.getColumnId("MissA2");
+    MissS1 = in.getColumnId("MissS1");
+    MissS2 = in.getColumnId("MissS2");
+    MissS3 = in.getColumnId("MissS3");
+    MissS4 = in.getColumnId("MissS4");
+    MissC = in.getColumnId("MissC");
+    MissSQ = in.getColumnId("MissSQ");
+    Align = in.getColumnId("Align");
+    isSpawn = in.getColumnId("isSpawn");
+    isMelee = in.getColumnId("isMelee");
+    npc = in.getColumnId("npc");
+    interact = in.getColumnId("interact");
+    inventory = in.getColumnId("inventory");
+    inTown = in.getColumnId("inTown");
+    lUndead = in.getColumnId("lUndead");
+    hUndead = in.getColumnId("hUndead");
+    demon = in.getColumnId("demon");
+    flying = in.getColumnId("flying");
+    opendoors = in.getColumnId("opendoors");
+    boss = in.getColumnId("boss");
+    primeevil = in.getColumnId("primeevil");
+    killable = in.getColumnId("killable");
+    switchai = in.getColumnId("switchai");
+    noAura = in.getColumnId("noAura");
+    nomultishot = in.getColumnId("nomultishot");
+    neverCount = in.getColumnId("neverCount");
+    petIgnore = in.getColumnId("petIgnore");
+    deathDmg = in.getColumnId("deathDmg");
+    genericSpawn = in.getColumnId("genericSpawn");
+    zoo = in.getColumnId("zoo");
+    SendSkills = in.getColumnId("SendSkills");
+    Skill1 = in.getColumnId("Skill1");
+    Sk1mode = in.getColumnId("Sk1mode");
+    Sk1lvl = in.getColumnId("Sk1lvl");
+    Skill2 = in.getColumnId("Skill2");
+    Sk2mode = in.getColumnId("Sk2mode");
+    Sk2lvl = in.getColumnId("Sk2lvl");
+    Skill3 = in.getColumnId("Skill3");
+    Sk3mode = in.getColumnId("Sk3mode");
+    Sk3lvl = in.getColumnId("Sk3lvl");
+    Skill4 = in.getColumnId("Skill4");
+    Sk4mode = in.getColumnId("Sk4mode");
+    Sk4lvl = in.getColumnId("Sk4lvl");
+    Skill5 = in.getColumnId("Skill5");
+    Sk5mode = in.getColumnId("Sk5mode");
+    Sk5lvl = in.getColumnId("Sk5lvl");
+    Skill6 = in.getColumnId("Skill6");
+    Sk6mode = in.getColumnId("Sk6mode");
+    Sk6lvl = in.getColumnId("Sk6lvl");
+    Skill7 = in.getColumnId("Skill7");
+    Sk7mode = in.getColumnId("Sk7mode");
+    Sk7lvl = in.getColumnId("Sk7lvl");
+    Skill8 = in.getColumnId("Skill8");
+    Sk8mode = in.getColumnId("Sk8mode");
+    Sk8lvl = in.getColumnId("Sk8lvl");
+    Drain = in.getColumnId(new String[] { "Drain", "Drain(N)", "Drain(H)" });
+    coldeffect = in.getColumnId(new String[] { "coldeffect", "coldeffect(N)", "coldeffect(H)" });
+    ResDm = in.getColumnId(new String[] { "ResDm", "ResDm(N)", "ResDm(H)" });
+    ResMa = in.getColumnId(new String[] { "ResMa", "ResMa(N)", "ResMa(H)" });
+    ResFi = in.getColumnId(new String[] { "ResFi", "ResFi(N)", "ResFi(H)" });
+    ResLi = in.getColumnId(new String[] { "ResLi", "ResLi(N)", "ResLi(H)" });
+    ResCo = in.getColumnId(new String[] { "ResCo", "ResCo(N)", "ResCo(H)" });
+    ResPo = in.getColumnId(new String[] { "ResPo", "ResPo(N)", "ResPo(H)" });
+    DamageRegen = in.getColumnId("DamageRegen");
+    SkillDamage = in.getColumnId("SkillDamage");
+    noRatio = in.getColumnId("noRatio");
+    NoShldBlock = in.getColumnId("NoShldBlock");
+    ToBlock = in.getColumnId(new String[] { "ToBlock", "ToBlock(N)", "ToBlock(H)" });
+    Crit = in.getColumnId("Crit");
+    minHP = in.getColumnId(new String[] { "minHP", "minHP(N)", "minHP(H)" });
+    maxHP = in.getColumnId(new String[] { "maxHP", "maxHP(N)", "maxHP(H)" });
+    AC = in.getColumnId(new String[] { "AC", "AC(N)", "AC(H)" });
+    Exp = in.getColumnId(new String[] { "Exp", "Exp(N)", "Exp(H)" });
+    A1MinD = in.getColumnId(new String[] { "A1MinD", "A1MinD(N)", "A1MinD(H)" });
+    A1MaxD = in.getColumnId(new String[] { "A1MaxD", "A1MaxD(N)", "A1MaxD(H)" });
+    A1TH = in.getColumnId(new String[] { "A1TH", "A1TH(N)", "A1TH(H)" });
+    A2MinD = in.getColumnId(new String[] { "A2MinD", "A2MinD(N)", "A2MinD(H)" });
+    A2MaxD = in.getColumnId(new String[] { "A2MaxD", "A2MaxD(N)", "A2MaxD(H)" });
+    A2TH = in.getColumnId(new String[] { "A2TH", "A2TH(N)", "A2TH(H)" });
+    S1MinD = in.getColumnId(new String[] { "S1MinD", "S1MinD(N)", "S1MinD(H)" });
+    S1MaxD = in.getColumnId(new String[] { "S1MaxD", "S1MaxD(N)", "S1MaxD(H)" });
+    S1TH = in.getColumnId(new String[] { "S1TH", "S1TH(N)", "S1TH(H)" });
+    El1Mode = in.getColumnId("El1Mode");
+    El1Type = in.getColumnId("El1Type");
+    El1Pct = in.getColumnId(new String[] { "El1Pct", "El1Pct(N)", "El1Pct(H)" });
+    El1MinD = in.getColumnId(new String[] { "El1MinD", "El1MinD(N)", "El1MinD(H)" });
+    El1MaxD = in.getColumnId(new String[] { "El1MaxD", "El1MaxD(N)", "El1MaxD(H)" });
+    El1Dur = in.getColumnId(new String[] { "El1Dur", "El1Dur(N)", "El1Dur(H)" });
+    El2Mode = in.getColumnId("El2Mode");
+    El2Type = in.getColumnId("El2Type");
+    El2Pct = in.getColumnId(new String[] { "El2Pct", "El2Pct(N)", "El2Pct(H)" });
+    El2MinD = in.getColumnId(new String[] { "El2MinD", "El2MinD(N)", "El2MinD(H)" });
+    El2MaxD = in.getColumnId(new String[] { "El2MaxD", "El2MaxD(N)", "El2MaxD(H)" });
+    El2Dur = in.getColumnId(new String[] { "El2Dur", "El2Dur(N)", "El2Dur(H)" });
+    El3Mode = in.getColumnId("El3Mode");
+    El3Type = in.getColumnId("El3Type");
+    El3Pct = in.getColumnId(new String[] { "El3Pct", "El3Pct(N)", "El3Pct(H)" });
+    El3MinD = in.getColumnId(new String[] { "El3MinD", "El3MinD(N)", "El3MinD(H)" });
+    El3MaxD = in.getColumnId(new String[] { "El3MaxD", "El3MaxD(N)", "El3MaxD(H)" });
+    El3Dur = in.getColumnId(new String[] { "El3Dur", "El3Dur(N)", "El3Dur(H)" });
+    TreasureClass1 = in.getColumnId(new String[] { "TreasureClass1", "TreasureClass1(N)", "TreasureClass1(H)" });
+    TreasureClass2 = in.getColumnId(new String[] { "TreasureClass2", "TreasureClass2(N)", "TreasureClass2(H)" });
+    TreasureClass3 = in.getColumnId(new String[] { "TreasureClass3", "TreasureClass3(N)", "TreasureClass3(H)" });
+    TreasureClass4 = in.getColumnId(new String[] { "TreasureClass4", "TreasureClass4(N)", "TreasureClass4(H)" });
+    TCQuestId = in.getColumnId("TCQuestId");
+    TCQuestCP = in.getColumnId("TCQuestCP");
+    SplEndDeath = in.getColumnId("SplEndDeath");
+    SplGetModeChart = in.getColumnId("SplGetModeChart");
+    SplEndGeneric = in.getColumnId("SplEndGeneric");
+    SplClientEnd = in.getColumnId("SplClientEnd");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, MonStats.Entry entry) {
+    entry.Id = in.getString(Id);
+    entry.hcIdx = in.getInt(hcIdx);
+    entry.BaseId = in.getString(BaseId);
+    entry.NextInClass = in.getString(NextInClass);
+    entry.TransLvl = in.getInt(TransLvl);
+    entry.NameStr = in.getString(NameStr);
+    entry.MonStatsEx = in.getString(MonStatsEx);
+    entry.MonProp = in.getString(MonProp);
+    entry.MonType = in.getString(MonType);
+    entry.AI = in.getString(AI);
+    entry.DescStr = in.getString(DescStr);
+    entry.Code = in.getString(Code);
+    entry.enabled = in.getBoolean(enabled);
+    entry.rangedtype = in.getBoolean(rangedtype);
+    entry.placespawn = in.getBoolean(placespawn);
+    entry.spawn = in.getString(spawn);
+    entry.spawnx = in.getInt(spawnx);
+    entry.spawny = in.getInt(spawny);
+    entry.spawnmode = in.getString(spawnmode);
+    entry.minion1 = in.getString(minion1);
+    entry.minion2 = in.getString(minion2);
+    entry.SetBoss = in.getBoolean(SetBoss);
+    entry.BossXfer = in.getBoolean(BossXfer);
+    entry.PartyMin = in.getInt(PartyMin);
+    entry.PartyMax = in.getInt(PartyMax);
+    entry.MinGrp = in.getInt(MinGrp);
+    entry.MaxGrp = in.getInt(MaxGrp);
+    entry.sparsePopulate = in.getInt(sparsePopulate);
+    entry.Velocity = in.getInt(Velocity);
+    entry.Run = in.getInt(Run);
+    entry.Rarity = in.getInt(Rarity);
+    entry.Level = in.getInt(Level);
+    entry.MonSound = in.getString(MonSound);
+    entry.UMonSound = in.getString(UMonSound);
+    entry.threat = in.getInt(threat);
+    entry.aidel = in.getInt(aidel);
+    entry.aidist = in.getInt(aidist);
+    entry.aip1 = in.getInt(aip1);
+    entry.aip2 = in.getInt(aip2);
+    entry.aip3 = in.getInt(aip3);
+    entry.aip4 = in.getInt(aip4);
+    entry.aip5 = in.getInt(aip5);
+    entry.aip6 = in.getInt(aip6);
+    entry.aip7 = in.getInt(aip7);
+    entry.aip8 = in.getInt(aip8);
+    entry.MissA1 = in.getString(MissA1);
+    entry.MissA2 = in.getString(MissA2);
+    entry.MissS1 = in.getString(MissS1);
+    entry.MissS2 = in.getString(MissS2);
+    entry.MissS3 = in.getString(MissS3);
+    entry.MissS4 = in.getString(MissS4);
+    entry.MissC = in.getString(MissC);
+    entry.MissSQ = in.getString(MissSQ);
+    entry.Align = in.getInt(Align);
+    entry.isSpawn = in.getBoolean(isSpawn);
+    entry.isMelee = in.getBoolean(isMelee);
+    entry.npc = in.getBoolean(npc);
+    entry.interact = in.getBoolean(interact);
+    entry.inventory = in.getBoolean(inventory);
+    entry.inTown = in.getBoolean(inTown);
+    entry.lUndead = in.getBoolean(lUndead);
+    entry.hUndead = in.getBoolean(hUndead);
+    entry.demon = in.getBoolean(demon);
+    entry.flying = in.getBoolean(flying);
+    entry.opendoors = in.getBoolean(opendoors);
+    entry.boss = in.getBoolean(boss);
+    entry.primeevil = in.getBoolean(primeevil);
+    entry.killable = in.getBoolean(killable);
+    entry.switchai = in.getBoolean(switchai);
+    entry.noAura = in.getBoolean(noAura);
+    entry.nomultishot = in.getBoolean(nomultishot);
+    entry.neverCount = in.getBoolean(neverCount);
+    entry.petIgnore = in.getBoolean(petIgnore);
+    entry.deathDmg = in.getBoolean(deathDmg);
+    entry.genericSpawn = in.getBoolean(genericSpawn);
+    entry.zoo = in.getBoolean(zoo);
+    entry.SendSkills = in.getInt(SendSkills);
+    entry.Skill1 = in.getString(Skill1);
+    entry.Sk1mode = in.getString(Sk1mode);
+    entry.Sk1lvl = in.getInt(Sk1lvl);
+    entry.Skill2 = in.getString(Skill2);
+    entry.Sk2mode = in.getString(Sk2mode);
+    entry.Sk2lvl = in.getInt(Sk2lvl);
+    entry.Skill3 = in.getString(Skill3);
+    entry.Sk3mode = in.getString(Sk3mode);
+    entry.Sk3lvl = in.getInt(Sk3lvl);
+    entry.Skill4 = in.getString(Skill4);
+    entry.Sk4mode = in.getString(Sk4mode);
+    entry.Sk4lvl = in.getInt(Sk4lvl);
+    entry.Skill5 = in.getString(Skill5);
+    entry.Sk5mode = in.getString(Sk5mode);
+    entry.Sk5lvl = in.getInt(Sk5lvl);
+    entry.Skill6 = in.getString(Skill6);
+    entry.Sk6mode = in.getString(Sk6mode);
+    entry.Sk6lvl = in.getInt(Sk6lvl);
+    entry.Skill7 = in.getString(Skill7);
+    entry.Sk7mode = in.getString(Sk7mode);
+    entry.Sk7lvl = in.getInt(Sk7lvl);
+    entry.Skill8 = in.getString(Skill8);
+    entry.Sk8mode = in.getString(Sk8mode);
+    entry.Sk8lvl = in.getInt(Sk8lvl);
+    entry.Drain = in.getInt(Drain);
+    entry.coldeffect = in.getInt(coldeffect);
+    entry.ResDm = in.getInt(ResDm);
+    entry.ResMa = in.getInt(ResMa);
+    entry.ResFi = in.getInt(ResFi);
+    entry.ResLi = in.getInt(ResLi);
+    entry.ResCo = in.getInt(ResCo);
+    entry.ResPo = in.getInt(ResPo);
+    entry.DamageRegen = in.getInt(DamageRegen);
+    entry.SkillDamage = in.getString(SkillDamage);
+    entry.noRatio = in.getBoolean(noRatio);
+    entry.NoShldBlock = in.getBoolean(NoShldBlock);
+    entry.ToBlock = in.getInt(ToBlock);
+    entry.Crit = in.getInt(Crit);
+    entry.minHP = in.getInt(minHP);
+    entry.maxHP = in.getInt(maxHP);
+    entry.AC = in.getInt(AC);
+    entry.Exp = in.getInt(Exp);
+    entry.A1MinD = in.getInt(A1MinD);
+    entry.A1MaxD = in.getInt(A1MaxD);
+    entry.A1TH = in.getInt(A1TH);
+    entry.A2MinD = in.getInt(A2MinD);
+    entry.A2MaxD = in.getInt(A2MaxD);
+    entry.A2TH = in.getInt(A2TH);
+    entry.S1MinD = in.getInt(S1MinD);
+    entry.S1MaxD = in.getInt(S1MaxD);
+    entry.S1TH = in.getInt(S1TH);
+    entry.El1Mode = in.getString(El1Mode);
+    entry.El1Type = in.getString(El1Type);
+    entry.El1Pct = in.getInt(El1Pct);
+    entry.El1MinD = in.getInt(El1MinD);
+    entry.El1MaxD = in.getInt(El1MaxD);
+    entry.El1Dur = in.getInt(El1Dur);
+    entry.El2Mode = in.getString(El2Mode);
+    entry.El2Type = in.getString(El2Type);
+    entry.El2Pct = in.getInt(El2Pct);
+    entry.El2MinD = in.getInt(El2MinD);
+    entry.El2MaxD = in.getInt(El2MaxD);
+    entry.El2Dur = in.getInt(El2Dur);
+    entry.El3Mode = in.getString(El3Mode);
+    entry.El3Type = in.getString(El3Type);
+    entry.El3Pct = in.getInt(El3Pct);
+    entry.El3MinD = in.getInt(El3MinD);
+    entry.El3MaxD = in.getInt(El3MaxD);
+    entry.El3Dur = in.getInt(El3Dur);
+    entry.TreasureClass1 = in.getString(TreasureClass1);
+    entry.TreasureClass2 = in.getString(TreasureClass2);
+    entry.TreasureClass3 = in.getString(TreasureClass3);
+    entry.TreasureClass4 = in.getString(TreasureClass4);
+    entry.TCQuestId = in.getInt(TCQuestId);
+    entry.TCQuestCP = in.getInt(TCQuestCP);
+    entry.SplEndDeath = in.getInt(SplEndDeath);
+    entry.SplGetModeChart = in.getBoolean(SplGetModeChart);
+    entry.SplEndGeneric = in.getBoolean(SplEndGeneric);
+    entry.SplClientEnd = in.getBoolean(SplClientEnd);
+  }
+
+  @Override
+  public void readBin(DataInput in, MonStats.Entry entry) throws IOException {
+    entry.Id = in.readUTF();
+    entry.hcIdx = in.readInt();
+    entry.BaseId = in.readUTF();
+    entry.NextInClass = in.readUTF();
+    entry.TransLvl = in.readInt();
+    entry.NameStr = in.readUTF();
+    entry.MonStatsEx = in.readUTF();
+    entry.MonProp = in.readUTF();
+    entry.MonType = in.readUTF();
+    entry.AI = in.readUTF();
+    entry.DescStr = in.readUTF();
+    entry.Code = in.readUTF();
+    entry.enabled = in.readBoolean();
+    entry.rangedtype = in.readBoolean();
+    entry.placespawn = in.readBoolean();
+    entry.spawn = in.readUTF();
+    entry.spawnx = in.readInt();
+    entry.spawny = in.readInt();
+    entry.spawnmode = in.readUTF();
+    entry.minion1 = in.readUTF();
+    entry.minion2 = in.readUTF();
+    entry.SetBoss = in.readBoolean();
+    entry.BossXfer = in.readBoolean();
+    entry.PartyMin = in.readInt();
+    entry.PartyMax = in.readInt();
+    entry.MinGrp = in.readInt();
+    entry.MaxGrp = in.readInt();
+    entry.sparsePopulate = in.readInt();
+    entry.Velocity = in.readInt();
+    entry.Run = in.readInt();
+    entry.Rarity = in.readInt();
+    entry.Level = new int[3];
+    for (int x = 0; x < 3; x++) entry.Level[x] = in.readInt();
+    entry.MonSound = in.readUTF();
+    entry.UMonSound = in.readUTF();
+    entry.threat = in.readInt();
+    entry.aidel = new int[3];
+    for (int x = 0; x < 3; x++) entry.aidel[x] = in.readInt();
+    entry.aidist = new int[3];
+    for (int x = 0; x < 3; x++) entry.aidist[x] = in.readInt();
+    entry.aip1 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip1[x] = in.readInt();
+    entry.aip2 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip2[x] = in.readInt();
+    entry.aip3 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip3[x] = in.readInt();
+    entry.aip4 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip4[x] = in.readInt();
+    entry.aip5 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip5[x] = in.readInt();
+    entry.aip6 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip6[x] = in.readInt();
+    entry.aip7 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip7[x] = in.readInt();
+    entry.aip8 = new int[3];
+    for (int x = 0; x < 3; x++) entry.aip8[x] = in.readInt();
+    entry.MissA1 = in.readUTF();
+    entry.MissA2 = in.readUTF();
+    entry.MissS1 = in.readUTF();
+    entry.MissS2 = in.readUTF();
+    entry.MissS3 = in.readUTF();
+    entry.MissS4 = in.readUTF();
+    entry.MissC = in.readUTF();
+    entry.MissSQ = in.readUTF();
+    entry.Align = in.readInt();
+    entry.isSpawn = in.readBoolean();
+    entry.isMelee = in.readBoolean();
+    entry.npc = in.readBoolean();
+    entry.interact = in.readBoolean();
+    entry.inventory = in.readBoolean();
+    entry.inTown = in.readBoolean();
+    entry.lUndead = in.readBoolean();
+    entry.hUndead = in.readBoolean();
+    entry.demon = in.readBoolean();
+    entry.flying = in.readBoolean();
+    entry.opendoors = in.readBoolean();
+    entry.boss = in.readBoolean();
+    entry.primeevil = in.readBoolean();
+    entry.killable = in.readBoolean();
+    entry.switchai = in.readBoolean();
+    entry.noAura = in.readBoolean();
+    entry.nomultishot = in.readBoolean();
+    entry.neverCount = in.readBoolean();
+    entry.petIgnore = in.readBoolean();
+    entry.deathDmg = in.readBoolean();
+    entry.genericSpawn = in.readBoolean();
+    entry.zoo = in.readBoolean();
+    entry.SendSkills = in.readInt();
+    entry.Skill1 = in.readUTF();
+    entry.Sk1mode = in.readUTF();
+    entry.Sk1lvl = in.readInt();
+    entry.Skill2 = in.readUTF();
+    entry.Sk2mode = in.readUTF();
+    entry.Sk2lvl = in.readInt();
+    entry.Skill3 = in.readUTF();
+    entry.Sk3mode = in.readUTF();
+    entry.Sk3lvl = in.readInt();
+    entry.Skill4 = in.readUTF();
+    entry.Sk4mode = in.readUTF();
+    entry.Sk4lvl = in.readInt();
+    entry.Skill5 = in.readUTF();
+    entry.Sk5mode = in.readUTF();
+    entry.Sk5lvl = in.readInt();
+    entry.Skill6 = in.readUTF();
+    entry.Sk6mode = in.readUTF();
+    entry.Sk6lvl = in.readInt();
+    entry.Skill7 = in.readUTF();
+    entry.Sk7mode = in.readUTF();
+    entry.Sk7lvl = in.readInt();
+    entry.Skill8 = in.readUTF();
+    entry.Sk8mode = in.readUTF();
+    entry.Sk8lvl = in.readInt();
+    entry.Drain = new int[3];
+    for (int x = 0; x < 3; x++) entry.Drain[x] = in.readInt();
+    entry.coldeffect = new int[3];
+    for (int x = 0; x < 3; x++) entry.coldeffect[x] = in.readInt();
+    entry.ResDm = new int[3];
+    for (int x = 0; x < 3; x++) entry.ResDm[x] = in.readInt();
+    entry.ResMa = new int[3];
+    for (int x = 0; x < 3; x++) entry.ResMa[x] = in.readInt();
+    entry.ResFi = new int[3];
+    for (int x = 0; x < 3; x++) entry.ResFi[x] = in.readInt();
+    entry.ResLi = new int[3];
+    for (int x = 0; x < 3; x++) entry.ResLi[x] = in.readInt();
+    entry.ResCo = new int[3];
+    for (int x = 0; x < 3; x++) entry.ResCo[x] = in.readInt();
+    entry.ResPo = new int[3];
+    for (int x = 0; x < 3; x++) entry.ResPo[x] = in.readInt();
+    entry.DamageRegen = in.readInt();
+    entry.SkillDamage = in.readUTF();
+    entry.noRatio = in.readBoolean();
+    entry.NoShldBlock = in.readBoolean();
+    entry.ToBlock = new int[3];
+    for (int x = 0; x < 3; x++) entry.ToBlock[x] = in.readInt();
+    entry.Crit = in.readInt();
+    entry.minHP = new int[3];
+    for (int x = 0; x < 3; x++) entry.minHP[x] = in.readInt();
+    entry.maxHP = new int[3];
+    for (int x = 0; x < 3; x++) entry.maxHP[x] = in.readInt();
+    entry.AC = new int[3];
+    for (int x = 0; x < 3; x++) entry.AC[x] = in.readInt();
+    entry.Exp = new int[3];
+    for (int x = 0; x < 3; x++) entry.Exp[x] = in.readInt();
+    entry.A1MinD = new int[3];
+    for (int x = 0; x < 3; x++) entry.A1MinD[x] = in.readInt();
+    entry.A1MaxD = new int[3];
+    for (int x = 0; x < 3; x++) entry.A1MaxD[x] = in.readInt();
+    entry.A1TH = new int[3];
+    for (int x = 0; x < 3; x++) entry.A1TH[x] = in.readInt();
+    entry.A2MinD = new int[3];
+    for (int x = 0; x < 3; x++) entry.A2MinD[x] = in.readInt();
+    entry.A2MaxD = new int[3];
+    for (int x = 0; x < 3; x++) entry.A2MaxD[x] = in.readInt();
+    entry.A2TH = new int[3];
+    for (int x = 0; x < 3; x++) entry.A2TH[x] = in.readInt();
+    entry.S1MinD = new int[3];
+    for (int x = 0; x < 3; x++) entry.S1MinD[x] = in.readInt();
+    entry.S1MaxD = new int[3];
+    for (int x = 0; x < 3; x++) entry.S1MaxD[x] = in.readInt();
+    entry.S1TH = new int[3];
+    for (int x = 0; x < 3; x++) entry.S1TH[x] = in.readInt();
+    entry.El1Mode = in.readUTF();
+    entry.El1Type = in.readUTF();
+    entry.El1Pct = new int[3];
+    for (int x = 0; x < 3; x++) entry.El1Pct[x] = in.readInt();
+    entry.El1MinD = new int[3];
+    for (int x = 0; x < 3; x++) entry.El1MinD[x] = in.readInt();
+    entry.El1MaxD = new int[3];
+    for (int x = 0; x < 3; x++) entry.El1MaxD[x] = in.readInt();
+    entry.El1Dur = new int[3];
+    for (int x = 0; x < 3; x++) entry.El1Dur[x] = in.readInt();
+    entry.El2Mode = in.readUTF();
+    entry.El2Type = in.readUTF();
+    entry.El2Pct = new int[3];
+    for (int x = 0; x < 3; x++) entry.El2Pct[x] = in.readInt();
+    entry.El2MinD = new int[3];
+    for (int x = 0; x < 3; x++) entry.El2MinD[x] = in.readInt();
+    entry.El2MaxD = new int[3];
+    for (int x = 0; x < 3; x++) entry.El2MaxD[x] = in.readInt();
+    entry.El2Dur = new int[3];
+    for (int x = 0; x < 3; x++) entry.El2Dur[x] = in.readInt();
+    entry.El3Mode = in.readUTF();
+    entry.El3Type = in.readUTF();
+    entry.El3Pct = new int[3];
+    for (int x = 0; x < 3; x++) entry.El3Pct[x] = in.readInt();
+    entry.El3MinD = new int[3];
+    for (int x = 0; x < 3; x++) entry.El3MinD[x] = in.readInt();
+    entry.El3MaxD = new int[3];
+    for (int x = 0; x < 3; x++) entry.El3MaxD[x] = in.readInt();
+    entry.El3Dur = new int[3];
+    for (int x = 0; x < 3; x++) entry.El3Dur[x] = in.readInt();
+    entry.TreasureClass1 = new String[3];
+    for (int x = 0; x < 3; x++) entry.TreasureClass1[x] = in.readUTF();
+    entry.TreasureClass2 = new String[3];
+    for (int x = 0; x < 3; x++) entry.TreasureClass2[x] = in.readUTF();
+    entry.TreasureClass3 = new String[3];
+    for (int x = 0; x < 3; x++) entry.TreasureClass3[x] = in.readUTF();
+    entry.TreasureClass4 = new String[3];
+    for (int x = 0; x < 3; x++) entry.TreasureClass4[x] = in.readUTF();
+    entry.TCQuestId = in.readInt();
+    entry.TCQuestCP = in.readInt();
+    entry.SplEndDeath = in.readInt();
+    entry.SplGetModeChart = in.readBoolean();
+    entry.SplEndGeneric = in.readBoolean();
+    entry.SplClientEnd = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, MonStats.Entry entry) throws IOException {
+    out.writeUTF(entry.Id);
+    out.writeInt(entry.hcIdx);
+    out.writeUTF(entry.BaseId);
+    out.writeUTF(entry.NextInClass);
+    out.writeInt(entry.TransLvl);
+    out.writeUTF(entry.NameStr);
+    out.writeUTF(entry.MonStatsEx);
+    out.writeUTF(entry.MonProp);
+    out.writeUTF(entry.MonType);
+    out.writeUTF(entry.AI);
+    out.writeUTF(entry.DescStr);
+    out.writeUTF(entry.Code);
+    out.writeBoolean(entry.enabled);
+    out.writeBoolean(entry.rangedtype);
+    out.writeBoolean(entry.placespawn);
+    out.writeUTF(entry.spawn);
+    out.writeInt(entry.spawnx);
+    out.writeInt(entry.spawny);
+    out.writeUTF(entry.spawnmode);
+    out.writeUTF(entry.minion1);
+    out.writeUTF(entry.minion2);
+    out.writeBoolean(entry.SetBoss);
+    out.writeBoolean(entry.BossXfer);
+    out.writeInt(entry.PartyMin);
+    out.writeInt(entry.PartyMax);
+    out.writeInt(entry.MinGrp);
+    out.writeInt(entry.MaxGrp);
+    out.writeInt(entry.sparsePopulate);
+    out.writeInt(entry.Velocity);
+    out.writeInt(entry.Run);
+    out.writeInt(entry.Rarity);
+    for (int x : entry.Level) out.writeInt(x);
+    out.writeUTF(entry.MonSound);
+    out.writeUTF(entry.UMonSound);
+    out.writeInt(entry.threat);
+    for (int x : entry.aidel) out.writeInt(x);
+    for (int x : entry.aidist) out.writeInt(x);
+    for (int x : entry.aip1) out.writeInt(x);
+    for (int x : entry.aip2) out.writeInt(x);
+    for (int x : entry.aip3) out.writeInt(x);
+    for (int x : entry.aip4) out.writeInt(x);
+    for (int x : entry.aip5) out.writeInt(x);
+    for (int x : entry.aip6) out.writeInt(x);
+    for (int x : entry.aip7) out.writeInt(x);
+    for (int x : entry.aip8) out.writeInt(x);
+    out.writeUTF(entry.MissA1);
+    out.writeUTF(entry.MissA2);
+    out.writeUTF(entry.MissS1);
+    out.writeUTF(entry.MissS2);
+    out.writeUTF(entry.MissS3);
+    out.writeUTF(entry.MissS4);
+    out.writeUTF(entry.MissC);
+    out.writeUTF(entry.MissSQ);
+    out.writeInt(entry.Align);
+    out.writeBoolean(entry.isSpawn);
+    out.writeBoolean(entry.isMelee);
+    out.writeBoolean(entry.npc);
+    out.writeBoolean(entry.interact);
+    out.writeBoolean(entry.inventory);
+    out.writeBoolean(entry.inTown);
+    out.writeBoolean(entry.lUndead);
+    out.writeBoolean(entry.hUndead);
+    out.writeBoolean(entry.demon);
+    out.writeBoolean(entry.flying);
+    out.writeBoolean(entry.opendoors);
+    out.writeBoolean(entry.boss);
+    out.writeBoolean(entry.primeevil);
+    out.writeBoolean(entry.killable);
+    out.writeBoolean(entry.switchai);
+    out.writeBoolean(entry.noAura);
+    out.writeBoolean(entry.nomultishot);
+    out.writeBoolean(entry.neverCount);
+    out.writeBoolean(entry.petIgnore);
+    out.writeBoolean(entry.deathDmg);
+    out.writeBoolean(entry.genericSpawn);
+    out.writeBoolean(entry.zoo);
+    out.writeInt(entry.SendSkills);
+    out.writeUTF(entry.Skill1);
+    out.writeUTF(entry.Sk1mode);
+    out.writeInt(entry.Sk1lvl);
+    out.writeUTF(entry.Skill2);
+    out.writeUTF(entry.Sk2mode);
+    out.writeInt(entry.Sk2lvl);
+    out.writeUTF(entry.Skill3);
+    out.writeUTF(entry.Sk3mode);
+    out.writeInt(entry.Sk3lvl);
+    out.writeUTF(entry.Skill4);
+    out.writeUTF(entry.Sk4mode);
+    out.writeInt(entry.Sk4lvl);
+    out.writeUTF(entry.Skill5);
+    out.writeUTF(entry.Sk5mode);
+    out.writeInt(entry.Sk5lvl);
+    out.writeUTF(entry.Skill6);
+    out.writeUTF(entry.Sk6mode);
+    out.writeInt(entry.Sk6lvl);
+    out.writeUTF(entry.Skill7);
+    out.writeUTF(entry.Sk7mode);
+    out.writeInt(entry.Sk7lvl);
+    out.writeUTF(entry.Skill8);
+    out.writeUTF(entry.Sk8mode);
+    out.writeInt(entry.Sk8lvl);
+    for (int x : entry.Drain) out.writeInt(x);
+    for (int x : entry.coldeffect) out.writeInt(x);
+    for (int x : entry.ResDm) out.writeInt(x);
+    for (int x : entry.ResMa) out.writeInt(x);
+    for (int x : entry.ResFi) out.writeInt(x);
+    for (int x : entry.ResLi) out.writeInt(x);
+    for (int x : entry.ResCo) out.writeInt(x);
+    for (int x : entry.ResPo) out.writeInt(x);
+    out.writeInt(entry.DamageRegen);
+    out.writeUTF(entry.SkillDamage);
+    out.writeBoolean(entry.noRatio);
+    out.writeBoolean(entry.NoShldBlock);
+    for (int x : entry.ToBlock) out.writeInt(x);
+    out.writeInt(entry.Crit);
+    for (int x : entry.minHP) out.writeInt(x);
+    for (int x : entry.maxHP) out.writeInt(x);
+    for (int x : entry.AC) out.writeInt(x);
+    for (int x : entry.Exp) out.writeInt(x);
+    for (int x : entry.A1MinD) out.writeInt(x);
+    for (int x : entry.A1MaxD) out.writeInt(x);
+    for (int x : entry.A1TH) out.writeInt(x);
+    for (int x : entry.A2MinD) out.writeInt(x);
+    for (int x : entry.A2MaxD) out.writeInt(x);
+    for (int x : entry.A2TH) out.writeInt(x);
+    for (int x : entry.S1MinD) out.writeInt(x);
+    for (int x : entry.S1MaxD) out.writeInt(x);
+    for (int x : entry.S1TH) out.writeInt(x);
+    out.writeUTF(entry.El1Mode);
+    out.writeUTF(entry.El1Type);
+    for (int x : entry.El1Pct) out.writeInt(x);
+    for (int x : entry.El1MinD) out.writeInt(x);
+    for (int x : entry.El1MaxD) out.writeInt(x);
+    for (int x : entry.El1Dur) out.writeInt(x);
+    out.writeUTF(entry.El2Mode);
+    out.writeUTF(entry.El2Type);
+    for (int x : entry.El2Pct) out.writeInt(x);
+    for (int x : entry.El2MinD) out.writeInt(x);
+    for (int x : entry.El2MaxD) out.writeInt(x);
+    for (int x : entry.El2Dur) out.writeInt(x);
+    out.writeUTF(entry.El3Mode);
+    out.writeUTF(entry.El3Type);
+    for (int x : entry.El3Pct) out.writeInt(x);
+    for (int x : entry.El3MinD) out.writeInt(x);
+    for (int x : entry.El3MaxD) out.writeInt(x);
+    for (int x : entry.El3Dur) out.writeInt(x);
+    for (String x : entry.TreasureClass1) out.writeUTF(x);
+    for (String x : entry.TreasureClass2) out.writeUTF(x);
+    for (String x : entry.TreasureClass3) out.writeUTF(x);
+    for (String x : entry.TreasureClass4) out.writeUTF(x);
+    out.writeInt(entry.TCQuestId);
+    out.writeInt(entry.TCQuestCP);
+    out.writeInt(entry.SplEndDeath);
+    out.writeBoolean(entry.SplGetModeChart);
+    out.writeBoolean(entry.SplEndGeneric);
+    out.writeBoolean(entry.SplClientEnd);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Id");
+    columnIds[1] = column(in, "hcIdx");
+    columnIds[2] = column(in, "BaseId");
+    columnIds[3] = column(in, "NextInClass");
+    columnIds[4] = column(in, "TransLvl");
+    columnIds[5] = column(in, "NameStr");
+    columnIds[6] = column(in, "MonStatsEx");
+    columnIds[7] = column(in, "MonProp");
+    columnIds[8] = column(in, "MonType");
+    columnIds[9] = column(in, "AI");
+    columnIds[10] = column(in, "DescStr");
+    columnIds[11] = column(in, "Code");
+    columnIds[12] = column(in, "enabled");
+    columnIds[13] = column(in, "rangedtype");
+    columnIds[14] = column(in, "placespawn");
+    columnIds[15] = column(in, "spawn");
+    columnIds[16] = column(in, "spawnx");
+    columnIds[17] = column(in, "spawny");
+    columnIds[18] = column(in, "spawnmode");
+    columnIds[19] = column(in, "minion1");
+    columnIds[20] = column(in, "minion2");
+    columnIds[21] = column(in, "SetBoss");
+    columnIds[22] = column(in, "BossXfer");
+    columnIds[23] = column(in, "PartyMin");
+    columnIds[24] = column(in, "PartyMax");
+    columnIds[25] = column(in, "MinGrp");
+    columnIds[26] = column(in, "MaxGrp");
+    columnIds[27] = column(in, "sparsePopulate");
+    columnIds[28] = column(in, "Velocity");
+    columnIds[29] = column(in, "Run");
+    columnIds[30] = column(in, "Rarity");
+    columnIds[31] = column(in, "Level");
+    columnIds[32] = column(in, "MonSound");
+    columnIds[33] = column(in, "UMonSound");
+    columnIds[34] = column(in, "threat");
+    columnIds[35] = column(in, "aidel");
+    columnIds[36] = column(in, "aidist");
+    columnIds[37] = column(in, "aip1");
+    columnIds[38] = column(in, "aip2");
+    columnIds[39] = column(in, "aip3");
+    columnIds[40] = column(in, "aip4");
+    columnIds[41] = column(in, "aip5");
+    columnIds[42] = column(in, "aip6");
+    columnIds[43] = column(in, "aip7");
+    columnIds[44] = column(in, "aip8");
+    columnIds[45] = column(in, "MissA1");
+    columnIds[46] = column(in, "MissA2");
+    columnIds[47] = column(in, "MissS1");
+    columnIds[48] = column(in, "MissS2");
+    columnIds[49] = column(in, "MissS3");
+    columnIds[50] = column(in, "MissS4");
+    columnIds[51] = column(in, "MissC");
+    columnIds[52] = column(in, "MissSQ");
+    columnIds[53] = column(in, "Align");
+    columnIds[54] = column(in, "isSpawn");
+    columnIds[55] = column(in, "isMelee");
+    columnIds[56] = column(in, "npc");
+    columnIds[57] = column(in, "interact");
+    columnIds[58] = column(in, "inventory");
+    columnIds[59] = column(in, "inTown");
+    columnIds[60] = column(in, "lUndead");
+    columnIds[61] = column(in, "hUndead");
+    columnIds[62] = column(in, "demon");
+    columnIds[63] = column(in, "flying");
+    columnIds[64] = column(in, "opendoors");
+    columnIds[65] = column(in, "boss");
+    columnIds[66] = column(in, "primeevil");
+    columnIds[67] = column(in, "killable");
+    columnIds[68] = column(in, "switchai");
+    columnIds[69] = column(in, "noAura");
+    columnIds[70] = column(in, "nomultishot");
+    columnIds[71] = column(in, "neverCount");
+    columnIds[72] = column(in, "petIgnore");
+    columnIds[73] = column(in, "deathDmg");
+    columnIds[74] = column(in, "genericSpawn");
+    columnIds[75] = column(in, "zoo");
+    columnIds[76] = column(in, "SendSkills");
+    columnIds[77] = column(in, "Skill1");
+    columnIds[78] = column(in, "Sk1mode");
+    columnIds[79] = column(in, "Sk1lvl");
+    columnIds[80] = column(in, "Skill2");
+    columnIds[81] = column(in, "Sk2mode");
+    columnIds[82] = column(in, "Sk2lvl");
+    columnIds[83] = column(in, "Skill3");
+    columnIds[84] = column(in, "Sk3mode");
+    columnIds[85] = column(in, "Sk3lvl");
+    columnIds[86] = column(in, "Skill4");
+    columnIds[87] = column(in, "Sk4mode");
+    columnIds[88] = column(in, "Sk4lvl");
+    columnIds[89] = column(in, "Skill5");
+    columnIds[90] = column(in, "Sk5mode");
+    columnIds[91] = column(in, "Sk5lvl");
+    columnIds[92] = column(in, "Skill6");
+    columnIds[93] = column(in, "Sk6mode");
+    columnIds[94] = column(in, "Sk6lvl");
+    columnIds[95] = column(in, "Skill7");
+    columnIds[96] = column(in, "Sk7mode");
+    columnIds[97] = column(in, "Sk7lvl");
+    columnIds[98] = column(in, "Skill8");
+    columnIds[99] = column(in, "Sk8mode");
+    columnIds[100] = column(in, "Sk8lvl");
+    columnIds[101] = column(in, "Drain");
+    columnIds[102] = column(in, "coldeffect");
+    columnIds[103] = column(in, "ResDm");
+    columnIds[104] = column(in, "ResMa");
+    columnIds[105] = column(in, "ResFi");
+    columnIds[106] = column(in, "ResLi");
+    columnIds[107] = column(in, "ResCo");
+    columnIds[108] = column(in, "ResPo");
+    columnIds[109] = column(in, "DamageRegen");
+    columnIds[110] = column(in, "SkillDamage");
+    columnIds[111] = column(in, "noRatio");
+    columnIds[112] = column(in, "NoShldBlock");
+    columnIds[113] = column(in, "ToBlock");
+    columnIds[114] = column(in, "Crit");
+    columnIds[115] = column(in, "minHP");
+    columnIds[116] = column(in, "maxHP");
+    columnIds[117] = column(in, "AC");
+    columnIds[118] = column(in, "Exp");
+    columnIds[119] = column(in, "A1MinD");
+    columnIds[120] = column(in, "A1MaxD");
+    columnIds[121] = column(in, "A1TH");
+    columnIds[122] = column(in, "A2MinD");
+    columnIds[123] = column(in, "A2MaxD");
+    columnIds[124] = column(in, "A2TH");
+    columnIds[125] = column(in, "S1MinD");
+    columnIds[126] = column(in, "S1MaxD");
+    columnIds[127] = column(in, "S1TH");
+    columnIds[128] = column(in, "El1Mode");
+    columnIds[129] = column(in, "El1Type");
+    columnIds[130] = column(in, "El1Pct");
+    columnIds[131] = column(in, "El1MinD");
+    columnIds[132] = column(in, "El1MaxD");
+    columnIds[133] = column(in, "El1Dur");
+    columnIds[134] = column(in, "El2Mode");
+    columnIds[135] = column(in, "El2Type");
+    columnIds[136] = column(in, "El2Pct");
+    columnIds[137] = column(in, "El2MinD");
+    columnIds[138] = column(in, "El2MaxD");
+    columnIds[139] = column(in, "El2Dur");
+    columnIds[140] = column(in, "El3Mode");
+    columnIds[141] = column(in, "El3Type");
+    columnIds[142] = column(in, "El3Pct");
+    columnIds[143] = column(in, "El3MinD");
+    columnIds[144] = column(in, "El3MaxD");
+    columnIds[145] = column(in, "El3Dur");
+    columnIds[146] = column(in, "TreasureClass1");
+    columnIds[147] = column(in, "TreasureClass2");
+    columnIds[148] = column(in, "TreasureClass3");
+    columnIds[149] = column(in, "TreasureClass4");
+    columnIds[150] = column(in, "TCQuestId");
+    columnIds[151] = column(in, "TCQuestCP");
+    columnIds[152] = column(in, "SplEndDeath");
+    columnIds[153] = column(in, "SplGetModeChart");
+    columnIds[154] = column(in, "SplEndGeneric");
+    columnIds[155] = column(in, "SplClientEnd");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, MonStats.Entry entry) {
+    entry.Id = in.getString(row, columnIds[0]);
+    entry.hcIdx = in.getInt(row, columnIds[1]);
+    entry.BaseId = in.getString(row, columnIds[2]);
+    entry.NextInClass = in.getString(row, columnIds[3]);
+    entry.TransLvl = in.getInt(row, columnIds[4]);
+    entry.NameStr = in.getString(row, columnIds[5]);
+    entry.MonStatsEx = in.getString(row, columnIds[6]);
+    entry.MonProp = in.getString(row, columnIds[7]);
+    entry.MonType = in.getString(row, columnIds[8]);
+    entry.AI = in.getString(row, columnIds[9]);
+    entry.DescStr = in.getString(row, columnIds[10]);
+    entry.Code = in.getString(row, columnIds[11]);
+    entry.enabled = in.getBoolean(row, columnIds[12]);
+    entry.rangedtype = in.getBoolean(row, columnIds[13]);
+    entry.placespawn = in.getBoolean(row, columnIds[14]);
+    entry.spawn = in.getString(row, columnIds[15]);
+    entry.spawnx = in.getInt(row, columnIds[16]);
+    entry.spawny = in.getInt(row, columnIds[17]);
+    entry.spawnmode = in.getString(row, columnIds[18]);
+    entry.minion1 = in.getString(row, columnIds[19]);
+    entry.minion2 = in.getString(row, columnIds[20]);
+    entry.SetBoss = in.getBoolean(row, columnIds[21]);
+    entry.BossXfer = in.getBoolean(row, columnIds[22]);
+    entry.PartyMin = in.getInt(row, columnIds[23]);
+    entry.PartyMax = in.getInt(row, columnIds[24]);
+    entry.MinGrp = in.getInt(row, columnIds[25]);
+    entry.MaxGrp = in.getInt(row, columnIds[26]);
+    entry.sparsePopulate = in.getInt(row, columnIds[27]);
+    entry.Velocity = in.getInt(row, columnIds[28]);
+    entry.Run = in.getInt(row, columnIds[29]);
+    entry.Rarity = in.getInt(row, columnIds[30]);
+    entry.Level = in.getInts(row, columnIds[31]);
+    entry.MonSound = in.getString(row, columnIds[32]);
+    entry.UMonSound = in.getString(row, columnIds[33]);
+    entry.threat = in.getInt(row, columnIds[34]);
+    entry.aidel = in.getInts(row, columnIds[35]);
+    entry.aidist = in.getInts(row, columnIds[36]);
+    entry.aip1 = in.getInts(row, columnIds[37]);
+    entry.aip2 = in.getInts(row, columnIds[38]);
+    entry.aip3 = in.getInts(row, columnIds[39]);
+    entry.aip4 = in.getInts(row, columnIds[40]);
+    entry.aip5 = in.getInts(row, columnIds[41]);
+    entry.aip6 = in.getInts(row, columnIds[42]);
+    entry.aip7 = in.getInts(row, columnIds[43]);
+    entry.aip8 = in.getInts(row, columnIds[44]);
+    entry.MissA1 = in.getString(row, columnIds[45]);
+    entry.MissA2 = in.getString(row, columnIds[46]);
+    entry.MissS1 = in.getString(row, columnIds[47]);
+    entry.MissS2 = in.getString(row, columnIds[48]);
+    entry.MissS3 = in.getString(row, columnIds[49]);
+    entry.MissS4 = in.getString(row, columnIds[50]);
+    entry.MissC = in.getString(row, columnIds[51]);
+    entry.MissSQ = in.getString(row, columnIds[52]);
+    entry.Align = in.getInt(row, columnIds[53]);
+    entry.isSpawn = in.getBoolean(row, columnIds[54]);
+    entry.isMelee = in.getBoolean(row, columnIds[55]);
+    entry.npc = in.getBoolean(row, columnIds[56]);
+    entry.interact = in.getBoolean(row, columnIds[57]);
+    entry.inventory = in.getBoolean(row, columnIds[58]);
+    entry.inTown = in.getBoolean(row, columnIds[59]);
+    entry.lUndead = in.getBoolean(row, columnIds[60]);
+    entry.hUndead = in.getBoolean(row, columnIds[61]);
+    entry.demon = in.getBoolean(row, columnIds[62]);
+    entry.flying = in.getBoolean(row, columnIds[63]);
+    entry.opendoors = in.getBoolean(row, columnIds[64]);
+    entry.boss = in.getBoolean(row, columnIds[65]);
+    entry.primeevil = in.getBoolean(row, columnIds[66]);
+    entry.killable = in.getBoolean(row, columnIds[67]);
+    entry.switchai = in.getBoolean(row, columnIds[68]);
+    entry.noAura = in.getBoolean(row, columnIds[69]);
+    entry.nomultishot = in.getBoolean(row, columnIds[70]);
+    entry.neverCount = in.getBoolean(row, columnIds[71]);
+    entry.petIgnore = in.getBoolean(row, columnIds[72]);
+    entry.deathDmg = in.getBoolean(row, columnIds[73]);
+    entry.genericSpawn = in.getBoolean(row, columnIds[74]);
+    entry.zoo = in.getBoolean(row, columnIds[75]);
+    entry.SendSkills = in.getInt(row, columnIds[76]);
+    entry.Skill1 = in.getString(row, columnIds[77]);
+    entry.Sk1mode = in.getString(row, columnIds[78]);
+    entry.Sk1lvl = in.getInt(row, columnIds[79]);
+    entry.Skill2 = in.getString(row, columnIds[80]);
+    entry.Sk2mode = in.getString(row, columnIds[81]);
+    entry.Sk2lvl = in.getInt(row, columnIds[82]);
+    entry.Skill3 = in.getString(row, columnIds[83]);
+    entry.Sk3mode = in.getString(row, columnIds[84]);
+    entry.Sk3lvl = in.getInt(row, columnIds[85]);
+    entry.Skill4 = in.getString(row, columnIds[86]);
+    entry.Sk4mode = in.getString(row, columnIds[87]);
+    entry.Sk4lvl = in.getInt(row, columnIds[88]);
+    entry.Skill5 = in.getString(row, columnIds[89]);
+    entry.Sk5mode = in.getString(row, columnIds[90]);
+    entry.Sk5lvl = in.getInt(row, columnIds[91]);
+    entry.Skill6 = in.getString(row, columnIds[92]);
+    entry.Sk6mode = in.getString(row, columnIds[93]);
+    entry.Sk6lvl = in.getInt(row, columnIds[94]);
+    entry.Skill7 = in.getString(row, columnIds[95]);
+    entry.Sk7mode = in.getString(row, columnIds[96]);
+    entry.Sk7lvl = in.getInt(row, columnIds[97]);
+    entry.Skill8 = in.getString(row, columnIds[98]);
+    entry.Sk8mode = in.getString(row, columnIds[99]);
+    entry.Sk8lvl = in.getInt(row, columnIds[100]);
+    entry.Drain = in.getInts(row, columnIds[101]);
+    entry.coldeffect = in.getInts(row, columnIds[102]);
+    entry.ResDm = in.getInts(row, columnIds[103]);
+    entry.ResMa = in.getInts(row, columnIds[104]);
+    entry.ResFi = in.getInts(row, columnIds[105]);
+    entry.ResLi = in.getInts(row, columnIds[106]);
+    entry.ResCo = in.getInts(row, columnIds[107]);
+    entry.ResPo = in.getInts(row, columnIds[108]);
+    entry.DamageRegen = in.getInt(row, columnIds[109]);
+    entry.SkillDamage = in.getString(row, columnIds[110]);
+    entry.noRatio = in.getBoolean(row, columnIds[111]);
+    entry.NoShldBlock = in.getBoolean(row, columnIds[112]);
+    entry.ToBlock = in.getInts(row, columnIds[113]);
+    entry.Crit = in.getInt(row, columnIds[114]);
+    entry.minHP = in.getInts(row, columnIds[115]);
+    entry.maxHP = in.getInts(row, columnIds[116]);
+    entry.AC = in.getInts(row, columnIds[117]);
+    entry.Exp = in.getInts(row, columnIds[118]);
+    entry.A1MinD = in.getInts(row, columnIds[119]);
+    entry.A1MaxD = in.getInts(row, columnIds[120]);
+    entry.A1TH = in.getInts(row, columnIds[121]);
+    entry.A2MinD = in.getInts(row, columnIds[122]);
+    entry.A2MaxD = in.getInts(row, columnIds[123]);
+    entry.A2TH = in.getInts(row, columnIds[124]);
+    entry.S1MinD = in.getInts(row, columnIds[125]);
+    entry.S1MaxD = in.getInts(row, columnIds[126]);
+    entry.S1TH = in.getInts(row, columnIds[127]);
+    entry.El1Mode = in.getString(row, columnIds[128]);
+    entry.El1Type = in.getString(row, columnIds[129]);
+    entry.El1Pct = in.getInts(row, columnIds[130]);
+    entry.El1MinD = in.getInts(row, columnIds[131]);
+    entry.El1MaxD = in.getInts(row, columnIds[132]);
+    entry.El1Dur = in.getInts(row, columnIds[133]);
+    entry.El2Mode = in.getString(row, columnIds[134]);
+    entry.El2Type = in.getString(row, columnIds[135]);
+    entry.El2Pct = in.getInts(row, columnIds[136]);
+    entry.El2MinD = in.getInts(row, columnIds[137]);
+    entry.El2MaxD = in.getInts(row, columnIds[138]);
+    entry.El2Dur = in.getInts(row, columnIds[139]);
+    entry.El3Mode = in.getString(row, columnIds[140]);
+    entry.El3Type = in.getString(row, columnIds[141]);
+    entry.El3Pct = in.getInts(row, columnIds[142]);
+    entry.El3MinD = in.getInts(row, columnIds[143]);
+    entry.El3MaxD = in.getInts(row, columnIds[144]);
+    entry.El3Dur = in.getInts(row, columnIds[145]);
+    entry.TreasureClass1 = in.getStrings(row, columnIds[146]);
+    entry.TreasureClass2 = in.getStrings(row, columnIds[147]);
+    entry.TreasureClass3 = in.getStrings(row, columnIds[148]);
+    entry.TreasureClass4 = in.getStrings(row, columnIds[149]);
+    entry.TCQuestId = in.getInt(row, columnIds[150]);
+    entry.TCQuestCP = in.getInt(row, columnIds[151]);
+    entry.SplEndDeath = in.getInt(row, columnIds[152]);
+    entry.SplGetModeChart = in.getBoolean(row, columnIds[153]);
+    entry.SplEndGeneric = in.getBoolean(row, columnIds[154]);
+    entry.SplClientEnd = in.getBoolean(row, columnIds[155]);
+  }
+
+  @Override
+  public boolean equal(MonStats.Entry e1, MonStats.Entry e2) {
+    return StringUtils.equals(e1.Id, e2.Id)
+        && e1.hcIdx == e2.hcIdx
+        && StringUtils.equals(e1.BaseId, e2.BaseId)
+        && StringUtils.equals(e1.NextInClass, e2.NextInClass)
+        && e1.TransLvl == e2.TransLvl
+        && StringUtils.equals(e1.NameStr, e2.NameStr)
+        && StringUtils.equals(e1.MonStatsEx, e2.MonStatsEx)
+        && StringUtils.equals(e1.MonProp, e2.MonProp)
+        && StringUtils.equals(e1.MonType, e2.MonType)
+        && StringUtils.equals(e1.AI, e2.AI)
+        && StringUtils.equals(e1.DescStr, e2.DescStr)
+        && StringUtils.equals(e1.Code, e2.Code)
+        && e1.enabled == e2.enabled
+        && e1.rangedtype == e2.rangedtype
+        && e1.placespawn == e2.placespawn
+        && StringUtils.equals(e1.spawn, e2.spawn)
+        && e1.spawnx == e2.spawnx
+        && e1.spawny == e2.spawny
+        && StringUtils.equals(e1.spawnmode, e2.spawnmode)
+        && StringUtils.equals(e1.minion1, e2.minion1)
+        && StringUtils.equals(e1.minion2, e2.minion2)
+        && e1.SetBoss == e2.SetBoss
+        && e1.BossXfer == e2.BossXfer
+        && e1.PartyMin == e2.PartyMin
+        && e1.PartyMax == e2.PartyMax
+        && e1.MinGrp == e2.MinGrp
+        && e1.MaxGrp == e2.MaxGrp
+        && e1.sparsePopulate == e2.sparsePopulate
+        && e1.Velocity == e2.Velocity
+        && e1.Run == e2.Run
+        && e1.Rarity == e2.Rarity
+        && Arrays.equals(e1.Level, e2.Level)
+        && StringUtils.equals(e1.MonSound, e2.MonSound)
+        && StringUtils.equals(e1.UMonSound, e2.UMonSound)
+        && e1.threat == e2.threat
+        && Arrays.equals(e1.aidel, e2.aidel)
+        && Arrays.equals(e1.aidist, e2.aidist)
+        && Arrays.equals(e1.aip1, e2.aip1)
+        && Arrays.equals(e1.aip2, e2.aip2)
+        && Arrays.equals(e1.aip3, e2.aip3)
+        && Arrays.equals(e1.aip4, e2.aip4)
+        && Arrays.equals(e1.aip5, e2.aip5)
+        && Arrays.equals(e1.aip6, e2.aip6)
+        && Arrays.equals(e1.aip7, e2.aip7)
+        && Arrays.equals(e1.aip8, e2.aip8)
+        && StringUtils.equals(e1.MissA1, e2.MissA1)
+        && StringUtils.equals(e1.MissA2, e2.MissA2)
+        && StringUtils.equals(e1.MissS1, e2.MissS1)
+        && StringUtils.equals(e1.MissS2, e2.MissS2)
+        && StringUtils.equals(e1.MissS3, e2.MissS3)
+        && StringUtils.equals(e1.MissS4, e2.MissS4)
+        && StringUtils.equals(e1.MissC, e2.MissC)
+        && StringUtils.equals(e1.MissSQ, e2.MissSQ)
+        && e1.Align == e2.Align
+        && e1.isSpawn == e2.isSpawn
+        && e1.isMelee == e2.isMelee
+        && e1.npc == e2.npc
+        && e1.interact == e2.interact
+        && e1.inventory == e2.inventory
+        && e1.inTown == e2.inTown
+        && e1.lUndead == e2.lUndead
+        && e1.hUndead == e2.hUndead
+        && e1.demon == e2.demon
+        && e1.flying == e2.flying
+        && e1.opendoors == e2.opendoors
+        && e1.boss == e2.boss
+        && e1.primeevil == e2.primeevil
+        && e1.killable == e2.killable
+        && e1.switchai == e2.switchai
+        && e1.noAura == e2.noAura
+        && e1.nomultishot == e2.nomultishot
+        && e1.neverCount == e2.neverCount
+        && e1.petIgnore == e2.petIgnore
+        && e1.deathDmg == e2.deathDmg
+        && e1.genericSpawn == e2.genericSpawn
+        && e1.zoo == e2.zoo
+        && e1.SendSkills == e2.SendSkills
+        && StringUtils.equals(e1.Skill1, e2.Skill1)
+        && StringUtils.equals(e1.Sk1mode, e2.Sk1mode)
+        && e1.Sk1lvl == e2.Sk1lvl
+        && StringUtils.equals(e1.Skill2, e2.Skill2)
+        && StringUtils.equals(e1.Sk2mode, e2.Sk2mode)
+        && e1.Sk2lvl == e2.Sk2lvl
+        && StringUtils.equals(e1.Skill3, e2.Skill3)
+        && StringUtils.equals(e1.Sk3mode, e2.Sk3mode)
+        && e1.Sk3lvl == e2.Sk3lvl
+        && StringUtils.equals(e1.Skill4, e2.Skill4)
+        && StringUtils.equals(e1.Sk4mode, e2.Sk4mode)
+        && e1.Sk4lvl == e2.Sk4lvl
+        && StringUtils.equals(e1.Skill5, e2.Skill5)
+        && StringUtils.equals(e1.Sk5mode, e2.Sk5mode)
+        && e1.Sk5lvl == e2.Sk5lvl
+        && StringUtils.equals(e1.Skill6, e2.Skill6)
+        && StringUtils.equals(e1.Sk6mode, e2.Sk6mode)
+        && e1.Sk6lvl == e2.Sk6lvl
+        && StringUtils.equals(e1.Skill7, e2.Skill7)
+        && StringUtils.equals(e1.Sk7mode, e2.Sk7mode)
+        && e1.Sk7lvl == e2.Sk7lvl
+        && StringUtils.equals(e1.Skill8, e2.Skill8)
+        && StringUtils.equals(e1.Sk8mode, e2.Sk8mode)
+        && e1.Sk8lvl == e2.Sk8lvl
+        && Arrays.equals(e1.Drain, e2.Drain)
+        && Arrays.equals(e1.coldeffect, e2.coldeffect)
+        && Arrays.equals(e1.ResDm, e2.ResDm)
+        && Arrays.equals(e1.ResMa, e2.ResMa)
+        && Arrays.equals(e1.ResFi, e2.ResFi)
+        && Arrays.equals(e1.ResLi, e2.ResLi)
+        && Arrays.equals(e1.ResCo, e2.ResCo)
+        && Arrays.equals(e1.ResPo, e2.ResPo)
+        && e1.DamageRegen == e2.DamageRegen
+        && StringUtils.equals(e1.SkillDamage, e2.SkillDamage)
+        && e1.noRatio == e2.noRatio
+        && e1.NoShldBlock == e2.NoShldBlock
+        && Arrays.equals(e1.ToBlock, e2.ToBlock)
+        && e1.Crit == e2.Crit
+        && Arrays.equals(e1.minHP, e2.minHP)
+        && Arrays.equals(e1.maxHP, e2.maxHP)
+        && Arrays.equals(e1.AC, e2.AC)
+        && Arrays.equals(e1.Exp, e2.Exp)
+        && Arrays.equals(e1.A1MinD, e2.A1MinD)
+        && Arrays.equals(e1.A1MaxD, e2.A1MaxD)
+        && Arrays.equals(e1.A1TH, e2.A1TH)
+        && Arrays.equals(e1.A2MinD, e2.A2MinD)
+        && Arrays.equals(e1.A2MaxD, e2.A2MaxD)
+        && Arrays.equals(e1.A2TH, e2.A2TH)
+        && Arrays.equals(e1.S1MinD, e2.S1MinD)
+        && Arrays.equals(e1.S1MaxD, e2.S1MaxD)
+        && Arrays.equals(e1.S1TH, e2.S1TH)
+        && StringUtils.equals(e1.El1Mode, e2.El1Mode)
+        && StringUtils.equals(e1.El1Type, e2.El1Type)
+        && Arrays.equals(e1.El1Pct, e2.El1Pct)
+        && Arrays.equals(e1.El1MinD, e2.El1MinD)
+        && Arrays.equals(e1.El1MaxD, e2.El1MaxD)
+        && Arrays.equals(e1.El1Dur, e2.El1Dur)
+        && StringUtils.equals(e1.El2Mode, e2.El2Mode)
+        && StringUtils.equals(e1.El2Type, e2.El2Type)
+        && Arrays.equals(e1.El2Pct, e2.El2Pct)
+        && Arrays.equals(e1.El2MinD, e2.El2MinD)
+        && Arrays.equals(e1.El2MaxD, e2.El2MaxD)
+        && Arrays.equals(e1.El2Dur, e2.El2Dur)
+        && StringUtils.equals(e1.El3Mode, e2.El3Mode)
+        && StringUtils.equals(e1.El3Type, e2.El3Type)
+        && Arrays.equals(e1.El3Pct, e2.El3Pct)
+        && Arrays.equals(e1.El3MinD, e2.El3MinD)
+        && Arrays.equals(e1.El3MaxD, e2.El3MaxD)
+        && Arrays.equals(e1.El3Dur, e2.El3Dur)
+        && Arrays.equals(e1.TreasureClass1, e2.TreasureClass1)
+        && Arrays.equals(e1.TreasureClass2, e2.TreasureClass2)
+        && Arrays.equals(e1.TreasureClass3, e2.TreasureClass3)
+        && Arrays.equals(e1.TreasureClass4, e2.TreasureClass4)
+        && e1.TCQuestId == e2.TCQuestId
+        && e1.TCQuestCP == e2.TCQuestCP
+        && e1.SplEndDeath == e2.SplEndDeath
+        && e1.SplGetModeChart == e2.SplGetModeChart
+        && e1.SplEndGeneric == e2.SplEndGeneric
+        && e1.SplClientEnd == e2.SplClientEnd;
+  }
+}
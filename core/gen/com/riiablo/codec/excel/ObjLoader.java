@@ -0,0 +1,89 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Obj.Entry}, do not modify.
+ */
+public final class ObjLoader extends Excel.Loader<Obj.Entry> {
+  private int Act;
+  private int Id;
+  private int Description;
+  private int ObjectId;
+  private final int[] columnIds = new int[4];
+
+  public ObjLoader() {
+    super("Act", "Id", "Description", "ObjectId");
+  }
+
+  @Override
+  public Obj.Entry newEntry() {
+    return new Obj.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INDEX;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Act = in.getColumnId("Act");
+    Id = in.getColumnId("Id");
+    Description = in.getColumnId("Description");
+    ObjectId = in.getColumnId("ObjectId");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Obj.Entry entry) {
+    entry.Act = in.getInt(Act);
+    entry.Id = in.getInt(Id);
+    entry.Description = in.getString(Description);
+    entry.ObjectId = in.getInt(ObjectId);
+  }
+
+  @Override
+  public void readBin(DataInput in, Obj.Entry entry) throws IOException {
+    entry.Act = in.readInt();
+    entry.Id = in.readInt();
+    entry.Description = in.readUTF();
+    entry.ObjectId = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Obj.Entry entry) throws IOException {
+    out.writeInt(entry.Act);
+    out.writeInt(entry.Id);
+    out.writeUTF(entry.Description);
+    out.writeInt(entry.ObjectId);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Act");
+    columnIds[1] = column(in, "Id");
+    columnIds[2] = column(in, "Description");
+    columnIds[3] = column(in, "ObjectId");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Obj.Entry entry) {
+    entry.Act = in.getInt(row, columnIds[0]);
+    entry.Id = in.getInt(row, columnIds[1]);
+    entry.Description = in.getString(row, columnIds[2]);
+    entry.ObjectId = in.getInt(row, columnIds[3]);
+  }
+
+  @Override
+  public boolean equal(Obj.Entry e1, Obj.Entry e2) {
+    return e1.Act == e2.Act
+        && e1.Id == e2.Id
+        && StringUtils.equals(e1.Description, e2.Description)
+        && e1.ObjectId == e2.ObjectId;
+  }
+}
@@ -0,0 +1,623 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Objects.Entry}, do not modify.
+ */
+public final class ObjectsLoader extends Excel.Loader<Objects.Entry> {
+  private int Name;
+  private int Description;
+  private int Id;
+  private int Token;
+  private int SpawnMax;
+  private int[] Selectable;
+  private int TrapProb;
+  private int SizeX;
+  private int SizeY;
+  private int nTgtFX;
+  private int nTgtFY;
+  private int nTgtBX;
+  private int nTgtBY;
+  private int[] FrameCnt;
+  private int[] FrameDelta;
+  private int[] CycleAnim;
+  private int[] Lit;
+  private int[] BlocksLight;
+  private int[] HasCollision;
+  private int IsAttackable0;
+  private int[] Start;
+  private int EnvEffect;
+  private int IsDoor;
+  private int BlocksVis;
+  private int Orientation;
+  private int Trans;
+  private int[] OrderFlag;
+  private int PreOperate;
+  private int[] Mode;
+  private int Yoffset;
+  private int Xoffset;
+  private int Draw;
+  private int Red;
+  private int Green;
+  private int Blue;
+  private int[] Components;
+  private int TotalPieces;
+  private int SubClass;
+  private int Xspace;
+  private int Yspace;
+  private int NameOffset;
+  private int MonsterOK;
+  private int OperateRange;
+  private int ShrineFunction;
+  private int Restore;
+  private int[] Parm;
+  private int Act;
+  private int Lockable;
+  private int Gore;
+  private int Sync;
+  private int Flicker;
+  private int Damage;
+  private int Beta;
+  private int Overlay;
+  private int CollisionSubst;
+  private int Left;
+  private int Top;
+  private int Width;
+  private int Height;
+  private int OperateFn;
+  private int PopulateFn;
+  private int InitFn;
+  private int ClientFn;
+  private int RestoreVirgins;
+  private int BlockMissile;
+  private int DrawUnder;
+  private int OpenWarp;
+  private int AutoMap;
+  private final int[] columnIds = new int[68];
+
+  public ObjectsLoader() {
+    super("Name", "Description", "Id", "Token", "SpawnMax", "Selectable", "TrapProb", "SizeX", "SizeY", "nTgtFX", "nTgtFY", "nTgtBX", "nTgtBY", "FrameCnt", "FrameDelta", "CycleAnim", "Lit", "BlocksLight", "HasCollision", "IsAttackable0", "Start", "EnvEffect", "IsDoor", "BlocksVis", "Orientation", "Trans", "OrderFlag", "PreOperate", "Mode", "Yoffset", "Xoffset", "Draw", "Red", "Green", "Blue", "Components", "TotalPieces", "SubClass", "Xspace", "Yspace", "NameOffset", "MonsterOK", "OperateRange", "ShrineFunction", "Restore", "Parm", "Act", "Lockable", "Gore", "Sync", "Flicker", "Damage", "Beta", "Overlay", "CollisionSubst", "Left", "Top", "Width", "Height", "OperateFn", "PopulateFn", "InitFn", "ClientFn", "RestoreVirgins", "BlockMissile", "DrawUnder", "OpenWarp", "AutoMap");
+  }
+
+  @Override
+  public Objects.Entry newEntry() {
+    return new Objects.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public int intKey(Objects.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Description = in.getColumnId("description - not loaded");
+    Id = in.getColumnId("Id");
+    Token = in.getColumnId("Token");
+    SpawnMax = in.getColumnId("SpawnMax");
+    Selectable = in.getColumnId(new String[] { "Selectable0", "Selectable1", "Selectable2", "Selectable3", "Selectable4", "Selectable5", "Selectable6", "Selectable7" });
+    TrapProb = in.getColumnId("TrapProb");
+    SizeX = in.getColumnId("SizeX");
+    SizeY = in.getColumnId("SizeY");
+    nTgtFX = in.getColumnId("nTgtFX");
+    nTgtFY = in.getColumnId("nTgtFY");
+    nTgtBX = in.getColumnId("nTgtBX");
+    nTgtBY = in.getColumnId("nTgtBY");
+    FrameCnt = in.getColumnId(new String[] { "FrameCnt0", "FrameCnt1", "FrameCnt2", "FrameCnt3", "FrameCnt4", "FrameCnt5", "FrameCnt6", "FrameCnt7" });
+    FrameDelta = in.getColumnId(new String[] { "FrameDelta0", "FrameDelta1", "FrameDelta2", "FrameDelta3", "FrameDelta4", "FrameDelta5", "FrameDelta6", "FrameDelta7" });
+    CycleAnim = in.getColumnId(new String[] { "CycleAnim0", "CycleAnim1", "CycleAnim2", "CycleAnim3", "CycleAnim4", "CycleAnim5", "CycleAnim6", "CycleAnim7" });
+    Lit = in.getColumnId(new String[] { "Lit0", "Lit1", "Lit2", "Lit3", "Lit4", "Lit5", "Lit6", "Lit7" });
+    BlocksLight = in.getColumnId(new String[] { "BlocksLight0", "BlocksLight1", "BlocksLight2", "BlocksLight3", "BlocksLight4", "BlocksLight5", "BlocksLight6", "BlocksLight7" });
+    HasCollision = in.getColumnId(new String[] { "HasCollision0", "HasCollision1", "HasCollision2", "HasCollision3", "HasCollision4", "HasCollision5", "HasCollision6", "HasCollision7" });
+    IsAttackable0 = in.getColumnId("IsAttackable0");
+    Start = in.getColumnId(new String[] { "Start0", "Start1", "Start2", "Start3", "Start4", "Start5", "Start6", "Start7" });
+    EnvEffect = in.getColumnId("EnvEffect");
+    IsDoor = in.getColumnId("IsDoor");
+    BlocksVis = in.getColumnId("BlocksVis");
+    Orientation = in.getColumnId("Orientation");
+    Trans = in.getColumnId("Trans");
+    OrderFlag = in.getColumnId(new String[] { "OrderFlag0", "OrderFlag1", "OrderFlag2", "OrderFlag3", "OrderFlag4", "OrderFlag5", "OrderFlag6", "OrderFlag7" });
+    PreOperate = in.getColumnId("PreOperate");
+    Mode = in.getColumnId(new String[] { "Mode0", "Mode1", "Mode2", "Mode3", "Mode4", "Mode5", "Mode6", "Mode7" });
+    Yoffset = in.getColumnId("Yoffset");
+    Xoffset = in.getColumnId("Xoffset");
+    Draw = in.getColumnId("Draw");
+    Red = in.getColumnId("Red");
+    Green = in.getColumnId("Green");
+    Blue = in.getColumnId("Blue");
+    Components = in.getColumnId(new String[] { "HD", "TR", "LG", "RA", "LA", "RH", "LH", "SH", "S1", "S2", "S3", "S4", "S5", "S6", "S7", "S8" });
+    TotalPieces = in.getColumnId("TotalPieces");
+    SubClass = in.getColumnId("SubClass");
+    Xspace = in.getColumnId("Xspace");
+    Yspace = in.getColumnId("Yspace");
+    NameOffset = in.getColumnId("NameOffset");
+    MonsterOK = in.getColumnId("MonsterOK");
+    OperateRange = in.getColumnId("OperateRange");
+    ShrineFunction = in.getColumnId("ShrineFunction");
+    Restore = in.getColumnId("Restore");
+    Parm = in.getColumnId(new String[] { "Parm0", "Parm1", "Parm2", "Parm3", "Parm4", "Parm5", "Parm6", "Parm7" });
+    Act = in.getColumnId("Act");
+    Lockable = in.getColumnId("Lockable");
+    Gore = in.getColumnId("Gore");
+    Sync = in.getColumnId("Sync");
+    Flicker = in.getColumnId("Flicker");
+    Damage = in.getColumnId("Damage");
+    Beta = in.getColumnId("Beta");
+    Overlay = in.getColumnId("Overlay");
+    CollisionSubst = in.getColumnId("CollisionSubst");
+    Left = in.getColumnId("Left");
+    Top = in.getColumnId("Top");
+    Width = in.getColumnId("Width");
+    Height = in.getColumnId("Height");
+    OperateFn = in.getColumnId("OperateFn");
+    PopulateFn = in.getColumnId("PopulateFn");
+    InitFn = in.getColumnId("InitFn");
+    ClientFn = in.getColumnId("ClientFn");
+    RestoreVirgins = in.getColumnId("RestoreVirgins");
+    BlockMissile = in.getColumnId("BlockMissile");
+    DrawUnder = in.getColumnId("DrawUnder");
+    OpenWarp = in.getColumnId("OpenWarp");
+    AutoMap = in.getColumnId("AutoMap");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Objects.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Description = in.getString(Description);
+    entry.Id = in.getInt(Id);
+    entry.Token = in.getString(Token);
+    entry.SpawnMax = in.getInt(SpawnMax);
+    entry.Selectable = in.getBoolean(Selectable);
+    entry.TrapProb = in.getInt(TrapProb);
+    entry.SizeX = in.getInt(SizeX);
+    entry.SizeY = in.getInt(SizeY);
+    entry.nTgtFX = in.getInt(nTgtFX);
+    entry.nTgtFY = in.getInt(nTgtFY);
+    entry.nTgtBX = in.getInt(nTgtBX);
+    entry.nTgtBY = in.getInt(nTgtBY);
+    entry.FrameCnt = in.getInt(FrameCnt);
+    entry.FrameDelta = in.getInt(FrameDelta);
+    entry.CycleAnim = in.getBoolean(CycleAnim);
+    entry.Lit = in.getInt(Lit);
+    entry.BlocksLight = in.getBoolean(BlocksLight);
+    entry.HasCollision = in.getBoolean(HasCollision);
+    entry.IsAttackable0 = in.getBoolean(IsAttackable0);
+    entry.Start = in.getInt(Start);
+    entry.EnvEffect = in.getBoolean(EnvEffect);
+    entry.IsDoor = in.getBoolean(IsDoor);
+    entry.BlocksVis = in.getBoolean(BlocksVis);
+    entry.Orientation = in.getInt(Orientation);
+    entry.Trans = in.getInt(Trans);
+    entry.OrderFlag = in.getInt(OrderFlag);
+    entry.PreOperate = in.getBoolean(PreOperate);
+    entry.Mode = in.getBoolean(Mode);
+    entry.Yoffset = in.getInt(Yoffset);
+    entry.Xoffset = in.getInt(Xoffset);
+    entry.Draw = in.getBoolean(Draw);
+    entry.Red = in.getInt(Red);
+    entry.Green = in.getInt(Green);
+    entry.Blue = in.getInt(Blue);
+    entry.Components = in.getBoolean(Components);
+    entry.TotalPieces = in.getInt(TotalPieces);
+    entry.SubClass = in.getInt(SubClass);
+    entry.Xspace = in.getInt(Xspace);
+    entry.Yspace = in.getInt(Yspace);
+    entry.NameOffset = in.getInt(NameOffset);
+    entry.MonsterOK = in.getBoolean(MonsterOK);
+    entry.OperateRange = in.getInt(OperateRange);
+    entry.ShrineFunction = in.getInt(ShrineFunction);
+    entry.Restore = in.getBoolean(Restore);
+    entry.Parm = in.getInt(Parm);
+    entry.Act = in.getInt(Act);
+    entry.Lockable = in.getBoolean(Lockable);
+    entry.Gore = in.getBoolean(Gore);
+    entry.Sync = in.getBoolean(Sync);
+    entry.Flicker = in.getBoolean(Flicker);
+    entry.Damage = in.getInt(Damage);
+    entry.Beta = in.getBoolean(Beta);
+    entry.Overlay = in.getInt(Overlay);
+    entry.CollisionSubst = in.getBoolean(CollisionSubst);
+    entry.Left = in.getInt(Left);
+    entry.Top = in.getInt(Top);
+    entry.Width = in.getInt(Width);
+    entry.Height = in.getInt(Height);
+    entry.OperateFn = in.getInt(OperateFn);
+    entry.PopulateFn = in.getInt(PopulateFn);
+    entry.InitFn = in.getInt(InitFn);
+    entry.ClientFn = in.getInt(ClientFn);
+    entry.RestoreVirgins = in.getBoolean(RestoreVirgins);
+    entry.BlockMissile = in.getBoolean(BlockMissile);
+    entry.DrawUnder = in.getInt(DrawUnder);
+    entry.OpenWarp = in.getBoolean(OpenWarp);
+    entry.AutoMap = in.getInt(AutoMap);
+  }
+
+  @Override
+  public void readBin(DataInput in, Objects.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Description = in.readUTF();
+    entry.Id = in.readInt();
+    entry.Token = in.readUTF();
+    entry.SpawnMax = in.readInt();
+    entry.Selectable = new boolean[8];
+    for (int x = 0; x < 8; x++) entry.Selectable[x] = in.readBoolean();
+    entry.TrapProb = in.readInt();
+    entry.SizeX = in.readInt();
+    entry.SizeY = in.readInt();
+    entry.nTgtFX = in.readInt();
+    entry.nTgtFY = in.readInt();
+    entry.nTgtBX = in.readInt();
+    entry.nTgtBY = in.readInt();
+    entry.FrameCnt = new int[8];
+    for (int x = 0; x < 8; x++) entry.FrameCnt[x] = in.readInt();
+    entry.FrameDelta = new int[8];
+    for (int x = 0; x < 8; x++) entry.FrameDelta[x] = in.readInt();
+    entry.CycleAnim = new boolean[8];
+    for (int x = 0; x < 8; x++) entry.CycleAnim[x] = in.readBoolean();
+    entry.Lit = new int[8];
+    for (int x = 0; x < 8; x++) entry.Lit[x] = in.readInt();
+    entry.BlocksLight = new boolean[8];
+    for (int x = 0; x < 8; x++) entry.BlocksLight[x] = in.readBoolean();
+    entry.HasCollision = new boolean[8];
+    for (int x = 0; x < 8; x++) entry.HasCollision[x] = in.readBoolean();
+    entry.IsAttackable0 = in.readBoolean();
+    entry.Start = new int[8];
+    for (int x = 0; x < 8; x++) entry.Start[x] = in.readInt();
+    entry.EnvEffect = in.readBoolean();
+    entry.IsDoor = in.readBoolean();
+    entry.BlocksVis = in.readBoolean();
+    entry.Orientation = in.readInt();
+    entry.Trans = in.readInt();
+    entry.OrderFlag = new int[8];
+    for (int x = 0; x < 8; x++) entry.OrderFlag[x] = in.readInt();
+    entry.PreOperate = in.readBoolean();
+    entry.Mode = new boolean[8];
+    for (int x = 0; x < 8; x++) entry.Mode[x] = in.readBoolean();
+    entry.Yoffset = in.readInt();
+    entry.Xoffset = in.readInt();
+    entry.Draw = in.readBoolean();
+    entry.Red = in.readInt();
+    entry.Green = in.readInt();
+    entry.Blue = in.readInt();
+    entry.Components = new boolean[16];
+    for (int x = 0; x < 16; x++) entry.Components[x] = in.readBoolean();
+    entry.TotalPieces = in.readInt();
+    entry.SubClass = in.readInt();
+    entry.Xspace = in.readInt();
+    entry.Yspace = in.readInt();
+    entry.NameOffset = in.readInt();
+    entry.MonsterOK = in.readBoolean();
+    entry.OperateRange = in.readInt();
+    entry.ShrineFunction = in.readInt();
+    entry.Restore = in.readBoolean();
+    entry.Parm = new int[8];
+    for (int x = 0; x < 8; x++) entry.Parm[x] = in.readInt();
+    entry.Act = in.readInt();
+    entry.Lockable = in.readBoolean();
+    entry.Gore = in.readBoolean();
+    entry.Sync = in.readBoolean();
+    entry.Flicker = in.readBoolean();
+    entry.Damage = in.readInt();
+    entry.Beta = in.readBoolean();
+    entry.Overlay = in.readInt();
+    entry.CollisionSubst = in.readBoolean();
+    entry.Left = in.readInt();
+    entry.Top = in.readInt();
+    entry.Width = in.readInt();
+    entry.Height = in.readInt();
+    entry.OperateFn = in.readInt();
+    entry.PopulateFn = in.readInt();
+    entry.InitFn = in.readInt();
+    entry.ClientFn = in.readInt();
+    entry.RestoreVirgins = in.readBoolean();
+    entry.BlockMissile = in.readBoolean();
+    entry.DrawUnder = in.readInt();
+    entry.OpenWarp = in.readBoolean();
+    entry.AutoMap = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Objects.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeUTF(entry.Description);
+    out.writeInt(entry.Id);
+    out.writeUTF(entry.Token);
+    out.writeInt(entry.SpawnMax);
+    for (boolean x : entry.Selectable) out.writeBoolean(x);
+    out.writeInt(entry.TrapProb);
+    out.writeInt(entry.SizeX);
+    out.writeInt(entry.SizeY);
+    out.writeInt(entry.nTgtFX);
+    out.writeInt(entry.nTgtFY);
+    out.writeInt(entry.nTgtBX);
+    out.writeInt(entry.nTgtBY);
+    for (int x : entry.FrameCnt) out.writeInt(x);
+    for (int x : entry.FrameDelta) out.writeInt(x);
+    for (boolean x : entry.CycleAnim) out.writeBoolean(x);
+    for (int x : entry.Lit) out.writeInt(x);
+    for (boolean x : entry.BlocksLight) out.writeBoolean(x);
+    for (boolean x : entry.HasCollision) out.writeBoolean(x);
+    out.writeBoolean(entry.IsAttackable0);
+    for (int x : entry.Start) out.writeInt(x);
+    out.writeBoolean(entry.EnvEffect);
+    out.writeBoolean(entry.IsDoor);
+    out.writeBoolean(entry.BlocksVis);
+    out.writeInt(entry.Orientation);
+    out.writeInt(entry.Trans);
+    for (int x : entry.OrderFlag) out.writeInt(x);
+    out.writeBoolean(entry.PreOperate);
+    for (boolean x : entry.Mode) out.writeBoolean(x);
+    out.writeInt(entry.Yoffset);
+    out.writeInt(entry.Xoffset);
+    out.writeBoolean(entry.Draw);
+    out.writeInt(entry.Red);
+    out.writeInt(entry.Green);
+    out.writeInt(entry.Blue);
+    for (boolean x : entry.Components) out.writeBoolean(x);
+    out.writeInt(entry.TotalPieces);
+    out.writeInt(entry.SubClass);
+    out.writeInt(entry.Xspace);
+    out.writeInt(entry.Yspace);
+    out.writeInt(entry.NameOffset);
+    out.writeBoolean(entry.MonsterOK);
+    out.writeInt(entry.OperateRange);
+    out.writeInt(entry.ShrineFunction);
+    out.writeBoolean(entry.Restore);
+    for (int x : entry.Parm) out.writeInt(x);
+    out.writeInt(entry.Act);
+    out.writeBoolean(entry.Lockable);
+    out.writeBoolean(entry.Gore);
+    out.writeBoolean(entry.Sync);
+    out.writeBoolean(entry.Flicker);
+    out.writeInt(entry.Damage);
+    out.writeBoolean(entry.Beta);
+    out.writeInt(entry.Overlay);
+    out.writeBoolean(entry.CollisionSubst);
+    out.writeInt(entry.Left);
+    out.writeInt(entry.Top);
+    out.writeInt(entry.Width);
+    out.writeInt(entry.Height);
+    out.writeInt(entry.OperateFn);
+    out.writeInt(entry.PopulateFn);
+    out.writeInt(entry.InitFn);
+    out.writeInt(entry.ClientFn);
+    out.writeBoolean(entry.RestoreVirgins);
+    out.writeBoolean(entry.BlockMissile);
+    out.writeInt(entry.DrawUnder);
+    out.writeBoolean(entry.OpenWarp);
+    out.writeInt(entry.AutoMap);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Description");
+    columnIds[2] = column(in, "Id");
+    columnIds[3] = column(in, "Token");
+    columnIds[4] = column(in, "SpawnMax");
+    columnIds[5] = column(in, "Selectable");
+    columnIds[6] = column(in, "TrapProb");
+    columnIds[7] = column(in, "SizeX");
+    columnIds[8] = column(in, "SizeY");
+    columnIds[9] = column(in, "nTgtFX");
+    columnIds[10] = column(in, "nTgtFY");
+    columnIds[11] = column(in, "nTgtBX");
+    columnIds[12] = column(in, "nTgtBY");
+    columnIds[13] = column(in, "FrameCnt");
+    columnIds[14] = column(in, "FrameDelta");
+    columnIds[15] = column(in, "CycleAnim");
+    columnIds[16] = column(in, "Lit");
+    columnIds[17] = column(in, "BlocksLight");
+    columnIds[18] = column(in, "HasCollision");
+    columnIds[19] = column(in, "IsAttackable0");
+    columnIds[20] = column(in, "Start");
+    columnIds[21] = column(in, "EnvEffect");
+    columnIds[22] = column(in, "IsDoor");
+    columnIds[23] = column(in, "BlocksVis");
+    columnIds[24] = column(in, "Orientation");
+    columnIds[25] = column(in, "Trans");
+    columnIds[26] = column(in, "OrderFlag");
+    columnIds[27] = column(in, "PreOperate");
+    columnIds[28] = column(in, "Mode");
+    columnIds[29] = column(in, "Yoffset");
+    columnIds[30] = column(in, "Xoffset");
+    columnIds[31] = column(in, "Draw");
+    columnIds[32] = column(in, "Red");
+    columnIds[33] = column(in, "Green");
+    columnIds[34] = column(in, "Blue");
+    columnIds[35] = column(in, "Components");
+    columnIds[36] = column(in, "TotalPieces");
+    columnIds[37] = column(in, "SubClass");
+    columnIds[38] = column(in, "Xspace");
+    columnIds[39] = column(in, "Yspace");
+    columnIds[40] = column(in, "NameOffset");
+    columnIds[41] = column(in, "MonsterOK");
+    columnIds[42] = column(in, "OperateRange");
+    columnIds[43] = column(in, "ShrineFunction");
+    columnIds[44] = column(in, "Restore");
+    columnIds[45] = column(in, "Parm");
+    columnIds[46] = column(in, "Act");
+    columnIds[47] = column(in, "Lockable");
+    columnIds[48] = column(in, "Gore");
+    columnIds[49] = column(in, "Sync");
+    columnIds[50] = column(in, "Flicker");
+    columnIds[51] = column(in, "Damage");
+    columnIds[52] = column(in, "Beta");
+    columnIds[53] = column(in, "Overlay");
+    columnIds[54] = column(in, "CollisionSubst");
+    columnIds[55] = column(in, "Left");
+    columnIds[56] = column(in, "Top");
+    columnIds[57] = column(in, "Width");
+    columnIds[58] = column(in, "Height");
+    columnIds[59] = column(in, "OperateFn");
+    columnIds[60] = column(in, "PopulateFn");
+    columnIds[61] = column(in, "InitFn");
+    columnIds[62] = column(in, "ClientFn");
+    columnIds[63] = column(in, "RestoreVirgins");
+    columnIds[64] = column(in, "BlockMissile");
+    columnIds[65] = column(in, "DrawUnder");
+    columnIds[66] = column(in, "OpenWarp");
+    columnIds[67] = column(in, "AutoMap");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Objects.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Description = in.getString(row, columnIds[1]);
+    entry.Id = in.getInt(row, columnIds[2]);
+    entry.Token = in.getString(row, columnIds[3]);
+    entry.SpawnMax = in.getInt(row, columnIds[4]);
+    entry.Selectable = in.getBooleans(row, columnIds[5]);
+    entry.TrapProb = in.getInt(row, columnIds[6]);
+    entry.SizeX = in.getInt(row, columnIds[7]);
+    entry.SizeY = in.getInt(row, columnIds[8]);
+    entry.nTgtFX = in.getInt(row, columnIds[9]);
+    entry.nTgtFY = in.getInt(row, columnIds[10]);
+    entry.nTgtBX = in.getInt(row, columnIds[11]);
+    entry.nTgtBY = in.getInt(row, columnIds[12]);
+    entry.FrameCnt = in.getInts(row, columnIds[13]);
+    entry.FrameDelta = in.getInts(row, columnIds[14]);
+    entry.CycleAnim = in.getBooleans(row, columnIds[15]);
+    entry.Lit = in.getInts(row, columnIds[16]);
+    entry.BlocksLight = in.getBooleans(row, columnIds[17]);
+    entry.HasCollision = in.getBooleans(row, columnIds[18]);
+    entry.IsAttackable0 = in.getBoolean(row, columnIds[19]);
+    entry.Start = in.getInts(row, columnIds[20]);
+    entry.EnvEffect = in.getBoolean(row, columnIds[21]);
+    entry.IsDoor = in.getBoolean(row, columnIds[22]);
+    entry.BlocksVis = in.getBoolean(row, columnIds[23]);
+    entry.Orientation = in.getInt(row, columnIds[24]);
+    entry.Trans = in.getInt(row, columnIds[25]);
+    entry.OrderFlag = in.getInts(row, columnIds[26]);
+    entry.PreOperate = in.getBoolean(row, columnIds[27]);
+    entry.Mode = in.getBooleans(row, columnIds[28]);
+    entry.Yoffset = in.getInt(row, columnIds[29]);
+    entry.Xoffset = in.getInt(row, columnIds[30]);
+    entry.Draw = in.getBoolean(row, columnIds[31]);
+    entry.Red = in.getInt(row, columnIds[32]);
+    entry.Green = in.getInt(row, columnIds[33]);
+    entry.Blue = in.getInt(row, columnIds[34]);
+    entry.Components = in.getBooleans(row, columnIds[35]);
+    entry.TotalPieces = in.getInt(row, columnIds[36]);
+    entry.SubClass = in.getInt(row, columnIds[37]);
+    entry.Xspace = in.getInt(row, columnIds[38]);
+    entry.Yspace = in.getInt(row, columnIds[39]);
+    entry.NameOffset = in.getInt(row, columnIds[40]);
+    entry.MonsterOK = in.getBoolean(row, columnIds[41]);
+    entry.OperateRange = in.getInt(row, columnIds[42]);
+    entry.ShrineFunction = in.getInt(row, columnIds[43]);
+    entry.Restore = in.getBoolean(row, columnIds[44]);
+    entry.Parm = in.getInts(row, columnIds[45]);
+    entry.Act = in.getInt(row, columnIds[46]);
+    entry.Lockable = in.getBoolean(row, columnIds[47]);
+    entry.Gore = in.getBoolean(row, columnIds[48]);
+    entry.Sync = in.getBoolean(row, columnIds[49]);
+    entry.Flicker = in.getBoolean(row, columnIds[50]);
+    entry.Damage = in.getInt(row, columnIds[51]);
+    entry.Beta = in.getBoolean(row, columnIds[52]);
+    entry.Overlay = in.getInt(row, columnIds[53]);
+    entry.CollisionSubst = in.getBoolean(row, columnIds[54]);
+    entry.Left = in.getInt(row, columnIds[55]);
+    entry.Top = in.getInt(row, columnIds[56]);
+    entry.Width = in.getInt(row, columnIds[57]);
+    entry.Height = in.getInt(row, columnIds[58]);
+    entry.OperateFn = in.getInt(row, columnIds[59]);
+    entry.PopulateFn = in.getInt(row, columnIds[60]);
+    entry.InitFn = in.getInt(row, columnIds[61]);
+    entry.ClientFn = in.getInt(row, columnIds[62]);
+    entry.RestoreVirgins = in.getBoolean(row, columnIds[63]);
+    entry.BlockMissile = in.getBoolean(row, columnIds[64]);
+    entry.DrawUnder = in.getInt(row, columnIds[65]);
+    entry.OpenWarp = in.getBoolean(row, columnIds[66]);
+    entry.AutoMap = in.getInt(row, columnIds[67]);
+  }
+
+  @Override
+  public boolean equal(Objects.Entry e1, Objects.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && StringUtils.equals(e1.Description, e2.Description)
+        && e1.Id == e2.Id
+        && StringUtils.equals(e1.Token, e2.Token)
+        && e1.SpawnMax == e2.SpawnMax
+        && Arrays.equals(e1.Selectable, e2.Selectable)
+        && e1.TrapProb == e2.TrapProb
+        && e1.SizeX == e2.SizeX
+        && e1.SizeY == e2.SizeY
+        && e1.nTgtFX == e2.nTgtFX
+        && e1.nTgtFY == e2.nTgtFY
+        && e1.nTgtBX == e2.nTgtBX
+        && e1.nTgtBY == e2.nTgtBY
+        && Arrays.equals(e1.FrameCnt, e2.FrameCnt)
+        && Arrays.equals(e1.FrameDelta, e2.FrameDelta)
+        && Arrays.equals(e1.CycleAnim, e2.CycleAnim)
+        && Arrays.equals(e1.Lit, e2.Lit)
+        && Arrays.equals(e1.BlocksLight, e2.BlocksLight)
+        && Arrays.equals(e1.HasCollision, e2.HasCollision)
+        && e1.IsAttackable0 == e2.IsAttackable0
+        && Arrays.equals(e1.Start, e2.Start)
+        && e1.EnvEffect == e2.EnvEffect
+        && e1.IsDoor == e2.IsDoor
+        && e1.BlocksVis == e2.BlocksVis
+        && e1.Orientation == e2.Orientation
+        && e1.Trans == e2.Trans
+        && Arrays.equals(e1.OrderFlag, e2.OrderFlag)
+        && e1.PreOperate == e2.PreOperate
+        && Arrays.equals(e1.Mode, e2.Mode)
+        && e1.Yoffset == e2.Yoffset
+        && e1.Xoffset == e2.Xoffset
+        && e1.Draw == e2.Draw
+        && e1.Red == e2.Red
+        && e1.Green == e2.Green
+        && e1.Blue == e2.Blue
+        && Arrays.equals(e1.Components, e2.Components)
+        && e1.TotalPieces == e2.TotalPieces
+        && e1.SubClass == e2.SubClass
+        && e1.Xspace == e2.Xspace
+        && e1.Yspace == e2.Yspace
+        && e1.NameOffset == e2.NameOffset
+        && e1.MonsterOK == e2.MonsterOK
+        && e1.OperateRange == e2.OperateRange
+        && e1.ShrineFunction == e2.ShrineFunction
+        && e1.Restore == e2.Restore
+        && Arrays.equals(e1.Parm, e2.Parm)
+        && e1.Act == e2.Act
+        && e1.Lockable == e2.Lockable
+        && e1.Gore == e2.Gore
+        && e1.Sync == e2.Sync
+        && e1.Flicker == e2.Flicker
+        && e1.Damage == e2.Damage
+        && e1.Beta == e2.Beta
+        && e1.Overlay == e2.Overlay
+        && e1.CollisionSubst == e2.CollisionSubst
+        && e1.Left == e2.Left
+        && e1.Top == e2.Top
+        && e1.Width == e2.Width
+        && e1.Height == e2.Height
+        && e1.OperateFn == e2.OperateFn
+        && e1.PopulateFn == e2.PopulateFn
+        && e1.InitFn == e2.InitFn
+        && e1.ClientFn == e2.ClientFn
+        && e1.RestoreVirgins == e2.RestoreVirgins
+        && e1.BlockMissile == e2.BlockMissile
+        && e1.DrawUnder == e2.DrawUnder
+        && e1.OpenWarp == e2.OpenWarp
+        && e1.AutoMap == e2.AutoMap;
+  }
+}
@@ -0,0 +1,275 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Overlay.Entry}, do not modify.
+ */
+public final class OverlayLoader extends Excel.Loader<Overlay.Entry> {
+  private int overlay;
+  private int Filename;
+  private int version;
+  private int Frames;
+  private int Character;
+  private int PreDraw;
+  private int _1ofN;
+  private int Dir;
+  private int Open;
+  private int Beta;
+  private int Xoffset;
+  private int Yoffset;
+  private int Height1;
+  private int Height2;
+  private int Height3;
+  private int Height4;
+  private int AnimRate;
+  private int LoopWaitTime;
+  private int Trans;
+  private int InitRadius;
+  private int Radius;
+  private int Red;
+  private int Green;
+  private int Blue;
+  private int NumDirections;
+  private int LocalBlood;
+  private final int[] columnIds = new int[26];
+
+  public OverlayLoader() {
+    super("overlay", "Filename", "version", "Frames", "Character", "PreDraw", "_1ofN", "Dir", "Open", "Beta", "Xoffset", "Yoffset", "Height1", "Height2", "Height3", "Height4", "AnimRate", "LoopWaitTime", "Trans", "InitRadius", "Radius", "Red", "Green", "Blue", "NumDirections", "LocalBlood");
+  }
+
+  @Override
+  public Overlay.Entry newEntry() {
+    return new Overlay.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "overlay";
+  }
+
+  @Override
+  public String stringKey(Overlay.Entry entry) {
+    return entry.overlay;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    overlay = in.getColumnId("overlay");
+    Filename = in.getColumnId("Filename");
+    version = in.getColumnId("version");
+    Frames = in.getColumnId("Frames");
+    Character = in.getColumnId("Character");
+    PreDraw = in.getColumnId("PreDraw");
+    _1ofN = in.getColumnId("1ofN");
+    Dir = in.getColumnId("Dir");
+    Open = in.getColumnId("Open");
+    Beta = in.getColumnId("Beta");
+    Xoffset = in.getColumnId("Xoffset");
+    Yoffset = in.getColumnId("Yoffset");
+    Height1 = in.getColumnId("Height1");
+    Height2 = in.getColumnId("Height2");
+    Height3 = in.getColumnId("Height3");
+    Height4 = in.getColumnId("Height4");
+    AnimRate = in.getColumnId("AnimRate");
+    LoopWaitTime = in.getColumnId("LoopWaitTime");
+    Trans = in.getColumnId("Trans");
+    InitRadius = in.getColumnId("InitRadius");
+    Radius = in.getColumnId("Radius");
+    Red = in.getColumnId("Red");
+    Green = in.getColumnId("Green");
+    Blue = in.getColumnId("Blue");
+    NumDirections = in.getColumnId("NumDirections");
+    LocalBlood = in.getColumnId("LocalBlood");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Overlay.Entry entry) {
+    entry.overlay = in.getString(overlay);
+    entry.Filename = in.getString(Filename);
+    entry.version = in.getInt(version);
+    entry.Frames = in.getInt(Frames);
+    entry.Character = in.getString(Character);
+    entry.PreDraw = in.getBoolean(PreDraw);
+    entry._1ofN = in.getInt(_1ofN);
+    entry.Dir = in.getInt(Dir);
+    entry.Open = in.getBoolean(Open);
+    entry.Beta = in.getBoolean(Beta);
+    entry.Xoffset = in.getInt(Xoffset);
+    entry.Yoffset = in.getInt(Yoffset);
+    entry.Height1 = in.getInt(Height1);
+    entry.Height2 = in.getInt(Height2);
+    entry.Height3 = in.getInt(Height3);
+    entry.Height4 = in.getInt(Height4);
+    entry.AnimRate = in.getInt(AnimRate);
+    entry.LoopWaitTime = in.getInt(LoopWaitTime);
+    entry.Trans = in.getInt(Trans);
+    entry.InitRadius = in.getInt(InitRadius);
+    entry.Radius = in.getInt(Radius);
+    entry.Red = in.getInt(Red);
+    entry.Green = in.getInt(Green);
+    entry.Blue = in.getInt(Blue);
+    entry.NumDirections = in.getInt(NumDirections);
+    entry.LocalBlood = in.getBoolean(LocalBlood);
+  }
+
+  @Override
+  public void readBin(DataInput in, Overlay.Entry entry) throws IOException {
+    entry.overlay = in.readUTF();
+    entry.Filename = in.readUTF();
+    entry.version = in.readInt();
+    entry.Frames = in.readInt();
+    entry.Character = in.readUTF();
+    entry.PreDraw = in.readBoolean();
+    entry._1ofN = in.readInt();
+    entry.Dir = in.readInt();
+    entry.Open = in.readBoolean();
+    entry.Beta = in.readBoolean();
+    entry.Xoffset = in.readInt();
+    entry.Yoffset = in.readInt();
+    entry.Height1 = in.readInt();
+    entry.Height2 = in.readInt();
+    entry.Height3 = in.readInt();
+    entry.Height4 = in.readInt();
+    entry.AnimRate = in.readInt();
+    entry.LoopWaitTime = in.readInt();
+    entry.Trans = in.readInt();
+    entry.InitRadius = in.readInt();
+    entry.Radius = in.readInt();
+    entry.Red = in.readInt();
+    entry.Green = in.readInt();
+    entry.Blue = in.readInt();
+    entry.NumDirections = in.readInt();
+    entry.LocalBlood = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Overlay.Entry entry) throws IOException {
+    out.writeUTF(entry.overlay);
+    out.writeUTF(entry.Filename);
+    out.writeInt(entry.version);
+    out.writeInt(entry.Frames);
+    out.writeUTF(entry.Character);
+    out.writeBoolean(entry.PreDraw);
+    out.writeInt(entry._1ofN);
+    out.writeInt(entry.Dir);
+    out.writeBoolean(entry.Open);
+    out.writeBoolean(entry.Beta);
+    out.writeInt(entry.Xoffset);
+    out.writeInt(entry.Yoffset);
+    out.writeInt(entry.Height1);
+    out.writeInt(entry.Height2);
+    out.writeInt(entry.Height3);
+    out.writeInt(entry.Height4);
+    out.writeInt(entry.AnimRate);
+    out.writeInt(entry.LoopWaitTime);
+    out.writeInt(entry.Trans);
+    out.writeInt(entry.InitRadius);
+    out.writeInt(entry.Radius);
+    out.writeInt(entry.Red);
+    out.writeInt(entry.Green);
+    out.writeInt(entry.Blue);
+    out.writeInt(entry.NumDirections);
+    out.writeBoolean(entry.LocalBlood);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "overlay");
+    columnIds[1] = column(in, "Filename");
+    columnIds[2] = column(in, "version");
+    columnIds[3] = column(in, "Frames");
+    columnIds[4] = column(in, "Character");
+    columnIds[5] = column(in, "PreDraw");
+    columnIds[6] = column(in, "_1ofN");
+    columnIds[7] = column(in, "Dir");
+    columnIds[8] = column(in, "Open");
+    columnIds[9] = column(in, "Beta");
+    columnIds[10] = column(in, "Xoffset");
+    columnIds[11] = column(in, "Yoffset");
+    columnIds[12] = column(in, "Height1");
+    columnIds[13] = column(in, "Height2");
+    columnIds[14] = column(in, "Height3");
+    columnIds[15] = column(in, "Height4");
+    columnIds[16] = column(in, "AnimRate");
+    columnIds[17] = column(in, "LoopWaitTime");
+    columnIds[18] = column(in, "Trans");
+    columnIds[19] = column(in, "InitRadius");
+    columnIds[20] = column(in, "Radius");
+    columnIds[21] = column(in, "Red");
+    columnIds[22] = column(in, "Green");
+    columnIds[23] = column(in, "Blue");
+    columnIds[24] = column(in, "NumDirections");
+    columnIds[25] = column(in, "LocalBlood");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Overlay.Entry entry) {
+    entry.overlay = in.getString(row, columnIds[0]);
+    entry.Filename = in.getString(row, columnIds[1]);
+    entry.version = in.getInt(row, columnIds[2]);
+    entry.Frames = in.getInt(row, columnIds[3]);
+    entry.Character = in.getString(row, columnIds[4]);
+    entry.PreDraw = in.getBoolean(row, columnIds[5]);
+    entry._1ofN = in.getInt(row, columnIds[6]);
+    entry.Dir = in.getInt(row, columnIds[7]);
+    entry.Open = in.getBoolean(row, columnIds[8]);
+    entry.Beta = in.getBoolean(row, columnIds[9]);
+    entry.Xoffset = in.getInt(row, columnIds[10]);
+    entry.Yoffset = in.getInt(row, columnIds[11]);
+    entry.Height1 = in.getInt(row, columnIds[12]);
+    entry.Height2 = in.getInt(row, columnIds[13]);
+    entry.Height3 = in.getInt(row, columnIds[14]);
+    entry.Height4 = in.getInt(row, columnIds[15]);
+    entry.AnimRate = in.getInt(row, columnIds[16]);
+    entry.LoopWaitTime = in.getInt(row, columnIds[17]);
+    entry.Trans = in.getInt(row, columnIds[18]);
+    entry.InitRadius = in.getInt(row, columnIds[19]);
+    entry.Radius = in.getInt(row, columnIds[20]);
+    entry.Red = in.getInt(row, columnIds[21]);
+    entry.Green = in.getInt(row, columnIds[22]);
+    entry.Blue = in.getInt(row, columnIds[23]);
+    entry.NumDirections = in.getInt(row, columnIds[24]);
+    entry.LocalBlood = in.getBoolean(row, columnIds[25]);
+  }
+
+  @Override
+  public boolean equal(Overlay.Entry e1, Overlay.Entry e2) {
+    return StringUtils.equals(e1.overlay, e2.overlay)
+        && StringUtils.equals(e1.Filename, e2.Filename)
+        && e1.version == e2.version
+        && e1.Frames == e2.Frames
+        && StringUtils.equals(e1.Character, e2.Character)
+        && e1.PreDraw == e2.PreDraw
+        && e1._1ofN == e2._1ofN
+        && e1.Dir == e2.Dir
+        && e1.Open == e2.Open
+        && e1.Beta == e2.Beta
+        && e1.Xoffset == e2.Xoffset
+        && e1.Yoffset == e2.Yoffset
+        && e1.Height1 == e2.Height1
+        && e1.Height2 == e2.Height2
+        && e1.Height3 == e2.Height3
+        && e1.Height4 == e2.Height4
+        && e1.AnimRate == e2.AnimRate
+        && e1.LoopWaitTime == e2.LoopWaitTime
+        && e1.Trans == e2.Trans
+        && e1.InitRadius == e2.InitRadius
+        && e1.Radius == e2.Radius
+        && e1.Red == e2.Red
+        && e1.Green == e2.Green
+        && e1.Blue == e2.Blue
+        && e1.NumDirections == e2.NumDirections
+        && e1.LocalBlood == e2.LocalBlood;
+  }
+}
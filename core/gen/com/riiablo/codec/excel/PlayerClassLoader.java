@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link PlayerClass.Entry}, do not modify.
+ */
+public final class PlayerClassLoader extends Excel.Loader<PlayerClass.Entry> {
+  private int PlayerClass;
+  private int Code;
+  private final int[] columnIds = new int[2];
+
+  public PlayerClassLoader() {
+    super("PlayerClass", "Code");
+  }
+
+  @Override
+  public PlayerClass.Entry newEntry() {
+    return new PlayerClass.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Code";
+  }
+
+  @Override
+  public String stringKey(PlayerClass.Entry entry) {
+    return entry.Code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    PlayerClass = in.getColumnId("Player Class");
+    Code = in.getColumnId("Code");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, PlayerClass.Entry entry) {
+    entry.PlayerClass = in.getString(PlayerClass);
+    entry.Code = in.getString(Code);
+  }
+
+  @Override
+  public void readBin(DataInput in, PlayerClass.Entry entry) throws IOException {
+    entry.PlayerClass = in.readUTF();
+    entry.Code = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, PlayerClass.Entry entry) throws IOException {
+    out.writeUTF(entry.PlayerClass);
+    out.writeUTF(entry.Code);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "PlayerClass");
+    columnIds[1] = column(in, "Code");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, PlayerClass.Entry entry) {
+    entry.PlayerClass = in.getString(row, columnIds[0]);
+    entry.Code = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(PlayerClass.Entry e1, PlayerClass.Entry e2) {
+    return StringUtils.equals(e1.PlayerClass, e2.PlayerClass)
+        && StringUtils.equals(e1.Code, e2.Code);
+  }
+}
@@ -0,0 +1,91 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link PlrMode.Entry}, do not modify.
+ */
+public final class PlrModeLoader extends Excel.Loader<PlrMode.Entry> {
+  private int Code;
+  private int Name;
+  private int Token;
+  private final int[] columnIds = new int[3];
+
+  public PlrModeLoader() {
+    super("Code", "Name", "Token");
+  }
+
+  @Override
+  public PlrMode.Entry newEntry() {
+    return new PlrMode.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Code";
+  }
+
+  @Override
+  public String stringKey(PlrMode.Entry entry) {
+    return entry.Code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Code = in.getColumnId("Code");
+    Name = in.getColumnId("Name");
+    Token = in.getColumnId("Token");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, PlrMode.Entry entry) {
+    entry.Code = in.getString(Code);
+    entry.Name = in.getString(Name);
+    entry.Token = in.getString(Token);
+  }
+
+  @Override
+  public void readBin(DataInput in, PlrMode.Entry entry) throws IOException {
+    entry.Code = in.readUTF();
+    entry.Name = in.readUTF();
+    entry.Token = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, PlrMode.Entry entry) throws IOException {
+    out.writeUTF(entry.Code);
+    out.writeUTF(entry.Name);
+    out.writeUTF(entry.Token);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Code");
+    columnIds[1] = column(in, "Name");
+    columnIds[2] = column(in, "Token");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, PlrMode.Entry entry) {
+    entry.Code = in.getString(row, columnIds[0]);
+    entry.Name = in.getString(row, columnIds[1]);
+    entry.Token = in.getString(row, columnIds[2]);
+  }
+
+  @Override
+  public boolean equal(PlrMode.Entry e1, PlrMode.Entry e2) {
+    return StringUtils.equals(e1.Code, e2.Code)
+        && StringUtils.equals(e1.Name, e2.Name)
+        && StringUtils.equals(e1.Token, e2.Token);
+  }
+}
@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link PlrType.Entry}, do not modify.
+ */
+public final class PlrTypeLoader extends Excel.Loader<PlrType.Entry> {
+  private int Name;
+  private int Token;
+  private final int[] columnIds = new int[2];
+
+  public PlrTypeLoader() {
+    super("Name", "Token");
+  }
+
+  @Override
+  public PlrType.Entry newEntry() {
+    return new PlrType.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Token";
+  }
+
+  @Override
+  public String stringKey(PlrType.Entry entry) {
+    return entry.Token;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Token = in.getColumnId("Token");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, PlrType.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Token = in.getString(Token);
+  }
+
+  @Override
+  public void readBin(DataInput in, PlrType.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Token = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, PlrType.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeUTF(entry.Token);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Token");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, PlrType.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Token = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(PlrType.Entry e1, PlrType.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && StringUtils.equals(e1.Token, e2.Token);
+  }
+}
@@ -0,0 +1,111 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Properties.Entry}, do not modify.
+ */
+public final class PropertiesLoader extends Excel.Loader<Properties.Entry> {
+  private int code;
+  private int[] set;
+  private int[] val;
+  private int[] func;
+  private int[] stat;
+  private final int[] columnIds = new int[5];
+
+  public PropertiesLoader() {
+    super("code", "set", "val", "func", "stat");
+  }
+
+  @Override
+  public Properties.Entry newEntry() {
+    return new Properties.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "code";
+  }
+
+  @Override
+  public String stringKey(Properties.Entry entry) {
+    return entry.code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    code = in.getColumnId("code");
+    set = in.getColumnId(new String[] { "set1", "set2", "set3", "set4", "set5", "set6", "set7" });
+    val = in.getColumnId(new String[] { "val1", "val2", "val3", "val4", "val5", "val6", "val7" });
+    func = in.getColumnId(new String[] { "func1", "func2", "func3", "func4", "func5", "func6", "func7" });
+    stat = in.getColumnId(new String[] { "stat1", "stat2", "stat3", "stat4", "stat5", "stat6", "stat7" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Properties.Entry entry) {
+    entry.code = in.getString(code);
+    entry.set = in.getInt(set);
+    entry.val = in.getInt(val);
+    entry.func = in.getInt(func);
+    entry.stat = in.getString(stat);
+  }
+
+  @Override
+  public void readBin(DataInput in, Properties.Entry entry) throws IOException {
+    entry.code = in.readUTF();
+    entry.set = new int[7];
+    for (int x = 0; x < 7; x++) entry.set[x] = in.readInt();
+    entry.val = new int[7];
+    for (int x = 0; x < 7; x++) entry.val[x] = in.readInt();
+    entry.func = new int[7];
+    for (int x = 0; x < 7; x++) entry.func[x] = in.readInt();
+    entry.stat = new String[7];
+    for (int x = 0; x < 7; x++) entry.stat[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Properties.Entry entry) throws IOException {
+    out.writeUTF(entry.code);
+    for (int x : entry.set) out.writeInt(x);
+    for (int x : entry.val) out.writeInt(x);
+    for (int x : entry.func) out.writeInt(x);
+    for (String x : entry.stat) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "code");
+    columnIds[1] = column(in, "set");
+    columnIds[2] = column(in, "val");
+    columnIds[3] = column(in, "func");
+    columnIds[4] = column(in, "stat");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Properties.Entry entry) {
+    entry.code = in.getString(row, columnIds[0]);
+    entry.set = in.getInts(row, columnIds[1]);
+    entry.val = in.getInts(row, columnIds[2]);
+    entry.func = in.getInts(row, columnIds[3]);
+    entry.stat = in.getStrings(row, columnIds[4]);
+  }
+
+  @Override
+  public boolean equal(Properties.Entry e1, Properties.Entry e2) {
+    return StringUtils.equals(e1.code, e2.code)
+        && Arrays.equals(e1.set, e2.set)
+        && Arrays.equals(e1.val, e2.val)
+        && Arrays.equals(e1.func, e2.func)
+        && Arrays.equals(e1.stat, e2.stat);
+  }
+}
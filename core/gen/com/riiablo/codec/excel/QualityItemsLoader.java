@@ -0,0 +1,314 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link QualityItems.Entry}, do not modify.
+ */
+public final class QualityItemsLoader extends Excel.Loader<QualityItems.Entry> {
+  private int nummods;
+  private int mod1code;
+  private int mod1param;
+  private int mod1min;
+  private int mod1max;
+  private int mod2code;
+  private int mod2param;
+  private int mod2min;
+  private int mod2max;
+  private int ToHitMin;
+  private int ToHitMax;
+  private int DamMin;
+  private int DamMax;
+  private int ACMin;
+  private int ACMax;
+  private int DurMin;
+  private int DurMax;
+  private int[] effect;
+  private int armor;
+  private int weapon;
+  private int shield;
+  private int thrown;
+  private int scepter;
+  private int wand;
+  private int staff;
+  private int bow;
+  private int boots;
+  private int gloves;
+  private int belt;
+  private int level;
+  private int multiply;
+  private int add;
+  private final int[] columnIds = new int[32];
+
+  public QualityItemsLoader() {
+    super("nummods", "mod1code", "mod1param", "mod1min", "mod1max", "mod2code", "mod2param", "mod2min", "mod2max", "ToHitMin", "ToHitMax", "DamMin", "DamMax", "ACMin", "ACMax", "DurMin", "DurMax", "effect", "armor", "weapon", "shield", "thrown", "scepter", "wand", "staff", "bow", "boots", "gloves", "belt", "level", "multiply", "add");
+  }
+
+  @Override
+  public QualityItems.Entry newEntry() {
+    return new QualityItems.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INDEX;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    nummods = in.getColumnId("nummods");
+    mod1code = in.getColumnId("mod1code");
+    mod1param = in.getColumnId("mod1param");
+    mod1min = in.getColumnId("mod1min");
+    mod1max = in.getColumnId("mod1max");
+    mod2code = in.getColumnId("mod2code");
+    mod2param = in.getColumnId("mod2param");
+    mod2min = in.getColumnId("mod2min");
+    mod2max = in.getColumnId("mod2max");
+    ToHitMin = in.getColumnId("ToHitMin");
+    ToHitMax = in.getColumnId("ToHitMax");
+    DamMin = in.getColumnId("Dam%Min");
+    DamMax = in.getColumnId("Dam%Max");
+    ACMin = in.getColumnId("AC%Min");
+    ACMax = in.getColumnId("AC%Max");
+    DurMin = in.getColumnId("Dur%Min");
+    DurMax = in.getColumnId("Dur%Max");
+    effect = in.getColumnId(new String[] { "effect1", "effect2" });
+    armor = in.getColumnId("armor");
+    weapon = in.getColumnId("weapon");
+    shield = in.getColumnId("shield");
+    thrown = in.getColumnId("thrown");
+    scepter = in.getColumnId("scepter");
+    wand = in.getColumnId("wand");
+    staff = in.getColumnId("staff");
+    bow = in.getColumnId("bow");
+    boots = in.getColumnId("boots");
+    gloves = in.getColumnId("gloves");
+    belt = in.getColumnId("belt");
+    level = in.getColumnId("level");
+    multiply = in.getColumnId("multiply");
+    add = in.getColumnId("add");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, QualityItems.Entry entry) {
+    entry.nummods = in.getInt(nummods);
+    entry.mod1code = in.getString(mod1code);
+    entry.mod1param = in.getInt(mod1param);
+    entry.mod1min = in.getInt(mod1min);
+    entry.mod1max = in.getInt(mod1max);
+    entry.mod2code = in.getString(mod2code);
+    entry.mod2param = in.getInt(mod2param);
+    entry.mod2min = in.getInt(mod2min);
+    entry.mod2max = in.getInt(mod2max);
+    entry.ToHitMin = in.getInt(ToHitMin);
+    entry.ToHitMax = in.getInt(ToHitMax);
+    entry.DamMin = in.getInt(DamMin);
+    entry.DamMax = in.getInt(DamMax);
+    entry.ACMin = in.getInt(ACMin);
+    entry.ACMax = in.getInt(ACMax);
+    entry.DurMin = in.getInt(DurMin);
+    entry.DurMax = in.getInt(DurMax);
+    entry.effect = in.getString(effect);
+    entry.armor = in.getBoolean(armor);
+    entry.weapon = in.getBoolean(weapon);
+    entry.shield = in.getBoolean(shield);
+    entry.thrown = in.getBoolean(thrown);
+    entry.scepter = in.getBoolean(scepter);
+    entry.wand = in.getBoolean(wand);
+    entry.staff = in.getBoolean(staff);
+    entry.bow = in.getBoolean(bow);
+    entry.boots = in.getBoolean(boots);
+    entry.gloves = in.getBoolean(gloves);
+    entry.belt = in.getBoolean(belt);
+    entry.level = in.getInt(level);
+    entry.multiply = in.getInt(multiply);
+    entry.add = in.getInt(add);
+  }
+
+  @Override
+  public void readBin(DataInput in, QualityItems.Entry entry) throws IOException {
+    entry.nummods = in.readInt();
+    entry.mod1code = in.readUTF();
+    entry.mod1param = in.readInt();
+    entry.mod1min = in.readInt();
+    entry.mod1max = in.readInt();
+    entry.mod2code = in.readUTF();
+    entry.mod2param = in.readInt();
+    entry.mod2min = in.readInt();
+    entry.mod2max = in.readInt();
+    entry.ToHitMin = in.readInt();
+    entry.ToHitMax = in.readInt();
+    entry.DamMin = in.readInt();
+    entry.DamMax = in.readInt();
+    entry.ACMin = in.readInt();
+    entry.ACMax = in.readInt();
+    entry.DurMin = in.readInt();
+    entry.DurMax = in.readInt();
+    entry.effect = new String[2];
+    for (int x = 0; x < 2; x++) entry.effect[x] = in.readUTF();
+    entry.armor = in.readBoolean();
+    entry.weapon = in.readBoolean();
+    entry.shield = in.readBoolean();
+    entry.thrown = in.readBoolean();
+    entry.scepter = in.readBoolean();
+    entry.wand = in.readBoolean();
+    entry.staff = in.readBoolean();
+    entry.bow = in.readBoolean();
+    entry.boots = in.readBoolean();
+    entry.gloves = in.readBoolean();
+    entry.belt = in.readBoolean();
+    entry.level = in.readInt();
+    entry.multiply = in.readInt();
+    entry.add = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, QualityItems.Entry entry) throws IOException {
+    out.writeInt(entry.nummods);
+    out.writeUTF(entry.mod1code);
+    out.writeInt(entry.mod1param);
+    out.writeInt(entry.mod1min);
+    out.writeInt(entry.mod1max);
+    out.writeUTF(entry.mod2code);
+    out.writeInt(entry.mod2param);
+    out.writeInt(entry.mod2min);
+    out.writeInt(entry.mod2max);
+    out.writeInt(entry.ToHitMin);
+    out.writeInt(entry.ToHitMax);
+    out.writeInt(entry.DamMin);
+    out.writeInt(entry.DamMax);
+    out.writeInt(entry.ACMin);
+    out.writeInt(entry.ACMax);
+    out.writeInt(entry.DurMin);
+    out.writeInt(entry.DurMax);
+    for (String x : entry.effect) out.writeUTF(x);
+    out.writeBoolean(entry.armor);
+    out.writeBoolean(entry.weapon);
+    out.writeBoolean(entry.shield);
+    out.writeBoolean(entry.thrown);
+    out.writeBoolean(entry.scepter);
+    out.writeBoolean(entry.wand);
+    out.writeBoolean(entry.staff);
+    out.writeBoolean(entry.bow);
+    out.writeBoolean(entry.boots);
+    out.writeBoolean(entry.gloves);
+    out.writeBoolean(entry.belt);
+    out.writeInt(entry.level);
+    out.writeInt(entry.multiply);
+    out.writeInt(entry.add);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "nummods");
+    columnIds[1] = column(in, "mod1code");
+    columnIds[2] = column(in, "mod1param");
+    columnIds[3] = column(in, "mod1min");
+    columnIds[4] = column(in, "mod1max");
+    columnIds[5] = column(in, "mod2code");
+    columnIds[6] = column(in, "mod2param");
+    columnIds[7] = column(in, "mod2min");
+    columnIds[8] = column(in, "mod2max");
+    columnIds[9] = column(in, "ToHitMin");
+    columnIds[10] = column(in, "ToHitMax");
+    columnIds[11] = column(in, "DamMin");
+    columnIds[12] = column(in, "DamMax");
+    columnIds[13] = column(in, "ACMin");
+    columnIds[14] = column(in, "ACMax");
+    columnIds[15] = column(in, "DurMin");
+    columnIds[16] = column(in, "DurMax");
+    columnIds[17] = column(in, "effect");
+    columnIds[18] = column(in, "armor");
+    columnIds[19] = column(in, "weapon");
+    columnIds[20] = column(in, "shield");
+    columnIds[21] = column(in, "thrown");
+    columnIds[22] = column(in, "scepter");
+    columnIds[23] = column(in, "wand");
+    columnIds[24] = column(in, "staff");
+    columnIds[25] = column(in, "bow");
+    columnIds[26] = column(in, "boots");
+    columnIds[27] = column(in, "gloves");
+    columnIds[28] = column(in, "belt");
+    columnIds[29] = column(in, "level");
+    columnIds[30] = column(in, "multiply");
+    columnIds[31] = column(in, "add");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, QualityItems.Entry entry) {
+    entry.nummods = in.getInt(row, columnIds[0]);
+    entry.mod1code = in.getString(row, columnIds[1]);
+    entry.mod1param = in.getInt(row, columnIds[2]);
+    entry.mod1min = in.getInt(row, columnIds[3]);
+    entry.mod1max = in.getInt(row, columnIds[4]);
+    entry.mod2code = in.getString(row, columnIds[5]);
+    entry.mod2param = in.getInt(row, columnIds[6]);
+    entry.mod2min = in.getInt(row, columnIds[7]);
+    entry.mod2max = in.getInt(row, columnIds[8]);
+    entry.ToHitMin = in.getInt(row, columnIds[9]);
+    entry.ToHitMax = in.getInt(row, columnIds[10]);
+    entry.DamMin = in.getInt(row, columnIds[11]);
+    entry.DamMax = in.getInt(row, columnIds[12]);
+    entry.ACMin = in.getInt(row, columnIds[13]);
+    entry.ACMax = in.getInt(row, columnIds[14]);
+    entry.DurMin = in.getInt(row, columnIds[15]);
+    entry.DurMax = in.getInt(row, columnIds[16]);
+    entry.effect = in.getStrings(row, columnIds[17]);
+    entry.armor = in.getBoolean(row, columnIds[18]);
+    entry.weapon = in.getBoolean(row, columnIds[19]);
+    entry.shield = in.getBoolean(row, columnIds[20]);
+    entry.thrown = in.getBoolean(row, columnIds[21]);
+    entry.scepter = in.getBoolean(row, columnIds[22]);
+    entry.wand = in.getBoolean(row, columnIds[23]);
+    entry.staff = in.getBoolean(row, columnIds[24]);
+    entry.bow = in.getBoolean(row, columnIds[25]);
+    entry.boots = in.getBoolean(row, columnIds[26]);
+    entry.gloves = in.getBoolean(row, columnIds[27]);
+    entry.belt = in.getBoolean(row, columnIds[28]);
+    entry.level = in.getInt(row, columnIds[29]);
+    entry.multiply = in.getInt(row, columnIds[30]);
+    entry.add = in.getInt(row, columnIds[31]);
+  }
+
+  @Override
+  public boolean equal(QualityItems.Entry e1, QualityItems.Entry e2) {
+    return e1.nummods == e2.nummods
+        && StringUtils.equals(e1.mod1code, e2.mod1code)
+        && e1.mod1param == e2.mod1param
+        && e1.mod1min == e2.mod1min
+        && e1.mod1max == e2.mod1max
+        && StringUtils.equals(e1.mod2code, e2.mod2code)
+        && e1.mod2param == e2.mod2param
+        && e1.mod2min == e2.mod2min
+        && e1.mod2max == e2.mod2max
+        && e1.ToHitMin == e2.ToHitMin
+        && e1.ToHitMax == e2.ToHitMax
+        && e1.DamMin == e2.DamMin
+        && e1.DamMax == e2.DamMax
+        && e1.ACMin == e2.ACMin
+        && e1.ACMax == e2.ACMax
+        && e1.DurMin == e2.DurMin
+        && e1.DurMax == e2.DurMax
+        && Arrays.equals(e1.effect, e2.effect)
+        && e1.armor == e2.armor
+        && e1.weapon == e2.weapon
+        && e1.shield == e2.shield
+        && e1.thrown == e2.thrown
+        && e1.scepter == e2.scepter
+        && e1.wand == e2.wand
+        && e1.staff == e2.staff
+        && e1.bow == e2.bow
+        && e1.boots == e2.boots
+        && e1.gloves == e2.gloves
+        && e1.belt == e2.belt
+        && e1.level == e2.level
+        && e1.multiply == e2.multiply
+        && e1.add == e2.add;
+  }
+}
@@ -0,0 +1,158 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Quests.Entry}, do not modify.
+ */
+public final class QuestsLoader extends Excel.Loader<Quests.Entry> {
+  private int id;
+  private int name;
+  private int act;
+  private int order;
+  private int visible;
+  private int icon;
+  private int questdone;
+  private int qstr;
+  private int[] qsts;
+  private int[] qstsa;
+  private int[] qstsb;
+  private final int[] columnIds = new int[11];
+
+  public QuestsLoader() {
+    super("id", "name", "act", "order", "visible", "icon", "questdone", "qstr", "qsts", "qstsa", "qstsb");
+  }
+
+  @Override
+  public Quests.Entry newEntry() {
+    return new Quests.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "id";
+  }
+
+  @Override
+  public int intKey(Quests.Entry entry) {
+    return entry.id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    id = in.getColumnId("id");
+    name = in.getColumnId("name");
+    act = in.getColumnId("act");
+    order = in.getColumnId("order");
+    visible = in.getColumnId("visible");
+    icon = in.getColumnId("icon");
+    questdone = in.getColumnId("questdone");
+    qstr = in.getColumnId("qstr");
+    qsts = in.getColumnId(new String[] { "qsts1", "qsts2", "qsts3", "qsts4", "qsts5", "qsts6" });
+    qstsa = in.getColumnId(new String[] { "qsts1a", "qsts2a", "qsts3a", "qsts4a", "qsts5a", "qsts6a" });
+    qstsb = in.getColumnId(new String[] { "qsts1b", "qsts2b", "qsts3b", "qsts4b", "qsts5b", "qsts6b" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Quests.Entry entry) {
+    entry.id = in.getInt(id);
+    entry.name = in.getString(name);
+    entry.act = in.getInt(act);
+    entry.order = in.getInt(order);
+    entry.visible = in.getBoolean(visible);
+    entry.icon = in.getString(icon);
+    entry.questdone = in.getInt(questdone);
+    entry.qstr = in.getString(qstr);
+    entry.qsts = in.getString(qsts);
+    entry.qstsa = in.getString(qstsa);
+    entry.qstsb = in.getString(qstsb);
+  }
+
+  @Override
+  public void readBin(DataInput in, Quests.Entry entry) throws IOException {
+    entry.id = in.readInt();
+    entry.name = in.readUTF();
+    entry.act = in.readInt();
+    entry.order = in.readInt();
+    entry.visible = in.readBoolean();
+    entry.icon = in.readUTF();
+    entry.questdone = in.readInt();
+    entry.qstr = in.readUTF();
+    entry.qsts = new String[6];
+    for (int x = 0; x < 6; x++) entry.qsts[x] = in.readUTF();
+    entry.qstsa = new String[6];
+    for (int x = 0; x < 6; x++) entry.qstsa[x] = in.readUTF();
+    entry.qstsb = new String[6];
+    for (int x = 0; x < 6; x++) entry.qstsb[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Quests.Entry entry) throws IOException {
+    out.writeInt(entry.id);
+    out.writeUTF(entry.name);
+    out.writeInt(entry.act);
+    out.writeInt(entry.order);
+    out.writeBoolean(entry.visible);
+    out.writeUTF(entry.icon);
+    out.writeInt(entry.questdone);
+    out.writeUTF(entry.qstr);
+    for (String x : entry.qsts) out.writeUTF(x);
+    for (String x : entry.qstsa) out.writeUTF(x);
+    for (String x : entry.qstsb) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "id");
+    columnIds[1] = column(in, "name");
+    columnIds[2] = column(in, "act");
+    columnIds[3] = column(in, "order");
+    columnIds[4] = column(in, "visible");
+    columnIds[5] = column(in, "icon");
+    columnIds[6] = column(in, "questdone");
+    columnIds[7] = column(in, "qstr");
+    columnIds[8] = column(in, "qsts");
+    columnIds[9] = column(in, "qstsa");
+    columnIds[10] = column(in, "qstsb");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Quests.Entry entry) {
+    entry.id = in.getInt(row, columnIds[0]);
+    entry.name = in.getString(row, columnIds[1]);
+    entry.act = in.getInt(row, columnIds[2]);
+    entry.order = in.getInt(row, columnIds[3]);
+    entry.visible = in.getBoolean(row, columnIds[4]);
+    entry.icon = in.getString(row, columnIds[5]);
+    entry.questdone = in.getInt(row, columnIds[6]);
+    entry.qstr = in.getString(row, columnIds[7]);
+    entry.qsts = in.getStrings(row, columnIds[8]);
+    entry.qstsa = in.getStrings(row, columnIds[9]);
+    entry.qstsb = in.getStrings(row, columnIds[10]);
+  }
+
+  @Override
+  public boolean equal(Quests.Entry e1, Quests.Entry e2) {
+    return e1.id == e2.id
+        && StringUtils.equals(e1.name, e2.name)
+        && e1.act == e2.act
+        && e1.order == e2.order
+        && e1.visible == e2.visible
+        && StringUtils.equals(e1.icon, e2.icon)
+        && e1.questdone == e2.questdone
+        && StringUtils.equals(e1.qstr, e2.qstr)
+        && Arrays.equals(e1.qsts, e2.qsts)
+        && Arrays.equals(e1.qstsa, e2.qstsa)
+        && Arrays.equals(e1.qstsb, e2.qstsb);
+  }
+}
@@ -0,0 +1,195 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link RareSuffix.Entry}, do not modify.
+ */
+public final class RareSuffixLoader extends Excel.Loader<RareSuffix.Entry> {
+  private int itype1;
+  private int itype2;
+  private int itype3;
+  private int itype4;
+  private int itype5;
+  private int itype6;
+  private int itype7;
+  private int etype1;
+  private int etype2;
+  private int etype3;
+  private int etype4;
+  private int name;
+  private int version;
+  private int add;
+  private int multiply;
+  private int divide;
+  private final int[] columnIds = new int[16];
+
+  public RareSuffixLoader() {
+    super("itype1", "itype2", "itype3", "itype4", "itype5", "itype6", "itype7", "etype1", "etype2", "etype3", "etype4", "name", "version", "add", "multiply", "divide");
+  }
+
+  @Override
+  public RareSuffix.Entry newEntry() {
+    return new RareSuffix.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "name";
+  }
+
+  @Override
+  public String stringKey(RareSuffix.Entry entry) {
+    return entry.name;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    itype1 = in.getColumnId("itype1");
+    itype2 = in.getColumnId("itype2");
+    itype3 = in.getColumnId("itype3");
+    itype4 = in.getColumnId("itype4");
+    itype5 = in.getColumnId("itype5");
+    itype6 = in.getColumnId("itype6");
+    itype7 = in.getColumnId("itype7");
+    etype1 = in.getColumnId("etype1");
+    etype2 = in.getColumnId("etype2");
+    etype3 = in.getColumnId("etype3");
+    etype4 = in.getColumnId("etype4");
+    name = in.getColumnId("name");
+    version = in.getColumnId("version");
+    add = in.getColumnId("add");
+    multiply = in.getColumnId("multiply");
+    divide = in.getColumnId("divide");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, RareSuffix.Entry entry) {
+    entry.itype1 = in.getString(itype1);
+    entry.itype2 = in.getString(itype2);
+    entry.itype3 = in.getString(itype3);
+    entry.itype4 = in.getString(itype4);
+    entry.itype5 = in.getString(itype5);
+    entry.itype6 = in.getString(itype6);
+    entry.itype7 = in.getString(itype7);
+    entry.etype1 = in.getString(etype1);
+    entry.etype2 = in.getString(etype2);
+    entry.etype3 = in.getString(etype3);
+    entry.etype4 = in.getString(etype4);
+    entry.name = in.getString(name);
+    entry.version = in.getInt(version);
+    entry.add = in.getInt(add);
+    entry.multiply = in.getInt(multiply);
+    entry.divide = in.getInt(divide);
+  }
+
+  @Override
+  public void readBin(DataInput in, RareSuffix.Entry entry) throws IOException {
+    entry.itype1 = in.readUTF();
+    entry.itype2 = in.readUTF();
+    entry.itype3 = in.readUTF();
+    entry.itype4 = in.readUTF();
+    entry.itype5 = in.readUTF();
+    entry.itype6 = in.readUTF();
+    entry.itype7 = in.readUTF();
+    entry.etype1 = in.readUTF();
+    entry.etype2 = in.readUTF();
+    entry.etype3 = in.readUTF();
+    entry.etype4 = in.readUTF();
+    entry.name = in.readUTF();
+    entry.version = in.readInt();
+    entry.add = in.readInt();
+    entry.multiply = in.readInt();
+    entry.divide = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, RareSuffix.Entry entry) throws IOException {
+    out.writeUTF(entry.itype1);
+    out.writeUTF(entry.itype2);
+    out.writeUTF(entry.itype3);
+    out.writeUTF(entry.itype4);
+    out.writeUTF(entry.itype5);
+    out.writeUTF(entry.itype6);
+    out.writeUTF(entry.itype7);
+    out.writeUTF(entry.etype1);
+    out.writeUTF(entry.etype2);
+    out.writeUTF(entry.etype3);
+    out.writeUTF(entry.etype4);
+    out.writeUTF(entry.name);
+    out.writeInt(entry.version);
+    out.writeInt(entry.add);
+    out.writeInt(entry.multiply);
+    out.writeInt(entry.divide);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "itype1");
+    columnIds[1] = column(in, "itype2");
+    columnIds[2] = column(in, "itype3");
+    columnIds[3] = column(in, "itype4");
+    columnIds[4] = column(in, "itype5");
+    columnIds[5] = column(in, "itype6");
+    columnIds[6] = column(in, "itype7");
+    columnIds[7] = column(in, "etype1");
+    columnIds[8] = column(in, "etype2");
+    columnIds[9] = column(in, "etype3");
+    columnIds[10] = column(in, "etype4");
+    columnIds[11] = column(in, "name");
+    columnIds[12] = column(in, "version");
+    columnIds[13] = column(in, "add");
+    columnIds[14] = column(in, "multiply");
+    columnIds[15] = column(in, "divide");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, RareSuffix.Entry entry) {
+    entry.itype1 = in.getString(row, columnIds[0]);
+    entry.itype2 = in.getString(row, columnIds[1]);
+    entry.itype3 = in.getString(row, columnIds[2]);
+    entry.itype4 = in.getString(row, columnIds[3]);
+    entry.itype5 = in.getString(row, columnIds[4]);
+    entry.itype6 = in.getString(row, columnIds[5]);
+    entry.itype7 = in.getString(row, columnIds[6]);
+    entry.etype1 = in.getString(row, columnIds[7]);
+    entry.etype2 = in.getString(row, columnIds[8]);
+    entry.etype3 = in.getString(row, columnIds[9]);
+    entry.etype4 = in.getString(row, columnIds[10]);
+    entry.name = in.getString(row, columnIds[11]);
+    entry.version = in.getInt(row, columnIds[12]);
+    entry.add = in.getInt(row, columnIds[13]);
+    entry.multiply = in.getInt(row, columnIds[14]);
+    entry.divide = in.getInt(row, columnIds[15]);
+  }
+
+  @Override
+  public boolean equal(RareSuffix.Entry e1, RareSuffix.Entry e2) {
+    return StringUtils.equals(e1.itype1, e2.itype1)
+        && StringUtils.equals(e1.itype2, e2.itype2)
+        && StringUtils.equals(e1.itype3, e2.itype3)
+        && StringUtils.equals(e1.itype4, e2.itype4)
+        && StringUtils.equals(e1.itype5, e2.itype5)
+        && StringUtils.equals(e1.itype6, e2.itype6)
+        && StringUtils.equals(e1.itype7, e2.itype7)
+        && StringUtils.equals(e1.etype1, e2.etype1)
+        && StringUtils.equals(e1.etype2, e2.etype2)
+        && StringUtils.equals(e1.etype3, e2.etype3)
+        && StringUtils.equals(e1.etype4, e2.etype4)
+        && StringUtils.equals(e1.name, e2.name)
+        && e1.version == e2.version
+        && e1.add == e2.add
+        && e1.multiply == e2.multiply
+        && e1.divide == e2.divide;
+  }
+}
@@ -0,0 +1,170 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Runes.Entry}, do not modify.
+ */
+public final class RunesLoader extends Excel.Loader<Runes.Entry> {
+  private int Name;
+  private int Rune_Name;
+  private int complete;
+  private int server;
+  private int[] itype;
+  private int[] etype;
+  private int _runes;
+  private int[] Rune;
+  private int[] T1Code;
+  private int[] T1Param;
+  private int[] T1Min;
+  private int[] T1Max;
+  private final int[] columnIds = new int[12];
+
+  public RunesLoader() {
+    super("Name", "Rune_Name", "complete", "server", "itype", "etype", "_runes", "Rune", "T1Code", "T1Param", "T1Min", "T1Max");
+  }
+
+  @Override
+  public Runes.Entry newEntry() {
+    return new Runes.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Name";
+  }
+
+  @Override
+  public String stringKey(Runes.Entry entry) {
+    return entry.Name;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+    Rune_Name = in.getColumnId("Rune Name");
+    complete = in.getColumnId("complete");
+    server = in.getColumnId("server");
+    itype = in.getColumnId(new String[] { "itype1", "itype2", "itype3", "itype4", "itype5", "itype6" });
+    etype = in.getColumnId(new String[] { "etype1", "etype2", "etype3" });
+    _runes = in.getColumnId("*runes");
+    Rune = in.getColumnId(new String[] { "Rune1", "Rune2", "Rune3", "Rune4", "Rune5", "Rune6" });
+    T1Code = in.getColumnId(new String[] { "T1Code1", "T1Code2", "T1Code3", "T1Code4", "T1Code5", "T1Code6", "T1Code7" });
+    T1Param = in.getColumnId(new String[] { "T1Param1", "T1Param2", "T1Param3", "T1Param4", "T1Param5", "T1Param6", "T1Param7" });
+    T1Min = in.getColumnId(new String[] { "T1Min1", "T1Min2", "T1Min3", "T1Min4", "T1Min5", "T1Min6", "T1Min7" });
+    T1Max = in.getColumnId(new String[] { "T1Max1", "T1Max2", "T1Max3", "T1Max4", "T1Max5", "T1Max6", "T1Max7" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Runes.Entry entry) {
+    entry.Name = in.getString(Name);
+    entry.Rune_Name = in.getString(Rune_Name);
+    entry.complete = in.getBoolean(complete);
+    entry.server = in.getBoolean(server);
+    entry.itype = in.getString(itype);
+    entry.etype = in.getString(etype);
+    entry._runes = in.getString(_runes);
+    entry.Rune = in.getString(Rune);
+    entry.T1Code = in.getString(T1Code);
+    entry.T1Param = in.getString(T1Param);
+    entry.T1Min = in.getString(T1Min);
+    entry.T1Max = in.getString(T1Max);
+  }
+
+  @Override
+  public void readBin(DataInput in, Runes.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+    entry.Rune_Name = in.readUTF();
+    entry.complete = in.readBoolean();
+    entry.server = in.readBoolean();
+    entry.itype = new String[6];
+    for (int x = 0; x < 6; x++) entry.itype[x] = in.readUTF();
+    entry.etype = new String[3];
+    for (int x = 0; x < 3; x++) entry.etype[x] = in.readUTF();
+    entry._runes = in.readUTF();
+    entry.Rune = new String[6];
+    for (int x = 0; x < 6; x++) entry.Rune[x] = in.readUTF();
+    entry.T1Code = new String[7];
+    for (int x = 0; x < 7; x++) entry.T1Code[x] = in.readUTF();
+    entry.T1Param = new String[7];
+    for (int x = 0; x < 7; x++) entry.T1Param[x] = in.readUTF();
+    entry.T1Min = new String[7];
+    for (int x = 0; x < 7; x++) entry.T1Min[x] = in.readUTF();
+    entry.T1Max = new String[7];
+    for (int x = 0; x < 7; x++) entry.T1Max[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Runes.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+    out.writeUTF(entry.Rune_Name);
+    out.writeBoolean(entry.complete);
+    out.writeBoolean(entry.server);
+    for (String x : entry.itype) out.writeUTF(x);
+    for (String x : entry.etype) out.writeUTF(x);
+    out.writeUTF(entry._runes);
+    for (String x : entry.Rune) out.writeUTF(x);
+    for (String x : entry.T1Code) out.writeUTF(x);
+    for (String x : entry.T1Param) out.writeUTF(x);
+    for (String x : entry.T1Min) out.writeUTF(x);
+    for (String x : entry.T1Max) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+    columnIds[1] = column(in, "Rune_Name");
+    columnIds[2] = column(in, "complete");
+    columnIds[3] = column(in, "server");
+    columnIds[4] = column(in, "itype");
+    columnIds[5] = column(in, "etype");
+    columnIds[6] = column(in, "_runes");
+    columnIds[7] = column(in, "Rune");
+    columnIds[8] = column(in, "T1Code");
+    columnIds[9] = column(in, "T1Param");
+    columnIds[10] = column(in, "T1Min");
+    columnIds[11] = column(in, "T1Max");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Runes.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+    entry.Rune_Name = in.getString(row, columnIds[1]);
+    entry.complete = in.getBoolean(row, columnIds[2]);
+    entry.server = in.getBoolean(row, columnIds[3]);
+    entry.itype = in.getStrings(row, columnIds[4]);
+    entry.etype = in.getStrings(row, columnIds[5]);
+    entry._runes = in.getString(row, columnIds[6]);
+    entry.Rune = in.getStrings(row, columnIds[7]);
+    entry.T1Code = in.getStrings(row, columnIds[8]);
+    entry.T1Param = in.getStrings(row, columnIds[9]);
+    entry.T1Min = in.getStrings(row, columnIds[10]);
+    entry.T1Max = in.getStrings(row, columnIds[11]);
+  }
+
+  @Override
+  public boolean equal(Runes.Entry e1, Runes.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name)
+        && StringUtils.equals(e1.Rune_Name, e2.Rune_Name)
+        && e1.complete == e2.complete
+        && e1.server == e2.server
+        && Arrays.equals(e1.itype, e2.itype)
+        && Arrays.equals(e1.etype, e2.etype)
+        && StringUtils.equals(e1._runes, e2._runes)
+        && Arrays.equals(e1.Rune, e2.Rune)
+        && Arrays.equals(e1.T1Code, e2.T1Code)
+        && Arrays.equals(e1.T1Param, e2.T1Param)
+        && Arrays.equals(e1.T1Min, e2.T1Min)
+        && Arrays.equals(e1.T1Max, e2.T1Max);
+  }
+}
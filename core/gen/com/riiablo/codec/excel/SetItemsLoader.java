@@ -0,0 +1,811 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link SetItems.Entry}, do not modify.
+ */
+public final class SetItemsLoader extends Excel.Loader<SetItems.Entry> {
+  private int index;
+  private int set;
+  private int item;
+  private int _item;
+  private int rarity;
+  private int lvl;
+  private int lvl_req;
+  private int chrtransform;
+  private int invtransform;
+  private int invfile;
+  private int flippyfile;
+  private int dropsound;
+  private int dropsfxframe;
+  private int usesound;
+  private int cost_mult;
+  private int cost_add;
+  private int add_func;
+  private int prop1;
+  private int par1;
+  private int min1;
+  private int max1;
+  private int prop2;
+  private int par2;
+  private int min2;
+  private int max2;
+  private int prop3;
+  private int par3;
+  private int min3;
+  private int max3;
+  private int prop4;
+  private int par4;
+  private int min4;
+  private int max4;
+  private int prop5;
+  private int par5;
+  private int min5;
+  private int max5;
+  private int prop6;
+  private int par6;
+  private int min6;
+  private int max6;
+  private int prop7;
+  private int par7;
+  private int min7;
+  private int max7;
+  private int prop8;
+  private int par8;
+  private int min8;
+  private int max8;
+  private int prop9;
+  private int par9;
+  private int min9;
+  private int max9;
+  private int aprop1a;
+  private int apar1a;
+  private int amin1a;
+  private int amax1a;
+  private int aprop1b;
+  private int apar1b;
+  private int amin1b;
+  private int amax1b;
+  private int aprop2a;
+  private int apar2a;
+  private int amin2a;
+  private int amax2a;
+  private int aprop2b;
+  private int apar2b;
+  private int amin2b;
+  private int amax2b;
+  private int aprop3a;
+  private int apar3a;
+  private int amin3a;
+  private int amax3a;
+  private int aprop3b;
+  private int apar3b;
+  private int amin3b;
+  private int amax3b;
+  private int aprop4a;
+  private int apar4a;
+  private int amin4a;
+  private int amax4a;
+  private int aprop4b;
+  private int apar4b;
+  private int amin4b;
+  private int amax4b;
+  private int aprop5a;
+  private int apar5a;
+  private int amin5a;
+  private int amax5a;
+  private int aprop5b;
+  private int apar5b;
+  private int amin5b;
+  private int amax5b;
+  private final int[] columnIds = new int[93];
+
+  public SetItemsLoader() {
+    super("index", "set", "item", "_item", "rarity", "lvl", "lvl_req", "chrtransform", "invtransform", "invfile", "flippyfile", "dropsound", "dropsfxframe", "usesound", "cost_mult", "cost_add", "add_func", "prop1", "par1", "min1", "max1", "prop2", "par2", "min2", "max2", "prop3", "par3", "min3", "max3", "prop4", "par4", "min4", "max4", "prop5", "par5", "min5", "max5", "prop6", "par6", "min6", "max6", "prop7", "par7", "min7", "max7", "prop8", "par8", "min8", "max8", "prop9", "par9", "min9", "max9", "aprop1a", "apar1a", "amin1a", "amax1a", "aprop1b", "apar1b", "amin1b", "amax1b", "aprop2a", "apar2a", "amin2a", "amax2a", "aprop2b", "apar2b", "amin2b", "amax2b", "aprop3a", "apar3a", "amin3a", "amax3a", "aprop3b", "apar3b", "amin3b", "amax3b", "aprop4a", "apar4a", "amin4a", "amax4a", "aprop4b", "apar4b", "amin4b", "amax4b", "aprop5a", "apar5a", "amin5a", "amax5a", "aprop5b", "apar5b", "amin5b", "amax5b");
+  }
+
+  @Override
+  public SetItems.Entry newEntry() {
+    return new SetItems.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "index";
+  }
+
+  @Override
+  public String stringKey(SetItems.Entry entry) {
+    return entry.index;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    index = in.getColumnId("index");
+    set = in.getColumnId("set");
+    item = in.getColumnId("item");
+    _item = in.getColumnId("*item");
+    rarity = in.getColumnId("rarity");
+    lvl = in.getColumnId("lvl");
+    lvl_req = in.getColumnId("lvl req");
+    chrtransform = in.getColumnId("chrtransform");
+    invtransform = in.getColumnId("invtransform");
+    invfile = in.getColumnId("invfile");
+    flippyfile = in.getColumnId("flippyfile");
+    dropsound = in.getColumnId("dropsound");
+    dropsfxframe = in.getColumnId("dropsfxframe");
+    usesound = in.getColumnId("usesound");
+    cost_mult = in.getColumnId("cost mult");
+    cost_add = in.getColumnId("cost add");
+    add_func = in.getColumnId("add func");
+    prop1 = in.getColumnId("prop1");
+    par1 = in.getColumnId("par1");
+    min1 = in.getColumnId("min1");
+    max1 = in.getColumnId("max1");
+    prop2 = in.getColumnId("prop2");
+    par2 = in.getColumnId("par2");
+    min2 = in.getColumnId("min2");
+    max2 = in.getColumnId("max2");
+    prop3 = in.getColumnId("prop3");
+    par3 = in.getColumnId("par3");
+    min3 = in.getColumnId("min3");
+    max3 = in.getColumnId("max3");
+    prop4 = in.getColumnId("prop4");
+    par4 = in.getColumnId("par4");
+    min4 = in.getColumnId("min4");
+    max4 = in.getColumnId("max4");
+    prop5 = in.getColumnId("prop5");
+    par5 = in.getColumnId("par5");
+    min5 = in.getColumnId("min5");
+    max5 = in.getColumnId("max5");
+    prop6 = in.getColumnId("prop6");
+    par6 = in.getColumnId("par6");
+    min6 = in.getColumnId("min6");
+    max6 = in.getColumnId("max6");
+    prop7 = in.getColumnId("prop7");
+    par7 = in.getColumnId("par7");
+    min7 = in.getColumnId("min7");
+    max7 = in.getColumnId("max7");
+    prop8 = in.getColumnId("prop8");
+    par8 = in.getColumnId("par8");
+    min8 = in.getColumnId("min8");
+    max8 = in.getColumnId("max8");
+    prop9 = in.getColumnId("prop9");
+    par9 = in.getColumnId("par9");
+    min9 = in.getColumnId("min9");
+    max9 = in.getColumnId("max9");
+    aprop1a = in.getColumnId("aprop1a");
+    apar1a = in.getColumnId("apar1a");
+    amin1a = in.getColumnId("amin1a");
+    amax1a = in.getColumnId("amax1a");
+    aprop1b = in.getColumnId("aprop1b");
+    apar1b = in.getColumnId("apar1b");
+    amin1b = in.getColumnId("amin1b");
+    amax1b = in.getColumnId("amax1b");
+    aprop2a = in.getColumnId("aprop2a");
+    apar2a = in.getColumnId("apar2a");
+    amin2a = in.getColumnId("amin2a");
+    amax2a = in.getColumnId("amax2a");
+    aprop2b = in.getColumnId("aprop2b");
+    apar2b = in.getColumnId("apar2b");
+    amin2b = in.getColumnId("amin2b");
+    amax2b = in.getColumnId("amax2b");
+    aprop3a = in.getColumnId("aprop3a");
+    apar3a = in.getColumnId("apar3a");
+    amin3a = in.getColumnId("amin3a");
+    amax3a = in.getColumnId("amax3a");
+    aprop3b = in.getColumnId("aprop3b");
+    apar3b = in.getColumnId("apar3b");
+    amin3b = in.getColumnId("amin3b");
+    amax3b = in.getColumnId("amax3b");
+    aprop4a = in.getColumnId("aprop4a");
+    apar4a = in.getColumnId("apar4a");
+    amin4a = in.getColumnId("amin4a");
+    amax4a = in.getColumnId("amax4a");
+    aprop4b = in.getColumnId("aprop4b");
+    apar4b = in.getColumnId("apar4b");
+    amin4b = in.getColumnId("amin4b");
+    amax4b = in.getColumnId("amax4b");
+    aprop5a = in.getColumnId("aprop5a");
+    apar5a = in.getColumnId("apar5a");
+    amin5a = in.getColumnId("amin5a");
+    amax5a = in.getColumnId("amax5a");
+    aprop5b = in.getColumnId("aprop5b");
+    apar5b = in.getColumnId("apar5b");
+    amin5b = in.getColumnId("amin5b");
+    amax5b = in.getColumnId("amax5b");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, SetItems.Entry entry) {
+    entry.index = in.getString(index);
+    entry.set = in.getString(set);
+    entry.item = in.getString(item);
+    entry._item = in.getString(_item);
+    entry.rarity = in.getInt(rarity);
+    entry.lvl = in.getInt(lvl);
+    entry.lvl_req = in.getInt(lvl_req);
+    entry.chrtransform = in.getString(chrtransform);
+    entry.invtransform = in.getString(invtransform);
+    entry.invfile = in.getString(invfile);
+    entry.flippyfile = in.getString(flippyfile);
+    entry.dropsound = in.getString(dropsound);
+    entry.dropsfxframe = in.getInt(dropsfxframe);
+    entry.usesound = in.getString(usesound);
+    entry.cost_mult = in.getInt(cost_mult);
+    entry.cost_add = in.getInt(cost_add);
+    entry.add_func = in.getInt(add_func);
+    entry.prop1 = in.getString(prop1);
+    entry.par1 = in.getInt(par1);
+    entry.min1 = in.getInt(min1);
+    entry.max1 = in.getInt(max1);
+    entry.prop2 = in.getString(prop2);
+    entry.par2 = in.getInt(par2);
+    entry.min2 = in.getInt(min2);
+    entry.max2 = in.getInt(max2);
+    entry.prop3 = in.getString(prop3);
+    entry.par3 = in.getInt(par3);
+    entry.min3 = in.getInt(min3);
+    entry.max3 = in.getInt(max3);
+    entry.prop4 = in.getString(prop4);
+    entry.par4 = in.getInt(par4);
+    entry.min4 = in.getInt(min4);
+    entry.max4 = in.getInt(max4);
+    entry.prop5 = in.getString(prop5);
+    entry.par5 = in.getInt(par5);
+    entry.min5 = in.getInt(min5);
+    entry.max5 = in.getInt(max5);
+    entry.prop6 = in.getString(prop6);
+    entry.par6 = in.getInt(par6);
+    entry.min6 = in.getInt(min6);
+    entry.max6 = in.getInt(max6);
+    entry.prop7 = in.getString(prop7);
+    entry.par7 = in.getInt(par7);
+    entry.min7 = in.getInt(min7);
+    entry.max7 = in.getInt(max7);
+    entry.prop8 = in.getString(prop8);
+    entry.par8 = in.getInt(par8);
+    entry.min8 = in.getInt(min8);
+    entry.max8 = in.getInt(max8);
+    entry.prop9 = in.getString(prop9);
+    entry.par9 = in.getInt(par9);
+    entry.min9 = in.getInt(min9);
+    entry.max9 = in.getInt(max9);
+    entry.aprop1a = in.getString(aprop1a);
+    entry.apar1a = in.getInt(apar1a);
+    entry.amin1a = in.getInt(amin1a);
+    entry.amax1a = in.getInt(amax1a);
+    entry.aprop1b = in.getString(aprop1b);
+    entry.apar1b = in.getInt(apar1b);
+    entry.amin1b = in.getInt(amin1b);
+    entry.amax1b = in.getInt(amax1b);
+    entry.aprop2a = in.getString(aprop2a);
+    entry.apar2a = in.getInt(apar2a);
+    entry.amin2a = in.getInt(amin2a);
+    entry.amax2a = in.getInt(amax2a);
+    entry.aprop2b = in.getString(aprop2b);
+    entry.apar2b = in.getInt(apar2b);
+    entry.amin2b = in.getInt(amin2b);
+    entry.amax2b = in.getInt(amax2b);
+    entry.aprop3a = in.getString(aprop3a);
+    entry.apar3a = in.getInt(apar3a);
+    entry.amin3a = in.getInt(amin3a);
+    entry.amax3a = in.getInt(amax3a);
+    entry.aprop3b = in.getString(aprop3b);
+    entry.apar3b = in.getInt(apar3b);
+    entry.amin3b = in.getInt(amin3b);
+    entry.amax3b = in.getInt(amax3b);
+    entry.aprop4a = in.getString(aprop4a);
+    entry.apar4a = in.getInt(apar4a);
+    entry.amin4a = in.getInt(amin4a);
+    entry.amax4a = in.getInt(amax4a);
+    entry.aprop4b = in.getString(aprop4b);
+    entry.apar4b = in.getInt(apar4b);
+    entry.amin4b = in.getInt(amin4b);
+    entry.amax4b = in.getInt(amax4b);
+    entry.aprop5a = in.getString(aprop5a);
+    entry.apar5a = in.getInt(apar5a);
+    entry.amin5a = in.getInt(amin5a);
+    entry.amax5a = in.getInt(amax5a);
+    entry.aprop5b = in.getString(aprop5b);
+    entry.apar5b = in.getInt(apar5b);
+    entry.amin5b = in.getInt(amin5b);
+    entry.amax5b = in.getInt(amax5b);
+  }
+
+  @Override
+  public void readBin(DataInput in, SetItems.Entry entry) throws IOException {
+    entry.index = in.readUTF();
+    entry.set = in.readUTF();
+    entry.item = in.readUTF();
+    entry._item = in.readUTF();
+    entry.rarity = in.readInt();
+    entry.lvl = in.readInt();
+    entry.lvl_req = in.readInt();
+    entry.chrtransform = in.readUTF();
+    entry.invtransform = in.readUTF();
+    entry.invfile = in.readUTF();
+    entry.flippyfile = in.readUTF();
+    entry.dropsound = in.readUTF();
+    entry.dropsfxframe = in.readInt();
+    entry.usesound = in.readUTF();
+    entry.cost_mult = in.readInt();
+    entry.cost_add = in.readInt();
+    entry.add_func = in.readInt();
+    entry.prop1 = in.readUTF();
+    entry.par1 = in.readInt();
+    entry.min1 = in.readInt();
+    entry.max1 = in.readInt();
+    entry.prop2 = in.readUTF();
+    entry.par2 = in.readInt();
+    entry.min2 = in.readInt();
+    entry.max2 = in.readInt();
+    entry.prop3 = in.readUTF();
+    entry.par3 = in.readInt();
+    entry.min3 = in.readInt();
+    entry.max3 = in.readInt();
+    entry.prop4 = in.readUTF();
+    entry.par4 = in.readInt();
+    entry.min4 = in.readInt();
+    entry.max4 = in.readInt();
+    entry.prop5 = in.readUTF();
+    entry.par5 = in.readInt();
+    entry.min5 = in.readInt();
+    entry.max5 = in.readInt();
+    entry.prop6 = in.readUTF();
+    entry.par6 = in.readInt();
+    entry.min6 = in.readInt();
+    entry.max6 = in.readInt();
+    entry.prop7 = in.readUTF();
+    entry.par7 = in.readInt();
+    entry.min7 = in.readInt();
+    entry.max7 = in.readInt();
+    entry.prop8 = in.readUTF();
+    entry.par8 = in.readInt();
+    entry.min8 = in.readInt();
+    entry.max8 = in.readInt();
+    entry.prop9 = in.readUTF();
+    entry.par9 = in.readInt();
+    entry.min9 = in.readInt();
+    entry.max9 = in.readInt();
+    entry.aprop1a = in.readUTF();
+    entry.apar1a = in.readInt();
+    entry.amin1a = in.readInt();
+    entry.amax1a = in.readInt();
+    entry.aprop1b = in.readUTF();
+    entry.apar1b = in.readInt();
+    entry.amin1b = in.readInt();
+    entry.amax1b = in.readInt();
+    entry.aprop2a = in.readUTF();
+    entry.apar2a = in.readInt();
+    entry.amin2a = in.readInt();
+    entry.amax2a = in.readInt();
+    entry.aprop2b = in.readUTF();
+    entry.apar2b = in.readInt();
+    entry.amin2b = in.readInt();
+    entry.amax2b = in.readInt();
+    entry.aprop3a = in.readUTF();
+    entry.apar3a = in.readInt();
+    entry.amin3a = in.readInt();
+    entry.amax3a = in.readInt();
+    entry.aprop3b = in.readUTF();
+    entry.apar3b = in.readInt();
+    entry.amin3b = in.readInt();
+    entry.amax3b = in.readInt();
+    entry.aprop4a = in.readUTF();
+    entry.apar4a = in.readInt();
+    entry.amin4a = in.readInt();
+    entry.amax4a = in.readInt();
+    entry.aprop4b = in.readUTF();
+    entry.apar4b = in.readInt();
+    entry.amin4b = in.readInt();
+    entry.amax4b = in.readInt();
+    entry.aprop5a = in.readUTF();
+    entry.apar5a = in.readInt();
+    entry.amin5a = in.readInt();
+    entry.amax5a = in.readInt();
+    entry.aprop5b = in.readUTF();
+    entry.apar5b = in.readInt();
+    entry.amin5b = in.readInt();
+    entry.amax5b = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, SetItems.Entry entry) throws IOException {
+    out.writeUTF(entry.index);
+    out.writeUTF(entry.set);
+    out.writeUTF(entry.item);
+    out.writeUTF(entry._item);
+    out.writeInt(entry.rarity);
+    out.writeInt(entry.lvl);
+    out.writeInt(entry.lvl_req);
+    out.writeUTF(entry.chrtransform);
+    out.writeUTF(entry.invtransform);
+    out.writeUTF(entry.invfile);
+    out.writeUTF(entry.flippyfile);
+    out.writeUTF(entry.dropsound);
+    out.writeInt(entry.dropsfxframe);
+    out.writeUTF(entry.usesound);
+    out.writeInt(entry.cost_mult);
+    out.writeInt(entry.cost_add);
+    out.writeInt(entry.add_func);
+    out.writeUTF(entry.prop1);
+    out.writeInt(entry.par1);
+    out.writeInt(entry.min1);
+    out.writeInt(entry.max1);
+    out.writeUTF(entry.prop2);
+    out.writeInt(entry.par2);
+    out.writeInt(entry.min2);
+    out.writeInt(entry.max2);
+    out.writeUTF(entry.prop3);
+    out.writeInt(entry.par3);
+    out.writeInt(entry.min3);
+    out.writeInt(entry.max3);
+    out.writeUTF(entry.prop4);
+    out.writeInt(entry.par4);
+    out.writeInt(entry.min4);
+    out.writeInt(entry.max4);
+    out.writeUTF(entry.prop5);
+    out.writeInt(entry.par5);
+    out.writeInt(entry.min5);
+    out.writeInt(entry.max5);
+    out.writeUTF(entry.prop6);
+    out.writeInt(entry.par6);
+    out.writeInt(entry.min6);
+    out.writeInt(entry.max6);
+    out.writeUTF(entry.prop7);
+    out.writeInt(entry.par7);
+    out.writeInt(entry.min7);
+    out.writeInt(entry.max7);
+    out.writeUTF(entry.prop8);
+    out.writeInt(entry.par8);
+    out.writeInt(entry.min8);
+    out.writeInt(entry.max8);
+    out.writeUTF(entry.prop9);
+    out.writeInt(entry.par9);
+    out.writeInt(entry.min9);
+    out.writeInt(entry.max9);
+    out.writeUTF(entry.aprop1a);
+    out.writeInt(entry.apar1a);
+    out.writeInt(entry.amin1a);
+    out.writeInt(entry.amax1a);
+    out.writeUTF(entry.aprop1b);
+    out.writeInt(entry.apar1b);
+    out.writeInt(entry.amin1b);
+    out.writeInt(entry.amax1b);
+    out.writeUTF(entry.aprop2a);
+    out.writeInt(entry.apar2a);
+    out.writeInt(entry.amin2a);
+    out.writeInt(entry.amax2a);
+    out.writeUTF(entry.aprop2b);
+    out.writeInt(entry.apar2b);
+    out.writeInt(entry.amin2b);
+    out.writeInt(entry.amax2b);
+    out.writeUTF(entry.aprop3a);
+    out.writeInt(entry.apar3a);
+    out.writeInt(entry.amin3a);
+    out.writeInt(entry.amax3a);
+    out.writeUTF(entry.aprop3b);
+    out.writeInt(entry.apar3b);
+    out.writeInt(entry.amin3b);
+    out.writeInt(entry.amax3b);
+    out.writeUTF(entry.aprop4a);
+    out.writeInt(entry.apar4a);
+    out.writeInt(entry.amin4a);
+    out.writeInt(entry.amax4a);
+    out.writeUTF(entry.aprop4b);
+    out.writeInt(entry.apar4b);
+    out.writeInt(entry.amin4b);
+    out.writeInt(entry.amax4b);
+    out.writeUTF(entry.aprop5a);
+    out.writeInt(entry.apar5a);
+    out.writeInt(entry.amin5a);
+    out.writeInt(entry.amax5a);
+    out.writeUTF(entry.aprop5b);
+    out.writeInt(entry.apar5b);
+    out.writeInt(entry.amin5b);
+    out.writeInt(entry.amax5b);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "index");
+    columnIds[1] = column(in, "set");
+    columnIds[2] = column(in, "item");
+    columnIds[3] = column(in, "_item");
+    columnIds[4] = column(in, "rarity");
+    columnIds[5] = column(in, "lvl");
+    columnIds[6] = column(in, "lvl_req");
+    columnIds[7] = column(in, "chrtransform");
+    columnIds[8] = column(in, "invtransform");
+    columnIds[9] = column(in, "invfile");
+    columnIds[10] = column(in, "flippyfile");
+    columnIds[11] = column(in, "dropsound");
+    columnIds[12] = column(in, "dropsfxframe");
+    columnIds[13] = column(in, "usesound");
+    columnIds[14] = column(in, "cost_mult");
+    columnIds[15] = column(in, "cost_add");
+    columnIds[16] = column(in, "add_func");
+    columnIds[17] = column(in, "prop1");
+    columnIds[18] = column(in, "par1");
+    columnIds[19] = column(in, "min1");
+    columnIds[20] = column(in, "max1");
+    columnIds[21] = column(in, "prop2");
+    columnIds[22] = column(in, "par2");
+    columnIds[23] = column(in, "min2");
+    columnIds[24] = column(in, "max2");
+    columnIds[25] = column(in, "prop3");
+    columnIds[26] = column(in, "par3");
+    columnIds[27] = column(in, "min3");
+    columnIds[28] = column(in, "max3");
+    columnIds[29] = column(in, "prop4");
+    columnIds[30] = column(in, "par4");
+    columnIds[31] = column(in, "min4");
+    columnIds[32] = column(in, "max4");
+    columnIds[33] = column(in, "prop5");
+    columnIds[34] = column(in, "par5");
+    columnIds[35] = column(in, "min5");
+    columnIds[36] = column(in, "max5");
+    columnIds[37] = column(in, "prop6");
+    columnIds[38] = column(in, "par6");
+    columnIds[39] = column(in, "min6");
+    columnIds[40] = column(in, "max6");
+    columnIds[41] = column(in, "prop7");
+    columnIds[42] = column(in, "par7");
+    columnIds[43] = column(in, "min7");
+    columnIds[44] = column(in, "max7");
+    columnIds[45] = column(in, "prop8");
+    columnIds[46] = column(in, "par8");
+    columnIds[47] = column(in, "min8");
+    columnIds[48] = column(in, "max8");
+    columnIds[49] = column(in, "prop9");
+    columnIds[50] = column(in, "par9");
+    columnIds[51] = column(in, "min9");
+    columnIds[52] = column(in, "max9");
+    columnIds[53] = column(in, "aprop1a");
+    columnIds[54] = column(in, "apar1a");
+    columnIds[55] = column(in, "amin1a");
+    columnIds[56] = column(in, "amax1a");
+    columnIds[57] = column(in, "aprop1b");
+    columnIds[58] = column(in, "apar1b");
+    columnIds[59] = column(in, "amin1b");
+    columnIds[60] = column(in, "amax1b");
+    columnIds[61] = column(in, "aprop2a");
+    columnIds[62] = column(in, "apar2a");
+    columnIds[63] = column(in, "amin2a");
+    columnIds[64] = column(in, "amax2a");
+    columnIds[65] = column(in, "aprop2b");
+    columnIds[66] = column(in, "apar2b");
+    columnIds[67] = column(in, "amin2b");
+    columnIds[68] = column(in, "amax2b");
+    columnIds[69] = column(in, "aprop3a");
+    columnIds[70] = column(in, "apar3a");
+    columnIds[71] = column(in, "amin3a");
+    columnIds[72] = column(in, "amax3a");
+    columnIds[73] = column(in, "aprop3b");
+    columnIds[74] = column(in, "apar3b");
+    columnIds[75] = column(in, "amin3b");
+    columnIds[76] = column(in, "amax3b");
+    columnIds[77] = column(in, "aprop4a");
+    columnIds[78] = column(in, "apar4a");
+    columnIds[79] = column(in, "amin4a");
+    columnIds[80] = column(in, "amax4a");
+    columnIds[81] = column(in, "aprop4b");
+    columnIds[82] = column(in, "apar4b");
+    columnIds[83] = column(in, "amin4b");
+    columnIds[84] = column(in, "amax4b");
+    columnIds[85] = column(in, "aprop5a");
+    columnIds[86] = column(in, "apar5a");
+    columnIds[87] = column(in, "amin5a");
+    columnIds[88] = column(in, "amax5a");
+    columnIds[89] = column(in, "aprop5b");
+    columnIds[90] = column(in, "apar5b");
+    columnIds[91] = column(in, "amin5b");
+    columnIds[92] = column(in, "amax5b");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, SetItems.Entry entry) {
+    entry.index = in.getString(row, columnIds[0]);
+    entry.set = in.getString(row, columnIds[1]);
+    entry.item = in.getString(row, columnIds[2]);
+    entry._item = in.getString(row, columnIds[3]);
+    entry.rarity = in.getInt(row, columnIds[4]);
+    entry.lvl = in.getInt(row, columnIds[5]);
+    entry.lvl_req = in.getInt(row, columnIds[6]);
+    entry.chrtransform = in.getString(row, columnIds[7]);
+    entry.invtransform = in.getString(row, columnIds[8]);
+    entry.invfile = in.getString(row, columnIds[9]);
+    entry.flippyfile = in.getString(row, columnIds[10]);
+    entry.dropsound = in.getString(row, columnIds[11]);
+    entry.dropsfxframe = in.getInt(row, columnIds[12]);
+    entry.usesound = in.getString(row, columnIds[13]);
+    entry.cost_mult = in.getInt(row, columnIds[14]);
+    entry.cost_add = in.getInt(row, columnIds[15]);
+    entry.add_func = in.getInt(row, columnIds[16]);
+    entry.prop1 = in.getString(row, columnIds[17]);
+    entry.par1 = in.getInt(row, columnIds[18]);
+    entry.min1 = in.getInt(row, columnIds[19]);
+    entry.max1 = in.getInt(row, columnIds[20]);
+    entry.prop2 = in.getString(row, columnIds[21]);
+    entry.par2 = in.getInt(row, columnIds[22]);
+    entry.min2 = in.getInt(row, columnIds[23]);
+    entry.max2 = in.getInt(row, columnIds[24]);
+    entry.prop3 = in.getString(row, columnIds[25]);
+    entry.par3 = in.getInt(row, columnIds[26]);
+    entry.min3 = in.getInt(row, columnIds[27]);
+    entry.max3 = in.getInt(row, columnIds[28]);
+    entry.prop4 = in.getString(row, columnIds[29]);
+    entry.par4 = in.getInt(row, columnIds[30]);
+    entry.min4 = in.getInt(row, columnIds[31]);
+    entry.max4 = in.getInt(row, columnIds[32]);
+    entry.prop5 = in.getString(row, columnIds[33]);
+    entry.par5 = in.getInt(row, columnIds[34]);
+    entry.min5 = in.getInt(row, columnIds[35]);
+    entry.max5 = in.getInt(row, columnIds[36]);
+    entry.prop6 = in.getString(row, columnIds[37]);
+    entry.par6 = in.getInt(row, columnIds[38]);
+    entry.min6 = in.getInt(row, columnIds[39]);
+    entry.max6 = in.getInt(row, columnIds[40]);
+    entry.prop7 = in.getString(row, columnIds[41]);
+    entry.par7 = in.getInt(row, columnIds[42]);
+    entry.min7 = in.getInt(row, columnIds[43]);
+    entry.max7 = in.getInt(row, columnIds[44]);
+    entry.prop8 = in.getString(row, columnIds[45]);
+    entry.par8 = in.getInt(row, columnIds[46]);
+    entry.min8 = in.getInt(row, columnIds[47]);
+    entry.max8 = in.getInt(row, columnIds[48]);
+    entry.prop9 = in.getString(row, columnIds[49]);
+    entry.par9 = in.getInt(row, columnIds[50]);
+    entry.min9 = in.getInt(row, columnIds[51]);
+    entry.max9 = in.getInt(row, columnIds[52]);
+    entry.aprop1a = in.getString(row, columnIds[53]);
+    entry.apar1a = in.getInt(row, columnIds[54]);
+    entry.amin1a = in.getInt(row, columnIds[55]);
+    entry.amax1a = in.getInt(row, columnIds[56]);
+    entry.aprop1b = in.getString(row, columnIds[57]);
+    entry.apar1b = in.getInt(row, columnIds[58]);
+    entry.amin1b = in.getInt(row, columnIds[59]);
+    entry.amax1b = in.getInt(row, columnIds[60]);
+    entry.aprop2a = in.getString(row, columnIds[61]);
+    entry.apar2a = in.getInt(row, columnIds[62]);
+    entry.amin2a = in.getInt(row, columnIds[63]);
+    entry.amax2a = in.getInt(row, columnIds[64]);
+    entry.aprop2b = in.getString(row, columnIds[65]);
+    entry.apar2b = in.getInt(row, columnIds[66]);
+    entry.amin2b = in.getInt(row, columnIds[67]);
+    entry.amax2b = in.getInt(row, columnIds[68]);
+    entry.aprop3a = in.getString(row, columnIds[69]);
+    entry.apar3a = in.getInt(row, columnIds[70]);
+    entry.amin3a = in.getInt(row, columnIds[71]);
+    entry.amax3a = in.getInt(row, columnIds[72]);
+    entry.aprop3b = in.getString(row, columnIds[73]);
+    entry.apar3b = in.getInt(row, columnIds[74]);
+    entry.amin3b = in.getInt(row, columnIds[75]);
+    entry.amax3b = in.getInt(row, columnIds[76]);
+    entry.aprop4a = in.getString(row, columnIds[77]);
+    entry.apar4a = in.getInt(row, columnIds[78]);
+    entry.amin4a = in.getInt(row, columnIds[79]);
+    entry.amax4a = in.getInt(row, columnIds[80]);
+    entry.aprop4b = in.getString(row, columnIds[81]);
+    entry.apar4b = in.getInt(row, columnIds[82]);
+    entry.amin4b = in.getInt(row, columnIds[83]);
+    entry.amax4b = in.getInt(row, columnIds[84]);
+    entry.aprop5a = in.getString(row, columnIds[85]);
+    entry.apar5a = in.getInt(row, columnIds[86]);
+    entry.amin5a = in.getInt(row, columnIds[87]);
+    entry.amax5a = in.getInt(row, columnIds[88]);
+    entry.aprop5b = in.getString(row, columnIds[89]);
+    entry.apar5b = in.getInt(row, columnIds[90]);
+    entry.amin5b = in.getInt(row, columnIds[91]);
+    entry.amax5b = in.getInt(row, columnIds[92]);
+  }
+
+  @Override
+  public boolean equal(SetItems.Entry e1, SetItems.Entry e2) {
+    return StringUtils.equals(e1.index, e2.index)
+        && StringUtils.equals(e1.set, e2.set)
+        && StringUtils.equals(e1.item, e2.item)
+        && StringUtils.equals(e1._item, e2._item)
+        && e1.rarity == e2.rarity
+        && e1.lvl == e2.lvl
+        && e1.lvl_req == e2.lvl_req
+        && StringUtils.equals(e1.chrtransform, e2.chrtransform)
+        && StringUtils.equals(e1.invtransform, e2.invtransform)
+        && StringUtils.equals(e1.invfile, e2.invfile)
+        && StringUtils.equals(e1.flippyfile, e2.flippyfile)
+        && StringUtils.equals(e1.dropsound, e2.dropsound)
+        && e1.dropsfxframe == e2.dropsfxframe
+        && StringUtils.equals(e1.usesound, e2.usesound)
+        && e1.cost_mult == e2.cost_mult
+        && e1.cost_add == e2.cost_add
+        && e1.add_func == e2.add_func
+        && StringUtils.equals(e1.prop1, e2.prop1)
+        && e1.par1 == e2.par1
+        && e1.min1 == e2.min1
+        && e1.max1 == e2.max1
+        && StringUtils.equals(e1.prop2, e2.prop2)
+        && e1.par2 == e2.par2
+        && e1.min2 == e2.min2
+        && e1.max2 == e2.max2
+        && StringUtils.equals(e1.prop3, e2.prop3)
+        && e1.par3 == e2.par3
+        && e1.min3 == e2.min3
+        && e1.max3 == e2.max3
+        && StringUtils.equals(e1.prop4, e2.prop4)
+        && e1.par4 == e2.par4
+        && e1.min4 == e2.min4
+        && e1.max4 == e2.max4
+        && StringUtils.equals(e1.prop5, e2.prop5)
+        && e1.par5 == e2.par5
+        && e1.min5 == e2.min5
+        && e1.max5 == e2.max5
+        && StringUtils.equals(e1.prop6, e2.prop6)
+        && e1.par6 == e2.par6
+        && e1.min6 == e2.min6
+        && e1.max6 == e2.max6
+        && StringUtils.equals(e1.prop7, e2.prop7)
+        && e1.par7 == e2.par7
+        && e1.min7 == e2.min7
+        && e1.max7 == e2.max7
+        && StringUtils.equals(e1.prop8, e2.prop8)
+        && e1.par8 == e2.par8
+        && e1.min8 == e2.min8
+        && e1.max8 == e2.max8
+        && StringUtils.equals(e1.prop9, e2.prop9)
+        && e1.par9 == e2.par9
+        && e1.min9 == e2.min9
+        && e1.max9 == e2.max9
+        && StringUtils.equals(e1.aprop1a, e2.aprop1a)
+        && e1.apar1a == e2.apar1a
+        && e1.amin1a == e2.amin1a
+        && e1.amax1a == e2.amax1a
+        && StringUtils.equals(e1.aprop1b, e2.aprop1b)
+        && e1.apar1b == e2.apar1b
+        && e1.amin1b == e2.amin1b
+        && e1.amax1b == e2.amax1b
+        && StringUtils.equals(e1.aprop2a, e2.aprop2a)
+        && e1.apar2a == e2.apar2a
+        && e1.amin2a == e2.amin2a
+        && e1.amax2a == e2.amax2a
+        && StringUtils.equals(e1.aprop2b, e2.aprop2b)
+        && e1.apar2b == e2.apar2b
+        && e1.amin2b == e2.amin2b
+        && e1.amax2b == e2.amax2b
+        && StringUtils.equals(e1.aprop3a, e2.aprop3a)
+        && e1.apar3a == e2.apar3a
+        && e1.amin3a == e2.amin3a
+        && e1.amax3a == e2.amax3a
+        && StringUtils.equals(e1.aprop3b, e2.aprop3b)
+        && e1.apar3b == e2.apar3b
+        && e1.amin3b == e2.amin3b
+        && e1.amax3b == e2.amax3b
+        && StringUtils.equals(e1.aprop4a, e2.aprop4a)
+        && e1.apar4a == e2.apar4a
+        && e1.amin4a == e2.amin4a
+        && e1.amax4a == e2.amax4a
+        && StringUtils.equals(e1.aprop4b, e2.aprop4b)
+        && e1.apar4b == e2.apar4b
+        && e1.amin4b == e2.amin4b
+        && e1.amax4b == e2.amax4b
+        && StringUtils.equals(e1.aprop5a, e2.aprop5a)
+        && e1.apar5a == e2.apar5a
+        && e1.amin5a == e2.amin5a
+        && e1.amax5a == e2.amax5a
+        && StringUtils.equals(e1.aprop5b, e2.aprop5b)
+        && e1.apar5b == e2.apar5b
+        && e1.amin5b == e2.amin5b
+        && e1.amax5b == e2.amax5b;
+  }
+}
@@ -0,0 +1,279 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Sets.Entry}, do not modify.
+ */
+public final class SetsLoader extends Excel.Loader<Sets.Entry> {
+  private int index;
+  private int name;
+  private int version;
+  private int level;
+  private int[] PCode2;
+  private int[] PParam2;
+  private int[] PMin2;
+  private int[] PMax2;
+  private int[] PCode3;
+  private int[] PParam3;
+  private int[] PMin3;
+  private int[] PMax3;
+  private int[] PCode4;
+  private int[] PParam4;
+  private int[] PMin4;
+  private int[] PMax4;
+  private int[] PCode5;
+  private int[] PParam5;
+  private int[] PMin5;
+  private int[] PMax5;
+  private int[] FCode;
+  private int[] FParam;
+  private int[] FMin;
+  private int[] FMax;
+  private final int[] columnIds = new int[24];
+
+  public SetsLoader() {
+    super("index", "name", "version", "level", "PCode2", "PParam2", "PMin2", "PMax2", "PCode3", "PParam3", "PMin3", "PMax3", "PCode4", "PParam4", "PMin4", "PMax4", "PCode5", "PParam5", "PMin5", "PMax5", "FCode", "FParam", "FMin", "FMax");
+  }
+
+  @Override
+  public Sets.Entry newEntry() {
+    return new Sets.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "index";
+  }
+
+  @Override
+  public String stringKey(Sets.Entry entry) {
+    return entry.index;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    index = in.getColumnId("index");
+    name = in.getColumnId("name");
+    version = in.getColumnId("version");
+    level = in.getColumnId("level");
+    PCode2 = in.getColumnId(new String[] { "PCode2a", "PCode2b" });
+    PParam2 = in.getColumnId(new String[] { "PParam2a", "PParam2b" });
+    PMin2 = in.getColumnId(new String[] { "PMin2a", "PMin2b" });
+    PMax2 = in.getColumnId(new String[] { "PMax2a", "PMax2b" });
+    PCode3 = in.getColumnId(new String[] { "PCode3a", "PCode3b" });
+    PParam3 = in.getColumnId(new String[] { "PParam3a", "PParam3b" });
+    PMin3 = in.getColumnId(new String[] { "PMin3a", "PMin3b" });
+    PMax3 = in.getColumnId(new String[] { "PMax3a", "PMax3b" });
+    PCode4 = in.getColumnId(new String[] { "PCode4a", "PCode4b" });
+    PParam4 = in.getColumnId(new String[] { "PParam4a", "PParam4b" });
+    PMin4 = in.getColumnId(new String[] { "PMin4a", "PMin4b" });
+    PMax4 = in.getColumnId(new String[] { "PMax4a", "PMax4b" });
+    PCode5 = in.getColumnId(new String[] { "PCode5a", "PCode5b" });
+    PParam5 = in.getColumnId(new String[] { "PParam5a", "PParam5b" });
+    PMin5 = in.getColumnId(new String[] { "PMin5a", "PMin5b" });
+    PMax5 = in.getColumnId(new String[] { "PMax5a", "PMax5b" });
+    FCode = in.getColumnId(new String[] { "FCode1", "FCode2", "FCode3", "FCode4", "FCode5", "FCode6", "FCode7", "FCode8" });
+    FParam = in.getColumnId(new String[] { "FParam1", "FParam2", "FParam3", "FParam4", "FParam5", "FParam6", "FParam7", "FParam8" });
+    FMin = in.getColumnId(new String[] { "FMin1", "FMin2", "FMin3", "FMin4", "FMin5", "FMin6", "FMin7", "FMin8" });
+    FMax = in.getColumnId(new String[] { "FMax1", "FMax2", "FMax3", "FMax4", "FMax5", "FMax6", "FMax7", "FMax8" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Sets.Entry entry) {
+    entry.index = in.getString(index);
+    entry.name = in.getString(name);
+    entry.version = in.getInt(version);
+    entry.level = in.getInt(level);
+    entry.PCode2 = in.getString(PCode2);
+    entry.PParam2 = in.getInt(PParam2);
+    entry.PMin2 = in.getInt(PMin2);
+    entry.PMax2 = in.getInt(PMax2);
+    entry.PCode3 = in.getString(PCode3);
+    entry.PParam3 = in.getInt(PParam3);
+    entry.PMin3 = in.getInt(PMin3);
+    entry.PMax3 = in.getInt(PMax3);
+    entry.PCode4 = in.getString(PCode4);
+    entry.PParam4 = in.getInt(PParam4);
+    entry.PMin4 = in.getInt(PMin4);
+    entry.PMax4 = in.getInt(PMax4);
+    entry.PCode5 = in.getString(PCode5);
+    entry.PParam5 = in.getInt(PParam5);
+    entry.PMin5 = in.getInt(PMin5);
+    entry.PMax5 = in.getInt(PMax5);
+    entry.FCode = in.getString(FCode);
+    entry.FParam = in.getInt(FParam);
+    entry.FMin = in.getInt(FMin);
+    entry.FMax = in.getInt(FMax);
+  }
+
+  @Override
+  public void readBin(DataInput in, Sets.Entry entry) throws IOException {
+    entry.index = in.readUTF();
+    entry.name = in.readUTF();
+    entry.version = in.readInt();
+    entry.level = in.readInt();
+    entry.PCode2 = new String[2];
+    for (int x = 0; x < 2; x++) entry.PCode2[x] = in.readUTF();
+    entry.PParam2 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PParam2[x] = in.readInt();
+    entry.PMin2 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMin2[x] = in.readInt();
+    entry.PMax2 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMax2[x] = in.readInt();
+    entry.PCode3 = new String[2];
+    for (int x = 0; x < 2; x++) entry.PCode3[x] = in.readUTF();
+    entry.PParam3 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PParam3[x] = in.readInt();
+    entry.PMin3 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMin3[x] = in.readInt();
+    entry.PMax3 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMax3[x] = in.readInt();
+    entry.PCode4 = new String[2];
+    for (int x = 0; x < 2; x++) entry.PCode4[x] = in.readUTF();
+    entry.PParam4 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PParam4[x] = in.readInt();
+    entry.PMin4 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMin4[x] = in.readInt();
+    entry.PMax4 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMax4[x] = in.readInt();
+    entry.PCode5 = new String[2];
+    for (int x = 0; x < 2; x++) entry.PCode5[x] = in.readUTF();
+    entry.PParam5 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PParam5[x] = in.readInt();
+    entry.PMin5 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMin5[x] = in.readInt();
+    entry.PMax5 = new int[2];
+    for (int x = 0; x < 2; x++) entry.PMax5[x] = in.readInt();
+    entry.FCode = new String[8];
+    for (int x = 0; x < 8; x++) entry.FCode[x] = in.readUTF();
+    entry.FParam = new int[8];
+    for (int x = 0; x < 8; x++) entry.FParam[x] = in.readInt();
+    entry.FMin = new int[8];
+    for (int x = 0; x < 8; x++) entry.FMin[x] = in.readInt();
+    entry.FMax = new int[8];
+    for (int x = 0; x < 8; x++) entry.FMax[x] = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Sets.Entry entry) throws IOException {
+    out.writeUTF(entry.index);
+    out.writeUTF(entry.name);
+    out.writeInt(entry.version);
+    out.writeInt(entry.level);
+    for (String x : entry.PCode2) out.writeUTF(x);
+    for (int x : entry.PParam2) out.writeInt(x);
+    for (int x : entry.PMin2) out.writeInt(x);
+    for (int x : entry.PMax2) out.writeInt(x);
+    for (String x : entry.PCode3) out.writeUTF(x);
+    for (int x : entry.PParam3) out.writeInt(x);
+    for (int x : entry.PMin3) out.writeInt(x);
+    for (int x : entry.PMax3) out.writeInt(x);
+    for (String x : entry.PCode4) out.writeUTF(x);
+    for (int x : entry.PParam4) out.writeInt(x);
+    for (int x : entry.PMin4) out.writeInt(x);
+    for (int x : entry.PMax4) out.writeInt(x);
+    for (String x : entry.PCode5) out.writeUTF(x);
+    for (int x : entry.PParam5) out.writeInt(x);
+    for (int x : entry.PMin5) out.writeInt(x);
+    for (int x : entry.PMax5) out.writeInt(x);
+    for (String x : entry.FCode) out.writeUTF(x);
+    for (int x : entry.FParam) out.writeInt(x);
+    for (int x : entry.FMin) out.writeInt(x);
+    for (int x : entry.FMax) out.writeInt(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "index");
+    columnIds[1] = column(in, "name");
+    columnIds[2] = column(in, "version");
+    columnIds[3] = column(in, "level");
+    columnIds[4] = column(in, "PCode2");
+    columnIds[5] = column(in, "PParam2");
+    columnIds[6] = column(in, "PMin2");
+    columnIds[7] = column(in, "PMax2");
+    columnIds[8] = column(in, "PCode3");
+    columnIds[9] = column(in, "PParam3");
+    columnIds[10] = column(in, "PMin3");
+    columnIds[11] = column(in, "PMax3");
+    columnIds[12] = column(in, "PCode4");
+    columnIds[13] = column(in, "PParam4");
+    columnIds[14] = column(in, "PMin4");
+    columnIds[15] = column(in, "PMax4");
+    columnIds[16] = column(in, "PCode5");
+    columnIds[17] = column(in, "PParam5");
+    columnIds[18] = column(in, "PMin5");
+    columnIds[19] = column(in, "PMax5");
+    columnIds[20] = column(in, "FCode");
+    columnIds[21] = column(in, "FParam");
+    columnIds[22] = column(in, "FMin");
+    columnIds[23] = column(in, "FMax");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Sets.Entry entry) {
+    entry.index = in.getString(row, columnIds[0]);
+    entry.name = in.getString(row, columnIds[1]);
+    entry.version = in.getInt(row, columnIds[2]);
+    entry.level = in.getInt(row, columnIds[3]);
+    entry.PCode2 = in.getStrings(row, columnIds[4]);
+    entry.PParam2 = in.getInts(row, columnIds[5]);
+    entry.PMin2 = in.getInts(row, columnIds[6]);
+    entry.PMax2 = in.getInts(row, columnIds[7]);
+    entry.PCode3 = in.getStrings(row, columnIds[8]);
+    entry.PParam3 = in.getInts(row, columnIds[9]);
+    entry.PMin3 = in.getInts(row, columnIds[10]);
+    entry.PMax3 = in.getInts(row, columnIds[11]);
+    entry.PCode4 = in.getStrings(row, columnIds[12]);
+    entry.PParam4 = in.getInts(row, columnIds[13]);
+    entry.PMin4 = in.getInts(row, columnIds[14]);
+    entry.PMax4 = in.getInts(row, columnIds[15]);
+    entry.PCode5 = in.getStrings(row, columnIds[16]);
+    entry.PParam5 = in.getInts(row, columnIds[17]);
+    entry.PMin5 = in.getInts(row, columnIds[18]);
+    entry.PMax5 = in.getInts(row, columnIds[19]);
+    entry.FCode = in.getStrings(row, columnIds[20]);
+    entry.FParam = in.getInts(row, columnIds[21]);
+    entry.FMin = in.getInts(row, columnIds[22]);
+    entry.FMax = in.getInts(row, columnIds[23]);
+  }
+
+  @Override
+  public boolean equal(Sets.Entry e1, Sets.Entry e2) {
+    return StringUtils.equals(e1.index, e2.index)
+        && StringUtils.equals(e1.name, e2.name)
+        && e1.version == e2.version
+        && e1.level == e2.level
+        && Arrays.equals(e1.PCode2, e2.PCode2)
+        && Arrays.equals(e1.PParam2, e2.PParam2)
+        && Arrays.equals(e1.PMin2, e2.PMin2)
+        && Arrays.equals(e1.PMax2, e2.PMax2)
+        && Arrays.equals(e1.PCode3, e2.PCode3)
+        && Arrays.equals(e1.PParam3, e2.PParam3)
+        && Arrays.equals(e1.PMin3, e2.PMin3)
+        && Arrays.equals(e1.PMax3, e2.PMax3)
+        && Arrays.equals(e1.PCode4, e2.PCode4)
+        && Arrays.equals(e1.PParam4, e2.PParam4)
+        && Arrays.equals(e1.PMin4, e2.PMin4)
+        && Arrays.equals(e1.PMax4, e2.PMax4)
+        && Arrays.equals(e1.PCode5, e2.PCode5)
+        && Arrays.equals(e1.PParam5, e2.PParam5)
+        && Arrays.equals(e1.PMin5, e2.PMin5)
+        && Arrays.equals(e1.PMax5, e2.PMax5)
+        && Arrays.equals(e1.FCode, e2.FCode)
+        && Arrays.equals(e1.FParam, e2.FParam)
+        && Arrays.equals(e1.FMin, e2.FMin)
+        && Arrays.equals(e1.FMax, e2.FMax);
+  }
+}
@@ -0,0 +1,426 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link SkillDesc.Entry}, do not modify.
+ */
+public final class SkillDescLoader extends Excel.Loader<SkillDesc.Entry> {
+  private int skilldesc;
+  private int SkillPage;
+  private int SkillRow;
+  private int SkillColumn;
+  private int ListRow;
+  private int ListPool;
+  private int IconCel;
+  private int str_name;
+  private int str_short;
+  private int str_long;
+  private int str_alt;
+  private int str_mana;
+  private int descdam;
+  private int ddam_calc1;
+  private int ddam_calc2;
+  private int p1dmelem;
+  private int p1dmmin;
+  private int p1dmmax;
+  private int p2dmelem;
+  private int p2dmmin;
+  private int p2dmmax;
+  private int p3dmelem;
+  private int p3dmmin;
+  private int p3dmmax;
+  private int descatt;
+  private int descmissile1;
+  private int descmissile2;
+  private int descmissile3;
+  private int[] descline;
+  private int[] desctexta;
+  private int[] desctextb;
+  private int[] desccalca;
+  private int[] desccalcb;
+  private int[] dsc2line;
+  private int[] dsc2texta;
+  private int[] dsc2textb;
+  private int[] dsc2calca;
+  private int[] dsc2calcb;
+  private int[] dsc3line;
+  private int[] dsc3texta;
+  private int[] dsc3textb;
+  private int[] dsc3calca;
+  private int[] dsc3calcb;
+  private final int[] columnIds = new int[43];
+
+  public SkillDescLoader() {
+    super("skilldesc", "SkillPage", "SkillRow", "SkillColumn", "ListRow", "ListPool", "IconCel", "str_name", "str_short", "str_long", "str_alt", "str_mana", "descdam", "ddam_calc1", "ddam_calc2", "p1dmelem", "p1dmmin", "p1dmmax", "p2dmelem", "p2dmmin", "p2dmmax", "p3dmelem", "p3dmmin", "p3dmmax", "descatt", "descmissile1", "descmissile2", "descmissile3", "descline", "desctexta", "desctextb", "desccalca", "desccalcb", "dsc2line", "dsc2texta", "dsc2textb", "dsc2calca", "dsc2calcb", "dsc3line", "dsc3texta", "dsc3textb", "dsc3calca", "dsc3calcb");
+  }
+
+  @Override
+  public SkillDesc.Entry newEntry() {
+    return new SkillDesc.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "skilldesc";
+  }
+
+  @Override
+  public String stringKey(SkillDesc.Entry entry) {
+    return entry.skilldesc;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    skilldesc = in.getColumnId("skilldesc");
+    SkillPage = in.getColumnId("SkillPage");
+    SkillRow = in.getColumnId("SkillRow");
+    SkillColumn = in.getColumnId("SkillColumn");
+    ListRow = in.getColumnId("ListRow");
+    ListPool = in.getColumnId("ListPool");
+    IconCel = in.getColumnId("IconCel");
+    str_name = in.getColumnId("str name");
+    str_short = in.getColumnId("str short");
+    str_long = in.getColumnId("str long");
+    str_alt = in.getColumnId("str alt");
+    str_mana = in.getColumnId("str mana");
+    descdam = in.getColumnId("descdam");
+    ddam_calc1 = in.getColumnId("ddam calc1");
+    ddam_calc2 = in.getColumnId("ddam calc2");
+    p1dmelem = in.getColumnId("p1dmelem");
+    p1dmmin = in.getColumnId("p1dmmin");
+    p1dmmax = in.getColumnId("p1dmmax");
+    p2dmelem = in.getColumnId("p2dmelem");
+    p2dmmin = in.getColumnId("p2dmmin");
+    p2dmmax = in.getColumnId("p2dmmax");
+    p3dmelem = in.getColumnId("p3dmelem");
+    p3dmmin = in.getColumnId("p3dmmin");
+    p3dmmax = in.getColumnId("p3dmmax");
+    descatt = in.getColumnId("descatt");
+    descmissile1 = in.getColumnId("descmissile1");
+    descmissile2 = in.getColumnId("descmissile2");
+    descmissile3 = in.getColumnId("descmissile3");
+    descline = in.getColumnId(new String[] { "descline1", "descline2", "descline3", "descline4", "descline5", "descline6" });
+    desctexta = in.getColumnId(new String[] { "desctexta1", "desctexta2", "desctexta3", "desctexta4", "desctexta5", "desctexta6" });
+    desctextb = in.getColumnId(new String[] { "desctextb1", "desctextb2", "desctextb3", "desctextb4", "desctextb5", "desctextb6" });
+    desccalca = in.getColumnId(new String[] { "desccalca1", "desccalca2", "desccalca3", "desccalca4", "desccalca5", "desccalca6" });
+    desccalcb = in.getColumnId(new String[] { "desccalcb1", "desccalcb2", "desccalcb3", "desccalcb4", "desccalcb5", "desccalcb6" });
+    dsc2line = in.getColumnId(new String[] { "dsc2line1", "dsc2line2", "dsc2line3", "dsc2line4" });
+    dsc2texta = in.getColumnId(new String[] { "dsc2texta1", "dsc2texta2", "dsc2texta3", "dsc2texta4" });
+    dsc2textb = in.getColumnId(new String[] { "dsc2textb1", "dsc2textb2", "dsc2textb3", "dsc2textb4" });
+    dsc2calca = in.getColumnId(new String[] { "dsc2calca1", "dsc2calca2", "dsc2calca3", "dsc2calca4" });
+    dsc2calcb = in.getColumnId(new String[] { "dsc2calcb1", "dsc2calcb2", "dsc2calcb3", "dsc2calcb4" });
+    dsc3line = in.getColumnId(new String[] { "dsc3line1", "dsc3line2", "dsc3line3", "dsc3line4", "dsc3line5", "dsc3line6", "dsc3line7" });
+    dsc3texta = in.getColumnId(new String[] { "dsc3texta1", "dsc3texta2", "dsc3texta3", "dsc3texta4", "dsc3texta5", "dsc3texta6", "dsc3texta7" });
+    dsc3textb = in.getColumnId(new String[] { "dsc3textb1", "dsc3textb2", "dsc3textb3", "dsc3textb4", "dsc3textb5", "dsc3textb6", "dsc3textb7" });
+    dsc3calca = in.getColumnId(new String[] { "dsc3calca1", "dsc3calca2", "dsc3calca3", "dsc3calca4", "dsc3calca5", "dsc3calca6", "dsc3calca7" });
+    dsc3calcb = in.getColumnId(new String[] { "dsc3calcb1", "dsc3calcb2", "dsc3calcb3", "dsc3calcb4", "dsc3calcb5", "dsc3calcb6", "dsc3calcb7" });
+  }
+
+  @Override
+  public void readTxt(TxtParser in, SkillDesc.Entry entry) {
+    entry.skilldesc = in.getString(skilldesc);
+    entry.SkillPage = in.getInt(SkillPage);
+    entry.SkillRow = in.getInt(SkillRow);
+    entry.SkillColumn = in.getInt(SkillColumn);
+    entry.ListRow = in.getInt(ListRow);
+    entry.ListPool = in.getInt(ListPool);
+    entry.IconCel = in.getInt(IconCel);
+    entry.str_name = in.getString(str_name);
+    entry.str_short = in.getString(str_short);
+    entry.str_long = in.getString(str_long);
+    entry.str_alt = in.getString(str_alt);
+    entry.str_mana = in.getString(str_mana);
+    entry.descdam = in.getInt(descdam);
+    entry.ddam_calc1 = in.getString(ddam_calc1);
+    entry.ddam_calc2 = in.getString(ddam_calc2);
+    entry.p1dmelem = in.getString(p1dmelem);
+    entry.p1dmmin = in.getString(p1dmmin);
+    entry.p1dmmax = in.getString(p1dmmax);
+    entry.p2dmelem = in.getString(p2dmelem);
+    entry.p2dmmin = in.getString(p2dmmin);
+    entry.p2dmmax = in.getString(p2dmmax);
+    entry.p3dmelem = in.getString(p3dmelem);
+    entry.p3dmmin = in.getString(p3dmmin);
+    entry.p3dmmax = in.getString(p3dmmax);
+    entry.descatt = in.getInt(descatt);
+    entry.descmissile1 = in.getString(descmissile1);
+    entry.descmissile2 = in.getString(descmissile2);
+    entry.descmissile3 = in.getString(descmissile3);
+    entry.descline = in.getInt(descline);
+    entry.desctexta = in.getString(desctexta);
+    entry.desctextb = in.getString(desctextb);
+    entry.desccalca = in.getString(desccalca);
+    entry.desccalcb = in.getString(desccalcb);
+    entry.dsc2line = in.getInt(dsc2line);
+    entry.dsc2texta = in.getString(dsc2texta);
+    entry.dsc2textb = in.getString(dsc2textb);
+    entry.dsc2calca = in.getString(dsc2calca);
+    entry.dsc2calcb = in.getString(dsc2calcb);
+    entry.dsc3line = in.getInt(dsc3line);
+    entry.dsc3texta = in.getString(dsc3texta);
+    entry.dsc3textb = in.getString(dsc3textb);
+    entry.dsc3calca = in.getString(dsc3calca);
+    entry.dsc3calcb = in.getString(dsc3calcb);
+  }
+
+  @Override
+  public void readBin(DataInput in, SkillDesc.Entry entry) throws IOException {
+    entry.skilldesc = in.readUTF();
+    entry.SkillPage = in.readInt();
+    entry.SkillRow = in.readInt();
+    entry.SkillColumn = in.readInt();
+    entry.ListRow = in.readInt();
+    entry.ListPool = in.readInt();
+    entry.IconCel = in.readInt();
+    entry.str_name = in.readUTF();
+    entry.str_short = in.readUTF();
+    entry.str_long = in.readUTF();
+    entry.str_alt = in.readUTF();
+    entry.str_mana = in.readUTF();
+    entry.descdam = in.readInt();
+    entry.ddam_calc1 = in.readUTF();
+    entry.ddam_calc2 = in.readUTF();
+    entry.p1dmelem = in.readUTF();
+    entry.p1dmmin = in.readUTF();
+    entry.p1dmmax = in.readUTF();
+    entry.p2dmelem = in.readUTF();
+    entry.p2dmmin = in.readUTF();
+    entry.p2dmmax = in.readUTF();
+    entry.p3dmelem = in.readUTF();
+    entry.p3dmmin = in.readUTF();
+    entry.p3dmmax = in.readUTF();
+    entry.descatt = in.readInt();
+    entry.descmissile1 = in.readUTF();
+    entry.descmissile2 = in.readUTF();
+    entry.descmissile3 = in.readUTF();
+    entry.descline = new int[6];
+    for (int x = 0; x < 6; x++) entry.descline[x] = in.readInt();
+    entry.desctexta = new String[6];
+    for (int x = 0; x < 6; x++) entry.desctexta[x] = in.readUTF();
+    entry.desctextb = new String[6];
+    for (int x = 0; x < 6; x++) entry.desctextb[x] = in.readUTF();
+    entry.desccalca = new String[6];
+    for (int x = 0; x < 6; x++) entry.desccalca[x] = in.readUTF();
+    entry.desccalcb = new String[6];
+    for (int x = 0; x < 6; x++) entry.desccalcb[x] = in.readUTF();
+    entry.dsc2line = new int[4];
+    for (int x = 0; x < 4; x++) entry.dsc2line[x] = in.readInt();
+    entry.dsc2texta = new String[4];
+    for (int x = 0; x < 4; x++) entry.dsc2texta[x] = in.readUTF();
+    entry.dsc2textb = new String[4];
+    for (int x = 0; x < 4; x++) entry.dsc2textb[x] = in.readUTF();
+    entry.dsc2calca = new String[4];
+    for (int x = 0; x < 4; x++) entry.dsc2calca[x] = in.readUTF();
+    entry.dsc2calcb = new String[4];
+    for (int x = 0; x < 4; x++) entry.dsc2calcb[x] = in.readUTF();
+    entry.dsc3line = new int[7];
+    for (int x = 0; x < 7; x++) entry.dsc3line[x] = in.readInt();
+    entry.dsc3texta = new String[7];
+    for (int x = 0; x < 7; x++) entry.dsc3texta[x] = in.readUTF();
+    entry.dsc3textb = new String[7];
+    for (int x = 0; x < 7; x++) entry.dsc3textb[x] = in.readUTF();
+    entry.dsc3calca = new String[7];
+    for (int x = 0; x < 7; x++) entry.dsc3calca[x] = in.readUTF();
+    entry.dsc3calcb = new String[7];
+    for (int x = 0; x < 7; x++) entry.dsc3calcb[x] = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, SkillDesc.Entry entry) throws IOException {
+    out.writeUTF(entry.skilldesc);
+    out.writeInt(entry.SkillPage);
+    out.writeInt(entry.SkillRow);
+    out.writeInt(entry.SkillColumn);
+    out.writeInt(entry.ListRow);
+    out.writeInt(entry.ListPool);
+    out.writeInt(entry.IconCel);
+    out.writeUTF(entry.str_name);
+    out.writeUTF(entry.str_short);
+    out.writeUTF(entry.str_long);
+    out.writeUTF(entry.str_alt);
+    out.writeUTF(entry.str_mana);
+    out.writeInt(entry.descdam);
+    out.writeUTF(entry.ddam_calc1);
+    out.writeUTF(entry.ddam_calc2);
+    out.writeUTF(entry.p1dmelem);
+    out.writeUTF(entry.p1dmmin);
+    out.writeUTF(entry.p1dmmax);
+    out.writeUTF(entry.p2dmelem);
+    out.writeUTF(entry.p2dmmin);
+    out.writeUTF(entry.p2dmmax);
+    out.writeUTF(entry.p3dmelem);
+    out.writeUTF(entry.p3dmmin);
+    out.writeUTF(entry.p3dmmax);
+    out.writeInt(entry.descatt);
+    out.writeUTF(entry.descmissile1);
+    out.writeUTF(entry.descmissile2);
+    out.writeUTF(entry.descmissile3);
+    for (int x : entry.descline) out.writeInt(x);
+    for (String x : entry.desctexta) out.writeUTF(x);
+    for (String x : entry.desctextb) out.writeUTF(x);
+    for (String x : entry.desccalca) out.writeUTF(x);
+    for (String x : entry.desccalcb) out.writeUTF(x);
+    for (int x : entry.dsc2line) out.writeInt(x);
+    for (String x : entry.dsc2texta) out.writeUTF(x);
+    for (String x : entry.dsc2textb) out.writeUTF(x);
+    for (String x : entry.dsc2calca) out.writeUTF(x);
+    for (String x : entry.dsc2calcb) out.writeUTF(x);
+    for (int x : entry.dsc3line) out.writeInt(x);
+    for (String x : entry.dsc3texta) out.writeUTF(x);
+    for (String x : entry.dsc3textb) out.writeUTF(x);
+    for (String x : entry.dsc3calca) out.writeUTF(x);
+    for (String x : entry.dsc3calcb) out.writeUTF(x);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "skilldesc");
+    columnIds[1] = column(in, "SkillPage");
+    columnIds[2] = column(in, "SkillRow");
+    columnIds[3] = column(in, "SkillColumn");
+    columnIds[4] = column(in, "ListRow");
+    columnIds[5] = column(in, "ListPool");
+    columnIds[6] = column(in, "IconCel");
+    columnIds[7] = column(in, "str_name");
+    columnIds[8] = column(in, "str_short");
+    columnIds[9] = column(in, "str_long");
+    columnIds[10] = column(in, "str_alt");
+    columnIds[11] = column(in, "str_mana");
+    columnIds[12] = column(in, "descdam");
+    columnIds[13] = column(in, "ddam_calc1");
+    columnIds[14] = column(in, "ddam_calc2");
+    columnIds[15] = column(in, "p1dmelem");
+    columnIds[16] = column(in, "p1dmmin");
+    columnIds[17] = column(in, "p1dmmax");
+    columnIds[18] = column(in, "p2dmelem");
+    columnIds[19] = column(in, "p2dmmin");
+    columnIds[20] = column(in, "p2dmmax");
+    columnIds[21] = column(in, "p3dmelem");
+    columnIds[22] = column(in, "p3dmmin");
+    columnIds[23] = column(in, "p3dmmax");
+    columnIds[24] = column(in, "descatt");
+    columnIds[25] = column(in, "descmissile1");
+    columnIds[26] = column(in, "descmissile2");
+    columnIds[27] = column(in, "descmissile3");
+    columnIds[28] = column(in, "descline");
+    columnIds[29] = column(in, "desctexta");
+    columnIds[30] = column(in, "desctextb");
+    columnIds[31] = column(in, "desccalca");
+    columnIds[32] = column(in, "desccalcb");
+    columnIds[33] = column(in, "dsc2line");
+    columnIds[34] = column(in, "dsc2texta");
+    columnIds[35] = column(in, "dsc2textb");
+    columnIds[36] = column(in, "dsc2calca");
+    columnIds[37] = column(in, "dsc2calcb");
+    columnIds[38] = column(in, "dsc3line");
+    columnIds[39] = column(in, "dsc3texta");
+    columnIds[40] = column(in, "dsc3textb");
+    columnIds[41] = column(in, "dsc3calca");
+    columnIds[42] = column(in, "dsc3calcb");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, SkillDesc.Entry entry) {
+    entry.skilldesc = in.getString(row, columnIds[0]);
+    entry.SkillPage = in.getInt(row, columnIds[1]);
+    entry.SkillRow = in.getInt(row, columnIds[2]);
+    entry.SkillColumn = in.getInt(row, columnIds[3]);
+    entry.ListRow = in.getInt(row, columnIds[4]);
+    entry.ListPool = in.getInt(row, columnIds[5]);
+    entry.IconCel = in.getInt(row, columnIds[6]);
+    entry.str_name = in.getString(row, columnIds[7]);
+    entry.str_short = in.getString(row, columnIds[8]);
+    entry.str_long = in.getString(row, columnIds[9]);
+    entry.str_alt = in.getString(row, columnIds[10]);
+    entry.str_mana = in.getString(row, columnIds[11]);
+    entry.descdam = in.getInt(row, columnIds[12]);
+    entry.ddam_calc1 = in.getString(row, columnIds[13]);
+    entry.ddam_calc2 = in.getString(row, columnIds[14]);
+    entry.p1dmelem = in.getString(row, columnIds[15]);
+    entry.p1dmmin = in.getString(row, columnIds[16]);
+    entry.p1dmmax = in.getString(row, columnIds[17]);
+    entry.p2dmelem = in.getString(row, columnIds[18]);
+    entry.p2dmmin = in.getString(row, columnIds[19]);
+    entry.p2dmmax = in.getString(row, columnIds[20]);
+    entry.p3dmelem = in.getString(row, columnIds[21]);
+    entry.p3dmmin = in.getString(row, columnIds[22]);
+    entry.p3dmmax = in.getString(row, columnIds[23]);
+    entry.descatt = in.getInt(row, columnIds[24]);
+    entry.descmissile1 = in.getString(row, columnIds[25]);
+    entry.descmissile2 = in.getString(row, columnIds[26]);
+    entry.descmissile3 = in.getString(row, columnIds[27]);
+    entry.descline = in.getInts(row, columnIds[28]);
+    entry.desctexta = in.getStrings(row, columnIds[29]);
+    entry.desctextb = in.getStrings(row, columnIds[30]);
+    entry.desccalca = in.getStrings(row, columnIds[31]);
+    entry.desccalcb = in.getStrings(row, columnIds[32]);
+    entry.dsc2line = in.getInts(row, columnIds[33]);
+    entry.dsc2texta = in.getStrings(row, columnIds[34]);
+    entry.dsc2textb = in.getStrings(row, columnIds[35]);
+    entry.dsc2calca = in.getStrings(row, columnIds[36]);
+    entry.dsc2calcb = in.getStrings(row, columnIds[37]);
+    entry.dsc3line = in.getInts(row, columnIds[38]);
+    entry.dsc3texta = in.getStrings(row, columnIds[39]);
+    entry.dsc3textb = in.getStrings(row, columnIds[40]);
+    entry.dsc3calca = in.getStrings(row, columnIds[41]);
+    entry.dsc3calcb = in.getStrings(row, columnIds[42]);
+  }
+
+  @Override
+  public boolean equal(SkillDesc.Entry e1, SkillDesc.Entry e2) {
+    return StringUtils.equals(e1.skilldesc, e2.skilldesc)
+        && e1.SkillPage == e2.SkillPage
+        && e1.SkillRow == e2.SkillRow
+        && e1.SkillColumn == e2.SkillColumn
+        && e1.ListRow == e2.ListRow
+        && e1.ListPool == e2.ListPool
+        && e1.IconCel == e2.IconCel
+        && StringUtils.equals(e1.str_name, e2.str_name)
+        && StringUtils.equals(e1.str_short, e2.str_short)
+        && StringUtils.equals(e1.str_long, e2.str_long)
+        && StringUtils.equals(e1.str_alt, e2.str_alt)
+        && StringUtils.equals(e1.str_mana, e2.str_mana)
+        && e1.descdam == e2.descdam
+        && StringUtils.equals(e1.ddam_calc1, e2.ddam_calc1)
+        && StringUtils.equals(e1.ddam_calc2, e2.ddam_calc2)
+        && StringUtils.equals(e1.p1dmelem, e2.p1dmelem)
+        && StringUtils.equals(e1.p1dmmin, e2.p1dmmin)
+        && StringUtils.equals(e1.p1dmmax, e2.p1dmmax)
+        && StringUtils.equals(e1.p2dmelem, e2.p2dmelem)
+        && StringUtils.equals(e1.p2dmmin, e2.p2dmmin)
+        && StringUtils.equals(e1.p2dmmax, e2.p2dmmax)
+        && StringUtils.equals(e1.p3dmelem, e2.p3dmelem)
+        && StringUtils.equals(e1.p3dmmin, e2.p3dmmin)
+        && StringUtils.equals(e1.p3dmmax, e2.p3dmmax)
+        && e1.descatt == e2.descatt
+        && StringUtils.equals(e1.descmissile1, e2.descmissile1)
+        && StringUtils.equals(e1.descmissile2, e2.descmissile2)
+        && StringUtils.equals(e1.descmissile3, e2.descmissile3)
+        && Arrays.equals(e1.descline, e2.descline)
+        && Arrays.equals(e1.desctexta, e2.desctexta)
+        && Arrays.equals(e1.desctextb, e2.desctextb)
+        && Arrays.equals(e1.desccalca, e2.desccalca)
+        && Arrays.equals(e1.desccalcb, e2.desccalcb)
+        && Arrays.equals(e1.dsc2line, e2.dsc2line)
+        && Arrays.equals(e1.dsc2texta, e2.dsc2texta)
+        && Arrays.equals(e1.dsc2textb, e2.dsc2textb)
+        && Arrays.equals(e1.dsc2calca, e2.dsc2calca)
+        && Arrays.equals(e1.dsc2calcb, e2.dsc2calcb)
+        && Arrays.equals(e1.dsc3line, e2.dsc3line)
+        && Arrays.equals(e1.dsc3texta, e2.dsc3texta)
+        && Arrays.equals(e1.dsc3textb, e2.dsc3textb)
+        && Arrays.equals(e1.dsc3calca, e2.dsc3calca)
+        && Arrays.equals(e1.dsc3calcb, e2.dsc3calcb);
+  }
+}
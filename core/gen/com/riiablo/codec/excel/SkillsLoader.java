@@ -0,0 +1,236 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Skills.Entry}, do not modify.
+ */
+public final class SkillsLoader extends Excel.Loader<Skills.Entry> {
+  private int Id;
+  private int skill;
+  private int charclass;
+  private int skilldesc;
+  private int stsound;
+  private int castoverlay;
+  private int anim;
+  private int seqtrans;
+  private int monanim;
+  private int seqnum;
+  private int seqinput;
+  private int reqlevel;
+  private int startmana;
+  private int minmana;
+  private int manashift;
+  private int mana;
+  private int lvlmana;
+  private int[] Param;
+  private int leftskill;
+  private int passive;
+  private int aura;
+  private final int[] columnIds = new int[21];
+
+  public SkillsLoader() {
+    super("Id", "skill", "charclass", "skilldesc", "stsound", "castoverlay", "anim", "seqtrans", "monanim", "seqnum", "seqinput", "reqlevel", "startmana", "minmana", "manashift", "mana", "lvlmana", "Param", "leftskill", "passive", "aura");
+  }
+
+  @Override
+  public Skills.Entry newEntry() {
+    return new Skills.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return INT_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Id";
+  }
+
+  @Override
+  public int intKey(Skills.Entry entry) {
+    return entry.Id;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Id = in.getColumnId("Id");
+    skill = in.getColumnId("skill");
+    charclass = in.getColumnId("charclass");
+    skilldesc = in.getColumnId("skilldesc");
+    stsound = in.getColumnId("stsound");
+    castoverlay = in.getColumnId("castoverlay");
+    anim = in.getColumnId("anim");
+    seqtrans = in.getColumnId("seqtrans");
+    monanim = in.getColumnId("monanim");
+    seqnum = in.getColumnId("seqnum");
+    seqinput = in.getColumnId("seqinput");
+    reqlevel = in.getColumnId("reqlevel");
+    startmana = in.getColumnId("startmana");
+    minmana = in.getColumnId("minmana");
+    manashift = in.getColumnId("manashift");
+    mana = in.getColumnId("mana");
+    lvlmana = in.getColumnId("lvlmana");
+    Param = in.getColumnId(new String[] { "Param1", "Param2", "Param3", "Param4", "Param5", "Param6", "Param7", "Param8" });
+    leftskill = in.getColumnId("leftskill");
+    passive = in.getColumnId("passive");
+    aura = in.getColumnId("aura");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Skills.Entry entry) {
+    entry.Id = in.getInt(Id);
+    entry.skill = in.getString(skill);
+    entry.charclass = in.getString(charclass);
+    entry.skilldesc = in.getString(skilldesc);
+    entry.stsound = in.getString(stsound);
+    entry.castoverlay = in.getString(castoverlay);
+    entry.anim = in.getString(anim);
+    entry.seqtrans = in.getString(seqtrans);
+    entry.monanim = in.getString(monanim);
+    entry.seqnum = in.getInt(seqnum);
+    entry.seqinput = in.getInt(seqinput);
+    entry.reqlevel = in.getInt(reqlevel);
+    entry.startmana = in.getInt(startmana);
+    entry.minmana = in.getInt(minmana);
+    entry.manashift = in.getInt(manashift);
+    entry.mana = in.getInt(mana);
+    entry.lvlmana = in.getInt(lvlmana);
+    entry.Param = in.getInt(Param);
+    entry.leftskill = in.getBoolean(leftskill);
+    entry.passive = in.getBoolean(passive);
+    entry.aura = in.getBoolean(aura);
+  }
+
+  @Override
+  public void readBin(DataInput in, Skills.Entry entry) throws IOException {
+    entry.Id = in.readInt();
+    entry.skill = in.readUTF();
+    entry.charclass = in.readUTF();
+    entry.skilldesc = in.readUTF();
+    entry.stsound = in.readUTF();
+    entry.castoverlay = in.readUTF();
+    entry.anim = in.readUTF();
+    entry.seqtrans = in.readUTF();
+    entry.monanim = in.readUTF();
+    entry.seqnum = in.readInt();
+    entry.seqinput = in.readInt();
+    entry.reqlevel = in.readInt();
+    entry.startmana = in.readInt();
+    entry.minmana = in.readInt();
+    entry.manashift = in.readInt();
+    entry.mana = in.readInt();
+    entry.lvlmana = in.readInt();
+    entry.Param = new int[8];
+    for (int x = 0; x < 8; x++) entry.Param[x] = in.readInt();
+    entry.leftskill = in.readBoolean();
+    entry.passive = in.readBoolean();
+    entry.aura = in.readBoolean();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Skills.Entry entry) throws IOException {
+    out.writeInt(entry.Id);
+    out.writeUTF(entry.skill);
+    out.writeUTF(entry.charclass);
+    out.writeUTF(entry.skilldesc);
+    out.writeUTF(entry.stsound);
+    out.writeUTF(entry.castoverlay);
+    out.writeUTF(entry.anim);
+    out.writeUTF(entry.seqtrans);
+    out.writeUTF(entry.monanim);
+    out.writeInt(entry.seqnum);
+    out.writeInt(entry.seqinput);
+    out.writeInt(entry.reqlevel);
+    out.writeInt(entry.startmana);
+    out.writeInt(entry.minmana);
+    out.writeInt(entry.manashift);
+    out.writeInt(entry.mana);
+    out.writeInt(entry.lvlmana);
+    for (int x : entry.Param) out.writeInt(x);
+    out.writeBoolean(entry.leftskill);
+    out.writeBoolean(entry.passive);
+    out.writeBoolean(entry.aura);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Id");
+    columnIds[1] = column(in, "skill");
+    columnIds[2] = column(in, "charclass");
+    columnIds[3] = column(in, "skilldesc");
+    columnIds[4] = column(in, "stsound");
+    columnIds[5] = column(in, "castoverlay");
+    columnIds[6] = column(in, "anim");
+    columnIds[7] = column(in, "seqtrans");
+    columnIds[8] = column(in, "monanim");
+    columnIds[9] = column(in, "seqnum");
+    columnIds[10] = column(in, "seqinput");
+    columnIds[11] = column(in, "reqlevel");
+    columnIds[12] = column(in, "startmana");
+    columnIds[13] = column(in, "minmana");
+    columnIds[14] = column(in, "manashift");
+    columnIds[15] = column(in, "mana");
+    columnIds[16] = column(in, "lvlmana");
+    columnIds[17] = column(in, "Param");
+    columnIds[18] = column(in, "leftskill");
+    columnIds[19] = column(in, "passive");
+    columnIds[20] = column(in, "aura");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Skills.Entry entry) {
+    entry.Id = in.getInt(row, columnIds[0]);
+    entry.skill = in.getString(row, columnIds[1]);
+    entry.charclass = in.getString(row, columnIds[2]);
+    entry.skilldesc = in.getString(row, columnIds[3]);
+    entry.stsound = in.getString(row, columnIds[4]);
+    entry.castoverlay = in.getString(row, columnIds[5]);
+    entry.anim = in.getString(row, columnIds[6]);
+    entry.seqtrans = in.getString(row, columnIds[7]);
+    entry.monanim = in.getString(row, columnIds[8]);
+    entry.seqnum = in.getInt(row, columnIds[9]);
+    entry.seqinput = in.getInt(row, columnIds[10]);
+    entry.reqlevel = in.getInt(row, columnIds[11]);
+    entry.startmana = in.getInt(row, columnIds[12]);
+    entry.minmana = in.getInt(row, columnIds[13]);
+    entry.manashift = in.getInt(row, columnIds[14]);
+    entry.mana = in.getInt(row, columnIds[15]);
+    entry.lvlmana = in.getInt(row, columnIds[16]);
+    entry.Param = in.getInts(row, columnIds[17]);
+    entry.leftskill = in.getBoolean(row, columnIds[18]);
+    entry.passive = in.getBoolean(row, columnIds[19]);
+    entry.aura = in.getBoolean(row, columnIds[20]);
+  }
+
+  @Override
+  public boolean equal(Skills.Entry e1, Skills.Entry e2) {
+    return e1.Id == e2.Id
+        && StringUtils.equals(e1.skill, e2.skill)
+        && StringUtils.equals(e1.charclass, e2.charclass)
+        && StringUtils.equals(e1.skilldesc, e2.skilldesc)
+        && StringUtils.equals(e1.stsound, e2.stsound)
+        && StringUtils.equals(e1.castoverlay, e2.castoverlay)
+        && StringUtils.equals(e1.anim, e2.anim)
+        && StringUtils.equals(e1.seqtrans, e2.seqtrans)
+        && StringUtils.equals(e1.monanim, e2.monanim)
+        && e1.seqnum == e2.seqnum
+        && e1.seqinput == e2.seqinput
+        && e1.reqlevel == e2.reqlevel
+        && e1.startmana == e2.startmana
+        && e1.minmana == e2.minmana
+        && e1.manashift == e2.manashift
+        && e1.mana == e2.mana
+        && e1.lvlmana == e2.lvlmana
+        && Arrays.equals(e1.Param, e2.Param)
+        && e1.leftskill == e2.leftskill
+        && e1.passive == e2.passive
+        && e1.aura == e2.aura;
+  }
+}
@@ -0,0 +1,267 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Sounds.Entry}, do not modify.
+ */
+public final class SoundsLoader extends Excel.Loader<Sounds.Entry> {
+  private int Sound;
+  private int Index;
+  private int FileName;
+  private int Volume;
+  private int Group_Size;
+  private int Loop;
+  private int Fade_In;
+  private int Fade_Out;
+  private int Defer_Inst;
+  private int Stop_Inst;
+  private int Duration;
+  private int Compound;
+  private int Reverb;
+  private int Falloff;
+  private int Cache;
+  private int Async_Only;
+  private int Priority;
+  private int Stream;
+  private int Stereo;
+  private int Tracking;
+  private int Solo;
+  private int Music_Vol;
+  private int Block_1;
+  private int Block_2;
+  private int Block_3;
+  private final int[] columnIds = new int[25];
+
+  public SoundsLoader() {
+    super("Sound", "Index", "FileName", "Volume", "Group_Size", "Loop", "Fade_In", "Fade_Out", "Defer_Inst", "Stop_Inst", "Duration", "Compound", "Reverb", "Falloff", "Cache", "Async_Only", "Priority", "Stream", "Stereo", "Tracking", "Solo", "Music_Vol", "Block_1", "Block_2", "Block_3");
+  }
+
+  @Override
+  public Sounds.Entry newEntry() {
+    return new Sounds.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Sound";
+  }
+
+  @Override
+  public String stringKey(Sounds.Entry entry) {
+    return entry.Sound;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Sound = in.getColumnId("Sound");
+    Index = in.getColumnId("Index");
+    FileName = in.getColumnId("FileName");
+    Volume = in.getColumnId("Volume");
+    Group_Size = in.getColumnId("Group Size");
+    Loop = in.getColumnId("Loop");
+    Fade_In = in.getColumnId("Fade In");
+    Fade_Out = in.getColumnId("Fade Out");
+    Defer_Inst = in.getColumnId("Defer Inst");
+    Stop_Inst = in.getColumnId("Stop Inst");
+    Duration = in.getColumnId("Duration");
+    Compound = in.getColumnId("Compound");
+    Reverb = in.getColumnId("Reverb");
+    Falloff = in.getColumnId("Falloff");
+    Cache = in.getColumnId("Cache");
+    Async_Only = in.getColumnId("Async Only");
+    Priority = in.getColumnId("Priority");
+    Stream = in.getColumnId("Stream");
+    Stereo = in.getColumnId("Stereo");
+    Tracking = in.getColumnId("Tracking");
+    Solo = in.getColumnId("Solo");
+    Music_Vol = in.getColumnId("Music Vol");
+    Block_1 = in.getColumnId("Block 1");
+    Block_2 = in.getColumnId("Block 2");
+    Block_3 = in.getColumnId("Block 3");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Sounds.Entry entry) {
+    entry.Sound = in.getString(Sound);
+    entry.Index = in.getInt(Index);
+    entry.FileName = in.getString(FileName);
+    entry.Volume = in.getInt(Volume);
+    entry.Group_Size = in.getInt(Group_Size);
+    entry.Loop = in.getBoolean(Loop);
+    entry.Fade_In = in.getInt(Fade_In);
+    entry.Fade_Out = in.getInt(Fade_Out);
+    entry.Defer_Inst = in.getBoolean(Defer_Inst);
+    entry.Stop_Inst = in.getBoolean(Stop_Inst);
+    entry.Duration = in.getInt(Duration);
+    entry.Compound = in.getInt(Compound);
+    entry.Reverb = in.getInt(Reverb);
+    entry.Falloff = in.getInt(Falloff);
+    entry.Cache = in.getBoolean(Cache);
+    entry.Async_Only = in.getBoolean(Async_Only);
+    entry.Priority = in.getInt(Priority);
+    entry.Stream = in.getBoolean(Stream);
+    entry.Stereo = in.getBoolean(Stereo);
+    entry.Tracking = in.getBoolean(Tracking);
+    entry.Solo = in.getBoolean(Solo);
+    entry.Music_Vol = in.getBoolean(Music_Vol);
+    entry.Block_1 = in.getString(Block_1);
+    entry.Block_2 = in.getString(Block_2);
+    entry.Block_3 = in.getString(Block_3);
+  }
+
+  @Override
+  public void readBin(DataInput in, Sounds.Entry entry) throws IOException {
+    entry.Sound = in.readUTF();
+    entry.Index = in.readInt();
+    entry.FileName = in.readUTF();
+    entry.Volume = in.readInt();
+    entry.Group_Size = in.readInt();
+    entry.Loop = in.readBoolean();
+    entry.Fade_In = in.readInt();
+    entry.Fade_Out = in.readInt();
+    entry.Defer_Inst = in.readBoolean();
+    entry.Stop_Inst = in.readBoolean();
+    entry.Duration = in.readInt();
+    entry.Compound = in.readInt();
+    entry.Reverb = in.readInt();
+    entry.Falloff = in.readInt();
+    entry.Cache = in.readBoolean();
+    entry.Async_Only = in.readBoolean();
+    entry.Priority = in.readInt();
+    entry.Stream = in.readBoolean();
+    entry.Stereo = in.readBoolean();
+    entry.Tracking = in.readBoolean();
+    entry.Solo = in.readBoolean();
+    entry.Music_Vol = in.readBoolean();
+    entry.Block_1 = in.readUTF();
+    entry.Block_2 = in.readUTF();
+    entry.Block_3 = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Sounds.Entry entry) throws IOException {
+    out.writeUTF(entry.Sound);
+    out.writeInt(entry.Index);
+    out.writeUTF(entry.FileName);
+    out.writeInt(entry.Volume);
+    out.writeInt(entry.Group_Size);
+    out.writeBoolean(entry.Loop);
+    out.writeInt(entry.Fade_In);
+    out.writeInt(entry.Fade_Out);
+    out.writeBoolean(entry.Defer_Inst);
+    out.writeBoolean(entry.Stop_Inst);
+    out.writeInt(entry.Duration);
+    out.writeInt(entry.Compound);
+    out.writeInt(entry.Reverb);
+    out.writeInt(entry.Falloff);
+    out.writeBoolean(entry.Cache);
+    out.writeBoolean(entry.Async_Only);
+    out.writeInt(entry.Priority);
+    out.writeBoolean(entry.Stream);
+    out.writeBoolean(entry.Stereo);
+    out.writeBoolean(entry.Tracking);
+    out.writeBoolean(entry.Solo);
+    out.writeBoolean(entry.Music_Vol);
+    out.writeUTF(entry.Block_1);
+    out.writeUTF(entry.Block_2);
+    out.writeUTF(entry.Block_3);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Sound");
+    columnIds[1] = column(in, "Index");
+    columnIds[2] = column(in, "FileName");
+    columnIds[3] = column(in, "Volume");
+    columnIds[4] = column(in, "Group_Size");
+    columnIds[5] = column(in, "Loop");
+    columnIds[6] = column(in, "Fade_In");
+    columnIds[7] = column(in, "Fade_Out");
+    columnIds[8] = column(in, "Defer_Inst");
+    columnIds[9] = column(in, "Stop_Inst");
+    columnIds[10] = column(in, "Duration");
+    columnIds[11] = column(in, "Compound");
+    columnIds[12] = column(in, "Reverb");
+    columnIds[13] = column(in, "Falloff");
+    columnIds[14] = column(in, "Cache");
+    columnIds[15] = column(in, "Async_Only");
+    columnIds[16] = column(in, "Priority");
+    columnIds[17] = column(in, "Stream");
+    columnIds[18] = column(in, "Stereo");
+    columnIds[19] = column(in, "Tracking");
+    columnIds[20] = column(in, "Solo");
+    columnIds[21] = column(in, "Music_Vol");
+    columnIds[22] = column(in, "Block_1");
+    columnIds[23] = column(in, "Block_2");
+    columnIds[24] = column(in, "Block_3");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Sounds.Entry entry) {
+    entry.Sound = in.getString(row, columnIds[0]);
+    entry.Index = in.getInt(row, columnIds[1]);
+    entry.FileName = in.getString(row, columnIds[2]);
+    entry.Volume = in.getInt(row, columnIds[3]);
+    entry.Group_Size = in.getInt(row, columnIds[4]);
+    entry.Loop = in.getBoolean(row, columnIds[5]);
+    entry.Fade_In = in.getInt(row, columnIds[6]);
+    entry.Fade_Out = in.getInt(row, columnIds[7]);
+    entry.Defer_Inst = in.getBoolean(row, columnIds[8]);
+    entry.Stop_Inst = in.getBoolean(row, columnIds[9]);
+    entry.Duration = in.getInt(row, columnIds[10]);
+    entry.Compound = in.getInt(row, columnIds[11]);
+    entry.Reverb = in.getInt(row, columnIds[12]);
+    entry.Falloff = in.getInt(row, columnIds[13]);
+    entry.Cache = in.getBoolean(row, columnIds[14]);
+    entry.Async_Only = in.getBoolean(row, columnIds[15]);
+    entry.Priority = in.getInt(row, columnIds[16]);
+    entry.Stream = in.getBoolean(row, columnIds[17]);
+    entry.Stereo = in.getBoolean(row, columnIds[18]);
+    entry.Tracking = in.getBoolean(row, columnIds[19]);
+    entry.Solo = in.getBoolean(row, columnIds[20]);
+    entry.Music_Vol = in.getBoolean(row, columnIds[21]);
+    entry.Block_1 = in.getString(row, columnIds[22]);
+    entry.Block_2 = in.getString(row, columnIds[23]);
+    entry.Block_3 = in.getString(row, columnIds[24]);
+  }
+
+  @Override
+  public boolean equal(Sounds.Entry e1, Sounds.Entry e2) {
+    return StringUtils.equals(e1.Sound, e2.Sound)
+        && e1.Index == e2.Index
+        && StringUtils.equals(e1.FileName, e2.FileName)
+        && e1.Volume == e2.Volume
+        && e1.Group_Size == e2.Group_Size
+        && e1.Loop == e2.Loop
+        && e1.Fade_In == e2.Fade_In
+        && e1.Fade_Out == e2.Fade_Out
+        && e1.Defer_Inst == e2.Defer_Inst
+        && e1.Stop_Inst == e2.Stop_Inst
+        && e1.Duration == e2.Duration
+        && e1.Compound == e2.Compound
+        && e1.Reverb == e2.Reverb
+        && e1.Falloff == e2.Falloff
+        && e1.Cache == e2.Cache
+        && e1.Async_Only == e2.Async_Only
+        && e1.Priority == e2.Priority
+        && e1.Stream == e2.Stream
+        && e1.Stereo == e2.Stereo
+        && e1.Tracking == e2.Tracking
+        && e1.Solo == e2.Solo
+        && e1.Music_Vol == e2.Music_Vol
+        && StringUtils.equals(e1.Block_1, e2.Block_1)
+        && StringUtils.equals(e1.Block_2, e2.Block_2)
+        && StringUtils.equals(e1.Block_3, e2.Block_3);
+  }
+}
@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Speech.Entry}, do not modify.
+ */
+public final class SpeechLoader extends Excel.Loader<Speech.Entry> {
+  private int sound;
+  private int soundstr;
+  private final int[] columnIds = new int[2];
+
+  public SpeechLoader() {
+    super("sound", "soundstr");
+  }
+
+  @Override
+  public Speech.Entry newEntry() {
+    return new Speech.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "sound";
+  }
+
+  @Override
+  public String stringKey(Speech.Entry entry) {
+    return entry.sound;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    sound = in.getColumnId("sound");
+    soundstr = in.getColumnId("soundstr");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Speech.Entry entry) {
+    entry.sound = in.getString(sound);
+    entry.soundstr = in.getString(soundstr);
+  }
+
+  @Override
+  public void readBin(DataInput in, Speech.Entry entry) throws IOException {
+    entry.sound = in.readUTF();
+    entry.soundstr = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Speech.Entry entry) throws IOException {
+    out.writeUTF(entry.sound);
+    out.writeUTF(entry.soundstr);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "sound");
+    columnIds[1] = column(in, "soundstr");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Speech.Entry entry) {
+    entry.sound = in.getString(row, columnIds[0]);
+    entry.soundstr = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(Speech.Entry e1, Speech.Entry e2) {
+    return StringUtils.equals(e1.sound, e2.sound)
+        && StringUtils.equals(e1.soundstr, e2.soundstr);
+  }
+}
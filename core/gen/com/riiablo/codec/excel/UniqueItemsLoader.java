@@ -0,0 +1,619 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link UniqueItems.Entry}, do not modify.
+ */
+public final class UniqueItemsLoader extends Excel.Loader<UniqueItems.Entry> {
+  private int index;
+  private int version;
+  private int enabled;
+  private int ladder;
+  private int rarity;
+  private int nolimit;
+  private int lvl;
+  private int lvl_req;
+  private int code;
+  private int type;
+  private int uber;
+  private int carry1;
+  private int cost_mult;
+  private int cost_add;
+  private int chrtransform;
+  private int invtransform;
+  private int flippyfile;
+  private int invfile;
+  private int dropsound;
+  private int dropsfxframe;
+  private int usesound;
+  private int prop1;
+  private int par1;
+  private int min1;
+  private int max1;
+  private int prop2;
+  private int par2;
+  private int min2;
+  private int max2;
+  private int prop3;
+  private int par3;
+  private int min3;
+  private int max3;
+  private int prop4;
+  private int par4;
+  private int min4;
+  private int max4;
+  private int prop5;
+  private int par5;
+  private int min5;
+  private int max5;
+  private int prop6;
+  private int par6;
+  private int min6;
+  private int max6;
+  private int prop7;
+  private int par7;
+  private int min7;
+  private int max7;
+  private int prop8;
+  private int par8;
+  private int min8;
+  private int max8;
+  private int prop9;
+  private int par9;
+  private int min9;
+  private int max9;
+  private int prop10;
+  private int par10;
+  private int min10;
+  private int max10;
+  private int prop11;
+  private int par11;
+  private int min11;
+  private int max11;
+  private int prop12;
+  private int par12;
+  private int min12;
+  private int max12;
+  private final int[] columnIds = new int[69];
+
+  public UniqueItemsLoader() {
+    super("index", "version", "enabled", "ladder", "rarity", "nolimit", "lvl", "lvl_req", "code", "type", "uber", "carry1", "cost_mult", "cost_add", "chrtransform", "invtransform", "flippyfile", "invfile", "dropsound", "dropsfxframe", "usesound", "prop1", "par1", "min1", "max1", "prop2", "par2", "min2", "max2", "prop3", "par3", "min3", "max3", "prop4", "par4", "min4", "max4", "prop5", "par5", "min5", "max5", "prop6", "par6", "min6", "max6", "prop7", "par7", "min7", "max7", "prop8", "par8", "min8", "max8", "prop9", "par9", "min9", "max9", "prop10", "par10", "min10", "max10", "prop11", "par11", "min11", "max11", "prop12", "par12", "min12", "max12");
+  }
+
+  @Override
+  public UniqueItems.Entry newEntry() {
+    return new UniqueItems.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "index";
+  }
+
+  @Override
+  public String stringKey(UniqueItems.Entry entry) {
+    return entry.index;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    index = in.getColumnId("index");
+    version = in.getColumnId("version");
+    enabled = in.getColumnId("enabled");
+    ladder = in.getColumnId("ladder");
+    rarity = in.getColumnId("rarity");
+    nolimit = in.getColumnId("nolimit");
+    lvl = in.getColumnId("lvl");
+    lvl_req = in.getColumnId("lvl req");
+    code = in.getColumnId("code");
+    type = in.getColumnId("*type");
+    uber = in.getColumnId("*uber");
+    carry1 = in.getColumnId("carry1");
+    cost_mult = in.getColumnId("cost mult");
+    cost_add = in.getColumnId("cost add");
+    chrtransform = in.getColumnId("chrtransform");
+    invtransform = in.getColumnId("invtransform");
+    flippyfile = in.getColumnId("flippyfile");
+    invfile = in.getColumnId("invfile");
+    dropsound = in.getColumnId("dropsound");
+    dropsfxframe = in.getColumnId("dropsfxframe");
+    usesound = in.getColumnId("usesound");
+    prop1 = in.getColumnId("prop1");
+    par1 = in.getColumnId("par1");
+    min1 = in.getColumnId("min1");
+    max1 = in.getColumnId("max1");
+    prop2 = in.getColumnId("prop2");
+    par2 = in.getColumnId("par2");
+    min2 = in.getColumnId("min2");
+    max2 = in.getColumnId("max2");
+    prop3 = in.getColumnId("prop3");
+    par3 = in.getColumnId("par3");
+    min3 = in.getColumnId("min3");
+    max3 = in.getColumnId("max3");
+    prop4 = in.getColumnId("prop4");
+    par4 = in.getColumnId("par4");
+    min4 = in.getColumnId("min4");
+    max4 = in.getColumnId("max4");
+    prop5 = in.getColumnId("prop5");
+    par5 = in.getColumnId("par5");
+    min5 = in.getColumnId("min5");
+    max5 = in.getColumnId("max5");
+    prop6 = in.getColumnId("prop6");
+    par6 = in.getColumnId("par6");
+    min6 = in.getColumnId("min6");
+    max6 = in.getColumnId("max6");
+    prop7 = in.getColumnId("prop7");
+    par7 = in.getColumnId("par7");
+    min7 = in.getColumnId("min7");
+    max7 = in.getColumnId("max7");
+    prop8 = in.getColumnId("prop8");
+    par8 = in.getColumnId("par8");
+    min8 = in.getColumnId("min8");
+    max8 = in.getColumnId("max8");
+    prop9 = in.getColumnId("prop9");
+    par9 = in.getColumnId("par9");
+    min9 = in.getColumnId("min9");
+    max9 = in.getColumnId("max9");
+    prop10 = in.getColumnId("prop10");
+    par10 = in.getColumnId("par10");
+    min10 = in.getColumnId("min10");
+    max10 = in.getColumnId("max10");
+    prop11 = in.getColumnId("prop11");
+    par11 = in.getColumnId("par11");
+    min11 = in.getColumnId("min11");
+    max11 = in.getColumnId("max11");
+    prop12 = in.getColumnId("prop12");
+    par12 = in.getColumnId("par12");
+    min12 = in.getColumnId("min12");
+    max12 = in.getColumnId("max12");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, UniqueItems.Entry entry) {
+    entry.index = in.getString(index);
+    entry.version = in.getInt(version);
+    entry.enabled = in.getBoolean(enabled);
+    entry.ladder = in.getBoolean(ladder);
+    entry.rarity = in.getInt(rarity);
+    entry.nolimit = in.getInt(nolimit);
+    entry.lvl = in.getInt(lvl);
+    entry.lvl_req = in.getInt(lvl_req);
+    entry.code = in.getString(code);
+    entry.type = in.getString(type);
+    entry.uber = in.getBoolean(uber);
+    entry.carry1 = in.getBoolean(carry1);
+    entry.cost_mult = in.getInt(cost_mult);
+    entry.cost_add = in.getInt(cost_add);
+    entry.chrtransform = in.getString(chrtransform);
+    entry.invtransform = in.getString(invtransform);
+    entry.flippyfile = in.getString(flippyfile);
+    entry.invfile = in.getString(invfile);
+    entry.dropsound = in.getString(dropsound);
+    entry.dropsfxframe = in.getInt(dropsfxframe);
+    entry.usesound = in.getString(usesound);
+    entry.prop1 = in.getString(prop1);
+    entry.par1 = in.getInt(par1);
+    entry.min1 = in.getInt(min1);
+    entry.max1 = in.getInt(max1);
+    entry.prop2 = in.getString(prop2);
+    entry.par2 = in.getInt(par2);
+    entry.min2 = in.getInt(min2);
+    entry.max2 = in.getInt(max2);
+    entry.prop3 = in.getString(prop3);
+    entry.par3 = in.getInt(par3);
+    entry.min3 = in.getInt(min3);
+    entry.max3 = in.getInt(max3);
+    entry.prop4 = in.getString(prop4);
+    entry.par4 = in.getInt(par4);
+    entry.min4 = in.getInt(min4);
+    entry.max4 = in.getInt(max4);
+    entry.prop5 = in.getString(prop5);
+    entry.par5 = in.getInt(par5);
+    entry.min5 = in.getInt(min5);
+    entry.max5 = in.getInt(max5);
+    entry.prop6 = in.getString(prop6);
+    entry.par6 = in.getInt(par6);
+    entry.min6 = in.getInt(min6);
+    entry.max6 = in.getInt(max6);
+    entry.prop7 = in.getString(prop7);
+    entry.par7 = in.getInt(par7);
+    entry.min7 = in.getInt(min7);
+    entry.max7 = in.getInt(max7);
+    entry.prop8 = in.getString(prop8);
+    entry.par8 = in.getInt(par8);
+    entry.min8 = in.getInt(min8);
+    entry.max8 = in.getInt(max8);
+    entry.prop9 = in.getString(prop9);
+    entry.par9 = in.getInt(par9);
+    entry.min9 = in.getInt(min9);
+    entry.max9 = in.getInt(max9);
+    entry.prop10 = in.getString(prop10);
+    entry.par10 = in.getInt(par10);
+    entry.min10 = in.getInt(min10);
+    entry.max10 = in.getInt(max10);
+    entry.prop11 = in.getString(prop11);
+    entry.par11 = in.getInt(par11);
+    entry.min11 = in.getInt(min11);
+    entry.max11 = in.getInt(max11);
+    entry.prop12 = in.getString(prop12);
+    entry.par12 = in.getInt(par12);
+    entry.min12 = in.getInt(min12);
+    entry.max12 = in.getInt(max12);
+  }
+
+  @Override
+  public void readBin(DataInput in, UniqueItems.Entry entry) throws IOException {
+    entry.index = in.readUTF();
+    entry.version = in.readInt();
+    entry.enabled = in.readBoolean();
+    entry.ladder = in.readBoolean();
+    entry.rarity = in.readInt();
+    entry.nolimit = in.readInt();
+    entry.lvl = in.readInt();
+    entry.lvl_req = in.readInt();
+    entry.code = in.readUTF();
+    entry.type = in.readUTF();
+    entry.uber = in.readBoolean();
+    entry.carry1 = in.readBoolean();
+    entry.cost_mult = in.readInt();
+    entry.cost_add = in.readInt();
+    entry.chrtransform = in.readUTF();
+    entry.invtransform = in.readUTF();
+    entry.flippyfile = in.readUTF();
+    entry.invfile = in.readUTF();
+    entry.dropsound = in.readUTF();
+    entry.dropsfxframe = in.readInt();
+    entry.usesound = in.readUTF();
+    entry.prop1 = in.readUTF();
+    entry.par1 = in.readInt();
+    entry.min1 = in.readInt();
+    entry.max1 = in.readInt();
+    entry.prop2 = in.readUTF();
+    entry.par2 = in.readInt();
+    entry.min2 = in.readInt();
+    entry.max2 = in.readInt();
+    entry.prop3 = in.readUTF();
+    entry.par3 = in.readInt();
+    entry.min3 = in.readInt();
+    entry.max3 = in.readInt();
+    entry.prop4 = in.readUTF();
+    entry.par4 = in.readInt();
+    entry.min4 = in.readInt();
+    entry.max4 = in.readInt();
+    entry.prop5 = in.readUTF();
+    entry.par5 = in.readInt();
+    entry.min5 = in.readInt();
+    entry.max5 = in.readInt();
+    entry.prop6 = in.readUTF();
+    entry.par6 = in.readInt();
+    entry.min6 = in.readInt();
+    entry.max6 = in.readInt();
+    entry.prop7 = in.readUTF();
+    entry.par7 = in.readInt();
+    entry.min7 = in.readInt();
+    entry.max7 = in.readInt();
+    entry.prop8 = in.readUTF();
+    entry.par8 = in.readInt();
+    entry.min8 = in.readInt();
+    entry.max8 = in.readInt();
+    entry.prop9 = in.readUTF();
+    entry.par9 = in.readInt();
+    entry.min9 = in.readInt();
+    entry.max9 = in.readInt();
+    entry.prop10 = in.readUTF();
+    entry.par10 = in.readInt();
+    entry.min10 = in.readInt();
+    entry.max10 = in.readInt();
+    entry.prop11 = in.readUTF();
+    entry.par11 = in.readInt();
+    entry.min11 = in.readInt();
+    entry.max11 = in.readInt();
+    entry.prop12 = in.readUTF();
+    entry.par12 = in.readInt();
+    entry.min12 = in.readInt();
+    entry.max12 = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, UniqueItems.Entry entry) throws IOException {
+    out.writeUTF(entry.index);
+    out.writeInt(entry.version);
+    out.writeBoolean(entry.enabled);
+    out.writeBoolean(entry.ladder);
+    out.writeInt(entry.rarity);
+    out.writeInt(entry.nolimit);
+    out.writeInt(entry.lvl);
+    out.writeInt(entry.lvl_req);
+    out.writeUTF(entry.code);
+    out.writeUTF(entry.type);
+    out.writeBoolean(entry.uber);
+    out.writeBoolean(entry.carry1);
+    out.writeInt(entry.cost_mult);
+    out.writeInt(entry.cost_add);
+    out.writeUTF(entry.chrtransform);
+    out.writeUTF(entry.invtransform);
+    out.writeUTF(entry.flippyfile);
+    out.writeUTF(entry.invfile);
+    out.writeUTF(entry.dropsound);
+    out.writeInt(entry.dropsfxframe);
+    out.writeUTF(entry.usesound);
+    out.writeUTF(entry.prop1);
+    out.writeInt(entry.par1);
+    out.writeInt(entry.min1);
+    out.writeInt(entry.max1);
+    out.writeUTF(entry.prop2);
+    out.writeInt(entry.par2);
+    out.writeInt(entry.min2);
+    out.writeInt(entry.max2);
+    out.writeUTF(entry.prop3);
+    out.writeInt(entry.par3);
+    out.writeInt(entry.min3);
+    out.writeInt(entry.max3);
+    out.writeUTF(entry.prop4);
+    out.writeInt(entry.par4);
+    out.writeInt(entry.min4);
+    out.writeInt(entry.max4);
+    out.writeUTF(entry.prop5);
+    out.writeInt(entry.par5);
+    out.writeInt(entry.min5);
+    out.writeInt(entry.max5);
+    out.writeUTF(entry.prop6);
+    out.writeInt(entry.par6);
+    out.writeInt(entry.min6);
+    out.writeInt(entry.max6);
+    out.writeUTF(entry.prop7);
+    out.writeInt(entry.par7);
+    out.writeInt(entry.min7);
+    out.writeInt(entry.max7);
+    out.writeUTF(entry.prop8);
+    out.writeInt(entry.par8);
+    out.writeInt(entry.min8);
+    out.writeInt(entry.max8);
+    out.writeUTF(entry.prop9);
+    out.writeInt(entry.par9);
+    out.writeInt(entry.min9);
+    out.writeInt(entry.max9);
+    out.writeUTF(entry.prop10);
+    out.writeInt(entry.par10);
+    out.writeInt(entry.min10);
+    out.writeInt(entry.max10);
+    out.writeUTF(entry.prop11);
+    out.writeInt(entry.par11);
+    out.writeInt(entry.min11);
+    out.writeInt(entry.max11);
+    out.writeUTF(entry.prop12);
+    out.writeInt(entry.par12);
+    out.writeInt(entry.min12);
+    out.writeInt(entry.max12);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "index");
+    columnIds[1] = column(in, "version");
+    columnIds[2] = column(in, "enabled");
+    columnIds[3] = column(in, "ladder");
+    columnIds[4] = column(in, "rarity");
+    columnIds[5] = column(in, "nolimit");
+    columnIds[6] = column(in, "lvl");
+    columnIds[7] = column(in, "lvl_req");
+    columnIds[8] = column(in, "code");
+    columnIds[9] = column(in, "type");
+    columnIds[10] = column(in, "uber");
+    columnIds[11] = column(in, "carry1");
+    columnIds[12] = column(in, "cost_mult");
+    columnIds[13] = column(in, "cost_add");
+    columnIds[14] = column(in, "chrtransform");
+    columnIds[15] = column(in, "invtransform");
+    columnIds[16] = column(in, "flippyfile");
+    columnIds[17] = column(in, "invfile");
+    columnIds[18] = column(in, "dropsound");
+    columnIds[19] = column(in, "dropsfxframe");
+    columnIds[20] = column(in, "usesound");
+    columnIds[21] = column(in, "prop1");
+    columnIds[22] = column(in, "par1");
+    columnIds[23] = column(in, "min1");
+    columnIds[24] = column(in, "max1");
+    columnIds[25] = column(in, "prop2");
+    columnIds[26] = column(in, "par2");
+    columnIds[27] = column(in, "min2");
+    columnIds[28] = column(in, "max2");
+    columnIds[29] = column(in, "prop3");
+    columnIds[30] = column(in, "par3");
+    columnIds[31] = column(in, "min3");
+    columnIds[32] = column(in, "max3");
+    columnIds[33] = column(in, "prop4");
+    columnIds[34] = column(in, "par4");
+    columnIds[35] = column(in, "min4");
+    columnIds[36] = column(in, "max4");
+    columnIds[37] = column(in, "prop5");
+    columnIds[38] = column(in, "par5");
+    columnIds[39] = column(in, "min5");
+    columnIds[40] = column(in, "max5");
+    columnIds[41] = column(in, "prop6");
+    columnIds[42] = column(in, "par6");
+    columnIds[43] = column(in, "min6");
+    columnIds[44] = column(in, "max6");
+    columnIds[45] = column(in, "prop7");
+    columnIds[46] = column(in, "par7");
+    columnIds[47] = column(in, "min7");
+    columnIds[48] = column(in, "max7");
+    columnIds[49] = column(in, "prop8");
+    columnIds[50] = column(in, "par8");
+    columnIds[51] = column(in, "min8");
+    columnIds[52] = column(in, "max8");
+    columnIds[53] = column(in, "prop9");
+    columnIds[54] = column(in, "par9");
+    columnIds[55] = column(in, "min9");
+    columnIds[56] = column(in, "max9");
+    columnIds[57] = column(in, "prop10");
+    columnIds[58] = column(in, "par10");
+    columnIds[59] = column(in, "min10");
+    columnIds[60] = column(in, "max10");
+    columnIds[61] = column(in, "prop11");
+    columnIds[62] = column(in, "par11");
+    columnIds[63] = column(in, "min11");
+    columnIds[64] = column(in, "max11");
+    columnIds[65] = column(in, "prop12");
+    columnIds[66] = column(in, "par12");
+    columnIds[67] = column(in, "min12");
+    columnIds[68] = column(in, "max12");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, UniqueItems.Entry entry) {
+    entry.index = in.getString(row, columnIds[0]);
+    entry.version = in.getInt(row, columnIds[1]);
+    entry.enabled = in.getBoolean(row, columnIds[2]);
+    entry.ladder = in.getBoolean(row, columnIds[3]);
+    entry.rarity = in.getInt(row, columnIds[4]);
+    entry.nolimit = in.getInt(row, columnIds[5]);
+    entry.lvl = in.getInt(row, columnIds[6]);
+    entry.lvl_req = in.getInt(row, columnIds[7]);
+    entry.code = in.getString(row, columnIds[8]);
+    entry.type = in.getString(row, columnIds[9]);
+    entry.uber = in.getBoolean(row, columnIds[10]);
+    entry.carry1 = in.getBoolean(row, columnIds[11]);
+    entry.cost_mult = in.getInt(row, columnIds[12]);
+    entry.cost_add = in.getInt(row, columnIds[13]);
+    entry.chrtransform = in.getString(row, columnIds[14]);
+    entry.invtransform = in.getString(row, columnIds[15]);
+    entry.flippyfile = in.getString(row, columnIds[16]);
+    entry.invfile = in.getString(row, columnIds[17]);
+    entry.dropsound = in.getString(row, columnIds[18]);
+    entry.dropsfxframe = in.getInt(row, columnIds[19]);
+    entry.usesound = in.getString(row, columnIds[20]);
+    entry.prop1 = in.getString(row, columnIds[21]);
+    entry.par1 = in.getInt(row, columnIds[22]);
+    entry.min1 = in.getInt(row, columnIds[23]);
+    entry.max1 = in.getInt(row, columnIds[24]);
+    entry.prop2 = in.getString(row, columnIds[25]);
+    entry.par2 = in.getInt(row, columnIds[26]);
+    entry.min2 = in.getInt(row, columnIds[27]);
+    entry.max2 = in.getInt(row, columnIds[28]);
+    entry.prop3 = in.getString(row, columnIds[29]);
+    entry.par3 = in.getInt(row, columnIds[30]);
+    entry.min3 = in.getInt(row, columnIds[31]);
+    entry.max3 = in.getInt(row, columnIds[32]);
+    entry.prop4 = in.getString(row, columnIds[33]);
+    entry.par4 = in.getInt(row, columnIds[34]);
+    entry.min4 = in.getInt(row, columnIds[35]);
+    entry.max4 = in.getInt(row, columnIds[36]);
+    entry.prop5 = in.getString(row, columnIds[37]);
+    entry.par5 = in.getInt(row, columnIds[38]);
+    entry.min5 = in.getInt(row, columnIds[39]);
+    entry.max5 = in.getInt(row, columnIds[40]);
+    entry.prop6 = in.getString(row, columnIds[41]);
+    entry.par6 = in.getInt(row, columnIds[42]);
+    entry.min6 = in.getInt(row, columnIds[43]);
+    entry.max6 = in.getInt(row, columnIds[44]);
+    entry.prop7 = in.getString(row, columnIds[45]);
+    entry.par7 = in.getInt(row, columnIds[46]);
+    entry.min7 = in.getInt(row, columnIds[47]);
+    entry.max7 = in.getInt(row, columnIds[48]);
+    entry.prop8 = in.getString(row, columnIds[49]);
+    entry.par8 = in.getInt(row, columnIds[50]);
+    entry.min8 = in.getInt(row, columnIds[51]);
+    entry.max8 = in.getInt(row, columnIds[52]);
+    entry.prop9 = in.getString(row, columnIds[53]);
+    entry.par9 = in.getInt(row, columnIds[54]);
+    entry.min9 = in.getInt(row, columnIds[55]);
+    entry.max9 = in.getInt(row, columnIds[56]);
+    entry.prop10 = in.getString(row, columnIds[57]);
+    entry.par10 = in.getInt(row, columnIds[58]);
+    entry.min10 = in.getInt(row, columnIds[59]);
+    entry.max10 = in.getInt(row, columnIds[60]);
+    entry.prop11 = in.getString(row, columnIds[61]);
+    entry.par11 = in.getInt(row, columnIds[62]);
+    entry.min11 = in.getInt(row, columnIds[63]);
+    entry.max11 = in.getInt(row, columnIds[64]);
+    entry.prop12 = in.getString(row, columnIds[65]);
+    entry.par12 = in.getInt(row, columnIds[66]);
+    entry.min12 = in.getInt(row, columnIds[67]);
+    entry.max12 = in.getInt(row, columnIds[68]);
+  }
+
+  @Override
+  public boolean equal(UniqueItems.Entry e1, UniqueItems.Entry e2) {
+    return StringUtils.equals(e1.index, e2.index)
+        && e1.version == e2.version
+        && e1.enabled == e2.enabled
+        && e1.ladder == e2.ladder
+        && e1.rarity == e2.rarity
+        && e1.nolimit == e2.nolimit
+        && e1.lvl == e2.lvl
+        && e1.lvl_req == e2.lvl_req
+        && StringUtils.equals(e1.code, e2.code)
+        && StringUtils.equals(e1.type, e2.type)
+        && e1.uber == e2.uber
+        && e1.carry1 == e2.carry1
+        && e1.cost_mult == e2.cost_mult
+        && e1.cost_add == e2.cost_add
+        && StringUtils.equals(e1.chrtransform, e2.chrtransform)
+        && StringUtils.equals(e1.invtransform, e2.invtransform)
+        && StringUtils.equals(e1.flippyfile, e2.flippyfile)
+        && StringUtils.equals(e1.invfile, e2.invfile)
+        && StringUtils.equals(e1.dropsound, e2.dropsound)
+        && e1.dropsfxframe == e2.dropsfxframe
+        && StringUtils.equals(e1.usesound, e2.usesound)
+        && StringUtils.equals(e1.prop1, e2.prop1)
+        && e1.par1 == e2.par1
+        && e1.min1 == e2.min1
+        && e1.max1 == e2.max1
+        && StringUtils.equals(e1.prop2, e2.prop2)
+        && e1.par2 == e2.par2
+        && e1.min2 == e2.min2
+        && e1.max2 == e2.max2
+        && StringUtils.equals(e1.prop3, e2.prop3)
+        && e1.par3 == e2.par3
+        && e1.min3 == e2.min3
+        && e1.max3 == e2.max3
+        && StringUtils.equals(e1.prop4, e2.prop4)
+        && e1.par4 == e2.par4
+        && e1.min4 == e2.min4
+        && e1.max4 == e2.max4
+        && StringUtils.equals(e1.prop5, e2.prop5)
+        && e1.par5 == e2.par5
+        && e1.min5 == e2.min5
+        && e1.max5 == e2.max5
+        && StringUtils.equals(e1.prop6, e2.prop6)
+        && e1.par6 == e2.par6
+        && e1.min6 == e2.min6
+        && e1.max6 == e2.max6
+        && StringUtils.equals(e1.prop7, e2.prop7)
+        && e1.par7 == e2.par7
+        && e1.min7 == e2.min7
+        && e1.max7 == e2.max7
+        && StringUtils.equals(e1.prop8, e2.prop8)
+        && e1.par8 == e2.par8
+        && e1.min8 == e2.min8
+        && e1.max8 == e2.max8
+        && StringUtils.equals(e1.prop9, e2.prop9)
+        && e1.par9 == e2.par9
+        && e1.min9 == e2.min9
+        && e1.max9 == e2.max9
+        && StringUtils.equals(e1.prop10, e2.prop10)
+        && e1.par10 == e2.par10
+        && e1.min10 == e2.min10
+        && e1.max10 == e2.max10
+        && StringUtils.equals(e1.prop11, e2.prop11)
+        && e1.par11 == e2.par11
+        && e1.min11 == e2.min11
+        && e1.max11 == e2.max11
+        && StringUtils.equals(e1.prop12, e2.prop12)
+        && e1.par12 == e2.par12
+        && e1.min12 == e2.min12
+        && e1.max12 == e2.max12;
+  }
+}
@@ -0,0 +1,75 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link UniquePrefix.Entry}, do not modify.
+ */
+public final class UniquePrefixLoader extends Excel.Loader<UniquePrefix.Entry> {
+  private int Name;
+  private final int[] columnIds = new int[1];
+
+  public UniquePrefixLoader() {
+    super("Name");
+  }
+
+  @Override
+  public UniquePrefix.Entry newEntry() {
+    return new UniquePrefix.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Name";
+  }
+
+  @Override
+  public String stringKey(UniquePrefix.Entry entry) {
+    return entry.Name;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    Name = in.getColumnId("Name");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, UniquePrefix.Entry entry) {
+    entry.Name = in.getString(Name);
+  }
+
+  @Override
+  public void readBin(DataInput in, UniquePrefix.Entry entry) throws IOException {
+    entry.Name = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, UniquePrefix.Entry entry) throws IOException {
+    out.writeUTF(entry.Name);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "Name");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, UniquePrefix.Entry entry) {
+    entry.Name = in.getString(row, columnIds[0]);
+  }
+
+  @Override
+  public boolean equal(UniquePrefix.Entry e1, UniquePrefix.Entry e2) {
+    return StringUtils.equals(e1.Name, e2.Name);
+  }
+}
@@ -0,0 +1,83 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link WeaponClass.Entry}, do not modify.
+ */
+public final class WeaponClassLoader extends Excel.Loader<WeaponClass.Entry> {
+  private int WeaponClass;
+  private int Code;
+  private final int[] columnIds = new int[2];
+
+  public WeaponClassLoader() {
+    super("WeaponClass", "Code");
+  }
+
+  @Override
+  public WeaponClass.Entry newEntry() {
+    return new WeaponClass.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "Code";
+  }
+
+  @Override
+  public String stringKey(WeaponClass.Entry entry) {
+    return entry.Code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    WeaponClass = in.getColumnId("Weapon Class");
+    Code = in.getColumnId("Code");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, WeaponClass.Entry entry) {
+    entry.WeaponClass = in.getString(WeaponClass);
+    entry.Code = in.getString(Code);
+  }
+
+  @Override
+  public void readBin(DataInput in, WeaponClass.Entry entry) throws IOException {
+    entry.WeaponClass = in.readUTF();
+    entry.Code = in.readUTF();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, WeaponClass.Entry entry) throws IOException {
+    out.writeUTF(entry.WeaponClass);
+    out.writeUTF(entry.Code);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "WeaponClass");
+    columnIds[1] = column(in, "Code");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, WeaponClass.Entry entry) {
+    entry.WeaponClass = in.getString(row, columnIds[0]);
+    entry.Code = in.getString(row, columnIds[1]);
+  }
+
+  @Override
+  public boolean equal(WeaponClass.Entry e1, WeaponClass.Entry e2) {
+    return StringUtils.equals(e1.WeaponClass, e2.WeaponClass)
+        && StringUtils.equals(e1.Code, e2.Code);
+  }
+}
@@ -0,0 +1,403 @@
+package com.riiablo.codec.excel;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generated by {@code ExcelGenerationTool} from {@link Weapons.Entry}, do not modify.
+ */
+public final class WeaponsLoader extends Excel.Loader<Weapons.Entry> {
+  private int wclass;
+  private int _2handedwclass;
+  private int _1or2handed;
+  private int _2handed;
+  private int _2handmindam;
+  private int _2handmaxdam;
+  private int minmisdam;
+  private int maxmisdam;
+  private int reqstr;
+  private int reqdex;
+  private int durability;
+  private int code;
+  private int name;
+  private int namestr;
+  private int version;
+  private int alternateGfx;
+  private int type;
+  private int type2;
+  private int component;
+  private int flippyfile;
+  private int invfile;
+  private int uniqueinvfile;
+  private int setinvfile;
+  private int Transform;
+  private int InvTrans;
+  private int invwidth;
+  private int invheight;
+  private int dropsound;
+  private int dropsfxframe;
+  private int stackable;
+  private int minstack;
+  private int maxstack;
+  private int useable;
+  private int usesound;
+  private int quest;
+  private int nodurability;
+  private int level;
+  private int levelreq;
+  private int mindam;
+  private int maxdam;
+  private int speed;
+  private int gemapplytype;
+  private final int[] columnIds = new int[42];
+
+  public WeaponsLoader() {
+    super("wclass", "_2handedwclass", "_1or2handed", "_2handed", "_2handmindam", "_2handmaxdam", "minmisdam", "maxmisdam", "reqstr", "reqdex", "durability", "code", "name", "namestr", "version", "alternateGfx", "type", "type2", "component", "flippyfile", "invfile", "uniqueinvfile", "setinvfile", "Transform", "InvTrans", "invwidth", "invheight", "dropsound", "dropsfxframe", "stackable", "minstack", "maxstack", "useable", "usesound", "quest", "nodurability", "level", "levelreq", "mindam", "maxdam", "speed", "gemapplytype");
+  }
+
+  @Override
+  public Weapons.Entry newEntry() {
+    return new Weapons.Entry();
+  }
+
+  @Override
+  public int keyType() {
+    return STRING_KEY;
+  }
+
+  @Override
+  public String keyName() {
+    return "code";
+  }
+
+  @Override
+  public String stringKey(Weapons.Entry entry) {
+    return entry.code;
+  }
+
+  @Override
+  public void bind(TxtParser in) {
+    wclass = in.getColumnId("wclass");
+    _2handedwclass = in.getColumnId("2handedwclass");
+    _1or2handed = in.getColumnId("1or2handed");
+    _2handed = in.getColumnId("2handed");
+    _2handmindam = in.getColumnId("2handmindam");
+    _2handmaxdam = in.getColumnId("2handmaxdam");
+    minmisdam = in.getColumnId("minmisdam");
+    maxmisdam = in.getColumnId("maxmisdam");
+    reqstr = in.getColumnId("reqstr");
+    reqdex = in.getColumnId("reqdex");
+    durability = in.getColumnId("durability");
+    code = in.getColumnId("code");
+    name = in.getColumnId("name");
+    namestr = in.getColumnId("namestr");
+    version = in.getColumnId("version");
+    alternateGfx = in.getColumnId("alternateGfx");
+    type = in.getColumnId("type");
+    type2 = in.getColumnId("type2");
+    component = in.getColumnId("component");
+    flippyfile = in.getColumnId("flippyfile");
+    invfile = in.getColumnId("invfile");
+    uniqueinvfile = in.getColumnId("uniqueinvfile");
+    setinvfile = in.getColumnId("setinvfile");
+    Transform = in.getColumnId("Transform");
+    InvTrans = in.getColumnId("InvTrans");
+    invwidth = in.getColumnId("invwidth");
+    invheight = in.getColumnId("invheight");
+    dropsound = in.getColumnId("dropsound");
+    dropsfxframe = in.getColumnId("dropsfxframe");
+    stackable = in.getColumnId("stackable");
+    minstack = in.getColumnId("minstack");
+    maxstack = in.getColumnId("maxstack");
+    useable = in.getColumnId("useable");
+    usesound = in.getColumnId("usesound");
+    quest = in.getColumnId("quest");
+    nodurability = in.getColumnId("nodurability");
+    level = in.getColumnId("level");
+    levelreq = in.getColumnId("levelreq");
+    mindam = in.getColumnId("mindam");
+    maxdam = in.getColumnId("maxdam");
+    speed = in.getColumnId("speed");
+    gemapplytype = in.getColumnId("gemapplytype");
+  }
+
+  @Override
+  public void readTxt(TxtParser in, Weapons.Entry entry) {
+    entry.wclass = in.getString(wclass);
+    entry._2handedwclass = in.getString(_2handedwclass);
+    entry._1or2handed = in.getBoolean(_1or2handed);
+    entry._2handed = in.getBoolean(_2handed);
+    entry._2handmindam = in.getInt(_2handmindam);
+    entry._2handmaxdam = in.getInt(_2handmaxdam);
+    entry.minmisdam = in.getInt(minmisdam);
+    entry.maxmisdam = in.getInt(maxmisdam);
+    entry.reqstr = in.getInt(reqstr);
+    entry.reqdex = in.getInt(reqdex);
+    entry.durability = in.getInt(durability);
+    entry.code = in.getString(code);
+    entry.name = in.getString(name);
+    entry.namestr = in.getString(namestr);
+    entry.version = in.getInt(version);
+    entry.alternateGfx = in.getString(alternateGfx);
+    entry.type = in.getString(type);
+    entry.type2 = in.getString(type2);
+    entry.component = in.getInt(component);
+    entry.flippyfile = in.getString(flippyfile);
+    entry.invfile = in.getString(invfile);
+    entry.uniqueinvfile = in.getString(uniqueinvfile);
+    entry.setinvfile = in.getString(setinvfile);
+    entry.Transform = in.getInt(Transform);
+    entry.InvTrans = in.getInt(InvTrans);
+    entry.invwidth = in.getInt(invwidth);
+    entry.invheight = in.getInt(invheight);
+    entry.dropsound = in.getString(dropsound);
+    entry.dropsfxframe = in.getInt(dropsfxframe);
+    entry.stackable = in.getBoolean(stackable);
+    entry.minstack = in.getInt(minstack);
+    entry.maxstack = in.getInt(maxstack);
+    entry.useable = in.getBoolean(useable);
+    entry.usesound = in.getString(usesound);
+    entry.quest = in.getInt(quest);
+    entry.nodurability = in.getBoolean(nodurability);
+    entry.level = in.getInt(level);
+    entry.levelreq = in.getInt(levelreq);
+    entry.mindam = in.getInt(mindam);
+    entry.maxdam = in.getInt(maxdam);
+    entry.speed = in.getInt(speed);
+    entry.gemapplytype = in.getInt(gemapplytype);
+  }
+
+  @Override
+  public void readBin(DataInput in, Weapons.Entry entry) throws IOException {
+    entry.wclass = in.readUTF();
+    entry._2handedwclass = in.readUTF();
+    entry._1or2handed = in.readBoolean();
+    entry._2handed = in.readBoolean();
+    entry._2handmindam = in.readInt();
+    entry._2handmaxdam = in.readInt();
+    entry.minmisdam = in.readInt();
+    entry.maxmisdam = in.readInt();
+    entry.reqstr = in.readInt();
+    entry.reqdex = in.readInt();
+    entry.durability = in.readInt();
+    entry.code = in.readUTF();
+    entry.name = in.readUTF();
+    entry.namestr = in.readUTF();
+    entry.version = in.readInt();
+    entry.alternateGfx = in.readUTF();
+    entry.type = in.readUTF();
+    entry.type2 = in.readUTF();
+    entry.component = in.readInt();
+    entry.flippyfile = in.readUTF();
+    entry.invfile = in.readUTF();
+    entry.uniqueinvfile = in.readUTF();
+    entry.setinvfile = in.readUTF();
+    entry.Transform = in.readInt();
+    entry.InvTrans = in.readInt();
+    entry.invwidth = in.readInt();
+    entry.invheight = in.readInt();
+    entry.dropsound = in.readUTF();
+    entry.dropsfxframe = in.readInt();
+    entry.stackable = in.readBoolean();
+    entry.minstack = in.readInt();
+    entry.maxstack = in.readInt();
+    entry.useable = in.readBoolean();
+    entry.usesound = in.readUTF();
+    entry.quest = in.readInt();
+    entry.nodurability = in.readBoolean();
+    entry.level = in.readInt();
+    entry.levelreq = in.readInt();
+    entry.mindam = in.readInt();
+    entry.maxdam = in.readInt();
+    entry.speed = in.readInt();
+    entry.gemapplytype = in.readInt();
+  }
+
+  @Override
+  public void writeBin(DataOutput out, Weapons.Entry entry) throws IOException {
+    out.writeUTF(entry.wclass);
+    out.writeUTF(entry._2handedwclass);
+    out.writeBoolean(entry._1or2handed);
+    out.writeBoolean(entry._2handed);
+    out.writeInt(entry._2handmindam);
+    out.writeInt(entry._2handmaxdam);
+    out.writeInt(entry.minmisdam);
+    out.writeInt(entry.maxmisdam);
+    out.writeInt(entry.reqstr);
+    out.writeInt(entry.reqdex);
+    out.writeInt(entry.durability);
+    out.writeUTF(entry.code);
+    out.writeUTF(entry.name);
+    out.writeUTF(entry.namestr);
+    out.writeInt(entry.version);
+    out.writeUTF(entry.alternateGfx);
+    out.writeUTF(entry.type);
+    out.writeUTF(entry.type2);
+    out.writeInt(entry.component);
+    out.writeUTF(entry.flippyfile);
+    out.writeUTF(entry.invfile);
+    out.writeUTF(entry.uniqueinvfile);
+    out.writeUTF(entry.setinvfile);
+    out.writeInt(entry.Transform);
+    out.writeInt(entry.InvTrans);
+    out.writeInt(entry.invwidth);
+    out.writeInt(entry.invheight);
+    out.writeUTF(entry.dropsound);
+    out.writeInt(entry.dropsfxframe);
+    out.writeBoolean(entry.stackable);
+    out.writeInt(entry.minstack);
+    out.writeInt(entry.maxstack);
+    out.writeBoolean(entry.useable);
+    out.writeUTF(entry.usesound);
+    out.writeInt(entry.quest);
+    out.writeBoolean(entry.nodurability);
+    out.writeInt(entry.level);
+    out.writeInt(entry.levelreq);
+    out.writeInt(entry.mindam);
+    out.writeInt(entry.maxdam);
+    out.writeInt(entry.speed);
+    out.writeInt(entry.gemapplytype);
+  }
+
+  @Override
+  public void bind(ColumnTable in) {
+    columnIds[0] = column(in, "wclass");
+    columnIds[1] = column(in, "_2handedwclass");
+    columnIds[2] = column(in, "_1or2handed");
+    columnIds[3] = column(in, "_2handed");
+    columnIds[4] = column(in, "_2handmindam");
+    columnIds[5] = column(in, "_2handmaxdam");
+    columnIds[6] = column(in, "minmisdam");
+    columnIds[7] = column(in, "maxmisdam");
+    columnIds[8] = column(in, "reqstr");
+    columnIds[9] = column(in, "reqdex");
+    columnIds[10] = column(in, "durability");
+    columnIds[11] = column(in, "code");
+    columnIds[12] = column(in, "name");
+    columnIds[13] = column(in, "namestr");
+    columnIds[14] = column(in, "version");
+    columnIds[15] = column(in, "alternateGfx");
+    columnIds[16] = column(in, "type");
+    columnIds[17] = column(in, "type2");
+    columnIds[18] = column(in, "component");
+    columnIds[19] = column(in, "flippyfile");
+    columnIds[20] = column(in, "invfile");
+    columnIds[21] = column(in, "uniqueinvfile");
+    columnIds[22] = column(in, "setinvfile");
+    columnIds[23] = column(in, "Transform");
+    columnIds[24] = column(in, "InvTrans");
+    columnIds[25] = column(in, "invwidth");
+    columnIds[26] = column(in, "invheight");
+    columnIds[27] = column(in, "dropsound");
+    columnIds[28] = column(in, "dropsfxframe");
+    columnIds[29] = column(in, "stackable");
+    columnIds[30] = column(in, "minstack");
+    columnIds[31] = column(in, "maxstack");
+    columnIds[32] = column(in, "useable");
+    columnIds[33] = column(in, "usesound");
+    columnIds[34] = column(in, "quest");
+    columnIds[35] = column(in, "nodurability");
+    columnIds[36] = column(in, "level");
+    columnIds[37] = column(in, "levelreq");
+    columnIds[38] = column(in, "mindam");
+    columnIds[39] = column(in, "maxdam");
+    columnIds[40] = column(in, "speed");
+    columnIds[41] = column(in, "gemapplytype");
+  }
+
+  @Override
+  public void readColumns(ColumnTable in, int row, Weapons.Entry entry) {
+    entry.wclass = in.getString(row, columnIds[0]);
+    entry._2handedwclass = in.getString(row, columnIds[1]);
+    entry._1or2handed = in.getBoolean(row, columnIds[2]);
+    entry._2handed = in.getBoolean(row, columnIds[3]);
+    entry._2handmindam = in.getInt(row, columnIds[4]);
+    entry._2handmaxdam = in.getInt(row, columnIds[5]);
+    entry.minmisdam = in.getInt(row, columnIds[6]);
+    entry.maxmisdam = in.getInt(row, columnIds[7]);
+    entry.reqstr = in.getInt(row, columnIds[8]);
+    entry.reqdex = in.getInt(row, columnIds[9]);
+    entry.durability = in.getInt(row, columnIds[10]);
+    entry.code = in.getString(row, columnIds[11]);
+    entry.name = in.getString(row, columnIds[12]);
+    entry.namestr = in.getString(row, columnIds[13]);
+    entry.version = in.getInt(row, columnIds[14]);
+    entry.alternateGfx = in.getString(row, columnIds[15]);
+    entry.type = in.getString(row, columnIds[16]);
+    entry.type2 = in.getString(row, columnIds[17]);
+    entry.component = in.getInt(row, columnIds[18]);
+    entry.flippyfile = in.getString(row, columnIds[19]);
+    entry.invfile = in.getString(row, columnIds[20]);
+    entry.uniqueinvfile = in.getString(row, columnIds[21]);
+    entry.setinvfile = in.getString(row, columnIds[22]);
+    entry.Transform = in.getInt(row, columnIds[23]);
+    entry.InvTrans = in.getInt(row, columnIds[24]);
+    entry.invwidth = in.getInt(row, columnIds[25]);
+    entry.invheight = in.getInt(row, columnIds[26]);
+    entry.dropsound = in.getString(row, columnIds[27]);
+    entry.dropsfxframe = in.getInt(row, columnIds[28]);
+    entry.stackable = in.getBoolean(row, columnIds[29]);
+    entry.minstack = in.getInt(row, columnIds[30]);
+    entry.maxstack = in.getInt(row, columnIds[31]);
+    entry.useable = in.getBoolean(row, columnIds[32]);
+    entry.usesound = in.getString(row, columnIds[33]);
+    entry.quest = in.getInt(row, columnIds[34]);
+    entry.nodurability = in.getBoolean(row, columnIds[35]);
+    entry.level = in.getInt(row, columnIds[36]);
+    entry.levelreq = in.getInt(row, columnIds[37]);
+    entry.mindam = in.getInt(row, columnIds[38]);
+    entry.maxdam = in.getInt(row, columnIds[39]);
+    entry.speed = in.getInt(row, columnIds[40]);
+    entry.gemapplytype = in.getInt(row, columnIds[41]);
+  }
+
+  @Override
+  public boolean equal(Weapons.Entry e1, Weapons.Entry e2) {
+    return StringUtils.equals(e1.wclass, e2.wclass)
+        && StringUtils.equals(e1._2handedwclass, e2._2handedwclass)
+        && e1._1or2handed == e2._1or2handed
+        && e1._2handed == e2._2handed
+        && e1._2handmindam == e2._2handmindam
+        && e1._2handmaxdam == e2._2handmaxdam
+        && e1.minmisdam == e2.minmisdam
+        && e1.maxmisdam == e2.maxmisdam
+        && e1.reqstr == e2.reqstr
+        && e1.reqdex == e2.reqdex
+        && e1.durability == e2.durability
+        && StringUtils.equals(e1.code, e2.code)
+        && StringUtils.equals(e1.name, e2.name)
+        && StringUtils.equals(e1.namestr, e2.namestr)
+        && e1.version == e2.version
+        && StringUtils.equals(e1.alternateGfx, e2.alternateGfx)
+        && StringUtils.equals(e1.type, e2.type)
+        && StringUtils.equals(e1.type2, e2.type2)
+        && e1.component == e2.component
+        && StringUtils.equals(e1.flippyfile, e2.flippyfile)
+        && StringUtils.equals(e1.invfile, e2.invfile)
+        && StringUtils.equals(e1.uniqueinvfile, e2.uniqueinvfile)
+        && StringUtils.equals(e1.setinvfile, e2.setinvfile)
+        && e1.Transform == e2.Transform
+        && e1.InvTrans == e2.InvTrans
+        && e1.invwidth == e2.invwidth
+        && e1.invheight == e2.invheight
+        && StringUtils.equals(e1.dropsound, e2.dropsound)
+        && e1.dropsfxframe == e2.dropsfxframe
+        && e1.stackable == e2.stackable
+        && e1.minstack == e2.minstack
+        && e1.maxstack == e2.maxstack
+        && e1.useable == e2.useable
+        && StringUtils.equals(e1.usesound, e2.usesound)
+        && e1.quest == e2.quest
+        && e1.nodurability == e2.nodurability
+        && e1.level == e2.level
+        && e1.levelreq == e2.levelreq
+        && e1.mindam == e2.mindam
+        && e1.maxdam == e2.maxdam
+        && e1.speed == e2.speed
+        && e1.gemapplytype == e2.gemapplytype;
+  }
+}
@@ -3,6 +3,8 @@ package com.riiablo;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
 import com.riiablo.codec.excel.ArmType;
 import com.riiablo.codec.excel.Armor;
@@ -53,6 +55,15 @@ import com.riiablo.codec.excel.UniqueItems;
 import com.riiablo.codec.excel.WeaponClass;
 import com.riiablo.codec.excel.Weapons;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class Files {
   private static final String TAG = "Files";
   private static final String EXCEL_PATH = "data\\global\\excel\\";
@@ -115,63 +126,199 @@ public class Files {
   // TODO: refactor the removal of this constructor throughout project
   public Files(AssetManager assets) {
     long start = System.currentTimeMillis();
-    obj    = loadInternal(Obj.class);
-    speech = loadInternal(Speech.class);
-    quests = loadInternal(Quests.class);
-
-    armor            = load(Armor.class, Excel.EXPANSION);
-    ArmType          = load(ArmType.class);
-    bodylocs         = load(BodyLocs.class);
-    CharStats        = load(CharStats.class, Excel.EXPANSION);
-    colors           = load(Colors.class);
-    Composit         = load(Composit.class);
-    compcode         = load(CompCode.class);
-    DifficultyLevels = load(DifficultyLevels.class);
-    Gems             = load(Gems.class, Excel.EXPANSION);
-    inventory        = load(Inventory.class);
-    ItemStatCost     = load(ItemStatCost.class);
-    ItemTypes        = load(ItemTypes.class);
-    Levels           = load(Levels.class, Excel.EXPANSION);
-    LowQualityItems  = load(LowQualityItems.class);
-    LvlPrest         = load(LvlPrest.class);
-    LvlTypes         = load(LvlTypes.class);
-    LvlWarp          = load(LvlWarp.class, Excel.EXPANSION);
-    misc             = load(Misc.class, Excel.EXPANSION);
-    Missiles         = load(Missiles.class);
-    MagicPrefix      = load(MagicPrefix.class, Excel.EXPANSION);
-    MagicSuffix      = load(MagicSuffix.class, Excel.EXPANSION);
-    MonAI            = load(MonAI.class);
-    MonMode          = load(MonMode.class);
-    monstats         = load(MonStats.class, Excel.EXPANSION);
-    monstats2        = load(MonStats2.class, Excel.EXPANSION);
-    MonPreset        = load(MonPreset.class, Excel.EXPANSION);
-    RarePrefix       = load(RarePrefix.class, Excel.EXPANSION);
-    RareSuffix       = load(RareSuffix.class, Excel.EXPANSION);
-    Runes            = load(Runes.class);
-    objects          = load(Objects.class);
-    ObjMode          = load(ObjMode.class);
-    Overlay          = load(Overlay.class, Excel.EXPANSION);
-    PlrMode          = load(PlrMode.class);
-    PlrType          = load(PlrType.class);
-    Properties       = load(Properties.class, Excel.EXPANSION);
-    QualityItems     = load(QualityItems.class);
-    Sets             = load(Sets.class, Excel.EXPANSION);
-    SetItems         = load(SetItems.class, Excel.EXPANSION);
-    skills           = load(Skills.class);
-    skilldesc        = load(SkillDesc.class);
-    Sounds           = load(Sounds.class);
-    UniqueItems      = load(UniqueItems.class, Excel.EXPANSION);
-    //UniquePrefix   = load(UniquePrefix.class);
-    //UniqueSuffix   = load(UniqueSuffix.class);
-    WeaponClass      = load(WeaponClass.class);
-    weapons          = load(Weapons.class, Excel.EXPANSION);
+    ExcelLoader loader = new ExcelLoader();
+    try {
+      loader.internal(Obj.class);
+      loader.internal(Speech.class);
+      loader.internal(Quests.class);
+
+      loader.load(Armor.class, Excel.EXPANSION);
+      loader.load(ArmType.class);
+      loader.load(BodyLocs.class);
+      loader.load(CharStats.class, Excel.EXPANSION);
+      loader.load(Colors.class);
+      loader.load(Composit.class);
+      loader.load(CompCode.class);
+      loader.load(DifficultyLevels.class);
+      loader.load(Gems.class, Excel.EXPANSION);
+      loader.load(Inventory.class);
+      loader.load(ItemStatCost.class);
+      loader.load(ItemTypes.class);
+      loader.load(Levels.class, Excel.EXPANSION);
+      loader.load(LowQualityItems.class);
+      loader.load(LvlPrest.class);
+      loader.load(LvlTypes.class);
+      loader.load(LvlWarp.class, Excel.EXPANSION);
+      loader.load(Misc.class, Excel.EXPANSION);
+      loader.load(Missiles.class);
+      loader.load(MagicPrefix.class, Excel.EXPANSION);
+      loader.load(MagicSuffix.class, Excel.EXPANSION);
+      loader.load(MonAI.class);
+      loader.load(MonMode.class);
+      loader.load(MonStats.class, Excel.EXPANSION);
+      loader.load(MonStats2.class, Excel.EXPANSION);
+      loader.load(MonPreset.class, Excel.EXPANSION);
+      loader.load(RarePrefix.class, Excel.EXPANSION);
+      loader.load(RareSuffix.class, Excel.EXPANSION);
+      loader.load(Runes.class);
+      loader.load(Objects.class);
+      loader.load(ObjMode.class);
+      loader.load(Overlay.class, Excel.EXPANSION);
+      loader.load(PlrMode.class);
+      loader.load(PlrType.class);
+      loader.load(Properties.class, Excel.EXPANSION);
+      loader.load(QualityItems.class);
+      loader.load(Sets.class, Excel.EXPANSION);
+      loader.load(SetItems.class, Excel.EXPANSION);
+      loader.load(Skills.class);
+      loader.load(SkillDesc.class);
+      loader.load(Sounds.class);
+      loader.load(UniqueItems.class, Excel.EXPANSION);
+      //loader.load(UniquePrefix.class);
+      //loader.load(UniqueSuffix.class);
+      loader.load(WeaponClass.class);
+      loader.load(Weapons.class, Excel.EXPANSION);
+
+      obj              = loader.get(Obj.class);
+      speech           = loader.get(Speech.class);
+      quests           = loader.get(Quests.class);
+
+      armor            = loader.get(Armor.class);
+      ArmType          = loader.get(ArmType.class);
+      bodylocs         = loader.get(BodyLocs.class);
+      CharStats        = loader.get(CharStats.class);
+      colors           = loader.get(Colors.class);
+      Composit         = loader.get(Composit.class);
+      compcode         = loader.get(CompCode.class);
+      DifficultyLevels = loader.get(DifficultyLevels.class);
+      Gems             = loader.get(Gems.class);
+      inventory        = loader.get(Inventory.class);
+      ItemStatCost     = loader.get(ItemStatCost.class);
+      ItemTypes        = loader.get(ItemTypes.class);
+      Levels           = loader.get(Levels.class);
+      LowQualityItems  = loader.get(LowQualityItems.class);
+      LvlPrest         = loader.get(LvlPrest.class);
+      LvlTypes         = loader.get(LvlTypes.class);
+      LvlWarp          = loader.get(LvlWarp.class);
+      misc             = loader.get(Misc.class);
+      Missiles         = loader.get(Missiles.class);
+      MagicPrefix      = loader.get(MagicPrefix.class);
+      MagicSuffix      = loader.get(MagicSuffix.class);
+      MonAI            = loader.get(MonAI.class);
+      MonMode          = loader.get(MonMode.class);
+      monstats         = loader.get(MonStats.class);
+      monstats2        = loader.get(MonStats2.class);
+      MonPreset        = loader.get(MonPreset.class);
+      RarePrefix       = loader.get(RarePrefix.class);
+      RareSuffix       = loader.get(RareSuffix.class);
+      Runes            = loader.get(Runes.class);
+      objects          = loader.get(Objects.class);
+      ObjMode          = loader.get(ObjMode.class);
+      Overlay          = loader.get(Overlay.class);
+      PlrMode          = loader.get(PlrMode.class);
+      PlrType          = loader.get(PlrType.class);
+      Properties       = loader.get(Properties.class);
+      QualityItems     = loader.get(QualityItems.class);
+      Sets             = loader.get(Sets.class);
+      SetItems         = loader.get(SetItems.class);
+      skills           = loader.get(Skills.class);
+      skilldesc        = loader.get(SkillDesc.class);
+      Sounds           = loader.get(Sounds.class);
+      UniqueItems      = loader.get(UniqueItems.class);
+      //UniquePrefix   = loader.get(UniquePrefix.class);
+      //UniqueSuffix   = loader.get(UniqueSuffix.class);
+      WeaponClass      = loader.get(WeaponClass.class);
+      weapons          = loader.get(Weapons.class);
+    } finally {
+      loader.shutdown();
+    }
 
     long end = System.currentTimeMillis();
-    Gdx.app.debug(TAG, "Loaded files in " + (end - start) + "ms");
+    Gdx.app.debug(TAG, "Loaded files in " + (end - start) + "ms (" + loader.time() + "ms across " + loader.threads + " threads)");
 
+    // cross-table indexing, all tables above must be loaded first
     Sets.index(SetItems);
   }
 
+  /**
+   * Loads excel tables concurrently on a worker pool. Tables are independent of one another while
+   * loading, so all of them are submitted up front and then joined with {@link #get(Class)}; any
+   * cross-table indexing must happen only after every table has been joined.
+   */
+  private final class ExcelLoader {
+    final int threads = Runtime.getRuntime().availableProcessors();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      final AtomicInteger id = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, TAG + "-" + id.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+
+    final ObjectMap<Class<?>, Future<? extends Excel<?>>> tables = new ObjectMap<>();
+    final AtomicLong time = new AtomicLong();
+
+    <T extends Excel<?>> void internal(final Class<T> clazz) {
+      submit(clazz, new Callable<T>() {
+        @Override
+        public T call() {
+          return loadInternal(clazz);
+        }
+      });
+    }
+
+    <T extends Excel<?>> void load(Class<T> clazz) {
+      load(clazz, Excel.<String>emptySet());
+    }
+
+    <T extends Excel<?>> void load(final Class<T> clazz, final ObjectSet<String> ignore) {
+      submit(clazz, new Callable<T>() {
+        @Override
+        public T call() {
+          return Files.this.load(clazz, ignore);
+        }
+      });
+    }
+
+    private <T extends Excel<?>> void submit(final Class<T> clazz, final Callable<T> task) {
+      tables.put(clazz, executor.submit(new Callable<T>() {
+        @Override
+        public T call() throws Exception {
+          long start = System.currentTimeMillis();
+          T excel = task.call();
+          long end = System.currentTimeMillis();
+          time.addAndGet(end - start);
+          Gdx.app.debug(TAG, "Loaded " + clazz.getSimpleName() + " in " + (end - start) + "ms");
+          return excel;
+        }
+      }));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Excel<?>> T get(Class<T> clazz) {
+      try {
+        return (T) tables.get(clazz).get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new GdxRuntimeException("Interrupted while loading " + clazz.getSimpleName(), e);
+      } catch (ExecutionException e) {
+        throw new GdxRuntimeException("Couldn't load " + clazz.getSimpleName(), e.getCause());
+      }
+    }
+
+    /** Total time spent loading tables, summed across all threads. */
+    long time() {
+      return time.get();
+    }
+
+    void shutdown() {
+      executor.shutdownNow();
+    }
+  }
+
   private <T extends Excel> T loadInternal(Class<T> clazz) {
     return loadInternal(clazz, clazz.getSimpleName().toLowerCase());
   }
@@ -33,7 +33,7 @@ public class QuillRat extends AI {
 
   protected ComponentMapper<Class> mClass;
 
-  private static EntitySubscription enemyEntities;
+  private EntitySubscription enemyEntities;
 
   final Vector2 tmpVec2 = new Vector2();
 
@@ -52,11 +52,9 @@ public class QuillRat extends AI {
     super.initialize();
     monsound = "spikefiend";
     missile = Riiablo.files.Missiles.get(monster.monstats.MissA2);
-    if (enemyEntities == null) {
-      enemyEntities = Riiablo.engine.getAspectSubscriptionManager().get(Aspect
-              .all(Class.class)
-              .one(Player.class));
-    }
+    enemyEntities = world.getAspectSubscriptionManager().get(Aspect
+            .all(Class.class)
+            .one(Player.class));
   }
 
   @Override
@@ -31,7 +31,7 @@ public class Zombie extends AI {
 
   protected ComponentMapper<Class> mClass;
 
-  private static EntitySubscription enemyEntities;
+  private EntitySubscription enemyEntities;
 
   final Vector2 tmpVec2 = new Vector2();
 
@@ -47,11 +47,9 @@ public class Zombie extends AI {
   @Override
   public void initialize() {
     super.initialize();
-    if (enemyEntities == null) {
-      enemyEntities = Riiablo.engine.getAspectSubscriptionManager().get(Aspect
-              .all(Class.class)
-              .one(Player.class));
-    }
+    enemyEntities = world.getAspectSubscriptionManager().get(Aspect
+            .all(Class.class)
+            .one(Player.class));
   }
 
   @Override
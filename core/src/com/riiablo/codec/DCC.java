@@ -38,13 +38,25 @@ public class DCC extends com.riiablo.codec.DC {
   Frame     frames[][];
   BBox      box;
 
+  /**
+   * Encoded direction data, retained until every direction has been decoded. Directions are parsed
+   * and decoded on first use so that callers which only need the direction an entity is facing do
+   * not pay for the rest. Parsed directions read their bit streams directly from this array.
+   */
+  byte      data[];
+  int       dirOffsets[];
+  boolean   preloaded[];
+  int       numPreloaded;
+
   Texture   textures[][];
 
-  private DCC(Header header, Direction[] directions, Frame[][] frames, BBox box) {
+  private DCC(Header header, int[] dirOffsets, byte[] data) {
     this.header     = header;
-    this.directions = directions;
-    this.frames     = frames;
-    this.box        = box;
+    this.dirOffsets = dirOffsets;
+    this.data       = data;
+    this.directions = new Direction[header.directions];
+    this.frames     = new Frame[header.directions][];
+    this.preloaded  = new boolean[header.directions];
     this.regions    = new TextureRegion[header.directions][];
   }
 
@@ -79,6 +91,7 @@ public class DCC extends com.riiablo.codec.DC {
 
   @Override
   public Pixmap getPixmap(int d, int f) {
+    preloadDirection(d);
     return frames[d][f].pixmap;
   }
 
@@ -89,18 +102,59 @@ public class DCC extends com.riiablo.codec.DC {
   }
 
   @Override
-  public boolean isPreloaded(int d) {
-    return true;
+  public synchronized boolean isPreloaded(int d) {
+    return preloaded[d];
   }
 
   @Override
   public void preloadDirections(boolean combineFrames) {
     assert !combineFrames;
+    final int numDirections = header.directions;
+    for (int d = 0; d < numDirections; d++) preloadDirection(d, combineFrames);
   }
 
   @Override
-  public void preloadDirection(int d, boolean combineFrames) {
+  public synchronized void preloadDirection(int d, boolean combineFrames) {
     assert !combineFrames;
+    if (preloaded[d]) return;
+    Direction dir = direction(d);
+    Frame[] frames = this.frames[d];
+
+    Cache cache = new Cache(header);
+    fillPixelBuffer(cache, dir, frames);
+    makeFrames(cache, dir, frames);
+    if (DEBUG_PB_SIZE) Gdx.app.debug(TAG, "pixelBuffer.size = " + cache.numEntries);
+
+    assert dir.equalCellBitStream.tell() == dir.equalCellBitStream.sizeInBits();
+    assert dir.pixelMaskBitStream.tell() == dir.pixelMaskBitStream.sizeInBits();
+    assert dir.encodingTypeBitStream.tell() == dir.encodingTypeBitStream.sizeInBits();
+    assert dir.rawPixelCodesBitStream.tell() == dir.rawPixelCodesBitStream.sizeInBits();
+    assert dir.pixelCodeAndDisplacementBitStream.tell() + 7 >= dir.pixelCodeAndDisplacementBitStream.sizeInBits();
+
+    dir.releaseBitStreams();
+    preloaded[d] = true;
+    if (++numPreloaded == header.directions) data = null;
+  }
+
+  /**
+   * Returns the specified direction, parsing its header and frame headers from the encoded data if
+   * this is the first time it has been requested. Pixel data is not decoded.
+   */
+  private synchronized Direction direction(int d) {
+    Direction dir = directions[d];
+    if (dir != null) return dir;
+    try {
+      final int start = dirOffsets[d];
+      final int end   = dirOffsets[d + 1];
+      final int base  = dirOffsets[0];
+      Frame[] frames = this.frames[d] = new Frame[header.framesPerDir];
+      dir = directions[d] = Direction.obtain(data, start - base, end - start, frames);
+      if (DEBUG_DIRECTIONS) Gdx.app.debug(TAG, dir.toString());
+      if (DEBUG_FRAMES) for (Frame frame : frames) Gdx.app.debug(TAG, frame.toString());
+      return dir;
+    } catch (Throwable t) {
+      throw new GdxRuntimeException("Couldn't load DCC direction " + d, t);
+    }
   }
 
   @Override
@@ -151,22 +205,39 @@ public class DCC extends com.riiablo.codec.DC {
 
   @Override
   public Direction getDirection(int d) {
-    return directions[d];
+    return direction(d);
   }
 
   @Override
   public Frame getFrame(int d, int f) {
+    direction(d);
     return frames[d][f];
   }
 
   @Override
-  public BBox getBox() {
-    return box;
+  public synchronized BBox getBox() {
+    if (box != null) return box;
+    BBox box = new BBox();
+    box.xMin = box.yMin = Integer.MAX_VALUE;
+    box.xMax = box.yMax = Integer.MIN_VALUE;
+
+    final int numDirections = header.directions;
+    for (int d = 0; d < numDirections; d++) {
+      Direction dir = direction(d);
+      if (dir.box.xMin < box.xMin) box.xMin = dir.box.xMin;
+      if (dir.box.yMin < box.yMin) box.yMin = dir.box.yMin;
+      if (dir.box.xMax > box.xMax) box.xMax = dir.box.xMax;
+      if (dir.box.yMax > box.yMax) box.yMax = dir.box.yMax;
+    }
+
+    box.width  = box.xMax - box.xMin + 1;
+    box.height = box.yMax - box.yMin + 1;
+    return this.box = box;
   }
 
   @Override
   public BBox getBox(int d) {
-    return directions[d].box;
+    return direction(d).box;
   }
 
   @Override
@@ -300,8 +371,6 @@ public class DCC extends com.riiablo.codec.DC {
       if (DEBUG) Gdx.app.debug(TAG, header.toString());
 
       final int numDirections = header.directions;
-      final int numFrames = header.framesPerDir;
-
       int[] dirOffsets = new int[numDirections + 1];
       ByteBuffer.wrap(IOUtils.readFully(in, numDirections << 2))
           .order(ByteOrder.LITTLE_ENDIAN)
@@ -310,42 +379,9 @@ public class DCC extends com.riiablo.codec.DC {
       dirOffsets[numDirections] = fileSize;
       if (DEBUG) Gdx.app.debug(TAG, "direction offsets = " + Arrays.toString(dirOffsets));
 
-      BBox box = new BBox();
-      box.xMin = box.yMin = Integer.MAX_VALUE;
-      box.xMax = box.yMax = Integer.MIN_VALUE;
-
-      Direction[] directions = new Direction[numDirections];
-      Frame[][]   frames     = new Frame    [numDirections][numFrames];
-      int start = dirOffsets[0], end;
-      for (int d = 0; d < numDirections; d++) {
-        end = dirOffsets[d + 1];
-        Direction dir = directions[d] = Direction.obtain(in, end - start, frames[d]);
-        if (DEBUG_DIRECTIONS) Gdx.app.debug(TAG, dir.toString());
-        if (DEBUG_FRAMES) for (Frame frame : frames[d]) Gdx.app.debug(TAG, frame.toString());
-
-        Cache cache = new Cache(header);
-        fillPixelBuffer(cache, dir, frames[d]);
-        makeFrames(cache, dir, frames[d]);
-        if (DEBUG_PB_SIZE) Gdx.app.debug(TAG, "pixelBuffer.size = " + cache.numEntries);
-
-        start = end;
-
-        assert dir.equalCellBitStream.tell() == dir.equalCellBitStream.sizeInBits();
-        assert dir.pixelMaskBitStream.tell() == dir.pixelMaskBitStream.sizeInBits();
-        assert dir.encodingTypeBitStream.tell() == dir.encodingTypeBitStream.sizeInBits();
-        assert dir.rawPixelCodesBitStream.tell() == dir.rawPixelCodesBitStream.sizeInBits();
-        assert dir.pixelCodeAndDisplacementBitStream.tell() + 7 >= dir.pixelCodeAndDisplacementBitStream.sizeInBits();
-
-        if (dir.box.xMin < box.xMin) box.xMin = dir.box.xMin;
-        if (dir.box.yMin < box.yMin) box.yMin = dir.box.yMin;
-        if (dir.box.xMax > box.xMax) box.xMax = dir.box.xMax;
-        if (dir.box.yMax > box.yMax) box.yMax = dir.box.yMax;
-      }
-
-      box.width  = box.xMax - box.xMin + 1;
-      box.height = box.yMax - box.yMin + 1;
-
-      return new DCC(header, directions, frames, box);
+      final int dataSize = fileSize - dirOffsets[0];
+      byte[] data = IOUtils.readFully(in, dataSize);
+      return new DCC(header, dirOffsets, data);
     } catch (Throwable t) {
       throw new GdxRuntimeException("Couldn't load DCC from stream.", t);
     } finally {
@@ -748,12 +784,18 @@ public class DCC extends com.riiablo.codec.DC {
 
     //BBox  box; // inherited
 
-    static Direction obtain(InputStream in, int size, Frame[] frames) throws IOException {
-      return new Direction().read(in, size, frames);
+    static Direction obtain(byte[] data, int offset, int length, Frame[] frames) throws IOException {
+      return new Direction().read(data, offset, length, frames);
     }
 
-    Direction read(InputStream in, int size, Frame[] frames) throws IOException {
-      BitStream bitStream = new BitStream(IOUtils.readFully(in, size), size * Byte.SIZE);
+    /**
+     * Reads the direction encoded within {@code length} bytes of {@code data} starting at
+     * {@code offset}. The bit streams of the direction are views of {@code data}, not copies.
+     */
+    Direction read(byte[] data, int offset, int length, Frame[] frames) throws IOException {
+      BitStream bitStream = new BitStream(data);
+      bitStream.skip((long) offset * Byte.SIZE);
+      bitStream = bitStream.createSubView((long) length * Byte.SIZE);
       outsizeCoded      = (int)  bitStream.readUnsigned(32);
       compressionFlags  = (byte) bitStream.readUnsigned8OrLess(2);
       variable0Bits     = (byte) bitStream.readUnsigned8OrLess(4);
@@ -841,6 +883,17 @@ public class DCC extends com.riiablo.codec.DC {
       pixelCodeAndDisplacementBitStream = bitStream.createSubView(bitStream.sizeInBits() - bitStream.tell());
     }
 
+    /**
+     * Drops the references to the encoded direction data once the pixel data has been decoded.
+     */
+    void releaseBitStreams() {
+      equalCellBitStream = null;
+      pixelMaskBitStream = null;
+      encodingTypeBitStream = null;
+      rawPixelCodesBitStream = null;
+      pixelCodeAndDisplacementBitStream = null;
+    }
+
     public String getFlags() {
       StringBuilder builder = new StringBuilder();
       if ((compressionFlags & HasRawPixelEncoding) == HasRawPixelEncoding) {
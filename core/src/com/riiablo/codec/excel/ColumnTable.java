@@ -0,0 +1,626 @@
+package com.riiablo.codec.excel;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Read-only columnar encoding of an {@link Excel}. Every binned {@link Excel.Entry.Column} is
+ * stored as a contiguous little-endian primitive column ({@code String} columns as ids into a
+ * shared pool of interned strings), so a table can be memory-mapped and queried in place without
+ * deserializing its entries. Processes mapping the same file share its pages.
+ * <p>
+ * Layout (all offsets absolute and columns 8-byte aligned):
+ * <pre>
+ * int  MAGIC, VERSION, rows, columns
+ * columns * { byte nameLength, byte[] name, byte type, byte flags, int width, int offset, int lengths }
+ * int  strings, stringOffsets, stringBytes
+ * ...  column data, rows * width elements each, followed for array columns by
+ *      int lengths[rows], the length of each row's array or -1 if it is null
+ * int  string offsets[strings + 1], relative to stringBytes
+ * byte string bytes (UTF-8)
+ * </pre>
+ */
+public final class ColumnTable {
+  private static final String TAG = "ColumnTable";
+
+  public static final int MAGIC   = 0x4C4F4352; // RCOL
+  public static final int VERSION = 2;
+
+  public static final byte TYPE_BYTE    = 1;
+  public static final byte TYPE_SHORT   = 2;
+  public static final byte TYPE_INT     = 3;
+  public static final byte TYPE_LONG    = 4;
+  public static final byte TYPE_BOOLEAN = 5;
+  public static final byte TYPE_STRING  = 6;
+
+  /** Column is backed by an array field, even if it has a width of 1 */
+  public static final byte FLAG_ARRAY = 0x1;
+
+  private static final int NULL_STRING = -1;
+  private static final int NULL_ARRAY  = -1;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+  final ByteBuffer buffer;
+  final int rows;
+  final String[] names;
+  final byte[] types;
+  final byte[] flags;
+  final int[] widths;
+  final int[] offsets;
+  final int[] lengths;
+  final ObjectIntMap<String> ids;
+
+  final int numStrings;
+  final int stringOffsets;
+  final int stringBytes;
+  final String[] strings;
+
+  /**
+   * Maps the specified file if possible, otherwise reads it into the heap, e.g., for internal
+   * files on Android which cannot be mapped.
+   */
+  public static ColumnTable map(FileHandle handle) {
+    ByteBuffer buffer;
+    try {
+      buffer = handle.map(FileChannel.MapMode.READ_ONLY);
+    } catch (GdxRuntimeException t) {
+      buffer = ByteBuffer.wrap(handle.readBytes());
+    }
+
+    return wrap(buffer);
+  }
+
+  /** Returns whether or not the specified file begins with a column table. */
+  public static boolean isColumnTable(FileHandle handle) {
+    InputStream in = null;
+    try {
+      in = handle.read();
+      byte[] magic = new byte[4];
+      return IOUtils.read(in, magic) == magic.length && isColumnTable(ByteBuffer.wrap(magic));
+    } catch (IOException e) {
+      return false;
+    } finally {
+      IOUtils.closeQuietly(in);
+    }
+  }
+
+  public static ColumnTable wrap(ByteBuffer buffer) {
+    return new ColumnTable(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  /** Returns whether or not the specified buffer begins with a column table. */
+  public static boolean isColumnTable(ByteBuffer buffer) {
+    return buffer.remaining() >= 4 && buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt() == MAGIC;
+  }
+
+  private ColumnTable(ByteBuffer buffer) {
+    this.buffer = buffer;
+    buffer.rewind();
+    int magic = buffer.getInt();
+    if (magic != MAGIC) throw new GdxRuntimeException("Not a column table: 0x" + Integer.toHexString(magic));
+    int version = buffer.getInt();
+    if (version != VERSION) throw new GdxRuntimeException("Unsupported column table version: " + version);
+    rows = buffer.getInt();
+
+    final int numColumns = buffer.getInt();
+    names   = new String[numColumns];
+    types   = new byte[numColumns];
+    flags   = new byte[numColumns];
+    widths  = new int[numColumns];
+    offsets = new int[numColumns];
+    lengths = new int[numColumns];
+    ids     = new ObjectIntMap<>(numColumns);
+    for (int i = 0; i < numColumns; i++) {
+      byte[] name = new byte[buffer.get() & 0xFF];
+      buffer.get(name);
+      names[i]   = new String(name, US_ASCII);
+      types[i]   = buffer.get();
+      flags[i]   = buffer.get();
+      widths[i]  = buffer.getInt();
+      offsets[i] = buffer.getInt();
+      lengths[i] = buffer.getInt();
+      ids.put(names[i], i);
+    }
+
+    numStrings    = buffer.getInt();
+    stringOffsets = buffer.getInt();
+    stringBytes   = buffer.getInt();
+    strings       = new String[numStrings];
+  }
+
+  public int size() {
+    return rows;
+  }
+
+  public int numColumns() {
+    return names.length;
+  }
+
+  /** Returns the index of the column for the specified field name, or {@code -1} if absent. */
+  public int column(String name) {
+    return ids.get(name, -1);
+  }
+
+  public String name(int col) {
+    return names[col];
+  }
+
+  public byte type(int col) {
+    return types[col];
+  }
+
+  public boolean isArray(int col) {
+    return (flags[col] & FLAG_ARRAY) == FLAG_ARRAY;
+  }
+
+  public int width(int col) {
+    return widths[col];
+  }
+
+  /**
+   * Returns the length of the array at the specified cell, or {@code -1} if it is null. Cells of
+   * non-array columns always have a length of {@code 1}.
+   */
+  public int length(int row, int col) {
+    if (!isArray(col)) return 1;
+    assert 0 <= row && row < rows : "row(" + row + ") out of bounds: " + rows;
+    return buffer.getInt(lengths[col] + (row << 2));
+  }
+
+  private int index(int row, int col, int i) {
+    assert 0 <= row && row < rows : "row(" + row + ") out of bounds: " + rows;
+    assert 0 <= i && i < widths[col] : "i(" + i + ") out of bounds: " + widths[col];
+    return row * widths[col] + i;
+  }
+
+  public byte getByte(int row, int col) {
+    return getByte(row, col, 0);
+  }
+
+  public byte getByte(int row, int col, int i) {
+    assert types[col] == TYPE_BYTE;
+    return buffer.get(offsets[col] + index(row, col, i));
+  }
+
+  public short getShort(int row, int col) {
+    return getShort(row, col, 0);
+  }
+
+  public short getShort(int row, int col, int i) {
+    assert types[col] == TYPE_SHORT;
+    return buffer.getShort(offsets[col] + (index(row, col, i) << 1));
+  }
+
+  public int getInt(int row, int col) {
+    return getInt(row, col, 0);
+  }
+
+  public int getInt(int row, int col, int i) {
+    assert types[col] == TYPE_INT;
+    return buffer.getInt(offsets[col] + (index(row, col, i) << 2));
+  }
+
+  public long getLong(int row, int col) {
+    return getLong(row, col, 0);
+  }
+
+  public long getLong(int row, int col, int i) {
+    assert types[col] == TYPE_LONG;
+    return buffer.getLong(offsets[col] + (index(row, col, i) << 3));
+  }
+
+  public boolean getBoolean(int row, int col) {
+    return getBoolean(row, col, 0);
+  }
+
+  public boolean getBoolean(int row, int col, int i) {
+    assert types[col] == TYPE_BOOLEAN;
+    return buffer.get(offsets[col] + index(row, col, i)) != 0;
+  }
+
+  public String getString(int row, int col) {
+    return getString(row, col, 0);
+  }
+
+  public String getString(int row, int col, int i) {
+    assert types[col] == TYPE_STRING;
+    return string(buffer.getInt(offsets[col] + (index(row, col, i) << 2)));
+  }
+
+  /** Returns the id of the interned string at the specified cell, or {@code -1} if it is null. */
+  public int getStringId(int row, int col) {
+    assert types[col] == TYPE_STRING;
+    return buffer.getInt(offsets[col] + (index(row, col, 0) << 2));
+  }
+
+  /**
+   * Returns the interned string with the specified id. Strings are decoded once on first use and
+   * shared by all cells which reference them.
+   */
+  public String string(int id) {
+    if (id == NULL_STRING) return null;
+    String string = strings[id];
+    if (string == null) {
+      int start = buffer.getInt(stringOffsets + (id << 2));
+      int end   = buffer.getInt(stringOffsets + ((id + 1) << 2));
+      byte[] bytes = new byte[end - start];
+      ByteBuffer src = buffer.duplicate();
+      src.position(stringBytes + start);
+      src.get(bytes);
+      strings[id] = string = new String(bytes, UTF_8);
+    }
+
+    return string;
+  }
+
+  public byte[] getBytes(int row, int col) {
+    final int length = length(row, col);
+    if (length == NULL_ARRAY) return null;
+    byte[] values = new byte[length];
+    for (int i = 0; i < values.length; i++) values[i] = getByte(row, col, i);
+    return values;
+  }
+
+  public short[] getShorts(int row, int col) {
+    final int length = length(row, col);
+    if (length == NULL_ARRAY) return null;
+    short[] values = new short[length];
+    for (int i = 0; i < values.length; i++) values[i] = getShort(row, col, i);
+    return values;
+  }
+
+  public int[] getInts(int row, int col) {
+    final int length = length(row, col);
+    if (length == NULL_ARRAY) return null;
+    int[] values = new int[length];
+    for (int i = 0; i < values.length; i++) values[i] = getInt(row, col, i);
+    return values;
+  }
+
+  public long[] getLongs(int row, int col) {
+    final int length = length(row, col);
+    if (length == NULL_ARRAY) return null;
+    long[] values = new long[length];
+    for (int i = 0; i < values.length; i++) values[i] = getLong(row, col, i);
+    return values;
+  }
+
+  public boolean[] getBooleans(int row, int col) {
+    final int length = length(row, col);
+    if (length == NULL_ARRAY) return null;
+    boolean[] values = new boolean[length];
+    for (int i = 0; i < values.length; i++) values[i] = getBoolean(row, col, i);
+    return values;
+  }
+
+  public String[] getStrings(int row, int col) {
+    final int length = length(row, col);
+    if (length == NULL_ARRAY) return null;
+    String[] values = new String[length];
+    for (int i = 0; i < values.length; i++) values[i] = getString(row, col, i);
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("rows", rows)
+        .append("columns", Arrays.toString(names))
+        .append("strings", numStrings)
+        .append("size", buffer.limit())
+        .toString();
+  }
+
+  /**
+   * Writes the binned columns of the specified excel in its id order. Array columns take the
+   * width of their longest value, shorter or {@code null} arrays are zero-filled and keep their
+   * own length so they are read back as they were.
+   */
+  @SuppressWarnings("unchecked")
+  public static void write(Excel<? extends Excel.Entry> excel, OutputStream out) throws IOException {
+    Class<? extends Excel.Entry> entryClass = Excel.getEntryClass(excel.getClass());
+    Array<Field> fields = new Array<>(Field.class);
+    for (Field field : entryClass.getFields()) {
+      Excel.Entry.Column column = field.getAnnotation(Excel.Entry.Column.class);
+      if (column != null && column.bin()) fields.add(field);
+    }
+
+    IntArray keys = excel.entries.keys().toArray();
+    keys.sort();
+    final int rows = keys.size;
+    Excel.Entry[] entries = new Excel.Entry[rows];
+    for (int i = 0; i < rows; i++) entries[i] = excel.entries.get(keys.get(i));
+
+    try {
+      final int numColumns = fields.size;
+      byte[][] names = new byte[numColumns][];
+      byte[] types = new byte[numColumns];
+      int[] widths = new int[numColumns];
+      int[] offsets = new int[numColumns];
+      int[] lengths = new int[numColumns];
+      int headerSize = 16 + 12;
+      for (int c = 0; c < numColumns; c++) {
+        Field field = fields.get(c);
+        names[c] = field.getName().getBytes(US_ASCII);
+        assert names[c].length <= 0xFF : "field name too long: " + field.getName();
+        types[c] = typeOf(field.getType());
+        widths[c] = widthOf(field, entries);
+        headerSize += 1 + names[c].length + 2 + 12;
+      }
+
+      int position = align(headerSize);
+      for (int c = 0; c < numColumns; c++) {
+        offsets[c] = position;
+        position = align(position + rows * widths[c] * sizeOf(types[c]));
+        if (fields.get(c).getType().isArray()) {
+          lengths[c] = position;
+          position = align(position + (rows << 2));
+        }
+      }
+
+      Array<String> strings = new Array<>(String.class);
+      ObjectIntMap<String> stringIds = new ObjectIntMap<>();
+      ByteBuffer buffer = ByteBuffer.allocate(position).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(MAGIC);
+      buffer.putInt(VERSION);
+      buffer.putInt(rows);
+      buffer.putInt(numColumns);
+      for (int c = 0; c < numColumns; c++) {
+        buffer.put((byte) names[c].length);
+        buffer.put(names[c]);
+        buffer.put(types[c]);
+        buffer.put(fields.get(c).getType().isArray() ? FLAG_ARRAY : 0);
+        buffer.putInt(widths[c]);
+        buffer.putInt(offsets[c]);
+        buffer.putInt(lengths[c]);
+      }
+
+      for (int c = 0; c < numColumns; c++) {
+        Field field = fields.get(c);
+        final boolean isArray = field.getType().isArray();
+        final int width = widths[c];
+        buffer.position(offsets[c]);
+        for (Excel.Entry entry : entries) {
+          Object value = field.get(entry);
+          for (int i = 0; i < width; i++) {
+            Object element = isArray
+                ? (value != null && i < java.lang.reflect.Array.getLength(value) ? java.lang.reflect.Array.get(value, i) : null)
+                : value;
+            switch (types[c]) {
+              case TYPE_BYTE:    buffer.put(element != null ? (Byte) element : 0); break;
+              case TYPE_SHORT:   buffer.putShort(element != null ? (Short) element : 0); break;
+              case TYPE_INT:     buffer.putInt(element != null ? (Integer) element : 0); break;
+              case TYPE_LONG:    buffer.putLong(element != null ? (Long) element : 0L); break;
+              case TYPE_BOOLEAN: buffer.put(element != null && (Boolean) element ? (byte) 1 : 0); break;
+              case TYPE_STRING:
+                if (element == null) {
+                  buffer.putInt(NULL_STRING);
+                } else {
+                  String string = (String) element;
+                  int id = stringIds.get(string, NULL_STRING);
+                  if (id == NULL_STRING) {
+                    stringIds.put(string, id = strings.size);
+                    strings.add(string);
+                  }
+
+                  buffer.putInt(id);
+                }
+                break;
+              default:
+                throw new AssertionError(types[c]);
+            }
+          }
+        }
+
+        if (isArray) {
+          buffer.position(lengths[c]);
+          for (Excel.Entry entry : entries) {
+            Object value = field.get(entry);
+            buffer.putInt(value != null ? java.lang.reflect.Array.getLength(value) : NULL_ARRAY);
+          }
+        }
+      }
+
+      byte[][] encoded = new byte[strings.size][];
+      int stringBytesSize = 0;
+      for (int i = 0; i < strings.size; i++) {
+        encoded[i] = strings.get(i).getBytes(UTF_8);
+        stringBytesSize += encoded[i].length;
+      }
+
+      final int stringOffsets = position;
+      final int stringBytes = stringOffsets + ((strings.size + 1) << 2);
+      ByteBuffer pool = ByteBuffer.allocate(stringBytes - stringOffsets + stringBytesSize).order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = 0, offset = 0; i <= strings.size; i++) {
+        pool.putInt(offset);
+        if (i < strings.size) offset += encoded[i].length;
+      }
+      for (byte[] bytes : encoded) pool.put(bytes);
+
+      buffer.position(headerSize - 12);
+      buffer.putInt(strings.size);
+      buffer.putInt(stringOffsets);
+      buffer.putInt(stringBytes);
+
+      out.write(buffer.array());
+      out.write(pool.array());
+    } catch (IllegalAccessException e) {
+      throw new GdxRuntimeException("Couldn't write column table for " + excel.getClass(), e);
+    }
+  }
+
+  private static int align(int position) {
+    return (position + 7) & ~7;
+  }
+
+  private static int widthOf(Field field, Excel.Entry[] entries) throws IllegalAccessException {
+    if (!field.getType().isArray()) return 1;
+    int width = 0;
+    for (Excel.Entry entry : entries) {
+      Object value = field.get(entry);
+      if (value != null) width = Math.max(width, java.lang.reflect.Array.getLength(value));
+    }
+
+    return width;
+  }
+
+  private static byte typeOf(Class<?> type) {
+    if (type.isArray()) type = type.getComponentType();
+    if (type == byte.class) {
+      return TYPE_BYTE;
+    } else if (type == short.class) {
+      return TYPE_SHORT;
+    } else if (type == int.class) {
+      return TYPE_INT;
+    } else if (type == long.class) {
+      return TYPE_LONG;
+    } else if (type == boolean.class) {
+      return TYPE_BOOLEAN;
+    } else if (type == String.class) {
+      return TYPE_STRING;
+    } else {
+      throw new UnsupportedOperationException("No support for " + type + " fields");
+    }
+  }
+
+  private static int sizeOf(byte type) {
+    switch (type) {
+      case TYPE_BYTE:
+      case TYPE_BOOLEAN:
+        return 1;
+      case TYPE_SHORT:
+        return 2;
+      case TYPE_INT:
+      case TYPE_STRING:
+        return 4;
+      case TYPE_LONG:
+        return 8;
+      default:
+        throw new AssertionError(type);
+    }
+  }
+
+  /**
+   * Entry view of a column table. Entries are materialized through the generated
+   * {@link Excel.Loader} the first time their row is requested, so only the rows a process actually
+   * uses are copied onto its heap. Lookups follow the default keying of {@link Excel#get(int)} and
+   * {@link Excel#get(String)}; excels which remap ids by overriding {@code put} or {@code init}
+   * should be accessed by {@link #row(int)} or loaded through {@link Excel#load} instead.
+   */
+  public static final class View<E extends Excel.Entry> {
+    final ColumnTable table;
+    final Excel.Loader<E> loader;
+    final int offset;
+    final Object[] rows;
+
+    IntIntMap intKeys;
+    ObjectIntMap<String> stringKeys;
+    int keyColumn = -1;
+
+    View(ColumnTable table, Excel.Loader<E> loader, int offset) {
+      this.table  = table;
+      this.loader = loader;
+      this.offset = offset;
+      this.rows   = new Object[table.rows];
+      loader.bind(table);
+    }
+
+    public ColumnTable table() {
+      return table;
+    }
+
+    public int size() {
+      return table.rows;
+    }
+
+    /** Returns the entry at the specified row, materializing it if needed. */
+    @SuppressWarnings("unchecked")
+    public synchronized E row(int row) {
+      E entry = (E) rows[row];
+      if (entry == null) {
+        entry = loader.newEntry();
+        loader.readColumns(table, row, entry);
+        rows[row] = entry;
+      }
+
+      return entry;
+    }
+
+    /** Returns the entry with the specified id, or {@code null} if there isn't one. */
+    public E get(int id) {
+      int row;
+      switch (loader.keyType()) {
+        case Excel.Loader.INT_KEY:
+          row = intKeys().get(id, -1);
+          break;
+        default:
+          row = id - offset;
+      }
+
+      return 0 <= row && row < table.rows ? row(row) : null;
+    }
+
+    public E get(String id) {
+      return get(index(id));
+    }
+
+    /** Returns the id of the entry with the specified {@code String} key, or {@code -1}. */
+    public int index(String id) {
+      if (loader.keyType() != Excel.Loader.STRING_KEY) return -1;
+      int row = stringKeys().get(id, -1);
+      return row == -1 ? -1 : row + offset;
+    }
+
+    private synchronized IntIntMap intKeys() {
+      if (intKeys == null) {
+        int col = keyColumn();
+        IntIntMap keys = new IntIntMap(table.rows);
+        for (int row = 0; row < table.rows; row++) keys.put(table.getInt(row, col), row);
+        intKeys = keys;
+      }
+
+      return intKeys;
+    }
+
+    private synchronized ObjectIntMap<String> stringKeys() {
+      if (stringKeys == null) {
+        int col = keyColumn();
+        ObjectIntMap<String> keys = new ObjectIntMap<>(table.rows);
+        for (int row = 0; row < table.rows; row++) {
+          String key = table.getString(row, col);
+          if (key != null && !keys.containsKey(key)) keys.put(key, row);
+        }
+        stringKeys = keys;
+      }
+
+      return stringKeys;
+    }
+
+    private int keyColumn() {
+      if (keyColumn == -1) {
+        keyColumn = table.column(loader.keyName());
+        if (keyColumn == -1) throw new GdxRuntimeException("Key column not binned: " + loader.keyName());
+      }
+
+      return keyColumn;
+    }
+  }
+}
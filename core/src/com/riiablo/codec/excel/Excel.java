@@ -6,6 +6,7 @@ import android.support.annotation.CallSuper;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.ObjectIntMap;
@@ -21,6 +22,7 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -46,6 +48,7 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
 
   private static final boolean FORCE_PRIMARY_KEY = false;
   private static final boolean FORCE_TXT = !true;
+  private static final boolean FORCE_REFLECTION = !true;
 
   private static final ObjectSet EMPTY_SET = new ObjectSet<>();
   private static final ObjectIntMap EMPTY_MAP = new ObjectIntMap<>();
@@ -88,6 +91,70 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
     public @interface Key {}
   }
 
+  /**
+   * Reflection-free loader for the entries of a specific {@link Excel}. Implementations are
+   * generated by {@code ExcelGenerationTool} as {@code <ExcelClass>Loader} alongside the excel and
+   * are used by {@link #load} in place of the reflective codecs whenever they are present and up to
+   * date with the entry class.
+   */
+  public static abstract class Loader<E extends Entry> {
+    /** Entries are keyed by row index, see {@link Index} */
+    public static final int INDEX      = 0;
+    /** Entries are keyed by an {@code int} {@link Entry.Key} */
+    public static final int INT_KEY    = 1;
+    /** Entries are keyed by row index and mapped by a {@code String} {@link Entry.Key} */
+    public static final int STRING_KEY = 2;
+    /** Entries are keyed by a {@link Entry.Key} of any other type and are not indexed */
+    public static final int OTHER_KEY  = 3;
+
+    /** Names of the {@link Entry.Column} fields this loader was generated for, in declared order */
+    final String[] fields;
+
+    protected Loader(String... fields) {
+      this.fields = fields;
+    }
+
+    public abstract E newEntry();
+
+    public abstract int keyType();
+
+    public int intKey(E entry) {
+      throw new UnsupportedOperationException();
+    }
+
+    public String stringKey(E entry) {
+      throw new UnsupportedOperationException();
+    }
+
+    /** Returns the field name of the primary key, or {@code null} if entries are indexed. */
+    public String keyName() {
+      return null;
+    }
+
+    /** Resolves the column ids of {@code in}, called once before any rows are read. */
+    public abstract void bind(TxtParser in);
+
+    public abstract void readTxt(TxtParser in, E entry);
+
+    public abstract void readBin(DataInput in, E entry) throws IOException;
+
+    public abstract void writeBin(DataOutput out, E entry) throws IOException;
+
+    /** Resolves the column ids of {@code in}, called once before any rows are read. */
+    public abstract void bind(ColumnTable in);
+
+    public abstract void readColumns(ColumnTable in, int row, E entry);
+
+    protected static int column(ColumnTable in, String name) {
+      int col = in.column(name);
+      if (col == -1) throw new GdxRuntimeException("Column table is missing " + name + ", it may need to be regenerated");
+      return col;
+    }
+
+    /** Compares the binned fields of the specified entries. */
+    public abstract boolean equal(E e1, E e2);
+  }
+
   ObjectIntMap<String> STRING_TO_ID = EMPTY_MAP;
   IntMap<T> entries = new IntMap<>();
 
@@ -108,15 +175,26 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
 
       long start = System.currentTimeMillis();
 
+      Loader<Entry> loader = FORCE_REFLECTION ? null : Excel.<Entry>getLoader(excelClass, entryClass);
+
       T excel;
       FileHandle file;
       if (!FORCE_TXT && isBinned(excelClass) && bin != null && bin.exists()) {
         if (DEBUG_TYPE) Gdx.app.debug(TAG, "Loading bin " + bin);
-        excel = loadBin(bin, excelClass, entryClass);
+        if (ColumnTable.isColumnTable(bin)) {
+          if (loader == null) throw new GdxRuntimeException(bin + " is a column table and requires a generated loader");
+          excel = loadColumns(ColumnTable.map(bin), excelClass, loader);
+        } else {
+          excel = loader != null
+              ? loadBin(bin, excelClass, loader)
+              : loadBin(bin, excelClass, entryClass);
+        }
         if (DEBUG_TIME) file = bin;
       } else {
         if (DEBUG_TYPE) Gdx.app.debug(TAG, "Loading txt " + txt);
-        excel = loadTxt(txt, excelClass, entryClass, ignore);
+        excel = loader != null
+            ? loadTxt(txt, excelClass, loader, ignore)
+            : loadTxt(txt, excelClass, entryClass, ignore);
         if (DEBUG_TIME) file = txt;
       }
 
@@ -143,102 +221,47 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
     }
   }
 
+  private static <T extends Excel<?>, E extends Entry> T loadTxt(FileHandle handle, Class<T> excelClass, Loader<E> loader, ObjectSet<String> ignore) throws Exception {
+    TxtParser in = null;
+    try {
+      in = TxtParser.loadFromFile(handle);
+      T excel = excelClass.getDeclaredConstructor().newInstance();
+      loader.bind(in);
+      for (int j = excel.offset(); in.nextLine() != null;) {
+        String rowName = in.getString(0);
+        if (ignore.contains(rowName)) {
+          if (DEBUG_IGNORED) Gdx.app.debug(TAG, "Skipping row " + in.getIndex() + ", ignoring rows named " + rowName);
+          continue;
+        }
+
+        E entry = loader.newEntry();
+        loader.readTxt(in, entry);
+        putIndex(loader, j++, excel, entry);
+      }
+
+      return excel;
+    } catch (Throwable t) {
+      throw new GdxRuntimeException("Couldn't load excel: " + handle, t);
+    } finally {
+      IOUtils.closeQuietly(in);
+    }
+  }
+
   private static <T extends Excel> T loadTxt(TxtParser in, Class<T> excelClass, Class<Entry> entryClass, ObjectSet<String> ignore) throws Exception {
     final boolean index = ClassUtils.hasAnnotation(entryClass, Index.class);
 
-    Field primaryKey = null, firstKey = null;
+    final Field primaryKey = getPrimaryKey(entryClass);
     T excel = excelClass.newInstance();
     ObjectMap<Field, int[]> columns = new ObjectMap<>();
-    String[] TMP = new String[1];
     for (Field field : entryClass.getFields()) {
       Entry.Column column = field.getAnnotation(Entry.Column.class);
       if (column == null) continue;
 
-      Entry.Key key = field.getAnnotation(Entry.Key.class);
-      if (key != null) {
-        if (index) {
-          Gdx.app.error(TAG, "primary key set in class annotated with " + Index.class);
-        } else if (primaryKey != null) {
-          boolean primaryDeclared = ClassUtils.isDeclaredField(entryClass, primaryKey);
-          boolean fieldDeclared = ClassUtils.isDeclaredField(entryClass, field);
-          if (primaryDeclared != fieldDeclared) {
-            if (fieldDeclared) {
-              if (DEBUG_KEY) Gdx.app.debug(TAG, "primary key " + primaryKey.getName() + " -> " + field.getName());
-              primaryKey = field;
-            }
-          } else {
-            Gdx.app.error(TAG, "more than one primary key for " + entryClass + " " + primaryKey.getName() + " and " + field.getName());
-          }
-        } else {
-          primaryKey = field;
-        }
-      }
-
-      if (firstKey == null) firstKey = field;
-
-      final String format      = column.format();
-      final String values[]    = column.values();
-      final int    startIndex  = column.startIndex();
-      final int    endIndex    = column.endIndex();
-      final int    columnIndex = column.columnIndex();
+      final int columnIndex = column.columnIndex();
       if (columnIndex >= 0) {
         columns.put(field, new int[] { columnIndex });
-      } else if (format.isEmpty()) {
-        final String fieldName = field.getName();
-        if (values.length > 0) {
-          String[] columnNames = new String[values.length];
-          for (int i = 0; i < values.length; i++) {
-            String name = values[i];
-            if (DEBUG_COLS) Gdx.app.debug(TAG, name);
-            columnNames[i] = name;
-          }
-
-          columns.put(field, in.getColumnId(columnNames));
-        } else if (startIndex == 0 && endIndex == 0) {
-          if (DEBUG_COLS) Gdx.app.debug(TAG, fieldName);
-          TMP[0] = fieldName;
-          columns.put(field, in.getColumnId(TMP));
-        } else {
-          String[] columnNames = new String[endIndex - startIndex];
-          for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
-            String name = fieldName + i;
-            if (DEBUG_COLS) Gdx.app.debug(TAG, name);
-            columnNames[j] = name;
-          }
-
-          columns.put(field, in.getColumnId(columnNames));
-        }
       } else {
-        if (startIndex == 0 && endIndex == 0) {
-          TMP[0] = format;
-          columns.put(field, in.getColumnId(TMP));
-        } else {
-          String[] columnNames = new String[endIndex - startIndex];
-          if (values.length == 0) {
-            for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
-              String name = String.format(format, i);
-              if (DEBUG_COLS) Gdx.app.debug(TAG, name);
-              columnNames[j] = name;
-            }
-          } else {
-            for (int i = 0; i < values.length; i++) {
-              String name = String.format(format, values[i]);
-              if (DEBUG_COLS) Gdx.app.debug(TAG, name);
-              columnNames[i] = name;
-            }
-          }
-
-          columns.put(field, in.getColumnId(columnNames));
-        }
-      }
-    }
-
-    if (primaryKey == null && !index) {
-      if (FORCE_PRIMARY_KEY) {
-        throw new IllegalStateException(entryClass + " does not have a " + Entry.Key.class + " set!");
-      } else {
-        primaryKey = firstKey;
-        Gdx.app.error(TAG, entryClass + " does not have a " + Entry.Key.class + " set! Using " + firstKey.getName());
+        columns.put(field, in.getColumnId(getColumnNames(field, column)));
       }
     }
 
@@ -365,6 +388,189 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
     }
   }
 
+  /**
+   * Returns the primary key of the specified entry class, preferring a {@link Entry.Key} declared
+   * by the class itself over an inherited one, and falling back to the first column if none are
+   * set. Returns {@code null} if the entry class is annotated with {@link Index}.
+   */
+  static Field getPrimaryKey(Class<? extends Entry> entryClass) {
+    final boolean index = ClassUtils.hasAnnotation(entryClass, Index.class);
+
+    Field primaryKey = null, firstKey = null;
+    for (Field field : entryClass.getFields()) {
+      Entry.Column column = field.getAnnotation(Entry.Column.class);
+      if (column == null) continue;
+
+      Entry.Key key = field.getAnnotation(Entry.Key.class);
+      if (key != null) {
+        if (index) {
+          Gdx.app.error(TAG, "primary key set in class annotated with " + Index.class);
+        } else if (primaryKey != null) {
+          boolean primaryDeclared = ClassUtils.isDeclaredField(entryClass, primaryKey);
+          boolean fieldDeclared = ClassUtils.isDeclaredField(entryClass, field);
+          if (primaryDeclared != fieldDeclared) {
+            if (fieldDeclared) {
+              if (DEBUG_KEY) Gdx.app.debug(TAG, "primary key " + primaryKey.getName() + " -> " + field.getName());
+              primaryKey = field;
+            }
+          } else {
+            Gdx.app.error(TAG, "more than one primary key for " + entryClass + " " + primaryKey.getName() + " and " + field.getName());
+          }
+        } else {
+          primaryKey = field;
+        }
+      }
+
+      if (firstKey == null) firstKey = field;
+    }
+
+    if (index) return null;
+    if (primaryKey == null) {
+      if (FORCE_PRIMARY_KEY) {
+        throw new IllegalStateException(entryClass + " does not have a " + Entry.Key.class + " set!");
+      } else {
+        primaryKey = firstKey;
+        Gdx.app.error(TAG, entryClass + " does not have a " + Entry.Key.class + " set! Using " + firstKey.getName());
+      }
+    }
+
+    return primaryKey;
+  }
+
+  /**
+   * Returns the names of the txt columns backing the specified field, or {@code null} if the
+   * column is referenced by {@link Entry.Column#columnIndex()}.
+   */
+  static String[] getColumnNames(Field field, Entry.Column column) {
+    final String format      = column.format();
+    final String values[]    = column.values();
+    final int    startIndex  = column.startIndex();
+    final int    endIndex    = column.endIndex();
+    final int    columnIndex = column.columnIndex();
+    if (columnIndex >= 0) {
+      return null;
+    } else if (format.isEmpty()) {
+      final String fieldName = field.getName();
+      if (values.length > 0) {
+        String[] columnNames = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+          String name = values[i];
+          if (DEBUG_COLS) Gdx.app.debug(TAG, name);
+          columnNames[i] = name;
+        }
+
+        return columnNames;
+      } else if (startIndex == 0 && endIndex == 0) {
+        if (DEBUG_COLS) Gdx.app.debug(TAG, fieldName);
+        return new String[] { fieldName };
+      } else {
+        String[] columnNames = new String[endIndex - startIndex];
+        for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
+          String name = fieldName + i;
+          if (DEBUG_COLS) Gdx.app.debug(TAG, name);
+          columnNames[j] = name;
+        }
+
+        return columnNames;
+      }
+    } else {
+      if (startIndex == 0 && endIndex == 0) {
+        return new String[] { format };
+      } else {
+        String[] columnNames = new String[endIndex - startIndex];
+        if (values.length == 0) {
+          for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
+            String name = String.format(format, i);
+            if (DEBUG_COLS) Gdx.app.debug(TAG, name);
+            columnNames[j] = name;
+          }
+        } else {
+          for (int i = 0; i < values.length; i++) {
+            String name = String.format(format, values[i]);
+            if (DEBUG_COLS) Gdx.app.debug(TAG, name);
+            columnNames[i] = name;
+          }
+        }
+
+        return columnNames;
+      }
+    }
+  }
+
+  private static <T extends Excel<?>, E extends Entry> T loadBin(FileHandle bin, Class<T> excelClass, Loader<E> loader) throws Exception {
+    byte[] bytes = bin.readBytes();
+    InputStream in = null;
+    try {
+      in = new ByteArrayInputStream(bytes);
+      LittleEndianDataInputStream dis = new LittleEndianDataInputStream(in);
+      T excel = excelClass.getDeclaredConstructor().newInstance();
+
+      int size = dis.readInt();
+      if (DEBUG_BIN) Gdx.app.debug(TAG, "Reading " + size + " entries...");
+      for (int i = 0, j = excel.offset(); i < size; i++, j++) {
+        E entry = loader.newEntry();
+        loader.readBin(dis, entry);
+        putIndex(loader, j, excel, entry);
+      }
+
+      return excel;
+    } finally {
+      StreamUtils.closeQuietly(in);
+    }
+  }
+
+  private static <T extends Excel<?>, E extends Entry> T loadColumns(ColumnTable table, Class<T> excelClass, Loader<E> loader) throws Exception {
+    if (DEBUG_BIN) Gdx.app.debug(TAG, "Reading " + table);
+    T excel = excelClass.getDeclaredConstructor().newInstance();
+    loader.bind(table);
+    for (int row = 0, j = excel.offset(); row < table.size(); row++, j++) {
+      E entry = loader.newEntry();
+      loader.readColumns(table, row, entry);
+      putIndex(loader, j, excel, entry);
+    }
+
+    return excel;
+  }
+
+  /**
+   * Maps the specified column table and returns a view of its entries which are only materialized
+   * when accessed, so the table itself stays shared in the page cache.
+   *
+   * @see ColumnTable#write(Excel, java.io.OutputStream)
+   */
+  public static <T extends Excel<E>, E extends Entry> ColumnTable.View<E> view(Class<T> excelClass, FileHandle bin) {
+    try {
+      Class<Entry> entryClass = getEntryClass(excelClass);
+      Loader<E> loader = Excel.<E>getLoader(excelClass, entryClass);
+      if (loader == null) throw new GdxRuntimeException(excelClass + " does not have a generated loader");
+      T excel = excelClass.getDeclaredConstructor().newInstance();
+      return new ColumnTable.View<>(ColumnTable.map(bin), loader, excel.offset());
+    } catch (Throwable t) {
+      throw new GdxRuntimeException("Couldn't view excel " + excelClass, t);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Entry> void putIndex(Loader<E> loader, int j, Excel<?> table, E entry) {
+    final Excel<E> excel = (Excel<E>) table;
+    switch (loader.keyType()) {
+      case Loader.INDEX:
+        excel.put(j, entry);
+        break;
+      case Loader.INT_KEY:
+        excel.put(loader.intKey(entry), entry);
+        break;
+      case Loader.STRING_KEY:
+        String id = loader.stringKey(entry);
+        excel.put(j, entry);
+
+        if (excel.STRING_TO_ID == EMPTY_MAP) excel.STRING_TO_ID = new ObjectIntMap<>();
+        if (!excel.STRING_TO_ID.containsKey(id)) excel.STRING_TO_ID.put(id, j);
+        break;
+      default:
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private static <T extends Excel> void putIndex(Field primaryKey, Class primaryKeyType, int j, boolean indexed, T excel, Entry entry) throws Exception {
     if (indexed) {
@@ -391,11 +597,23 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
 
   public void readBin(DataInput in) throws IOException {}
 
+  /** Writes this excel as a {@link ColumnTable}. */
+  public void writeColumns(OutputStream out) throws IOException {
+    ColumnTable.write(this, out);
+  }
+
   @SuppressWarnings("unchecked")
   public void writeBin(DataOutput out) throws IOException {
     //if (!isBinned()) return;
     Class excelClass = this.getClass();
     Class<T> entryClass = (Class<T>) getEntryClass(excelClass);
+    Loader<T> loader = FORCE_REFLECTION ? null : Excel.<T>getLoader(excelClass, entryClass);
+    if (loader != null) {
+      out.writeInt(size());
+      for (T entry : this) loader.writeBin(out, entry);
+      return;
+    }
+
     String binClassName = excelClass.getName() + "Bin";
     try {
       Class binClass = Class.forName(binClassName);
@@ -411,8 +629,38 @@ public abstract class Excel<T extends Excel.Entry> implements Iterable<T> {
     }
   }
 
+  /**
+   * Returns a new instance of the generated loader for the specified excel, or {@code null} if
+   * there isn't one or it was generated for a different set of columns than {@code entryClass}
+   * currently declares.
+   */
+  @SuppressWarnings("unchecked")
+  static <E extends Entry> Loader<E> getLoader(Class<?> excelClass, Class<? extends Entry> entryClass) {
+    Loader<E> loader;
+    try {
+      Class<?> loaderClass = Class.forName(excelClass.getName() + "Loader", true, excelClass.getClassLoader());
+      loader = (Loader<E>) loaderClass.getDeclaredConstructor().newInstance();
+    } catch (ClassNotFoundException e) {
+      return null;
+    } catch (Throwable t) {
+      throw new GdxRuntimeException("Couldn't create loader for " + excelClass, t);
+    }
+
+    Array<String> fields = new Array<>(String.class);
+    for (Field field : entryClass.getFields()) {
+      if (field.getAnnotation(Entry.Column.class) != null) fields.add(field.getName());
+    }
+
+    if (!Arrays.equals(fields.toArray(), loader.fields)) {
+      Gdx.app.error(TAG, loader.getClass().getSimpleName() + " is out of date with " + entryClass + ", falling back to reflection");
+      return null;
+    }
+
+    return loader;
+  }
+
   @SuppressWarnings("unchecked")
-  private static Class<Entry> getEntryClass(Class excelClass) {
+  static Class<Entry> getEntryClass(Class excelClass) {
     Class[] declaredClasses = excelClass.getDeclaredClasses();
     for (Class declaredClass : declaredClasses) {
       if (Entry.class.isAssignableFrom(declaredClass)) {
@@ -46,6 +46,13 @@ public class BitStream {
     return new BitStream(buffer, offset + curBytesPos, newBufferSizeInBits, bitPosInCurByte);
   }
 
+  /**
+   * Returns whether this stream reads the specified buffer itself rather than a copy of it.
+   */
+  public boolean isViewOf(byte[] buffer) {
+    return this.buffer == buffer;
+  }
+
   @Deprecated
   public int getOffset() {
     return offset;
@@ -66,6 +73,20 @@ public class BitStream {
     return Arrays.copyOfRange(buffer, offset, buffer.length);
   }
 
+  /**
+   * Returns a copy of the bytes spanning the specified bit positions within this view, i.e., from
+   * the byte containing {@code fromBitPosition} through the byte containing
+   * {@code toBitPosition - 1}.
+   *
+   * @see #bitPositionInBuffer()
+   */
+  public byte[] copyBytes(long fromBitPosition, long toBitPosition) {
+    assert 0 <= fromBitPosition && fromBitPosition <= toBitPosition;
+    int fromBytesPos = (int) (fromBitPosition / Byte.SIZE);
+    int toBytesPos   = (int) ((toBitPosition + (Byte.SIZE - 1)) / Byte.SIZE);
+    return Arrays.copyOfRange(buffer, offset + fromBytesPos, offset + toBytesPos);
+  }
+
   @Deprecated
   public byte[] getBufferAtPos() {
     int curBytesPos = (int) (curBitPosition / Byte.SIZE);
@@ -125,7 +146,7 @@ public class BitStream {
       int mask = (1 << bitsToReadInCurByte) - 1;
       int inBits = (buffer[offset + curBytesPos] >> bitPosInCurByte) & mask;
       curBytesPos++;
-      value |= (inBits << i);
+      value |= ((long) inBits << i);
       i += bitsToReadInCurByte;
       bitPosInCurByte = 0;
     }
@@ -0,0 +1,124 @@
+package com.riiablo.codec.util;
+
+import java.util.Arrays;
+
+/**
+ * Writes bits least significant first into a buffer which grows as needed, i.e., the bits written
+ * are read back in the same order by {@link BitStream}.
+ */
+public class BitWriter {
+  byte[] buffer;
+  long curBitPosition;
+
+  public BitWriter() {
+    this(64);
+  }
+
+  public BitWriter(int initialCapacityInBytes) {
+    buffer = new byte[Math.max(initialCapacityInBytes, 1)];
+  }
+
+  public long tell() {
+    return curBitPosition;
+  }
+
+  public int sizeInBytes() {
+    return (int) ((curBitPosition + (Byte.SIZE - 1)) / Byte.SIZE);
+  }
+
+  public void clear() {
+    Arrays.fill(buffer, 0, sizeInBytes(), (byte) 0);
+    curBitPosition = 0;
+  }
+
+  private void ensureCapacity(long bits) {
+    int bytes = (int) ((curBitPosition + bits + (Byte.SIZE - 1)) / Byte.SIZE);
+    if (bytes > buffer.length) buffer = Arrays.copyOf(buffer, Math.max(bytes, buffer.length << 1));
+  }
+
+  public void alignToByte() {
+    int highestBit = Byte.SIZE - 1;
+    ensureCapacity(highestBit);
+    curBitPosition = (curBitPosition + highestBit) & (~highestBit);
+  }
+
+  public void writeBoolean(boolean b) {
+    writeUnsigned(1, b ? 1 : 0);
+  }
+
+  public void writeUnsigned(int bits, long value) {
+    assert bits <= Long.SIZE;
+    ensureCapacity(bits);
+    int curBytesPos     = (int) (curBitPosition / Byte.SIZE);
+    int bitPosInCurByte = (int) (curBitPosition % Byte.SIZE);
+    curBitPosition += bits;
+    for (int i = 0; i < bits;) {
+      int bitsToWriteInCurByte = Math.min(Byte.SIZE - bitPosInCurByte, bits - i);
+      int mask = (1 << bitsToWriteInCurByte) - 1;
+      buffer[curBytesPos] |= ((value >>> i) & mask) << bitPosInCurByte;
+      curBytesPos++;
+      i += bitsToWriteInCurByte;
+      bitPosInCurByte = 0;
+    }
+  }
+
+  public void write8(int value) {
+    writeUnsigned(Byte.SIZE, value & 0xFF);
+  }
+
+  public void write16(int value) {
+    writeUnsigned(Short.SIZE, value & 0xFFFF);
+  }
+
+  public void write32(int value) {
+    writeUnsigned(Integer.SIZE, value & 0xFFFFFFFFL);
+  }
+
+  public void write64(long value) {
+    writeUnsigned(Long.SIZE, value);
+  }
+
+  public void writeBytes(byte[] b) {
+    for (byte value : b) write8(value);
+  }
+
+  /**
+   * Writes {@code len} characters of {@code str}, padded with {@code '\0'} if it is shorter.
+   */
+  public void writeString(String str, int len) {
+    for (int i = 0, s = str == null ? 0 : Math.min(str.length(), len); i < s; i++) write8(str.charAt(i));
+    for (int i = str == null ? 0 : str.length(); i < len; i++) write8('\0');
+  }
+
+  /**
+   * Writes {@code bits} bits of {@code src} starting at bit {@code fromBitPosition}.
+   */
+  public void writeBits(byte[] src, long fromBitPosition, long bits) {
+    BitStream bitStream = new BitStream(src);
+    bitStream.skip(fromBitPosition);
+    for (long remaining = bits; remaining > 0;) {
+      int chunk = (int) Math.min(remaining, Integer.SIZE - 1);
+      writeUnsigned(chunk, bitStream.readUnsigned31OrLess(chunk));
+      remaining -= chunk;
+    }
+  }
+
+  /**
+   * Sets {@code bits} bits of {@code bytes} at bit {@code position} to {@code value}, least
+   * significant bit first, leaving the surrounding bits untouched.
+   */
+  public static void setBits(byte[] bytes, long position, int bits, int value) {
+    for (int i = 0; i < bits; i++, position++) {
+      final int mask = 1 << (position % Byte.SIZE);
+      if (((value >>> i) & 1) == 1) {
+        bytes[(int) (position / Byte.SIZE)] |= mask;
+      } else {
+        bytes[(int) (position / Byte.SIZE)] &= ~mask;
+      }
+    }
+  }
+
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, sizeInBytes());
+  }
+}
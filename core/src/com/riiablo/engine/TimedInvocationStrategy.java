@@ -0,0 +1,67 @@
+package com.riiablo.engine;
+
+import com.artemis.BaseSystem;
+import com.artemis.SystemInvocationStrategy;
+
+import com.riiablo.util.Histogram;
+
+/**
+ * Invokes systems in order like the default strategy while recording the time each system spends
+ * processing, including the entity state changes it causes. Timings are recorded into a
+ * {@link Histogram} per system, indexed in the order systems were registered.
+ */
+public class TimedInvocationStrategy extends SystemInvocationStrategy {
+  final long resolution;
+  final long range;
+
+  Histogram[] histograms;
+  String[] names;
+
+  /**
+   * @see Histogram#Histogram(long, long)
+   */
+  public TimedInvocationStrategy(long resolution, long range) {
+    this.resolution = resolution;
+    this.range = range;
+  }
+
+  @Override
+  protected void initialize() {
+    final int size = systems.size();
+    histograms = new Histogram[size];
+    names = new String[size];
+    for (int i = 0; i < size; i++) {
+      histograms[i] = new Histogram(resolution, range);
+      names[i] = systems.get(i).getClass().getSimpleName();
+    }
+  }
+
+  @Override
+  protected void process() {
+    final BaseSystem[] systemsData = systems.getData();
+    updateEntityStates();
+    for (int i = 0, s = systems.size(); i < s; i++) {
+      if (disabled.get(i)) continue;
+      final long start = System.nanoTime();
+      systemsData[i].process();
+      updateEntityStates();
+      histograms[i].record(System.nanoTime() - start);
+    }
+  }
+
+  public int size() {
+    return histograms.length;
+  }
+
+  public String getName(int index) {
+    return names[index];
+  }
+
+  public Histogram getHistogram(int index) {
+    return histograms[index];
+  }
+
+  public void clear() {
+    for (Histogram histogram : histograms) histogram.clear();
+  }
+}
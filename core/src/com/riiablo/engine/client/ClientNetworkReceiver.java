@@ -1,6 +1,6 @@
 package com.riiablo.engine.client;
 
-import com.google.flatbuffers.ByteBufferUtil;
+import com.google.flatbuffers.FlatBufferBuilder;
 import com.google.flatbuffers.Table;
 
 import com.artemis.ComponentMapper;
@@ -10,6 +10,7 @@ import com.artemis.systems.IntervalSystem;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.net.Socket;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.riiablo.Riiablo;
 import com.riiablo.codec.excel.MonStats;
@@ -22,16 +23,15 @@ import com.riiablo.engine.server.ItemManager;
 import com.riiablo.engine.server.component.Angle;
 import com.riiablo.engine.server.component.Box2DBody;
 import com.riiablo.engine.server.component.Class;
-import com.riiablo.engine.server.component.CofAlphas;
-import com.riiablo.engine.server.component.CofComponents;
 import com.riiablo.engine.server.component.CofReference;
-import com.riiablo.engine.server.component.CofTransforms;
 import com.riiablo.engine.server.component.MapWrapper;
 import com.riiablo.engine.server.component.Player;
 import com.riiablo.engine.server.component.Position;
 import com.riiablo.engine.server.component.Velocity;
 import com.riiablo.item.Item;
 import com.riiablo.map.Map;
+import com.riiablo.net.nio.FrameDecoder;
+import com.riiablo.net.nio.SizePrefixedFramer;
 import com.riiablo.net.packet.d2gs.AngleP;
 import com.riiablo.net.packet.d2gs.BeltToCursor;
 import com.riiablo.net.packet.d2gs.BodyToCursor;
@@ -61,21 +61,20 @@ import com.riiablo.net.packet.d2gs.StoreToCursor;
 import com.riiablo.net.packet.d2gs.SwapBeltItem;
 import com.riiablo.net.packet.d2gs.SwapBodyItem;
 import com.riiablo.net.packet.d2gs.SwapStoreItem;
+import com.riiablo.net.packet.d2gs.SyncAck;
 import com.riiablo.net.packet.d2gs.VelocityP;
 import com.riiablo.net.packet.d2gs.WarpP;
-import com.riiablo.save.CharData;
 import com.riiablo.save.D2S;
-import com.riiablo.util.ArrayUtils;
 import com.riiablo.util.BufferUtils;
-import com.riiablo.util.DebugUtils;
 import com.riiablo.widget.TextArea;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
-import java.util.Arrays;
+import java.nio.channels.WritableByteChannel;
 
 @All
 public class ClientNetworkReceiver extends IntervalSystem {
@@ -85,9 +84,6 @@ public class ClientNetworkReceiver extends IntervalSystem {
   private static final boolean DEBUG_SYNC    = DEBUG && !true;
 
   protected ComponentMapper<CofReference> mCofReference;
-  protected ComponentMapper<CofComponents> mCofComponents;
-  protected ComponentMapper<CofTransforms> mCofTransforms;
-  protected ComponentMapper<CofAlphas> mCofAlphas;
   protected ComponentMapper<Position> mPosition;
   protected ComponentMapper<Velocity> mVelocity;
   protected ComponentMapper<Angle> mAngle;
@@ -112,8 +108,14 @@ public class ClientNetworkReceiver extends IntervalSystem {
   @Wire(name = "output")
   protected TextArea output;
 
-  private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+  final FrameDecoder decoder = new FrameDecoder(SizePrefixedFramer.INSTANCE, ByteBuffer.allocate(1 << 20));
+  private final D2GS d2gs = new D2GS();
+  private ReadableByteChannel channel;
   private final EntitySync sync = new EntitySync();
+  private final IntMap<String> playerNames = new IntMap<>(); // keyed by server entity id
+  private final FlatBufferBuilder ackBuilder = new FlatBufferBuilder(32);
+  private int snapshot;
+  private int acked;
 
   public ClientNetworkReceiver() {
     super(null, 1 / 60f);
@@ -123,22 +125,56 @@ public class ClientNetworkReceiver extends IntervalSystem {
   protected void processSystem() {
     InputStream in = socket.getInputStream();
     try {
-      if (in.available() > 0) {
-        ReadableByteChannel channel = Channels.newChannel(in);
-        buffer.clear();
-        int i = channel.read(buffer);
-        buffer.rewind().limit(i);
-        D2GS d2gs = new D2GS();
-        int p = 0;
-        while (buffer.hasRemaining()) {
-          int size = ByteBufferUtil.getSizePrefix(buffer);
-          D2GS.getRootAsD2GS(ByteBufferUtil.removeSizePrefix(buffer), d2gs);
-          if (DEBUG_PACKET) Gdx.app.debug(TAG, p++ + " packet type " + D2GSData.name(d2gs.dataType()) + ":" + size + "B");
+      int p = 0;
+      while (in.available() > 0) {
+        if (read() == 0) break;
+        for (D2GS d2gs; (d2gs = next()) != null;) {
+          if (DEBUG_PACKET) Gdx.app.debug(TAG, p++ + " packet type " + D2GSData.name(d2gs.dataType()));
           process(d2gs);
-//          System.out.println(buffer.position() + "->" + (buffer.position() + size + 4));
-          buffer.position(buffer.position() + size + 4);
         }
       }
+
+      if (snapshot > acked) ack(snapshot);
+    } catch (Throwable t) {
+      Gdx.app.error(TAG, t.getMessage(), t);
+    }
+  }
+
+  /**
+   * Reads any available bytes from the socket into {@link #decoder}.
+   */
+  int read() throws IOException {
+    if (channel == null) channel = Channels.newChannel(socket.getInputStream());
+    return decoder.read(channel);
+  }
+
+  /**
+   * Returns the next complete packet read from the socket, or {@code null} if none is available.
+   * The returned packet is only valid until the next call to {@link #read()}.
+   */
+  D2GS next() throws IOException {
+    ByteBuffer frame = decoder.next();
+    if (frame == null) return null;
+    frame.position(frame.position() + SizePrefixedFramer.PREFIX_SIZE);
+    return D2GS.getRootAsD2GS(frame, d2gs);
+  }
+
+  /**
+   * Acknowledges that all entity syncs up to and including {@code snapshot} have been received,
+   * so the server can send deltas against it.
+   */
+  private void ack(int snapshot) {
+    FlatBufferBuilder builder = ackBuilder;
+    builder.clear();
+    int dataOffset = SyncAck.createSyncAck(builder, snapshot);
+    int root = D2GS.createD2GS(builder, D2GSData.SyncAck, dataOffset);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+
+    try {
+      OutputStream out = socket.getOutputStream();
+      WritableByteChannel channelOut = Channels.newChannel(out);
+      channelOut.write(builder.dataBuffer());
+      acked = snapshot;
     } catch (Throwable t) {
       Gdx.app.error(TAG, t.getMessage(), t);
     }
@@ -196,59 +232,38 @@ public class ClientNetworkReceiver extends IntervalSystem {
     }
   }
 
+  /**
+   * Announces a player joining the game. The player itself is created by its first full sync once
+   * it comes within range, so players out of range are never created at their town entry.
+   */
   private void Connection(D2GS packet) {
     Connection connection = (Connection) packet.data(new Connection());
     String charName = connection.charName();
-    int charClass = connection.charClass();
+    playerNames.put(connection.entityId(), charName);
 
     output.appendText(Riiablo.string.format(3641, charName));
     output.appendText("\n");
-
-    Vector2 origin = map.find(Map.ID.TOWN_ENTRY_1);
-    if (origin == null) origin = map.find(Map.ID.TOWN_ENTRY_2);
-    if (origin == null) origin = map.find(Map.ID.TP_LOCATION);
-    int entityId = factory.createPlayer(charName, charClass, origin.x, origin.y);
-    syncIds.put(connection.entityId(), entityId);
-    int[] component = mCofComponents.get(entityId).component;
-//    for (int i = 0; i < 16; i++) component[i] = connection.cofComponents(i);
-    float[] alpha = mCofAlphas.get(entityId).alpha;
-//    for (int i = 0; i < 16; i++) alpha[i] = connection.cofAlphas(i) / 255f;
-    byte[] transform = mCofTransforms.get(entityId).transform;
-//    for (int i = 0; i < 16; i++) transform[i] = (byte) connection.cofTransforms(i);
-
-    int alphaFlags = Dirty.NONE;
-    int transformFlags = Dirty.NONE;
-    for (int i = 0; i < 16; i++) {
-      cofs.setComponent(entityId, i, connection.cofComponents(i));
-    }
-    for (int i = 0; i < 16; i++) {
-      alphaFlags |= cofs.setAlpha(entityId, i, connection.cofAlphas(i) / 255f);
-      transformFlags |= cofs.setTransform(entityId, i, (byte) connection.cofTransforms(i));
-    }
-
-    cofs.updateAlpha(entityId, alphaFlags);
-    cofs.updateTransform(entityId, transformFlags);
-    cofs.setMode(entityId, Engine.Player.MODE_TN, true);
-    cofs.setWClass(entityId, Engine.WEAPON_1HS); // TODO...
-
-    System.out.println("  " + DebugUtils.toByteArray(ArrayUtils.toByteArray(component)));
-    System.out.println("  " + Arrays.toString(alpha));
-    System.out.println("  " + DebugUtils.toByteArray(transform));
   }
 
+  /**
+   * Announces a player leaving the game and deletes it if it is in range. Players out of range have
+   * already been despawned, and players who joined before this client are only named by their
+   * entity.
+   */
   private void Disconnect(D2GS packet) {
     Disconnect disconnect = (Disconnect) packet.data(new Disconnect());
     int serverEntityId = disconnect.entityId();
+    String charName = playerNames.remove(serverEntityId);
     int entityId = syncIds.get(serverEntityId);
+    if (entityId != Engine.INVALID_ENTITY) {
+      if (charName == null) charName = mPlayer.get(entityId).data.name;
+      world.delete(entityId);
+    }
 
-    CharData data = mPlayer.get(entityId).data;
-
-    output.appendText(Riiablo.string.format(3642, data.name));
-    output.appendText("\n");
-
-    world.delete(entityId);
-    Body body = mBox2DBody.get(entityId).body;
-    if (body != null) ;
+    if (charName != null) {
+      output.appendText(Riiablo.string.format(3642, charName));
+      output.appendText("\n");
+    }
   }
 
   @Deprecated
@@ -341,8 +356,9 @@ public class ClientNetworkReceiver extends IntervalSystem {
   }
 
   private void Synchronize(EntitySync entityData) {
+    snapshot = Math.max(snapshot, entityData.snapshot());
     int entityId = syncIds.get(entityData.entityId());
-    if ((entityData.flags() & EntityFlags.deleted) == EntityFlags.deleted) {
+    if ((entityData.flags() & (EntityFlags.deleted | EntityFlags.despawned)) != 0) {
       if (entityId != Engine.INVALID_ENTITY) {
         world.delete(entityId);
       }
@@ -351,6 +367,11 @@ public class ClientNetworkReceiver extends IntervalSystem {
     }
 
     if (entityId == Engine.INVALID_ENTITY) {
+      if ((entityData.flags() & EntityFlags.delta) == EntityFlags.delta) {
+        if (DEBUG_SYNC) Gdx.app.debug(TAG, "ignoring delta for unknown entity " + entityData.entityId());
+        return;
+      }
+
       syncIds.put(entityData.entityId(), entityId = createEntity(entityData));
     }
 
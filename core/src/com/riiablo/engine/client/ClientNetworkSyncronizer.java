@@ -1,6 +1,5 @@
 package com.riiablo.engine.client;
 
-import com.google.flatbuffers.ByteBufferUtil;
 import com.google.flatbuffers.FlatBufferBuilder;
 
 import com.artemis.ComponentMapper;
@@ -33,10 +32,7 @@ import com.riiablo.save.CharData;
 import com.riiablo.util.ArrayUtils;
 
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
 @All
@@ -111,31 +107,20 @@ public class ClientNetworkSyncronizer extends IntervalSystem {
       channelOut.write(builder.dataBuffer());
 
       boolean connected = false;
-      ByteBuffer buffer = ByteBuffer.allocate(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
       while (!connected) {
         try {
-          buffer.clear();
-          ReadableByteChannel channelIn = Channels.newChannel(socket.getInputStream());
-          int i = channelIn.read(buffer);
-          buffer.rewind().limit(i);
-          D2GS d2gs = new D2GS();
-          while (buffer.hasRemaining()) {
-            int size = ByteBufferUtil.getSizePrefix(buffer);
-            D2GS.getRootAsD2GS(ByteBufferUtil.removeSizePrefix(buffer), d2gs);
-            if (DEBUG_PACKET) Gdx.app.debug(TAG, "packet type " + D2GSData.name(d2gs.dataType()) + ":" + size + "B");
+          receiver.read();
+          for (D2GS d2gs; (d2gs = receiver.next()) != null;) {
+            if (DEBUG_PACKET) Gdx.app.debug(TAG, "packet type " + D2GSData.name(d2gs.dataType()));
             connected = d2gs.dataType() == D2GSData.Connection;
             if (!connected) {
               if (DEBUG_CONNECT) Gdx.app.debug(TAG, "dropping... ");
-//              System.out.println(buffer.position() + "->" + (buffer.position() + size + 4));
-              buffer.position(buffer.position() + size + 4);
               continue;
             }
             Connection connection = (Connection) d2gs.data(new Connection());
             connected = connection.charName() == null;
             if (!connected) {
               if (DEBUG_CONNECT) Gdx.app.debug(TAG, "dropping... ");
-//              System.out.println(buffer.position() + "->" + (buffer.position() + size + 4));
-              buffer.position(buffer.position() + size + 4);
               continue;
             }
 
@@ -8,7 +8,7 @@ import com.badlogic.gdx.ai.utils.Collision;
 import com.badlogic.gdx.ai.utils.Ray;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Pools;
+import com.badlogic.gdx.utils.Pool;
 import com.riiablo.engine.server.component.Angle;
 import com.riiablo.engine.server.component.Pathfind;
 import com.riiablo.engine.server.component.Position;
@@ -37,6 +37,13 @@ public class Pathfinder extends IteratingSystem {
   private final Ray<Vector2> ray = new Ray<>(new Vector2(), new Vector2());
   private final Collision<Vector2> collision = new Collision<>(new Vector2(), new Vector2());
 
+  private final Pool<GraphPath> paths = new Pool<GraphPath>() {
+    @Override
+    protected GraphPath newObject() {
+      return new GraphPath();
+    }
+  };
+
   @Override
   protected void process(int entityId) {
     Vector2 position0 = mPosition.get(entityId).position;
@@ -97,7 +104,7 @@ public class Pathfinder extends IteratingSystem {
     Vector2 position = mPosition.get(src).position;
     int flags = DT1.Tile.FLAG_BLOCK_WALK;
     int size = mSize.get(src).size;
-    GraphPath path = Pools.obtain(GraphPath.class);
+    GraphPath path = paths.obtain();
     boolean success = findPath(src, position, target, flags, size, path);
     if (success) return true;
     if (raycast) {
@@ -115,17 +122,17 @@ public class Pathfinder extends IteratingSystem {
           velocity.velocity.set(tmpVec2);
 
           mPathfind.remove(src);
-          Pools.free(path);
+          paths.free(path);
           return false;
         }
 
         return true;
       }
 
-      Pools.free(path);
+      paths.free(path);
       return false;
     } else {
-      Pools.free(path);
+      paths.free(path);
       return false;
     }
   }
@@ -46,12 +46,17 @@ import net.mostlyoriginal.api.system.core.PassiveSystem;
 
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.nio.ByteBuffer;
+
 public class SerializationManager extends PassiveSystem {
   private static final String TAG = "SerializationManager";
   private static final boolean DEBUG             = true;
   private static final boolean DEBUG_DESERIALIZE = DEBUG && true;
 
   private static final int INITIAL_SIZE = 64;
+
+  /** Mask of every {@link ComponentP} type, see {@link #serialize(FlatBufferBuilder, int, int, int, int)} */
+  public static final int ALL_COMPONENTS = 0xFFFFFFFF;
   public final Bag<Component> components = new Bag<>(INITIAL_SIZE);
   public final ByteArray dataType = new ByteArray(INITIAL_SIZE);
   public final IntArray data = new IntArray(INITIAL_SIZE);
@@ -59,6 +64,7 @@ public class SerializationManager extends PassiveSystem {
   private ObjectMap<Class<? extends Component>, FlatBuffersSerializer> serializers;
   private Class<? extends Component>[] deserializers;
   private final EntitySync sync = new EntitySync();
+  private final FlatBufferBuilder scratch = new FlatBufferBuilder(256);
 
   protected ComponentMapper<Flags> mFlags;
 
@@ -121,8 +127,17 @@ public class SerializationManager extends PassiveSystem {
     cm[ComponentP.ItemP] = null;
   }
 
-  @SuppressWarnings("unchecked")
   public int serialize(FlatBufferBuilder builder, int entityId) {
+    return serialize(builder, entityId, ALL_COMPONENTS, 0, 0);
+  }
+
+  /**
+   * Serializes the components of the specified entity whose {@link ComponentP} types are set in
+   * {@code componentMask}. A non-zero {@code baseline} marks the sync as a
+   * {@link EntityFlags#delta delta}, i.e., omitted components are unchanged since that snapshot.
+   */
+  @SuppressWarnings("unchecked")
+  public int serialize(FlatBufferBuilder builder, int entityId, int componentMask, int snapshot, int baseline) {
     dataType.clear();
     data.clear();
     components.clear();
@@ -131,16 +146,18 @@ public class SerializationManager extends PassiveSystem {
 
     int flags = mFlags.get(entityId).flags;
     if ((flags & EntityFlags.deleted) == EntityFlags.deleted) {
-      int dataTypeOffset = EntitySync.createComponentTypeVector(builder, ArrayUtils.EMPTY_BYTE_ARRAY);
-      int dataOffset = EntitySync.createComponentVector(builder, ArrayUtils.EMPTY_INT_ARRAY);
-      return EntitySync.createEntitySync(builder, entityId, type, flags, dataTypeOffset, dataOffset);
+      return serializeEmpty(builder, entityId, type, flags, snapshot);
     }
 
+    if (baseline != 0) flags |= EntityFlags.delta;
+
     componentManager.getComponentsFor(entityId, components);
     for (Component c : components) {
       FlatBuffersSerializer serializer = serializers.get(c.getClass());
       if (serializer == null) continue;
-      dataType.add(serializer.getDataType());
+      byte componentType = serializer.getDataType();
+      if ((componentMask & (1 << componentType)) == 0) continue;
+      dataType.add(componentType);
       data.add(serializer.putData(builder, c));
     }
 
@@ -158,7 +175,56 @@ public class SerializationManager extends PassiveSystem {
     for (int i = 0; i < dataSize; i++) builder.addOffset(data[i]);
     int dataOffset = builder.endVector();
 
-    return EntitySync.createEntitySync(builder, entityId, type, flags, dataTypeOffset, dataOffset);
+    return EntitySync.createEntitySync(builder, entityId, type, flags, dataTypeOffset, dataOffset, snapshot, baseline);
+  }
+
+  /**
+   * Serializes a sync telling a client to discard its copy of the specified entity because the
+   * entity is no longer relevant to it.
+   */
+  public int serializeDespawn(FlatBufferBuilder builder, int entityId, int snapshot) {
+    int type = mClass.get(entityId).type.ordinal();
+    return serializeEmpty(builder, entityId, type, EntityFlags.despawned, snapshot);
+  }
+
+  private static int serializeEmpty(FlatBufferBuilder builder, int entityId, int type, int flags, int snapshot) {
+    int dataTypeOffset = EntitySync.createComponentTypeVector(builder, ArrayUtils.EMPTY_BYTE_ARRAY);
+    int dataOffset = EntitySync.createComponentVector(builder, ArrayUtils.EMPTY_INT_ARRAY);
+    return EntitySync.createEntitySync(builder, entityId, type, flags, dataTypeOffset, dataOffset, snapshot, 0);
+  }
+
+  /**
+   * Fingerprints the serialized form of each component of the specified entity into
+   * {@code fingerprints}, indexed by {@link ComponentP} type, and returns the mask of types present.
+   * Fingerprints are only meaningful when compared against those of the same entity.
+   */
+  @SuppressWarnings("unchecked")
+  public int fingerprint(int entityId, long[] fingerprints) {
+    components.clear();
+    componentManager.getComponentsFor(entityId, components);
+    int componentMask = 0;
+    for (Component c : components) {
+      FlatBuffersSerializer<Component, ?> serializer = serializers.get(c.getClass());
+      if (serializer == null) continue;
+      byte componentType = serializer.getDataType();
+      scratch.clear();
+      scratch.finish(serializer.putData(scratch, c));
+      fingerprints[componentType] = fingerprint(scratch.dataBuffer());
+      componentMask |= 1 << componentType;
+    }
+
+    return componentMask;
+  }
+
+  /** 64-bit FNV-1a of the remaining bytes of {@code buffer} */
+  static long fingerprint(ByteBuffer buffer) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = buffer.position(), s = buffer.limit(); i < s; i++) {
+      hash ^= buffer.get(i) & 0xFF;
+      hash *= 0x100000001B3L;
+    }
+
+    return hash;
   }
 
   public void deserialize(int entityId, D2GS packet) {
@@ -9,7 +9,7 @@ import com.riiablo.net.packet.d2gs.ComponentP;
 import com.riiablo.net.packet.d2gs.EntitySync;
 
 public class AngleSerializer implements FlatBuffersSerializer<Angle, AngleP> {
-  public static final AngleP table = new AngleP();
+  private final AngleP table = new AngleP();
 
   @Override
   public byte getDataType() {
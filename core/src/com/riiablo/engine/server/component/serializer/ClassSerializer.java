@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.EntitySync;
 import com.riiablo.net.packet.d2gs.ComponentP;
 
 public class ClassSerializer implements FlatBuffersSerializer<Class, ClassP> {
-  public static final ClassP table = new ClassP();
+  private final ClassP table = new ClassP();
 
   @Override
   public byte getDataType() {
@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.ComponentP;
 import com.riiablo.net.packet.d2gs.EntitySync;
 
 public class CofAlphasSerializer implements FlatBuffersSerializer<CofAlphas, CofAlphasP> {
-  public static final CofAlphasP table = new CofAlphasP();
+  private final CofAlphasP table = new CofAlphasP();
 
   @Override
   public byte getDataType() {
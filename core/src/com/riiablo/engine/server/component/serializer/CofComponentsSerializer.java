@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.EntitySync;
 import com.riiablo.net.packet.d2gs.ComponentP;
 
 public class CofComponentsSerializer implements FlatBuffersSerializer<CofComponents, CofComponentsP> {
-  public static final CofComponentsP table = new CofComponentsP();
+  private final CofComponentsP table = new CofComponentsP();
 
   @Override
   public byte getDataType() {
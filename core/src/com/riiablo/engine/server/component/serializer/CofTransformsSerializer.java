@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.EntitySync;
 import com.riiablo.net.packet.d2gs.ComponentP;
 
 public class CofTransformsSerializer implements FlatBuffersSerializer<CofTransforms, CofTransformsP> {
-  public static final CofTransformsP table = new CofTransformsP();
+  private final CofTransformsP table = new CofTransformsP();
 
   @Override
   public byte getDataType() {
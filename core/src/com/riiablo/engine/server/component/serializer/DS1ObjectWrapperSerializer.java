@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.EntitySync;
 import com.riiablo.net.packet.d2gs.ComponentP;
 
 public class DS1ObjectWrapperSerializer implements FlatBuffersSerializer<DS1ObjectWrapper, DS1ObjectWrapperP> {
-  public static final DS1ObjectWrapperP table = new DS1ObjectWrapperP();
+  private final DS1ObjectWrapperP table = new DS1ObjectWrapperP();
 
   @Override
   public byte getDataType() {
@@ -11,7 +11,7 @@ import com.riiablo.net.packet.d2gs.ItemP;
 import com.riiablo.util.BufferUtils;
 
 public class ItemSerializer implements FlatBuffersSerializer<Item, ItemP> {
-  public static final ItemP table = new ItemP();
+  private final ItemP table = new ItemP();
 
   @Override
   public byte getDataType() {
@@ -20,7 +20,7 @@ public class ItemSerializer implements FlatBuffersSerializer<Item, ItemP> {
 
   @Override
   public int putData(FlatBufferBuilder builder, Item c) {
-    int dataOffset = ItemP.createDataVector(builder, c.item.data);
+    int dataOffset = ItemP.createDataVector(builder, c.item.serialize());
     return ItemP.createItemP(builder, dataOffset);
   }
 
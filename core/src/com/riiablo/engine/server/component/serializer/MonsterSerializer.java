@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.MonsterP;
 import com.riiablo.net.packet.d2gs.ComponentP;
 
 public class MonsterSerializer implements FlatBuffersSerializer<Monster, MonsterP> {
-  public static final MonsterP table = new MonsterP();
+  private final MonsterP table = new MonsterP();
 
   @Override
   public byte getDataType() {
@@ -9,7 +9,7 @@ import com.riiablo.net.packet.d2gs.PlayerP;
 import com.riiablo.save.CharData;
 
 public class PlayerSerializer implements FlatBuffersSerializer<Player, PlayerP> {
-  public static final PlayerP table = new PlayerP();
+  private final PlayerP table = new PlayerP();
 
   @Override
   public byte getDataType() {
@@ -9,7 +9,7 @@ import com.riiablo.net.packet.d2gs.PositionP;
 import com.riiablo.net.packet.d2gs.ComponentP;
 
 public class PositionSerializer implements FlatBuffersSerializer<Position, PositionP> {
-  public static final PositionP table = new PositionP();
+  private final PositionP table = new PositionP();
 
   @Override
   public byte getDataType() {
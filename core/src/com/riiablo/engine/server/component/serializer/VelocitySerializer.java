@@ -9,7 +9,7 @@ import com.riiablo.net.packet.d2gs.ComponentP;
 import com.riiablo.net.packet.d2gs.VelocityP;
 
 public class VelocitySerializer implements FlatBuffersSerializer<Velocity, VelocityP> {
-  public static final VelocityP table = new VelocityP();
+  private final VelocityP table = new VelocityP();
 
   @Override
   public byte getDataType() {
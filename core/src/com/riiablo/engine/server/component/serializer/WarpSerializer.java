@@ -8,7 +8,7 @@ import com.riiablo.net.packet.d2gs.ComponentP;
 import com.riiablo.net.packet.d2gs.WarpP;
 
 public class WarpSerializer implements FlatBuffersSerializer<Warp, WarpP> {
-  public static final WarpP table = new WarpP();
+  private final WarpP table = new WarpP();
 
   @Override
   public byte getDataType() {
@@ -1,6 +1,8 @@
 package com.riiablo.item;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.Pool;
 import com.riiablo.Riiablo;
 import com.riiablo.codec.excel.CharStats;
 import com.riiablo.codec.excel.ItemStatCost;
@@ -12,6 +14,15 @@ public class Attributes {
   final Array<PropertyList> propertyLists = new Array<>();
   //final Bits mod = new Bits(1 << Stat.BITS);
 
+  /**
+   * base plus every {@link Contribution} added, {@link #agg} is copied from this by
+   * {@link #apply()} so that changes made to the aggregate afterwards do not accumulate
+   */
+  final PropertyList sum = new PropertyList();
+  /** number of contributions added to each stat of {@link #sum} and {@link #rem} */
+  final IntIntMap sumCounts = new IntIntMap();
+  final IntIntMap remCounts = new IntIntMap();
+
   public PropertyList base() {
     return base;
   }
@@ -50,30 +61,134 @@ public class Attributes {
 
   public void update(Attributes attrs, CharStats.Entry charStats) {
     for (PropertyList list : propertyLists) {
-      if (list != null) update(attrs, charStats, list);
+      if (list != null) update(attrs.agg, charStats, list, agg, agg, rem);
+    }
+  }
+
+  /**
+   * Removes every contribution, leaving only the base stats. Call {@link #apply()} once the
+   * contributions have been added again.
+   */
+  public void resetContributions() {
+    sum.clear();
+    sum.deepCopy(base);
+    sumCounts.clear();
+    rem.clear();
+    remCounts.clear();
+    propertyLists.clear();
+  }
+
+  /**
+   * Computes what {@link #update} would add to these attributes for {@code list} into
+   * {@code contribution} without adding it.
+   */
+  public void contribute(Contribution contribution, CharStats.Entry charStats, PropertyList list) {
+    update(sum, charStats, list, sum, contribution.agg, contribution.rem);
+  }
+
+  /**
+   * Adds {@code stat} as is to the aggregate stats {@code contribution} will add.
+   */
+  public void contribute(Contribution contribution, Stat stat) {
+    contribution.agg.add(stat);
+  }
+
+  public void add(Contribution contribution) {
+    final PropertyList agg = contribution.agg;
+    for (int i = 0, s = agg.size; i < s; i++) {
+      sum.add(agg, i);
+      sumCounts.getAndIncrement(agg.hashes[i], 0, 1);
+    }
+
+    final PropertyList rem = contribution.rem;
+    for (int i = 0, s = rem.size; i < s; i++) {
+      this.rem.add(rem, i);
+      remCounts.getAndIncrement(rem.hashes[i], 0, 1);
     }
   }
 
-  private void update(Attributes attrs, CharStats.Entry charStats, PropertyList list) {
-    for (Stat stat : list) {
-      if (stat.entry.op > 0) {
-        boolean empty = op(attrs, charStats, stat, stat.entry);
+  /**
+   * Removes a contribution previously {@link #add(Contribution) added}. Stats which no other
+   * contribution adds to are restored exactly, otherwise the contribution is subtracted. Stats
+   * packing several values into one saturate when added and cannot be subtracted.
+   *
+   * @return {@code false} if a stat could not be subtracted, in which case the contributions must
+   *         be {@link #resetContributions() reset} and added again
+   */
+  public boolean remove(Contribution contribution) {
+    boolean exact = true;
+    final PropertyList agg = contribution.agg;
+    for (int i = 0, s = agg.size; i < s; i++) {
+      exact &= subtract(sum, sumCounts, agg, i);
+    }
+
+    final PropertyList rem = contribution.rem;
+    for (int i = 0, s = rem.size; i < s; i++) {
+      exact &= subtract(this.rem, remCounts, rem, i);
+    }
+
+    return exact;
+  }
+
+  private boolean subtract(PropertyList dst, IntIntMap counts, PropertyList src, int i) {
+    final int hash = src.hashes[i];
+    final int count = counts.getAndIncrement(hash, 0, -1) - 1;
+    if (count <= 0) {
+      counts.remove(hash, 0);
+      final int slot = dst == sum ? base.indexOf(hash) : -1;
+      if (slot == -1) {
+        dst.remove(hash);
+      } else {
+        dst.set(base, slot);
+      }
+
+      return true;
+    }
+
+    final int slot = dst.indexOf(hash);
+    switch (dst.entries[slot].Encode) {
+      case 3:
+      case 4:
+        return false;
+      default:
+        dst.values[slot] -= src.values[i];
+        return true;
+    }
+  }
+
+  /**
+   * Sets the aggregate stats to the base stats plus the contributions added.
+   */
+  public void apply() {
+    agg.clear();
+    agg.deepCopy(sum);
+  }
+
+  /**
+   * Applies {@code list} against {@code keys}, adding the stats it modifies to {@code agg} and
+   * the remainder to {@code rem}. {@code totals} are referenced by ops which scale by another stat.
+   */
+  private void update(PropertyList totals, CharStats.Entry charStats, PropertyList list, PropertyList keys, PropertyList agg, PropertyList rem) {
+    for (int i = 0, s = list.size; i < s; i++) {
+      ItemStatCost.Entry entry = list.entries[i];
+      if (entry.op > 0) {
+        boolean empty = op(totals, charStats, list, i, entry, keys, agg);
         if (empty) {
-          rem.addCopy(stat);
+          rem.add(list, i);
         }
-      } else if (base.get(stat.hash) == null) {
-        rem.addCopy(stat);
+      } else if (!base.contains(list.hashes[i])) {
+        rem.add(list, i);
       } else {
-        agg.addCopy(stat);
+        agg.add(list, i);
         //mod.set(stat.id);
       }
     }
   }
 
-  private boolean op(Attributes attrs, CharStats.Entry charStats, Stat stat, ItemStatCost.Entry entry) {
+  private boolean op(PropertyList totals, CharStats.Entry charStats, PropertyList list, int stat, ItemStatCost.Entry entry, PropertyList keys, PropertyList agg) {
     int op = entry.op;
     int op_base = entry.op_param > 0
-        ? attrs.get(Riiablo.files.ItemStatCost.index(entry.op_base)).val
+        ? totals.value(Riiablo.files.ItemStatCost.index(entry.op_base))
         : 1;
     int op_param = entry.op_param;
 
@@ -81,9 +196,9 @@ public class Attributes {
     for (String op_stat : entry.op_stat) {
       if (op_stat.isEmpty()) break;
       int statId = Riiablo.files.ItemStatCost.index(op_stat);
-      Stat opstat = agg.get(statId);
-      if (opstat != null) {
-        opstat.add(op(charStats, stat, base.get(statId), op, op_base, op_param));
+      if (keys.contains(statId)) {
+        int value = op(charStats, list, stat, statId, op, op_base, op_param, agg);
+        agg.addValue(agg.slotFor(statId), value);
         //mod.set(opstat.id);
         opCount++;
       }
@@ -91,35 +206,55 @@ public class Attributes {
     return opCount == 0;
   }
 
-  private int op(CharStats.Entry charStats, Stat stat, Stat opstat, int op, int op_base, int op_param) {
+  private int op(CharStats.Entry charStats, PropertyList list, int stat, int opstat, int op, int op_base, int op_param, PropertyList agg) {
+    final int value = list.values[stat];
     switch (op) {
-      case 1:  return (stat.val * opstat.val) / 100;
-      case 2:  return (stat.val * op_base) / (1 << op_param);
-      case 3:  return (stat.val * op_base) / (1 << op_param) * opstat.val / 100;
-      case 4:  return (stat.val * op_base) / (1 << op_param);
-      case 5:  return (stat.val * op_base) / (1 << op_param) * opstat.val / 100;
+      case 1:  return (value * base.value(opstat)) / 100;
+      case 2:  return (value * op_base) / (1 << op_param);
+      case 3:  return (value * op_base) / (1 << op_param) * base.value(opstat) / 100;
+      case 4:  return (value * op_base) / (1 << op_param);
+      case 5:  return (value * op_base) / (1 << op_param) * base.value(opstat) / 100;
       case 6:  return 0; // by-time
       case 7:  return 0; // by-time percent
       case 8:
         if (charStats == null) return 0;
-        agg.addCopy(stat);
+        agg.add(list, stat);
         //mod.set(stat.id);
-        return stat.val * charStats.ManaPerMagic; // max mana
+        return value * charStats.ManaPerMagic; // max mana
       case 9:
         if (charStats == null) return 0;
-        if (opstat.id == Stat.maxhp) { // only increment vit on maxhp op
-          agg.addCopy(stat);
+        if (opstat == Stat.maxhp) { // only increment vit on maxhp op
+          agg.add(list, stat);
           //mod.set(stat.id);
         }
-        return stat.val // max hitpoints
-          * (opstat.id == Stat.maxhp
+        return value // max hitpoints
+          * (opstat == Stat.maxhp
           ? charStats.LifePerVitality
           : charStats.StaminaPerVitality);
       case 10: return 0; // no-op
-      case 11: return (stat.val * opstat.val) / 100; // TODO: modify field value? used with item_maxhp_percent and item_maxmana_percent
+      case 11: return (value * base.value(opstat)) / 100; // TODO: modify field value? used with item_maxhp_percent and item_maxmana_percent
       case 12: return 0; // no-op
-      case 13: return (stat.val * opstat.val) / 100;
-      default: throw new AssertionError("Unsupported op: " + op + " for " + stat);
+      case 13: return (value * base.value(opstat)) / 100;
+      default: throw new AssertionError("Unsupported op: " + op + " for " + list.view(stat));
+    }
+  }
+
+  /**
+   * Stats a single source, e.g., an item, adds to {@link Attributes}, so that it can be added and
+   * later removed again without recomputing every other source.
+   *
+   * @see #contribute(Contribution, CharStats.Entry, PropertyList)
+   * @see #add(Contribution)
+   * @see #remove(Contribution)
+   */
+  public static class Contribution implements Pool.Poolable {
+    final PropertyList agg = new PropertyList();
+    final PropertyList rem = new PropertyList();
+
+    @Override
+    public void reset() {
+      agg.clear();
+      rem.clear();
     }
   }
 }
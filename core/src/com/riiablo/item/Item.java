@@ -30,8 +30,10 @@ import com.riiablo.codec.excel.UniqueItems;
 import com.riiablo.codec.excel.Weapons;
 import com.riiablo.codec.util.BBox;
 import com.riiablo.codec.util.BitStream;
+import com.riiablo.codec.util.BitWriter;
 import com.riiablo.graphics.PaletteIndexedBatch;
 import com.riiablo.graphics.PaletteIndexedColorDrawable;
+import com.riiablo.save.D2S;
 import com.riiablo.widget.Label;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -125,7 +127,12 @@ public class Item extends Actor implements Disposable {
     WEAPON_DESC.put("orb", "WeaponDescOrb");
   }
 
+  /** bits of this item as read, preceded by the section header of its source */
   public byte     data[];
+  /** position of this item within {@link #data}, in bits */
+  public int      bitOffset;
+  /** size of this item within {@link #data}, in bits */
+  public int      bitLength;
 
   public int      flags;
   public int      version; // 0 = pre-1.08; 1 = 1.08/1.09 normal; 2 = 1.10 normal; 100 = 1.08/1.09 expansion; 101 = 1.10 expansion
@@ -173,12 +180,23 @@ public class Item extends Actor implements Disposable {
 
   Item() {}
 
+  /**
+   * Returns the bits of this item preceded by their section header. The header fields which may be
+   * changed without changing the layout of the remaining bits, i.e., its flags and location, are
+   * re-encoded first.
+   */
   public byte[] serialize() {
+    BitWriter.setBits(data, bitOffset     , Integer.SIZE, flags);
+    BitWriter.setBits(data, bitOffset + 42, 3, location.ordinal());
+    BitWriter.setBits(data, bitOffset + 45, 4, bodyLoc.ordinal());
+    BitWriter.setBits(data, bitOffset + 49, 4, gridX);
+    BitWriter.setBits(data, bitOffset + 53, 4, gridY);
+    BitWriter.setBits(data, bitOffset + 57, 3, storeLoc.ordinal());
     return data;
   }
 
   private Item read(BitStream bitStream) {
-    data     = bitStream.getBufferView();
+    final long start = bitStream.bitPositionInBuffer();
     flags    = bitStream.read32BitsOrLess(Integer.SIZE);
     version  = bitStream.readUnsigned8OrLess(8);
     bitStream.skip(2); // TODO: Unknown, likely included with location, should log at some point to check
@@ -345,6 +363,12 @@ public class Item extends Actor implements Disposable {
       //System.out.println(getName() + " : " + Arrays.toString(stats) + " : " + Integer.toBinaryString(listsFlags));
     }
 
+    // retain only this item's own bits and the section header callers skip before it, the stream
+    // may hold an entire save
+    final long from = Math.max(0, start - D2S.ItemData.SECTION_HEADER_BITS);
+    bitLength = (int) (bitStream.bitPositionInBuffer() - start);
+    bitOffset = (int) (start - from + from % Byte.SIZE);
+    data      = bitStream.copyBytes(from, start + bitLength);
     return this;
   }
 
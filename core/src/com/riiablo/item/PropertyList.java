@@ -3,13 +3,15 @@ package com.riiablo.item;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.riiablo.Riiablo;
 import com.riiablo.codec.excel.ItemStatCost;
 import com.riiablo.codec.excel.Properties;
 import com.riiablo.codec.util.BitStream;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class PropertyList implements Iterable<Stat> {
   private static final String TAG = "PropertyList";
@@ -26,12 +28,302 @@ public class PropertyList implements Iterable<Stat> {
   private static final int[] MINDMG2     = {Stat.mindamage, Stat.secondary_mindamage, Stat.item_throw_mindamage};
   private static final int[] MAXDMG2     = {Stat.maxdamage, Stat.secondary_maxdamage, Stat.item_throw_maxdamage};
 
-  final IntMap<Stat> props = new IntMap<>();
+  private static final int DEFAULT_CAPACITY = 8;
+
+  /**
+   * Stats are stored as parallel arrays indexed by slot, slots [0,size) are occupied. Slots are
+   * located by {@link Stat#hash(int, int) hash} through {@link #index}, an open-addressed table of
+   * slot + 1 (0 is empty) which is kept at most half full.
+   */
+  int size;
+  int[] hashes;
+  int[] ids;
+  int[] params;
+  int[] values;
+  ItemStatCost.Entry[] entries;
+  boolean[] modified;
+
+  /** views of each slot, created when first requested and reused after */
+  Stat[] views;
+  /** stats standing in for others which were combined by {@link #reduce()} */
+  Stat[] aggregates;
+
+  int[] index;
+  int shift;
+
+  /** reused by {@link #iterator()}, alternating so that a stale iterator is detected */
+  private StatIterator iterator1, iterator2;
+
+  PropertyList() {
+    this(DEFAULT_CAPACITY);
+  }
 
-  PropertyList() {}
+  PropertyList(int capacity) {
+    allocate(Math.max(MathUtils.nextPowerOfTwo(capacity), DEFAULT_CAPACITY));
+  }
 
   PropertyList(PropertyList src) {
-    props.putAll(src.props);
+    this(src.size);
+    for (int i = 0; i < src.size; i++) set(src, i);
+    System.arraycopy(src.aggregates, 0, aggregates, 0, src.size);
+  }
+
+  private void allocate(int capacity) {
+    hashes     = new int[capacity];
+    ids        = new int[capacity];
+    params     = new int[capacity];
+    values     = new int[capacity];
+    entries    = new ItemStatCost.Entry[capacity];
+    modified   = new boolean[capacity];
+    views      = new Stat[capacity];
+    aggregates = new Stat[capacity];
+    index      = new int[capacity << 1];
+    shift      = Integer.numberOfLeadingZeros(index.length - 1);
+  }
+
+  private void grow() {
+    final int capacity = hashes.length << 1;
+    hashes     = Arrays.copyOf(hashes, capacity);
+    ids        = Arrays.copyOf(ids, capacity);
+    params     = Arrays.copyOf(params, capacity);
+    values     = Arrays.copyOf(values, capacity);
+    entries    = Arrays.copyOf(entries, capacity);
+    modified   = Arrays.copyOf(modified, capacity);
+    views      = Arrays.copyOf(views, capacity);
+    aggregates = Arrays.copyOf(aggregates, capacity);
+    index      = new int[capacity << 1];
+    shift      = Integer.numberOfLeadingZeros(index.length - 1);
+    for (int i = 0; i < size; i++) index[free(hashes[i])] = i + 1;
+  }
+
+  private int place(int hash) {
+    return (hash * 0x9E3779B9) >>> shift;
+  }
+
+  /** returns the position of {@code hash} within {@link #index}, or -1 if absent */
+  private int find(int hash) {
+    final int mask = index.length - 1;
+    for (int i = place(hash), slot; (slot = index[i]) != 0; i = (i + 1) & mask) {
+      if (hashes[slot - 1] == hash) return i;
+    }
+
+    return -1;
+  }
+
+  /** returns the first empty position for {@code hash} within {@link #index} */
+  private int free(int hash) {
+    final int mask = index.length - 1;
+    int i = place(hash);
+    while (index[i] != 0) i = (i + 1) & mask;
+    return i;
+  }
+
+  /** empties a position of {@link #index}, shifting back entries which probed past it */
+  private void unindex(int i) {
+    final int mask = index.length - 1;
+    for (int j = (i + 1) & mask, slot; (slot = index[j]) != 0; j = (j + 1) & mask) {
+      final int place = place(hashes[slot - 1]);
+      if (((j - place) & mask) >= ((j - i) & mask)) {
+        index[i] = slot;
+        i = j;
+      }
+    }
+
+    index[i] = 0;
+  }
+
+  /**
+   * Returns the slot of the stat with the specified hash, or -1 if absent.
+   */
+  int indexOf(int hash) {
+    final int i = find(hash);
+    return i == -1 ? -1 : index[i] - 1;
+  }
+
+  /**
+   * Returns the slot for the specified stat, appending an empty one if absent.
+   */
+  private int slot(int hash) {
+    int slot = indexOf(hash);
+    if (slot >= 0) return slot;
+    if (size == hashes.length) grow();
+    slot = size++;
+    index[free(hash)] = slot + 1;
+    hashes[slot] = hash;
+    aggregates[slot] = null;
+    return slot;
+  }
+
+  /**
+   * Sets the stat with the specified id and param, replacing any existing value.
+   *
+   * @return the slot of the stat
+   */
+  int put(int stat, int param, int value) {
+    return put(stat, param, value, entry(stat));
+  }
+
+  /**
+   * Sets the stat with the specified id and param and its {@code ItemStatCost} entry, replacing
+   * any existing value.
+   *
+   * @return the slot of the stat
+   */
+  int put(int stat, int param, int value, ItemStatCost.Entry entry) {
+    final int slot = slot(Stat.hash(stat, param));
+    ids[slot]      = stat;
+    params[slot]   = param;
+    values[slot]   = value;
+    entries[slot]  = entry;
+    modified[slot] = false;
+    aggregates[slot] = null;
+    return slot;
+  }
+
+  /**
+   * Returns the {@code ItemStatCost} entry of the specified stat.
+   */
+  ItemStatCost.Entry entry(int stat) {
+    return Riiablo.files.ItemStatCost.get(stat);
+  }
+
+  /**
+   * Returns the slot of the specified stat, putting it with a value of 0 if absent.
+   */
+  int slotFor(int stat) {
+    final int slot = indexOf(stat);
+    return slot >= 0 ? slot : put(stat, 0, 0);
+  }
+
+  /**
+   * Sets the stat in slot {@code i} of {@code src}, replacing any existing value.
+   */
+  void set(PropertyList src, int i) {
+    final int slot = slot(src.hashes[i]);
+    ids[slot]      = src.ids[i];
+    params[slot]   = src.params[i];
+    values[slot]   = src.values[i];
+    entries[slot]  = src.entries[i];
+    modified[slot] = src.modified[i];
+    aggregates[slot] = null;
+  }
+
+  /**
+   * Adds the stat in slot {@code i} of {@code src} to any existing value of it.
+   */
+  void add(PropertyList src, int i) {
+    add(src.hashes[i], src.ids[i], src.params[i], src.values[i], src.entries[i], src.modified[i]);
+  }
+
+  private void add(int hash, int id, int param, int value, ItemStatCost.Entry entry, boolean modified) {
+    assert id == 0 || hash != 0;
+    int slot = indexOf(hash);
+    if (slot >= 0) {
+      values[slot] = Stat.add(entries[slot].Encode, values[slot], value);
+      this.modified[slot] = true;
+    } else {
+      slot = slot(hash);
+      ids[slot]      = id;
+      params[slot]   = param;
+      values[slot]   = value;
+      entries[slot]  = entry;
+      this.modified[slot] = modified;
+    }
+  }
+
+  /**
+   * Adds {@code value} to the stat in the specified slot.
+   *
+   * @see Stat#add(int)
+   */
+  void addValue(int slot, int value) {
+    final int encoding = entries[slot].Encode;
+    switch (encoding) {
+      case 3:
+      case 4:
+        Gdx.app.error(TAG, "add unsupported when Encoding = " + encoding);
+        break;
+      default:
+        values[slot] += value;
+    }
+    modified[slot] = true;
+  }
+
+  /**
+   * Returns the raw value of the stat with the specified hash, or 0 if absent.
+   */
+  int value(int hash) {
+    final int slot = indexOf(hash);
+    return slot == -1 ? 0 : values[slot];
+  }
+
+  boolean contains(int hash) {
+    return find(hash) != -1;
+  }
+
+  void remove(int hash) {
+    final int i = find(hash);
+    if (i == -1) return;
+    final int slot = index[i] - 1;
+    unindex(i);
+    final int last = --size;
+    if (slot != last) {
+      index[find(hashes[last])] = slot + 1;
+      hashes[slot]     = hashes[last];
+      ids[slot]        = ids[last];
+      params[slot]     = params[last];
+      values[slot]     = values[last];
+      entries[slot]    = entries[last];
+      modified[slot]   = modified[last];
+      aggregates[slot] = aggregates[last];
+
+      // views follow the stats they were created for
+      Stat view = views[slot];
+      views[slot] = views[last];
+      views[last] = view;
+      if (views[slot] != null) views[slot].slot = slot;
+      if (view != null) view.slot = last;
+    }
+
+    aggregates[last] = null;
+  }
+
+  /**
+   * Returns a view of the stat in the specified slot. The view is owned by this list and reflects
+   * the slot at the time it was returned, changes made through {@link Stat#add(Stat)} and similar
+   * are written back.
+   */
+  Stat view(int slot) {
+    if (aggregates[slot] != null) return aggregates[slot];
+    Stat view = views[slot];
+    if (view == null) {
+      view = views[slot] = new Stat();
+      view.list = this;
+      view.slot = slot;
+    }
+
+    view.hash     = hashes[slot];
+    view.id       = ids[slot];
+    view.param    = params[slot];
+    view.val      = values[slot];
+    view.entry    = entries[slot];
+    view.modified = modified[slot];
+    return view;
+  }
+
+  /**
+   * Writes back changes made to a view returned by {@link #view(int)}.
+   */
+  void store(Stat view) {
+    final int slot = view.slot;
+    if (slot >= size || views[slot] != view || hashes[slot] != view.hash) return;
+    values[slot]   = view.val;
+    modified[slot] = view.modified;
+  }
+
+  /** returns a copy of the stat in the specified slot which does not belong to this list */
+  private Stat detach(int slot) {
+    return Stat.obtain(view(slot));
   }
 
   public PropertyList copy() {
@@ -39,37 +331,81 @@ public class PropertyList implements Iterable<Stat> {
   }
 
   public void deepCopy(PropertyList src) {
-    for (IntMap.Entry<Stat> entry : src.props.entries()) {
-      props.put(entry.key, entry.value.copy());
-    }
+    for (int i = 0; i < src.size; i++) set(src, i);
   }
 
+  /**
+   * Returns an iterator over the stats of this list. The same iterators are reused by each call,
+   * as with libGDX collections, so iterations over the same list cannot be nested.
+   */
   @Override
   public Iterator<Stat> iterator() {
-    return props.values();
+    if (iterator1 == null) {
+      iterator1 = new StatIterator();
+      iterator2 = new StatIterator();
+    }
+
+    if (!iterator1.valid) {
+      iterator1.next = 0;
+      iterator1.valid = true;
+      iterator2.valid = false;
+      return iterator1;
+    }
+
+    iterator2.next = 0;
+    iterator2.valid = true;
+    iterator1.valid = false;
+    return iterator2;
+  }
+
+  private final class StatIterator implements Iterator<Stat> {
+    int next;
+    boolean valid;
+
+    @Override
+    public boolean hasNext() {
+      if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+      return next < size;
+    }
+
+    @Override
+    public Stat next() {
+      if (next >= size) throw new NoSuchElementException();
+      if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+      return view(next++);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
   }
 
   public void clear() {
-    props.clear();
+    Arrays.fill(index, 0);
+    Arrays.fill(aggregates, 0, size, null);
+    size = 0;
   }
 
   public int size() {
-    return props.size;
+    return size;
   }
 
   public void put(int stat, int value) {
-    props.put(stat, Stat.obtain(stat, value));
+    put(stat, 0, value);
   }
 
   Stat get() {
-    //assert props.size == 1;
-    return props.entries().next().value;
+    //assert size == 1;
+    return view(0);
   }
 
   public int read(int stat, BitStream bitStream) {
-    Stat instance = Stat.obtain(stat, bitStream);
-    props.put(instance.hash, instance);
-    return instance.val;
+    ItemStatCost.Entry entry = entry(stat);
+    int param = bitStream.readUnsigned31OrLess(entry.Save_Param_Bits);
+    int value = bitStream.readUnsigned31OrLess(entry.Save_Bits) - entry.Save_Add;
+    put(stat, param, value, entry);
+    return value;
   }
 
   public PropertyList read(BitStream bitStream) {
@@ -83,127 +419,119 @@ public class PropertyList implements Iterable<Stat> {
   }
 
   public Stat get(int stat) {
-    return props.get(stat);
+    final int slot = indexOf(stat);
+    return slot == -1 ? null : view(slot);
   }
 
   public Array<Stat> toArray() {
-    return props.values().toArray();
+    Array<Stat> array = new Array<>(true, Math.max(size, 1), Stat.class);
+    for (int i = 0; i < size; i++) array.add(view(i));
+    return array;
   }
 
   public void add(Stat stat) {
-    assert stat.id == 0 || stat.hash != 0;
-    Stat existing = props.get(stat.hash);
-    if (existing != null) {
-      existing.add(stat);
-    } else {
-      props.put(stat.hash, stat);
-    }
+    add(stat.hash, stat.id, stat.param, stat.val, stat.entry, stat.modified);
   }
 
   public void addCopy(Stat stat) {
-    assert stat.id == 0 || stat.hash != 0;
-    Stat existing = props.get(stat.hash);
-    if (existing != null) {
-      existing.add(stat);
-    } else {
-      props.put(stat.hash, stat.copy());
-    }
+    add(stat);
   }
 
   public PropertyList addAll(PropertyList other) {
-    for (Stat stat : other.props.values()) {
-      add(stat);
-    }
-
+    for (int i = 0; i < other.size; i++) add(other, i);
     return this;
   }
 
   public PropertyList reduce() {
     if (containsAll(ATTRIBUTES) && allEqual(ATTRIBUTES)) {
-      int value = props.get(ATTRIBUTES[0]).val;
-      for (int attr : ATTRIBUTES) props.remove(attr);
+      int value = value(ATTRIBUTES[0]);
+      for (int attr : ATTRIBUTES) remove(attr);
       put(Stat.all_attributes, value);
     }
 
     if (containsAll(RESISTS) && allEqual(RESISTS)) {
-      int value = props.get(RESISTS[0]).val;
-      for (int attr : RESISTS) props.remove(attr);
+      int value = value(RESISTS[0]);
+      for (int attr : RESISTS) remove(attr);
       put(Stat.all_resistances, value);
     }
 
     if (containsAll(ENHANCEDDMG) && allEqual(ENHANCEDDMG)) {
-      int value = props.get(ENHANCEDDMG[0]).val;
-      for (int attr : ENHANCEDDMG) props.remove(attr);
+      int value = value(ENHANCEDDMG[0]);
+      for (int attr : ENHANCEDDMG) remove(attr);
       put(Stat.enhanceddam, value);
     }
 
     if (containsAll(MINDMG)) {
-      Stat mindamage = get(Stat.mindamage);
-      Stat maxdamage = get(Stat.maxdamage);
-      for (int attr : MINDMG) props.remove(attr);
-      props.put(Stat.mindam, new Stat.Aggregate(Stat.mindam, "strModMinDamage", "strModMinDamageRange", mindamage, maxdamage));
+      Stat mindamage = detach(indexOf(Stat.mindamage));
+      Stat maxdamage = detach(indexOf(Stat.maxdamage));
+      for (int attr : MINDMG) remove(attr);
+      aggregate(new Stat.Aggregate(Stat.mindam, entry(Stat.mindam), "strModMinDamage", "strModMinDamageRange", mindamage, maxdamage));
     }
 
     if (containsAll(FIREDMG)) {
-      Stat firemindam = get(Stat.firemindam);
-      Stat firemaxdam = get(Stat.firemaxdam);
-      for (int attr : FIREDMG) props.remove(attr);
-      props.put(Stat.firedam, new Stat.Aggregate(Stat.firedam, "strModFireDamage", "strModFireDamageRange", firemindam, firemaxdam));
+      Stat firemindam = detach(indexOf(Stat.firemindam));
+      Stat firemaxdam = detach(indexOf(Stat.firemaxdam));
+      for (int attr : FIREDMG) remove(attr);
+      aggregate(new Stat.Aggregate(Stat.firedam, entry(Stat.firedam), "strModFireDamage", "strModFireDamageRange", firemindam, firemaxdam));
     }
 
     if (containsAll(LIGHTDMG)) {
-      Stat lightmindam = get(Stat.lightmindam);
-      Stat lightmaxdam = get(Stat.lightmaxdam);
-      for (int attr : LIGHTDMG) props.remove(attr);
-      props.put(Stat.lightdam, new Stat.Aggregate(Stat.lightdam, "strModLightningDamage", "strModLightningDamageRange", lightmindam, lightmaxdam));
+      Stat lightmindam = detach(indexOf(Stat.lightmindam));
+      Stat lightmaxdam = detach(indexOf(Stat.lightmaxdam));
+      for (int attr : LIGHTDMG) remove(attr);
+      aggregate(new Stat.Aggregate(Stat.lightdam, entry(Stat.lightdam), "strModLightningDamage", "strModLightningDamageRange", lightmindam, lightmaxdam));
     }
 
     if (containsAll(MAGICDMG)) {
-      Stat magicmindam = get(Stat.magicmindam);
-      Stat magicmaxdam = get(Stat.magicmaxdam);
-      for (int attr : MAGICDMG) props.remove(attr);
-      props.put(Stat.magicdam, new Stat.Aggregate(Stat.magicdam, "strModMagicDamage", "strModMagicDamageRange", magicmindam, magicmaxdam));
+      Stat magicmindam = detach(indexOf(Stat.magicmindam));
+      Stat magicmaxdam = detach(indexOf(Stat.magicmaxdam));
+      for (int attr : MAGICDMG) remove(attr);
+      aggregate(new Stat.Aggregate(Stat.magicdam, entry(Stat.magicdam), "strModMagicDamage", "strModMagicDamageRange", magicmindam, magicmaxdam));
     }
 
     if (containsAll(COLDDMG)) {
-      Stat coldmindam = get(Stat.coldmindam);
-      Stat coldmaxdam = get(Stat.coldmaxdam);
-      for (int attr : COLDDMG) props.remove(attr);
-      props.put(Stat.colddam, new Stat.Aggregate(Stat.colddam, "strModColdDamage", "strModColdDamageRange", coldmindam, coldmaxdam));
+      Stat coldmindam = detach(indexOf(Stat.coldmindam));
+      Stat coldmaxdam = detach(indexOf(Stat.coldmaxdam));
+      for (int attr : COLDDMG) remove(attr);
+      aggregate(new Stat.Aggregate(Stat.colddam, entry(Stat.colddam), "strModColdDamage", "strModColdDamageRange", coldmindam, coldmaxdam));
     }
 
     if (containsAll(POISONDMG)) {
-      Stat poisonmindam = get(Stat.poisonmindam);
-      Stat poisonmaxdam = get(Stat.poisonmaxdam);
-      Stat poisonlength = get(Stat.poisonlength);
-      for (int attr : POISONDMG) props.remove(attr);
-      props.put(Stat.poisondam, new Stat.Aggregate(Stat.poisondam, "strModPoisonDamage", "strModPoisonDamageRange", poisonmindam, poisonmaxdam, poisonlength));
+      Stat poisonmindam = detach(indexOf(Stat.poisonmindam));
+      Stat poisonmaxdam = detach(indexOf(Stat.poisonmaxdam));
+      Stat poisonlength = detach(indexOf(Stat.poisonlength));
+      for (int attr : POISONDMG) remove(attr);
+      aggregate(new Stat.Aggregate(Stat.poisondam, entry(Stat.poisondam), "strModPoisonDamage", "strModPoisonDamageRange", poisonmindam, poisonmaxdam, poisonlength));
     }
 
     if (containsAll(MINDMG2) && allEqual(MINDMG2)) {
-      for (int i = 1; i < MINDMG2.length; i++) props.remove(MINDMG2[i]);
+      for (int i = 1; i < MINDMG2.length; i++) remove(MINDMG2[i]);
     }
 
     if (containsAll(MAXDMG2) && allEqual(MAXDMG2)) {
-      for (int i = 1; i < MAXDMG2.length; i++) props.remove(MAXDMG2[i]);
+      for (int i = 1; i < MAXDMG2.length; i++) remove(MAXDMG2[i]);
     }
 
     return this;
   }
 
+  private void aggregate(Stat.Aggregate aggregate) {
+    aggregates[put(aggregate.id, 0, 0)] = aggregate;
+  }
+
   private boolean containsAll(int[] keys) {
     boolean result = true;
     for (int i = 0; result && i < keys.length; i++) {
-      result = props.containsKey(keys[i]);
+      result = contains(keys[i]);
     }
 
     return result;
   }
 
   private boolean allEqual(int[] keys) {
-    int value = props.get(keys[0]).val;
+    int value = value(keys[0]);
     for (int i = 1; i < keys.length; i++) {
-      if (value != props.get(keys[i]).val) return false;
+      if (value != value(keys[i])) return false;
     }
 
     return true;
@@ -228,23 +556,19 @@ public class PropertyList implements Iterable<Stat> {
   private int add(Properties.Entry prop, int i, int j, int value, String[] code, int[] params, int[] min, int[] max) {
     // NOTE: some stats have a function without a stat, e.g., dmg-min -- func 5
     ItemStatCost.Entry desc = Riiablo.files.ItemStatCost.get(prop.stat[j]);
-    Stat inst;
     int param;
     switch (prop.func[j]) {
       case 1: // vit, str, hp, etc.
         value = MathUtils.random(min[i], max[i]);
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 2: // item_armor_percent
         value = MathUtils.random(min[i], max[i]);
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 3: // res-all, all-stats, etc -- reference previous index for values
         assert value != Integer.MIN_VALUE;
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 5: // dmg-min
         value = MathUtils.random(min[i], max[i]);
@@ -261,25 +585,21 @@ public class PropertyList implements Iterable<Stat> {
         return value;
       case 8: // fcr, fwr, fbr, fhr, etc
         value = MathUtils.random(min[i], max[i]);
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 10: // skilltab
         value = MathUtils.random(min[i], max[i]);
-        inst = Stat.obtain(desc.ID, params[i], value);
-        props.put(inst.hash, inst);
+        put(desc.ID, params[i], value);
         return value;
       case 11: // att-skill, hit-skill, gethit-skill, kill-skill, death-skill, levelup-skill
         value = min[i]; // skill
         param = Stat.encodeParam(desc.Encode, max[i], params[i]); // %, level
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 12: // skill-rand (Ormus' Robes)
         value = params[i]; // skill level
         param = MathUtils.random(min[i], max[i]); // random skill
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 13: // dur%
         value = MathUtils.random(min[i], max[i]);
@@ -288,23 +608,19 @@ public class PropertyList implements Iterable<Stat> {
       case 14: // sock
         // TODO: set item SOCKETED flag?
         value = MathUtils.random(min[i], max[i]);
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 15: // dmg-* (min)
         value = min[i];
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 16: // dmg-* (max)
         value = max[i];
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 17: // dmg-* (length) and */lvl
         value = params[i];
-        inst = Stat.obtain(desc.ID, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, value);
         return value;
       case 18: // */time // TODO: Add support
         Gdx.app.error(TAG, "Unsupported property function: " + prop.func[i]);
@@ -312,8 +628,7 @@ public class PropertyList implements Iterable<Stat> {
       case 19: // charged (skill)
         value = Stat.encodeValue(3, min[i], min[i]); // charges
         param = Stat.encodeParam(3, max[i], params[i]); // level, skill
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 20: // indestruct
         // TODO: set item maxdurability to 0?
@@ -323,14 +638,12 @@ public class PropertyList implements Iterable<Stat> {
       case 21: // ama, pal, nec, etc. (item_addclassskills) and fireskill
         value = MathUtils.random(min[i], max[i]);
         param = prop.val[j];
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 22: // skill, aura, oskill
         value = MathUtils.random(min[i], max[i]);
         param = params[i];
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 23: // ethereal
         // TODO: set item ETHEREAL flag?
@@ -338,14 +651,12 @@ public class PropertyList implements Iterable<Stat> {
       case 24: // reanimate, att-mon%, dmg-mon%, state
         value = MathUtils.random(min[i], max[i]);
         param = params[i];
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 36: // randclassskill
         value = prop.val[j]; // skill levels
         param = MathUtils.random(min[i], max[i]); // random class
-        inst = Stat.obtain(desc.ID, param, value);
-        props.put(inst.hash, inst);
+        put(desc.ID, param, value);
         return value;
       case 4:
       case 9:
@@ -482,6 +482,10 @@ public class Stat implements Comparable<Stat> {
   int hash;
   int val;
 
+  /** list and slot this stat is a view of, null if it is not */
+  PropertyList list;
+  int slot;
+
   Stat() {}
 
   Stat _obtain(int stat, BitStream bitStream) {
@@ -541,29 +545,36 @@ public class Stat implements Comparable<Stat> {
    * 4 : 0    | 2,10,10
    */
   public Stat add(Stat other) {
-    switch (entry.Encode) {
+    val = add(entry.Encode, val, other.val);
+    modified = true;
+    changed();
+    return this;
+  }
+
+  /**
+   * Returns the sum of two raw values of a stat with the specified encoding, i.e., the sum of each
+   * of the values they encode.
+   */
+  static int add(int encoding, int value, int other) {
+    switch (encoding) {
       case 3: {
-        int value1 = Math.min(value1() + other.value1(), (1 << 8) - 1);
-        int value2 = Math.min(value2() + other.value2(), (1 << 8) - 1);
-        val = (value2 << 8) | value1;
-        break;
+        int value1 = Math.min((value & 0xFF) + (other & 0xFF), (1 << 8) - 1);
+        int value2 = Math.min(((value >>> 8) & 0xFF) + ((other >>> 8) & 0xFF), (1 << 8) - 1);
+        return (value2 << 8) | value1;
       }
       case 4: {
         // TODO: see issue #24
-        int value1 = value1();
-        int value2 = Math.min(value2() + other.value2(), (1 << 10) - 1);
-        int value3 = Math.min(value3() + other.value3(), (1 << 10) - 1);
-        val = (value3 << 12) | (value2 << 2) | value1;
-        break;
+        int value1 = value & 0x3;
+        int value2 = Math.min(((value >>> 2) & 0x3FF) + ((other >>> 2) & 0x3FF), (1 << 10) - 1);
+        int value3 = Math.min(((value >>> 12) & 0x3FF) + ((other >>> 12) & 0x3FF), (1 << 10) - 1);
+        return (value3 << 12) | (value2 << 2) | value1;
       }
       case 0:
       case 1:
       case 2:
       default:
-        val += other.val;
+        return value + other;
     }
-    modified = true;
-    return this;
   }
 
   public Stat add(int value) {
@@ -579,6 +590,7 @@ public class Stat implements Comparable<Stat> {
         val += value;
     }
     modified = true;
+    changed();
     return this;
   }
 
@@ -587,15 +599,32 @@ public class Stat implements Comparable<Stat> {
     val = other.val;
     other.modified = modified;
     modified = false;
+    changed();
+    other.changed();
+    return this;
+  }
+
+  public Stat setModified(boolean modified) {
+    this.modified = modified;
+    changed();
     return this;
   }
 
+  /** writes changes back to the list this stat is a view of, if any */
+  private void changed() {
+    if (list != null) list.store(this);
+  }
+
   private static final StringBuilder builder = new StringBuilder(32);
-  private static final CharSequence SPACE   = Riiablo.string.lookup("space");
-  private static final CharSequence DASH    = Riiablo.string.lookup("dash");
-  private static final CharSequence PERCENT = Riiablo.string.lookup("percent");
-  private static final CharSequence PLUS    = Riiablo.string.lookup("plus");
-  private static final CharSequence TO      = Riiablo.string.lookup("ItemStast1k");
+
+  /** looked up when first formatting a stat, so stats can be used before strings are loaded */
+  private static final class Strings {
+    static final CharSequence SPACE   = Riiablo.string.lookup("space");
+    static final CharSequence DASH    = Riiablo.string.lookup("dash");
+    static final CharSequence PERCENT = Riiablo.string.lookup("percent");
+    static final CharSequence PLUS    = Riiablo.string.lookup("plus");
+    static final CharSequence TO      = Riiablo.string.lookup("ItemStast1k");
+  }
 
   private static final String[] BY_TIME = {
       "ModStre9e", "ModStre9g", "ModStre9d", "ModStre9f",
@@ -621,93 +650,93 @@ public class Stat implements Comparable<Stat> {
     switch (func) {
       case 1: // +%d %s1
         value = value();
-        if (valmode == 1) builder.append(PLUS).append(value).append(SPACE);
+        if (valmode == 1) builder.append(Strings.PLUS).append(value).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(PLUS).append(value);
+        if (valmode == 2) builder.append(Strings.SPACE).append(Strings.PLUS).append(value);
         return builder.toString();
       case 2: // %d%% %s1
         value = value();
-        if (valmode == 1) builder.append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 3: // %d %s1
         value = value();
-        if (valmode == 1) builder.append(value).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(value);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value);
         return builder.toString();
       case 4: // +%d%% %s1
         value = value();
-        if (valmode == 1) builder.append(PLUS).append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(Strings.PLUS).append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(PLUS).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(Strings.PLUS).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 5: // %d%% %s1
         value = value() * 100 / 128;
-        if (valmode == 1) builder.append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 6: // +%d %s1 %s2
         value = op(charData);
-        if (valmode == 1) builder.append(PLUS).append(value).append(SPACE);
+        if (valmode == 1) builder.append(Strings.PLUS).append(value).append(Strings.SPACE);
         builder
             .append(Riiablo.string.lookup(value < 0 ? strneg : strpos))
-            .append(SPACE)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(str2));
-        if (valmode == 2) builder.append(SPACE).append(PLUS).append(value);
+        if (valmode == 2) builder.append(Strings.SPACE).append(Strings.PLUS).append(value);
         return builder.toString();
       case 7: // %d%% %s1 %s2
         value = op(charData);
-        if (valmode == 1) builder.append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder
             .append(Riiablo.string.lookup(value < 0 ? strneg : strpos))
-            .append(SPACE)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(str2));
-        if (valmode == 2) builder.append(SPACE).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 8: // +%d%% %s1 %s2
         value = op(charData);
-        if (valmode == 1) builder.append(PLUS).append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(Strings.PLUS).append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder
             .append(Riiablo.string.lookup(value < 0 ? strneg : strpos))
-            .append(SPACE)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(str2));
-        if (valmode == 2) builder.append(SPACE).append(PLUS).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(Strings.PLUS).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 9: // %d %s1 %s2
         value = op(charData);
-        if (valmode == 1) builder.append(value).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.SPACE);
         builder
             .append(Riiablo.string.lookup(value < 0 ? strneg : strpos))
-            .append(SPACE)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(str2));
-        if (valmode == 2) builder.append(SPACE).append(value);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value);
         return builder.toString();
       case 10: // %d%% %s1 %s2
         value = value() * 100 / 128;
-        if (valmode == 1) builder.append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder
             .append(Riiablo.string.lookup(value < 0 ? strneg : strpos))
-            .append(SPACE)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(str2));
-        if (valmode == 2) builder.append(SPACE).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 11: // Repairs 1 Durability in %d Seconds
         value = 100 / value();
         return Riiablo.string.format("ModStre9u", 1, value);
       case 12: // +%d %s1
         value = value();
-        if (valmode == 1) builder.append(PLUS).append(value).append(SPACE);
+        if (valmode == 1) builder.append(Strings.PLUS).append(value).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(PLUS).append(value);
+        if (valmode == 2) builder.append(Strings.SPACE).append(Strings.PLUS).append(value);
         return builder.toString();
       case 13: // +%d %s | +1 to Paladin Skills
         value = value();
         builder
-            .append(PLUS).append(value)
-            .append(SPACE)
+            .append(Strings.PLUS).append(value)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(CharacterClass.get(param).entry().StrAllSkills));
         return builder.toString();
       case 14: // %s %s | +1 to Fire Skills (Sorceress Only)
@@ -715,7 +744,7 @@ public class Stat implements Comparable<Stat> {
         entry = CharacterClass.get((param >>> 3) & 0x3).entry();
         builder
             .append(Riiablo.string.format(entry.StrSkillTab[param & 0x7], value))
-            .append(SPACE)
+            .append(Strings.SPACE)
             .append(Riiablo.string.lookup(entry.StrClassOnly));
         return builder.toString();
       case 15: // 15% chance to cast Level 5 Life Tap on Striking
@@ -730,32 +759,32 @@ public class Stat implements Comparable<Stat> {
         return Riiablo.string.format(strpos, value, Riiablo.string.lookup(desc.str_name));
       case 17: // +10 to Dexterity (Increases Near Dawn) // TODO: untested
         // value needs to update based on time of day
-        if (valmode == 1) builder.append(PLUS).append(value3()).append(SPACE);
+        if (valmode == 1) builder.append(Strings.PLUS).append(value3()).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(strpos));
-        if (valmode == 2) builder.append(SPACE).append(PLUS).append(value3());
-        builder.append(SPACE).append(Riiablo.string.lookup(BY_TIME[value1()]));
+        if (valmode == 2) builder.append(Strings.SPACE).append(Strings.PLUS).append(value3());
+        builder.append(Strings.SPACE).append(Riiablo.string.lookup(BY_TIME[value1()]));
         return builder.toString();
       case 18: // 50% Enhanced Defense (Increases Near Dawn) // TODO: untested
         // value needs to update based on time of day
-        if (valmode == 1) builder.append(value3()).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(value3()).append(Strings.PERCENT).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(strpos));
-        if (valmode == 2) builder.append(SPACE).append(value3()).append(PERCENT);
-        builder.append(SPACE).append(Riiablo.string.lookup(BY_TIME[value1()]));
+        if (valmode == 2) builder.append(Strings.SPACE).append(value3()).append(Strings.PERCENT);
+        builder.append(Strings.SPACE).append(Riiablo.string.lookup(BY_TIME[value1()]));
         return builder.toString();
       case 19: // Formats strpos/strneg with value
         value = value();
         return Riiablo.string.format(value < 0 ? strneg : strpos, value);
       case 20: // -%d%% %s1
         value = -value();
-        if (valmode == 1) builder.append(value).append(PERCENT).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.PERCENT).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(value).append(PERCENT);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value).append(Strings.PERCENT);
         return builder.toString();
       case 21: // -%d %s1
         value = -value();
-        if (valmode == 1) builder.append(value).append(SPACE);
+        if (valmode == 1) builder.append(value).append(Strings.SPACE);
         builder.append(Riiablo.string.lookup(value < 0 ? strneg : strpos));
-        if (valmode == 2) builder.append(SPACE).append(value);
+        if (valmode == 2) builder.append(Strings.SPACE).append(value);
         return builder.toString();
       case 22: // +%d%% %s1 %s | +3% Attack Rating Versus: %s // TODO: unsupported for now
         return "ERROR 22";
@@ -765,9 +794,9 @@ public class Stat implements Comparable<Stat> {
         skill = Riiablo.files.skills.get(param2());
         desc = Riiablo.files.skilldesc.get(skill.skilldesc);
         builder
-            .append(Riiablo.string.lookup("ModStre10b")).append(SPACE)
-            .append(param1()).append(SPACE)
-            .append(Riiablo.string.lookup(desc.str_name)).append(SPACE)
+            .append(Riiablo.string.lookup("ModStre10b")).append(Strings.SPACE)
+            .append(param1()).append(Strings.SPACE)
+            .append(Riiablo.string.lookup(desc.str_name)).append(Strings.SPACE)
             .append(Riiablo.string.format(strpos, value1(), value2()));
         return builder.toString();
       case 25: // TODO: unsupported
@@ -780,9 +809,9 @@ public class Stat implements Comparable<Stat> {
         desc = Riiablo.files.skilldesc.get(skill.skilldesc);
         entry = Riiablo.files.skills.getClass(skill.charclass).entry();
         builder
-            .append(PLUS).append(value).append(SPACE)
-            .append(TO).append(SPACE)
-            .append(Riiablo.string.lookup(desc.str_name)).append(SPACE)
+            .append(Strings.PLUS).append(value).append(Strings.SPACE)
+            .append(Strings.TO).append(Strings.SPACE)
+            .append(Riiablo.string.lookup(desc.str_name)).append(Strings.SPACE)
             .append(Riiablo.string.lookup(entry.StrClassOnly));
         return builder.toString();
       case 28: // +1 to Teleport
@@ -790,8 +819,8 @@ public class Stat implements Comparable<Stat> {
         skill = Riiablo.files.skills.get(param);
         desc = Riiablo.files.skilldesc.get(skill.skilldesc);
         builder
-            .append(PLUS).append(value).append(SPACE)
-            .append(TO).append(SPACE)
+            .append(Strings.PLUS).append(value).append(Strings.SPACE)
+            .append(Strings.TO).append(Strings.SPACE)
             .append(Riiablo.string.lookup(desc.str_name));
         return builder.toString();
       default:
@@ -931,11 +960,11 @@ public class Stat implements Comparable<Stat> {
     String str2;
     Stat[] stats;
 
-    Aggregate(int stat, String str, String str2, Stat... stats) {
+    Aggregate(int stat, ItemStatCost.Entry entry, String str, String str2, Stat... stats) {
       id    = stat;
       param = 0;
       val   = 0;
-      entry = Riiablo.files.ItemStatCost.get(stat);
+      this.entry = entry;
       this.stats = stats;
       this.str = str;
       this.str2 = str2;
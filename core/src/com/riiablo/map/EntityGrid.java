@@ -0,0 +1,178 @@
+package com.riiablo.map;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid of tiles per zone, each tile listing the entities positioned within it, used to
+ * gather the entities of a tile without scanning every entity. Entities only move between buckets
+ * when their position crosses into another tile. Buckets are dropped whenever the zones of the map
+ * change, entities are bucketed again as they are next updated.
+ */
+class EntityGrid {
+  static final int UNTRACKED = -1;
+  static final int NO_ZONE   = -2;
+
+  static final int[] EMPTY = new int[0];
+
+  final Map map;
+
+  int version = -1;
+  ZoneBuckets[] zones = new ZoneBuckets[0];
+
+  /** tile and zone index of each entity, indexed by entity id */
+  int[] entityTx   = EMPTY;
+  int[] entityTy   = EMPTY;
+  int[] entityZone = EMPTY;
+
+  EntityGrid(Map map) {
+    this.map = map;
+  }
+
+  /**
+   * Drops every bucket if the zones of the map have changed since they were bucketed.
+   */
+  void validate() {
+    if (version == map.zoneGrid.version) return;
+    version = map.zoneGrid.version;
+    Arrays.fill(zones, null);
+    Arrays.fill(entityZone, UNTRACKED);
+  }
+
+  /**
+   * Buckets the specified entity by the tile containing the specified sub-tile position.
+   */
+  void update(int id, float x, float y) {
+    final int tx = (int) Math.floor(x / DT1.Tile.SUBTILE_SIZE);
+    final int ty = (int) Math.floor(y / DT1.Tile.SUBTILE_SIZE);
+    if (id < entityZone.length && entityZone[id] != UNTRACKED && entityTx[id] == tx && entityTy[id] == ty) {
+      return;
+    }
+
+    remove(id);
+    ensureCapacity(id);
+    entityTx[id] = tx;
+    entityTy[id] = ty;
+    entityZone[id] = NO_ZONE;
+
+    Map.Zone zone = map.getZone(tx * DT1.Tile.SUBTILE_SIZE, ty * DT1.Tile.SUBTILE_SIZE);
+    if (zone == null) return;
+    ZoneBuckets buckets = buckets(zone, true);
+    if (buckets.add(tx, ty, id)) entityZone[id] = zone.index;
+  }
+
+  void remove(int id) {
+    if (id >= entityZone.length) return;
+    final int zone = entityZone[id];
+    entityZone[id] = UNTRACKED;
+    if (zone < 0) return;
+    ZoneBuckets buckets = zones[zone];
+    if (buckets != null) buckets.remove(entityTx[id], entityTy[id], id);
+  }
+
+  /**
+   * Adds the entities within the specified tile of the specified zone to {@code out}.
+   */
+  void get(Map.Zone zone, int tx, int ty, IntArray out) {
+    ZoneBuckets buckets = buckets(zone, false);
+    if (buckets != null) buckets.get(tx, ty, out);
+  }
+
+  ZoneBuckets buckets(Map.Zone zone, boolean create) {
+    if (zone.index >= zones.length) {
+      if (!create) return null;
+      zones = Arrays.copyOf(zones, Math.max(zone.index + 1, map.zones.size));
+    }
+
+    ZoneBuckets buckets = zones[zone.index];
+    if (buckets == null || buckets.zone != zone) {
+      if (!create) return null;
+      buckets = zones[zone.index] = new ZoneBuckets(zone);
+    }
+
+    return buckets;
+  }
+
+  private void ensureCapacity(int id) {
+    if (id < entityZone.length) return;
+    final int oldSize = entityZone.length;
+    final int newSize = Math.max(id + 1, oldSize << 1);
+    entityTx   = Arrays.copyOf(entityTx, newSize);
+    entityTy   = Arrays.copyOf(entityTy, newSize);
+    entityZone = Arrays.copyOf(entityZone, newSize);
+    Arrays.fill(entityZone, oldSize, newSize, UNTRACKED);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("version", version)
+        .append("zones", zones.length)
+        .append("entities", entityZone.length)
+        .build();
+  }
+
+  static final class ZoneBuckets {
+    final Map.Zone zone;
+    final int tx, ty;
+    final int tilesX, tilesY;
+    final int[][] ids;
+    final int[] sizes;
+
+    ZoneBuckets(Map.Zone zone) {
+      this.zone = zone;
+      this.tx = zone.tx;
+      this.ty = zone.ty;
+      this.tilesX = zone.tilesX;
+      this.tilesY = zone.tilesY;
+      ids = new int[tilesX * tilesY][];
+      sizes = new int[tilesX * tilesY];
+    }
+
+    int index(int tx, int ty) {
+      tx -= this.tx;
+      ty -= this.ty;
+      if (tx < 0 || tx >= tilesX || ty < 0 || ty >= tilesY) return -1;
+      return Map.Zone.index(tilesX, tx, ty);
+    }
+
+    boolean add(int tx, int ty, int id) {
+      final int i = index(tx, ty);
+      if (i == -1) return false;
+      int[] bucket = ids[i];
+      final int size = sizes[i];
+      if (bucket == null) {
+        bucket = ids[i] = new int[4];
+      } else if (size == bucket.length) {
+        bucket = ids[i] = Arrays.copyOf(bucket, size << 1);
+      }
+
+      bucket[size] = id;
+      sizes[i] = size + 1;
+      return true;
+    }
+
+    void remove(int tx, int ty, int id) {
+      final int i = index(tx, ty);
+      if (i == -1) return;
+      final int[] bucket = ids[i];
+      final int size = sizes[i];
+      for (int j = 0; j < size; j++) {
+        if (bucket[j] == id) {
+          bucket[j] = bucket[size - 1];
+          sizes[i] = size - 1;
+          return;
+        }
+      }
+    }
+
+    void get(int tx, int ty, IntArray out) {
+      final int i = index(tx, ty);
+      if (i == -1 || sizes[i] == 0) return;
+      out.addAll(ids[i], 0, sizes[i]);
+    }
+  }
+}
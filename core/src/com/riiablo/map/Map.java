@@ -321,7 +321,8 @@ public class Map implements Disposable {
   int act = -1;
 
   final IntMap<DT1s> dt1s = new IntMap<>();
-  final Array<Zone> zones = new Array<>(); // TODO: replace with R-tree? https://en.wikipedia.org/wiki/R-tree
+  final Array<Zone> zones = new Array<>();
+  final ZoneGrid zoneGrid = new ZoneGrid(zones);
 
   ComponentMapper<Warp> mWarp;
   EntityFactory factory;
@@ -368,6 +369,7 @@ public class Map implements Disposable {
   public void dispose() {
     for (Zone zone : zones) Zone.free(zone);
     zones.clear();
+    zoneGrid.invalidate();
     for (DT1s dt1s : this.dt1s.values()) dt1s.clear();
     dt1s.clear();
     mapGraph.clear();
@@ -483,6 +485,22 @@ public class Map implements Disposable {
     return zone.flags(x - zone.x, y - zone.y);
   }
 
+  /**
+   * Batched {@link #flags(int, int)} for the first {@code out.length} points of {@code xs} and
+   * {@code ys}. Consecutive points within the same zone are resolved without another lookup.
+   */
+  public void flags(int[] xs, int[] ys, byte[] out) {
+    Zone zone = null;
+    for (int i = 0, s = out.length; i < s; i++) {
+      final int x = xs[i], y = ys[i];
+      if (zone == null || !zone.contains(x, y) || zoneGrid.cell(x, y).length > 1) {
+        zone = getZone(x, y);
+      }
+
+      out[i] = (byte) (zone == null ? 0xFF : zone.flags(x - zone.x, y - zone.y));
+    }
+  }
+
   void or(Vector2 position, int width, int height, int flags) {
     if (width == 0 || height == 0) return;
     int x0 = round(position.x - width  / 2f);
@@ -504,8 +522,7 @@ public class Map implements Disposable {
   }
 
   public Zone getZone(int x, int y) {
-    for (Zone zone : zones) if (zone.contains(x, y)) return zone;
-    return null;
+    return zoneGrid.get(x, y);
   }
 
   public Zone findZone(Levels.Entry level) {
@@ -523,14 +540,18 @@ public class Map implements Disposable {
   Zone addZone(Levels.Entry level, int gridSizeX, int gridSizeY) {
     Zone zone = Zone.obtain(this, level, diff, gridSizeX, gridSizeY);
     if (DEBUG_ZONES) Gdx.app.debug(TAG, zone.toString());
+    zone.index = zones.size;
     zones.add(zone);
+    zoneGrid.invalidate();
     return zone;
   }
 
   Zone addZone(Levels.Entry level, int gridSizeX, int gridSizeY, int gridsX, int gridsY) {
     Zone zone = Zone.obtain(this, level, diff, gridSizeX, gridSizeY, gridsX, gridsY);
     if (DEBUG_ZONES) Gdx.app.debug(TAG, zone.toString());
+    zone.index = zones.size;
     zones.add(zone);
+    zoneGrid.invalidate();
     return zone;
   }
 
@@ -588,6 +609,7 @@ public class Map implements Disposable {
       }
     }
 
+    int index; // index within Map#zones
     int x, y;
     int width, height;
     int gridSizeX, gridSizeY;
@@ -735,6 +757,7 @@ public class Map implements Disposable {
       this.y = y;
       tx = x / DT1.Tile.SUBTILE_SIZE;
       ty = y / DT1.Tile.SUBTILE_SIZE;
+      if (map != null) map.zoneGrid.invalidate();
     }
 
     public boolean isTown() {
@@ -4,19 +4,63 @@ import com.badlogic.gdx.ai.pfa.GraphPath;
 import com.badlogic.gdx.ai.pfa.SmoothableGraphPath;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.riiablo.map.pfa.PathFinder;
 import com.riiablo.map.pfa.PathSmoother;
 import com.riiablo.map.pfa.Point2;
 import com.riiablo.map.pfa.RaycastCollisionDetector;
 
+/**
+ * Pathfinding graph over the sub-tiles of a {@link Map}. Nodes are identified by an int composed
+ * of the index of their zone and their zone-local sub-tile index, and all per-node search state is
+ * kept in primitive arrays allocated once per zone, the first time a search enters it. Records
+ * are lazily reset whenever a search with a new search id touches them, so searches do not
+ * allocate and memory is bounded by the size of the map.
+ */
 public class MapGraph {
+  public static final int NONE = -1;
+
+  public static final byte UNVISITED = 0;
+  public static final byte OPEN      = 1;
+  public static final byte CLOSED    = 2;
+
+  static final int LOCAL_BITS = 22;
+  static final int LOCAL_MASK = (1 << LOCAL_BITS) - 1;
+  static final int MAX_ZONES  = 1 << (Integer.SIZE - 1 - LOCAL_BITS);
+
+  /** Neighbor offsets, orthogonal neighbors first */
+  static final int[] NEIGHBOR_X = {-1,  0, 0, 1, -1, -1,  1, 1};
+  static final int[] NEIGHBOR_Y = { 0, -1, 1, 0, -1,  1, -1, 1};
+
+  /** Rings of sub-tiles which must be unblocked for each successive clearance value */
+  static final int[][] NEAR = {
+      { // 1
+         0,  0,
+      },
+      { // 2
+        -1, -1,   0, -1,   1, -1,
+        -1,  0,            1,  0,
+        -1,  1,   0,  1,   1,  1,
+      },
+      { // 3
+        -1, -2,   0, -2,   1, -2,
+        -2, -1,                      2, -1,
+        -2,  0,                      2,  0,
+        -2,  1,                      2,  1,
+        -1,  2,   0,  2,   1,  2,
+      },
+  };
+
   Map map;
   PathSmoother<Point2> smoother;
   RaycastCollisionDetector raycaster;
 
-  final Point2 tmpPoint = new Point2();
-  final ObjectSet<Point2> identity = new ObjectSet<>();
+  final Array<Block> blocks = new Array<>();
+  int zonesVersion = -1;
+
+  final int[]  neighborX     = new int[NEIGHBOR_X.length];
+  final int[]  neighborY     = new int[NEIGHBOR_Y.length];
+  final byte[] neighborFlags = new byte[NEIGHBOR_X.length];
 
   public MapGraph(Map map) {
     this.map = map;
@@ -25,38 +69,143 @@ public class MapGraph {
   }
 
   public void clear() {
-    identity.clear();
+    blocks.clear();
+    zonesVersion = map.zoneGrid.version;
+  }
+
+  /**
+   * Returns the node at the specified sub-tile, or {@link #NONE} if the sub-tile is not within
+   * a zone.
+   */
+  public int node(int x, int y) {
+    if (zonesVersion != map.zoneGrid.version) clear();
+    Map.Zone zone = map.getZone(x, y);
+    if (zone == null) return NONE;
+    if (zone.index >= MAX_ZONES) {
+      throw new GdxRuntimeException("Too many zones to index: " + zone.index);
+    }
+
+    return zone.index << LOCAL_BITS | ((y - zone.y) * zone.width + (x - zone.x));
+  }
+
+  public int node(Vector2 src) {
+    return node(Map.round(src.x), Map.round(src.y));
   }
 
-  public Point2 getOrCreate(Vector2 src) {
-    return getOrCreate(tmpPoint.set(src));
+  public int x(int node) {
+    Map.Zone zone = map.zones.get(node >>> LOCAL_BITS);
+    return zone.x + (node & LOCAL_MASK) % zone.width;
   }
 
-  public Point2 getOrCreate(int x, int y) {
-    return getOrCreate(tmpPoint.set(x, y));
+  public int y(int node) {
+    Map.Zone zone = map.zones.get(node >>> LOCAL_BITS);
+    return zone.y + (node & LOCAL_MASK) / zone.width;
   }
 
-  private Point2 getOrCreate(Point2 src) {
-    Point2 existing = identity.get(src);
-    if (existing == null) {
-      existing = new Point2(src);
-      identity.add(existing);
-      existing.updateClearance(map, 0);
+  Block block(int node) {
+    final int index = node >>> LOCAL_BITS;
+    if (index >= blocks.size) blocks.setSize(index + 1);
+    Block block = blocks.get(index);
+    if (block == null) {
+      Map.Zone zone = map.zones.get(index);
+      final int size = zone.width * zone.height;
+      if (size > LOCAL_MASK + 1) {
+        throw new GdxRuntimeException("Zone too large to index: " + zone.width + "x" + zone.height);
+      }
+
+      blocks.set(index, block = new Block(size));
+    }
+
+    return block;
+  }
+
+  /**
+   * Resets the search record of the specified node if it was last touched by a different search.
+   */
+  public void reset(int node, int searchId) {
+    Block block = block(node);
+    final int i = node & LOCAL_MASK;
+    if (block.searchId[i] != searchId) {
+      block.searchId[i] = searchId;
+      block.category[i] = UNVISITED;
+      block.parent[i] = NONE;
     }
+  }
 
-    return existing;
+  public byte category(int node) {
+    return block(node).category[node & LOCAL_MASK];
+  }
+
+  public void category(int node, byte category) {
+    block(node).category[node & LOCAL_MASK] = category;
+  }
+
+  public float g(int node) {
+    return block(node).g[node & LOCAL_MASK];
+  }
+
+  public float f(int node) {
+    return block(node).f[node & LOCAL_MASK];
+  }
+
+  public int parent(int node) {
+    return block(node).parent[node & LOCAL_MASK];
+  }
+
+  public void set(int node, int parent, float g, float f) {
+    Block block = block(node);
+    final int i = node & LOCAL_MASK;
+    block.parent[i] = parent;
+    block.g[i] = g;
+    block.f[i] = f;
+  }
+
+  /**
+   * Returns the number of rings around the specified node which are unblocked, i.e., the largest
+   * entity size which fits on it.
+   */
+  public int clearance(int node) {
+    Block block = block(node);
+    final int i = node & LOCAL_MASK;
+    int clearance = block.clearance[i];
+    if (clearance == 0) {
+      clearance = block.clearance[i] = (byte) (computeClearance(x(node), y(node)) + 1);
+    }
+
+    return clearance - 1;
+  }
+
+  public int clearance(int x, int y) {
+    int node = node(x, y);
+    return node == NONE ? 0 : clearance(node);
+  }
+
+  int computeClearance(int x, int y) {
+    int i;
+size:
+    for (i = 0; i < NEAR.length; i++) {
+      final int[] near = NEAR[i];
+      for (int j = 0; j < near.length; j += 2) {
+        if (map.flags(x + near[j], y + near[j + 1]) != 0) {
+          break size;
+        }
+      }
+    }
+
+    return i;
   }
 
   public boolean searchNodePath(PathFinder pathFinder, Vector2 src, Vector2 dst, int flags, int size, GraphPath<Point2> outPath) {
     outPath.clear();
     if (dst == null) return false;
     if (map.flags(dst) != 0) return false;
-    Point2 srcP = getOrCreate(src);
-    Point2 dstP = getOrCreate(dst);
-    return searchNodePath(pathFinder, srcP, dstP, flags, size, outPath);
+    int srcNode = node(src);
+    int dstNode = node(dst);
+    if (srcNode == NONE || dstNode == NONE) return false;
+    return searchNodePath(pathFinder, srcNode, dstNode, flags, size, outPath);
   }
 
-  boolean searchNodePath(PathFinder pathFinder, Point2 src, Point2 dst, int flags, int size, GraphPath<Point2> outPath) {
+  boolean searchNodePath(PathFinder pathFinder, int src, int dst, int flags, int size, GraphPath<Point2> outPath) {
     return pathFinder.search(src, dst, flags, size, outPath);
   }
 
@@ -64,28 +213,53 @@ public class MapGraph {
     smoother.smoothPath(flags, size, path);
   }
 
-  public Array<Point2> getNeighbors(Point2 src, int flags, Array<Point2> neighbors) {
-    neighbors.clear();
-    tryNeighbor(neighbors, flags, src.x - 1, src.y    );
-    tryNeighbor(neighbors, flags, src.x    , src.y - 1);
-    tryNeighbor(neighbors, flags, src.x    , src.y + 1);
-    tryNeighbor(neighbors, flags, src.x + 1, src.y    );
+  /**
+   * Writes the walkable neighbors of the specified node into {@code neighbors} and returns how
+   * many were written.
+   */
+  public int getNeighbors(int src, int flags, int[] neighbors) {
+    final int srcX = x(src), srcY = y(src);
+    final int[] x = neighborX, y = neighborY;
+    for (int i = 0; i < NEIGHBOR_X.length; i++) {
+      x[i] = srcX + NEIGHBOR_X[i];
+      y[i] = srcY + NEIGHBOR_Y[i];
+    }
 
-    tryNeighbor(neighbors, flags, src.x - 1, src.y - 1);
-    tryNeighbor(neighbors, flags, src.x - 1, src.y + 1);
-    tryNeighbor(neighbors, flags, src.x + 1, src.y - 1);
-    tryNeighbor(neighbors, flags, src.x + 1, src.y + 1);
-    return neighbors;
+    map.flags(x, y, neighborFlags);
+    int count = 0;
+    for (int i = 0; i < NEIGHBOR_X.length; i++) {
+      if (neighborFlags[i] == 0) neighbors[count++] = node(x[i], y[i]);
+    }
+
+    return count;
   }
 
-  public boolean tryNeighbor(Array<Point2> neighbors, int flags, int x, int y) {
-    if (!isWalkable(x, y, flags)) return false;
-    Point2 point = getOrCreate(x, y);
-    neighbors.add(point);
-    return true;
+  /**
+   * Returns the node at the specified sub-tile if it is walkable, otherwise {@link #NONE}.
+   */
+  public int tryNeighbor(int x, int y, int flags) {
+    return isWalkable(x, y, flags) ? node(x, y) : NONE;
   }
 
   public boolean isWalkable(int x, int y, int flags) {
     return map.flags(x, y) == 0;
   }
+
+  static final class Block {
+    final int[]   searchId;
+    final int[]   parent;
+    final float[] g;
+    final float[] f;
+    final byte[]  category;
+    final byte[]  clearance; // clearance + 1, 0 if not yet computed
+
+    Block(int size) {
+      searchId  = new int[size];
+      parent    = new int[size];
+      g         = new float[size];
+      f         = new float[size];
+      category  = new byte[size];
+      clearance = new byte[size];
+    }
+  }
 }
@@ -17,8 +17,8 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Pools;
 import com.riiablo.Riiablo;
 import com.riiablo.camera.IsometricCamera;
@@ -46,7 +46,6 @@ import com.riiablo.util.DebugUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
-import java.util.Comparator;
 
 @All(AnimationWrapper.class)
 public class RenderSystem extends BaseEntitySystem {
@@ -87,16 +86,6 @@ public class RenderSystem extends BaseEntitySystem {
   private static final int TILES_PADDING_X = 3;
   private static final int TILES_PADDING_Y = 7;
 
-  private final Comparator<Integer> SUBTILE_ORDER = new Comparator<Integer>() {
-    @Override
-    public int compare(Integer e1, Integer e2) {
-      Vector2 pos1 = mPosition.get(e1).position;
-      Vector2 pos2 = mPosition.get(e2).position;
-      int i = Float.compare(pos1.y, pos2.y);
-      return i == 0 ? Float.compare(pos1.x, pos2.x): i;
-    }
-  };
-
   protected ComponentMapper<AnimationWrapper> mAnimationWrapper;
   protected ComponentMapper<CofReference> mCofReference;
   protected ComponentMapper<Position> mPosition;
@@ -122,7 +111,9 @@ public class RenderSystem extends BaseEntitySystem {
   IsometricCamera     iso;
   Map                 map;
   int                 viewBuffer[];
-  Array<Integer>      cache[][][];
+  IntArray            cache[][][];
+  EntityGrid          grid;
+  final IntArray      tileEntities = new IntArray();
   int                 src = -1;
   boolean             dirty;
   final Vector2       currentPos = new Vector2();
@@ -167,6 +158,7 @@ public class RenderSystem extends BaseEntitySystem {
   public RenderSystem(PaletteIndexedBatch batch, Map map) {
     this.batch = batch;
     this.map = map;
+    this.grid = new EntityGrid(map);
     this.iso = new IsometricCamera();
     iso.setToOrtho(false);
     iso.offset(0, -Tile.SUBTILE_HEIGHT50);
@@ -207,6 +199,11 @@ public class RenderSystem extends BaseEntitySystem {
     debugEntitites = world.getAspectSubscriptionManager().get(Aspect.all());
   }
 
+  @Override
+  protected void removed(int entityId) {
+    grid.remove(entityId);
+  }
+
   @Override
   protected void dispose() {
     debugEntitites = null;
@@ -271,15 +268,15 @@ public class RenderSystem extends BaseEntitySystem {
     }
     dirty = true;
 
-    cache = new Array[viewBufferLen][][];
+    cache = new IntArray[viewBufferLen][][];
     for (int i = 0; i < viewBufferLen; i++) {
       int viewBufferRun = viewBuffer[i];
-      cache[i] = new Array[viewBufferRun][];
+      cache[i] = new IntArray[viewBufferRun][];
       for (int j = 0; j < viewBufferRun; j++) {
-        cache[i][j] = new Array[] {
-            new Array<Integer>(Tile.NUM_SUBTILES), // TODO: Really {@code (Tile.SUBTILE_SIZE - 1) * (Tile.SUBTILE_SIZE - 1)}
-            new Array<Integer>(1), // better size TBD
-            new Array<Integer>(Tile.SUBTILE_SIZE + Tile.SUBTILE_SIZE - 1), // only upper walls
+        cache[i][j] = new IntArray[] {
+            new IntArray(Tile.NUM_SUBTILES), // TODO: Really {@code (Tile.SUBTILE_SIZE - 1) * (Tile.SUBTILE_SIZE - 1)}
+            new IntArray(1), // better size TBD
+            new IntArray(Tile.SUBTILE_SIZE + Tile.SUBTILE_SIZE - 1), // only upper walls
         };
       }
     }
@@ -302,9 +299,23 @@ public class RenderSystem extends BaseEntitySystem {
     assert (tilesX & 1) == 1;
     assert (tilesY & 1) == 1;
 
+    radius = viewRadius(width, height);
+  }
+
+  /**
+   * Returns the radius, in sub-tiles, of the area rendered around the camera for a view of the
+   * specified dimensions, including the tiles buffered around the edges of the screen.
+   */
+  public static float viewRadius(int width, int height) {
+    int minTilesX = ((width  + Tile.WIDTH  - 1) / Tile.WIDTH);
+    int minTilesY = ((height + Tile.HEIGHT - 1) / Tile.HEIGHT);
+    if ((minTilesX & 1) == 1) minTilesX++;
+    if ((minTilesY & 1) == 1) minTilesY++;
+    int renderWidth  = (minTilesX + TILES_PADDING_X) * Tile.WIDTH;
+    int renderHeight = (minTilesY + TILES_PADDING_Y) * Tile.HEIGHT;
     float yardsX = (renderWidth  / 2) / Tile.SUBTILE_WIDTH;
     float yardsY = (renderHeight / 2) / Tile.SUBTILE_HEIGHT;
-    radius = Vector2.len(yardsX, yardsY);
+    return Vector2.len(yardsX, yardsY);
   }
 
   private void updateCameraBounds() {
@@ -447,15 +458,12 @@ public class RenderSystem extends BaseEntitySystem {
   }
 
   /**
-   * TODO: This is still a fairly expensive calculation because it needs to read all entities
-   *       viewbuffer size times -- this can be sped up using some kind of cache within entities
-   *       themselves (so each time position changes, update viewbuffer cache position) or by
-   *       storing the entity at its position in array within the zone (similar to how the collision
-   *       map works -- this may very well be how the actual game works, but some spaces might allow
-   *       more than 1 entity, e.g., player + item, or monsters that don't have collision -- I'll
-   *       look into this more when I add entity collision detection.
+   * Gathers the entities of each tile within the view buffer from {@link #grid}. Entities are only
+   * moved between buckets of the grid when their position crosses into another tile, so the cost
+   * of each cell depends on the number of entities within it rather than within the world.
    */
   private void buildCaches() {
+    updateGrid();
     int x, y;
     int startX2 = startX;
     int startY2 = startY;
@@ -467,7 +475,7 @@ public class RenderSystem extends BaseEntitySystem {
       int size = viewBuffer[y];
       for (x = 0; x < size; x++) {
         Map.Zone zone = map.getZone(stx, sty);
-        if (zone != null) buildCache(cache[y][x], zone, stx, sty);
+        if (zone != null) buildCache(cache[y][x], zone, tx, ty, stx, sty);
         tx++;
         stx += Tile.SUBTILE_SIZE;
       }
@@ -481,29 +489,67 @@ public class RenderSystem extends BaseEntitySystem {
     }
   }
 
-  private void buildCache(Array<Integer>[] cache, Map.Zone zone, int stx, int sty) {
+  /**
+   * Rebuckets the entities whose position has crossed into another tile since the last frame.
+   */
+  private void updateGrid() {
+    grid.validate();
+    IntBag entities = getEntityIds();
+    int[] ids = entities.getData();
+    for (int i = 0, size = entities.size(); i < size; i++) {
+      int id = ids[i];
+      Vector2 pos = mPosition.get(id).position;
+      grid.update(id, pos.x, pos.y);
+    }
+  }
+
+  private void buildCache(IntArray[] cache, Map.Zone zone, int tx, int ty, int stx, int sty) {
     cache[0].size = cache[1].size = cache[2].size = 0;
+    IntArray entities = tileEntities;
+    entities.size = 0;
+    grid.get(zone, tx, ty, entities);
+    if (entities.size == 0) return;
+
     int orderFlag;
-    IntBag entitites = getEntityIds();
-    for (int i = 0, size = entitites.size(); i < size; i++) {
-      int id = entitites.get(i);
+    int[] ids = entities.items;
+    for (int i = 0, size = entities.size; i < size; i++) {
+      int id = ids[i];
       Vector2 pos = mPosition.get(id).position;
-      if ((stx <= pos.x && pos.x < stx + Tile.SUBTILE_SIZE)
-       && (sty <= pos.y && pos.y < sty + Tile.SUBTILE_SIZE)) {
-        Object objectComponent = mObject.get(id);
-        if (objectComponent != null) {
-          CofReference reference = mCofReference.get(id);
-          orderFlag = objectComponent.base.OrderFlag[reference.mode];
-        } else {
-          orderFlag = stx == pos.x || sty == pos.y ? 2 : 0;
-        }
+      Object objectComponent = mObject.get(id);
+      if (objectComponent != null) {
+        CofReference reference = mCofReference.get(id);
+        orderFlag = objectComponent.base.OrderFlag[reference.mode];
+      } else {
+        orderFlag = stx == pos.x || sty == pos.y ? 2 : 0;
+      }
 
-        cache[orderFlag].add(id);
+      cache[orderFlag].add(id);
+    }
+
+    sortSubtileOrder(cache[0]);
+    sortSubtileOrder(cache[1]);
+    sortSubtileOrder(cache[2]);
+  }
+
+  /**
+   * Sorts entities by their position, y-major. Uses an insertion sort, tiles rarely contain more
+   * than a few entities.
+   */
+  private void sortSubtileOrder(IntArray entities) {
+    int[] ids = entities.items;
+    for (int i = 1, size = entities.size; i < size; i++) {
+      int id = ids[i];
+      Vector2 pos = mPosition.get(id).position;
+      int j = i - 1;
+      for (; j >= 0; j--) {
+        Vector2 other = mPosition.get(ids[j]).position;
+        int c = Float.compare(other.y, pos.y);
+        if (c < 0 || (c == 0 && Float.compare(other.x, pos.x) <= 0)) break;
+        ids[j + 1] = ids[j];
       }
+
+      ids[j + 1] = id;
     }
-    cache[0].sort(SUBTILE_ORDER);
-    cache[1].sort(SUBTILE_ORDER);
-    cache[2].sort(SUBTILE_ORDER);
   }
 
   private void drawBackground() {
@@ -597,7 +643,7 @@ public class RenderSystem extends BaseEntitySystem {
         Map.Zone zone = map.getZone(stx, sty);
         if (zone != null) {
           //buildCaches(zone, stx, sty);
-          Array<Integer>[] cache = this.cache[y][x];
+          IntArray[] cache = this.cache[y][x];
           drawEntities(cache, 1); // floors
           drawEntities(cache, 2); // walls/doors
           drawWalls(batch, zone, tx, ty, px, py);
@@ -659,8 +705,10 @@ public class RenderSystem extends BaseEntitySystem {
     }
   }
 
-  void drawEntities(Array<Integer>[] cache, int i) {
-    for (int entity : cache[i]) {
+  void drawEntities(IntArray[] cache, int i) {
+    IntArray entities = cache[i];
+    for (int j = 0, size = entities.size; j < size; j++) {
+      int entity = entities.get(j);
 //      if (!entity.target().isZero() && !entity.position().epsilonEquals(entity.target())) {
 //        entity.angle(angle(entity.position(), entity.target()));
 //      }
@@ -709,7 +757,7 @@ public class RenderSystem extends BaseEntitySystem {
     }
   }
 
-  void drawShadows(PaletteIndexedBatch batch, Map.Zone zone, int tx, int ty, float px, float py, Array<Integer>[] cache) {
+  void drawShadows(PaletteIndexedBatch batch, Map.Zone zone, int tx, int ty, float px, float py, IntArray[] cache) {
     batch.setBlendMode(BlendMode.SOLID, Riiablo.colors.modal75);
     for (int i = Map.SHADOW_OFFSET; i < Map.SHADOW_OFFSET + Map.MAX_SHADOWS; i++) {
       Tile tile = zone.get(i, tx, ty);
@@ -728,8 +776,9 @@ public class RenderSystem extends BaseEntitySystem {
       batch.draw(texture, px, py, texture.getRegionWidth(), texture.getRegionHeight());
     }
     */
-    for (Array<Integer> c : cache) {
-      for (int entity : c) {
+    for (IntArray c : cache) {
+      for (int j = 0, size = c.size; j < size; j++) {
+        int entity = c.get(j);
 //        CofComponent cofComponent = this.cofComponent.get(entity);
 //        if (cofComponent != null && cofComponent.load != Dirty.NONE) continue;
         Animation animation = mAnimationWrapper.get(entity).animation;
@@ -0,0 +1,115 @@
+package com.riiablo.map;
+
+import com.badlogic.gdx.utils.Array;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Coarse uniform grid over the sub-tile bounds of a map's zones, used to resolve the zone which
+ * contains a point without scanning every zone. Each cell lists the zones overlapping it in the
+ * order they were added, so lookups resolve overlaps the same way a linear scan would. The grid is
+ * rebuilt lazily after zones are added, moved or cleared.
+ */
+class ZoneGrid {
+  /** Cells are 64x64 sub-tiles */
+  static final int CELL_SHIFT = 6;
+
+  static final Map.Zone[] EMPTY = new Map.Zone[0];
+
+  final Array<Map.Zone> zones;
+
+  boolean dirty = true;
+  int version;
+  int x0, y0;
+  int width, height;
+  Map.Zone[][] cells;
+
+  ZoneGrid(Array<Map.Zone> zones) {
+    this.zones = zones;
+  }
+
+  void invalidate() {
+    dirty = true;
+    version++;
+  }
+
+  /** Returns the candidate zones for the specified sub-tile. */
+  Map.Zone[] cell(int x, int y) {
+    if (dirty) rebuild();
+    final int cx = (x >> CELL_SHIFT) - x0;
+    final int cy = (y >> CELL_SHIFT) - y0;
+    if (cx < 0 || cx >= width || cy < 0 || cy >= height) return EMPTY;
+    return cells[cy * width + cx];
+  }
+
+  Map.Zone get(int x, int y) {
+    for (Map.Zone zone : cell(x, y)) if (zone.contains(x, y)) return zone;
+    return null;
+  }
+
+  void rebuild() {
+    dirty = false;
+    int xMin = Integer.MAX_VALUE, yMin = Integer.MAX_VALUE;
+    int xMax = Integer.MIN_VALUE, yMax = Integer.MIN_VALUE;
+    for (Map.Zone zone : zones) {
+      if (zone.width <= 0 || zone.height <= 0) continue;
+      xMin = Math.min(xMin, zone.x >> CELL_SHIFT);
+      yMin = Math.min(yMin, zone.y >> CELL_SHIFT);
+      xMax = Math.max(xMax, (zone.x + zone.width  - 1) >> CELL_SHIFT);
+      yMax = Math.max(yMax, (zone.y + zone.height - 1) >> CELL_SHIFT);
+    }
+
+    if (xMin > xMax) {
+      x0 = y0 = width = height = 0;
+      cells = null;
+      return;
+    }
+
+    x0 = xMin;
+    y0 = yMin;
+    width  = xMax - xMin + 1;
+    height = yMax - yMin + 1;
+
+    final int numCells = width * height;
+    int[] counts = new int[numCells];
+    for (Map.Zone zone : zones) {
+      if (zone.width <= 0 || zone.height <= 0) continue;
+      forEachCell(zone, counts, null);
+    }
+
+    cells = new Map.Zone[numCells][];
+    for (int i = 0; i < numCells; i++) {
+      cells[i] = counts[i] == 0 ? EMPTY : new Map.Zone[counts[i]];
+      counts[i] = 0;
+    }
+
+    for (Map.Zone zone : zones) {
+      if (zone.width <= 0 || zone.height <= 0) continue;
+      forEachCell(zone, counts, zone);
+    }
+  }
+
+  private void forEachCell(Map.Zone zone, int[] counts, Map.Zone add) {
+    final int cx0 = (zone.x >> CELL_SHIFT) - x0;
+    final int cy0 = (zone.y >> CELL_SHIFT) - y0;
+    final int cx1 = ((zone.x + zone.width  - 1) >> CELL_SHIFT) - x0;
+    final int cy1 = ((zone.y + zone.height - 1) >> CELL_SHIFT) - y0;
+    for (int cy = cy0; cy <= cy1; cy++) {
+      for (int cx = cx0, i = cy * width + cx0; cx <= cx1; cx++, i++) {
+        if (add != null) cells[i][counts[i]] = add;
+        counts[i]++;
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("x0", x0)
+        .append("y0", y0)
+        .append("width", width)
+        .append("height", height)
+        .append("dirty", dirty)
+        .build();
+  }
+}
@@ -1,58 +1,59 @@
 package com.riiablo.map.pfa;
 
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.Heuristic;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.BinaryHeap;
 import com.riiablo.map.MapGraph;
 
 //refactor of com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder
 public class AStarPathFinder implements PathFinder {
-  enum UniformHeuristics implements Heuristic<Point2> {
+  enum UniformHeuristics {
     EUCLIDEAN() {
       final float DIAGONAL_COST = (float) Math.sqrt(2);
 
       @Override
-      public float estimate(Point2 src, Point2 dst) {
-        return src.x != dst.x && src.y != dst.y ? DIAGONAL_COST : 1;
+      public float estimate(int srcX, int srcY, int dstX, int dstY) {
+        return srcX != dstX && srcY != dstY ? DIAGONAL_COST : 1;
       }
     },
     MANHATTAN() {
       final float DIAGONAL_COST = 2;
 
       @Override
-      public float estimate(Point2 src, Point2 dst) {
-        return src.x != dst.x && src.y != dst.y ? DIAGONAL_COST : 1;
+      public float estimate(int srcX, int srcY, int dstX, int dstY) {
+        return srcX != dstX && srcY != dstY ? DIAGONAL_COST : 1;
       }
-    }
+    };
+
+    public abstract float estimate(int srcX, int srcY, int dstX, int dstY);
   }
   static final UniformHeuristics uniformHeuristic = UniformHeuristics.EUCLIDEAN;
 
-  enum Heuristics implements Heuristic<Point2> {
+  enum Heuristics {
     EUCLIDEAN() {
       @Override
-      public float estimate(Point2 src, Point2 dst) {
-        return Vector2.dst(src.x, src.y, dst.x, dst.y);
+      public float estimate(int srcX, int srcY, int dstX, int dstY) {
+        return Vector2.dst(srcX, srcY, dstX, dstY);
       }
     },
     MANHATTAN() {
       @Override
-      public float estimate(Point2 src, Point2 dst) {
-        return Math.abs(dst.x - src.x) + Math.abs(dst.y - src.y);
+      public float estimate(int srcX, int srcY, int dstX, int dstY) {
+        return Math.abs(dstX - srcX) + Math.abs(dstY - srcY);
       }
-    }
+    };
+
+    public abstract float estimate(int srcX, int srcY, int dstX, int dstY);
   }
   static final Heuristics heuristic = Heuristics.EUCLIDEAN;
 
 
   MapGraph graph;
-  Point2 current;
-  BinaryHeap<Point2> openList = new BinaryHeap<>();
+  int current;
+  IntBinaryHeap openList = new IntBinaryHeap();
   public Metrics metrics;
 
   private int searchId;
-  private final Array<Point2> neighbors = new Array<>(false, 8);
+  private final int[] neighbors = new int[8];
 
   public AStarPathFinder(MapGraph graph) {
     this(graph, false);
@@ -63,95 +64,103 @@ public class AStarPathFinder implements PathFinder {
     if (calculateMetrics) this.metrics = new Metrics();
   }
 
-  public boolean search(Point2 startNode, Point2 endNode, int flags, int size, GraphPath<Point2> outPath) {
+  public boolean search(int startNode, int endNode, int flags, int size, GraphPath<Point2> outPath) {
     boolean found = search(startNode, endNode, flags, size);
     if (found) generateNodePath(startNode, outPath);
     return found;
   }
 
 
-  protected boolean search(Point2 startNode, Point2 endNode, int flags, int size) {
+  protected boolean search(int startNode, int endNode, int flags, int size) {
     initSearch(startNode, endNode);
     int limit = 0;
-    do {
+    while (openList.size > 0) {
+      float f = openList.peekValue();
       current = openList.pop();
-      current.category = Point2.CLOSED;
+      if (graph.category(current) == MapGraph.CLOSED || graph.f(current) != f) continue; // stale
+      graph.category(current, MapGraph.CLOSED);
       if (current == endNode) return true;
       visitChildren(current, endNode, flags, size);
       if (metrics != null) metrics.visitedNodes++;
-    } while (openList.size > 0 && limit++ < 300);
+      if (limit++ >= 300) break;
+    }
+
     return false;
   }
 
-  protected void initSearch(Point2 startNode, Point2 endNode) {
+  protected void initSearch(int startNode, int endNode) {
     if (metrics != null) metrics.reset();
     if (++searchId < 0) searchId = 1;
     openList.clear();
 
     reset(startNode);
-    startNode.parent = null;
-    startNode.g = 0f;
-    addToOpenList(startNode, heuristic.estimate(startNode, endNode));
+    addToOpenList(startNode, MapGraph.NONE, 0f, estimate(heuristic, startNode, endNode));
 
-    current = null;
+    current = MapGraph.NONE;
   }
 
-  protected void visitChildren(Point2 startNode, Point2 endNode, int flags, int size) {
-    Array<Point2> neighbors = graph.getNeighbors(startNode, flags, this.neighbors);
-    for (Point2 neighbor : neighbors) {
-      if (neighbor.clearance < size) continue;
-      float g = startNode.g() + uniformHeuristic.estimate(startNode, neighbor);
-
-      float h;
-      reset(neighbor);
-      switch (neighbor.category) {
-        case Point2.UNVISITED:
-          h = heuristic.estimate(neighbor, endNode);
-          break;
-        case Point2.OPEN:
-          if (neighbor.g() <= g) continue;
-          openList.remove(neighbor);
-          h = neighbor.f() - neighbor.g();
-          break;
-        case Point2.CLOSED:
-          if (neighbor.g() <= g) continue;
-          h = neighbor.f() - neighbor.g();
-          break;
-        default:
-          throw new AssertionError("Invalid nodeRecord category: " + neighbor.category);
-      }
-
-      neighbor.g = g;
-      neighbor.parent = startNode;
+  protected void visitChildren(int startNode, int endNode, int flags, int size) {
+    final int[] neighbors = this.neighbors;
+    final int count = graph.getNeighbors(startNode, flags, neighbors);
+    final float startG = graph.g(startNode);
+    for (int i = 0; i < count; i++) {
+      final int neighbor = neighbors[i];
+      if (graph.clearance(neighbor) < size) continue;
+      visit(startNode, startG + estimate(uniformHeuristic, startNode, neighbor), neighbor, endNode);
+    }
+  }
 
-      addToOpenList(neighbor, g + h);
+  /**
+   * Opens or reopens {@code node} from {@code parent} if {@code g} improves its cost.
+   */
+  protected void visit(int parent, float g, int node, int endNode) {
+    float h;
+    reset(node);
+    switch (graph.category(node)) {
+      case MapGraph.UNVISITED:
+        h = estimate(heuristic, node, endNode);
+        break;
+      case MapGraph.OPEN:
+      case MapGraph.CLOSED:
+        if (graph.g(node) <= g) return;
+        h = graph.f(node) - graph.g(node);
+        break;
+      default:
+        throw new AssertionError("Invalid nodeRecord category: " + graph.category(node));
     }
+
+    addToOpenList(node, parent, g, g + h);
   }
 
-  protected void generateNodePath(Point2 startNode, GraphPath<Point2> outPath) {
-    while (current.parent != null) {
-      outPath.add(current);
-      current = current.parent;
+  protected void generateNodePath(int startNode, GraphPath<Point2> outPath) {
+    while (graph.parent(current) != MapGraph.NONE) {
+      outPath.add(new Point2(graph.x(current), graph.y(current)));
+      current = graph.parent(current);
     }
-    outPath.add(startNode);
+    outPath.add(new Point2(graph.x(startNode), graph.y(startNode)));
     outPath.reverse();
   }
 
-  protected void addToOpenList(Point2 nodeRecord, float estimatedTotalCost) {
-    openList.add(nodeRecord, estimatedTotalCost);
-    nodeRecord.category = Point2.OPEN;
+  protected void addToOpenList(int node, int parent, float g, float estimatedTotalCost) {
+    graph.set(node, parent, g, estimatedTotalCost);
+    graph.category(node, MapGraph.OPEN);
+    openList.add(node, estimatedTotalCost);
     if (metrics != null) {
       metrics.openListAdditions++;
       metrics.openListPeak = Math.max(metrics.openListPeak, openList.size);
     }
   }
 
-  protected Point2 reset(Point2 src) {
-    if (src.searchId != searchId) {
-      src.reset();
-      src.searchId = searchId;
-    }
-    return src;
+  protected void reset(int node) {
+    graph.reset(node, searchId);
+  }
+
+  float estimate(UniformHeuristics heuristic, int src, int dst) {
+    return heuristic.estimate(graph.x(src), graph.y(src), graph.x(dst), graph.y(dst));
+  }
+
+  float estimate(Heuristics heuristic, int src, int dst) {
+    return heuristic.estimate(graph.x(src), graph.y(src), graph.x(dst), graph.y(dst));
   }
 
   public static class Metrics {
@@ -0,0 +1,86 @@
+package com.riiablo.map.pfa;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of int nodes ordered by a float value. Nodes are not tracked once added, so
+ * improving the value of a node is done by adding it again and ignoring the stale entry when it
+ * is popped.
+ */
+public class IntBinaryHeap {
+  public int size;
+
+  private int[] nodes;
+  private float[] values;
+
+  public IntBinaryHeap() {
+    this(16);
+  }
+
+  public IntBinaryHeap(int capacity) {
+    nodes = new int[capacity];
+    values = new float[capacity];
+  }
+
+  public void add(int node, float value) {
+    if (size == nodes.length) {
+      nodes = Arrays.copyOf(nodes, size << 1);
+      values = Arrays.copyOf(values, size << 1);
+    }
+
+    int i = size++;
+    while (i > 0) {
+      final int parent = (i - 1) >>> 1;
+      if (values[parent] <= value) break;
+      nodes[i] = nodes[parent];
+      values[i] = values[parent];
+      i = parent;
+    }
+
+    nodes[i] = node;
+    values[i] = value;
+  }
+
+  public int peek() {
+    if (size == 0) throw new IllegalStateException("The heap is empty.");
+    return nodes[0];
+  }
+
+  public float peekValue() {
+    if (size == 0) throw new IllegalStateException("The heap is empty.");
+    return values[0];
+  }
+
+  public int pop() {
+    final int top = peek();
+    final int last = nodes[--size];
+    final float value = values[size];
+    int i = 0;
+    for (int child; (child = (i << 1) + 1) < size; i = child) {
+      if (child + 1 < size && values[child + 1] < values[child]) child++;
+      if (value <= values[child]) break;
+      nodes[i] = nodes[child];
+      values[i] = values[child];
+    }
+
+    nodes[i] = last;
+    values[i] = value;
+    return top;
+  }
+
+  public void clear() {
+    size = 0;
+  }
+
+  @Override
+  public String toString() {
+    if (size == 0) return "[]";
+    StringBuilder builder = new StringBuilder(32).append('[');
+    for (int i = 0; i < size; i++) {
+      if (i > 0) builder.append(", ");
+      builder.append(nodes[i]).append(':').append(values[i]);
+    }
+
+    return builder.append(']').toString();
+  }
+}
@@ -1,11 +1,10 @@
 package com.riiablo.map.pfa;
 
-import com.badlogic.gdx.utils.Array;
 import com.riiablo.map.MapGraph;
 
 public class JPSPathFinder extends AStarPathFinder {
   final MapGraph graph;
-  private final Array<Point2> neighbors = new Array<>(false, 8);
+  private final int[] neighbors = new int[8];
 
   public JPSPathFinder(MapGraph graph) {
     super(graph);
@@ -13,85 +12,77 @@ public class JPSPathFinder extends AStarPathFinder {
   }
 
   @Override
-  protected void visitChildren(Point2 startNode, Point2 endNode, int flags, int size) {
+  protected void visitChildren(int startNode, int endNode, int flags, int size) {
     identifySuccessors(startNode, endNode, flags, size);
   }
 
-  protected void identifySuccessors(Point2 startNode, Point2 endNode, int flags, int size) {
-    Array<Point2> neighbors = getPrunedNeighbors(startNode, flags, this.neighbors);
-    for (Point2 neighbor : neighbors) {
-      Point2 jump = jump(startNode, neighbor, flags, endNode);
-      if (jump != null) {
-        float g = startNode.g() + heuristic.estimate(startNode, jump);
-
-        float h;
-        reset(jump);
-        switch (jump.category) {
-          case Point2.UNVISITED:
-            h = heuristic.estimate(jump, endNode);
-            break;
-          case Point2.OPEN:
-            if (jump.g() <= g) continue;
-            openList.remove(jump);
-            h = jump.f() - jump.g();
-            break;
-          case Point2.CLOSED:
-            if (jump.g() <= g) continue;
-            h = jump.f() - jump.g();
-            break;
-          default:
-            throw new AssertionError("Invalid nodeRecord category: " + jump.category);
-        }
-
-        jump.g = g;
-        jump.parent = startNode;
-
-        addToOpenList(jump, g + h);
+  protected void identifySuccessors(int startNode, int endNode, int flags, int size) {
+    final int[] neighbors = this.neighbors;
+    final int count = getPrunedNeighbors(startNode, flags, neighbors);
+    final float startG = graph.g(startNode);
+    for (int i = 0; i < count; i++) {
+      int jump = jump(startNode, neighbors[i], flags, endNode);
+      if (jump != MapGraph.NONE) {
+        visit(startNode, startG + estimate(heuristic, startNode, jump), jump, endNode);
       }
     }
   }
 
-  private Array<Point2> getPrunedNeighbors(Point2 startNode, int flags, Array<Point2> neighbors) {
-    Point2 parent = startNode.parent;
-    if (parent == null) {
+  private int getPrunedNeighbors(int startNode, int flags, int[] neighbors) {
+    int parent = graph.parent(startNode);
+    if (parent == MapGraph.NONE) {
       return graph.getNeighbors(startNode, flags, neighbors);
+    }
+
+    int count = 0;
+    final int x = graph.x(startNode);
+    final int y = graph.y(startNode);
+    final int px = graph.x(parent);
+    final int py = graph.y(parent);
+    final int dx = (x - px) / Math.max(Math.abs(x - px), 1);
+    final int dy = (y - py) / Math.max(Math.abs(y - py), 1);
+    if (dx != 0 && dy != 0) {
+      int n1 = graph.tryNeighbor(x, y + dy, flags);
+      int n2 = graph.tryNeighbor(x + dx, y, flags);
+      boolean b1 = n1 != MapGraph.NONE;
+      boolean b2 = n2 != MapGraph.NONE;
+      if (b1) neighbors[count++] = n1;
+      if (b2) neighbors[count++] = n2;
+      if (b1 || b2) count = add(neighbors, count, x + dx, y + dy);
+      if (b1 && !graph.isWalkable(x - dx, y, flags)) count = add(neighbors, count, x - dx, y + dy);
+      if (b2 && !graph.isWalkable(x, y - dy, flags)) count = add(neighbors, count, x + dx, y - dy);
+    } else if (dx == 0) {
+      int n1 = graph.tryNeighbor(x, y + dy, flags);
+      if (n1 != MapGraph.NONE) {
+        neighbors[count++] = n1;
+        if (!graph.isWalkable(x + 1, y, flags)) count = add(neighbors, count, x + 1, y + dy);
+        if (!graph.isWalkable(x - 1, y, flags)) count = add(neighbors, count, x - 1, y + dy);
+      }
     } else {
-      neighbors.clear();
-      final int x = startNode.x;
-      final int y = startNode.y;
-      final int dx = (x - parent.x) / Math.max(Math.abs(x - parent.x), 1);
-      final int dy = (y - parent.y) / Math.max(Math.abs(y - parent.y), 1);
-      if (dx != 0 && dy != 0) {
-        boolean b1 = graph.tryNeighbor(neighbors, flags, x, y + dy);
-        boolean b2 = graph.tryNeighbor(neighbors, flags, x + dx, y);
-        if (b1 || b2) neighbors.add(graph.getOrCreate(x + dx, y + dy));
-        if (b1 && !graph.isWalkable(x - dx, y, flags)) neighbors.add(graph.getOrCreate(x - dx, y + dy));
-        if (b2 && !graph.isWalkable(x, y - dy, flags)) neighbors.add(graph.getOrCreate(x + dx, y - dy));
-      } else if (dx == 0) {
-        boolean b1 = graph.tryNeighbor(neighbors, flags, x, y + dy);
-        if (b1) {
-          if (!graph.isWalkable(x + 1, y, flags)) neighbors.add(graph.getOrCreate(x + 1, y + dy));
-          if (!graph.isWalkable(x - 1, y, flags)) neighbors.add(graph.getOrCreate(x - 1, y + dy));
-        }
-      } else {
-        boolean b2 = graph.tryNeighbor(neighbors, flags, x + dx, y);
-        if (b2) {
-          if (!graph.isWalkable(x, y + 1, flags)) neighbors.add(graph.getOrCreate(x + dx, y + 1));
-          if (!graph.isWalkable(x, y - 1, flags)) neighbors.add(graph.getOrCreate(x + dx, y - 1));
-        }
+      int n2 = graph.tryNeighbor(x + dx, y, flags);
+      if (n2 != MapGraph.NONE) {
+        neighbors[count++] = n2;
+        if (!graph.isWalkable(x, y + 1, flags)) count = add(neighbors, count, x + dx, y + 1);
+        if (!graph.isWalkable(x, y - 1, flags)) count = add(neighbors, count, x + dx, y - 1);
       }
     }
 
-    return neighbors;
+    return count;
+  }
+
+  private int add(int[] neighbors, int count, int x, int y) {
+    int node = graph.node(x, y);
+    if (node != MapGraph.NONE) neighbors[count++] = node;
+    return count;
   }
 
-  private Point2 jump(Point2 startNode, Point2 node, int flags, Point2 endNode) {
-    final int x = node.x;
-    final int y = node.y;
-    if (!graph.isWalkable(x, y, flags)) return null;
+  private int jump(int startNode, int node, int flags, int endNode) {
+    final int x = graph.x(node);
+    final int y = graph.y(node);
+    if (!graph.isWalkable(x, y, flags)) return MapGraph.NONE;
     if (node == endNode) return endNode;
-    final int dx = x - startNode.x;
-    final int dy = y - startNode.y;
+    final int dx = x - graph.x(startNode);
+    final int dy = y - graph.y(startNode);
     if (dx != 0 && dy != 0) {
       if ((graph.isWalkable(x - dx, y + dy, flags) && !graph.isWalkable(x - dx, y, flags))
        || (graph.isWalkable(x + dx, y - dy, flags) && !graph.isWalkable(x, y - dy, flags))) {
@@ -110,14 +101,17 @@ public class JPSPathFinder extends AStarPathFinder {
     }
 
     if (dx != 0 && dy != 0) {
-      if (jump(node, graph.getOrCreate(x + dx, y), flags, endNode) != null) return node;
-      if (jump(node, graph.getOrCreate(x, y + dy), flags, endNode) != null) return node;
+      int next = graph.node(x + dx, y);
+      if (next != MapGraph.NONE && jump(node, next, flags, endNode) != MapGraph.NONE) return node;
+      next = graph.node(x, y + dy);
+      if (next != MapGraph.NONE && jump(node, next, flags, endNode) != MapGraph.NONE) return node;
     }
 
     if (graph.isWalkable(x + dx, y, flags) || graph.isWalkable(x, y + dy, flags)) {
-      return jump(node, graph.getOrCreate(x + dx, y + dy), flags, endNode);
+      int next = graph.node(x + dx, y + dy);
+      return next == MapGraph.NONE ? MapGraph.NONE : jump(node, next, flags, endNode);
     }
 
-    return null;
+    return MapGraph.NONE;
   }
 }
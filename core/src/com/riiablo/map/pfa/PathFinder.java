@@ -3,5 +3,5 @@ package com.riiablo.map.pfa;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 
 public interface PathFinder {
-  boolean search(Point2 startNode, Point2 endNode, int flags, int size, GraphPath<Point2> outPath);
+  boolean search(int startNode, int endNode, int flags, int size, GraphPath<Point2> outPath);
 }
@@ -1,29 +1,14 @@
 package com.riiablo.map.pfa;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.BinaryHeap;
 import com.badlogic.gdx.utils.Pool;
 import com.riiablo.map.Map;
 
-public class Point2 extends BinaryHeap.Node implements Pool.Poolable {
+public class Point2 implements Pool.Poolable {
   public int x;
   public int y;
 
-  //public int index;
-  byte clearance;
-
-  static final byte UNVISITED = 0;
-  static final byte OPEN      = 1;
-  static final byte CLOSED    = 2;
-
-  int searchId = -1;
-  Point2 parent;
-  byte category;
-  float g;
-
-  public Point2() {
-    super(0f);
-  }
+  public Point2() {}
 
   public Point2(int x, int y) {
     this();
@@ -37,15 +22,7 @@ public class Point2 extends BinaryHeap.Node implements Pool.Poolable {
 
   @Override
   public void reset() {
-    category = UNVISITED;
-  }
-
-  public float g() {
-    return g;
-  }
-
-  public float f() {
-    return super.getValue();
+    x = y = 0;
   }
 
   public Point2 set(int x, int y) {
@@ -72,66 +49,6 @@ public class Point2 extends BinaryHeap.Node implements Pool.Poolable {
     return this;
   }
 
-  private static final Point2[][] NEAR = {
-      { // 1
-        new Point2( 0,  0)
-      },
-      { // 2
-        new Point2(-1, -1),
-        new Point2( 0, -1),
-        new Point2( 1, -1),
-
-        new Point2(-1,  0),
-      //new Point2( 0,  0),
-        new Point2( 1,  0),
-
-        new Point2(-1,  1),
-        new Point2( 0,  1),
-        new Point2( 1,  1),
-      },
-      { // 3
-        new Point2(-1, -2),
-        new Point2( 0, -2),
-        new Point2( 1, -2),
-
-        new Point2(-2, -1),
-      //new Point2(-1, -1),
-      //new Point2( 0, -1),
-      //new Point2( 1, -1),
-        new Point2( 2, -1),
-
-        new Point2(-2,  0),
-      //new Point2(-1,  0),
-      //new Point2( 0,  0),
-      //new Point2( 1,  0),
-        new Point2( 2,  0),
-
-        new Point2(-2,  1),
-      //new Point2(-1,  1),
-      //new Point2( 0,  1),
-      //new Point2( 1,  1),
-        new Point2( 2,  1),
-
-        new Point2(-1,  2),
-        new Point2( 0,  2),
-        new Point2( 1,  2),
-      }
-  };
-
-  public void updateClearance(Map map, int flags) {
-    byte i;
-size:
-    for (i = 0; i < NEAR.length; i++) {
-      for (Point2 p : NEAR[i]) {
-        if (map.flags(x + p.x, y + p.y) != 0) {
-          break size;
-        }
-      }
-    }
-
-    clearance = i;
-  }
-
   @Override
   public int hashCode() {
     return (x * 73856093) ^ (y * 83492791);
@@ -7,29 +7,31 @@ import com.badlogic.gdx.utils.StreamUtils;
 import com.riiablo.mpq.util.Decryptor;
 import com.riiablo.util.BufferUtils;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 public class MPQ {
   private static final String TAG = MPQ.class.getSimpleName();
   private static final boolean DEBUG = !true;
 
   final FileHandle file;
+  final ByteBuffer map;
   final Header     header;
   final HashTable  hashTable;
   final BlockTable blockTable;
 
-  private MPQ(FileHandle file, Header header, HashTable hashTable, BlockTable blockTable) {
+  private MPQ(FileHandle file, ByteBuffer map, Header header, HashTable hashTable, BlockTable blockTable) {
     this.file       = file;
+    this.map        = map;
     this.header     = header;
     this.hashTable  = hashTable;
     this.blockTable = blockTable;
@@ -44,13 +46,33 @@ public class MPQ {
     return file;
   }
 
+  /**
+   * Converts a file name into the form stored within archives, i.e., using {@code '\'} as the
+   * path separator.
+   */
+  public static String normalize(String fileName) {
+    return fileName.replace('/', '\\');
+  }
+
+  /**
+   * Looks up the block of a file using its precomputed hashes.
+   *
+   * @return the block or {@code null} if this archive does not contain the file
+   */
+  BlockTable.Block getBlock(long key, int offset) {
+    int index = hashTable.getIndex(key, offset, HashTable.Entry.DEFAULT_LOCALE);
+    if (index == -1) return null;
+    int blockIndex = hashTable.entries[index].blockIndex;
+    return blockIndex >= 0 ? blockTable.get(blockIndex) : null;
+  }
+
   public boolean contains(String fileName) {
-    fileName = fileName.replaceAll("/", "\\\\");
+    fileName = normalize(fileName);
     return hashTable.contains(fileName);
   }
 
   public long length(String fileName) {
-    fileName = fileName.replaceAll("/", "\\\\");
+    fileName = normalize(fileName);
     HashTable.Entry entry = hashTable.getEntry(fileName);
     if (entry == null) {
       throw new GdxRuntimeException("File not found: " + fileName);
@@ -61,12 +83,21 @@ public class MPQ {
     return block.FSize;
   }
 
+  /**
+   * Returns a read-only view of {@code length} bytes of the mapped archive starting at
+   * {@code offset}. The returned buffer is independent of any other view, so it is safe to use
+   * from multiple threads concurrently.
+   */
+  ByteBuffer slice(long offset, int length) {
+    return slice(map, offset, length);
+  }
+
   public InputStream read(MPQFileHandle file) {
     return read(file.fileName);
   }
 
   public InputStream read(String fileName) {
-    fileName = fileName.replaceAll("/", "\\\\");
+    fileName = normalize(fileName);
     Gdx.app.log(TAG, "Reading " + fileName + "...");
     HashTable.Entry entry = hashTable.getEntry(fileName);
     if (DEBUG) Gdx.app.debug(TAG, "entry = " + Objects.toString(entry));
@@ -86,7 +117,15 @@ public class MPQ {
   }
 
   public byte[] readBytes(String fileName) {
-    fileName = fileName.replaceAll("/", "\\\\");
+    return readBytes(fileName, null);
+  }
+
+  /**
+   * Reads the entire contents of the specified file, decoding its sectors in parallel on
+   * {@code pool}. Small files and {@code null} pools are decoded on the calling thread.
+   */
+  public byte[] readBytes(String fileName, ForkJoinPool pool) {
+    fileName = normalize(fileName);
     Gdx.app.log(TAG, "Reading " + fileName + "...");
     HashTable.Entry entry = hashTable.getEntry(fileName);
     if (DEBUG) Gdx.app.debug(TAG, "entry = " + Objects.toString(entry));
@@ -98,7 +137,7 @@ public class MPQ {
     if (DEBUG) Gdx.app.debug(TAG, "block = " + Objects.toString(block));
     assert block != null;
 
-    return MPQInputStream.readBytes(this, fileName, block);
+    return MPQInputStream.readBytes(this, fileName, block, pool);
   }
 
   public static MPQ loadFromFile(FileHandle file) {
@@ -107,8 +146,14 @@ public class MPQ {
     try {
       raf = new RandomAccessFile(file.file(), "r");
       FileChannel fc = raf.getChannel();
+      if (fc.size() > Integer.MAX_VALUE)
+        throw new GdxRuntimeException("Archive too large to map: " + fc.size());
+
+      // mapping remains valid after the channel is closed
+      MappedByteBuffer map = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+      map.order(ByteOrder.LITTLE_ENDIAN);
 
-      Header header = new Header(fc);
+      Header header = new Header(map.duplicate().order(ByteOrder.LITTLE_ENDIAN));
       if (DEBUG) Gdx.app.debug(TAG, header.toString());
       if (!header.id.equals(Header.HEADER))
         throw new GdxRuntimeException("Header id: " + header.id);
@@ -123,12 +168,9 @@ public class MPQ {
       if (header.blockTableSize <= 0)
         throw new GdxRuntimeException("Block table size must be positive: " + header.blockTableSize);
 
-      raf.seek(header.hashTableOffset);
-      HashTable hashTable = new HashTable(header, fc);
-
-      raf.seek(header.blockTableOffset);
-      BlockTable blockTable = new BlockTable(header, fc);
-      return new MPQ(file, header, hashTable, blockTable);
+      return new MPQ(file, map, header,
+          new HashTable(header, slice(map, header.hashTableOffset, header.hashTableSize * HashTable.Entry.SIZE)),
+          new BlockTable(header, slice(map, header.blockTableOffset, header.blockTableSize * BlockTable.Block.SIZE)));
     } catch (Exception e) {
       throw new GdxRuntimeException("Couldn't load file: " + file, e);
     } finally {
@@ -136,6 +178,13 @@ public class MPQ {
     }
   }
 
+  private static ByteBuffer slice(ByteBuffer map, long offset, int length) {
+    ByteBuffer slice = map.duplicate();
+    slice.position((int) offset);
+    slice.limit((int) offset + length);
+    return slice.slice().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
   static class Header {
     static final int SIZE = 0x00000020;
     static final int DISK_SECTOR_SIZE = 0x00000200;
@@ -154,11 +203,7 @@ public class MPQ {
     final int    hashTableSize;
     final int    blockTableSize;
 
-    Header(FileChannel fc) throws IOException {
-      ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
-      IOUtils.readFully(fc, buffer);
-      buffer.flip();
-
+    Header(ByteBuffer buffer) {
       id               = BufferUtils.readString(buffer, 4);
       headerSize       = BufferUtils.readUnsignedInt(buffer);
       archiveSize      = BufferUtils.readUnsignedInt(buffer);
@@ -190,14 +235,11 @@ public class MPQ {
   static class HashTable {
     final Entry[] entries;
 
-    HashTable(Header header, FileChannel fc) throws IOException {
+    HashTable(Header header, ByteBuffer in) {
       int capacity = header.hashTableSize;
       assert capacity > 0 && (capacity & (capacity - 1)) == 0 : "Capacity must be a power of 2";
       ByteBuffer buffer = ByteBuffer.allocate(capacity * Entry.SIZE);
-      IOUtils.readFully(fc, buffer);
-      buffer.rewind();
-
-      Decryptor.decrypt(Decryptor.HASH_TABLE_KEY, buffer);
+      Decryptor.decrypt(Decryptor.HASH_TABLE_KEY, in, buffer);
       buffer.rewind();
 
       entries = new Entry[capacity];
@@ -335,15 +377,12 @@ public class MPQ {
 
     Block[] blocks;
 
-    BlockTable(Header header, FileChannel fc) throws IOException {
+    BlockTable(Header header, ByteBuffer in) {
       int capacity = header.blockTableSize;
       assert capacity > 0 : "Capacity must be positive.";
 
       ByteBuffer buffer = ByteBuffer.allocate(capacity * Block.SIZE);
-      IOUtils.readFully(fc, buffer);
-      buffer.rewind();
-
-      Decryptor.decrypt(Decryptor.BLOCK_TABLE_KEY, buffer);
+      Decryptor.decrypt(Decryptor.BLOCK_TABLE_KEY, in, buffer);
       buffer.rewind();
 
       blocks = new Block[capacity];
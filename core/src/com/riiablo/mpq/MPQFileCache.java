@@ -0,0 +1,110 @@
+package com.riiablo.mpq;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of decoded file contents keyed by normalized file name. Files larger than
+ * {@link #maxEntrySize()} are never cached so that a single large file cannot flush the cache.
+ */
+public class MPQFileCache {
+  private static final String TAG = "MPQFileCache";
+
+  /** Default total capacity, in bytes. */
+  public static final int DEFAULT_CAPACITY = 16 << 20;
+
+  private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private final int capacity;
+  private final int maxEntrySize;
+  private int size;
+
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  public MPQFileCache(int capacity) {
+    this(capacity, capacity >>> 3);
+  }
+
+  public MPQFileCache(int capacity, int maxEntrySize) {
+    this.capacity = capacity;
+    this.maxEntrySize = Math.min(capacity, maxEntrySize);
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int maxEntrySize() {
+    return maxEntrySize;
+  }
+
+  public boolean accepts(long length) {
+    return length <= maxEntrySize;
+  }
+
+  /**
+   * Returns the cached contents of the specified file, or {@code null} if they are not cached. The
+   * returned array is shared and must not be modified.
+   */
+  public synchronized byte[] get(String fileName) {
+    byte[] bytes = entries.get(fileName);
+    if (bytes != null) {
+      hits++;
+    } else {
+      misses++;
+    }
+
+    return bytes;
+  }
+
+  public synchronized void put(String fileName, byte[] bytes) {
+    if (!accepts(bytes.length)) return;
+    byte[] prev = entries.put(fileName, bytes);
+    if (prev != null) size -= prev.length;
+    size += bytes.length;
+    Iterator<Map.Entry<String, byte[]>> it = entries.entrySet().iterator();
+    while (size > capacity && it.hasNext()) {
+      Map.Entry<String, byte[]> eldest = it.next();
+      size -= eldest.getValue().length;
+      it.remove();
+      evictions++;
+    }
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    size = 0;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  public synchronized long hits() {
+    return hits;
+  }
+
+  public synchronized long misses() {
+    return misses;
+  }
+
+  public synchronized long evictions() {
+    return evictions;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return new ToStringBuilder(this)
+        .append("entries", entries.size())
+        .append("size", size)
+        .append("capacity", capacity)
+        .append("hits", hits)
+        .append("misses", misses)
+        .append("evictions", evictions)
+        .toString();
+  }
+}
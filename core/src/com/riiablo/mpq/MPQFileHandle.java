@@ -4,8 +4,10 @@ import com.badlogic.gdx.files.FileHandle;
 
 import org.apache.commons.io.FilenameUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.util.Arrays;
 
 public class MPQFileHandle extends FileHandle {
   private static final String TAG = "MPQFileHandle";
@@ -13,24 +15,60 @@ public class MPQFileHandle extends FileHandle {
   public final MPQ mpq;
   public final String fileName;
 
+  /** Resolved block, or {@code null} if it should be looked up on each access. */
+  final MPQ.BlockTable.Block block;
+  /** Cache of decoded contents keyed by normalized name, or {@code null} if not cached. */
+  final MPQFileCache cache;
+  final String key;
+
   public MPQFileHandle(MPQ mpq, String fileName) {
+    this(mpq, fileName, null, null, null);
+  }
+
+  MPQFileHandle(MPQ mpq, String fileName, String key, MPQ.BlockTable.Block block, MPQFileCache cache) {
     this.mpq = mpq;
     this.fileName = fileName;
+    this.key = key;
+    this.block = block;
+    this.cache = cache;
   }
 
   @Override
   public InputStream read() {
-    return mpq.read(this);
+    if (block == null) {
+      return mpq.read(this);
+    } else if (cache != null && cache.accepts(block.FSize)) {
+      return new ByteArrayInputStream(readCached());
+    }
+
+    return new MPQInputStream(mpq, key, block);
   }
 
   @Override
   public byte[] readBytes() {
-    return mpq.readBytes(this);
+    if (block == null) {
+      return mpq.readBytes(this);
+    } else if (cache != null && cache.accepts(block.FSize)) {
+      byte[] bytes = readCached();
+      return Arrays.copyOf(bytes, bytes.length);
+    }
+
+    return MPQInputStream.readBytes(mpq, key, block);
+  }
+
+  private byte[] readCached() {
+    byte[] bytes = cache.get(key);
+    if (bytes == null) {
+      bytes = MPQInputStream.readBytes(mpq, key, block);
+      cache.put(key, bytes);
+    }
+
+    return bytes;
   }
 
   @Override
   public boolean exists() {
-    return mpq.contains(fileName);
+    return block != null || mpq.contains(fileName);
   }
 
   @Override
@@ -40,7 +78,7 @@ public class MPQFileHandle extends FileHandle {
 
   @Override
   public long length() {
-    return mpq.length(fileName);
+    return block != null ? block.FSize : mpq.length(fileName);
   }
 
   @Override
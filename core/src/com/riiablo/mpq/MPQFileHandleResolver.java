@@ -5,6 +5,7 @@ import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.files.FileHandle;
 import com.riiablo.Riiablo;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 public class MPQFileHandleResolver implements FileHandleResolver {
@@ -27,7 +28,22 @@ public class MPQFileHandleResolver implements FileHandleResolver {
     this(Riiablo.home);
   }
 
+  /**
+   * Merged index of every file name looked up so far, mapping the normalized name to the archive
+   * and block of the highest priority archive containing it (or {@link #MISSING}). Archives store
+   * only hashes of names, so entries are added as names are first resolved.
+   */
+  private final ConcurrentHashMap<String, Entry> index = new ConcurrentHashMap<>();
+
+  /** Cache of decoded file contents shared by all handles created by this resolver. */
+  public final MPQFileCache cache;
+
   public MPQFileHandleResolver(FileHandle home) {
+    this(home, MPQFileCache.DEFAULT_CAPACITY);
+  }
+
+  public MPQFileHandleResolver(FileHandle home, int cacheCapacity) {
+    cache    = new MPQFileCache(cacheCapacity);
     patch_d2 = add(home.child("patch_d2.mpq"));
     d2exp    = add(home.child("d2exp.mpq"));
     d2xmusic = add(home.child("d2xmusic.mpq"));
@@ -45,6 +61,8 @@ public class MPQFileHandleResolver implements FileHandleResolver {
 
   public MPQ add(MPQ mpq) {
     mpqs.add(mpq);
+    index.clear();
+    cache.clear();
     return mpq;
   }
 
@@ -53,27 +71,54 @@ public class MPQFileHandleResolver implements FileHandleResolver {
   }
 
   public boolean contains(String fileName) {
-    for (MPQ mpq : mpqs) {
-      if (mpq.contains(fileName)) {
-        return true;
-      }
-    }
-
-    return false;
+    return fileName != null && lookup(fileName) != MISSING;
   }
 
   @Override
   public FileHandle resolve(String fileName) {
     if (DEBUG) Gdx.app.debug(TAG, "Resolving " + fileName);
     if (fileName == null) return null;
+    Entry entry = lookup(fileName);
+    if (entry == MISSING) {
+      //Gdx.app.error(TAG, "Could not resolve " + fileName);
+      return null;
+    }
+
+    if (DEBUG) Gdx.app.debug(TAG, fileName + " found in " + entry.mpq);
+    return new MPQFileHandle(entry.mpq, fileName, entry.name, entry.block, cache);
+  }
+
+  private Entry lookup(String fileName) {
+    final String name = MPQ.normalize(fileName);
+    Entry entry = index.get(name);
+    if (entry != null) return entry;
+
+    final long key = MPQ.HashTable.File.key(name);
+    final int offset = MPQ.HashTable.File.offset(name);
+    entry = MISSING;
     for (MPQ mpq : mpqs) {
-      if (mpq.contains(fileName)) {
-        if (DEBUG) Gdx.app.debug(TAG, fileName + " found in " + mpq);
-        return new MPQFileHandle(mpq, fileName);
+      MPQ.BlockTable.Block block = mpq.getBlock(key, offset);
+      if (block != null) {
+        entry = new Entry(name, mpq, block);
+        break;
       }
     }
 
-    //Gdx.app.error(TAG, "Could not resolve " + fileName);
-    return null;
+    index.put(name, entry);
+    return entry;
+  }
+
+  private static final Entry MISSING = new Entry(null, null, null);
+
+  private static final class Entry {
+    final String name;
+    final MPQ mpq;
+    final MPQ.BlockTable.Block block;
+
+    Entry(String name, MPQ mpq, MPQ.BlockTable.Block block) {
+      this.name = name;
+      this.mpq = mpq;
+      this.block = block;
+    }
   }
 }
@@ -2,31 +2,66 @@ package com.riiablo.mpq;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.GdxRuntimeException;
-import com.badlogic.gdx.utils.StreamUtils;
 import com.riiablo.mpq.util.Decompressor;
 import com.riiablo.mpq.util.Decryptor;
 import com.riiablo.mpq.util.Exploder;
-import com.riiablo.util.BufferUtils;
 
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.util.Arrays;
-
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reads a file out of the memory-mapped archive of an {@link MPQ}. Sectors are decrypted and
+ * decompressed directly from read-only views of the mapping, so no file handles are opened per
+ * read, and blocks which are neither compressed nor encrypted are served without any copy.
+ */
 public class MPQInputStream extends InputStream {
   private static final String TAG = "MPQInputStream";
   private static final boolean DEBUG = !true;
 
-  private static final int[] ZERO_ARRAY = new int[] { 0 };
+  /**
+   * Minimum number of sectors each {@link SectorTask} will decode before splitting.
+   */
+  static final int SECTORS_PER_TASK = 4;
+
+  /**
+   * Sector and scratch buffers used by {@link #readBytes} are pooled per thread, so concurrent
+   * reads from loader threads or a {@link ForkJoinPool} don't allocate per file.
+   */
+  private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<Buffers>() {
+    @Override
+    protected Buffers initialValue() {
+      return new Buffers();
+    }
+  };
+
+  static final class Buffers {
+    ByteBuffer sector  = ByteBuffer.allocate(0);
+    ByteBuffer scratch = ByteBuffer.allocate(0);
+
+    Buffers ensureCapacity(int sectorCapacity, int scratchCapacity) {
+      if (sector.capacity() < sectorCapacity) {
+        sector = ByteBuffer.allocate(sectorCapacity).order(ByteOrder.LITTLE_ENDIAN);
+      }
+
+      if (scratch.capacity() < scratchCapacity) {
+        scratch = ByteBuffer.allocate(scratchCapacity).order(ByteOrder.LITTLE_ENDIAN);
+      }
+
+      sector.clear();
+      scratch.clear();
+      return this;
+    }
+  }
 
-  final FileChannel          fc;
   final MPQ.BlockTable.Block block;
+  final ByteBuffer           data;
   final ByteBuffer           sector;
   final ByteBuffer           buffer;
   final ByteBuffer           scratch;
@@ -37,72 +72,50 @@ public class MPQInputStream extends InputStream {
 
   final int key;
   int curSector = 0;
-  int finalSize = 0;
   int read = 0;
 
   public MPQInputStream(MPQ mpq, String fileName, MPQ.BlockTable.Block block) {
-    try {
-      RandomAccessFile raf = new RandomAccessFile(mpq.file.file(), "r");
-      fc = raf.getChannel();
-      fc.position(block.filePos);
-    } catch (Exception e) {
-      throw new GdxRuntimeException("Unable to read block: " + block, e);
-    }
-
     this.block = block;
-    sectorSize = mpq.header.sectorSize;
-    sectorCount = (block.FSize + sectorSize - 1) / sectorSize;
-    sector = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
-    buffer = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
-    buffer.limit(0);
-    scratch = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
-
-    int key = 0;
-    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-      String baseName = FilenameUtils.getName(fileName);
-      key = Decryptor.HASH_ENCRYPTION_KEY.hash(baseName);
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_FIX_KEY)) {
-        key = ((key + (int) block.filePos) ^ block.FSize);
-      }
-    }
+    data = mpq.slice(block.filePos, block.CSize);
+    key = key(fileName, block);
 
-    this.key = key;
+    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT)) {
+      sectorSize = block.FSize;
+      sectorCount = 1;
+    } else {
+      sectorSize = mpq.header.sectorSize;
+      sectorCount = (block.FSize + sectorSize - 1) / sectorSize;
+    }
 
-    // TODO: Figure out if this is correct. How to check if block contains offsets table.
     if (DEBUG) Gdx.app.debug(TAG, "sectorCount = " + sectorCount);
-    //if (!block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT)) {
-    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)
-     || block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE)) {
-      if (DEBUG) Gdx.app.debug(TAG, "Populating sector offsets table");
-      sectorOffsets = new int[sectorCount + 1];
-      ByteBuffer sectors = ByteBuffer.wrap(new byte[(sectorCount + 1) << 2]).order(ByteOrder.LITTLE_ENDIAN);
-      try {
-        IOUtils.readFully(fc, sectors);
-        sectors.flip();
-      } catch (IOException e) {
-        throw new GdxRuntimeException("Unable to read sector offsets: " + block, e);
-      }
-
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector offsets table");
-        Decryptor.decrypt(key - 1, sectors);
-        sectors.flip();
-      }
-
-      for (int i = 0; i < sectorCount; i++) {
-        sectorOffsets[i] = sectors.getInt();
-      }
+    if (block.FSize == 0) {
+      // empty files have no sectors to decode, and single-unit ones would have a sector size of 0
+      sectorOffsets = null;
+      sector = scratch = null;
+      buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      buffer.limit(0);
+      curSector = sectorCount;
+      return;
+    }
 
-      sectorOffsets[sectorCount] = block.CSize;
-      if (DEBUG) Gdx.app.debug(TAG, "sector offsets = " + Arrays.toString(sectorOffsets));
+    sectorOffsets = readSectorOffsets(block, data, key, sectorCount);
+    if (isStored(block)) {
+      sector = scratch = null;
+      buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      buffer.limit(block.FSize);
+      curSector = sectorCount;
     } else {
-      sectorOffsets = ZERO_ARRAY;
+      final int sectorCapacity = Math.max(sectorSize, block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT) ? block.CSize : 0);
+      sector = ByteBuffer.allocate(sectorCapacity).order(ByteOrder.LITTLE_ENDIAN);
+      buffer = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.limit(0);
+      scratch = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
     }
   }
 
   @Override
   public int available() throws IOException {
-    return block.FSize - read; // block.FSize - buffer.position();
+    return block.FSize - read;
   }
 
   @Override
@@ -133,275 +146,241 @@ public class MPQInputStream extends InputStream {
       return -1;
     }
 
-    ByteBuffer dst = ByteBuffer.wrap(b, off, len);
-
     int read = 0;
     while (read < len && available() > 0) {
       if (!buffer.hasRemaining()) {
         readSector();
       }
 
-      int copyLen = Math.min(dst.remaining(), buffer.remaining());
+      int copyLen = Math.min(len - read, buffer.remaining());
       if (DEBUG) Gdx.app.debug(TAG, "Copying " + copyLen + " bytes");
+      buffer.get(b, off + read, copyLen);
       read += copyLen;
       this.read += copyLen;
-
-      int bufferPosition = buffer.position();
-      dst.put(buffer.array(), buffer.arrayOffset() + bufferPosition, copyLen);
-      buffer.position(bufferPosition + copyLen);
     }
 
     if (DEBUG) Gdx.app.debug(TAG, "Read " + read + " bytes [" + available() + " bytes remaining]");
     return read;
   }
 
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && available() > 0) {
+      if (!buffer.hasRemaining()) {
+        readSector();
+      }
+
+      int skipLen = (int) Math.min(n - skipped, buffer.remaining());
+      buffer.position(buffer.position() + skipLen);
+      skipped += skipLen;
+      read += skipLen;
+    }
+
+    return skipped;
+  }
+
   private void readSector() throws IOException {
     if (available() <= 0) {
       return;
     }
 
-    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT)) {
-      if (DEBUG) Gdx.app.debug(TAG, "Reading as single unit...");
+    assert curSector < sectorCount;
+    if (DEBUG) Gdx.app.debug(TAG, "Reading sector " + (curSector + 1) + " / " + sectorCount + " " + block.getFlags());
+    final int FSize = Math.min(block.FSize - curSector * sectorSize, sectorSize);
+    buffer.clear().limit(FSize);
+    readSector(block, data, sectorOffsets, key, sectorSize, curSector, sector, buffer, scratch);
+    buffer.position(0).limit(FSize);
+    curSector++;
+  }
 
-      assert sector.position() == 0;
-      assert sector.limit() == block.CSize;
-      IOUtils.readFully(fc, sector);
-      sector.flip();
+  /**
+   * Returns whether or not the specified block is stored as-is within the archive, i.e., its
+   * contents can be read directly out of the mapping.
+   */
+  static boolean isStored(MPQ.BlockTable.Block block) {
+    return !block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)
+        && !block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE)
+        && !block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED);
+  }
 
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Decrypting...");
-        Decryptor.decrypt(key, sector);
-        sector.flip();
-      }
+  static int key(String fileName, MPQ.BlockTable.Block block) {
+    if (!block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
+      return 0;
+    }
 
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Decompressing...");
-        assert buffer.position() == 0;
-        Decompressor.decompress(sector, buffer, scratch, block.CSize, block.FSize);
-        assert buffer.position() == block.FSize;
-        buffer.flip();
-      }
-    } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)) {
-      assert curSector < sectorCount;
-      if (DEBUG) Gdx.app.debug(TAG, "Reading sector " + (curSector + 1) + " / " + sectorCount);
-      fc.position(block.filePos + sectorOffsets[curSector]);
+    String baseName = FilenameUtils.getName(fileName);
+    int key = Decryptor.HASH_ENCRYPTION_KEY.hash(baseName);
+    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_FIX_KEY)) {
+      key = ((key + (int) block.filePos) ^ block.FSize);
+    }
 
-      final int start = sectorOffsets[curSector];
-      final int end   = sectorOffsets[curSector + 1];
-      final int CSize = end - start;
-      sector.clear();
-      sector.limit(CSize);
-      IOUtils.readFully(fc, sector);
-      sector.rewind();
-
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector...");
-        Decryptor.decrypt(key + curSector, sector);
-        sector.flip();
-      }
+    return key;
+  }
 
-      if (DEBUG) Gdx.app.debug(TAG, "Decompressing sector...");
-      final int FSize = Math.min(block.FSize - finalSize, sectorSize);
-      buffer.rewind().limit(FSize);
-      Decompressor.decompress(sector, buffer, scratch, CSize, FSize);
-      if (DEBUG) Gdx.app.debug(TAG, "Decompressed " + buffer.limit() + " bytes");
-      buffer.rewind();
-
-      finalSize += sectorSize;
-      curSector++;
-    } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE)) {
-      assert curSector < sectorCount;
-      if (DEBUG) Gdx.app.debug(TAG, "Reading sector " + (curSector + 1) + " / " + sectorCount + " " + block.getFlags());
-      fc.position(block.filePos + sectorOffsets[curSector]);
+  /**
+   * Reads the sector offsets table at the start of {@code data}, or returns {@code null} if the
+   * block has no such table.
+   */
+  static int[] readSectorOffsets(MPQ.BlockTable.Block block, ByteBuffer data, int key, int sectorCount) {
+    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT)
+        || (!block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)
+         && !block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE))) {
+      return null;
+    }
+
+    if (DEBUG) Gdx.app.debug(TAG, "Populating sector offsets table");
+    ByteBuffer sectors = view(data, 0, (sectorCount + 1) << 2);
+    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
+      if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector offsets table");
+      ByteBuffer decrypted = ByteBuffer.allocate(sectors.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+      Decryptor.decrypt(key - 1, sectors, decrypted);
+      decrypted.flip();
+      sectors = decrypted;
+    }
 
-      final int start = sectorOffsets[curSector];
-      final int end = sectorOffsets[curSector + 1];
-      final int CSize = end - start;
+    final int[] sectorOffsets = new int[sectorCount + 1];
+    for (int i = 0; i < sectorCount; i++) {
+      sectorOffsets[i] = sectors.getInt();
+    }
+
+    sectorOffsets[sectorCount] = block.CSize;
+    if (DEBUG) Gdx.app.debug(TAG, "sector offsets = " + Arrays.toString(sectorOffsets));
+    return sectorOffsets;
+  }
+
+  /**
+   * Decodes sector {@code index} of {@code block} into {@code out}, which must have exactly the
+   * decoded size of the sector remaining. {@code sector} is only written to if the block is
+   * encrypted, and {@code scratch} is passed through to the {@link Decompressor}.
+   */
+  static void readSector(
+      MPQ.BlockTable.Block block, ByteBuffer data, int[] sectorOffsets, int key, int sectorSize,
+      int index, ByteBuffer sector, ByteBuffer out, ByteBuffer scratch) {
+    final int FSize = out.remaining();
+    final int start, CSize;
+    if (sectorOffsets != null) {
+      start = sectorOffsets[index];
+      CSize = sectorOffsets[index + 1] - start;
+    } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT)) {
+      start = 0;
+      CSize = block.CSize;
+    } else {
+      start = index * sectorSize;
+      CSize = FSize;
+    }
+
+    ByteBuffer in = view(data, start, CSize);
+    if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
+      if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector...");
       sector.clear();
-      sector.limit(CSize);
-      IOUtils.readFully(fc, sector);
-      sector.rewind();
-
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector...");
-        Decryptor.decrypt(key + curSector, sector);
-        sector.flip();
-      }
+      Decryptor.decrypt(key + index, in, sector);
+      sector.flip();
+      in = sector;
+    }
 
+    if (CSize == FSize) {
+      out.put(in);
+    } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)) {
+      if (DEBUG) Gdx.app.debug(TAG, "Decompressing sector...");
+      Decompressor.decompress(in, out, scratch, CSize, FSize);
+    } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE)) {
       if (DEBUG) Gdx.app.debug(TAG, "Exploding sector...");
-      final int FSize = Math.min(block.FSize - finalSize, sectorSize);
-      buffer.rewind().limit(FSize);
-      if (CSize == sectorSize) {
-        buffer.put(sector);
-      } else {
-        Exploder.pkexplode(sector, buffer);
-      }
-      if (DEBUG) Gdx.app.debug(TAG, "Exploded to " + buffer.position() + " bytes");
-      buffer.rewind();
-
-      finalSize += sectorSize;
-      curSector++;
-    } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_EXISTS)) {
-      assert block.CSize == block.FSize : "Shouldn't be compressed";
-      assert curSector < sectorCount;
-      if (DEBUG) Gdx.app.debug(TAG, "Reading sector " + (curSector + 1) + " / " + sectorCount + " " + block.getFlags());
-
-      final int FSize = Math.min(block.FSize - finalSize, sectorSize);
-      buffer.rewind().limit(FSize);
-      IOUtils.readFully(fc, buffer);
-      buffer.rewind();
-
-      finalSize += sectorSize;
-      curSector++;
+      Exploder.pkexplode(in, out);
     } else {
       throw new UnsupportedOperationException("File has unsupported flags " + block.getFlags());
-      /*
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-        Gdx.app.log(TAG, "Decrypting sector...");
-        Decryptor.decrypt(key, sector);
-        sector.flip();
-      }
-
-      assert buffer.position() == 0;
-      buffer.put(sector);
-      buffer.flip();
-      */
     }
   }
 
+  static ByteBuffer view(ByteBuffer data, int offset, int length) {
+    ByteBuffer view = data.duplicate();
+    view.position(offset);
+    view.limit(offset + length);
+    return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
   public static byte[] readBytes(MPQ mpq, String fileName, MPQ.BlockTable.Block block) {
-    RandomAccessFile raf = null;
-    try {
-      raf = new RandomAccessFile(mpq.file.file(), "r");
-      FileChannel fc = raf.getChannel();
-      fc.position(block.filePos);
+    return readBytes(mpq, fileName, block, null);
+  }
 
-      final int sectorSize = mpq.header.sectorSize;
-      final int sectorCount = (block.FSize + sectorSize - 1) / sectorSize;
-      final ByteBuffer sector = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
-      final ByteBuffer buffer = ByteBuffer.allocate(block.FSize).order(ByteOrder.LITTLE_ENDIAN);
-      final ByteBuffer scratch = ByteBuffer.allocate(sectorSize).order(ByteOrder.LITTLE_ENDIAN);
-
-      int tmp = 0;
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-        String baseName = FilenameUtils.getName(fileName);
-        tmp = Decryptor.HASH_ENCRYPTION_KEY.hash(baseName);
-        if (block.hasFlag(MPQ.BlockTable.Block.FLAG_FIX_KEY)) {
-          tmp = ((tmp + (int) block.filePos) ^ block.FSize);
-        }
+  /**
+   * Reads the entire contents of {@code block}. If {@code pool} is not {@code null}, then the
+   * sectors of the file are decoded in parallel on it, otherwise they are decoded on the calling
+   * thread.
+   */
+  public static byte[] readBytes(MPQ mpq, String fileName, MPQ.BlockTable.Block block, ForkJoinPool pool) {
+    try {
+      final ByteBuffer data = mpq.slice(block.filePos, block.CSize);
+      final byte[] bytes = new byte[block.FSize];
+      if (block.FSize == 0) {
+        return bytes;
+      } else if (isStored(block)) {
+        data.get(bytes);
+        return bytes;
       }
 
-      final int key = tmp;
-      if (block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Reading as single unit...");
-        IOUtils.readFully(fc, sector);
-        sector.flip();
-
-        if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-          if (DEBUG) Gdx.app.debug(TAG, "Decrypting...");
-          Decryptor.decrypt(key, sector);
-          sector.flip();
-        }
-
-        if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)) {
-          if (DEBUG) Gdx.app.debug(TAG, "Decompressing...");
-          Decompressor.decompress(sector, buffer, scratch, block.CSize, block.FSize);
-          assert buffer.position() == block.FSize;
-          buffer.flip();
-        }
-
-        buffer.flip();
-      } else if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED) || block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE)) {
-        if (DEBUG) Gdx.app.debug(TAG, "Populating sector offsets table");
-        final int[] sectorOffsets = new int[sectorCount + 1];
-        ByteBuffer sectors = ByteBuffer.wrap(new byte[(sectorCount + 1) << 2]).order(ByteOrder.LITTLE_ENDIAN);
-        try {
-          IOUtils.readFully(fc, sectors);
-          sectors.flip();
-        } catch (IOException e) {
-          throw new GdxRuntimeException("Unable to read sector offsets: " + block, e);
-        }
-
-        if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-          if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector offsets table");
-          Decryptor.decrypt(key - 1, sectors);
-          sectors.flip();
-        }
-
-        for (int i = 0; i < sectorCount; i++) {
-          sectorOffsets[i] = sectors.getInt();
-        }
-
-        sectorOffsets[sectorCount] = block.CSize;
-        if (DEBUG) Gdx.app.debug(TAG, "sector offsets = " + Arrays.toString(sectorOffsets));
-
-        int finalSize = 0;
-        for (int curSector = 0; curSector < sectorCount; curSector++) {
-          if (DEBUG) Gdx.app.debug(TAG, "Reading sector " + (curSector + 1) + " / " + sectorCount + " " + block.getFlags());
-          fc.position(block.filePos + sectorOffsets[curSector]);
-
-          final int start = sectorOffsets[curSector];
-          final int end = sectorOffsets[curSector + 1];
-          final int CSize = end - start;
-          sector.clear();
-          sector.limit(CSize);
-          IOUtils.readFully(fc, sector);
-          sector.rewind();
-
-          if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-            if (DEBUG) Gdx.app.debug(TAG, "Decrypting sector...");
-            Decryptor.decrypt(key + curSector, sector);
-            sector.flip();
-          }
-
-          if (block.hasFlag(MPQ.BlockTable.Block.FLAG_COMPRESSED)) {
-            if (DEBUG) Gdx.app.debug(TAG, "Decompressing sector...");
-            final int FSize = Math.min(block.FSize - finalSize, sectorSize);
-            ByteBuffer slice = BufferUtils.slice(buffer, FSize);
-            Decompressor.decompress(sector, slice, scratch, CSize, FSize);
-            if (DEBUG) Gdx.app.debug(TAG, "Decompressed " + slice.limit() + " bytes");
-            buffer.position(buffer.position() + slice.limit());
-          } else {
-            assert block.hasFlag(MPQ.BlockTable.Block.FLAG_IMPLODE);
-            if (DEBUG) Gdx.app.debug(TAG, "Exploding sector...");
-            final int FSize = Math.min(block.FSize - finalSize, sectorSize);
-            ByteBuffer slice = BufferUtils.slice(buffer, FSize);
-            if (CSize == sectorSize) {
-              slice.put(sector);
-            } else {
-              Exploder.pkexplode(sector, slice);
-            }
-            if (DEBUG) Gdx.app.debug(TAG, "Exploded to " + slice.limit() + " bytes");
-            buffer.position(buffer.position() + slice.limit());
-          }
-
-          finalSize += sectorSize;
-        }
+      final int key = key(fileName, block);
+      final boolean singleUnit = block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT);
+      final int sectorSize = singleUnit ? block.FSize : mpq.header.sectorSize;
+      final int sectorCount = (block.FSize + sectorSize - 1) / sectorSize;
+      final int[] sectorOffsets = readSectorOffsets(block, data, key, sectorCount);
+      SectorTask task = new SectorTask(block, data, sectorOffsets, key, sectorSize, bytes, 0, sectorCount);
+      if (pool != null && sectorCount > SECTORS_PER_TASK) {
+        pool.invoke(task);
       } else {
-        throw new UnsupportedOperationException("File has unsupported flags " + block.getFlags());
-        /*
-        if (DEBUG) Gdx.app.debug(TAG, "Reading as single unit...");
-        if (DEBUG) Gdx.app.debug(TAG, "Not single unit or compressed: " + block.FSize + " =? " + block.CSize);
-        IOUtils.readFully(fc, sector);
-        sector.flip();
-
-        if (block.hasFlag(MPQ.BlockTable.Block.FLAG_ENCRYPTED)) {
-          Gdx.app.log(TAG, "Decrypting sector...");
-          Decryptor.decrypt(key, sector);
-          sector.flip();
-        }
-
-        buffer.put(sector);
-        buffer.flip();
-        */
+        task.compute();
       }
 
-      assert buffer.limit() == block.FSize : "buffer.limit() = " + buffer.limit() + " not equal to block.FSize " + block.FSize;
-      return buffer.array();
+      return bytes;
     } catch (Exception e) {
       throw new GdxRuntimeException("Unable to read file: " + fileName, e);
-    } finally {
-      StreamUtils.closeQuietly(raf);
+    }
+  }
+
+  static final class SectorTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final MPQ.BlockTable.Block block;
+    final ByteBuffer data;
+    final int[] sectorOffsets;
+    final int key;
+    final int sectorSize;
+    final byte[] bytes;
+    final int from, to;
+
+    SectorTask(MPQ.BlockTable.Block block, ByteBuffer data, int[] sectorOffsets, int key,
+               int sectorSize, byte[] bytes, int from, int to) {
+      this.block = block;
+      this.data = data;
+      this.sectorOffsets = sectorOffsets;
+      this.key = key;
+      this.sectorSize = sectorSize;
+      this.bytes = bytes;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > SECTORS_PER_TASK && getPool() != null) {
+        final int mid = (from + to) >>> 1;
+        invokeAll(
+            new SectorTask(block, data, sectorOffsets, key, sectorSize, bytes, from, mid),
+            new SectorTask(block, data, sectorOffsets, key, sectorSize, bytes, mid, to));
+        return;
+      }
+
+      final boolean singleUnit = block.hasFlag(MPQ.BlockTable.Block.FLAG_SINGLE_UNIT);
+      final Buffers buffers = BUFFERS.get().ensureCapacity(singleUnit ? Math.max(block.CSize, sectorSize) : sectorSize, sectorSize);
+      final ByteBuffer data = this.data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+      for (int curSector = from; curSector < to; curSector++) {
+        if (DEBUG) Gdx.app.debug(TAG, "Reading sector " + (curSector + 1) + " / " + to + " " + block.getFlags());
+        final int offset = curSector * sectorSize;
+        final int FSize = Math.min(block.FSize - offset, sectorSize);
+        ByteBuffer slice = view(buffer, offset, FSize);
+        readSector(block, data, sectorOffsets, key, sectorSize, curSector, buffers.sector, slice, buffers.scratch);
+      }
     }
   }
 }
@@ -37,15 +37,21 @@ public class ADPCM {
     byte  stepIndex;
   }
 
-  private static final Channel[] state = new Channel[2];
-  static {
-    for (int i = 0; i < CHANNELS; i++) {
-      state[i] = new Channel();
+  private static final ThreadLocal<Channel[]> STATE = new ThreadLocal<Channel[]>() {
+    @Override
+    protected Channel[] initialValue() {
+      Channel[] state = new Channel[CHANNELS];
+      for (int i = 0; i < CHANNELS; i++) {
+        state[i] = new Channel();
+      }
+
+      return state;
     }
-  }
+  };
 
   public static void decompress(ByteBuffer in, ByteBuffer out, int numChannels) {
     assert in.order() == ByteOrder.LITTLE_ENDIAN && out.order() == ByteOrder.LITTLE_ENDIAN : "in.order() = " + in.order() + "; out.order() = " + out.order();
+    final Channel[] state = STATE.get();
 
     byte stepshift = (byte) (in.getShort() >>> Byte.SIZE);
     for (int i = 0; i < numChannels; i++) {
@@ -0,0 +1,344 @@
+package com.riiablo.mpq.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Decoder for bzip2 streams operating directly on {@link ByteBuffer}s. Decoder state (including
+ * the block array used to undo the BWT) is kept per thread and reused between calls.
+ *
+ * @see <a href="https://sourceware.org/bzip2/">bzip2</a>
+ */
+public class BZip2 {
+  private BZip2() {}
+
+  private static final int BLOCK_MAGIC_HI = 0x314159;
+  private static final int BLOCK_MAGIC_LO = 0x265359;
+  private static final int EOS_MAGIC_HI   = 0x177245;
+  private static final int EOS_MAGIC_LO   = 0x385090;
+
+  private static final int RUNA = 0;
+  private static final int RUNB = 1;
+
+  private static final int MAX_GROUPS     = 6;
+  private static final int MAX_ALPHA_SIZE = 258;
+  private static final int MAX_CODE_LEN   = 23;
+  private static final int GROUP_SIZE     = 50;
+  private static final int MAX_SELECTORS  = 2 + (900000 / GROUP_SIZE);
+
+  private static final int[] CRC_TABLE = new int[256];
+  static {
+    for (int i = 0; i < 256; i++) {
+      int crc = i << 24;
+      for (int j = 0; j < 8; j++) {
+        crc = (crc & 0x80000000) != 0 ? (crc << 1) ^ 0x04C11DB7 : crc << 1;
+      }
+
+      CRC_TABLE[i] = crc;
+    }
+  }
+
+  private static final ThreadLocal<State> STATE = new ThreadLocal<State>() {
+    @Override
+    protected State initialValue() {
+      return new State();
+    }
+  };
+
+  private static final class State {
+    ByteBuffer in;
+    int bitBuffer;
+    int bitCount;
+
+    final byte[]   seqToUnseq  = new byte[256];
+    final byte[]   selectorMtf = new byte[MAX_SELECTORS];
+    final byte[]   selector    = new byte[MAX_SELECTORS];
+    final byte[][] len         = new byte[MAX_GROUPS][MAX_ALPHA_SIZE];
+    final int[][]  limit       = new int[MAX_GROUPS][MAX_CODE_LEN];
+    final int[][]  base        = new int[MAX_GROUPS][MAX_CODE_LEN];
+    final int[][]  perm        = new int[MAX_GROUPS][MAX_ALPHA_SIZE];
+    final int[]    minLens     = new int[MAX_GROUPS];
+    final int[]    unzftab     = new int[256];
+    final int[]    cftab       = new int[257];
+    final byte[]   mtf         = new byte[256];
+    final byte[]   groupMtf    = new byte[MAX_GROUPS];
+    int[] tt = new int[1 << 16];
+
+    int bits(int n) {
+      while (bitCount < n) {
+        if (!in.hasRemaining()) throw new IllegalArgumentException("Incomplete input");
+        bitBuffer = (bitBuffer << 8) | (in.get() & 0xFF);
+        bitCount += 8;
+      }
+
+      bitCount -= n;
+      return (bitBuffer >>> bitCount) & ((1 << n) - 1);
+    }
+
+    boolean bit() {
+      return bits(1) != 0;
+    }
+
+    int[] tt(int size) {
+      if (tt.length < size) tt = Arrays.copyOf(tt, Math.max(size, tt.length << 1));
+      return tt;
+    }
+  }
+
+  /**
+   * Decompresses the bzip2 stream remaining in {@code in} into {@code out}.
+   */
+  public static void decompress(ByteBuffer in, ByteBuffer out) {
+    State s = STATE.get();
+    s.in = in;
+    s.bitBuffer = 0;
+    s.bitCount = 0;
+    try {
+      if (s.bits(8) != 'B' || s.bits(8) != 'Z' || s.bits(8) != 'h') {
+        throw new IllegalArgumentException("Bad stream header");
+      }
+
+      int blockSize100k = s.bits(8) - '0';
+      if (blockSize100k < 1 || blockSize100k > 9) {
+        throw new IllegalArgumentException("Bad block size: " + blockSize100k);
+      }
+
+      for (;;) {
+        int magicHi = s.bits(24);
+        int magicLo = s.bits(24);
+        if (magicHi == EOS_MAGIC_HI && magicLo == EOS_MAGIC_LO) {
+          s.bits(16); s.bits(16); // combined crc, each block is already checked
+          break;
+        } else if (magicHi != BLOCK_MAGIC_HI || magicLo != BLOCK_MAGIC_LO) {
+          throw new IllegalArgumentException("Bad block header");
+        }
+
+        decodeBlock(s, out, blockSize100k * 100000);
+      }
+    } finally {
+      s.in = null;
+    }
+  }
+
+  private static void decodeBlock(State s, ByteBuffer out, int maxBlockSize) {
+    final int blockCRC = (s.bits(16) << 16) | s.bits(16);
+    if (s.bit()) {
+      throw new UnsupportedOperationException("Randomised blocks are not supported");
+    }
+
+    final int origPtr = s.bits(24);
+
+    int nInUse = 0;
+    final int inUse16 = s.bits(16);
+    for (int i = 0; i < 16; i++) {
+      if ((inUse16 & (0x8000 >>> i)) != 0) {
+        final int inUse = s.bits(16);
+        for (int j = 0; j < 16; j++) {
+          if ((inUse & (0x8000 >>> j)) != 0) {
+            s.seqToUnseq[nInUse++] = (byte) ((i << 4) + j);
+          }
+        }
+      }
+    }
+
+    if (nInUse == 0) throw new IllegalArgumentException("No symbols in use");
+    final int alphaSize = nInUse + 2;
+
+    final int nGroups = s.bits(3);
+    if (nGroups < 2 || nGroups > MAX_GROUPS) throw new IllegalArgumentException("Bad group count: " + nGroups);
+    final int nSelectors = s.bits(15);
+    if (nSelectors < 1 || nSelectors > MAX_SELECTORS) throw new IllegalArgumentException("Bad selector count: " + nSelectors);
+
+    for (int i = 0; i < nSelectors; i++) {
+      int j = 0;
+      while (s.bit()) {
+        if (++j >= nGroups) throw new IllegalArgumentException("Bad selector");
+      }
+
+      s.selectorMtf[i] = (byte) j;
+    }
+
+    final byte[] groupMtf = s.groupMtf;
+    for (int i = 0; i < nGroups; i++) groupMtf[i] = (byte) i;
+    for (int i = 0; i < nSelectors; i++) {
+      int v = s.selectorMtf[i];
+      byte tmp = groupMtf[v];
+      for (; v > 0; v--) groupMtf[v] = groupMtf[v - 1];
+      groupMtf[0] = tmp;
+      s.selector[i] = tmp;
+    }
+
+    for (int t = 0; t < nGroups; t++) {
+      int curr = s.bits(5);
+      final byte[] len = s.len[t];
+      for (int i = 0; i < alphaSize; i++) {
+        for (;;) {
+          if (curr < 1 || curr > 20) throw new IllegalArgumentException("Bad code length: " + curr);
+          if (!s.bit()) break;
+          curr += s.bit() ? -1 : 1;
+        }
+
+        len[i] = (byte) curr;
+      }
+    }
+
+    for (int t = 0; t < nGroups; t++) {
+      final byte[] len = s.len[t];
+      int minLen = 32, maxLen = 0;
+      for (int i = 0; i < alphaSize; i++) {
+        if (len[i] > maxLen) maxLen = len[i];
+        if (len[i] < minLen) minLen = len[i];
+      }
+
+      createDecodeTables(s.limit[t], s.base[t], s.perm[t], len, minLen, maxLen, alphaSize);
+      s.minLens[t] = minLen;
+    }
+
+    final int EOB = nInUse + 1;
+    final int[] unzftab = s.unzftab;
+    for (int i = 0; i < 256; i++) unzftab[i] = 0;
+    final byte[] mtf = s.mtf;
+    for (int i = 0; i < 256; i++) mtf[i] = (byte) i;
+
+    int[] tt = s.tt;
+    int nblock = 0;
+    int groupNo = -1;
+    int groupPos = 0;
+    int[] gLimit = null, gBase = null, gPerm = null;
+    int gMinLen = 0;
+    int runLength = 0;
+    int runWeight = 1;
+    int nextSym;
+    for (;;) {
+      // decode next symbol
+      if (groupPos == 0) {
+        if (++groupNo >= nSelectors) throw new IllegalArgumentException("Ran out of selectors");
+        groupPos = GROUP_SIZE;
+        final int gSel = s.selector[groupNo];
+        gMinLen = s.minLens[gSel];
+        gLimit = s.limit[gSel];
+        gBase = s.base[gSel];
+        gPerm = s.perm[gSel];
+      }
+
+      groupPos--;
+      int zn = gMinLen;
+      int zvec = s.bits(zn);
+      while (zvec > gLimit[zn]) {
+        if (++zn > 20) throw new IllegalArgumentException("Bad huffman code");
+        zvec = (zvec << 1) | s.bits(1);
+      }
+
+      final int index = zvec - gBase[zn];
+      if (index < 0 || index >= MAX_ALPHA_SIZE) throw new IllegalArgumentException("Bad huffman code");
+      nextSym = gPerm[index];
+
+      if (nextSym == EOB) {
+        break;
+      } else if (nextSym == RUNA || nextSym == RUNB) {
+        if (runLength == 0) runWeight = 1;
+        runLength += runWeight << nextSym;
+        runWeight <<= 1;
+        if (runLength > maxBlockSize) throw new IllegalArgumentException("Run too long");
+        continue;
+      }
+
+      if (runLength > 0) {
+        nblock = flushRun(s, tt = s.tt(nblock + runLength), nblock, runLength, maxBlockSize);
+        runLength = 0;
+      }
+
+      if (nblock >= maxBlockSize) throw new IllegalArgumentException("Block too long");
+      final int nn = nextSym - 1;
+      final byte uc = mtf[nn];
+      System.arraycopy(mtf, 0, mtf, 1, nn);
+      mtf[0] = uc;
+      final int ch = s.seqToUnseq[uc & 0xFF] & 0xFF;
+      unzftab[ch]++;
+      tt = s.tt(nblock + 1);
+      tt[nblock++] = ch;
+    }
+
+    if (runLength > 0) {
+      nblock = flushRun(s, tt = s.tt(nblock + runLength), nblock, runLength, maxBlockSize);
+      runLength = 0;
+    }
+
+    if (origPtr < 0 || origPtr >= nblock) throw new IllegalArgumentException("Bad origPtr: " + origPtr);
+
+    final int[] cftab = s.cftab;
+    cftab[0] = 0;
+    for (int i = 1; i <= 256; i++) cftab[i] = cftab[i - 1] + unzftab[i - 1];
+    for (int i = 0; i < nblock; i++) {
+      final int ch = tt[i] & 0xFF;
+      tt[cftab[ch]++] |= i << 8;
+    }
+
+    int crc = 0xFFFFFFFF;
+    int tPos = tt[origPtr] >>> 8;
+    int last = -1;
+    int count = 0;
+    for (int k = 0; k < nblock; k++) {
+      tPos = tt[tPos];
+      final int ch = tPos & 0xFF;
+      tPos >>>= 8;
+      if (count == 4) {
+        for (int i = 0; i < ch; i++) {
+          out.put((byte) last);
+          crc = (crc << 8) ^ CRC_TABLE[((crc >>> 24) ^ last) & 0xFF];
+        }
+
+        count = 0;
+        continue;
+      }
+
+      if (ch == last) {
+        count++;
+      } else {
+        last = ch;
+        count = 1;
+      }
+
+      out.put((byte) ch);
+      crc = (crc << 8) ^ CRC_TABLE[((crc >>> 24) ^ ch) & 0xFF];
+    }
+
+    crc = ~crc;
+    if (crc != blockCRC) {
+      throw new IllegalArgumentException("Block CRC mismatch: " + Integer.toHexString(crc) + " != " + Integer.toHexString(blockCRC));
+    }
+  }
+
+  private static int flushRun(State s, int[] tt, int nblock, int runLength, int maxBlockSize) {
+    if (nblock + runLength > maxBlockSize) throw new IllegalArgumentException("Block too long");
+    final int ch = s.seqToUnseq[s.mtf[0] & 0xFF] & 0xFF;
+    s.unzftab[ch] += runLength;
+    for (int i = 0; i < runLength; i++) tt[nblock++] = ch;
+    return nblock;
+  }
+
+  private static void createDecodeTables(int[] limit, int[] base, int[] perm, byte[] len, int minLen, int maxLen, int alphaSize) {
+    int pp = 0;
+    for (int i = minLen; i <= maxLen; i++) {
+      for (int j = 0; j < alphaSize; j++) {
+        if (len[j] == i) perm[pp++] = j;
+      }
+    }
+
+    for (int i = 0; i < MAX_CODE_LEN; i++) base[i] = 0;
+    for (int i = 0; i < alphaSize; i++) base[len[i] + 1]++;
+    for (int i = 1; i < MAX_CODE_LEN; i++) base[i] += base[i - 1];
+    for (int i = 0; i < MAX_CODE_LEN; i++) limit[i] = 0;
+
+    int vec = 0;
+    for (int i = minLen; i <= maxLen; i++) {
+      vec += base[i + 1] - base[i];
+      limit[i] = vec - 1;
+      vec <<= 1;
+    }
+
+    for (int i = minLen + 1; i <= maxLen; i++) {
+      base[i] = ((limit[i - 1] + 1) << 1) - base[i];
+    }
+  }
+}
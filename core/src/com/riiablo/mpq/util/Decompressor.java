@@ -3,7 +3,6 @@ package com.riiablo.mpq.util;
 import com.badlogic.gdx.Gdx;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicReference;
 
 public class Decompressor {
   private Decompressor() {}
@@ -20,75 +19,98 @@ public class Decompressor {
   private static final byte FLAG_SPARSE  = 0x20;
   private static final byte FLAG_ADPCM1C = 0x40;
   private static final byte FLAG_ADPCM2C = -0x80;
-  private static final byte FLAG_LMZA    = 0x12;
+  private static final byte FLAG_LMZA    = 0x12; // exclusive, not a mask
 
   private static final byte ADPCM_MASK   = FLAG_ADPCM1C | FLAG_ADPCM2C;
 
-  private static AtomicReference<Huffman> huffman = new AtomicReference<>();
+  /**
+   * Stages in the order they are undone, i.e., the reverse of the order they are applied when
+   * compressing.
+   */
+  private static final byte[] STAGES = {
+      FLAG_BZIP2, FLAG_IMPLODE, FLAG_DEFLATE, FLAG_HUFFMAN, ADPCM_MASK, FLAG_SPARSE
+  };
 
+  /**
+   * {@link Huffman} keeps mutable tree state between calls, so each thread decoding sectors gets
+   * its own instance (and node pool).
+   */
+  private static final ThreadLocal<Huffman> huffman = new ThreadLocal<Huffman>() {
+    @Override
+    protected Huffman initialValue() {
+      return new Huffman();
+    }
+  };
+
+  /**
+   * Decompresses {@code sector} into {@code buffer}, which must have exactly {@code FSize} bytes
+   * remaining. Sectors compressed with multiple methods are decoded by alternating between
+   * {@code buffer} and {@code scratch}, so that the final stage always writes into {@code buffer}
+   * and {@code sector} is never written to.
+   */
   public static void decompress(ByteBuffer sector, ByteBuffer buffer, ByteBuffer scratch, int CSize, int FSize) {
+    assert buffer.remaining() == FSize;
     if (CSize == FSize) {
       buffer.put(sector);
-      buffer.rewind();
-    } else {
-      scratch.clear().limit(FSize);
-      assert buffer.remaining() == FSize;
-      byte compressionFlags = sector.get();
-      if (DEBUG) Gdx.app.debug(TAG, "compressionFlags = 0x" + Integer.toHexString(compressionFlags & 0xFF));
-
-      boolean flip = false;
-      if ((compressionFlags & FLAG_DEFLATE) == FLAG_DEFLATE) {
-        /*JZLib.inflate(sector, buffer, FSize);
-        Gdx.app.debug(TAG, "Inflated to " + buffer.position() + " bytes");
-        buffer.rewind();
-        flip = !flip;*/
-        throw new UnsupportedOperationException("FLAG_DEFLATE");
-      } else if ((compressionFlags & FLAG_LMZA) == FLAG_LMZA) {
-        throw new UnsupportedOperationException("FLAG_LMZA");
-      } else if ((compressionFlags & FLAG_BZIP2) == FLAG_BZIP2) {
-        throw new UnsupportedOperationException("FLAG_BZIP2");
-      } else if ((compressionFlags & FLAG_IMPLODE) == FLAG_IMPLODE) {
-        Exploder.pkexplode(sector, buffer);
-        sector.rewind().position(1);
-        if (DEBUG) Gdx.app.debug(TAG, "Exploded to " + buffer.position() + " bytes");
-        buffer.rewind();
-        flip = !flip;
-      }
+      return;
+    }
 
-      if ((compressionFlags & FLAG_SPARSE) == FLAG_SPARSE) {
-        throw new UnsupportedOperationException("FLAG_SPARSE");
-      }
+    final byte compressionFlags = sector.get();
+    if (DEBUG) Gdx.app.debug(TAG, "compressionFlags = 0x" + Integer.toHexString(compressionFlags & 0xFF));
+    if (compressionFlags == FLAG_LMZA) {
+      throw new UnsupportedOperationException("FLAG_LMZA");
+    }
 
-      if ((compressionFlags & FLAG_HUFFMAN) == FLAG_HUFFMAN) {
-        huffman.compareAndSet(null, new Huffman());
-        if (flip) {
-          sector.clear();
-          huffman.get().decompress(buffer, sector);
-        } else {
-          buffer.clear();
-          huffman.get().decompress(sector, buffer);
-        }
-
-        sector.rewind();
-        buffer.flip(); // TODO: This doesn't make any sense for flip == true case
-        flip = !flip;
-      }
+    int stages = 0;
+    for (byte stage : STAGES) {
+      if ((compressionFlags & stage) != 0) stages++;
+    }
+
+    if (stages == 0) {
+      throw new UnsupportedOperationException("compressionFlags = 0x" + Integer.toHexString(compressionFlags & 0xFF));
+    }
 
-      if ((compressionFlags & ADPCM_MASK) != 0) {
-        int channels = ((compressionFlags & FLAG_ADPCM1C) == FLAG_ADPCM1C) ? 1 : 2;
-        if (flip) {
-          ADPCM.decompress(buffer, scratch, channels);
-          buffer.rewind();
-          scratch.rewind();
-        } else {
-          ADPCM.decompress(sector, scratch, channels);
-          sector.rewind();
-          scratch.rewind();
-        }
-
-        buffer.limit(FSize);
-        buffer.put(scratch).rewind();
+    final ByteBuffer dst = buffer.slice().order(buffer.order());
+    scratch.clear();
+    scratch.limit(FSize);
+    final ByteBuffer tmp = scratch.slice().order(scratch.order());
+
+    ByteBuffer in = sector;
+    ByteBuffer out = (stages & 1) == 1 ? dst : tmp;
+    for (byte stage : STAGES) {
+      if ((compressionFlags & stage) == 0) continue;
+      out.clear();
+      switch (stage) {
+        case FLAG_BZIP2:
+          BZip2.decompress(in, out);
+          break;
+        case FLAG_IMPLODE:
+          Exploder.pkexplode(in, out);
+          break;
+        case FLAG_DEFLATE:
+          JZLib.inflate(in, out);
+          break;
+        case FLAG_HUFFMAN:
+          huffman.get().decompress(in, out);
+          break;
+        case ADPCM_MASK:
+          int channels = ((compressionFlags & FLAG_ADPCM1C) == FLAG_ADPCM1C) ? 1 : 2;
+          ADPCM.decompress(in, out, channels);
+          break;
+        case FLAG_SPARSE:
+          Sparse.decompress(in, out);
+          break;
+        default:
+          throw new AssertionError("Unknown stage: " + stage);
       }
+
+      if (DEBUG) Gdx.app.debug(TAG, "Stage 0x" + Integer.toHexString(stage & 0xFF) + " decoded " + out.position() + " bytes");
+      out.flip();
+      in = out;
+      out = in == dst ? tmp : dst;
     }
+
+    assert in == dst : "final stage must decode into buffer";
+    buffer.position(buffer.position() + dst.limit());
   }
 }
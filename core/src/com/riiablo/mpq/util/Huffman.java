@@ -4,6 +4,10 @@ import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.TreeMap;
 
+/**
+ * Adaptive huffman decoder. Instances are not thread-safe and keep their node pool between calls,
+ * so they are meant to be reused by a single thread, see {@link Decompressor}.
+ */
 public class Huffman {
   private static class Node {
     Node parent;
@@ -268,7 +272,7 @@ public class Huffman {
     root.parent = null;
   }
 
-  synchronized void decompress(ByteBuffer in, ByteBuffer out) {
+  void decompress(ByteBuffer in, ByteBuffer out) {
     setSource(in);
     byte type = (byte) getBits(8);
     buildTree(type);
@@ -296,6 +300,7 @@ public class Huffman {
       }
     }
 
+    source = null;
   }
 
   private static final byte[][] PROBABILITY_TABLES = {
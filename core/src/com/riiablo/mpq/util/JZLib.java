@@ -1,29 +1,71 @@
 package com.riiablo.mpq.util;
 
 import com.jcraft.jzlib.Inflater;
+import com.jcraft.jzlib.JZlib;
 
 import java.nio.ByteBuffer;
 
 public class JZLib {
   private JZLib() {}
 
-  private static Inflater inflater = new Inflater();
+  private static final ThreadLocal<Inflater> inflater = new ThreadLocal<Inflater>() {
+    @Override
+    protected Inflater initialValue() {
+      return new Inflater();
+    }
+  };
+
+  /**
+   * Input staging area for buffers which aren't backed by an accessible array, e.g., views of a
+   * memory-mapped archive.
+   */
+  private static final ThreadLocal<byte[]> input = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[4096];
+    }
+  };
 
-  public static void inflate(ByteBuffer in, ByteBuffer out, int FSize) {
-    assert out.remaining() == FSize;
+  /**
+   * Inflates the zlib stream remaining in {@code in} into {@code out}, which must be backed by an
+   * accessible array. Both buffers have their positions advanced by the number of bytes consumed
+   * and produced respectively.
+   */
+  public static void inflate(ByteBuffer in, ByteBuffer out) {
+    assert out.hasArray() : "out must be backed by an accessible array";
     final int CSize = in.remaining();
+    final byte[] src;
+    final int srcOffset;
+    if (in.hasArray()) {
+      src = in.array();
+      srcOffset = in.arrayOffset() + in.position();
+    } else {
+      byte[] staging = input.get();
+      if (staging.length < CSize) input.set(staging = new byte[CSize]);
+      in.duplicate().get(staging, 0, CSize);
+      src = staging;
+      srcOffset = 0;
+    }
+
+    Inflater inflater = JZLib.inflater.get();
     inflater.init();
-    inflater.setInput(in.array(), in.arrayOffset(), CSize, false);
-    inflater.setOutput(out.array(), out.arrayOffset(), FSize);
-    while (inflater.total_out < FSize && inflater.total_in < CSize) {
-      inflater.avail_in = inflater.avail_out = 1;
-      int err = inflater.inflate(0);
-      if (err == 1) {
-        break;
+    try {
+      inflater.setInput(src, srcOffset, CSize, false);
+      inflater.setOutput(out.array(), out.arrayOffset() + out.position(), out.remaining());
+      int err;
+      do {
+        err = inflater.inflate(JZlib.Z_NO_FLUSH);
+      } while (err == JZlib.Z_OK && inflater.avail_out > 0);
+
+      if (err != JZlib.Z_STREAM_END && err != JZlib.Z_OK) {
+        throw new IllegalArgumentException("inflate failed (" + err + "): " + inflater.msg);
       }
-    }
 
-    inflater.end();
+      in.position(in.position() + (int) inflater.total_in);
+      out.position(out.position() + (int) inflater.total_out);
+    } finally {
+      inflater.end();
+    }
   }
 
 }
@@ -0,0 +1,47 @@
+package com.riiablo.mpq.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decoder for the run-length encoding of zeros used by MPQ sectors flagged as sparse.
+ *
+ * @see <a href="https://github.com/ladislav-zezula/StormLib/blob/master/src/sparse/sparse.cpp">sparse.cpp</a>
+ */
+public class Sparse {
+  private Sparse() {}
+
+  public static void decompress(ByteBuffer in, ByteBuffer out) {
+    if (in.remaining() < 4) {
+      throw new IllegalArgumentException("Incomplete input: " + in.remaining());
+    }
+
+    int size = (in.get() & 0xFF) << 24
+             | (in.get() & 0xFF) << 16
+             | (in.get() & 0xFF) << 8
+             | (in.get() & 0xFF);
+    if (size > out.remaining()) {
+      throw new IllegalArgumentException("Output buffer too small: " + size + " > " + out.remaining());
+    }
+
+    while (in.hasRemaining() && size > 0) {
+      int op = in.get() & 0xFF;
+      if ((op & 0x80) != 0) {
+        int len = (op & 0x7F) + 1;
+        if (len > in.remaining()) {
+          throw new IllegalArgumentException("Incomplete input: " + len + " > " + in.remaining());
+        }
+
+        len = Math.min(len, size);
+        ByteBuffer chunk = in.duplicate();
+        chunk.limit(chunk.position() + len);
+        out.put(chunk);
+        in.position(in.position() + len);
+        size -= len;
+      } else {
+        int len = Math.min((op & 0x7F) + 3, size);
+        for (int i = 0; i < len; i++) out.put((byte) 0);
+        size -= len;
+      }
+    }
+  }
+}
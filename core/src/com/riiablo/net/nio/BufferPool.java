@@ -0,0 +1,52 @@
+package com.riiablo.net.nio;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe pool of direct {@link ByteBuffer} instances of a fixed capacity. Direct buffers are
+ * expensive to allocate and are only reclaimed by the collector, so they are recycled between
+ * connections instead.
+ */
+public class BufferPool {
+  public final int capacity;
+  public final int max;
+
+  private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * @param capacity capacity of each buffer, in bytes
+   * @param max      maximum number of free buffers retained by the pool
+   */
+  public BufferPool(int capacity, int max) {
+    if (capacity <= 0) throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+    this.capacity = capacity;
+    this.max = max;
+  }
+
+  public ByteBuffer obtain() {
+    ByteBuffer buffer = free.poll();
+    if (buffer == null) return ByteBuffer.allocateDirect(capacity);
+    size.decrementAndGet();
+    buffer.clear();
+    return buffer;
+  }
+
+  public void free(ByteBuffer buffer) {
+    if (buffer == null) throw new IllegalArgumentException("buffer cannot be null");
+    if (buffer.capacity() != capacity || !buffer.isDirect()) return;
+    if (size.incrementAndGet() > max) {
+      size.decrementAndGet();
+      return;
+    }
+
+    free.offer(buffer);
+  }
+
+  public int getFree() {
+    return size.get();
+  }
+}
@@ -0,0 +1,25 @@
+package com.riiablo.net.nio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the events of the connections of a {@link NioServer}. Callbacks are made on the
+ * reactor thread owning the connection and should not block.
+ */
+public interface ConnectionHandler {
+  /**
+   * Called when a connection is accepted. Connections can be refused by closing them.
+   */
+  void connected(Endpoint endpoint);
+
+  /**
+   * Called for each frame received by a connection. {@code frame} is a view of the connection's
+   * read buffer and is only valid for the duration of the call.
+   */
+  void received(Endpoint endpoint, ByteBuffer frame);
+
+  /**
+   * Called once a connection is closed, either locally or by the remote peer.
+   */
+  void disconnected(Endpoint endpoint);
+}
@@ -0,0 +1,258 @@
+package com.riiablo.net.nio;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking connection owned by a {@link Reactor}. Reads are reassembled into frames by a
+ * {@link FrameDecoder} and passed to the server's {@link ConnectionHandler}. Writes may be queued from any thread
+ * and are flushed by the reactor, and the number of queued bytes is bounded so that slow peers
+ * cannot exhaust memory. Queued writes are flushed together using gathering writes, so callers
+ * sending many small frames should {@link #queue queue} them and {@link #flush()} once.
+ */
+public class Endpoint {
+  private static final String TAG = "Endpoint";
+
+  /** maximum number of buffers passed to a single gathering write */
+  static final int MAX_GATHER = 256;
+  /** bytes after which no more buffers are added to a gathering write */
+  static final int MAX_GATHER_BYTES = 1 << 16;
+
+  final NioServer server;
+  final Reactor reactor;
+  final SocketChannel channel;
+  final SocketAddress remoteAddress;
+  final int localPort;
+  SelectionKey key;
+
+  ByteBuffer readBuffer;
+  FrameDecoder decoder;
+
+  final Queue<Write> writes = new ConcurrentLinkedQueue<>();
+  final AtomicInteger pending = new AtomicInteger();
+  final AtomicBoolean flushScheduled = new AtomicBoolean();
+  volatile boolean closing;
+  volatile boolean closed;
+
+  /** user data associated with this connection */
+  public volatile Object attachment;
+
+  final Runnable flush = new Runnable() {
+    @Override
+    public void run() {
+      flushScheduled.set(false);
+      write();
+    }
+  };
+
+  final Runnable close = new Runnable() {
+    @Override
+    public void run() {
+      if (writes.isEmpty()) {
+        closeNow();
+      } else {
+        write();
+      }
+    }
+  };
+
+  Endpoint(NioServer server, Reactor reactor, SocketChannel channel) {
+    this.server = server;
+    this.reactor = reactor;
+    this.channel = channel;
+    this.remoteAddress = channel.socket().getRemoteSocketAddress();
+    this.localPort = channel.socket().getLocalPort();
+  }
+
+  public SocketAddress getRemoteAddress() {
+    return remoteAddress;
+  }
+
+  /**
+   * Returns the port of the server this connection was accepted on.
+   */
+  public int getLocalPort() {
+    return localPort;
+  }
+
+  public boolean isOpen() {
+    return !closing;
+  }
+
+  /**
+   * Returns the number of bytes queued for writing.
+   */
+  public int getPending() {
+    return pending.get();
+  }
+
+  /**
+   * Queues the remaining bytes of {@code data} to be written. The contents of {@code data} must
+   * not be modified until they have been written, however its position and limit are not
+   * changed, so the same buffer can be sent to many connections.
+   *
+   * @return {@code false} if the connection is closed or the write would exceed the maximum
+   *         number of bytes which may be queued, in which case nothing is queued
+   */
+  public boolean send(ByteBuffer data) {
+    return send(data, null);
+  }
+
+  /**
+   * Queues the remaining bytes of {@code data} to be written, and releases {@code owner} once they
+   * have been written, or discarded if the connection closes first. {@code owner} is not
+   * released if this method returns {@code false}.
+   *
+   * @see #send(ByteBuffer)
+   */
+  public boolean send(ByteBuffer data, Releasable owner) {
+    if (!queue(data, owner)) return false;
+    flush();
+    return true;
+  }
+
+  /**
+   * Queues the remaining bytes of {@code data} like {@link #send(ByteBuffer, Releasable)}, but
+   * does not write them until the next {@link #flush()}.
+   */
+  public boolean queue(ByteBuffer data, Releasable owner) {
+    if (closing) return false;
+    final int size = data.remaining();
+    if (pending.addAndGet(size) > server.maxPending) {
+      pending.addAndGet(-size);
+      return false;
+    }
+
+    writes.offer(new Write(data.duplicate(), owner));
+    if (closed) discardWrites(); // raced with closeNow()
+    return true;
+  }
+
+  /**
+   * Schedules all queued writes to be written by the reactor.
+   */
+  public void flush() {
+    if (!closed && flushScheduled.compareAndSet(false, true)) reactor.execute(flush);
+  }
+
+  /**
+   * Closes this connection once all queued writes have been flushed.
+   */
+  public void close() {
+    if (closing) return;
+    closing = true;
+    reactor.execute(close);
+  }
+
+  void register(SelectionKey key) {
+    this.key = key;
+    readBuffer = server.buffers.obtain();
+    decoder = new FrameDecoder(server.framer, readBuffer);
+  }
+
+  void read() throws IOException {
+    final FrameDecoder decoder = this.decoder;
+    if (decoder.read(channel) == -1) {
+      closeNow();
+      return;
+    }
+
+    for (ByteBuffer frame; !closing && (frame = decoder.next()) != null;) {
+      try {
+        server.handler.received(this, frame);
+      } catch (Throwable t) {
+        Gdx.app.error(TAG, "Error processing frame from " + remoteAddress + ": " + t.getMessage(), t);
+        closing = true;
+        closeNow();
+        return;
+      }
+    }
+  }
+
+  void write() {
+    if (closed) return;
+    final ByteBuffer[] gather = reactor.gather;
+    try {
+      while (!writes.isEmpty()) {
+        int count = 0;
+        long size = 0;
+        for (Write write : writes) {
+          gather[count++] = write.data;
+          size += write.data.remaining();
+          if (count == MAX_GATHER || size >= MAX_GATHER_BYTES) break;
+        }
+
+        final long written = count == 1 ? channel.write(gather[0]) : channel.write(gather, 0, count);
+        Arrays.fill(gather, 0, count, null);
+        pending.addAndGet((int) -written);
+        for (Write write; (write = writes.peek()) != null && !write.data.hasRemaining();) {
+          writes.poll();
+          write.release();
+        }
+
+        if (written < size) {
+          key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+          return;
+        }
+      }
+
+      key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+      if (closing) closeNow();
+    } catch (IOException e) {
+      Gdx.app.error(TAG, "Error writing to " + remoteAddress + ": " + e.getMessage());
+      closing = true;
+      closeNow();
+    }
+  }
+
+  void closeNow() {
+    if (closed) return;
+    closed = closing = true;
+    if (key != null) key.cancel();
+    try {
+      channel.close();
+    } catch (IOException ignored) {}
+    discardWrites();
+    pending.set(0);
+    if (readBuffer != null) {
+      server.buffers.free(readBuffer);
+      readBuffer = null;
+      decoder = null;
+    }
+
+    server.handler.disconnected(this);
+  }
+
+  void discardWrites() {
+    for (Write write; (write = writes.poll()) != null;) write.release();
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(remoteAddress);
+  }
+
+  static final class Write {
+    final ByteBuffer data;
+    final Releasable owner;
+
+    Write(ByteBuffer data, Releasable owner) {
+      this.data = data;
+      this.owner = owner;
+    }
+
+    void release() {
+      if (owner != null) owner.release();
+    }
+  }
+}
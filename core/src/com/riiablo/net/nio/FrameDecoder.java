@@ -0,0 +1,173 @@
+package com.riiablo.net.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+
+/**
+ * Reassembles the frames of a byte stream read into a ring buffer. Reads may contain any number
+ * of partial or complete frames, and frames are returned as views of the ring buffer so that they
+ * are not copied. Only frames which wrap around the end of the ring buffer are copied, into a
+ * scratch buffer, in order to be returned contiguously.
+ * <p>
+ * Frames returned by {@link #next()} are only valid until the next call to {@link #read} or
+ * {@link #put}, since the space they occupy is reclaimed once they are returned.
+ */
+public class FrameDecoder {
+  final Framer framer;
+  final ByteBuffer ring;
+  final int capacity;
+  final ByteBuffer frame;
+  final ByteBuffer[] regions = new ByteBuffer[2];
+  ByteBuffer scratch;
+
+  /** index of the first byte of the next frame */
+  int head;
+  /** number of bytes in the ring buffer */
+  int size;
+
+  /**
+   * @param ring buffer to use as the ring buffer, its capacity limits the size of frames
+   */
+  public FrameDecoder(Framer framer, ByteBuffer ring) {
+    this.framer = framer;
+    this.ring = ring;
+    this.capacity = ring.capacity();
+    this.frame = ring.duplicate();
+    regions[0] = ring.duplicate();
+    regions[1] = ring.duplicate();
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  /** Returns the number of bytes which have been read but not yet returned as frames */
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    head = size = 0;
+  }
+
+  /**
+   * Reads as many bytes as are available from {@code channel}, up to the free space in the ring
+   * buffer. Channels which are not {@link ScatteringByteChannel scattering} are read at most once,
+   * so only up to the end of the ring buffer when the free space wraps around it.
+   *
+   * @return the number of bytes read, or {@code -1} if the channel has reached end-of-stream
+   */
+  public int read(ReadableByteChannel channel) throws IOException {
+    final int count = prepareRegions();
+    if (count == 0) return 0;
+    final long read;
+    if (count == 1) {
+      read = channel.read(regions[0]);
+    } else if (channel instanceof ScatteringByteChannel) {
+      read = ((ScatteringByteChannel) channel).read(regions, 0, 2);
+    } else {
+      // a second read may block on channels which are not scattering, wrapped bytes are left for
+      // the next call
+      read = channel.read(regions[0]);
+    }
+
+    if (read > 0) size += read;
+    return (int) read;
+  }
+
+  /**
+   * Copies as many bytes from {@code src} as will fit in the ring buffer.
+   *
+   * @return the number of bytes copied
+   */
+  public int put(ByteBuffer src) {
+    final int count = prepareRegions();
+    int copied = 0;
+    for (int i = 0; i < count && src.hasRemaining(); i++) {
+      final ByteBuffer region = regions[i];
+      final int length = Math.min(region.remaining(), src.remaining());
+      final int limit = src.limit();
+      src.limit(src.position() + length);
+      region.put(src);
+      src.limit(limit);
+      copied += length;
+    }
+
+    size += copied;
+    return copied;
+  }
+
+  /**
+   * Sets up {@link #regions} to cover the free space of the ring buffer and returns how many of
+   * them are needed.
+   */
+  int prepareRegions() {
+    if (size == 0) head = 0; // keep frames contiguous whenever possible
+    final int free = capacity - size;
+    if (free == 0) return 0;
+    final int tail = (head + size) % capacity;
+    final ByteBuffer first = regions[0];
+    first.clear();
+    first.position(tail);
+    if (tail + free <= capacity) {
+      first.limit(tail + free);
+      return 1;
+    }
+
+    final ByteBuffer second = regions[1];
+    second.clear();
+    second.limit(head);
+    return 2;
+  }
+
+  /**
+   * Returns the next complete frame, or {@code null} if the ring buffer does not contain one.
+   *
+   * @throws IOException if the frame is malformed or larger than the ring buffer
+   */
+  public ByteBuffer next() throws IOException {
+    if (size == 0) return null;
+    final int contiguous = Math.min(size, capacity - head);
+    final ByteBuffer frame = this.frame;
+    frame.clear();
+    frame.position(head);
+    frame.limit(head + contiguous);
+    int length = framer.frameLength(frame);
+    if (length != -1) {
+      frame.limit(head + length);
+      consume(length);
+      return frame;
+    }
+
+    if (contiguous == size) {
+      if (size == capacity) throw new IOException("Frame exceeds " + capacity + " bytes");
+      return null;
+    }
+
+    // frame wraps around the end of the ring buffer
+    if (scratch == null) scratch = ByteBuffer.allocate(capacity);
+    final ByteBuffer scratch = this.scratch;
+    scratch.clear();
+    scratch.put(frame);
+    frame.clear();
+    frame.limit(size - contiguous);
+    scratch.put(frame);
+    scratch.flip();
+    length = framer.frameLength(scratch);
+    if (length == -1) {
+      if (size == capacity) throw new IOException("Frame exceeds " + capacity + " bytes");
+      return null;
+    }
+
+    scratch.limit(length);
+    consume(length);
+    return scratch;
+  }
+
+  void consume(int length) {
+    head = (head + length) % capacity;
+    size -= length;
+  }
+}
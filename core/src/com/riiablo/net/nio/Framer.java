@@ -0,0 +1,18 @@
+package com.riiablo.net.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Splits the byte stream of a connection into frames.
+ */
+public interface Framer {
+  /**
+   * Returns the length in bytes of the frame beginning at the position of the specified buffer,
+   * or {@code -1} if the buffer does not yet contain the entire frame. Implementations must not
+   * modify the position or limit of the buffer.
+   *
+   * @throws IOException if the stream is malformed
+   */
+  int frameLength(ByteBuffer buffer) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.riiablo.net.nio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Frames newline-terminated text. Frames include their terminating {@code '\n'}.
+ */
+public class LineFramer implements Framer {
+  public static final LineFramer INSTANCE = new LineFramer();
+
+  @Override
+  public int frameLength(ByteBuffer buffer) {
+    final int position = buffer.position();
+    for (int i = position, limit = buffer.limit(); i < limit; i++) {
+      if (buffer.get(i) == '\n') return i - position + 1;
+    }
+
+    return -1;
+  }
+}
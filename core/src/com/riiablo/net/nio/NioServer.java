@@ -0,0 +1,155 @@
+package com.riiablo.net.nio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+
+/**
+ * Non-blocking TCP server multiplexing its connections over a fixed number of {@link Reactor}
+ * threads. Connections are assigned round-robin, read into pooled direct buffers and split into
+ * frames by a {@link Framer}. Additional ports may be {@link #bind(int) bound} while the server is
+ * running, and handlers can tell them apart using {@link Endpoint#getLocalPort()}.
+ */
+public class NioServer implements Disposable {
+  private static final String TAG = "NioServer";
+
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+  public static final int DEFAULT_MAX_PENDING = 1 << 20;
+
+  final String name;
+  final int port;
+  final Framer framer;
+  final ConnectionHandler handler;
+  final BufferPool buffers;
+  final int maxPending;
+  final Reactor[] reactors;
+
+  final IntMap<ServerSocketChannel> serverChannels = new IntMap<>();
+  int nextReactor;
+
+  public NioServer(String name, int port, Framer framer, ConnectionHandler handler, int threads) {
+    this(name, port, framer, handler, threads, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_PENDING);
+  }
+
+  /**
+   * @param threads    number of reactor threads
+   * @param bufferSize size of the read buffer of each connection, i.e., the maximum frame size
+   * @param maxPending maximum number of bytes which may be queued for writing per connection
+   */
+  public NioServer(String name, int port, Framer framer, ConnectionHandler handler, int threads, int bufferSize, int maxPending) {
+    if (threads <= 0) throw new IllegalArgumentException("threads(" + threads + ") <= 0");
+    this.name = name;
+    this.port = port;
+    this.framer = framer;
+    this.handler = handler;
+    this.buffers = new BufferPool(bufferSize, 256);
+    this.maxPending = maxPending;
+    this.reactors = new Reactor[threads];
+  }
+
+  public void start() {
+    try {
+      for (int i = 0; i < reactors.length; i++) {
+        reactors[i] = new Reactor(this, name + "-" + i);
+      }
+
+      ServerSocketChannel serverChannel = open(port);
+      serverChannel.register(reactors[0].selector, SelectionKey.OP_ACCEPT);
+    } catch (IOException e) {
+      throw new GdxRuntimeException("Cannot create a server socket on port " + port, e);
+    }
+
+    for (Reactor reactor : reactors) reactor.start();
+    Gdx.app.log(TAG, name + " listening on port " + port + " with " + reactors.length + " threads");
+  }
+
+  ServerSocketChannel open(int port) throws IOException {
+    ServerSocketChannel serverChannel = ServerSocketChannel.open();
+    try {
+      serverChannel.configureBlocking(false);
+      serverChannel.socket().setReuseAddress(true);
+      serverChannel.socket().bind(new InetSocketAddress(port));
+    } catch (IOException e) {
+      serverChannel.close();
+      throw e;
+    }
+
+    synchronized (serverChannels) {
+      serverChannels.put(port, serverChannel);
+    }
+
+    return serverChannel;
+  }
+
+  /**
+   * Starts accepting connections on an additional port. The server must have been started.
+   */
+  public void bind(final int port) {
+    final ServerSocketChannel serverChannel;
+    try {
+      serverChannel = open(port);
+    } catch (IOException e) {
+      throw new GdxRuntimeException("Cannot create a server socket on port " + port, e);
+    }
+
+    final Reactor reactor = reactors[0];
+    reactor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          serverChannel.register(reactor.selector, SelectionKey.OP_ACCEPT);
+          Gdx.app.log(TAG, name + " listening on port " + port);
+        } catch (IOException e) {
+          Gdx.app.error(TAG, "Failed to listen on port " + port + ": " + e.getMessage());
+          unbind(port);
+        }
+      }
+    });
+  }
+
+  /**
+   * Stops accepting connections on the specified port. Connections which were already accepted
+   * are not closed.
+   */
+  public void unbind(int port) {
+    ServerSocketChannel serverChannel;
+    synchronized (serverChannels) {
+      serverChannel = serverChannels.remove(port);
+    }
+
+    if (serverChannel != null) {
+      try {
+        serverChannel.close();
+      } catch (IOException ignored) {}
+    }
+  }
+
+  Reactor next() {
+    Reactor reactor = reactors[nextReactor];
+    nextReactor = (nextReactor + 1) % reactors.length;
+    return reactor;
+  }
+
+  @Override
+  public void dispose() {
+    synchronized (serverChannels) {
+      for (ServerSocketChannel channel : serverChannels.values()) {
+        try {
+          channel.close();
+        } catch (IOException ignored) {}
+      }
+
+      serverChannels.clear();
+    }
+
+    for (Reactor reactor : reactors) {
+      if (reactor != null) reactor.dispose();
+    }
+  }
+}
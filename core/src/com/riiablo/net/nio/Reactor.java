@@ -0,0 +1,134 @@
+package com.riiablo.net.nio;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Selector loop servicing the connections registered with it. Work from other threads is
+ * submitted with {@link #execute(Runnable)} so that selection keys are only touched by the
+ * reactor thread.
+ */
+class Reactor implements Runnable {
+  private static final String TAG = "Reactor";
+
+  final NioServer server;
+  final Selector selector;
+  final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  final Thread thread;
+  volatile boolean running = true;
+
+  /** scratch array for the gathering writes of the endpoints of this reactor */
+  final ByteBuffer[] gather = new ByteBuffer[Endpoint.MAX_GATHER];
+
+  Reactor(NioServer server, String name) throws IOException {
+    this.server = server;
+    this.selector = Selector.open();
+    this.thread = new Thread(this, name);
+  }
+
+  void start() {
+    thread.start();
+  }
+
+  void execute(Runnable task) {
+    tasks.offer(task);
+    selector.wakeup();
+  }
+
+  void register(final SocketChannel channel) {
+    execute(new Runnable() {
+      @Override
+      public void run() {
+        Endpoint endpoint = new Endpoint(server, Reactor.this, channel);
+        try {
+          endpoint.register(channel.register(selector, SelectionKey.OP_READ, endpoint));
+        } catch (IOException e) {
+          Gdx.app.error(TAG, "Failed to register " + endpoint + ": " + e.getMessage());
+          try {
+            channel.close();
+          } catch (IOException ignored) {}
+          return;
+        }
+
+        server.handler.connected(endpoint);
+      }
+    });
+  }
+
+  @Override
+  public void run() {
+    while (running) {
+      try {
+        selector.select();
+      } catch (IOException e) {
+        Gdx.app.error(TAG, e.getMessage(), e);
+        break;
+      }
+
+      for (Runnable task; (task = tasks.poll()) != null;) task.run();
+
+      Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+      while (it.hasNext()) {
+        SelectionKey key = it.next();
+        it.remove();
+        if (!key.isValid()) continue;
+        Object attachment = key.attachment();
+        if (attachment instanceof Endpoint) {
+          process((Endpoint) attachment, key);
+        } else {
+          accept((ServerSocketChannel) key.channel());
+        }
+      }
+    }
+
+    for (SelectionKey key : selector.keys()) {
+      Object attachment = key.attachment();
+      if (attachment instanceof Endpoint) ((Endpoint) attachment).closeNow();
+    }
+
+    try {
+      selector.close();
+    } catch (IOException ignored) {}
+  }
+
+  void process(Endpoint endpoint, SelectionKey key) {
+    try {
+      if (key.isReadable()) endpoint.read();
+      if (key.isValid() && key.isWritable()) endpoint.write();
+    } catch (IOException e) {
+      Gdx.app.log(TAG, "closing " + endpoint + ": " + e.getMessage());
+      endpoint.closeNow();
+    }
+  }
+
+  void accept(ServerSocketChannel serverChannel) {
+    try {
+      for (SocketChannel channel; (channel = serverChannel.accept()) != null;) {
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        server.next().register(channel);
+      }
+    } catch (IOException e) {
+      Gdx.app.error(TAG, e.getMessage(), e);
+    }
+  }
+
+  void dispose() {
+    running = false;
+    selector.wakeup();
+    try {
+      thread.join();
+    } catch (InterruptedException ignored) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.riiablo.net.nio;
+
+/**
+ * Owner of a buffer passed to {@link Endpoint#send(java.nio.ByteBuffer, Releasable)}, notified once
+ * the endpoint no longer references it so that the buffer can be reused.
+ */
+public interface Releasable {
+  /**
+   * Called once the bytes have been written or discarded. May be called from any thread.
+   */
+  void release();
+}
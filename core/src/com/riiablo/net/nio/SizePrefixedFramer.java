@@ -0,0 +1,32 @@
+package com.riiablo.net.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Frames size-prefixed flatbuffers, i.e., buffers finished with
+ * {@link com.google.flatbuffers.FlatBufferBuilder#finishSizePrefixed(int)}. Frames include their
+ * little-endian size prefix.
+ */
+public class SizePrefixedFramer implements Framer {
+  public static final int PREFIX_SIZE = 4;
+
+  public static final SizePrefixedFramer INSTANCE = new SizePrefixedFramer();
+
+  @Override
+  public int frameLength(ByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < PREFIX_SIZE) return -1;
+    final int size = size(buffer, buffer.position());
+    if (size < 0) throw new IOException("Invalid frame size: " + size);
+    final int length = PREFIX_SIZE + size;
+    return length <= buffer.remaining() ? length : -1;
+  }
+
+  /** Reads the little-endian size prefix at {@code offset} regardless of the buffer's order */
+  static int size(ByteBuffer buffer, int offset) {
+    return (buffer.get(offset) & 0xFF)
+        | (buffer.get(offset + 1) & 0xFF) << 8
+        | (buffer.get(offset + 2) & 0xFF) << 16
+        | (buffer.get(offset + 3) & 0xFF) << 24;
+  }
+}
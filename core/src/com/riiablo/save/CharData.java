@@ -75,7 +75,8 @@ public class CharData implements ItemData.UpdateListener, Pool.Poolable {
   public boolean managed;
   public CharacterClass classId;
 
-  private byte[] data; // TODO: replace this reference with D2S.serialize(CharData)
+  /** save this data was loaded from, supplies the sections which are not modeled */
+  D2S d2s;
 
   final IntIntMap            skills = new IntIntMap();
   final Array<Stat>          chargedSkills = new Array<>(false, 16);
@@ -83,9 +84,7 @@ public class CharData implements ItemData.UpdateListener, Pool.Poolable {
 
   /** Constructs a managed instance. Used for local players with complete save data */
   public static CharData loadFromD2S(int diff, D2S d2s) {
-    CharData charData = new CharData().set(diff, true).load(d2s);
-    if (d2s.file != null) charData.data = d2s.file.readBytes();
-    return charData;
+    return new CharData().set(diff, true).load(d2s);
   }
 
   /** Constructs an unmanaged instance. Used for remote players with complete save data. */
@@ -140,9 +139,6 @@ public class CharData implements ItemData.UpdateListener, Pool.Poolable {
 
   public CharData load(D2S d2s) {
     managed = true;
-    if (d2s.file != null) { // FIXME: workaround for D2GS networked D2S data until loaded directly
-    data = d2s.file.readBytes();
-    }
     d2s.copyTo(this);
     preprocessItems();
     itemData.addUpdateListener(this);
@@ -157,6 +153,7 @@ public class CharData implements ItemData.UpdateListener, Pool.Poolable {
   @Override
   public void reset() {
     softReset();
+    d2s       = null;
     name      = null;
     charClass = -1;
     classId   = null;
@@ -251,8 +248,8 @@ public class CharData implements ItemData.UpdateListener, Pool.Poolable {
   }
 
   public byte[] serialize() {
-    Validate.isTrue(isManaged(), "Cannot serialize unmanaged data"); // TODO: replace temp check with D2S.serialize(CharData)
-    return ArrayUtils.nullToEmpty(data);
+    Validate.isTrue(isManaged(), "Cannot serialize unmanaged data");
+    return D2S.serialize(this);
   }
 
   public int getHotkey(int button, int skill) {
@@ -328,7 +325,7 @@ public class CharData implements ItemData.UpdateListener, Pool.Poolable {
     int dex = statData.get(Stat.dexterity).value();
     Stat armorclass = statData.get(Stat.armorclass);
     armorclass.add(dex / 4);
-    armorclass.modified = false;
+    armorclass.setModified(false);
 
     skills.clear();
     skills.putAll(skillData);
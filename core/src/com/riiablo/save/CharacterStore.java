@@ -0,0 +1,181 @@
+package com.riiablo.save;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Persists serialized characters on a writer thread so that callers never block on disk.
+ * Characters saved again before they are written replace their pending save, and every save
+ * pending when the writer runs is written in the same batch. Each save is written to a temporary
+ * file which is then renamed over the previous save, so on platforms where renaming over a file is
+ * atomic a crash leaves either the old or the new save, never a partial one. Saves which fail to be written are retried after a delay which
+ * doubles with each consecutive failure.
+ */
+public class CharacterStore implements Disposable {
+  private static final String TAG = "CharacterStore";
+  private static final boolean DEBUG = !true;
+
+  static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]{2,15}");
+  static final String TMP_EXT = ".tmp";
+
+  static final long MIN_RETRY_DELAY = 1000;
+  static final long MAX_RETRY_DELAY = 60000;
+
+  final FileHandle dir;
+  final ScheduledExecutorService writer;
+  final Map<String, byte[]> pending = new LinkedHashMap<>();
+  boolean flushQueued;
+  long retryDelay = MIN_RETRY_DELAY;
+
+  final Runnable flush = new Runnable() {
+    @Override
+    public void run() {
+      flush();
+    }
+  };
+
+  public CharacterStore(FileHandle dir) {
+    this.dir = dir;
+    dir.mkdirs();
+    ScheduledThreadPoolExecutor writer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, TAG);
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    // retries are dropped on dispose, which writes whatever is pending itself
+    writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    this.writer = writer;
+  }
+
+  FileHandle file(String name) {
+    return dir.child(name + "." + D2S.EXT);
+  }
+
+  /**
+   * Queues the specified save of the named character to be written.
+   */
+  public void save(String name, byte[] d2s) {
+    if (name == null || !NAME.matcher(name).matches()) {
+      Gdx.app.error(TAG, "Cannot save character with invalid name: " + name);
+      return;
+    }
+
+    synchronized (pending) {
+      if (writer.isShutdown()) {
+        Gdx.app.error(TAG, "Cannot save " + name + ", the store has been disposed");
+        return;
+      }
+
+      pending.put(name, d2s);
+      if (flushQueued) return;
+      flushQueued = true;
+      writer.execute(flush);
+    }
+  }
+
+  /**
+   * Returns the latest save of the named character, including a save which has yet to be written,
+   * or {@code null} if there is none.
+   */
+  public byte[] load(String name) {
+    synchronized (pending) {
+      byte[] d2s = pending.get(name);
+      if (d2s != null) return d2s;
+    }
+
+    FileHandle file = file(name);
+    return file.exists() ? file.readBytes() : null;
+  }
+
+  /**
+   * Writes every pending save. Saves which fail to be written are requeued unless they have been
+   * replaced in the meantime, and another flush is scheduled to retry them.
+   */
+  void flush() {
+    Map<String, byte[]> batch;
+    synchronized (pending) {
+      flushQueued = false;
+      if (pending.isEmpty()) return;
+      batch = new LinkedHashMap<>(pending);
+      pending.clear();
+    }
+
+    long start = System.nanoTime();
+    boolean failed = false;
+    for (Map.Entry<String, byte[]> entry : batch.entrySet()) {
+      String name = entry.getKey();
+      try {
+        write(file(name), entry.getValue());
+      } catch (IOException e) {
+        Gdx.app.error(TAG, "Failed to save " + name + ": " + e.getMessage(), e);
+        failed = true;
+        synchronized (pending) {
+          if (!pending.containsKey(name)) pending.put(name, entry.getValue());
+        }
+      }
+    }
+
+    synchronized (pending) {
+      if (!failed) {
+        retryDelay = MIN_RETRY_DELAY;
+      } else if (!flushQueued && !writer.isShutdown()) {
+        flushQueued = true;
+        writer.schedule(flush, retryDelay, TimeUnit.MILLISECONDS);
+        retryDelay = Math.min(retryDelay << 1, MAX_RETRY_DELAY);
+      }
+    }
+
+    if (DEBUG) Gdx.app.debug(TAG, "saved " + batch.size() + " characters in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+  }
+
+  static void write(FileHandle file, byte[] d2s) throws IOException {
+    FileHandle tmp = file.sibling(file.name() + TMP_EXT);
+    FileOutputStream out = new FileOutputStream(tmp.file());
+    try {
+      out.write(d2s);
+      out.getFD().sync();
+    } finally {
+      out.close();
+    }
+
+    // java.nio.file requires Android API 26. Renaming replaces the file on POSIX systems, others
+    // need it deleted first.
+    final File src = tmp.file(), dst = file.file();
+    if (!src.renameTo(dst) && !(dst.delete() && src.renameTo(dst))) {
+      throw new IOException("Unable to replace " + dst + " with " + src);
+    }
+  }
+
+  /**
+   * Stops accepting saves and writes those which are pending before returning.
+   */
+  @Override
+  public void dispose() {
+    synchronized (pending) {
+      writer.shutdown();
+    }
+
+    try {
+      writer.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException ignored) {
+      Thread.currentThread().interrupt();
+    }
+
+    flush();
+  }
+}
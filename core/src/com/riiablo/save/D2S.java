@@ -6,10 +6,12 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.riiablo.CharacterClass;
 import com.riiablo.Riiablo;
 import com.riiablo.codec.COF;
 import com.riiablo.codec.util.BitStream;
+import com.riiablo.codec.util.BitWriter;
 import com.riiablo.item.Item;
 import com.riiablo.item.Location;
 import com.riiablo.item.PropertyList;
@@ -70,6 +72,9 @@ public class D2S {
   static final int DIFF_ACT_MASK    = 0x7;
   static final int DIFF_FLAG_ACTIVE = 1 << 7;
 
+  static final int SIZE_OFFSET     = 8;
+  static final int CHECKSUM_OFFSET = 12;
+
   public final FileHandle file;
   public final Header     header;
 
@@ -218,9 +223,45 @@ public class D2S {
     data.itemData.charStats = classId.entry();
     data.itemData.alternate = header.alternate;
     data.golemItemData = golem.item;
+    data.d2s = this;
     return data;
   }
 
+  /**
+   * Encodes the specified character as a save file. Data which {@link CharData} does not model,
+   * e.g., appearance and unknown fields of the header, is copied from the save the character was
+   * loaded from, if any.
+   */
+  public static byte[] serialize(CharData data) {
+    D2S d2s = data.d2s;
+    BitWriter out = new BitWriter(8192);
+    Header.write(out, data, d2s != null ? d2s.header : null);
+    QuestData.write(out, data, d2s != null ? d2s.quests : null);
+    WaypointData.write(out, data, d2s != null ? d2s.waypoints : null);
+    NPCData.write(out, data);
+    StatData.write(out, data);
+    SkillData.write(out, data);
+    ItemData.write(out, data.itemData.itemData);
+    out.writeBytes(ItemData.SECTION_FOOTER);
+    MercData.MercItemData.write(out, data.mercData);
+    GolemData.write(out, data.golemItemData);
+
+    byte[] bytes = out.toByteArray();
+    ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(SIZE_OFFSET, bytes.length);
+    buffer.putInt(CHECKSUM_OFFSET, checksum(bytes));
+    return bytes;
+  }
+
+  /**
+   * Calculates the checksum of a save, which must have its checksum field zeroed.
+   */
+  static int checksum(byte[] bytes) {
+    int checksum = 0;
+    for (byte b : bytes) checksum = Integer.rotateLeft(checksum, 1) + (b & 0xFF);
+    return checksum;
+  }
+
   public static class Header {
     static final int SIZE = 0x14F;
 
@@ -278,6 +319,36 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, CharData data, Header header) {
+      out.write32(MAGIC_NUMBER);
+      out.write32(VERSION_110);
+      out.write32(0); // size, set once the entire save is written
+      out.write32(0); // checksum, calculated last
+      out.write32(data.itemData.alternate);
+      out.writeString(data.name, Riiablo.MAX_NAME_LENGTH + 1);
+      out.write32(data.flags);
+      out.write8(data.charClass);
+      out.writeBytes(header != null ? header.unk1 : new byte[2]);
+      out.write8(data.level);
+      out.writeBytes(header != null ? header.unk2 : new byte[Ints.BYTES]);
+      out.write32((int) (TimeUtils.millis() / 1000));
+      out.writeBytes(header != null ? header.unk3 : new byte[Ints.BYTES]);
+      for (int hotkey : data.hotkeys) out.write32(hotkey);
+      for (int[] actions : data.actions) for (int action : actions) out.write32(action);
+      out.writeBytes(header != null ? header.composites : emptyComponents());
+      out.writeBytes(header != null ? header.colors : emptyComponents());
+      out.writeBytes(data.towns);
+      out.write32(data.mapSeed);
+      MercData.write(out, data.mercData);
+      out.writeBytes(data.realmData);
+    }
+
+    static byte[] emptyComponents() {
+      byte[] components = new byte[COF.Component.NUM_COMPONENTS];
+      Arrays.fill(components, (byte) 0xFF);
+      return components;
+    }
+
     @Override
     public String toString() {
       return new ToStringBuilder(this)
@@ -422,6 +493,14 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, CharData.MercData merc) {
+      out.write32(merc.flags);
+      out.write32(merc.seed);
+      out.write16(merc.name);
+      out.write16(merc.type);
+      out.write32(merc.xp);
+    }
+
     @Override
     public String toString() {
       return new ToStringBuilder(this)
@@ -454,6 +533,12 @@ public class D2S {
         return this;
       }
 
+      static void write(BitWriter out, CharData.MercData merc) {
+        out.writeBytes(SECTION_HEADER);
+        if (merc.seed == 0) return;
+        ItemData.write(out, merc.itemData.itemData);
+      }
+
       @Override
       public String toString() {
         return new ToStringBuilder(this)
@@ -468,6 +553,7 @@ public class D2S {
     static final byte[] SECTION_HEADER = {0x57, 0x6F, 0x6F, 0x21};
 
     static final int NUM_QUESTFLAGS = 96;
+    static final int VERSION = 6;
     static final int SIZE = SECTION_HEADER.length + 6 + (NUM_QUESTFLAGS * NUM_DIFFS);
 
     byte  header[];
@@ -492,6 +578,22 @@ public class D2S {
       return this;
     }
 
+    /**
+     * Writes the quests of {@code data} over the quest flags of {@code quests}, which retain any
+     * flags beyond those of the quests.
+     */
+    static void write(BitWriter out, CharData data, QuestData quests) {
+      out.writeBytes(SECTION_HEADER);
+      out.write32(quests != null ? quests.version : VERSION);
+      out.write16(SIZE);
+      for (int i = 0; i < NUM_DIFFS; i++) {
+        ByteBuffer flags = ByteBuffer.allocate(NUM_QUESTFLAGS).order(ByteOrder.LITTLE_ENDIAN);
+        if (quests != null) flags.put(quests.data[i]).rewind();
+        for (short[] act : data.questData[i]) for (short quest : act) flags.putShort(quest);
+        out.writeBytes(flags.array());
+      }
+    }
+
     @Override
     public String toString() {
       ToStringBuilder builder = new ToStringBuilder(this)
@@ -509,6 +611,7 @@ public class D2S {
     static final byte[] SECTION_HEADER = {'W', 'S'};
 
     static final int SIZE = SECTION_HEADER.length + 6 + (WaypointData2.SIZE * NUM_DIFFS);
+    static final int VERSION = 1;
 
     byte  header[];
     int   version;
@@ -532,6 +635,15 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, CharData data, WaypointData waypoints) {
+      out.writeBytes(SECTION_HEADER);
+      out.write32(waypoints != null ? waypoints.version : VERSION);
+      out.write16(SIZE);
+      for (int i = 0; i < NUM_DIFFS; i++) {
+        WaypointData2.write(out, data.waypointData[i], waypoints != null ? waypoints.diff[i] : null);
+      }
+    }
+
     @Override
     public String toString() {
       ToStringBuilder builder = new ToStringBuilder(this)
@@ -566,6 +678,17 @@ public class D2S {
         return this;
       }
 
+      static void write(BitWriter out, int[] waypoints, WaypointData2 diff) {
+        byte[] data = diff != null ? diff.data.clone() : new byte[NUM_WAYPOINTFLAGS];
+        BitWriter.setBits(data,  0, 9, waypoints[0]);
+        BitWriter.setBits(data,  9, 9, waypoints[1]);
+        BitWriter.setBits(data, 18, 9, waypoints[2]);
+        BitWriter.setBits(data, 27, 3, waypoints[3]);
+        BitWriter.setBits(data, 30, 9, waypoints[4]);
+        out.writeBytes(diff != null ? diff.header : SECTION_HEADER);
+        out.writeBytes(data);
+      }
+
       @Override
       public String toString() {
         return new ToStringBuilder(this)
@@ -610,6 +733,13 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, CharData data) {
+      out.writeBytes(SECTION_HEADER);
+      out.write16(SIZE);
+      for (long intro : data.npcIntroData) out.write64(intro);
+      for (long greeting : data.npcReturnData) out.write64(greeting);
+    }
+
     @Override
     public String toString() {
       ToStringBuilder builder = new ToStringBuilder(this)
@@ -681,6 +811,24 @@ public class D2S {
       return this;
     }
 
+    /**
+     * Writes the base stats of {@code data}. Stats with a value of 0 are omitted, as they are by
+     * the original game.
+     */
+    static void write(BitWriter out, CharData data) {
+      out.writeBytes(SECTION_HEADER);
+      PropertyList base = data.statData.base();
+      for (int id = Stat.strength; id <= Stat.goldbank; id++) {
+        Stat stat = base.get(id);
+        if (stat == null || stat.value() == 0) continue;
+        out.writeUnsigned(Stat.BITS, id);
+        out.writeUnsigned(numBits(id), stat.toLong());
+      }
+
+      out.writeUnsigned(Stat.BITS, Stat.NONE);
+      out.alignToByte();
+    }
+
     @Override
     public String toString() {
       return new ToStringBuilder(this)
@@ -752,6 +900,14 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, CharData data) {
+      out.writeBytes(SECTION_HEADER);
+      CharacterClass classId = data.classId;
+      for (int spellId = classId.firstSpell, s = classId.lastSpell; spellId < s; spellId++) {
+        out.write8(data.skillData.get(spellId, 0));
+      }
+    }
+
     @Override
     public String toString() {
       return new ToStringBuilder(this)
@@ -807,6 +963,34 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, Array<Item> items) {
+      out.writeBytes(SECTION_HEADER);
+      out.write16(items.size);
+      for (Item item : items) {
+        write(out, item);
+        for (Item socket : item.sockets) write(out, socket);
+      }
+    }
+
+    /**
+     * Writes an item preceded by its section header and padded to a byte.
+     */
+    static void write(BitWriter out, Item item) {
+      final byte gridX = item.gridX, gridY = item.gridY;
+      if (item.location == Location.BELT) {
+        // belt slots are stored as a single index, see com.riiablo.save.ItemData#preprocessItems
+        item.gridX = (byte) ((-gridY << 2) | gridX);
+        item.gridY = 0;
+      }
+
+      byte[] data = item.serialize();
+      item.gridX = gridX;
+      item.gridY = gridY;
+      out.writeBytes(SECTION_HEADER);
+      out.writeBits(data, item.bitOffset, item.bitLength);
+      out.alignToByte();
+    }
+
     @Override
     public String toString() {
       ToStringBuilder builder = new ToStringBuilder(this)
@@ -855,6 +1039,14 @@ public class D2S {
       return this;
     }
 
+    static void write(BitWriter out, Item item) {
+      out.writeBytes(SECTION_HEADER);
+      out.write8(item != null ? 1 : 0);
+      if (item == null) return;
+      ItemData.write(out, item);
+      for (Item socket : item.sockets) ItemData.write(out, socket);
+    }
+
     @Override
     public String toString() {
       return new ToStringBuilder(this)
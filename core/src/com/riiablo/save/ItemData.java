@@ -1,8 +1,10 @@
 package com.riiablo.save;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.Pool;
 import com.riiablo.Riiablo;
 import com.riiablo.codec.excel.CharStats;
 import com.riiablo.codec.excel.SetItems;
@@ -40,6 +42,15 @@ public class ItemData {
 
   final Array<UpdateListener> updateListeners = new Array<>(false, 16);
 
+  /** stats each active equipped item and inventory charm adds to {@link #stats} */
+  final IdentityMap<Item, Attributes.Contribution> contributions = new IdentityMap<>();
+  final Pool<Attributes.Contribution> contributionPool = new Pool<Attributes.Contribution>() {
+    @Override
+    protected Attributes.Contribution newObject() {
+      return new Attributes.Contribution();
+    }
+  };
+
   ItemData(Attributes stats, CharStats.Entry charStats) {
     this.stats = stats;
     this.charStats = charStats;
@@ -56,6 +67,7 @@ public class ItemData {
     equippedSets.clear();
     setItemsOwned.clear();
     updateListeners.clear();
+    clearContributions();
   }
 
   public void load() {
@@ -72,9 +84,6 @@ public class ItemData {
       Item item = items[i];
       if (item.quality == Quality.SET) {
         setItemsOwned.getAndIncrement(item.qualityId, 0, 1);
-        if (item.location == Location.EQUIPPED && isActive(item)) {
-          updateSet(item, 1);
-        }
       }
       switch (item.location) {
         case EQUIPPED:
@@ -133,6 +142,17 @@ public class ItemData {
     return item.bodyLoc == BodyLoc.getAlternate(item.bodyLoc, alternate);
   }
 
+  public CharStats.Entry getCharStats() {
+    return charStats;
+  }
+
+  public void setCharStats(CharStats.Entry charStats) {
+    if (this.charStats != charStats) {
+      this.charStats = charStats;
+      updateStats();
+    }
+  }
+
   public int getAlternate() {
     return alternate;
   }
@@ -224,6 +244,13 @@ public class ItemData {
     if (item.location == Location.STORED) notifyStoreRemoved(item);
     cursor = i;
     setLocation(item, Location.CURSOR);
+    if (contributions.containsKey(item)) {
+      if (removeContribution(item)) {
+        applyStats();
+      } else {
+        updateStats();
+      }
+    }
   }
 
   void storeCursor(StoreLoc storeLoc, int x, int y) {
@@ -239,6 +266,14 @@ public class ItemData {
     item.gridX = (byte) x;
     item.gridY = (byte) y;
     notifyStoreAdded(item);
+    if (storeLoc == StoreLoc.INVENTORY) {
+      if (item.type.is(Type.CHAR)) {
+        addContribution(item);
+        applyStats();
+      } else if (item.type.is(Type.BOOK)) {
+        item.update(stats, charStats, equippedSets);
+      }
+    }
   }
 
   void equip(BodyLoc bodyLoc, Item item) {
@@ -252,54 +287,135 @@ public class ItemData {
     item.bodyLoc = bodyLoc;
     int j = equipped.put(bodyLoc, i);
     assert j == INVALID_ITEM : "Item " + j + " should have been unequipped by this point.";
-    updateStats(); // TODO: add support for appending to existing stats if this is an additional item
-    updateSet(item, 1);
+    if (isActive(item)) {
+      updateSet(item, 1);
+      if (updateSetContributions(item)) {
+        addContribution(item);
+        applyStats();
+      } else {
+        updateStats();
+      }
+    }
     notifyEquip(bodyLoc, item);
   }
 
   int unequip(BodyLoc bodyLoc) {
     int i = equipped.remove(bodyLoc);
     Item item = itemData.get(i);
-    updateStats();
-    updateSet(item, -1);
+    if (contributions.containsKey(item)) {
+      boolean exact = removeContribution(item);
+      updateSet(item, -1);
+      if (exact && updateSetContributions(item)) {
+        applyStats();
+      } else {
+        updateStats();
+      }
+    }
     notifyUnequip(bodyLoc, item);
     return i;
   }
 
+  /**
+   * Recomputes {@link #stats} from every active equipped item and inventory charm. Equipping and
+   * unequipping an item only adds or removes the stats of that item and those of its set, so this
+   * is only needed when the alternate weapons or character class change.
+   */
   void updateStats() {
-    Stat stat;
-    stats.reset();
+    clearContributions();
+    stats.resetContributions();
+    equippedSets.clear();
     int[] cache = equipped.values();
     for (int i = 0, s = cache.length, j; i < s; i++) {
       j = cache[i];
       if (j == INVALID_ITEM) continue;
       Item item = itemData.get(j);
-      if (isActive(item)) {
-        item.update(stats, charStats, equippedSets);
-        stats.add(item.props.remaining());
-        if ((stat = item.props.get(Stat.armorclass)) != null) {
-          stats.aggregate().addCopy(stat);
-        }
-      }
+      if (isActive(item)) updateSet(item, 1);
     }
 
-    IntArray inventoryItems = getStore(StoreLoc.INVENTORY);
-    cache = inventoryItems.items;
     for (int i = 0, s = cache.length, j; i < s; i++) {
       j = cache[i];
       if (j == INVALID_ITEM) continue;
       Item item = itemData.get(j);
+      if (isActive(item)) addContribution(item);
+    }
+
+    IntArray inventoryItems = getStore(StoreLoc.INVENTORY);
+    cache = inventoryItems.items;
+    for (int i = 0, s = inventoryItems.size, j; i < s; i++) {
+      j = cache[i];
+      Item item = itemData.get(j);
       if (item.type.is(Type.CHAR)) {
-        item.update(stats, charStats, equippedSets);
-        stats.add(item.props.remaining());
+        addContribution(item);
       } else if (item.type.is(Type.BOOK)) { // TODO: may not be needed since not stat -- calculate elsewhere?
         item.update(stats, charStats, equippedSets);
       }
     }
-    stats.update(stats, charStats);
+
+    applyStats();
+  }
+
+  private void applyStats() {
+    stats.apply();
     notifyUpdated();
   }
 
+  private void addContribution(Item item) {
+    Attributes.Contribution contribution = contributionPool.obtain();
+    item.update(stats, charStats, equippedSets);
+    stats.contribute(contribution, charStats, item.props.remaining());
+    Stat stat;
+    if (item.location == Location.EQUIPPED && (stat = item.props.get(Stat.armorclass)) != null) {
+      stats.contribute(contribution, stat);
+    }
+
+    stats.add(contribution);
+    contributions.put(item, contribution);
+  }
+
+  /**
+   * @return {@code false} if the stats of the item could not be exactly removed, in which case
+   *         {@link #updateStats()} must be called
+   */
+  private boolean removeContribution(Item item) {
+    Attributes.Contribution contribution = contributions.remove(item);
+    if (contribution == null) return true;
+    boolean exact = stats.remove(contribution);
+    contributionPool.free(contribution);
+    return exact;
+  }
+
+  /**
+   * Recomputes the stats of the other active equipped items of the set {@code item} belongs to,
+   * which depend on the number of them equipped.
+   *
+   * @return {@code false} if the stats of an item could not be exactly removed, in which case
+   *         {@link #updateStats()} must be called
+   */
+  private boolean updateSetContributions(Item item) {
+    if (item.quality != Quality.SET) return true;
+    String set = ((SetItems.Entry) item.qualityData).set;
+    int[] cache = equipped.values();
+    for (int i = 0, s = cache.length, j; i < s; i++) {
+      j = cache[i];
+      if (j == INVALID_ITEM) continue;
+      Item other = itemData.get(j);
+      if (other == item || other.quality != Quality.SET || !contributions.containsKey(other)) continue;
+      if (!set.equals(((SetItems.Entry) other.qualityData).set)) continue;
+      if (!removeContribution(other)) return false;
+      addContribution(other);
+    }
+
+    return true;
+  }
+
+  private void clearContributions() {
+    for (Attributes.Contribution contribution : contributions.values()) {
+      contributionPool.free(contribution);
+    }
+
+    contributions.clear();
+  }
+
   private void updateSet(Item item, int add) {
     if (item != null && item.quality == Quality.SET) {
       SetItems.Entry setItem = (SetItems.Entry) item.qualityData;
@@ -1,5 +1,6 @@
 package com.riiablo.screen;
 
+import com.google.flatbuffers.ByteBufferUtil;
 import com.google.flatbuffers.FlatBufferBuilder;
 
 import com.badlogic.gdx.Gdx;
@@ -605,7 +606,7 @@ public class LobbyScreen extends ScreenAdapter {
     ListGames.startListGames(builder);
     int listGamesOffset = ListGames.endListGames(builder);
     int id = MCP.createMCP(builder, MCPData.ListGames, listGamesOffset);
-    builder.finish(id);
+    MCP.finishSizePrefixedMCPBuffer(builder, id);
     ByteBuffer data = builder.dataBuffer();
     connection.sendRequest(data, listener);
   }
@@ -620,7 +621,7 @@ public class LobbyScreen extends ScreenAdapter {
     CreateGame.addDescription(builder, descriptionOffset);
     int createGameOffset = CreateGame.endCreateGame(builder);
     int id = MCP.createMCP(builder, MCPData.CreateGame, createGameOffset);
-    builder.finish(id);
+    MCP.finishSizePrefixedMCPBuffer(builder, id);
     ByteBuffer data = builder.dataBuffer();
     connection.sendRequest(data, listener);
   }
@@ -633,7 +634,7 @@ public class LobbyScreen extends ScreenAdapter {
     JoinGame.addGameName(builder, gameNameOffset);
     int joinGameOffset = JoinGame.endJoinGame(builder);
     int id = MCP.createMCP(builder, MCPData.JoinGame, joinGameOffset);
-    builder.finish(id);
+    MCP.finishSizePrefixedMCPBuffer(builder, id);
     ByteBuffer data = builder.dataBuffer();
     connection.sendRequest(data, listener);
   }
@@ -788,7 +789,7 @@ public class LobbyScreen extends ScreenAdapter {
         buffer.limit(buffer.position());
         buffer.reset();
 
-        MCP packet = MCP.getRootAsMCP(buffer);
+        MCP packet = MCP.getRootAsMCP(ByteBufferUtil.removeSizePrefix(buffer));
         Gdx.app.log(TAG, "packet type " + MCPData.name(packet.dataType()));
         listener.handleResponse(packet);
       } catch (Throwable t) {
@@ -811,7 +812,7 @@ public class LobbyScreen extends ScreenAdapter {
               buffer.limit(buffer.position());
               buffer.reset();
 
-              MCP packet = MCP.getRootAsMCP(buffer);
+              MCP packet = MCP.getRootAsMCP(ByteBufferUtil.removeSizePrefix(buffer));
               Gdx.app.log(TAG, "packet type " + MCPData.name(packet.dataType()));
               process(socket, packet);
               state = LobbyScreen.State.WAITING;
@@ -1,5 +1,6 @@
 package com.riiablo.screen;
 
+import com.google.flatbuffers.ByteBufferUtil;
 import com.google.flatbuffers.FlatBufferBuilder;
 
 import com.badlogic.gdx.Gdx;
@@ -303,7 +304,7 @@ public class LoginScreen extends ScreenAdapter {
               buffer.limit(buffer.position());
               buffer.reset();
 
-              BNLS packet = BNLS.getRootAsBNLS(buffer);
+              BNLS packet = BNLS.getRootAsBNLS(ByteBufferUtil.removeSizePrefix(buffer));
               Gdx.app.log(TAG, "packet type " + BNLSData.name(packet.dataType()));
               process(socket, packet);
               state = LoginScreen.State.LOGIN;
@@ -315,7 +316,7 @@ public class LoginScreen extends ScreenAdapter {
               int usernameOffset = builder.createString("test");
               int offset = LoginResponse.createLoginResponse(builder, usernameOffset);
               int id = BNLS.createBNLS(builder, BNLSData.LoginResponse, offset);
-              builder.finish(id);
+              BNLS.finishSizePrefixedBNLSBuffer(builder, id);
               WritableByteChannel out = Channels.newChannel(socket.getOutputStream());
               out.write(builder.dataBuffer());
               state = LoginScreen.State.WAITING;
@@ -330,7 +331,7 @@ public class LoginScreen extends ScreenAdapter {
               buffer.limit(buffer.position());
               buffer.reset();
 
-              BNLS packet = BNLS.getRootAsBNLS(buffer);
+              BNLS packet = BNLS.getRootAsBNLS(ByteBufferUtil.removeSizePrefix(buffer));
               Gdx.app.log(TAG, "packet type " + BNLSData.name(packet.dataType()));
               process(socket, packet);
               state = LoginScreen.State.ACCEPTED;
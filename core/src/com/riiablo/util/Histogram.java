@@ -0,0 +1,94 @@
+package com.riiablo.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-resolution histogram of non-negative long values, e.g., durations in nanoseconds.
+ * Values are counted in buckets of {@link #resolution} up to {@link #range}; larger values are
+ * counted in a final overflow bucket and only contribute their exact value to {@link #max()}.
+ * Recording never allocates.
+ */
+public class Histogram {
+  final long resolution;
+  final long range;
+  final int[] buckets;
+
+  int count;
+  long sum;
+  long max;
+
+  /**
+   * @param resolution width of each bucket
+   * @param range      largest value counted in a bucket of its own
+   */
+  public Histogram(long resolution, long range) {
+    if (resolution <= 0) throw new IllegalArgumentException("resolution(" + resolution + ") <= 0");
+    if (range < resolution) throw new IllegalArgumentException("range(" + range + ") < resolution(" + resolution + ")");
+    this.resolution = resolution;
+    this.range = range;
+    this.buckets = new int[(int) (range / resolution) + 2];
+  }
+
+  public void record(long value) {
+    if (value < 0) value = 0;
+    final int bucket = value > range ? buckets.length - 1 : (int) (value / resolution);
+    buckets[bucket]++;
+    count++;
+    sum += value;
+    if (value > max) max = value;
+  }
+
+  /**
+   * Adds the values recorded by {@code other}, which must have the same resolution and range.
+   */
+  public void add(Histogram other) {
+    if (other.resolution != resolution || other.range != range) {
+      throw new IllegalArgumentException("other histogram has a different resolution or range");
+    }
+
+    for (int i = 0; i < buckets.length; i++) buckets[i] += other.buckets[i];
+    count += other.count;
+    sum += other.sum;
+    if (other.max > max) max = other.max;
+  }
+
+  public int count() {
+    return count;
+  }
+
+  public long sum() {
+    return sum;
+  }
+
+  public long max() {
+    return max;
+  }
+
+  public long mean() {
+    return count == 0 ? 0 : sum / count;
+  }
+
+  /**
+   * Returns the upper bound of the bucket containing the specified percentile, or {@link #max()}
+   * if it falls within the overflow bucket.
+   *
+   * @param percentile percentile within [0,1]
+   */
+  public long percentile(float percentile) {
+    if (count == 0) return 0;
+    final int target = Math.max(1, (int) Math.ceil(percentile * count));
+    for (int i = 0, n = 0, s = buckets.length - 1; i < s; i++) {
+      n += buckets[i];
+      if (n >= target) return Math.min((i + 1) * resolution, max);
+    }
+
+    return max;
+  }
+
+  public void clear() {
+    Arrays.fill(buckets, 0);
+    count = 0;
+    sum = 0;
+    max = 0;
+  }
+}
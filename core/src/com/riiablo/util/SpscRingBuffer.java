@@ -0,0 +1,95 @@
+package com.riiablo.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Bounded lock-free FIFO queue for exactly one producer thread and one consumer thread. Elements
+ * are published by ordered writes to the producer index, so neither {@link #offer} nor
+ * {@link #poll} block or allocate.
+ */
+public class SpscRingBuffer<T> {
+  final Object[] buffer;
+  final int mask;
+
+  final AtomicLong head = new AtomicLong(); // next index to poll, written by the consumer
+  final AtomicLong tail = new AtomicLong(); // next index to offer, written by the producer
+  long headCache; // producer's last read of head
+  long tailCache; // consumer's last read of tail
+
+  /**
+   * @param capacity minimum capacity, rounded up to the next power of two
+   */
+  public SpscRingBuffer(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+    capacity = MathUtils.nextPowerOfTwo(capacity);
+    buffer = new Object[capacity];
+    mask = capacity - 1;
+  }
+
+  public int capacity() {
+    return buffer.length;
+  }
+
+  /**
+   * Adds an element to the queue. Must only be called by the producer thread.
+   *
+   * @return {@code false} if the queue is full
+   */
+  public boolean offer(T e) {
+    if (e == null) throw new IllegalArgumentException("e cannot be null");
+    final long t = tail.get();
+    if (t - headCache >= buffer.length) {
+      headCache = head.get();
+      if (t - headCache >= buffer.length) return false;
+    }
+
+    buffer[(int) t & mask] = e;
+    tail.lazySet(t + 1);
+    return true;
+  }
+
+  /**
+   * Removes the head of the queue. Must only be called by the consumer thread.
+   *
+   * @return the head of the queue, or {@code null} if the queue is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    final long h = head.get();
+    if (h >= tailCache) {
+      tailCache = tail.get();
+      if (h >= tailCache) return null;
+    }
+
+    final int i = (int) h & mask;
+    T e = (T) buffer[i];
+    buffer[i] = null;
+    head.lazySet(h + 1);
+    return e;
+  }
+
+  /**
+   * Removes all available elements into {@code c}. Must only be called by the consumer thread.
+   *
+   * @return the number of elements removed
+   */
+  public int drainTo(Collection<? super T> c) {
+    int count = 0;
+    for (T e; (e = poll()) != null; count++) c.add(e);
+    return count;
+  }
+
+  /**
+   * Returns an estimate of the number of elements in the queue.
+   */
+  public int size() {
+    return (int) (tail.get() - head.get());
+  }
+
+  public boolean isEmpty() {
+    return tail.get() == head.get();
+  }
+}
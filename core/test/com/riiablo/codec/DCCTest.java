@@ -0,0 +1,96 @@
+package com.riiablo.codec;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import com.riiablo.codec.util.BBox;
+import com.riiablo.codec.util.BitWriter;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class DCCTest {
+  private static final int DIRECTIONS = 2;
+  private static final int SIZE = 4;
+  private static final int COLOR = 5;
+
+  @BeforeClass
+  public static void setup() {
+    GdxNativesLoader.load();
+  }
+
+  /**
+   * Encodes a direction with a single {@value #SIZE}x{@value #SIZE} frame filled with
+   * {@value #COLOR}.
+   */
+  private static byte[] direction() {
+    BitWriter out = new BitWriter();
+    out.write32(0);               // outsizeCoded
+    out.writeUnsigned(2, 0);      // compressionFlags
+    out.writeUnsigned(4, 0);      // variable0Bits
+    out.writeUnsigned(4, 3);      // widthBits, 4 bits
+    out.writeUnsigned(4, 3);      // heightBits, 4 bits
+    out.writeUnsigned(4, 0);      // xOffsetBits
+    out.writeUnsigned(4, 0);      // yOffsetBits
+    out.writeUnsigned(4, 0);      // optionalBytesBits
+    out.writeUnsigned(4, 0);      // codedBytesBits
+    out.writeUnsigned(4, SIZE);   // width
+    out.writeUnsigned(4, SIZE);   // height
+    out.writeBoolean(false);      // flip
+    out.writeUnsigned(20, 0);     // pixelMaskBitStreamSize
+    for (int i = 0; i < Palette.COLORS; i++) out.writeBoolean(i == COLOR);
+    out.writeUnsigned(4, 0);      // pixel displacement, a single color
+    return out.toByteArray();
+  }
+
+  private static DCC dcc() {
+    byte[] direction = direction();
+    ByteBuffer buffer = ByteBuffer
+        .allocate(DCC.Header.SIZE + (DIRECTIONS * 4) + (DIRECTIONS * direction.length))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put((byte) 0x74).put((byte) 6).put((byte) DIRECTIONS);
+    buffer.putInt(1).putInt(1).putInt(0);
+    for (int d = 0; d < DIRECTIONS; d++) {
+      buffer.putInt(DCC.Header.SIZE + (DIRECTIONS * 4) + (d * direction.length));
+    }
+
+    for (int d = 0; d < DIRECTIONS; d++) buffer.put(direction);
+    return DCC.loadFromStream(new ByteArrayInputStream(buffer.array()));
+  }
+
+  @Test
+  public void directions_are_views_until_preloaded() {
+    DCC dcc = dcc();
+    BBox box = dcc.getBox();
+    Assert.assertEquals(SIZE, box.width);
+    Assert.assertEquals(SIZE, box.height);
+    for (int d = 0; d < DIRECTIONS; d++) {
+      Assert.assertFalse(dcc.isPreloaded(d));
+      DCC.Direction dir = dcc.directions[d];
+      Assert.assertTrue(dir.pixelCodeAndDisplacementBitStream.isViewOf(dcc.data));
+    }
+  }
+
+  @Test
+  public void data_released_once_preloaded() {
+    DCC dcc = dcc();
+    try {
+      dcc.preloadDirection(0);
+      Assert.assertTrue(dcc.isPreloaded(0));
+      Assert.assertFalse(dcc.isPreloaded(1));
+      Assert.assertNotNull(dcc.data);
+      Assert.assertNull(dcc.directions[0].pixelCodeAndDisplacementBitStream);
+      Assert.assertEquals(COLOR, dcc.frames[0][0].colormap[0]);
+
+      dcc.preloadDirection(1);
+      Assert.assertNull(dcc.data);
+      Assert.assertEquals(COLOR, dcc.frames[1][0].colormap[SIZE * SIZE - 1]);
+    } finally {
+      dcc.dispose();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.riiablo.codec.excel;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ColumnTableTest {
+  static LvlTypes.Entry entry(int id, String name, String... files) {
+    LvlTypes.Entry entry = new LvlTypes.Entry();
+    entry.Id = id;
+    entry.Name = name;
+    entry.File = files;
+    entry.Act = id + 1;
+    return entry;
+  }
+
+  static LvlTypes excel() {
+    LvlTypes excel = new LvlTypes();
+    excel.put(0, entry(0, "None"));
+    excel.put(1, entry(1, "Act 1 - Town", "Act1\\Town\\townN1.ds1", "Act1\\Town\\townE1.ds1", "Act1\\Town\\townW1.ds1"));
+    excel.put(2, entry(2, "Act 1 - Wilderness", "Act1\\Outdoors\\UniqueW.ds1"));
+    excel.put(3, entry(3, "Act 1 - Cave"));
+    excel.get(3).File = null;
+    return excel;
+  }
+
+  static byte[] write(Excel<?> excel) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ColumnTable.write(excel, out);
+    return out.toByteArray();
+  }
+
+  @Test
+  public void arrays_keep_their_length() throws Exception {
+    ColumnTable table = ColumnTable.wrap(ByteBuffer.wrap(write(excel())));
+    int col = table.column("File");
+    assertEquals(3, table.width(col));
+    assertEquals(0, table.length(0, col));
+    assertEquals(3, table.length(1, col));
+    assertEquals(1, table.length(2, col));
+    assertEquals(-1, table.length(3, col));
+    assertArrayEquals(new String[0], table.getStrings(0, col));
+    assertArrayEquals(new String[] {"Act1\\Outdoors\\UniqueW.ds1"}, table.getStrings(2, col));
+    assertNull(table.getStrings(3, col));
+    assertEquals(1, table.length(2, table.column("Act")));
+  }
+
+  @Test
+  public void view_materializes_rows() throws Exception {
+    LvlTypes excel = excel();
+    File file = File.createTempFile("lvltypes", ".bin");
+    file.deleteOnExit();
+    FileHandle handle = new FileHandle(file);
+    handle.writeBytes(write(excel), false);
+
+    ColumnTable.View<LvlTypes.Entry> view = Excel.view(LvlTypes.class, handle);
+    assertEquals(4, view.size());
+    for (int id = 0; id < 4; id++) {
+      LvlTypes.Entry expected = excel.get(id);
+      LvlTypes.Entry actual = view.get(id);
+      assertEquals(expected.Name, actual.Name);
+      assertEquals(expected.Act, actual.Act);
+      assertArrayEquals(expected.File, actual.File);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.riiablo.codec.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BitWriterTest {
+  @Test
+  public void roundTrip() {
+    BitWriter out = new BitWriter(1);
+    out.writeBoolean(true);
+    out.writeUnsigned(3, 5);
+    out.write8(0xAB);
+    out.writeUnsigned(9, 0x1FF);
+    out.write16(0xBEEF);
+    out.write32(0xDEADBEEF);
+    out.write64(0x0123456789ABCDEFL);
+    out.writeUnsigned(Long.SIZE, -1L);
+    out.writeString("abc", 5);
+    Assert.assertEquals(1 + 3 + 8 + 9 + 16 + 32 + 64 + 64 + 40, out.tell());
+
+    BitStream in = new BitStream(out.toByteArray());
+    Assert.assertTrue(in.readBoolean());
+    Assert.assertEquals(5, in.readUnsigned(3));
+    Assert.assertEquals(0xAB, in.readUnsigned8OrLess(8));
+    Assert.assertEquals(0x1FF, in.readUnsigned31OrLess(9));
+    Assert.assertEquals((short) 0xBEEF, in.read16BitsOrLess(16));
+    Assert.assertEquals(0xDEADBEEF, in.read32BitsOrLess(32));
+    Assert.assertEquals(0x0123456789ABCDEFL, in.read64BitsOrLess(64));
+    Assert.assertEquals(-1L, in.read64BitsOrLess(64));
+    Assert.assertEquals("abc\0\0", in.readString(5));
+  }
+
+  @Test
+  public void alignToByte() {
+    BitWriter out = new BitWriter();
+    out.writeUnsigned(3, 7);
+    out.alignToByte();
+    Assert.assertEquals(Byte.SIZE, out.tell());
+    out.alignToByte();
+    Assert.assertEquals(Byte.SIZE, out.tell());
+    out.write8(0x5A);
+    Assert.assertArrayEquals(new byte[] {0x07, 0x5A}, out.toByteArray());
+  }
+
+  @Test
+  public void writeBits() {
+    byte[] src = {(byte) 0xF0, (byte) 0xFF, 0x0F, 0x55, (byte) 0xAA, 0x33};
+    BitWriter out = new BitWriter();
+    out.writeUnsigned(5, 0);
+    out.writeBits(src, 4, 40);
+
+    BitStream expected = new BitStream(src);
+    expected.skip(4);
+    BitStream in = new BitStream(out.toByteArray());
+    in.skip(5);
+    for (int i = 0; i < 40; i++) Assert.assertEquals(expected.readBit(), in.readBit());
+  }
+
+  @Test
+  public void clear() {
+    BitWriter out = new BitWriter();
+    out.write32(-1);
+    out.clear();
+    Assert.assertEquals(0, out.tell());
+    out.write8(1);
+    Assert.assertArrayEquals(new byte[] {1}, out.toByteArray());
+  }
+
+  @Test
+  public void setBits() {
+    byte[] bytes = {(byte) 0xFF, 0x00, (byte) 0xFF};
+    BitWriter.setBits(bytes, 4, 12, 0x0A5);
+    Assert.assertArrayEquals(new byte[] {0x5F, 0x0A, (byte) 0xFF}, bytes);
+  }
+}
@@ -0,0 +1,78 @@
+package com.riiablo.engine.server.component.serializer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.riiablo.engine.server.component.Position;
+import com.riiablo.net.packet.d2gs.ComponentP;
+import com.riiablo.net.packet.d2gs.EntitySync;
+
+public class PositionSerializerTest {
+  static EntitySync sync(float x, float y) {
+    FlatBufferBuilder builder = new FlatBufferBuilder(64);
+    PositionSerializer serializer = new PositionSerializer();
+    Position position = new Position();
+    position.position.set(x, y);
+    int dataOffset = serializer.putData(builder, position);
+    int typeOffset = EntitySync.createComponentTypeVector(builder, new byte[] {ComponentP.PositionP});
+    int componentOffset = EntitySync.createComponentVector(builder, new int[] {dataOffset});
+    EntitySync.startEntitySync(builder);
+    EntitySync.addComponentType(builder, typeOffset);
+    EntitySync.addComponent(builder, componentOffset);
+    builder.finish(EntitySync.endEntitySync(builder));
+    return EntitySync.getRootAsEntitySync(builder.dataBuffer());
+  }
+
+  @Test
+  public void roundTrip() {
+    Position position = new PositionSerializer().getData(sync(3, 4), 0, new Position());
+    Assert.assertEquals(3, position.position.x, 0);
+    Assert.assertEquals(4, position.position.y, 0);
+  }
+
+  /**
+   * Each world owns its serializers, so worlds ticked on different threads must not share the
+   * tables they decode through.
+   */
+  @Test
+  public void decodesConcurrently() throws InterruptedException {
+    final int numThreads = 2;
+    final int iterations = 200000;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReference<AssertionError> failure = new AtomicReference<>();
+    Thread[] threads = new Thread[numThreads];
+    for (int t = 0; t < numThreads; t++) {
+      final float value = t + 1;
+      threads[t] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          EntitySync sync = sync(value, -value);
+          PositionSerializer serializer = new PositionSerializer();
+          Position position = new Position();
+          try {
+            start.await();
+            for (int i = 0; i < iterations; i++) {
+              serializer.getData(sync, 0, position);
+              Assert.assertEquals(value, position.position.x, 0);
+              Assert.assertEquals(-value, position.position.y, 0);
+            }
+          } catch (AssertionError e) {
+            failure.compareAndSet(null, e);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      });
+      threads[t].start();
+    }
+
+    start.countDown();
+    for (Thread thread : threads) thread.join();
+    if (failure.get() != null) throw failure.get();
+  }
+}
@@ -0,0 +1,129 @@
+package com.riiablo.item;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.riiablo.codec.excel.ItemStatCost;
+
+/**
+ * Exercises adding and removing {@link Attributes.Contribution contributions} with synthesized
+ * {@code ItemStatCost} entries, so no game files are required.
+ */
+public class AttributesTest {
+  static final ItemStatCost.Entry STRENGTH = entry(Stat.strength, 0);
+  static final ItemStatCost.Entry DEXTERITY = entry(Stat.dexterity, 0);
+  static final ItemStatCost.Entry FIRERESIST = entry(Stat.fireresist, 0);
+  static final ItemStatCost.Entry MAXDAMAGE_PERCENT = entry(Stat.item_maxdamage_percent, 3); // packed
+
+  static ItemStatCost.Entry entry(int stat, int encoding) {
+    ItemStatCost.Entry entry = new ItemStatCost.Entry();
+    entry.ID = stat;
+    entry.Encode = encoding;
+    entry.op_stat = new String[0];
+    return entry;
+  }
+
+  Attributes attrs;
+
+  @Before
+  public void setup() {
+    attrs = new Attributes();
+    attrs.base().put(Stat.strength, 0, 10, STRENGTH);
+    attrs.base().put(Stat.dexterity, 0, 20, DEXTERITY);
+    attrs.base().put(Stat.item_maxdamage_percent, 0, (1 << 8) | 100, MAXDAMAGE_PERCENT);
+    attrs.resetContributions();
+    attrs.apply();
+  }
+
+  Attributes.Contribution contribution(int strength, int fireresist) {
+    PropertyList list = new PropertyList();
+    list.put(Stat.strength, 0, strength, STRENGTH);
+    list.put(Stat.fireresist, 0, fireresist, FIRERESIST);
+    Attributes.Contribution contribution = new Attributes.Contribution();
+    attrs.contribute(contribution, null, list);
+    return contribution;
+  }
+
+  @Test
+  public void contribute() {
+    Attributes.Contribution contribution = contribution(5, 30);
+    Assert.assertEquals(5, contribution.agg.value(Stat.strength));
+    Assert.assertFalse(contribution.agg.contains(Stat.fireresist));
+    Assert.assertEquals(30, contribution.rem.value(Stat.fireresist));
+    Assert.assertEquals(10, attrs.aggregate().value(Stat.strength));
+  }
+
+  @Test
+  public void add() {
+    attrs.add(contribution(5, 30));
+    attrs.add(contribution(3, 10));
+    attrs.apply();
+    Assert.assertEquals(18, attrs.aggregate().value(Stat.strength));
+    Assert.assertEquals(20, attrs.aggregate().value(Stat.dexterity));
+    Assert.assertEquals(40, attrs.remaining().value(Stat.fireresist));
+    Assert.assertEquals(10, attrs.base().value(Stat.strength));
+  }
+
+  @Test
+  public void remove() {
+    Attributes.Contribution first = contribution(5, 30);
+    Attributes.Contribution second = contribution(3, 10);
+    attrs.add(first);
+    attrs.add(second);
+
+    Assert.assertTrue(attrs.remove(first));
+    attrs.apply();
+    Assert.assertEquals(13, attrs.aggregate().value(Stat.strength));
+    Assert.assertEquals(10, attrs.remaining().value(Stat.fireresist));
+
+    Assert.assertTrue(attrs.remove(second));
+    attrs.apply();
+    Assert.assertEquals(10, attrs.aggregate().value(Stat.strength));
+    Assert.assertFalse(attrs.aggregate().get(Stat.strength).isModified());
+    Assert.assertFalse(attrs.remaining().contains(Stat.fireresist));
+  }
+
+  @Test
+  public void removeThenAdd() {
+    Attributes.Contribution contribution = contribution(5, 30);
+    attrs.add(contribution);
+    Assert.assertTrue(attrs.remove(contribution));
+    attrs.add(contribution);
+    attrs.apply();
+    Assert.assertEquals(15, attrs.aggregate().value(Stat.strength));
+    Assert.assertEquals(30, attrs.remaining().value(Stat.fireresist));
+  }
+
+  @Test
+  public void removePacked() {
+    PropertyList list = new PropertyList();
+    list.put(Stat.item_maxdamage_percent, 0, (2 << 8) | 200, MAXDAMAGE_PERCENT);
+    Attributes.Contribution first = new Attributes.Contribution();
+    attrs.contribute(first, null, list);
+    Attributes.Contribution second = new Attributes.Contribution();
+    attrs.contribute(second, null, list);
+    attrs.add(first);
+    attrs.add(second);
+    attrs.apply();
+    Assert.assertEquals((5 << 8) | 255, attrs.aggregate().value(Stat.item_maxdamage_percent));
+
+    // saturated values cannot be subtracted while another contribution remains
+    Assert.assertFalse(attrs.remove(first));
+
+    // removing the last contribution restores the base value exactly
+    Assert.assertTrue(attrs.remove(second));
+    attrs.apply();
+    Assert.assertEquals((1 << 8) | 100, attrs.aggregate().value(Stat.item_maxdamage_percent));
+  }
+
+  @Test
+  public void resetContributions() {
+    attrs.add(contribution(5, 30));
+    attrs.apply();
+    attrs.resetContributions();
+    attrs.apply();
+    Assert.assertEquals(10, attrs.aggregate().value(Stat.strength));
+    Assert.assertFalse(attrs.remaining().contains(Stat.fireresist));
+  }
+}
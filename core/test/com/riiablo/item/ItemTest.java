@@ -0,0 +1,145 @@
+package com.riiablo.item;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import com.riiablo.Files;
+import com.riiablo.Riiablo;
+import com.riiablo.codec.util.BitStream;
+import com.riiablo.mpq.MPQFileHandleResolver;
+import com.riiablo.save.D2S;
+
+/**
+ * Requires the D2 MPQs within {@code riiablo.home} (defaults to {@code ~/diablo}) and the internal
+ * assets within the working directory, otherwise the tests are skipped.
+ */
+public class ItemTest {
+  private static final byte[] SECTION_HEADER = {0x4A, 0x4D};
+  private static final int COMPACT_FLAGS = 0x00200010; // COMPACT | IDENTIFIED
+  private static final int VERSION = 101;
+  private static final int ITEM_BYTES = 14; // JM + 95 bits
+
+  private static HeadlessApplication app;
+
+  @BeforeClass
+  public static void setup() {
+    app = new HeadlessApplication(new ApplicationAdapter() {});
+    FileHandle home = new FileHandle(System.getProperty("riiablo.home", System.getProperty("user.home") + "/diablo"));
+    Assume.assumeTrue("requires MPQs within " + home, home.child("d2data.mpq").exists());
+    Assume.assumeTrue("requires internal assets", Gdx.files.internal("data/obj.txt").exists());
+    Riiablo.home = Gdx.files.absolute(home.path());
+    Riiablo.mpqs = new MPQFileHandleResolver();
+    Riiablo.assets = new AssetManager();
+    Riiablo.files = new Files(Riiablo.assets);
+  }
+
+  @AfterClass
+  public static void teardown() {
+    if (app != null) app.exit();
+  }
+
+  /**
+   * Writes {@code numItems} compact potions back to back the way an item list is stored in a save,
+   * each preceded by its section header and padded to a byte.
+   */
+  private static byte[] items(int numItems) {
+    byte[] bytes = new byte[numItems * ITEM_BYTES];
+    for (int i = 0; i < numItems; i++) {
+      int position = i * ITEM_BYTES * Byte.SIZE;
+      for (byte b : SECTION_HEADER) position = write(bytes, position, Byte.SIZE, b);
+      position = write(bytes, position, Integer.SIZE, COMPACT_FLAGS);
+      position = write(bytes, position, 8, VERSION);
+      position = write(bytes, position, 2, 0);
+      position = write(bytes, position, 3, Location.STORED.ordinal());
+      position = write(bytes, position, 4, BodyLoc.NONE.ordinal());
+      position = write(bytes, position, 4, i % 10);
+      position = write(bytes, position, 4, i % 4);
+      position = write(bytes, position, 3, StoreLoc.INVENTORY.ordinal());
+      for (char c : "hp1 ".toCharArray()) position = write(bytes, position, Byte.SIZE, c);
+      write(bytes, position, 3, 0);
+    }
+
+    return bytes;
+  }
+
+  private static int write(byte[] bytes, int position, int bits, int value) {
+    for (int i = 0; i < bits; i++, position++) {
+      if (((value >>> i) & 1) == 1) bytes[position / Byte.SIZE] |= 1 << (position % Byte.SIZE);
+    }
+
+    return position;
+  }
+
+  /**
+   * Reads every item from a single stream over the entire buffer, as when an item is read from a
+   * save or packet without slicing it first.
+   */
+  private static Array<Item> read(byte[] bytes) {
+    Array<Item> items = new Array<>();
+    BitStream bitStream = new BitStream(bytes);
+    for (int i = 0, s = bytes.length / ITEM_BYTES; i < s; i++) {
+      bitStream.alignToByte();
+      bitStream.skip(D2S.ItemData.SECTION_HEADER_BITS);
+      items.add(Item.loadFromStream(bitStream));
+    }
+
+    return items;
+  }
+
+  private static long retained(Array<Item> items) {
+    long retained = 0;
+    for (Item item : items) retained += item.data.length;
+    return retained;
+  }
+
+  @Test
+  public void retains_only_own_bits() {
+    Array<Item> items = read(items(64));
+    Assert.assertEquals(64, items.size);
+    for (Item item : items) {
+      Assert.assertEquals("hp1", item.typeCode);
+      Assert.assertEquals(ITEM_BYTES, item.data.length);
+      Assert.assertEquals(D2S.ItemData.SECTION_HEADER_BITS, item.bitOffset);
+    }
+  }
+
+  @Test
+  public void retained_bytes_linear_in_items() {
+    final long retained = retained(read(items(64)));
+    Assert.assertEquals(64 * ITEM_BYTES, retained);
+    Assert.assertEquals(4 * retained, retained(read(items(256))));
+  }
+
+  @Test
+  public void serialize_reencodes_location() {
+    Item item = read(items(4)).get(3);
+    Assert.assertEquals(3, item.gridX);
+    item.location = Location.EQUIPPED;
+    item.bodyLoc = BodyLoc.BELT;
+    item.storeLoc = StoreLoc.NONE;
+    item.gridX = 7;
+    item.gridY = 2;
+
+    BitStream bitStream = new BitStream(item.serialize());
+    bitStream.skip(D2S.ItemData.SECTION_HEADER_BITS);
+    Item copy = Item.loadFromStream(bitStream);
+    Assert.assertEquals(item.flags, copy.flags);
+    Assert.assertEquals(Location.EQUIPPED, copy.location);
+    Assert.assertEquals(BodyLoc.BELT, copy.bodyLoc);
+    Assert.assertEquals(StoreLoc.NONE, copy.storeLoc);
+    Assert.assertEquals(7, copy.gridX);
+    Assert.assertEquals(2, copy.gridY);
+    Assert.assertEquals("hp1", copy.typeCode);
+    Assert.assertArrayEquals(item.data, copy.data);
+  }
+}
@@ -0,0 +1,236 @@
+package com.riiablo.item;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+
+import com.riiablo.codec.excel.ItemStatCost;
+
+/**
+ * Exercises {@link PropertyList} with synthesized {@code ItemStatCost} entries, so no game files
+ * are required.
+ */
+public class PropertyListTest {
+  static final IntMap<ItemStatCost.Entry> ENTRIES = new IntMap<>();
+
+  static ItemStatCost.Entry entry(int stat, int encoding) {
+    ItemStatCost.Entry entry = ENTRIES.get(stat);
+    if (entry == null) {
+      entry = new ItemStatCost.Entry();
+      entry.ID = stat;
+      entry.Encode = encoding;
+      ENTRIES.put(stat, entry);
+    }
+
+    return entry;
+  }
+
+  static {
+    entry(Stat.item_maxdamage_percent, 3); // not its real encoding, used to test packed values
+  }
+
+  /** list resolving stats to synthesized entries instead of the loaded excel */
+  static class TestPropertyList extends PropertyList {
+    TestPropertyList() {}
+
+    TestPropertyList(int capacity) {
+      super(capacity);
+    }
+
+    @Override
+    ItemStatCost.Entry entry(int stat) {
+      return PropertyListTest.entry(stat, 0);
+    }
+  }
+
+  @Test
+  public void put() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 10);
+    list.put(Stat.dexterity, 20);
+    list.put(Stat.strength, 15);
+    Assert.assertEquals(2, list.size());
+    Assert.assertEquals(15, list.get(Stat.strength).value());
+    Assert.assertEquals(20, list.get(Stat.dexterity).value());
+    Assert.assertSame(ENTRIES.get(Stat.strength), list.get(Stat.strength).entry);
+    Assert.assertNull(list.get(Stat.energy));
+  }
+
+  @Test
+  public void params() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.item_addskill_tab, 1, 3);
+    list.put(Stat.item_addskill_tab, 2, 4);
+    Assert.assertEquals(2, list.size());
+    Assert.assertEquals(3, list.value(Stat.hash(Stat.item_addskill_tab, 1)));
+    Assert.assertEquals(4, list.value(Stat.hash(Stat.item_addskill_tab, 2)));
+    Assert.assertNull(list.get(Stat.item_addskill_tab));
+  }
+
+  @Test
+  public void add() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 10);
+    PropertyList other = new TestPropertyList();
+    other.put(Stat.strength, 5);
+    other.put(Stat.vitality, 7);
+    list.addAll(other);
+    Assert.assertEquals(2, list.size());
+    Assert.assertEquals(15, list.get(Stat.strength).value());
+    Assert.assertTrue(list.get(Stat.strength).isModified());
+    Assert.assertEquals(7, list.get(Stat.vitality).value());
+    Assert.assertFalse(list.get(Stat.vitality).isModified());
+    Assert.assertEquals(5, other.get(Stat.strength).value());
+  }
+
+  @Test
+  public void addPacked() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.item_maxdamage_percent, 0, (2 << 8) | 250, entry(Stat.item_maxdamage_percent, 3));
+    PropertyList other = new TestPropertyList();
+    other.put(Stat.item_maxdamage_percent, 0, (3 << 8) | 10, entry(Stat.item_maxdamage_percent, 3));
+    list.addAll(other);
+    Assert.assertEquals((5 << 8) | 255, list.value(Stat.item_maxdamage_percent));
+  }
+
+  @Test
+  public void remove() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 1);
+    list.put(Stat.energy, 2);
+    list.put(Stat.dexterity, 3);
+    list.remove(Stat.energy);
+    list.remove(Stat.energy);
+    Assert.assertEquals(2, list.size());
+    Assert.assertFalse(list.contains(Stat.energy));
+    Assert.assertEquals(1, list.value(Stat.strength));
+    Assert.assertEquals(3, list.value(Stat.dexterity));
+  }
+
+  @Test
+  public void viewFollowsSwapRemove() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 1);
+    list.put(Stat.energy, 2);
+    list.put(Stat.dexterity, 3);
+    Stat dexterity = list.get(Stat.dexterity);
+    Stat strength = list.get(Stat.strength);
+
+    // dexterity is moved from the last slot into the slot strength occupied
+    list.remove(Stat.strength);
+    dexterity.add(10);
+    Assert.assertEquals(13, list.value(Stat.dexterity));
+    Assert.assertTrue(list.get(Stat.dexterity).isModified());
+
+    // views of removed stats are not written back
+    strength.add(10);
+    Assert.assertFalse(list.contains(Stat.strength));
+    Assert.assertEquals(2, list.value(Stat.energy));
+    Assert.assertEquals(13, list.value(Stat.dexterity));
+  }
+
+  @Test
+  public void grow() {
+    PropertyList list = new TestPropertyList(1);
+    final int numStats = 100;
+    for (int i = 0; i < numStats; i++) list.put(i, i + 1);
+    Assert.assertEquals(numStats, list.size());
+    for (int i = 0; i < numStats; i += 2) list.remove(i);
+    Assert.assertEquals(numStats / 2, list.size());
+    for (int i = 0; i < numStats; i++) {
+      if ((i & 1) == 0) {
+        Assert.assertFalse(list.contains(i));
+      } else {
+        Assert.assertEquals(i + 1, list.value(i));
+      }
+    }
+
+    int count = 0;
+    for (Stat stat : list) {
+      Assert.assertEquals(stat.id + 1, stat.value());
+      count++;
+    }
+
+    Assert.assertEquals(numStats / 2, count);
+  }
+
+  @Test
+  public void iteratorReused() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 1);
+    list.put(Stat.energy, 2);
+    Iterator<Stat> iterator = list.iterator();
+    list.iterator();
+    Assert.assertSame(iterator, list.iterator());
+
+    int count = 0;
+    for (Stat stat : list) count++;
+    for (Stat stat : list) count++;
+    Assert.assertEquals(4, count);
+  }
+
+  @Test(expected = GdxRuntimeException.class)
+  public void iteratorNested() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 1);
+    for (Stat outer : list) {
+      for (Stat inner : list) {}
+    }
+  }
+
+  @Test
+  public void copy() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 1);
+    PropertyList copy = list.copy();
+    copy.get(Stat.strength).add(1);
+    Assert.assertEquals(1, list.value(Stat.strength));
+    Assert.assertEquals(2, copy.value(Stat.strength));
+  }
+
+  @Test
+  public void reduceAttributes() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 5);
+    list.put(Stat.energy, 5);
+    list.put(Stat.dexterity, 5);
+    list.put(Stat.vitality, 5);
+    list.put(Stat.fireresist, 10);
+    list.reduce();
+    Assert.assertEquals(2, list.size());
+    Assert.assertEquals(5, list.value(Stat.all_attributes));
+    Assert.assertFalse(list.contains(Stat.strength));
+    Assert.assertEquals(10, list.value(Stat.fireresist));
+  }
+
+  @Test
+  public void reduceUnequal() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.strength, 5);
+    list.put(Stat.energy, 5);
+    list.put(Stat.dexterity, 5);
+    list.put(Stat.vitality, 6);
+    list.reduce();
+    Assert.assertEquals(4, list.size());
+    Assert.assertFalse(list.contains(Stat.all_attributes));
+  }
+
+  @Test
+  public void reduceDamage() {
+    PropertyList list = new TestPropertyList();
+    list.put(Stat.firemindam, 3);
+    list.put(Stat.firemaxdam, 9);
+    list.reduce();
+    Assert.assertEquals(1, list.size());
+    Stat firedam = list.get(Stat.firedam);
+    Assert.assertTrue(firedam instanceof Stat.Aggregate);
+    Assert.assertSame(ENTRIES.get(Stat.firedam), firedam.entry);
+    Stat[] stats = ((Stat.Aggregate) firedam).stats;
+    Assert.assertEquals(3, stats[0].value());
+    Assert.assertEquals(9, stats[1].value());
+  }
+}
@@ -0,0 +1,90 @@
+package com.riiablo.mpq.util;
+
+import com.badlogic.gdx.utils.Base64Coder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class DecompressorTest {
+  private static final int FSIZE = 4096;
+
+  // Sectors compressed by the reference zlib and bzip2 encoders, prefixed with their compression
+  // flags. SPARSE_* sectors were sparse-encoded before being compressed.
+  private static final String DEFLATE = "Anja7dDHFYBACABRW3Vzho1q91ZAAzz+Ze4zYrxVgUHlEqylpHTFSUYO8Za1aX1lMnKIN2Nh7FLIyCHe"
+      + "HM5TqyUjh3jr62nNeTJyiLf9AvgwyMgh3j7EEOchI4d4+wGEUGzu";
+  private static final String BZIP2 = "EEJaaDkxQVkmU1mutz94AACAQYLAAD///+AAAgAIIACIElQ0ND1GRppkaBUpQBoD0aZILAQk7KjY9PAF"
+      + "wiCHhtFFwchZkSCKGCpx8GZaLHqNIzKxc61KYKmxoZlyxb5qUNxaPsX7FDWP0djEZGCuUUoanSGD9DYc"
+      + "sQvF41OH0P4u5IpwoSFdbn7w";
+  private static final String SPARSE = "IAAAEACfcmlpYWJsb3JpaWFibG9yaWlhYmxvcmlpYWJsb3JpaWF/f39Xn2pqYmNtcHNqamJjbXBzampi"
+      + "Y21wc2pqYmNtcHNqamJjf39/V59rY2RucXRra2NkbnF0a2tjZG5xdGtrY2RucXRra2Nkbn9/f1efZGVv"
+      + "cnVsbGRlb3J1bGxkZW9ydWxsZGVvcnVsbGRlb3J/f39Xn2Zwc3ZtbWVmcHN2bW1lZnBzdm1tZWZwc3Zt"
+      + "bWVmcHN2f39/V59xdHdubmZncXR3bm5mZ3F0d25uZmdxdHdubmZncXR3bn9/f1efdXhvb2docnV4b29n"
+      + "aHJ1eG9vZ2hydXhvb2docnV4b29/f39Xn3lwcGhpc3Z5cHBoaXN2eXBwaGlzdnlwcGhpc3Z5cHBof39/"
+      + "Vw==";
+  private static final String SPARSE_DEFLATE = "Injadcq5EYAgEABASrA7Y/n/H9SIUmjV8fKLNllCDrKrMRf1CWWtdW5rKQu5oUByjMfSHQokLlId3qNA"
+      + "krnNEAQKpNLvGKVCgTSelJSuKJDenLVpE+VPH94WgJY=";
+  private static final String SPARSE_BZIP2 = "MEJaaDkxQVkmU1lND+N8AAAAY6BAAEAAAIA////ggACwALhFAAAAACgAAAAAVKUmnqeptND1MNRpk5U5"
+      + "U3HWMYuO0Xxx4MIqYx5P3uZFTMyKd41jQrH/YpU9FT2ZHk2MzI+GkUzN46GsfmccRgWjoVsU/hoUvFin"
+      + "EPRdQtDWNY56GwYY37Wu59uI3o+LuSKcKEgmh/G+AA==";
+
+  private static byte[] expected() {
+    final String str = "riiablo";
+    byte[] bytes = new byte[FSIZE];
+    for (int i = 0; i < FSIZE; i++) {
+      bytes[i] = (i & 511) >= 32 ? 0 : (byte) (str.charAt(i % str.length()) + (i >> 9));
+    }
+
+    return bytes;
+  }
+
+  private static void assertDecompresses(String fixture) {
+    byte[] compressed = Base64Coder.decode(fixture);
+
+    // sectors are read from read-only views of the mapped archive
+    ByteBuffer sector = ByteBuffer.allocateDirect(compressed.length).order(ByteOrder.LITTLE_ENDIAN);
+    sector.put(compressed).flip();
+    sector = sector.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    ByteBuffer buffer = ByteBuffer.allocate(FSIZE).order(ByteOrder.LITTLE_ENDIAN);
+    ByteBuffer scratch = ByteBuffer.allocate(FSIZE).order(ByteOrder.LITTLE_ENDIAN);
+    Decompressor.decompress(sector, buffer, scratch, compressed.length, FSIZE);
+    Assert.assertEquals(FSIZE, buffer.position());
+    Assert.assertArrayEquals(expected(), buffer.array());
+  }
+
+  @Test
+  public void deflate() {
+    assertDecompresses(DEFLATE);
+  }
+
+  @Test
+  public void bzip2() {
+    assertDecompresses(BZIP2);
+  }
+
+  @Test
+  public void sparse() {
+    assertDecompresses(SPARSE);
+  }
+
+  @Test
+  public void sparseDeflate() {
+    assertDecompresses(SPARSE_DEFLATE);
+  }
+
+  @Test
+  public void sparseBzip2() {
+    assertDecompresses(SPARSE_BZIP2);
+  }
+
+  @Test
+  public void bzip2Reentrant() {
+    // decoder state is reused between calls on the same thread
+    assertDecompresses(BZIP2);
+    assertDecompresses(SPARSE_BZIP2);
+    assertDecompresses(BZIP2);
+  }
+}
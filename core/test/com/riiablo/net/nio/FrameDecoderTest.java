@@ -0,0 +1,216 @@
+package com.riiablo.net.nio;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.riiablo.net.packet.d2gs.D2GS;
+import com.riiablo.net.packet.d2gs.D2GSData;
+import com.riiablo.net.packet.d2gs.Ping;
+
+public class FrameDecoderTest {
+  private static final int NUM_PACKETS = 5000;
+
+  /** Generates size-prefixed Ping packets, padded to varying sizes with an unused vector */
+  private static List<byte[]> packets(Random random, int count) {
+    List<byte[]> packets = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      FlatBufferBuilder builder = new FlatBufferBuilder(0);
+      builder.createByteVector(new byte[random.nextInt(200)]);
+      int dataOffset = Ping.createPing(builder, i, i * 31L, i * 17L);
+      int root = D2GS.createD2GS(builder, D2GSData.Ping, dataOffset);
+      D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+      packets.add(builder.sizedByteArray());
+    }
+
+    return packets;
+  }
+
+  private static byte[] concat(List<byte[]> packets) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] packet : packets) out.write(packet, 0, packet.length);
+    return out.toByteArray();
+  }
+
+  private static void assertPacket(int i, byte[] expected, ByteBuffer frame) {
+    Assert.assertEquals("frame " + i + " length", expected.length, frame.remaining());
+    for (int j = 0; j < expected.length; j++) {
+      Assert.assertEquals("frame " + i + " byte " + j, expected[j], frame.get(frame.position() + j));
+    }
+
+    ByteBuffer data = frame.duplicate();
+    data.position(data.position() + SizePrefixedFramer.PREFIX_SIZE);
+    D2GS packet = D2GS.getRootAsD2GS(data);
+    Assert.assertEquals(D2GSData.Ping, packet.dataType());
+    Ping ping = (Ping) packet.data(new Ping());
+    Assert.assertEquals(i, ping.tickCount());
+    Assert.assertEquals(i * 31L, ping.sendTime());
+  }
+
+  /** Feeds the stream in random fragments, which may split or coalesce any number of frames */
+  private static void stress(long seed, int capacity, int maxChunk) throws IOException {
+    Random random = new Random(seed);
+    List<byte[]> packets = packets(random, NUM_PACKETS);
+    ByteBuffer stream = ByteBuffer.wrap(concat(packets));
+    FrameDecoder decoder = new FrameDecoder(SizePrefixedFramer.INSTANCE, ByteBuffer.allocateDirect(capacity));
+    int decoded = 0;
+    while (stream.hasRemaining()) {
+      int chunk = 1 + random.nextInt(maxChunk);
+      ByteBuffer fragment = stream.duplicate();
+      fragment.limit(Math.min(stream.limit(), stream.position() + chunk));
+      int copied = decoder.put(fragment);
+      stream.position(stream.position() + copied);
+      for (ByteBuffer frame; (frame = decoder.next()) != null; decoded++) {
+        assertPacket(decoded, packets.get(decoded), frame);
+      }
+    }
+
+    Assert.assertEquals(NUM_PACKETS, decoded);
+    Assert.assertEquals(0, decoder.size());
+  }
+
+  @Test
+  public void fragmented() throws IOException {
+    stress(1, 4096, 7);
+  }
+
+  @Test
+  public void coalesced() throws IOException {
+    stress(2, 8192, 4096);
+  }
+
+  @Test
+  public void wrapping() throws IOException {
+    // ring barely larger than the largest frame, so most frames wrap around its end
+    stress(3, 300, 300);
+  }
+
+  @Test
+  public void mixed() throws IOException {
+    for (long seed = 4; seed < 20; seed++) {
+      stress(seed, 256 + (int) (seed * 37), 1 + (int) (seed * seed * 3));
+    }
+  }
+
+  @Test
+  public void channel() throws IOException {
+    Random random = new Random(5);
+    List<byte[]> packets = packets(random, NUM_PACKETS);
+    ChunkedChannel channel = new ChunkedChannel(concat(packets), random, 600);
+    FrameDecoder decoder = new FrameDecoder(SizePrefixedFramer.INSTANCE, ByteBuffer.allocate(512));
+    int decoded = 0;
+    while (decoder.read(channel) != -1) {
+      for (ByteBuffer frame; (frame = decoder.next()) != null; decoded++) {
+        assertPacket(decoded, packets.get(decoded), frame);
+      }
+    }
+
+    Assert.assertEquals(NUM_PACKETS, decoded);
+  }
+
+  @Test
+  public void lines() throws IOException {
+    FrameDecoder decoder = new FrameDecoder(LineFramer.INSTANCE, ByteBuffer.allocate(16));
+    String lines = "hello\nriiablo\na\nfragmented line\n";
+    StringBuilder out = new StringBuilder();
+    Random random = new Random(6);
+    ByteBuffer stream = ByteBuffer.wrap(lines.getBytes("US-ASCII"));
+    while (stream.hasRemaining()) {
+      ByteBuffer fragment = stream.duplicate();
+      fragment.limit(Math.min(stream.limit(), stream.position() + 1 + random.nextInt(5)));
+      stream.position(stream.position() + decoder.put(fragment));
+      for (ByteBuffer frame; (frame = decoder.next()) != null;) {
+        while (frame.hasRemaining()) out.append((char) frame.get());
+      }
+    }
+
+    Assert.assertEquals(lines, out.toString());
+  }
+
+  @Test
+  public void readsOnceIfNotScattering() throws IOException {
+    FrameDecoder decoder = new FrameDecoder(LineFramer.INSTANCE, ByteBuffer.allocate(16));
+    decoder.put(ByteBuffer.wrap("abc\nde".getBytes("US-ASCII")));
+    Assert.assertNotNull(decoder.next());
+    // free space is [6, 16) and [0, 4), a second read in the same call would block
+    ReadableByteChannel channel = new ReadableByteChannel() {
+      int reads;
+
+      @Override
+      public int read(ByteBuffer dst) {
+        if (reads++ > 0) throw new AssertionError("read would block");
+        int length = dst.remaining();
+        while (dst.hasRemaining()) dst.put((byte) 'f');
+        return length;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {}
+    };
+
+    Assert.assertEquals(10, decoder.read(channel));
+    Assert.assertEquals(12, decoder.size());
+  }
+
+  @Test(expected = IOException.class)
+  public void oversized() throws IOException {
+    FrameDecoder decoder = new FrameDecoder(SizePrefixedFramer.INSTANCE, ByteBuffer.allocate(64));
+    ByteBuffer frame = ByteBuffer.allocate(128);
+    frame.put(0, (byte) 124);
+    decoder.put(frame);
+    decoder.next();
+  }
+
+  @Test(expected = IOException.class)
+  public void negativeSize() throws IOException {
+    FrameDecoder decoder = new FrameDecoder(SizePrefixedFramer.INSTANCE, ByteBuffer.allocate(64));
+    decoder.put(ByteBuffer.wrap(new byte[] { -1, -1, -1, -1 }));
+    decoder.next();
+  }
+
+  /** Channel returning random amounts of its data per read */
+  static class ChunkedChannel implements ReadableByteChannel {
+    final ByteBuffer data;
+    final Random random;
+    final int maxChunk;
+
+    ChunkedChannel(byte[] data, Random random, int maxChunk) {
+      this.data = ByteBuffer.wrap(data);
+      this.random = random;
+      this.maxChunk = maxChunk;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      if (!data.hasRemaining()) return -1;
+      int length = Math.min(Math.min(dst.remaining(), data.remaining()), 1 + random.nextInt(maxChunk));
+      ByteBuffer src = data.duplicate();
+      src.limit(src.position() + length);
+      dst.put(src);
+      data.position(data.position() + length);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
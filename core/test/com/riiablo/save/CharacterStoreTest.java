@@ -0,0 +1,95 @@
+package com.riiablo.save;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+
+public class CharacterStoreTest {
+  private static HeadlessApplication app;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  FileHandle dir;
+
+  @BeforeClass
+  public static void setup() {
+    app = new HeadlessApplication(new ApplicationAdapter() {}); // failures are logged through Gdx.app
+  }
+
+  @AfterClass
+  public static void teardown() {
+    if (app != null) app.exit();
+  }
+
+  @Before
+  public void before() {
+    dir = new FileHandle(folder.getRoot()).child("saves");
+  }
+
+  @Test
+  public void save() {
+    CharacterStore store = new CharacterStore(dir);
+    store.save("Tester", new byte[] {1, 2, 3});
+    Assert.assertArrayEquals(new byte[] {1, 2, 3}, store.load("Tester"));
+    store.dispose();
+
+    Assert.assertArrayEquals(new byte[] {1, 2, 3}, dir.child("Tester." + D2S.EXT).readBytes());
+    Assert.assertFalse(dir.child("Tester." + D2S.EXT + CharacterStore.TMP_EXT).exists());
+    Assert.assertArrayEquals(new byte[] {1, 2, 3}, new CharacterStore(dir).load("Tester"));
+    Assert.assertNull(new CharacterStore(dir).load("Nobody"));
+  }
+
+  @Test
+  public void replace() {
+    CharacterStore store = new CharacterStore(dir);
+    store.save("Tester", new byte[] {1});
+    store.save("Tester", new byte[] {2});
+    store.save("Other", new byte[] {3});
+    store.dispose();
+    store.save("Tester", new byte[] {4}); // rejected once disposed
+
+    Assert.assertArrayEquals(new byte[] {2}, store.load("Tester"));
+    Assert.assertArrayEquals(new byte[] {2}, dir.child("Tester." + D2S.EXT).readBytes());
+    Assert.assertArrayEquals(new byte[] {3}, dir.child("Other." + D2S.EXT).readBytes());
+  }
+
+  @Test
+  public void invalidName() {
+    CharacterStore store = new CharacterStore(dir);
+    store.save("../Tester", new byte[] {1});
+    store.save(null, new byte[] {1});
+    store.dispose();
+    Assert.assertEquals(0, dir.list().length);
+  }
+
+  @Test
+  public void retry() throws InterruptedException {
+    // the temporary file cannot be created while a directory occupies its path
+    FileHandle tmp = dir.child("Tester." + D2S.EXT + CharacterStore.TMP_EXT);
+    tmp.mkdirs();
+
+    CharacterStore store = new CharacterStore(dir);
+    store.save("Tester", new byte[] {1});
+    FileHandle file = dir.child("Tester." + D2S.EXT);
+    for (int i = 0; i < 100 && store.retryDelay == CharacterStore.MIN_RETRY_DELAY; i++) Thread.sleep(10);
+    Assert.assertEquals(2 * CharacterStore.MIN_RETRY_DELAY, store.retryDelay);
+    Assert.assertFalse(file.exists());
+    Assert.assertArrayEquals(new byte[] {1}, store.load("Tester"));
+
+    tmp.deleteDirectory();
+    final long timeout = System.currentTimeMillis() + 10 * CharacterStore.MIN_RETRY_DELAY;
+    while (!file.exists() && System.currentTimeMillis() < timeout) Thread.sleep(10);
+    Assert.assertArrayEquals(new byte[] {1}, file.readBytes());
+    store.dispose();
+    Assert.assertEquals(CharacterStore.MIN_RETRY_DELAY, store.retryDelay);
+  }
+}
@@ -0,0 +1,48 @@
+package com.riiablo.save;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.riiablo.Riiablo;
+
+public class D2STest {
+  @Test
+  public void checksum() {
+    Assert.assertEquals(0, D2S.checksum(new byte[0]));
+    // ((0x01 << 1) + 0x02 << 1) + 0xFF, bytes are unsigned
+    Assert.assertEquals(0x107, D2S.checksum(new byte[] {0x01, 0x02, (byte) 0xFF}));
+
+    // the high bit rotates back into the low bit
+    byte[] bytes = new byte[33];
+    bytes[0] = 1;
+    Assert.assertEquals(1, D2S.checksum(Arrays.copyOf(bytes, 33)));
+    Assert.assertEquals(1 << 31, D2S.checksum(Arrays.copyOf(bytes, 32)));
+  }
+
+  @Test
+  public void serialize() {
+    CharData data = CharData.obtain(Riiablo.NORMAL, false, "Tester", (byte) 3);
+    byte[] bytes = D2S.serialize(data);
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    Assert.assertEquals(bytes.length, buffer.getInt(D2S.SIZE_OFFSET));
+    final int checksum = buffer.getInt(D2S.CHECKSUM_OFFSET);
+    buffer.putInt(D2S.CHECKSUM_OFFSET, 0);
+    Assert.assertEquals(D2S.checksum(bytes), checksum);
+    buffer.putInt(D2S.CHECKSUM_OFFSET, checksum);
+
+    D2S d2s = D2S.loadFromBuffer(ByteBuffer.wrap(bytes), true);
+    Assert.assertEquals("Tester", d2s.header.name);
+    Assert.assertEquals(3, d2s.header.charClass);
+    Assert.assertEquals(1, d2s.header.level);
+    Assert.assertEquals(D2S.FLAG_EXPANSION, d2s.header.flags & D2S.FLAG_EXPANSION);
+    Assert.assertEquals(bytes.length, d2s.header.size);
+    Assert.assertEquals(checksum, d2s.header.checksum);
+    Assert.assertNotNull(d2s.stats);
+    Assert.assertNotNull(d2s.items);
+  }
+}
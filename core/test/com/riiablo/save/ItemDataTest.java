@@ -0,0 +1,256 @@
+package com.riiablo.save;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntArray;
+
+import com.riiablo.CharacterClass;
+import com.riiablo.Files;
+import com.riiablo.Riiablo;
+import com.riiablo.codec.StringTBLs;
+import com.riiablo.codec.excel.CharStats;
+import com.riiablo.codec.excel.ItemEntry;
+import com.riiablo.codec.excel.ItemStatCost;
+import com.riiablo.codec.excel.SetItems;
+import com.riiablo.codec.util.BitStream;
+import com.riiablo.item.Attributes;
+import com.riiablo.item.BodyLoc;
+import com.riiablo.item.Item;
+import com.riiablo.item.Location;
+import com.riiablo.item.PropertyList;
+import com.riiablo.item.Quality;
+import com.riiablo.item.Stat;
+import com.riiablo.item.StoreLoc;
+import com.riiablo.item.Type;
+import com.riiablo.mpq.MPQFileHandleResolver;
+
+/**
+ * Requires the D2 MPQs within {@code riiablo.home} (defaults to {@code ~/diablo}) and the internal
+ * assets within the working directory, otherwise the tests are skipped.
+ */
+public class ItemDataTest {
+  private static final int FLAGS = 0x00000010; // IDENTIFIED
+  private static final int VERSION = 101;
+
+  private static HeadlessApplication app;
+
+  @BeforeClass
+  public static void setup() {
+    app = new HeadlessApplication(new ApplicationAdapter() {});
+    FileHandle home = new FileHandle(System.getProperty("riiablo.home", System.getProperty("user.home") + "/diablo"));
+    Assume.assumeTrue("requires MPQs within " + home, home.child("d2data.mpq").exists());
+    Assume.assumeTrue("requires internal assets", Gdx.files.internal("data/obj.txt").exists());
+    Riiablo.home = Gdx.files.absolute(home.path());
+    Riiablo.mpqs = new MPQFileHandleResolver();
+    Riiablo.string = new StringTBLs(Riiablo.mpqs);
+    Riiablo.assets = new AssetManager();
+    Riiablo.files = new Files(Riiablo.assets);
+  }
+
+  @AfterClass
+  public static void teardown() {
+    if (app != null) app.exit();
+  }
+
+  CharStats.Entry charStats;
+  Attributes stats;
+  ItemData itemData;
+
+  @Before
+  public void before() {
+    charStats = CharacterClass.BARBARIAN.entry();
+    stats = new Attributes();
+    base(stats.base());
+    itemData = new ItemData(stats, charStats);
+    itemData.preprocessItems();
+  }
+
+  private static void base(PropertyList base) {
+    base.put(Stat.level,      10);
+    base.put(Stat.strength,   30);
+    base.put(Stat.energy,     10);
+    base.put(Stat.dexterity,  20);
+    base.put(Stat.vitality,   25);
+    base.put(Stat.maxhp,      55 << 8);
+    base.put(Stat.maxmana,    10 << 8);
+    base.put(Stat.maxstamina, 92 << 8);
+    base.put(Stat.armorclass, 0);
+  }
+
+  /**
+   * Writes a non-compact item in the format {@link Item#loadFromStream(BitStream)} reads.
+   *
+   * @param props  id and value pairs of the magic properties
+   * @param setProps id and value pairs of the properties the item adds while 2 of its set are
+   *                 equipped, only used by set items
+   */
+  private static Item item(String code, Quality quality, int qualityId, int[] props, int[] setProps) {
+    ItemEntry base = Item.findBase(code);
+    Type type = Type.get(Riiablo.files.ItemTypes.get(base.type));
+    Assume.assumeFalse("requires an item without armor or weapon fields: " + code,
+        type.is(Type.ARMO) || type.is(Type.WEAP) || type.is(Type.BOOK));
+
+    byte[] bytes = new byte[64];
+    int position = 0;
+    position = write(bytes, position, Integer.SIZE, FLAGS);
+    position = write(bytes, position, 8, VERSION);
+    position = write(bytes, position, 2, 0);
+    position = write(bytes, position, 3, Location.STORED.ordinal());
+    position = write(bytes, position, 4, BodyLoc.NONE.ordinal());
+    position = write(bytes, position, 4, 0);
+    position = write(bytes, position, 4, 0);
+    position = write(bytes, position, 3, StoreLoc.NONE.ordinal());
+    for (char c : String.format("%-4s", code).toCharArray()) position = write(bytes, position, Byte.SIZE, c);
+    position = write(bytes, position, 3, 0); // socketsFilled
+    position = write(bytes, position, Integer.SIZE, code.hashCode()); // id
+    position = write(bytes, position, 7, 10); // level
+    position = write(bytes, position, 4, quality.ordinal());
+    position = write(bytes, position, 1, 0); // pictureId
+    position = write(bytes, position, 1, 0); // classOnly
+    switch (quality) {
+      case MAGIC: position = write(bytes, position, 22, qualityId); break;
+      case SET:   position = write(bytes, position, 12, qualityId); break;
+      default:
+    }
+    position = write(bytes, position, 1, 0);
+    if (base.stackable) position = write(bytes, position, 9, 1);
+    if (quality == Quality.SET) position = write(bytes, position, 5, 1);
+    position = write(bytes, position, props);
+    if (quality == Quality.SET) write(bytes, position, setProps);
+    return Item.loadFromStream(new BitStream(bytes));
+  }
+
+  private static int write(byte[] bytes, int position, int[] props) {
+    for (int i = 0; i < props.length; i += 2) {
+      ItemStatCost.Entry entry = Riiablo.files.ItemStatCost.get(props[i]);
+      position = write(bytes, position, Stat.BITS, props[i]);
+      position = write(bytes, position, entry.Save_Param_Bits, 0);
+      position = write(bytes, position, entry.Save_Bits, props[i + 1] + entry.Save_Add);
+    }
+
+    return write(bytes, position, Stat.BITS, Stat.NONE);
+  }
+
+  private static int write(byte[] bytes, int position, int bits, int value) {
+    for (int i = 0; i < bits; i++, position++) {
+      if (((value >>> i) & 1) == 1) bytes[position / Byte.SIZE] |= 1 << (position % Byte.SIZE);
+    }
+
+    return position;
+  }
+
+  /**
+   * Returns the set item ids of a ring and an amulet of the same set.
+   */
+  private static int[] ringAndAmulet() {
+    SetItems setItems = Riiablo.files.SetItems;
+    for (int i = 0, s = setItems.size(); i < s; i++) {
+      SetItems.Entry ring = setItems.get(i);
+      if (!"rin".equals(ring.item)) continue;
+      for (int j = 0; j < s; j++) {
+        SetItems.Entry amulet = setItems.get(j);
+        if ("amu".equals(amulet.item) && ring.set.equals(amulet.set)) return new int[] { i, j };
+      }
+    }
+
+    Assume.assumeTrue("requires a set with a ring and an amulet", false);
+    return null;
+  }
+
+  private void equip(BodyLoc bodyLoc, Item item) {
+    itemData.equip(bodyLoc, itemData.add(item));
+    assertMatchesFullRecompute();
+  }
+
+  /**
+   * Recomputes the stats from scratch, as they were before stats were updated incrementally, and
+   * compares them against those of {@link #itemData}.
+   */
+  private void assertMatchesFullRecompute() {
+    Attributes expected = new Attributes();
+    base(expected.base());
+    expected.reset();
+    int[] cache = itemData.equipped.values();
+    for (int j : cache) {
+      if (j == ItemData.INVALID_ITEM) continue;
+      Item item = itemData.getItem(j);
+      if (!itemData.isActive(item)) continue;
+      item.update(expected, charStats, itemData.equippedSets);
+      expected.add(item.props.remaining());
+      Stat stat = item.props.get(Stat.armorclass);
+      if (stat != null) expected.aggregate().addCopy(stat);
+    }
+
+    IntArray inventory = itemData.getStore(StoreLoc.INVENTORY);
+    for (int i = 0; i < inventory.size; i++) {
+      Item item = itemData.getItem(inventory.get(i));
+      if (!item.type.is(Type.CHAR)) continue;
+      item.update(expected, charStats, itemData.equippedSets);
+      expected.add(item.props.remaining());
+    }
+
+    expected.update(expected, charStats);
+    assertEquals(expected.aggregate(), stats.aggregate(), true);
+    assertEquals(expected.remaining(), stats.remaining(), false);
+  }
+
+  private static void assertEquals(PropertyList expected, PropertyList actual, boolean modified) {
+    Assert.assertEquals(expected.size(), actual.size());
+    for (Stat stat : expected) {
+      String message = "stat " + stat.id + " param " + stat.param;
+      Stat other = actual.get(stat.hashCode());
+      Assert.assertNotNull(message, other);
+      Assert.assertEquals(message, stat.value1(), other.value1());
+      Assert.assertEquals(message, stat.value2(), other.value2());
+      Assert.assertEquals(message, stat.value3(), other.value3());
+      if (modified) Assert.assertEquals(message, stat.isModified(), other.isModified());
+    }
+  }
+
+  @Test
+  public void incremental_matches_full_recompute() {
+    int[] set = ringAndAmulet();
+
+    Item ring = item("rin", Quality.MAGIC, 0, new int[] { Stat.strength, 5, Stat.vitality, 4, Stat.fireresist, 10 }, null);
+    equip(BodyLoc.RRIN, ring);
+
+    Item charm = item("cm1", Quality.MAGIC, 0, new int[] { Stat.maxhp, 20, Stat.dexterity, 3 }, null);
+    int i = itemData.add(charm);
+    itemData.store(StoreLoc.INVENTORY, i, 0, 0);
+    assertMatchesFullRecompute();
+
+    Item setRing = item("rin", Quality.SET, set[0], new int[] { Stat.energy, 6 }, new int[] { Stat.strength, 7, Stat.fireresist, 5 });
+    Item setAmulet = item("amu", Quality.SET, set[1], new int[] { Stat.dexterity, 8 }, new int[] { Stat.vitality, 2, Stat.fireresist, 15 });
+    equip(BodyLoc.LRIN, setRing);
+    equip(BodyLoc.NECK, setAmulet);
+    Assert.assertEquals(2, itemData.equippedSets.get(Riiablo.files.Sets.index(((SetItems.Entry) setRing.qualityData).set), 0));
+
+    itemData.unequip(BodyLoc.LRIN);
+    assertMatchesFullRecompute();
+
+    Item alternate = item("rin", Quality.MAGIC, 0, new int[] { Stat.strength, 9, Stat.fireresist, 20 }, null);
+    equip(BodyLoc.RARM2, alternate);
+    itemData.setAlternate(D2S.SECONDARY);
+    assertMatchesFullRecompute();
+
+    itemData.pickup(itemData.indexOf(charm));
+    assertMatchesFullRecompute();
+
+    itemData.setAlternate(D2S.PRIMARY);
+    itemData.unequip(BodyLoc.RRIN);
+    itemData.unequip(BodyLoc.NECK);
+    assertMatchesFullRecompute();
+    assertEquals(stats.base(), stats.aggregate(), true);
+    Assert.assertEquals(0, stats.remaining().size());
+  }
+}
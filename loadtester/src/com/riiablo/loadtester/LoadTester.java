@@ -0,0 +1,259 @@
+package com.riiablo.loadtester;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import com.riiablo.Riiablo;
+import com.riiablo.server.d2gs.D2GS;
+import com.riiablo.util.Histogram;
+
+/**
+ * Connects simulated clients to a game server and reports the load they generate and the latency
+ * they observe. The server is either a {@link StubServer stand-in} which requires no game files,
+ * a D2GS hosted in-process using the MPQs in {@code -home}, or an external server at {@code -host}.
+ * <p>
+ * Each second the tester logs the connected clients, the bytes sent and received per client per
+ * second, ping round-trip times and, when using the stand-in, its tick durations. An in-process
+ * or external D2GS reports its own tick durations to its log.
+ *
+ * <pre>
+ * LoadTester [-clients n] [-duration s] [-sync hz] [-items hz] [-home dir | -host host] [-port p] [-d2s file]
+ * </pre>
+ */
+public class LoadTester extends ApplicationAdapter {
+  private static final String TAG = "LoadTester";
+
+  static final int PORT = 6114;
+  static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+  static final long CONNECT_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+  static final class Config {
+    int clients = Riiablo.MAX_PLAYERS;
+    long duration = TimeUnit.SECONDS.toNanos(60);
+    long syncInterval = TimeUnit.SECONDS.toNanos(1) / 25;
+    long pingInterval = TimeUnit.SECONDS.toNanos(1);
+    long itemInterval = TimeUnit.SECONDS.toNanos(2);
+    String host = "localhost";
+    int port = PORT;
+    FileHandle home;
+    byte[] d2s;
+    boolean stub = true;
+  }
+
+  public static void main(String[] args) {
+    Options options = new Options()
+        .addOption("clients", true, "number of simulated clients, at most " + Riiablo.MAX_PLAYERS)
+        .addOption("duration", true, "seconds to run for")
+        .addOption("sync", true, "entity syncs sent per second by each client")
+        .addOption("items", true, "item moves sent per second by each client, 0 to disable")
+        .addOption("home", true, "directory containing D2 MPQ files, hosts D2GS in-process")
+        .addOption("host", true, "address of an external server to connect to")
+        .addOption("port", true, "port of the server")
+        .addOption("d2s", true, "character file sent by each client, otherwise each client creates a new character");
+
+    Config config = new Config();
+    try {
+      CommandLineParser parser = new DefaultParser();
+      CommandLine cmd = parser.parse(options, args);
+      if (cmd.hasOption("clients")) config.clients = Integer.parseInt(cmd.getOptionValue("clients"));
+      if (cmd.hasOption("duration")) config.duration = TimeUnit.SECONDS.toNanos(Long.parseLong(cmd.getOptionValue("duration")));
+      if (cmd.hasOption("sync")) config.syncInterval = interval(cmd.getOptionValue("sync"));
+      if (cmd.hasOption("items")) config.itemInterval = interval(cmd.getOptionValue("items"));
+      if (cmd.hasOption("port")) config.port = Integer.parseInt(cmd.getOptionValue("port"));
+      if (cmd.hasOption("home")) {
+        config.home = new FileHandle(cmd.getOptionValue("home"));
+        config.stub = false;
+      }
+      if (cmd.hasOption("host")) {
+        config.host = cmd.getOptionValue("host");
+        config.stub = false;
+      }
+      if (cmd.hasOption("d2s")) config.d2s = new FileHandle(cmd.getOptionValue("d2s")).readBytes();
+      if (config.clients <= 0 || config.clients > Riiablo.MAX_PLAYERS) {
+        throw new ParseException("clients must be within [1," + Riiablo.MAX_PLAYERS + "]");
+      }
+    } catch (ParseException | NumberFormatException | GdxRuntimeException t) {
+      System.err.println(t.getMessage());
+      new HelpFormatter().printHelp(TAG, options);
+      return;
+    }
+
+    if (config.home != null) {
+      D2GS.main(new String[] { "-home", config.home.path() });
+    }
+
+    HeadlessApplicationConfiguration appConfig = new HeadlessApplicationConfiguration();
+    appConfig.renderInterval = 1 / 100f;
+    new HeadlessApplication(new LoadTester(config), appConfig);
+  }
+
+  /** converts a rate per second into the interval between events, in nanoseconds */
+  static long interval(String rate) {
+    final float hz = Float.parseFloat(rate);
+    return hz <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / hz);
+  }
+
+  final Config config;
+  final Array<SimulatedClient> clients = new Array<>();
+  StubServer stub;
+
+  final Histogram rtt = new Histogram(TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1));
+  final Histogram tickTimes = new Histogram(TimeUnit.MICROSECONDS.toNanos(100), 4 * StubServer.TICK_NANOS);
+  final Histogram totalRtt = new Histogram(TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1));
+  final Histogram totalTickTimes = new Histogram(TimeUnit.MICROSECONDS.toNanos(100), 4 * StubServer.TICK_NANOS);
+  long totalSent, totalReceived;
+
+  long start;
+  long lastReport;
+  boolean finished;
+
+  LoadTester(Config config) {
+    this.config = config;
+  }
+
+  @Override
+  public void create() {
+    Gdx.app.setLogLevel(Application.LOG_INFO);
+    if (config.stub) {
+      Gdx.app.log(TAG, "Starting stand-in server on port " + config.port);
+      stub = new StubServer(config.port);
+      stub.start();
+    }
+
+    Gdx.app.log(TAG, "Connecting " + config.clients + " clients to " + config.host + ":" + config.port);
+    for (int i = 0; i < config.clients; i++) {
+      SimulatedClient client = new SimulatedClient(i, config.d2s, config);
+      connect(client);
+      clients.add(client);
+    }
+
+    start = lastReport = System.nanoTime();
+  }
+
+  /**
+   * Connects the client, retrying while the server is still starting.
+   */
+  void connect(SimulatedClient client) {
+    final long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT;
+    while (true) {
+      try {
+        client.connect(config.host, config.port);
+        return;
+      } catch (IOException e) {
+        if (System.currentTimeMillis() >= deadline) {
+          throw new GdxRuntimeException("Cannot connect to " + config.host + ":" + config.port, e);
+        }
+
+        try {
+          Thread.sleep(500);
+        } catch (InterruptedException ignored) {
+          Thread.currentThread().interrupt();
+          throw new GdxRuntimeException("Interrupted connecting to " + config.host + ":" + config.port, e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void render() {
+    if (finished) return;
+    final long now = System.nanoTime();
+    for (SimulatedClient client : clients) {
+      if (client.closed) continue;
+      try {
+        client.update(now);
+      } catch (IOException e) {
+        Gdx.app.error(client.TAG, e.getMessage(), e);
+        client.close();
+      }
+    }
+
+    if (now - lastReport >= REPORT_INTERVAL) {
+      report(now - lastReport);
+      lastReport = now;
+    }
+
+    if (now - start >= config.duration) {
+      finished = true;
+      summarize(now - start);
+      Gdx.app.exit();
+    }
+  }
+
+  void report(long elapsed) {
+    int connected = 0;
+    long sent = 0, received = 0;
+    rtt.clear();
+    for (SimulatedClient client : clients) {
+      if (client.isConnected()) connected++;
+      synchronized (client) {
+        sent += client.bytesSent;
+        received += client.bytesReceived;
+        rtt.add(client.rtt);
+        client.bytesSent = client.bytesReceived = 0;
+        client.rtt.clear();
+      }
+    }
+
+    totalSent += sent;
+    totalReceived += received;
+    totalRtt.add(rtt);
+
+    final float seconds = elapsed / (float) TimeUnit.SECONDS.toNanos(1);
+    final int n = Math.max(connected, 1);
+    StringBuilder message = new StringBuilder(128);
+    message.append(String.format("clients=%d out=%.1fKB/s/client in=%.1fKB/s/client rtt p50=%s p99=%s max=%s",
+        connected, sent / 1024f / seconds / n, received / 1024f / seconds / n,
+        millis(rtt.percentile(0.50f)), millis(rtt.percentile(0.99f)), millis(rtt.max())));
+    if (stub != null) {
+      stub.drainTickTimes(tickTimes);
+      totalTickTimes.add(tickTimes);
+      message.append(String.format(" tick p50=%s p99=%s max=%s",
+          millis(tickTimes.percentile(0.50f)), millis(tickTimes.percentile(0.99f)), millis(tickTimes.max())));
+    }
+
+    Gdx.app.log(TAG, message.toString());
+  }
+
+  void summarize(long elapsed) {
+    final float seconds = elapsed / (float) TimeUnit.SECONDS.toNanos(1);
+    final int n = clients.size;
+    Gdx.app.log(TAG, String.format("%d clients for %.0fs: out=%.1fKB/s/client in=%.1fKB/s/client",
+        n, seconds, totalSent / 1024f / seconds / n, totalReceived / 1024f / seconds / n));
+    Gdx.app.log(TAG, String.format("  rtt  pings=%d p50=%s p99=%s max=%s",
+        totalRtt.count(), millis(totalRtt.percentile(0.50f)), millis(totalRtt.percentile(0.99f)), millis(totalRtt.max())));
+    if (stub != null) {
+      Gdx.app.log(TAG, String.format("  tick ticks=%d p50=%s p99=%s max=%s",
+          totalTickTimes.count(), millis(totalTickTimes.percentile(0.50f)), millis(totalTickTimes.percentile(0.99f)), millis(totalTickTimes.max())));
+    }
+  }
+
+  static String millis(long nanos) {
+    return String.format("%.2fms", nanos / 1e6);
+  }
+
+  @Override
+  public void dispose() {
+    for (SimulatedClient client : clients) client.close();
+    if (stub != null) stub.dispose();
+    if (config.home != null) {
+      // the in-process D2GS runs its own application loop which would keep the JVM alive
+      System.exit(0);
+    }
+  }
+}
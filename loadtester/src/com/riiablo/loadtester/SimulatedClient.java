@@ -0,0 +1,331 @@
+package com.riiablo.loadtester;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+import com.riiablo.Riiablo;
+import com.riiablo.engine.Engine;
+import com.riiablo.net.nio.FrameDecoder;
+import com.riiablo.net.nio.SizePrefixedFramer;
+import com.riiablo.net.packet.d2gs.AngleP;
+import com.riiablo.net.packet.d2gs.CofAlphasP;
+import com.riiablo.net.packet.d2gs.CofComponentsP;
+import com.riiablo.net.packet.d2gs.CofTransformsP;
+import com.riiablo.net.packet.d2gs.ComponentP;
+import com.riiablo.net.packet.d2gs.Connection;
+import com.riiablo.net.packet.d2gs.CursorToGround;
+import com.riiablo.net.packet.d2gs.D2GS;
+import com.riiablo.net.packet.d2gs.D2GSData;
+import com.riiablo.net.packet.d2gs.EntityFlags;
+import com.riiablo.net.packet.d2gs.EntitySync;
+import com.riiablo.net.packet.d2gs.GroundToCursor;
+import com.riiablo.net.packet.d2gs.Ping;
+import com.riiablo.net.packet.d2gs.PositionP;
+import com.riiablo.net.packet.d2gs.SyncAck;
+import com.riiablo.net.packet.d2gs.VelocityP;
+import com.riiablo.save.CharData;
+import com.riiablo.save.D2S;
+import com.riiablo.util.Histogram;
+
+/**
+ * Synthetic player speaking the D2GS protocol over a blocking socket. Requests are sent by the
+ * driving thread through {@link #update(long)} while a reader thread of its own consumes the
+ * server's packets, acknowledging syncs the way the game client does and timing pings.
+ */
+class SimulatedClient implements Runnable {
+  static final int READ_BUFFER_SIZE = 1 << 16;
+  static final int NUM_COMPONENTS = 16;
+  static final float RADIUS = 4;
+
+  final String TAG;
+  final int index;
+  final String name;
+  final byte charClass;
+  final byte[] d2s;
+  final LoadTester.Config config;
+
+  SocketChannel channel;
+  Thread reader;
+
+  /** written by the driving thread */
+  final FlatBufferBuilder builder = new FlatBufferBuilder(1024);
+  /** written by the reader thread */
+  final FlatBufferBuilder ackBuilder = new FlatBufferBuilder(64);
+  final FrameDecoder decoder = new FrameDecoder(SizePrefixedFramer.INSTANCE, ByteBuffer.allocate(READ_BUFFER_SIZE));
+  final D2GS packet = new D2GS();
+  final EntitySync sync = new EntitySync();
+  final Ping ping = new Ping();
+  final PositionP position = new PositionP();
+
+  volatile int entityId = Engine.INVALID_ENTITY;
+  volatile boolean hasOrigin;
+  volatile float originX, originY;
+  volatile boolean closed;
+
+  /** ground items this client may pick up, guarded by itself */
+  final IntArray items = new IntArray();
+  boolean holding;
+
+  long nextSync, nextPing, nextItem;
+  float angle;
+
+  /** counters and timings of the current report interval, guarded by this client */
+  long bytesSent, bytesReceived;
+  final Histogram rtt = new Histogram(TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1));
+
+  SimulatedClient(int index, byte[] d2s, LoadTester.Config config) {
+    this.TAG = "Client{" + index + "}";
+    this.index = index;
+    this.name = "load" + index;
+    this.charClass = (byte) (index % 7);
+    this.d2s = d2s != null ? d2s : D2S.serialize(CharData.obtain(Riiablo.NORMAL, false, name, charClass));
+    this.config = config;
+  }
+
+  void connect(String host, int port) throws IOException {
+    channel = SocketChannel.open(new InetSocketAddress(host, port));
+    channel.socket().setTcpNoDelay(true);
+    reader = new Thread(this, TAG);
+    reader.setDaemon(true);
+    reader.start();
+
+    byte[] cof = new byte[NUM_COMPONENTS];
+    FlatBufferBuilder builder = this.builder;
+    builder.clear();
+    int charNameOffset = builder.createString(name);
+    int componentsOffset = Connection.createCofComponentsVector(builder, cof);
+    int alphasOffset = Connection.createCofAlphasVector(builder, cof);
+    int transformsOffset = Connection.createCofTransformsVector(builder, cof);
+    int d2sOffset = Connection.createD2sVector(builder, d2s);
+    Connection.startConnection(builder);
+    Connection.addCharClass(builder, charClass);
+    Connection.addCharName(builder, charNameOffset);
+    Connection.addCofComponents(builder, componentsOffset);
+    Connection.addCofAlphas(builder, alphasOffset);
+    Connection.addCofTransforms(builder, transformsOffset);
+    Connection.addD2s(builder, d2sOffset);
+    int connectionOffset = Connection.endConnection(builder);
+    int root = D2GS.createD2GS(builder, D2GSData.Connection, connectionOffset);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    write(builder.dataBuffer());
+  }
+
+  /**
+   * Sends whichever requests have come due.
+   */
+  void update(long now) throws IOException {
+    if (entityId == Engine.INVALID_ENTITY || !hasOrigin) return;
+    if (config.syncInterval > 0 && now >= nextSync) {
+      nextSync = now + config.syncInterval;
+      sendSync(now);
+    }
+
+    if (now >= nextPing) {
+      nextPing = now + config.pingInterval;
+      sendPing(now);
+    }
+
+    if (config.itemInterval > 0 && now >= nextItem) {
+      nextItem = now + config.itemInterval;
+      sendItem();
+    }
+  }
+
+  void sendSync(long now) throws IOException {
+    final float dt = config.syncInterval / (float) TimeUnit.SECONDS.toNanos(1);
+    angle += dt;
+    final float x = originX + RADIUS * MathUtils.cos(angle);
+    final float y = originY + RADIUS * MathUtils.sin(angle);
+    final float vx = -RADIUS * MathUtils.sin(angle);
+    final float vy = RADIUS * MathUtils.cos(angle);
+
+    FlatBufferBuilder builder = this.builder;
+    builder.clear();
+    byte[] cof = new byte[NUM_COMPONENTS];
+    int cofComponents = CofComponentsP.createComponentVector(builder, cof);
+    int cofTransforms = CofTransformsP.createTransformVector(builder, cof);
+    int cofAlphas = CofAlphasP.createAlphaVector(builder, cof);
+
+    byte[] dataTypes = {
+        ComponentP.CofComponentsP, ComponentP.CofTransformsP, ComponentP.CofAlphasP,
+        ComponentP.PositionP, ComponentP.VelocityP, ComponentP.AngleP,
+    };
+    int dataTypesOffset = EntitySync.createComponentTypeVector(builder, dataTypes);
+
+    int[] data = new int[6];
+    data[0] = CofComponentsP.createCofComponentsP(builder, cofComponents);
+    data[1] = CofTransformsP.createCofTransformsP(builder, cofTransforms);
+    data[2] = CofAlphasP.createCofAlphasP(builder, cofAlphas);
+    data[3] = PositionP.createPositionP(builder, x, y);
+    data[4] = VelocityP.createVelocityP(builder, vx, vy);
+    data[5] = AngleP.createAngleP(builder, vx, vy);
+    int dataOffset = EntitySync.createComponentVector(builder, data);
+
+    EntitySync.startEntitySync(builder);
+    EntitySync.addEntityId(builder, entityId);
+    EntitySync.addComponentType(builder, dataTypesOffset);
+    EntitySync.addComponent(builder, dataOffset);
+    int syncOffset = EntitySync.endEntitySync(builder);
+    int root = D2GS.createD2GS(builder, D2GSData.EntitySync, syncOffset);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    write(builder.dataBuffer());
+  }
+
+  void sendPing(long now) throws IOException {
+    FlatBufferBuilder builder = this.builder;
+    builder.clear();
+    int dataOffset = Ping.createPing(builder, 0, now, 0);
+    int root = D2GS.createD2GS(builder, D2GSData.Ping, dataOffset);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    write(builder.dataBuffer());
+  }
+
+  /**
+   * Alternates between picking up a ground item this client has been told about and dropping it.
+   */
+  void sendItem() throws IOException {
+    FlatBufferBuilder builder = this.builder;
+    builder.clear();
+    final int root;
+    if (holding) {
+      CursorToGround.startCursorToGround(builder);
+      int dataOffset = CursorToGround.endCursorToGround(builder);
+      root = D2GS.createD2GS(builder, D2GSData.CursorToGround, dataOffset);
+      holding = false;
+    } else {
+      final int itemId;
+      synchronized (items) {
+        if (items.size == 0) return;
+        itemId = items.removeIndex(MathUtils.random(items.size - 1));
+      }
+
+      int dataOffset = GroundToCursor.createGroundToCursor(builder, itemId);
+      root = D2GS.createD2GS(builder, D2GSData.GroundToCursor, dataOffset);
+      holding = true;
+    }
+
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    write(builder.dataBuffer());
+  }
+
+  void write(ByteBuffer buffer) throws IOException {
+    final int length = buffer.remaining();
+    synchronized (channel) {
+      while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    synchronized (this) {
+      bytesSent += length;
+    }
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (!closed) {
+        final int read = decoder.read(channel);
+        if (read == -1) break;
+        synchronized (this) {
+          bytesReceived += read;
+        }
+
+        for (ByteBuffer frame; (frame = decoder.next()) != null;) {
+          final int position = frame.position();
+          frame.position(position + SizePrefixedFramer.PREFIX_SIZE);
+          D2GS.getRootAsD2GS(frame, packet);
+          frame.position(position);
+          received(packet);
+        }
+      }
+    } catch (Throwable t) {
+      if (!closed) Gdx.app.error(TAG, t.getMessage(), t);
+    } finally {
+      if (!closed) Gdx.app.log(TAG, "disconnected");
+      closed = true;
+    }
+  }
+
+  void received(D2GS packet) throws IOException {
+    switch (packet.dataType()) {
+      case D2GSData.Connection: {
+        Connection connection = (Connection) packet.data(new Connection());
+        if (connection.charName() == null) entityId = connection.entityId();
+        break;
+      }
+      case D2GSData.Ping: {
+        Ping ping = (Ping) packet.data(this.ping);
+        final long elapsed = System.nanoTime() - ping.sendTime();
+        synchronized (this) {
+          rtt.record(elapsed);
+        }
+        break;
+      }
+      case D2GSData.EntitySync: {
+        EntitySync sync = (EntitySync) packet.data(this.sync);
+        synced(sync);
+        ackBuilder.clear();
+        int dataOffset = SyncAck.createSyncAck(ackBuilder, sync.snapshot());
+        int root = D2GS.createD2GS(ackBuilder, D2GSData.SyncAck, dataOffset);
+        D2GS.finishSizePrefixedD2GSBuffer(ackBuilder, root);
+        write(ackBuilder.dataBuffer());
+        break;
+      }
+      default:
+    }
+  }
+
+  /**
+   * Tracks this client's own position, which it moves around, and the ground items it may pick up.
+   * Items are partitioned between clients so that no two clients request the same item.
+   */
+  void synced(EntitySync sync) {
+    final int entityId = sync.entityId();
+    if ((sync.flags() & (EntityFlags.deleted | EntityFlags.despawned)) != 0) {
+      synchronized (items) {
+        items.removeValue(entityId);
+      }
+
+      return;
+    }
+
+    for (int i = 0, s = sync.componentTypeLength(); i < s; i++) {
+      switch (sync.componentType(i)) {
+        case ComponentP.PositionP:
+          if (entityId == this.entityId && !hasOrigin) {
+            PositionP position = (PositionP) sync.component(this.position, i);
+            originX = position.x();
+            originY = position.y();
+            hasOrigin = true;
+          }
+          break;
+        case ComponentP.ItemP:
+          if (entityId % config.clients == index) {
+            synchronized (items) {
+              if (!items.contains(entityId)) items.add(entityId);
+            }
+          }
+          break;
+        default:
+      }
+    }
+  }
+
+  boolean isConnected() {
+    return !closed && entityId != Engine.INVALID_ENTITY;
+  }
+
+  void close() {
+    closed = true;
+    try {
+      if (channel != null) channel.close();
+    } catch (IOException ignored) {}
+  }
+}
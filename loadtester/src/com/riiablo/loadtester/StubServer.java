@@ -0,0 +1,213 @@
+package com.riiablo.loadtester;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+import com.riiablo.Riiablo;
+import com.riiablo.codec.Animation;
+import com.riiablo.net.nio.NioServer;
+import com.riiablo.net.nio.SizePrefixedFramer;
+import com.riiablo.net.packet.d2gs.ComponentP;
+import com.riiablo.net.packet.d2gs.Connection;
+import com.riiablo.net.packet.d2gs.D2GS;
+import com.riiablo.net.packet.d2gs.D2GSData;
+import com.riiablo.net.packet.d2gs.EntitySync;
+import com.riiablo.net.packet.d2gs.GroundToCursor;
+import com.riiablo.net.packet.d2gs.ItemP;
+import com.riiablo.net.packet.d2gs.PositionP;
+import com.riiablo.net.packet.d2gs.VelocityP;
+import com.riiablo.server.d2gs.Game;
+import com.riiablo.server.d2gs.Packet;
+import com.riiablo.util.Histogram;
+
+/**
+ * Stand-in for D2GS which requires no game files. The stub is a {@link Game} without a world, so
+ * packets are received, queued, processed and dispatched to clients exactly as the game does it:
+ * size-prefixed framing on the shared NIO reactor, per-client inbound rings drained by a
+ * fixed-rate tick, and outbound packets flushed with one gathering write per client under the
+ * game's overflow policy. Instead of stepping a world, each tick syncs every player entity and a
+ * handful of ground items to every client. Connections, pings and item moves are answered as the
+ * game answers them, but nothing is simulated, so the tick timings only reflect the cost of
+ * networking.
+ */
+class StubServer extends Game {
+  private static final String TAG = "StubServer";
+
+  static final int MAX_CLIENTS = Riiablo.MAX_PLAYERS;
+  static final int NUM_ITEMS = 32;
+  static final long TICK_NANOS = (long) (Animation.FRAME_DURATION * TimeUnit.SECONDS.toNanos(1));
+  static final byte[] ITEM_DATA = new byte[16];
+
+  final Vector2[] positions = new Vector2[MAX_CLIENTS];
+  final IntArray ground = new IntArray();
+
+  /** tick timings of the current report interval, guarded by itself */
+  final Histogram tickDurations = new Histogram(TimeUnit.MICROSECONDS.toNanos(100), 4 * TICK_NANOS);
+
+  NioServer server;
+  ScheduledExecutorService scheduler;
+  int snapshot;
+
+  StubServer(int port) {
+    super(port, 0, Riiablo.NORMAL, null);
+    ignoredPackets.set(D2GSData.Ping);
+    ignoredPackets.set(D2GSData.GroundToCursor);
+    ignoredPackets.set(D2GSData.CursorToGround);
+    for (int i = 0; i < MAX_CLIENTS; i++) positions[i] = new Vector2();
+    for (int i = 0; i < NUM_ITEMS; i++) ground.add(itemEntityId(i));
+  }
+
+  /** players are entities 0 through {@link #MAX_CLIENTS}, items follow */
+  static int itemEntityId(int index) {
+    return MAX_CLIENTS + index;
+  }
+
+  void start() {
+    create();
+    server = new NioServer(TAG, port, SizePrefixedFramer.INSTANCE, this, 1);
+    server.start();
+
+    scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, TAG);
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    scheduler.scheduleAtFixedRate(this, 0, TICK_NANOS, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  protected void createWorld() {}
+
+  @Override
+  protected void disposeWorld() {}
+
+  @Override
+  protected void tick() {
+    final long start = System.nanoTime();
+    super.tick();
+    final long elapsed = System.nanoTime() - start;
+    synchronized (tickDurations) {
+      tickDurations.record(elapsed);
+    }
+  }
+
+  @Override
+  protected void step() {
+    snapshot++;
+    for (int i = 0, flag = 1; i < MAX_CLIENTS; i++, flag <<= 1) {
+      if ((connected & flag) == flag) outPackets.add(sync(i, ComponentP.PositionP, positions[i]));
+    }
+
+    for (int i = 0; i < ground.size; i++) {
+      outPackets.add(sync(ground.get(i), ComponentP.ItemP, null));
+    }
+  }
+
+  @Override
+  protected void process(Packet packet) {
+    switch (packet.data.dataType()) {
+      case D2GSData.Connection: {
+        positions[packet.id].set(100 + 8 * packet.id, 100);
+        Packet response = Packet.obtain();
+        FlatBufferBuilder builder = response.builder();
+        Connection.startConnection(builder);
+        Connection.addEntityId(builder, packet.id);
+        int connectionOffset = Connection.endConnection(builder);
+        int root = D2GS.createD2GS(builder, D2GSData.Connection, connectionOffset);
+        D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+        outPackets.add(response.finish(1 << packet.id));
+        break;
+      }
+      case D2GSData.EntitySync: {
+        EntitySync sync = (EntitySync) packet.data.data(new EntitySync());
+        for (int i = 0, s = sync.componentTypeLength(); i < s; i++) {
+          if (sync.componentType(i) == ComponentP.PositionP) {
+            PositionP position = (PositionP) sync.component(new PositionP(), i);
+            positions[packet.id].set(position.x(), position.y());
+          }
+        }
+        break;
+      }
+      case D2GSData.Ping:
+        super.process(packet);
+        break;
+      case D2GSData.GroundToCursor: {
+        GroundToCursor groundToCursor = (GroundToCursor) packet.data.data(new GroundToCursor());
+        ground.removeValue(groundToCursor.itemId());
+        packet.id = 1 << packet.id;
+        outPackets.add(packet.retain());
+        break;
+      }
+      case D2GSData.CursorToGround: {
+        for (int i = 0; i < NUM_ITEMS; i++) {
+          if (!ground.contains(itemEntityId(i))) {
+            ground.add(itemEntityId(i));
+            break;
+          }
+        }
+
+        packet.id = 1 << packet.id;
+        outPackets.add(packet.retain());
+        break;
+      }
+      default:
+        // syncs are always sent in full, so acks are not needed
+    }
+  }
+
+  @Override
+  protected void Disconnect(int id) {
+    release(id);
+  }
+
+  @Override
+  protected void dropped(int id) {
+    // every sync is sent again next tick
+  }
+
+  Packet sync(int entityId, byte componentType, Vector2 position) {
+    Packet packet = Packet.obtain();
+    FlatBufferBuilder builder = packet.builder();
+    final int component;
+    if (componentType == ComponentP.ItemP) {
+      component = ItemP.createItemP(builder, ItemP.createDataVector(builder, ITEM_DATA));
+    } else {
+      component = PositionP.createPositionP(builder, position.x, position.y);
+    }
+
+    final int velocity = VelocityP.createVelocityP(builder, 0, 0);
+    int types = EntitySync.createComponentTypeVector(builder, new byte[] { componentType, ComponentP.VelocityP });
+    int components = EntitySync.createComponentVector(builder, new int[] { component, velocity });
+    int sync = EntitySync.createEntitySync(builder, entityId, 0, 0, types, components, snapshot, snapshot - 1);
+    int root = D2GS.createD2GS(builder, D2GSData.EntitySync, sync);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    return packet.finish(0xFFFFFFFF);
+  }
+
+  /**
+   * Copies the tick timings recorded since the last call into {@code dst}.
+   */
+  void drainTickTimes(Histogram dst) {
+    synchronized (tickDurations) {
+      dst.clear();
+      dst.add(tickDurations);
+      tickDurations.clear();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (scheduler != null) scheduler.shutdownNow();
+    if (server != null) server.dispose();
+    super.dispose();
+  }
+}
@@ -3,36 +3,28 @@ package com.riiablo.server.bncs;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Net;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.net.ServerSocket;
-import com.badlogic.gdx.net.Socket;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.BufferUtils;
+import com.riiablo.net.nio.ConnectionHandler;
+import com.riiablo.net.nio.Endpoint;
+import com.riiablo.net.nio.LineFramer;
+import com.riiablo.net.nio.NioServer;
 
-import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.text.DateFormat;
 import java.util.Calendar;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Main extends ApplicationAdapter {
   private static final String TAG = "D2CS";
 
   private static final int PORT = 6113;
   private static final int MAX_CLIENTS = 32;
+  private static final int NUM_THREADS = 2;
 
-  ServerSocket server;
-  ByteBuffer buffer;
-  Thread main;
-  AtomicBoolean kill;
-  ThreadGroup clientThreads;
+  NioServer server;
   final Array<Client> clients = new Array<>(MAX_CLIENTS);
   final Array<Packet> packets = new Array<>(32);
   final Array<Packet> cache = new Array<>(32);
@@ -58,67 +50,49 @@ public class Main extends ApplicationAdapter {
       Gdx.app.error(TAG, e.getMessage(), e);
     }
 
-    clientThreads = new ThreadGroup("D2CSClients");
-
     Gdx.app.log(TAG, "Starting server...");
-    server = Gdx.net.newServerSocket(Net.Protocol.TCP, PORT, null);
-    buffer = BufferUtils.newByteBuffer(4096);
-    kill = new AtomicBoolean(false);
-    main = new Thread(new Runnable() {
+    server = new NioServer(TAG, PORT, LineFramer.INSTANCE, new ConnectionHandler() {
       @Override
-      public void run() {
-        while (!kill.get()) {
-          Gdx.app.log(TAG, "waiting...");
-          Socket socket = server.accept(null);
-          Gdx.app.log(TAG, "connection from " + socket.getRemoteAddress());
-          synchronized (clients) {
-            if (clients.size >= MAX_CLIENTS) {
-              try {
-                ConnectionDenied(socket, "Server is Full");
-              } catch (Throwable ignored) {
-              } finally {
-                socket.dispose();
-              }
-            } else {
-              try {
-                ConnectionAccepted(socket);
-                int id = clients.size;
-                Client client = new Client(id, socket);
-                clients.add(client);
-                client.start();
-              } catch (Throwable ignored) {
-                socket.dispose();
-              }
-            }
+      public void connected(Endpoint endpoint) {
+        Gdx.app.log(TAG, "connection from " + endpoint.getRemoteAddress());
+        synchronized (clients) {
+          if (clients.size >= MAX_CLIENTS) {
+            ConnectionDenied(endpoint, "Server is Full");
+            endpoint.close();
+          } else {
+            ConnectionAccepted(endpoint);
+            int id = clients.size;
+            Client client = new Client(id, endpoint);
+            endpoint.attachment = client;
+            clients.add(client);
           }
         }
+      }
 
-        Gdx.app.log(TAG, "killing child threads...");
-        synchronized (clients) {
-          for (Client client : clients) {
-            if (client != null) {
-              client.kill.set(true);
-            }
-          }
+      @Override
+      public void received(Endpoint endpoint, ByteBuffer frame) {
+        Client client = (Client) endpoint.attachment;
+        if (client == null) return;
+        byte[] data = new byte[frame.remaining()];
+        frame.get(data);
+        process(client.id, data);
+      }
 
-          clients.clear();
+      @Override
+      public void disconnected(Endpoint endpoint) {
+        Gdx.app.log(TAG, "closing connection to " + endpoint.getRemoteAddress());
+        synchronized (clients) {
+          clients.removeValue((Client) endpoint.attachment, true);
         }
-
-        Gdx.app.log(TAG, "killing thread...");
       }
-    });
-    main.setName("D2CS");
-    main.start();
+    }, NUM_THREADS);
+    server.start();
   }
 
   @Override
   public void dispose() {
     Gdx.app.log(TAG, "Shutting down...");
-    kill.set(true);
     server.dispose();
-    try {
-      main.join();
-    } catch (Throwable ignored) {}
   }
 
   @Override
@@ -137,11 +111,9 @@ public class Main extends ApplicationAdapter {
   private void process(Packet packet) {
     synchronized (clients) {
       for (Client client : clients) {
-        try {
-          client.socket.getOutputStream().write(packet.data);
-        } catch (Throwable t) {
-          Gdx.app.error(TAG, t.getMessage(), t);
-          client.kill.set(true);
+        if (!client.endpoint.send(packet.buffer)) {
+          Gdx.app.error(TAG, "send buffer of " + client.endpoint.getRemoteAddress() + " is full");
+          client.endpoint.close();
         }
       }
     }
@@ -158,7 +130,7 @@ public class Main extends ApplicationAdapter {
 //    }
   }
 
-  private boolean ConnectionDenied(Socket socket, String reason) throws IOException {
+  private boolean ConnectionDenied(Endpoint endpoint, String reason) {
 //    FlatBufferBuilder builder = new FlatBufferBuilder();
 //    int reasonOffset = builder.createString(reason);
 //    int connectionDeniedId = ConnectionClosed.createConnectionClosed(builder, reasonOffset);
@@ -172,7 +144,7 @@ public class Main extends ApplicationAdapter {
     return true;
   }
 
-  private boolean ConnectionAccepted(Socket socket) throws IOException {
+  private boolean ConnectionAccepted(Endpoint endpoint) {
 //    Gdx.app.debug(TAG, "Connection accepted!");
 //    FlatBufferBuilder builder = new FlatBufferBuilder();
 //    ConnectionAccepted.startConnectionAccepted(builder);
@@ -193,64 +165,26 @@ public class Main extends ApplicationAdapter {
     }
   }
 
-  static String generateClientName() {
-    return String.format("Client-%08X", MathUtils.random(1, Integer.MAX_VALUE - 1));
-  }
+  private static class Client {
+    final int id;
+    final Endpoint endpoint;
 
-  private class Client extends Thread {
-    int id;
-    Socket socket;
-    AtomicBoolean kill = new AtomicBoolean(false);
-
-    Client(int id, Socket socket) {
-      super(clientThreads, generateClientName());
+    Client(int id, Endpoint endpoint) {
       this.id = id;
-      this.socket = socket;
-    }
-
-    @Override
-    public void run() {
-      while (!kill.get()) {
-        try {
-          buffer.clear();
-          buffer.mark();
-          ReadableByteChannel in = Channels.newChannel(socket.getInputStream());
-          if (in.read(buffer) == -1) {
-            kill.set(true);
-            break;
-          }
-          buffer.limit(buffer.position());
-          buffer.reset();
-
-          byte[] data = com.riiablo.util.BufferUtils.readRemaining(buffer);
-
-          /*
-          BNCS packet = BNCS.getRootAsBNCS(buffer);
-          Gdx.app.log(TAG, "packet type " + D2GSData.name(packet.dataType()));
-          */
-          process(id, data);
-        } catch (Throwable t) {
-          Gdx.app.log(TAG, t.getMessage(), t);
-          kill.set(true);
-        }
-      }
-
-      Gdx.app.log(TAG, "closing socket...");
-      if (socket != null) socket.dispose();
-      synchronized (clients) {
-        clients.removeValue(this, true);
-      }
+      this.endpoint = endpoint;
     }
   }
 
   private static class Packet {
     int id;
     byte[] data;
+    ByteBuffer buffer;
 
     static Packet of(int id, byte[] data) {
       Packet packet = new Packet();
       packet.id = id;
       packet.data = data;
+      packet.buffer = ByteBuffer.wrap(data);
       return packet;
     }
   }
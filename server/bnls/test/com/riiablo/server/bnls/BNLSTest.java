@@ -1,5 +1,6 @@
 package com.riiablo.server.bnls;
 
+import com.google.flatbuffers.ByteBufferUtil;
 import com.google.flatbuffers.FlatBufferBuilder;
 
 import com.badlogic.gdx.Gdx;
@@ -46,7 +47,7 @@ public class BNLSTest {
 
     int id = com.riiablo.net.packet.bnls.BNLS.createBNLS(builder, BNLSData.QueryRealms, realmId);
 
-    builder.finish(id);
+    com.riiablo.net.packet.bnls.BNLS.finishSizePrefixedBNLSBuffer(builder, id);
 
     Socket socket = null;
     try {
@@ -59,7 +60,7 @@ public class BNLSTest {
       in.read(buffer);
       buffer.rewind();
 
-      com.riiablo.net.packet.bnls.BNLS packet = com.riiablo.net.packet.bnls.BNLS.getRootAsBNLS(buffer);
+      com.riiablo.net.packet.bnls.BNLS packet = com.riiablo.net.packet.bnls.BNLS.getRootAsBNLS(ByteBufferUtil.removeSizePrefix(buffer));
       Gdx.app.log(TAG, "packet " + BNLSData.name(packet.dataType()));
 
       if (packet.dataType() == BNLSData.ConnectionClosed) {
@@ -0,0 +1,886 @@
+package com.riiablo.server.d2gs;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.ArrayUtils;
+
+import com.artemis.ComponentMapper;
+import com.artemis.World;
+import com.artemis.WorldConfiguration;
+import com.artemis.WorldConfigurationBuilder;
+import com.artemis.utils.BitVector;
+import net.mostlyoriginal.api.event.common.EventSystem;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import com.riiablo.Riiablo;
+import com.riiablo.codec.Animation;
+import com.riiablo.engine.Engine;
+import com.riiablo.engine.EntityFactory;
+import com.riiablo.engine.TimedInvocationStrategy;
+import com.riiablo.engine.server.AIStepper;
+import com.riiablo.engine.server.AnimDataResolver;
+import com.riiablo.engine.server.CofManager;
+import com.riiablo.engine.server.ItemInteractor;
+import com.riiablo.engine.server.ItemManager;
+import com.riiablo.engine.server.ObjectInitializer;
+import com.riiablo.engine.server.ObjectInteractor;
+import com.riiablo.engine.server.Pathfinder;
+import com.riiablo.engine.server.SerializationManager;
+import com.riiablo.engine.server.ServerEntityFactory;
+import com.riiablo.engine.server.ServerItemManager;
+import com.riiablo.engine.server.ServerNetworkIdManager;
+import com.riiablo.engine.server.VelocityAdder;
+import com.riiablo.engine.server.WarpInteractor;
+import com.riiablo.engine.server.component.Networked;
+import com.riiablo.engine.server.component.Player;
+import com.riiablo.map.Act1MapBuilder;
+import com.riiablo.map.Map;
+import com.riiablo.map.MapManager;
+import com.riiablo.net.nio.ConnectionHandler;
+import com.riiablo.net.nio.Endpoint;
+import com.riiablo.net.packet.d2gs.BeltToCursor;
+import com.riiablo.net.packet.d2gs.BodyToCursor;
+import com.riiablo.net.packet.d2gs.Connection;
+import com.riiablo.net.packet.d2gs.CursorToBelt;
+import com.riiablo.net.packet.d2gs.CursorToBody;
+import com.riiablo.net.packet.d2gs.CursorToGround;
+import com.riiablo.net.packet.d2gs.CursorToStore;
+import com.riiablo.net.packet.d2gs.D2GSData;
+import com.riiablo.net.packet.d2gs.Disconnect;
+import com.riiablo.net.packet.d2gs.EntityFlags;
+import com.riiablo.net.packet.d2gs.EntitySync;
+import com.riiablo.net.packet.d2gs.GroundToCursor;
+import com.riiablo.net.packet.d2gs.Ping;
+import com.riiablo.net.packet.d2gs.StoreToCursor;
+import com.riiablo.net.packet.d2gs.SwapBeltItem;
+import com.riiablo.net.packet.d2gs.SwapBodyItem;
+import com.riiablo.net.packet.d2gs.SwapStoreItem;
+import com.riiablo.net.packet.d2gs.SyncAck;
+import com.riiablo.save.CharData;
+import com.riiablo.save.CharacterStore;
+import com.riiablo.util.DebugUtils;
+import com.riiablo.util.Histogram;
+import com.riiablo.util.SpscRingBuffer;
+
+/**
+ * A single game world hosted by {@link D2GS}. Each game owns its own artemis {@link World} and
+ * {@link Map} and accepts clients on its own port, while all game data loaded by the host is
+ * shared between games. Games are ticked by the host's scheduler, so a game is only ever stepped
+ * by one thread at a time, however consecutive ticks may run on different threads.
+ * <p>
+ * Games are stepped with a fixed timestep of {@link D2GS#TICK_NANOS}. A game which falls behind
+ * steps several ticks per run to catch up, up to {@link #MAX_CATCH_UP} ticks, after which the
+ * remaining ticks are skipped. The duration of each tick and of each system within it are
+ * recorded and summarized to the log every {@link #METRICS_INTERVAL}.
+ * <p>
+ * The world is created by {@link #createWorld()} and stepped by {@link #step()}. Subclasses may
+ * replace both, e.g., to drive the network path of a game without any game data, while keeping
+ * the way packets are received, processed and dispatched to clients.
+ */
+public class Game implements Runnable, Disposable, ConnectionHandler {
+  private static final boolean DEBUG                  = true;
+  private static final boolean DEBUG_RECEIVED_CACHE   = DEBUG && !true;
+  private static final boolean DEBUG_RECEIVED_PACKETS = DEBUG && true;
+  private static final boolean DEBUG_SENT_PACKETS     = DEBUG && true;
+
+  private static final int MAX_CLIENTS = Riiablo.MAX_PLAYERS;
+
+  /** capacity of the queue of packets received from each client but not yet processed */
+  private static final int INBOUND_CAPACITY = 256;
+  /** bytes queued to a client after which entity syncs are dropped instead of queued */
+  private static final int SYNC_DROP_THRESHOLD = 1 << 18;
+
+  /** most ticks stepped by a single run before the game gives up catching up */
+  static final int MAX_CATCH_UP = 5;
+  /** how early a tick may be stepped to absorb scheduling jitter */
+  static final long TICK_SLACK = D2GS.TICK_NANOS / 8;
+  static final long METRICS_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+  static final long METRICS_RESOLUTION = TimeUnit.MICROSECONDS.toNanos(100);
+  static final long METRICS_RANGE = 4 * D2GS.TICK_NANOS;
+  /** maximum time the changes to a character go unsaved */
+  static final long SAVE_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+  /** packet types which are not logged when received or dispatched by this game */
+  protected final BitVector ignoredPackets = new BitVector(D2GSData.names.length); {
+    ignoredPackets.set(D2GSData.EntitySync);
+    ignoredPackets.set(D2GSData.SyncAck);
+  }
+
+  final String TAG;
+  protected final int port;
+  final int seed;
+  final int diff;
+  final CharacterStore store;
+
+  final Client[] clients = new Client[MAX_CLIENTS];
+  int numClients = 0;
+  /** clients which have been sent their connection response, only accessed by the game thread */
+  protected int connected = 0;
+  volatile long emptySince;
+
+  final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  final Collection<Packet> cache = new ArrayList<>(1024);
+  protected final Array<Packet> outPackets = new Array<>(false, 1024);
+  final EntitySync entitySync = new EntitySync();
+  final IntIntMap player = new IntIntMap();
+
+  World world;
+  Map map;
+
+  EntityFactory factory;
+  ItemManager itemManager;
+  MapManager mapManager;
+  NetworkSynchronizer sync;
+
+  ScheduledFuture<?> future;
+  boolean disposed;
+  final CountDownLatch terminated = new CountDownLatch(1);
+
+  long lastTime;
+  long lag;
+  long lastReport;
+  int overruns;
+  int skipped;
+  final Histogram tickTimes = new Histogram(METRICS_RESOLUTION, METRICS_RANGE);
+  final TimedInvocationStrategy systemTimes = new TimedInvocationStrategy(METRICS_RESOLUTION, METRICS_RANGE);
+
+  /** clients whose characters changed since they were last saved */
+  int dirty;
+  long lastSave;
+
+  protected ComponentMapper<Networked> mNetworked;
+  protected ComponentMapper<Player> mPlayer;
+
+  /**
+   * @param store persists the characters of clients, or {@code null} if they are not persisted
+   */
+  protected Game(int port, int seed, int diff, CharacterStore store) {
+    this.TAG = "Game[" + port + "]";
+    this.port = port;
+    this.seed = seed;
+    this.diff = diff;
+    this.store = store;
+    this.emptySince = TimeUtils.millis();
+  }
+
+  /**
+   * Creates the world and starts the game clock.
+   */
+  public void create() {
+    createWorld();
+    lastTime = lastReport = lastSave = System.nanoTime();
+    lag = D2GS.TICK_NANOS;
+  }
+
+  /**
+   * Generates the map and populates the world. Map generation and loading go through the shared
+   * {@link Riiablo#assets asset manager} and static pools, so games are created one at a time.
+   */
+  protected void createWorld() {
+    synchronized (Riiablo.assets) {
+      Gdx.app.log(TAG, "Generating map...");
+      map = new Map(seed, diff);
+      Gdx.app.log(TAG, "  generating act 1...");
+      long start = TimeUtils.millis();
+      map.generate(0);
+      Gdx.app.log(TAG, "  act 1 generated in " + (TimeUtils.millis() - start) + "ms");
+
+      Gdx.app.log(TAG, "Loading act 1...");
+      map.load();
+      map.finishLoading();
+
+      factory = new ServerEntityFactory();
+      itemManager = new ServerItemManager();
+      mapManager = new MapManager();
+      sync = new NetworkSynchronizer();
+      WorldConfigurationBuilder builder = new WorldConfigurationBuilder()
+          .with(new EventSystem())
+          .with(new ServerNetworkIdManager())
+          .with(new SerializationManager())
+          .with(mapManager)
+          .with(itemManager)
+          .with(new CofManager())
+          .with(new ObjectInitializer())
+          .with(new ObjectInteractor(), new WarpInteractor(), new ItemInteractor())
+
+          .with(new AIStepper())
+          .with(new Pathfinder())
+
+          .with(new VelocityAdder()) // FIXME: temp until proper physics implemented
+
+          .with(factory)
+          .with(sync)
+          .with(new AnimDataResolver())
+          .register(systemTimes)
+          ;
+      WorldConfiguration config = builder.build()
+          .register("map", map)
+          .register("factory", factory)
+          .register("player", player)
+          .register("outPackets", outPackets)
+          ;
+      world = new World(config);
+
+      world.inject(map);
+      world.inject(Act1MapBuilder.INSTANCE);
+
+      map.generate();
+      mapManager.createEntities();
+
+      mNetworked = world.getMapper(Networked.class);
+      mPlayer = world.getMapper(Player.class);
+      world.delta = Animation.FRAME_DURATION;
+    }
+  }
+
+  /**
+   * Stops ticking the game, saves its changed characters and disposes it from its own tick, so that
+   * it is never disposed while another thread is stepping it.
+   */
+  void shutdown() {
+    tasks.offer(new Runnable() {
+      @Override
+      public void run() {
+        future.cancel(false);
+        save(dirty);
+        dispose();
+      }
+    });
+  }
+
+  /**
+   * Waits for a game which has been {@link #shutdown() shut down} to be disposed.
+   *
+   * @return {@code false} if the game is still ticking after the specified duration
+   */
+  boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return terminated.await(timeout, unit);
+  }
+
+  /**
+   * Disposes the game without saving its characters, which may only be serialized by the game
+   * thread. Games which are ticking should be {@link #shutdown() shut down} instead.
+   */
+  @Override
+  public void dispose() {
+    if (disposed) return;
+    disposed = true;
+    Gdx.app.log(TAG, "Shutting down...");
+    try {
+      synchronized (clients) {
+        for (Client client : clients) {
+          if (client != null) client.endpoint.close();
+        }
+
+        Arrays.fill(clients, null);
+        numClients = 0;
+        connected = 0;
+      }
+
+      disposeWorld();
+    } finally {
+      terminated.countDown();
+    }
+  }
+
+  protected void disposeWorld() {
+    synchronized (Riiablo.assets) {
+      world.dispose();
+      map.dispose();
+    }
+  }
+
+  /**
+   * Returns whether the game has had no clients for at least the specified duration.
+   */
+  boolean isIdle(long millis) {
+    synchronized (clients) {
+      return numClients == 0 && TimeUtils.timeSinceMillis(emptySince) >= millis;
+    }
+  }
+
+  @Override
+  public void connected(Endpoint endpoint) {
+    Gdx.app.log(TAG, "connection from " + endpoint.getRemoteAddress());
+    synchronized (clients) {
+      if (numClients >= MAX_CLIENTS) {
+        // TODO: send server is full message
+        endpoint.close();
+        return;
+      }
+
+      int id = ArrayUtils.indexOf(clients, null);
+      assert id != ArrayUtils.INDEX_NOT_FOUND : "numClients=" + numClients + " but no index available";
+      Gdx.app.log(TAG, "assigned " + endpoint.getRemoteAddress() + " to " + id);
+      Client client = clients[id] = new Client(id, endpoint);
+      endpoint.attachment = client;
+      numClients++;
+    }
+  }
+
+  @Override
+  public void received(Endpoint endpoint, ByteBuffer frame) {
+    Client client = (Client) endpoint.attachment;
+    if (client != null) client.received(frame);
+  }
+
+  @Override
+  public void disconnected(Endpoint endpoint) {
+    Client client = (Client) endpoint.attachment;
+    if (client != null) client.disconnected();
+  }
+
+  void disconnected(final Client client) {
+    Gdx.app.log(client.TAG, "closing connection to " + client.endpoint.getRemoteAddress());
+    tasks.offer(new Runnable() {
+      @Override
+      public void run() {
+        Disconnect(client.id);
+      }
+    });
+  }
+
+  /**
+   * Steps every tick which has come due since the last run.
+   */
+  @Override
+  public void run() {
+    try {
+      final long now = System.nanoTime();
+      lag += now - lastTime;
+      lastTime = now;
+      if (lag > MAX_CATCH_UP * D2GS.TICK_NANOS) {
+        skipped += lag / D2GS.TICK_NANOS - MAX_CATCH_UP;
+        lag = MAX_CATCH_UP * D2GS.TICK_NANOS;
+      }
+
+      while (lag > D2GS.TICK_NANOS - TICK_SLACK && !disposed) {
+        lag -= D2GS.TICK_NANOS;
+        final long start = System.nanoTime();
+        tick();
+        final long elapsed = System.nanoTime() - start;
+        tickTimes.record(elapsed);
+        if (elapsed > D2GS.TICK_NANOS) overruns++;
+      }
+
+      if (now - lastReport >= METRICS_INTERVAL && !disposed) {
+        lastReport = now;
+        report();
+      }
+    } catch (Throwable t) {
+      // an exception would cancel all future ticks of this game
+      Gdx.app.error(TAG, t.getMessage(), t);
+    }
+  }
+
+  /**
+   * Logs the tick and system timings recorded since the last report. Per-system timings are only
+   * logged at the debug level unless a tick overran its budget.
+   */
+  void report() {
+    Gdx.app.log(TAG, String.format("ticks=%d p50=%s p99=%s max=%s overruns=%d skipped=%d",
+        tickTimes.count(),
+        millis(tickTimes.percentile(0.50f)),
+        millis(tickTimes.percentile(0.99f)),
+        millis(tickTimes.max()),
+        overruns, skipped));
+    if (overruns > 0 || Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+      for (int i = 0, s = systemTimes.size(); i < s; i++) {
+        Histogram histogram = systemTimes.getHistogram(i);
+        String message = String.format("  %-24s p50=%s p99=%s max=%s",
+            systemTimes.getName(i),
+            millis(histogram.percentile(0.50f)),
+            millis(histogram.percentile(0.99f)),
+            millis(histogram.max()));
+        if (overruns > 0) {
+          Gdx.app.log(TAG, message);
+        } else {
+          Gdx.app.debug(TAG, message);
+        }
+      }
+    }
+
+    tickTimes.clear();
+    systemTimes.clear();
+    overruns = 0;
+    skipped = 0;
+  }
+
+  static String millis(long nanos) {
+    return String.format("%.2fms", nanos / 1e6);
+  }
+
+  /**
+   * Advances the game by one frame: processes the packets received since the last tick, steps
+   * the world and then dispatches the packets it produced.
+   */
+  protected void tick() {
+    for (Runnable task; (task = tasks.poll()) != null;) task.run();
+    if (disposed) return;
+
+    cache.clear();
+    int cached = 0;
+    for (Client client : clients) {
+      if (client != null) cached += client.inbound.drainTo(cache);
+    }
+
+    if (DEBUG_RECEIVED_CACHE && cached > 0) Gdx.app.log(TAG, "processing " + cached + " packets");
+    for (Packet packet : cache) {
+      if (DEBUG_RECEIVED_PACKETS && !ignoredPackets.get(packet.data.dataType())) Gdx.app.log(TAG, "processing " + D2GSData.name(packet.data.dataType()) + " packet from " + packet.id);
+      process(packet);
+      packet.release();
+    }
+
+    step();
+
+    int queued = 0;
+    for (Packet packet : outPackets) {
+      if (DEBUG_SENT_PACKETS && !ignoredPackets.get(packet.data.dataType())) Gdx.app.log(TAG, "dispatching " + D2GSData.name(packet.data.dataType()) + " packet to " + String.format("0x%08X", packet.id));
+      for (int i = 0, flag = 1; i < MAX_CLIENTS; i++, flag <<= 1) {
+        if ((packet.id & flag) == flag && ((connected & flag) == flag || packet.data.dataType() == D2GSData.Connection)) {
+          Client client = clients[i];
+          if (client == null) continue;
+          try {
+            if (DEBUG_SENT_PACKETS && !ignoredPackets.get(packet.data.dataType())) Gdx.app.log(TAG, "  dispatching packet to " + i);
+            if (client.queue(packet)) queued |= flag;
+          } catch (Throwable t) {
+            Gdx.app.error(TAG, t.getMessage(), t);
+          }
+        }
+      }
+
+      packet.release();
+    }
+
+    outPackets.clear();
+
+    // all packets queued this tick are written together, one gathering write per client
+    for (int i = 0, flag = 1; i < MAX_CLIENTS; i++, flag <<= 1) {
+      if ((queued & flag) == flag) {
+        Client client = clients[i];
+        if (client != null) client.endpoint.flush();
+      }
+    }
+  }
+
+  /**
+   * Steps the world and saves the characters which changed, if they are due to be saved.
+   */
+  protected void step() {
+    world.process();
+
+    if (dirty != 0 && System.nanoTime() - lastSave >= SAVE_INTERVAL) {
+      save(dirty);
+    }
+  }
+
+  /**
+   * Serializes the characters of the specified clients and hands them to the store to be written.
+   * Characters are serialized on the game thread, which owns them and re-encodes their items in
+   * place, so this must only be called from a tick. They are never written by the game thread.
+   */
+  void save(int clients) {
+    lastSave = System.nanoTime();
+    if (store == null) {
+      dirty = 0;
+      return;
+    }
+
+    for (int i = 0, flag = 1; i < MAX_CLIENTS; i++, flag <<= 1) {
+      if ((clients & flag) != flag) continue;
+      dirty &= ~flag;
+      int entityId = player.get(i, Engine.INVALID_ENTITY);
+      if (entityId == Engine.INVALID_ENTITY) continue;
+      CharData charData = mPlayer.get(entityId).data;
+      try {
+        store.save(charData.name, charData.serialize());
+      } catch (Throwable t) {
+        Gdx.app.error(TAG, "Failed to save " + charData.name + ": " + t.getMessage(), t);
+      }
+    }
+  }
+
+  protected void process(Packet packet) {
+    switch (packet.data.dataType()) {
+      case D2GSData.Connection:
+        Connection(packet);
+        break;
+      case D2GSData.EntitySync:
+        Synchronize(packet);
+        break;
+      case D2GSData.GroundToCursor:
+        GroundToCursor(packet);
+        break;
+      case D2GSData.CursorToGround:
+        CursorToGround(packet);
+        break;
+      case D2GSData.StoreToCursor:
+        StoreToCursor(packet);
+        break;
+      case D2GSData.CursorToStore:
+        CursorToStore(packet);
+        break;
+      case D2GSData.SwapStoreItem:
+        SwapStoreItem(packet);
+        break;
+      case D2GSData.BodyToCursor:
+        BodyToCursor(packet);
+        break;
+      case D2GSData.CursorToBody:
+        CursorToBody(packet);
+        break;
+      case D2GSData.SwapBodyItem:
+        SwapBodyItem(packet);
+        break;
+      case D2GSData.BeltToCursor:
+        BeltToCursor(packet);
+        break;
+      case D2GSData.CursorToBelt:
+        CursorToBelt(packet);
+        break;
+      case D2GSData.SwapBeltItem:
+        SwapBeltItem(packet);
+        break;
+      case D2GSData.Ping:
+        Ping(packet);
+        break;
+      case D2GSData.SyncAck:
+        SyncAck(packet);
+        break;
+      default:
+        Gdx.app.error(TAG, "Unknown packet type: " + packet.data.dataType());
+    }
+  }
+
+  private void Connection(Packet packet) {
+    Connection connection = (Connection) packet.data.data(new Connection());
+    String charName = connection.charName();
+    int charClass = connection.charClass();
+    Gdx.app.log(TAG, "Connection from " + clients[packet.id].endpoint.getRemoteAddress() + " : " + charName);
+
+    byte[] cofComponents = new byte[16];
+    connection.cofComponentsAsByteBuffer().get(cofComponents);
+    Gdx.app.log(TAG, "  " + DebugUtils.toByteArray(cofComponents));
+
+    byte[] cofAlphas = new byte[16];
+    connection.cofAlphasAsByteBuffer().get(cofAlphas);
+    Gdx.app.log(TAG, "  " + Arrays.toString(cofAlphas));
+    Gdx.app.log(TAG, "  >" + Arrays.toString(com.riiablo.util.ArrayUtils.toFloatingPoint(cofAlphas)));
+
+    byte[] cofTransforms = new byte[16];
+    connection.cofTransformsAsByteBuffer().get(cofTransforms);
+    Gdx.app.log(TAG, "  " + DebugUtils.toByteArray(cofTransforms));
+
+    ByteBuffer d2sData = connection.d2sAsByteBuffer();
+    CharData charData = CharData.loadFromBuffer(diff, d2sData);
+    Gdx.app.log(TAG, "  " + charData);
+
+    Vector2 origin = map.find(Map.ID.TOWN_ENTRY_1);
+    if (origin == null) origin = map.find(Map.ID.TOWN_ENTRY_2);
+    if (origin == null) origin = map.find(Map.ID.TP_LOCATION);
+    int entityId = factory.createPlayer(charData, origin);
+    player.put(packet.id, entityId);
+    sync.reset(packet.id);
+    Gdx.app.log(TAG, "  entityId=" + entityId);
+
+    Packet response = Packet.obtain();
+    FlatBufferBuilder builder = response.builder();
+    Connection.startConnection(builder);
+    Connection.addEntityId(builder, entityId);
+    int connectionOffset = Connection.endConnection(builder);
+    int offset = com.riiablo.net.packet.d2gs.D2GS.createD2GS(builder, D2GSData.Connection, connectionOffset);
+    com.riiablo.net.packet.d2gs.D2GS.finishSizePrefixedD2GSBuffer(builder, offset);
+    outPackets.add(response.finish(1 << packet.id));
+
+    Synchronize(packet.id, entityId);
+
+    BroadcastConnect(packet.id, charData, entityId);
+  }
+
+  private void Synchronize(int id, int entityId) {
+
+  }
+
+  /**
+   * Announces the specified player to every other client. Clients only name the player with this,
+   * it is created on each client by its first full sync once it is within that client's interest.
+   */
+  private void BroadcastConnect(int id, CharData charData, int entityId) {
+    Packet broadcast = Packet.obtain();
+    FlatBufferBuilder builder = broadcast.builder();
+    int charNameOffset = builder.createString(charData.name);
+    Connection.startConnection(builder);
+    Connection.addEntityId(builder, entityId);
+    Connection.addCharClass(builder, charData.charClass);
+    Connection.addCharName(builder, charNameOffset);
+    int connectionOffset = Connection.endConnection(builder);
+    int offset = com.riiablo.net.packet.d2gs.D2GS.createD2GS(builder, D2GSData.Connection, connectionOffset);
+    com.riiablo.net.packet.d2gs.D2GS.finishSizePrefixedD2GSBuffer(builder, offset);
+
+    outPackets.add(broadcast.finish(~(1 << id)));
+  }
+
+  protected void Disconnect(int id) {
+    int entityId = player.get(id, Engine.INVALID_ENTITY);
+    assert entityId != Engine.INVALID_ENTITY;
+    Packet broadcast = Packet.obtain();
+    FlatBufferBuilder builder = broadcast.builder();
+    int disconnectOffset = Disconnect.createDisconnect(builder, entityId);
+    int offset = com.riiablo.net.packet.d2gs.D2GS.createD2GS(builder, D2GSData.Disconnect, disconnectOffset);
+    com.riiablo.net.packet.d2gs.D2GS.finishSizePrefixedD2GSBuffer(builder, offset);
+    outPackets.add(broadcast.finish(~(1 << id)));
+
+    if ((dirty & (1 << id)) != 0) save(1 << id);
+    world.delete(entityId);
+    player.remove(id, Engine.INVALID_ENTITY);
+    release(id);
+  }
+
+  /**
+   * Frees the slot of the specified client.
+   */
+  protected final void release(int id) {
+    synchronized (clients) {
+      clients[id] = null;
+      numClients--;
+      connected &= ~(1 << id);
+      if (numClients == 0) emptySince = TimeUtils.millis();
+    }
+  }
+
+  private void Ping(Packet packet) {
+    Ping ping = (Ping) packet.data.data(new Ping());
+    Packet response = Packet.obtain();
+    FlatBufferBuilder builder = response.builder();
+    int dataOffset = Ping.createPing(builder, ping.tickCount(), ping.sendTime(), TimeUtils.millis() - packet.time);
+    int root = com.riiablo.net.packet.d2gs.D2GS.createD2GS(builder, D2GSData.Ping, dataOffset);
+    com.riiablo.net.packet.d2gs.D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    outPackets.add(response.finish(1 << packet.id));
+  }
+
+  private void SyncAck(Packet packet) {
+    SyncAck ack = (SyncAck) packet.data.data(new SyncAck());
+    sync.ack(packet.id, ack.snapshot());
+  }
+
+  /**
+   * Called when an entity sync to the specified client was dropped instead of queued.
+   */
+  protected void dropped(int id) {
+    sync.dropped(id);
+  }
+
+  private void Synchronize(Packet packet) {
+    int entityId = player.get(packet.id, Engine.INVALID_ENTITY);
+    assert entityId != Engine.INVALID_ENTITY;
+    sync.sync(entityId, packet.data);
+  }
+
+  private int getPlayerEntityId(Packet packet) {
+    int entityId = player.get(packet.id, Engine.INVALID_ENTITY);
+    assert entityId != Engine.INVALID_ENTITY;
+    return entityId;
+  }
+
+  private void GroundToCursor(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    GroundToCursor groundToCursor = (GroundToCursor) packet.data.data(new GroundToCursor());
+    itemManager.groundToCursor(entityId, groundToCursor.itemId());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void CursorToGround(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    CursorToGround cursorToGround = (CursorToGround) packet.data.data(new CursorToGround());
+    itemManager.cursorToGround(entityId);
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void StoreToCursor(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    StoreToCursor storeToCursor = (StoreToCursor) packet.data.data(new StoreToCursor());
+    itemManager.storeToCursor(entityId, storeToCursor.itemId());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void CursorToStore(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    CursorToStore cursorToStore = (CursorToStore) packet.data.data(new CursorToStore());
+    itemManager.cursorToStore(entityId, cursorToStore.storeLoc(), cursorToStore.x(), cursorToStore.y());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void SwapStoreItem(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    SwapStoreItem swapStoreItem = (SwapStoreItem) packet.data.data(new SwapStoreItem());
+    itemManager.swapStoreItem(entityId, swapStoreItem.itemId(), swapStoreItem.storeLoc(), swapStoreItem.x(), swapStoreItem.y());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void BodyToCursor(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    BodyToCursor bodyToCursor = (BodyToCursor) packet.data.data(new BodyToCursor());
+    itemManager.bodyToCursor(entityId, bodyToCursor.bodyLoc(), bodyToCursor.merc());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void CursorToBody(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    CursorToBody cursorToBody = (CursorToBody) packet.data.data(new CursorToBody());
+    itemManager.cursorToBody(entityId, cursorToBody.bodyLoc(), cursorToBody.merc());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void SwapBodyItem(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    SwapBodyItem swapBodyItem = (SwapBodyItem) packet.data.data(new SwapBodyItem());
+    itemManager.swapBodyItem(entityId, swapBodyItem.bodyLoc(), swapBodyItem.merc());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void BeltToCursor(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    BeltToCursor beltToCursor = (BeltToCursor) packet.data.data(new BeltToCursor());
+    itemManager.beltToCursor(entityId, beltToCursor.itemId());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void CursorToBelt(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    CursorToBelt cursorToBelt = (CursorToBelt) packet.data.data(new CursorToBelt());
+    itemManager.cursorToBelt(entityId, cursorToBelt.x(), cursorToBelt.y());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  private void SwapBeltItem(Packet packet) {
+    int entityId = getPlayerEntityId(packet);
+    SwapBeltItem swapBeltItem = (SwapBeltItem) packet.data.data(new SwapBeltItem());
+    itemManager.swapBeltItem(entityId, swapBeltItem.itemId());
+
+    dirty |= (1 << packet.id);
+    packet.id = (1 << packet.id);
+    outPackets.add(packet.retain());
+  }
+
+  class Client {
+    final String TAG;
+
+    final int id;
+    final Endpoint endpoint;
+
+    /** packets received on the reactor thread, polled by the game thread */
+    final SpscRingBuffer<Packet> inbound = new SpscRingBuffer<>(INBOUND_CAPACITY);
+    /** syncs dropped since the last one was queued, only accessed by the game thread */
+    int dropped;
+
+    Client(int id, Endpoint endpoint) {
+      TAG = Game.this.TAG + "{" + id + "}";
+      this.id = id;
+      this.endpoint = endpoint;
+    }
+
+    /**
+     * Queues the packet to be written on the next flush of this client's endpoint. Entity syncs
+     * are dropped if the client is not keeping up, and reported to the synchronizer so that their
+     * changes are sent again, but any other packet which cannot be queued disconnects the client.
+     */
+    boolean queue(Packet packet) {
+      final boolean droppable = isDroppable(packet);
+      if (droppable && endpoint.getPending() > SYNC_DROP_THRESHOLD) {
+        if (dropped++ == 0) Gdx.app.debug(TAG, "dropping syncs to " + endpoint.getRemoteAddress());
+        dropped(id);
+        return false;
+      }
+
+      if (!endpoint.queue(packet.buffer, packet.retain())) {
+        packet.release();
+        if (droppable) {
+          dropped++;
+          dropped(id);
+          return false;
+        }
+
+        Gdx.app.log(TAG, "send buffer full -- closing " + endpoint.getRemoteAddress());
+        endpoint.close();
+        return false;
+      }
+
+      if (dropped > 0) {
+        Gdx.app.debug(TAG, "dropped " + dropped + " syncs to " + endpoint.getRemoteAddress());
+        dropped = 0;
+      }
+
+      if ((connected & (1 << id)) == 0 && packet.data.dataType() == D2GSData.Connection) {
+        connected |= (1 << id);
+      }
+
+      return true;
+    }
+
+    boolean isDroppable(Packet packet) {
+      if (packet.data.dataType() != D2GSData.EntitySync) return false;
+      EntitySync sync = (EntitySync) packet.data.data(entitySync);
+      return (sync.flags() & (EntityFlags.deleted | EntityFlags.despawned)) == 0;
+    }
+
+    void disconnected() {
+      Game.this.disconnected(this);
+    }
+
+    void received(ByteBuffer frame) {
+      Packet packet = Packet.obtain(id, frame);
+      if (DEBUG_RECEIVED_PACKETS && !ignoredPackets.get(packet.data.dataType())) Gdx.app.log(TAG, "received " + D2GSData.name(packet.data.dataType()) + " packet from " + endpoint.getRemoteAddress());
+      boolean success = inbound.offer(packet);
+      if (!success) {
+        packet.release();
+        Gdx.app.log(TAG, "failed to add to queue -- closing " + endpoint.getRemoteAddress());
+        endpoint.close();
+      }
+    }
+  }
+}
@@ -6,19 +6,43 @@ import com.artemis.BaseEntitySystem;
 import com.artemis.ComponentMapper;
 import com.artemis.annotations.All;
 import com.artemis.annotations.Wire;
+import com.artemis.utils.Bag;
+import com.artemis.utils.BitVector;
 import com.artemis.utils.IntBag;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntIntMap;
+import com.riiablo.Riiablo;
 import com.riiablo.engine.server.SerializationManager;
 import com.riiablo.engine.server.component.Class;
 import com.riiablo.engine.server.component.Flags;
 import com.riiablo.engine.server.component.Networked;
+import com.riiablo.engine.server.component.Position;
+import com.riiablo.map.RenderSystem;
+import com.riiablo.net.packet.d2gs.ComponentP;
 import com.riiablo.net.packet.d2gs.D2GS;
 import com.riiablo.net.packet.d2gs.D2GSData;
 import com.riiablo.net.packet.d2gs.EntityFlags;
 
-import java.util.concurrent.BlockingQueue;
+import java.util.Arrays;
 
+/**
+ * Synchronizes {@link Networked} entities with clients using delta-compressed snapshots. Each
+ * tick is a snapshot, and the serialized form of each component is fingerprinted to record the
+ * snapshot in which it last changed. Clients {@link #ack(int, int) acknowledge} the snapshots
+ * they have received, and are only sent the components which changed since then. Entities a
+ * client may not know about yet are sent in full, and unchanged entities are not sent at all.
+ * Syncs which could not be queued to a client are reported as {@link #dropped(int) dropped}, and
+ * the client's acks are held below the first dropped snapshot until a later snapshot reaches it
+ * without drops, so everything which changed since then is sent again.
+ * <p>
+ * Clients are only synced entities within their area of interest, i.e., within
+ * {@link #VIEW_RADIUS} of their player. Entities are bucketed into a {@link SpatialHash} each
+ * tick to find them, and are despawned from a client once they move beyond
+ * {@link #DESPAWN_RADIUS}. Entities without a position and warps are always relevant.
+ */
 @All(Networked.class)
 public class NetworkSynchronizer extends BaseEntitySystem {
   private static final String TAG = "NetworkSynchronizer";
@@ -26,55 +50,264 @@ public class NetworkSynchronizer extends BaseEntitySystem {
   private static final boolean DEBUG      = true;
   private static final boolean DEBUG_SYNC = DEBUG && !true;
 
+  private static final int MAX_CLIENTS = Riiablo.MAX_PLAYERS;
+  private static final int NUM_COMPONENTS = ComponentP.names.length;
+
+  /** Radius in sub-tiles rendered by a 16:9 desktop client */
+  static final float VIEW_RADIUS = RenderSystem.viewRadius(
+      Riiablo.DESKTOP_VIEWPORT_HEIGHT * 16 / 9, Riiablo.DESKTOP_VIEWPORT_HEIGHT);
+  /** Entities entering the view are only despawned once beyond this radius */
+  static final float DESPAWN_RADIUS = VIEW_RADIUS + 8;
+
+  static final int CELL_SHIFT = 5;
+
   protected SerializationManager serializer;
 
   @Wire(name = "outPackets")
-  protected BlockingQueue<Packet> outPackets;
+  protected Array<Packet> outPackets;
 
   @Wire(name = "player")
   protected IntIntMap players;
 
   protected ComponentMapper<Class> mClass;
   protected ComponentMapper<Flags> mFlags;
+  protected ComponentMapper<Position> mPosition;
+
+  private final Bag<Baseline> baselines = new Bag<>();
+  private final Interest[] interests = new Interest[MAX_CLIENTS]; {
+    for (int i = 0; i < MAX_CLIENTS; i++) interests[i] = new Interest();
+  }
+  private final SpatialHash grid = new SpatialHash(CELL_SHIFT);
+  private final IntArray global = new IntArray();
+  private final long[] fingerprints = new long[NUM_COMPONENTS];
+  private final int[] acked = new int[MAX_CLIENTS];
+  /** first and last snapshots in which syncs to each client were dropped, 0 if none are */
+  private final int[] firstDropped = new int[MAX_CLIENTS];
+  private final int[] lastDropped = new int[MAX_CLIENTS];
+  private final int[] masks = new int[MAX_CLIENTS];
+  private final int[] bases = new int[MAX_CLIENTS];
+  private int snapshot;
+  private int clients;
 
   @Override
   protected boolean checkProcessing() {
     return players.size > 0;
   }
 
+  /**
+   * Records that the specified client has received all snapshots up to {@code snapshot}.
+   */
+  public void ack(int id, int snapshot) {
+    if (snapshot > this.snapshot) return;
+    if (firstDropped[id] != 0) {
+      if (snapshot <= lastDropped[id]) {
+        snapshot = Math.min(snapshot, firstDropped[id] - 1);
+      } else {
+        // snapshots after the last drop were sent against a baseline before the first one
+        firstDropped[id] = lastDropped[id] = 0;
+      }
+    }
+
+    if (snapshot > acked[id]) acked[id] = snapshot;
+  }
+
+  /**
+   * Records that a sync of the current snapshot could not be queued to the specified client.
+   */
+  public void dropped(int id) {
+    if (firstDropped[id] == 0) firstDropped[id] = snapshot;
+    lastDropped[id] = snapshot;
+  }
+
+  /**
+   * Forgets the baseline of the specified client, e.g., when a new client takes the slot.
+   */
+  public void reset(int id) {
+    acked[id] = 0;
+    firstDropped[id] = lastDropped[id] = 0;
+    interests[id].clear();
+  }
+
+  public int snapshot() {
+    return snapshot;
+  }
+
   // FIXME: this assumes that removing Networked component implies deletion -- may not always be case
   @Override
   protected void removed(int entityId) {
+    baselines.set(entityId, null);
+    final int recipients = exclude(entityId) & interested(entityId);
+    for (Interest interest : interests) interest.relevant.clear(entityId);
     Class.Type type = mClass.get(entityId).type;
     switch (type) {
       case PLR:
         // TODO: handled by disconnection packet, need to handle here also
         break;
       default:
+        if (recipients == 0) break;
         mFlags.get(entityId).flags |= EntityFlags.deleted;
-        process(entityId);
+        send(entityId, recipients, SerializationManager.ALL_COMPONENTS, 0);
     }
   }
 
   @Override
   protected void processSystem() {
+    snapshot++;
+    clients = 0;
+    for (IntIntMap.Entry entry : players) clients |= (1 << entry.key);
+
     IntBag entities = subscription.getEntities();
     int[] entityIds = entities.getData();
+    grid.clear();
+    global.clear();
+    for (int i = 0, s = entities.size(); i < s; i++) {
+      int entityId = entityIds[i];
+      if (!mPosition.has(entityId) || mClass.get(entityId).type == Class.Type.WRP) {
+        global.add(entityId);
+      } else {
+        Vector2 position = mPosition.get(entityId).position;
+        grid.add(entityId, position.x, position.y);
+      }
+    }
+
+    for (IntIntMap.Entry entry : players) updateInterest(entry.key, entry.value);
+
     for (int i = 0, s = entities.size(); i < s; i++) {
       process(entityIds[i]);
     }
   }
 
+  /**
+   * Recomputes the entities relevant to the specified client, despawning those which are no
+   * longer relevant and marking those which became relevant to be sent in full.
+   */
+  void updateInterest(int id, int playerId) {
+    final Interest interest = interests[id];
+    final BitVector relevant = interest.relevant;
+    final BitVector visible = interest.visible;
+    visible.clear();
+    for (int i = 0, s = global.size; i < s; i++) visible.set(global.items[i]);
+
+    if (mPosition.has(playerId)) {
+      final Vector2 origin = mPosition.get(playerId).position;
+      final float viewRadius2 = VIEW_RADIUS * VIEW_RADIUS;
+      final float despawnRadius2 = DESPAWN_RADIUS * DESPAWN_RADIUS;
+      final int x0 = grid.cell(origin.x - DESPAWN_RADIUS), x1 = grid.cell(origin.x + DESPAWN_RADIUS);
+      final int y0 = grid.cell(origin.y - DESPAWN_RADIUS), y1 = grid.cell(origin.y + DESPAWN_RADIUS);
+      for (int cy = y0; cy <= y1; cy++) {
+        for (int cx = x0; cx <= x1; cx++) {
+          IntArray cell = grid.get(cx, cy);
+          for (int i = 0, s = cell.size; i < s; i++) {
+            int entityId = cell.items[i];
+            float dst2 = origin.dst2(mPosition.get(entityId).position);
+            if (dst2 <= viewRadius2 || (dst2 <= despawnRadius2 && relevant.get(entityId))) {
+              visible.set(entityId);
+            }
+          }
+        }
+      }
+    }
+
+    for (int entityId = relevant.nextSetBit(0); entityId >= 0; entityId = relevant.nextSetBit(entityId + 1)) {
+      if (!visible.get(entityId)) {
+        relevant.clear(entityId);
+        if (entityId != playerId) despawn(id, entityId);
+      }
+    }
+
+    for (int entityId = visible.nextSetBit(0); entityId >= 0; entityId = visible.nextSetBit(entityId + 1)) {
+      if (!relevant.get(entityId)) interest.spawn(entityId, snapshot);
+    }
+  }
+
+  /** Returns the mask of clients the specified entity is relevant to */
+  int interested(int entityId) {
+    int mask = 0;
+    for (int i = 0, flag = 1; i < MAX_CLIENTS; i++, flag <<= 1) {
+      if (interests[i].relevant.get(entityId)) mask |= flag;
+    }
+
+    return mask;
+  }
+
   protected void process(int entityId) {
-    FlatBufferBuilder builder = sync(new FlatBufferBuilder(0), entityId);
+    Baseline baseline = update(entityId);
+    final int recipients = exclude(entityId) & clients & interested(entityId);
+    final int[] masks = this.masks;
+    final int[] bases = this.bases;
+    for (int i = 0, flag = 1; i < MAX_CLIENTS; i++, flag <<= 1) {
+      masks[i] = (recipients & flag) == flag ? baseline.changedSince(acked[i], interests[i].spawned(entityId)) : 0;
+      bases[i] = masks[i] == SerializationManager.ALL_COMPONENTS ? 0 : acked[i];
+    }
+
+    // clients at the same baseline are sent the same packet
+    int pending = recipients;
+    for (int i = 0, flag = 1; i < MAX_CLIENTS && pending != 0; i++, flag <<= 1) {
+      if ((pending & flag) == 0) continue;
+      int group = 0;
+      for (int j = i, jflag = flag; j < MAX_CLIENTS; j++, jflag <<= 1) {
+        if ((pending & jflag) == jflag && masks[j] == masks[i] && bases[j] == bases[i]) {
+          group |= jflag;
+        }
+      }
+
+      pending &= ~group;
+      if (masks[i] == 0) continue;
+      send(entityId, group, masks[i], bases[i]);
+    }
+  }
+
+  /**
+   * Fingerprints the components of the specified entity and records those which changed in the
+   * current snapshot.
+   */
+  Baseline update(int entityId) {
+    Baseline baseline = baselines.safeGet(entityId);
+    if (baseline == null) {
+      baselines.set(entityId, baseline = new Baseline(snapshot));
+    }
+
+    final long[] fingerprints = this.fingerprints;
+    int componentMask = serializer.fingerprint(entityId, fingerprints);
+    for (int i = 0; i < NUM_COMPONENTS; i++) {
+      if ((componentMask & (1 << i)) == 0) continue;
+      if ((baseline.componentMask & (1 << i)) == 0 || baseline.fingerprints[i] != fingerprints[i]) {
+        baseline.fingerprints[i] = fingerprints[i];
+        baseline.changed[i] = snapshot;
+      }
+    }
+
+    baseline.componentMask = componentMask;
+    return baseline;
+  }
+
+  /** Returns the mask of clients which should receive syncs for the specified entity */
+  int exclude(int entityId) {
     int id = players.findKey(entityId, -1); // TODO: replace with component referencing player id
-    Packet packet = Packet.obtain(id != -1 ? ~(1 << id) : 0xFFFFFFFF, builder.dataBuffer());
-    boolean success = outPackets.offer(packet);
-    assert success;
+    return id != -1 ? ~(1 << id) : 0xFFFFFFFF;
+  }
+
+  void despawn(int id, int entityId) {
+    Packet packet = Packet.obtain();
+    FlatBufferBuilder builder = packet.builder();
+    int syncOffset = serializer.serializeDespawn(builder, entityId, snapshot);
+    int root = D2GS.createD2GS(builder, D2GSData.EntitySync, syncOffset);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+    outPackets.add(packet.finish(1 << id));
+  }
+
+  void send(int entityId, int recipients, int componentMask, int baseline) {
+    Packet packet = Packet.obtain();
+    sync(packet.builder(), entityId, componentMask, baseline);
+    outPackets.add(packet.finish(recipients));
   }
 
   public FlatBufferBuilder sync(FlatBufferBuilder builder, int entityId) {
-    int syncOffset = serializer.serialize(builder, entityId);
+    return sync(builder, entityId, SerializationManager.ALL_COMPONENTS, 0);
+  }
+
+  FlatBufferBuilder sync(FlatBufferBuilder builder, int entityId, int componentMask, int baseline) {
+    int syncOffset = serializer.serialize(builder, entityId, componentMask, snapshot, baseline);
     int root = D2GS.createD2GS(builder, D2GSData.EntitySync, syncOffset);
     D2GS.finishSizePrefixedD2GSBuffer(builder, root);
     return builder;
@@ -84,4 +317,58 @@ public class NetworkSynchronizer extends BaseEntitySystem {
     if (DEBUG_SYNC) Gdx.app.log(TAG, "syncing " + entityId);
     serializer.deserialize(entityId, packet);
   }
+
+  static final class Interest {
+    /** entities the client has been told about */
+    final BitVector relevant = new BitVector();
+    /** scratch set of entities relevant this snapshot */
+    final BitVector visible = new BitVector();
+    /** snapshot in which each relevant entity was spawned for the client */
+    int[] spawned = new int[64];
+
+    void spawn(int entityId, int snapshot) {
+      if (entityId >= spawned.length) {
+        spawned = Arrays.copyOf(spawned, Math.max(spawned.length << 1, entityId + 1));
+      }
+
+      spawned[entityId] = snapshot;
+      relevant.set(entityId);
+    }
+
+    int spawned(int entityId) {
+      return entityId < spawned.length ? spawned[entityId] : 0;
+    }
+
+    void clear() {
+      relevant.clear();
+      visible.clear();
+    }
+  }
+
+  static final class Baseline {
+    final long[] fingerprints = new long[NUM_COMPONENTS];
+    /** snapshot in which each component last changed */
+    final int[] changed = new int[NUM_COMPONENTS];
+    int componentMask;
+
+    Baseline(int created) {
+      Arrays.fill(changed, created);
+    }
+
+    /**
+     * Returns the mask of components which must be sent to a client whose last acknowledged
+     * snapshot is {@code acked}, {@link SerializationManager#ALL_COMPONENTS} if the client may not
+     * know about the entity, i.e., it has not acknowledged the snapshot the entity was
+     * {@code spawned} for it in.
+     */
+    int changedSince(int acked, int spawned) {
+      if (acked == 0 || acked < spawned) return SerializationManager.ALL_COMPONENTS;
+      int mask = 0;
+      for (int i = 0; i < NUM_COMPONENTS; i++) {
+        if ((componentMask & (1 << i)) != 0 && changed[i] > acked) mask |= 1 << i;
+      }
+
+      return mask;
+    }
+  }
 }
@@ -1,24 +1,132 @@
 package com.riiablo.server.d2gs;
 
-import com.google.flatbuffers.ByteBufferUtil;
+import com.google.flatbuffers.Constants;
+import com.google.flatbuffers.FlatBufferBuilder;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 
+import com.riiablo.net.nio.Releasable;
 import com.riiablo.net.packet.d2gs.D2GS;
 
-public class Packet {
-    public int id;
-    public long time;
-    public ByteBuffer buffer;
-    public D2GS data;
-
-    public static Packet obtain(int id, ByteBuffer buffer) {
-      Packet packet = new Packet();
-      packet.id = id;
-      packet.time = TimeUtils.millis();
-      packet.buffer = buffer;
-      packet.data = D2GS.getRootAsD2GS(ByteBufferUtil.removeSizePrefix(buffer));
-      return packet;
+/**
+ * Size-prefixed {@link D2GS} message received from or dispatched to clients.
+ * <p>
+ * Packets are pooled along with their buffers: received packets copy their frame into a buffer
+ * owned by the packet, and outgoing packets are built using the packet's own
+ * {@link #builder() builder}. Packets are reference counted, since a dispatched packet is
+ * queued by the endpoint of every recipient until it has been written, and are returned to the
+ * pool once the last reference is {@link #release() released}.
+ */
+public class Packet implements Pool.Poolable, Releasable {
+  static final int BUILDER_SIZE = 256;
+
+  static final Pool<Packet> pool = new Pool<Packet>(64, 1024) {
+    @Override
+    protected Packet newObject() {
+      return new Packet();
+    }
+
+    @Override
+    public synchronized Packet obtain() {
+      return super.obtain();
+    }
+
+    @Override
+    public synchronized void free(Packet packet) {
+      super.free(packet);
+    }
+  };
+
+  public int id;
+  public long time;
+  public ByteBuffer buffer;
+  public final D2GS data = new D2GS();
+
+  final FlatBufferBuilder builder = new FlatBufferBuilder(BUILDER_SIZE);
+  final AtomicInteger refs = new AtomicInteger();
+  ByteBuffer copy;
+
+  /**
+   * Obtains a packet holding a copy of the remaining bytes of {@code frame}.
+   */
+  public static Packet obtain(int id, ByteBuffer frame) {
+    Packet packet = pool.obtain();
+    ByteBuffer copy = packet.copy;
+    if (copy == null || copy.capacity() < frame.remaining()) {
+      copy = packet.copy = ByteBuffer.allocate(MathUtils.nextPowerOfTwo(frame.remaining()));
+    }
+
+    copy.clear();
+    copy.put(frame);
+    copy.flip();
+    return packet.init(id, copy);
+  }
+
+  /**
+   * Obtains a packet to be built using its {@link #builder()} and then {@link #finish finished}.
+   */
+  public static Packet obtain() {
+    Packet packet = pool.obtain();
+    packet.builder.clear();
+    return packet;
+  }
+
+  /**
+   * Returns the builder used to build this packet. The root must be finished size-prefixed.
+   */
+  public FlatBufferBuilder builder() {
+    return builder;
+  }
+
+  /**
+   * Completes a packet built using its {@link #builder()}.
+   *
+   * @param id mask of the clients the packet should be dispatched to
+   */
+  public Packet finish(int id) {
+    return init(id, builder.dataBuffer());
+  }
+
+  Packet init(int id, ByteBuffer buffer) {
+    this.id = id;
+    this.time = TimeUtils.millis();
+    this.buffer = buffer;
+    refs.set(1);
+
+    // root offsets are absolute, so the buffer need not keep the size prefix skipped
+    final int position = buffer.position();
+    buffer.position(position + Constants.SIZE_PREFIX_LENGTH);
+    D2GS.getRootAsD2GS(buffer, data);
+    buffer.position(position);
+    return this;
+  }
+
+  /**
+   * Adds a reference to this packet which must later be {@link #release() released}.
+   */
+  public Packet retain() {
+    refs.incrementAndGet();
+    return this;
+  }
+
+  @Override
+  public void release() {
+    final int refs = this.refs.decrementAndGet();
+    if (refs == 0) {
+      pool.free(this);
+    } else if (refs < 0) {
+      throw new IllegalStateException("Packet released more times than retained");
     }
   }
+
+  @Override
+  public void reset() {
+    id = 0;
+    time = 0;
+    buffer = null;
+  }
+}
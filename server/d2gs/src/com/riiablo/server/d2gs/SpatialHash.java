@@ -0,0 +1,50 @@
+package com.riiablo.server.d2gs;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Buckets entity ids by the square cell of the map containing them. Cells are kept after being
+ * emptied so rebuilding the hash every tick does not allocate once the occupied cells are known.
+ */
+class SpatialHash {
+  static final IntArray EMPTY = new IntArray(0);
+
+  final int shift;
+  final IntMap<IntArray> cells = new IntMap<>();
+  final Array<IntArray> occupied = new Array<>(false, 64);
+
+  /**
+   * @param shift log2 of the cell size, in sub-tiles
+   */
+  SpatialHash(int shift) {
+    this.shift = shift;
+  }
+
+  static int key(int cx, int cy) {
+    return (cy << 16) | (cx & 0xFFFF);
+  }
+
+  int cell(float position) {
+    return (int) Math.floor(position) >> shift;
+  }
+
+  void clear() {
+    for (IntArray cell : occupied) cell.clear();
+    occupied.clear();
+  }
+
+  void add(int entityId, float x, float y) {
+    final int key = key(cell(x), cell(y));
+    IntArray cell = cells.get(key);
+    if (cell == null) cells.put(key, cell = new IntArray(false, 16));
+    if (cell.size == 0) occupied.add(cell);
+    cell.add(entityId);
+  }
+
+  IntArray get(int cx, int cy) {
+    IntArray cell = cells.get(key(cx, cy));
+    return cell != null ? cell : EMPTY;
+  }
+}
@@ -0,0 +1,117 @@
+package com.riiablo.server.d2gs;
+
+import com.google.flatbuffers.ByteBufferUtil;
+import com.google.flatbuffers.FlatBufferBuilder;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.riiablo.net.packet.d2gs.ComponentP;
+import com.riiablo.net.packet.d2gs.D2GS;
+import com.riiablo.net.packet.d2gs.D2GSData;
+import com.riiablo.net.packet.d2gs.EntitySync;
+import com.riiablo.net.packet.d2gs.PositionP;
+import com.riiablo.net.packet.d2gs.VelocityP;
+
+/**
+ * Measures the bytes allocated by the game thread per tick to build and dispatch entity syncs,
+ * comparing a builder and packet allocated per message against {@link Packet#obtain() pooled}
+ * packets. Requires a HotSpot JVM for per-thread allocation counters.
+ *
+ * <pre>
+ * PacketAllocationBenchmark [entities] [clients] [ticks]
+ * </pre>
+ */
+public class PacketAllocationBenchmark {
+  static final byte[] COMPONENT_TYPES = { ComponentP.PositionP, ComponentP.VelocityP };
+
+  final int entities;
+  final int clients;
+
+  /** simulated endpoint write queues, flushed at the end of each tick */
+  final List<ByteBuffer> writes = new ArrayList<>(4096);
+  final List<Packet> owners = new ArrayList<>(4096);
+
+  PacketAllocationBenchmark(int entities, int clients) {
+    this.entities = entities;
+    this.clients = clients;
+  }
+
+  static void build(FlatBufferBuilder builder, int entityId, int snapshot) {
+    int position = PositionP.createPositionP(builder, entityId, snapshot);
+    int velocity = VelocityP.createVelocityP(builder, 1, 1);
+    int types = EntitySync.createComponentTypeVector(builder, COMPONENT_TYPES);
+    int components = EntitySync.createComponentVector(builder, new int[] { position, velocity });
+    int sync = EntitySync.createEntitySync(builder, entityId, 0, 0, types, components, snapshot, snapshot - 1);
+    int root = D2GS.createD2GS(builder, D2GSData.EntitySync, sync);
+    D2GS.finishSizePrefixedD2GSBuffer(builder, root);
+  }
+
+  /** Dispatch as it was done before packets were pooled */
+  void tickUnpooled(int snapshot) {
+    for (int entityId = 0; entityId < entities; entityId++) {
+      FlatBufferBuilder builder = new FlatBufferBuilder(0);
+      build(builder, entityId, snapshot);
+      ByteBuffer buffer = builder.dataBuffer();
+      D2GS data = D2GS.getRootAsD2GS(ByteBufferUtil.removeSizePrefix(buffer));
+      if (data.dataType() != D2GSData.EntitySync) throw new AssertionError();
+      for (int i = 0; i < clients; i++) writes.add(buffer.duplicate());
+    }
+
+    writes.clear();
+  }
+
+  void tickPooled(int snapshot) {
+    for (int entityId = 0; entityId < entities; entityId++) {
+      Packet packet = Packet.obtain();
+      build(packet.builder(), entityId, snapshot);
+      packet.finish(0xFFFFFFFF);
+      if (packet.data.dataType() != D2GSData.EntitySync) throw new AssertionError();
+      for (int i = 0; i < clients; i++) {
+        writes.add(packet.buffer.duplicate());
+        owners.add(packet.retain());
+      }
+
+      packet.release();
+    }
+
+    for (int i = 0, s = owners.size(); i < s; i++) owners.get(i).release();
+    owners.clear();
+    writes.clear();
+  }
+
+  static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  void run(String name, boolean pooled, int ticks) {
+    for (int i = 0; i < ticks; i++) tick(pooled, i); // warm up
+    long bytes = allocatedBytes();
+    long time = System.nanoTime();
+    for (int i = 0; i < ticks; i++) tick(pooled, i);
+    time = System.nanoTime() - time;
+    bytes = allocatedBytes() - bytes;
+    System.out.printf("%-8s %10d bytes/tick %8.1f bytes/message %8d ns/tick%n",
+        name, bytes / ticks, (double) bytes / ticks / entities, time / ticks);
+  }
+
+  void tick(boolean pooled, int snapshot) {
+    if (pooled) {
+      tickPooled(snapshot);
+    } else {
+      tickUnpooled(snapshot);
+    }
+  }
+
+  public static void main(String[] args) {
+    int entities = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    int clients  = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+    int ticks    = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+    System.out.println(entities + " entities, " + clients + " clients, " + ticks + " ticks");
+    PacketAllocationBenchmark benchmark = new PacketAllocationBenchmark(entities, clients);
+    benchmark.run("unpooled", false, ticks);
+    benchmark.run("pooled", true, ticks);
+  }
+}
@@ -1,5 +1,6 @@
 package com.riiablo.server.mcp;
 
+import com.google.flatbuffers.ByteBufferUtil;
 import com.google.flatbuffers.FlatBufferBuilder;
 
 import com.badlogic.gdx.Application;
@@ -8,12 +9,13 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Net;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.net.ServerSocket;
 import com.badlogic.gdx.net.Socket;
-import com.badlogic.gdx.utils.BufferUtils;
 import com.riiablo.Riiablo;
 import com.riiablo.net.GameSession;
+import com.riiablo.net.nio.ConnectionHandler;
+import com.riiablo.net.nio.Endpoint;
+import com.riiablo.net.nio.NioServer;
+import com.riiablo.net.nio.SizePrefixedFramer;
 import com.riiablo.net.packet.bnls.ConnectionAccepted;
 import com.riiablo.net.packet.bnls.ConnectionClosed;
 import com.riiablo.net.packet.mcp.CreateGame;
@@ -26,7 +28,6 @@ import com.riiablo.net.packet.msi.MSIData;
 import com.riiablo.net.packet.msi.StartInstance;
 
 import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
@@ -40,27 +41,30 @@ import java.text.DateFormat;
 import java.util.Calendar;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MCP extends ApplicationAdapter {
   private static final String TAG = "MCP";
 
   private static final int PORT = 6111;
   private static final int MAX_CLIENTS = 32;
+  private static final int NUM_THREADS = 2;
+  private static final int MAX_GAMES = 4;
 
   public static void main(String[] args) {
     HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
     new HeadlessApplication(new MCP(), config);
   }
 
-  ServerSocket server;
-  ByteBuffer buffer;
-  Thread main;
+  NioServer server;
+  ExecutorService msiExecutor;
   AtomicBoolean kill;
   Thread cli;
-  ThreadGroup clientThreads;
-  CopyOnWriteArrayList<Client> CLIENTS = new CopyOnWriteArrayList<>();
+  final AtomicInteger numClients = new AtomicInteger();
 
   Map<String, GameSession> sessions = new ConcurrentHashMap<>();
   {
@@ -96,48 +100,42 @@ public class MCP extends ApplicationAdapter {
       Gdx.app.error(TAG, e.getMessage(), e);
     }
 
-    clientThreads = new ThreadGroup("MCPClients");
-
     Gdx.app.log(TAG, "Starting server...");
-    server = Gdx.net.newServerSocket(Net.Protocol.TCP, PORT, null);
-    buffer = BufferUtils.newByteBuffer(4096);
+    msiExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "MSI");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
     kill = new AtomicBoolean(false);
-    main = new Thread(new Runnable() {
+    server = new NioServer(TAG, PORT, SizePrefixedFramer.INSTANCE, new ConnectionHandler() {
       @Override
-      public void run() {
-        while (!kill.get()) {
-          Gdx.app.log(TAG, "waiting...");
-          Socket socket = server.accept(null);
-          Gdx.app.log(TAG, "connection from " + socket.getRemoteAddress());
-          if (CLIENTS.size() >= MAX_CLIENTS) {
-            try {
-              ConnectionDenied(socket, "Server is Full");
-            } catch (Throwable ignored) {
-            } finally {
-              socket.dispose();
-            }
-          } else {
-            try {
-              ConnectionAccepted(socket);
-              new Client(socket).start();
-            } catch (Throwable ignored) {
-              socket.dispose();
-            }
-          }
+      public void connected(Endpoint endpoint) {
+        Gdx.app.log(TAG, "connection from " + endpoint.getRemoteAddress());
+        if (numClients.incrementAndGet() > MAX_CLIENTS) {
+          ConnectionDenied(endpoint, "Server is Full");
+          endpoint.close();
+        } else {
+          ConnectionAccepted(endpoint);
         }
+      }
 
-        Gdx.app.log(TAG, "killing child threads...");
-        for (Client client : CLIENTS) {
-          if (client != null) {
-            client.kill.set(true);
-          }
-        }
+      @Override
+      public void received(Endpoint endpoint, ByteBuffer frame) {
+        com.riiablo.net.packet.mcp.MCP packet = com.riiablo.net.packet.mcp.MCP.getRootAsMCP(ByteBufferUtil.removeSizePrefix(frame));
+        Gdx.app.log(TAG, "packet type " + MCPData.name(packet.dataType()));
+        process(endpoint, packet);
+      }
 
-        Gdx.app.log(TAG, "killing thread...");
+      @Override
+      public void disconnected(Endpoint endpoint) {
+        Gdx.app.log(TAG, "closing connection to " + endpoint.getRemoteAddress());
+        numClients.decrementAndGet();
       }
-    });
-    main.setName("MCP");
-    main.start();
+    }, NUM_THREADS);
+    server.start();
 
     cli = new Thread(new Runnable() {
       @Override
@@ -170,59 +168,49 @@ public class MCP extends ApplicationAdapter {
     Gdx.app.log(TAG, "Shutting down...");
     kill.set(true);
     server.dispose();
-    try {
-      main.join();
-    } catch (Throwable ignored) {}
+    msiExecutor.shutdownNow();
   }
 
-  private void process(Socket socket, com.riiablo.net.packet.mcp.MCP packet) throws IOException {
+  private void process(Endpoint endpoint, com.riiablo.net.packet.mcp.MCP packet) {
     switch (packet.dataType()) {
       case MCPData.CreateGame:
-        CreateGame(socket, packet);
+        CreateGame(endpoint, packet);
         break;
       case MCPData.JoinGame:
-        JoinGame(socket, packet);
+        JoinGame(endpoint, packet);
         break;
       case MCPData.ListGames:
-        ListGames(socket, packet);
+        ListGames(endpoint, packet);
         break;
       default:
         Gdx.app.error(TAG, "Unknown packet type: " + packet.dataType());
     }
   }
 
-  private boolean ConnectionDenied(Socket socket, String reason) throws IOException {
+  private boolean ConnectionDenied(Endpoint endpoint, String reason) {
     FlatBufferBuilder builder = new FlatBufferBuilder();
     int reasonOffset = builder.createString(reason);
     int connectionDeniedId = ConnectionClosed.createConnectionClosed(builder, reasonOffset);
     int id = com.riiablo.net.packet.mcp.MCP.createMCP(builder, MCPData.ConnectionClosed, connectionDeniedId);
-    builder.finish(id);
-
-    ByteBuffer data = builder.dataBuffer();
-    OutputStream out = socket.getOutputStream();
-    WritableByteChannel channel = Channels.newChannel(out);
-    channel.write(data);
+    com.riiablo.net.packet.mcp.MCP.finishSizePrefixedMCPBuffer(builder, id);
+    endpoint.send(builder.dataBuffer());
     return true;
   }
 
-  private boolean ConnectionAccepted(Socket socket) throws IOException {
+  private boolean ConnectionAccepted(Endpoint endpoint) {
     Gdx.app.debug(TAG, "Connection accepted!");
     FlatBufferBuilder builder = new FlatBufferBuilder();
     ConnectionAccepted.startConnectionAccepted(builder);
     int connectionAcceptedId = ConnectionAccepted.endConnectionAccepted(builder);
     int id = com.riiablo.net.packet.mcp.MCP.createMCP(builder, MCPData.ConnectionAccepted, connectionAcceptedId);
-    builder.finish(id);
-
-    ByteBuffer data = builder.dataBuffer();
-    OutputStream out = socket.getOutputStream();
-    WritableByteChannel channel = Channels.newChannel(out);
-    channel.write(data);
+    com.riiablo.net.packet.mcp.MCP.finishSizePrefixedMCPBuffer(builder, id);
+    endpoint.send(builder.dataBuffer());
     return false;
   }
 
-  private boolean ListGames(Socket socket, com.riiablo.net.packet.mcp.MCP packet) throws IOException {
+  private boolean ListGames(Endpoint endpoint, com.riiablo.net.packet.mcp.MCP packet) {
     ListGames listGames = (ListGames) packet.data(new ListGames());
-    Gdx.app.debug(TAG, "Games list requested by " + socket.getRemoteAddress());
+    Gdx.app.debug(TAG, "Games list requested by " + endpoint.getRemoteAddress());
 
     FlatBufferBuilder builder = new FlatBufferBuilder();
 
@@ -238,67 +226,74 @@ public class MCP extends ApplicationAdapter {
     ListGames.addGames(builder, sessionsVec);
     int listGamesOffset = ListGames.endListGames(builder);
     int id = com.riiablo.net.packet.mcp.MCP.createMCP(builder, MCPData.ListGames, listGamesOffset);
-    builder.finish(id);
-
-    ByteBuffer data = builder.dataBuffer();
-    OutputStream out = socket.getOutputStream();
-    WritableByteChannel channel = Channels.newChannel(out);
-    channel.write(data);
+    com.riiablo.net.packet.mcp.MCP.finishSizePrefixedMCPBuffer(builder, id);
+    endpoint.send(builder.dataBuffer());
     Gdx.app.log(TAG, "returning games list...");
     return false;
   }
 
-  private boolean CreateGame(Socket socket, com.riiablo.net.packet.mcp.MCP packet) throws IOException {
+  private boolean CreateGame(final Endpoint endpoint, com.riiablo.net.packet.mcp.MCP packet) {
     final CreateGame createGame = (CreateGame) packet.data(new CreateGame());
     final String gameName = createGame.gameName();
-    Gdx.app.debug(TAG, "Attempting to create " + gameName + " for " + socket.getRemoteAddress());
-
-    final FlatBufferBuilder builder = new FlatBufferBuilder();
-    CreateGame.startCreateGame(builder);
+    Gdx.app.debug(TAG, "Attempting to create " + gameName + " for " + endpoint.getRemoteAddress());
     if (sessions.containsKey(gameName)) {
-      CreateGame.addResult(builder, Result.ALREADY_EXISTS);
-    } else if (sessions.size() >= 4) {
-      CreateGame.addResult(builder, Result.SERVER_DOWN);
-    } else {
-      final GameSession session = new GameSession(createGame);
-      StartInstance(createGame, new ResponseListener() {
-        @Override
-        public void handleResponse(MSI msi) {
-          StartInstance startInstance = (StartInstance) msi.data(new StartInstance());
-          switch (startInstance.result()) {
-            case Result.SUCCESS:
-              sessions.put(gameName, session.setConnectInfo(startInstance));
-              CreateGame.addResult(builder, Result.SUCCESS);
-              Gdx.app.debug(TAG, "Created session " + gameName + "@" + session.ip + ":" + session.port);
-              break;
-            default:
-              CreateGame.addResult(builder, Result.SERVER_DOWN);
+      return CreateGame(endpoint, Result.ALREADY_EXISTS);
+    } else if (sessions.size() >= MAX_GAMES) {
+      return CreateGame(endpoint, Result.SERVER_DOWN);
+    }
+
+    // MSI is queried off the reactor threads, the response is sent once it answers
+    final GameSession session = new GameSession(createGame);
+    msiExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        StartInstance(createGame, new ResponseListener() {
+          @Override
+          public void handleResponse(MSI msi) {
+            StartInstance startInstance = (StartInstance) msi.data(new StartInstance());
+            switch (startInstance.result()) {
+              case Result.SUCCESS:
+                if (sessions.size() >= MAX_GAMES) {
+                  CreateGame(endpoint, Result.SERVER_DOWN);
+                } else if (sessions.putIfAbsent(gameName, session.setConnectInfo(startInstance)) != null) {
+                  CreateGame(endpoint, Result.ALREADY_EXISTS);
+                } else {
+                  Gdx.app.debug(TAG, "Created session " + gameName + "@" + session.ip + ":" + session.port);
+                  CreateGame(endpoint, Result.SUCCESS);
+                }
+                break;
+              default:
+                CreateGame(endpoint, Result.SERVER_DOWN);
+            }
           }
-        }
 
-        @Override
-        public void failed(Throwable t) {
-          Gdx.app.error(TAG, t.getMessage(), t);
-        }
-      });
-    }
+          @Override
+          public void failed(Throwable t) {
+            Gdx.app.error(TAG, t.getMessage(), t);
+            CreateGame(endpoint, Result.SERVER_DOWN);
+          }
+        });
+      }
+    });
+    return false;
+  }
 
+  private boolean CreateGame(Endpoint endpoint, int result) {
+    FlatBufferBuilder builder = new FlatBufferBuilder();
+    CreateGame.startCreateGame(builder);
+    CreateGame.addResult(builder, result);
     int createGameOffset = CreateGame.endCreateGame(builder);
     int id = com.riiablo.net.packet.mcp.MCP.createMCP(builder, MCPData.CreateGame, createGameOffset);
-    builder.finish(id);
-
-    ByteBuffer data = builder.dataBuffer();
-    OutputStream out = socket.getOutputStream();
-    WritableByteChannel channel = Channels.newChannel(out);
-    channel.write(data);
+    com.riiablo.net.packet.mcp.MCP.finishSizePrefixedMCPBuffer(builder, id);
+    endpoint.send(builder.dataBuffer());
     Gdx.app.log(TAG, "returning game creation response...");
     return false;
   }
 
-  private boolean JoinGame(Socket socket, com.riiablo.net.packet.mcp.MCP packet) throws IOException {
+  private boolean JoinGame(Endpoint endpoint, com.riiablo.net.packet.mcp.MCP packet) {
     JoinGame joinGame = (JoinGame) packet.data(new JoinGame());
     String gameName = joinGame.gameName();
-    Gdx.app.debug(TAG, "Attempting to join " + gameName + " for " + socket.getRemoteAddress());
+    Gdx.app.debug(TAG, "Attempting to join " + gameName + " for " + endpoint.getRemoteAddress());
     GameSession session = sessions.get(gameName);
 
     FlatBufferBuilder builder = new FlatBufferBuilder();
@@ -316,12 +311,8 @@ public class MCP extends ApplicationAdapter {
 
     int joinGameOffset = JoinGame.endJoinGame(builder);
     int id = com.riiablo.net.packet.mcp.MCP.createMCP(builder, MCPData.JoinGame, joinGameOffset);
-    builder.finish(id);
-
-    ByteBuffer data = builder.dataBuffer();
-    OutputStream out = socket.getOutputStream();
-    WritableByteChannel channel = Channels.newChannel(out);
-    channel.write(data);
+    com.riiablo.net.packet.mcp.MCP.finishSizePrefixedMCPBuffer(builder, id);
+    endpoint.send(builder.dataBuffer());
     Gdx.app.log(TAG, "returning game join response...");
     return false;
   }
@@ -348,13 +339,11 @@ public class MCP extends ApplicationAdapter {
       WritableByteChannel channelOut = Channels.newChannel(out);
       channelOut.write(data);
 
-      buffer.clear();
-      buffer.mark();
+      ByteBuffer buffer = ByteBuffer.allocate(4096);
       InputStream in = socket.getInputStream();
       ReadableByteChannel channelIn = Channels.newChannel(in);
       channelIn.read(buffer);
-      buffer.limit(buffer.position());
-      buffer.reset();
+      buffer.flip();
 
       MSI packet = MSI.getRootAsMSI(buffer);
       Gdx.app.log(TAG, "packet type " + MCPData.name(packet.dataType()));
@@ -365,45 +354,4 @@ public class MCP extends ApplicationAdapter {
       if (socket != null) socket.dispose();
     }
   }
-
-  static String generateClientName() {
-    return String.format("Client-%08X", MathUtils.random(1, Integer.MAX_VALUE - 1));
-  }
-
-  private class Client extends Thread {
-    Socket socket;
-    AtomicBoolean kill = new AtomicBoolean(false);
-
-    Client(Socket socket) {
-      super(clientThreads, generateClientName());
-      this.socket = socket;
-    }
-
-    @Override
-    public void run() {
-      while (!kill.get()) {
-        try {
-          buffer.clear();
-          buffer.mark();
-          ReadableByteChannel in = Channels.newChannel(socket.getInputStream());
-          if (in.read(buffer) == -1) {
-            kill.set(true);
-            break;
-          }
-          buffer.limit(buffer.position());
-          buffer.reset();
-
-          com.riiablo.net.packet.mcp.MCP packet = com.riiablo.net.packet.mcp.MCP.getRootAsMCP(buffer);
-          Gdx.app.log(TAG, "packet type " + MCPData.name(packet.dataType()));
-          process(socket, packet);
-        } catch (Throwable t) {
-          Gdx.app.log(TAG, t.getMessage(), t);
-          kill.set(true);
-        }
-      }
-
-      Gdx.app.log(TAG, "closing socket...");
-      if (socket != null) socket.dispose();
-    }
-  }
 }
@@ -10,7 +10,7 @@ import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.net.ServerSocket;
 import com.badlogic.gdx.net.Socket;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.net.SocketHints;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.riiablo.net.packet.msi.MSIData;
 import com.riiablo.net.packet.msi.Result;
@@ -33,6 +33,12 @@ public class MSI extends ApplicationAdapter {
 
   static final int PORT = 6112;
 
+  /** port the D2GS host accepts game requests on */
+  static final int HOST_PORT = 6115;
+  static final int HOST_CONNECT_TIMEOUT = 5000;
+  /** the host only replies once the map of the game is generated, which is slow on a cold cache */
+  static final int HOST_TIMEOUT = 120000;
+
   public static void main(String[] args) {
     HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
     new HeadlessApplication(new MSI(), config);
@@ -40,7 +46,8 @@ public class MSI extends ApplicationAdapter {
 
   ServerSocket server;
   ByteBuffer buffer;
-  final Array<Process> instances = new Array<>();
+  ByteBuffer response;
+  Process host;
 
   MSI() {}
 
@@ -63,6 +70,18 @@ public class MSI extends ApplicationAdapter {
     Gdx.app.log(TAG, "Starting server...");
     server = Gdx.net.newServerSocket(Net.Protocol.TCP, PORT, null);
     buffer = BufferUtils.newByteBuffer(4096);
+    response = BufferUtils.newByteBuffer(4096);
+
+    Gdx.app.log(TAG, "Starting D2GS host...");
+    try {
+      File outFile = new File("D2GS.tmp");
+      ProcessBuilder processBuilder = new ProcessBuilder("java", "-jar", "server/d2gs/build/libs/d2gs-1.0.jar");
+      processBuilder.redirectOutput(ProcessBuilder.Redirect.to(outFile));
+      processBuilder.redirectError(ProcessBuilder.Redirect.to(outFile));
+      host = processBuilder.start();
+    } catch (Throwable t) {
+      Gdx.app.error(TAG, t.getMessage(), t);
+    }
   }
 
   @Override
@@ -84,6 +103,8 @@ public class MSI extends ApplicationAdapter {
       Gdx.app.log(TAG, "packet type " + MSIData.name(packet.dataType()));
       process(socket, packet);
     } catch (Throwable t) {
+      Gdx.app.error(TAG, t.getMessage(), t);
+    } finally {
       if (socket != null) socket.dispose();
     }
   }
@@ -98,37 +119,55 @@ public class MSI extends ApplicationAdapter {
     }
   }
 
+  /**
+   * Games are hosted by a single D2GS process, so requests are relayed to it rather than
+   * starting a process per game. The host replies with the address of the new game.
+   */
   private boolean StartInstance(Socket socket, com.riiablo.net.packet.msi.MSI packet) throws IOException {
     Gdx.app.debug(TAG, "Starting instance...");
 
+    Socket hostSocket = null;
     try {
-      File outFile = new File("D2GS.tmp");
-      ProcessBuilder processBuilder = new ProcessBuilder("java", "-jar", "server/d2gs/build/libs/d2gs-1.0.jar");
-      processBuilder.redirectOutput(ProcessBuilder.Redirect.to(outFile));
-      processBuilder.redirectError(ProcessBuilder.Redirect.to(outFile));
-      Process process = processBuilder.start();
-      instances.add(process);
+      SocketHints hints = new SocketHints();
+      hints.connectTimeout = HOST_CONNECT_TIMEOUT;
+      hints.socketTimeout = HOST_TIMEOUT;
+      hostSocket = Gdx.net.newClientSocket(Net.Protocol.TCP, "localhost", HOST_PORT, hints);
+
+      WritableByteChannel hostOut = Channels.newChannel(hostSocket.getOutputStream());
+      hostOut.write(buffer.duplicate());
+
+      response.clear();
+      ReadableByteChannel hostIn = Channels.newChannel(hostSocket.getInputStream());
+      hostIn.read(response);
+      response.flip();
     } catch (Throwable t) {
-      Gdx.app.error(TAG, t.getMessage(), t);
+      Gdx.app.error(TAG, "Failed to start instance: " + t.getMessage(), t);
+      response.clear();
+      FlatBufferBuilder builder = new FlatBufferBuilder();
+      StartInstance.startStartInstance(builder);
+      StartInstance.addResult(builder, Result.FAILURE);
+      int startInstanceOffset = StartInstance.endStartInstance(builder);
+      int id = com.riiablo.net.packet.msi.MSI.createMSI(builder, MSIData.StartInstance, startInstanceOffset);
+      builder.finish(id);
+      response.put(builder.dataBuffer());
+      response.flip();
+    } finally {
+      if (hostSocket != null) hostSocket.dispose();
     }
 
-    int ip     = 2130706433; // 127.0.0.1
-    short port = 6114;
-
-    FlatBufferBuilder builder = new FlatBufferBuilder();
-    StartInstance.startStartInstance(builder);
-    StartInstance.addResult(builder, Result.SUCCESS);
-    StartInstance.addIp(builder, ip);
-    StartInstance.addPort(builder, port);
-    int startInstanceOffset = StartInstance.endStartInstance(builder);
-    int id = com.riiablo.net.packet.msi.MSI.createMSI(builder, MSIData.StartInstance, startInstanceOffset);
-    builder.finish(id);
+    com.riiablo.net.packet.msi.MSI reply = com.riiablo.net.packet.msi.MSI.getRootAsMSI(response.duplicate());
+    StartInstance startInstance = (StartInstance) reply.data(new StartInstance());
+    int ip = startInstance.ip();
 
-    ByteBuffer data = builder.dataBuffer();
     OutputStream out = socket.getOutputStream();
     WritableByteChannel channel = Channels.newChannel(out);
-    channel.write(data);
-    Gdx.app.debug(TAG, "Returning instance at " + InetAddress.getByAddress(ByteBuffer.allocate(4).putInt(ip).array()));
+    channel.write(response);
+    if (startInstance.result() != Result.SUCCESS) {
+      Gdx.app.debug(TAG, "Instance could not be started");
+      return false;
+    }
+
+    Gdx.app.debug(TAG, "Returning instance at " + InetAddress.getByAddress(ByteBuffer.allocate(4).putInt(ip).array()) + ":" + startInstance.port());
     return true;
   }
 
@@ -136,8 +175,6 @@ public class MSI extends ApplicationAdapter {
   public void dispose() {
     Gdx.app.log(TAG, "Shutting down...");
     server.dispose();
-    for (Process process : instances) {
-      process.destroy();
-    }
+    if (host != null) host.destroy();
   }
 }
@@ -20,6 +20,7 @@ public class BinGenerationTool extends ApplicationAdapter {
   private static final String TAG = "BinGenerationTool";
 
   private static final boolean VALIDATE_BIN = true;
+  private static final boolean COLUMNAR = true;
 
   public static void main(String[] args) throws Exception {
     new HeadlessApplication(new BinGenerationTool(args));
@@ -85,8 +86,12 @@ public class BinGenerationTool extends ApplicationAdapter {
     OutputStream out = null;
     try {
       out = bin.write(false, 8192);
-      LittleEndianDataOutputStream dos = new LittleEndianDataOutputStream(out);
-      excel.writeBin(dos);
+      if (COLUMNAR) {
+        excel.writeColumns(out);
+      } else {
+        LittleEndianDataOutputStream dos = new LittleEndianDataOutputStream(out);
+        excel.writeBin(dos);
+      }
     } catch (Throwable t) {
       Gdx.app.error(TAG, t.getMessage(), t);
     } finally {
@@ -95,13 +100,19 @@ public class BinGenerationTool extends ApplicationAdapter {
 
     if (VALIDATE_BIN) {
       Class<Excel.Entry> entryClass = getEntryClass(excelClass);
-      String binClassName = excelClass.getName() + "Bin";
-      Class binClass = Class.forName(binClassName);
-      Method equals = binClass.getMethod("equals", entryClass, entryClass);
+      Excel.Loader<Excel.Entry> loader = Excel.getLoader(excelClass, entryClass);
+      Method equals = null;
+      if (loader == null) {
+        String binClassName = excelClass.getName() + "Bin";
+        Class binClass = Class.forName(binClassName);
+        equals = binClass.getMethod("equals", entryClass, entryClass);
+      }
       Excel binExcel = Excel.load(excelClass, txt, bin, null);
       if (binExcel.size() != excel.size()) Gdx.app.error(TAG, "excel sizes do not match!");
       for (Excel.Entry e1 : excel) {
-        Excel.Entry eq = getEqual(equals, e1, binExcel);
+        Excel.Entry eq = loader != null
+            ? getEqual(loader, e1, binExcel)
+            : getEqual(equals, e1, binExcel);
         if (eq == null) {
           Gdx.app.log(TAG, "ERROR at index " + e1);
           //break;
@@ -123,6 +134,16 @@ public class BinGenerationTool extends ApplicationAdapter {
     return null;
   }
 
+  private static Excel.Entry getEqual(Excel.Loader<Excel.Entry> loader, Excel.Entry e1, Excel<Excel.Entry> binExcel) {
+    for (Excel.Entry e2 : binExcel) {
+      if (loader.equal(e1, e2)) {
+        return e2;
+      }
+    }
+
+    return null;
+  }
+
   private static String generateBinName(String fileName) {
     return FilenameUtils.getPath(fileName) + FilenameUtils.getBaseName(fileName) + ".bin";
   }
@@ -1,46 +1,317 @@
 package com.riiablo.codec.excel;
 
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.riiablo.util.ClassUtils;
+
+import org.apache.commons.lang3.ClassPathUtils;
+import org.apache.commons.lang3.StringEscapeUtils;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 
-public class ExcelGenerationTool {
+/**
+ * Generates an {@link Excel.Loader} for every {@link Excel} in a package, e.g.,
+ * <pre>ExcelGenerationTool com.riiablo.codec.excel core/gen</pre>
+ * Loaders resolve their column ids once per txt and assign entry fields directly, and must be
+ * regenerated whenever the columns of an entry change.
+ */
+public class ExcelGenerationTool extends ApplicationAdapter {
+  private static final String TAG = "ExcelGenerationTool";
 
   public static void main(String[] args) throws Exception {
-    for (String arg : args) {
-      generate(arg + "$Entry");
+    new HeadlessApplication(new ExcelGenerationTool(args));
+  }
+
+  final String[] args;
+
+  ExcelGenerationTool(String[] args) {
+    this.args = args;
+  }
+
+  @Override
+  public void create() {
+    try {
+      Package pkg = Package.getPackage(args[0]);
+      Gdx.app.log(TAG, "package=" + pkg.getName());
+
+      String pkgPath = pkg.getName().replace('.', '/');
+
+      Gdx.app.log(TAG, "home=" + Gdx.files.getLocalStoragePath());
+      FileHandle home = new FileHandle(Gdx.files.getLocalStoragePath());
+      FileHandle src = home.child("core/src").child(pkgPath);
+      Gdx.app.log(TAG, "src=" + src);
+
+      FileHandle dst = home.child(args[1]).child(pkgPath);
+      Gdx.app.log(TAG, "dst=" + dst);
+
+      FileHandle[] children = src.list("java");
+      for (FileHandle child : children) {
+        String name = child.nameWithoutExtension();
+        String className = ClassPathUtils.toFullyQualifiedName(pkg, name);
+        Class clazz = Class.forName(className);
+        if (clazz == Excel.class || !Excel.class.isAssignableFrom(clazz)) {
+          continue;
+        } else if (Modifier.isAbstract(clazz.getModifiers())) {
+          continue;
+        }
+
+        FileHandle loader = dst.child(name + "Loader.java");
+        Gdx.app.log(TAG, loader.toString());
+        loader.writeString(generate(clazz), false, "UTF-8");
+      }
+    } catch (Throwable t) {
+      throw new GdxRuntimeException(t);
     }
+
+    Gdx.app.exit();
   }
 
-  public static void generate(String _package) throws Exception {
-    Class clazz = Class.forName(_package);
-    Field[] fields = clazz.getFields();
-    for (int i = 0; i < fields.length; i++) {
-      Field field = fields[i];
+  public static String generate(Class excelClass) {
+    Class<Excel.Entry> entryClass = Excel.getEntryClass(excelClass);
+    if (entryClass == null) throw new AssertionError(excelClass + " does not implement " + Excel.Entry.class);
+
+    final String loaderName = excelClass.getSimpleName() + "Loader";
+    final String entryName = excelClass.getSimpleName() + "." + entryClass.getSimpleName();
+    final boolean index = ClassUtils.hasAnnotation(entryClass, Excel.Index.class);
+    final Field primaryKey = Excel.getPrimaryKey(entryClass);
+
+    List<Field> fields = new ArrayList<>();
+    for (Field field : entryClass.getFields()) {
+      if (field.getAnnotation(Excel.Entry.Column.class) != null) fields.add(field);
+    }
+
+    StringBuilder out = new StringBuilder(8192);
+    out.append("package ").append(excelClass.getPackage().getName()).append(";\n")
+       .append('\n');
+    out.append("import org.apache.commons.lang3.StringUtils;\n")
+       .append('\n')
+       .append("import java.io.DataInput;\n")
+       .append("import java.io.DataOutput;\n")
+       .append("import java.io.IOException;\n")
+       .append("import java.util.Arrays;\n")
+       .append('\n');
+    out.append("/**\n")
+       .append(" * Generated by {@code ExcelGenerationTool} from {@link ").append(entryName).append("}, do not modify.\n")
+       .append(" */\n");
+    out.append("public final class ").append(loaderName)
+       .append(" extends Excel.Loader<").append(entryName).append("> {\n");
+
+    List<Field> binned = new ArrayList<>();
+    for (Field field : fields) {
+      if (field.getAnnotation(Excel.Entry.Column.class).bin()) binned.add(field);
+    }
+
+    for (Field field : fields) {
+      out.append("  private int").append(field.getType().isArray() ? "[] " : " ").append(field.getName()).append(";\n");
+    }
+    out.append("  private final int[] columnIds = new int[").append(binned.size()).append("];\n");
+    out.append('\n');
+
+    out.append("  public ").append(loaderName).append("() {\n")
+       .append("    super(");
+    for (int i = 0; i < fields.size(); i++) {
+      if (i > 0) out.append(", ");
+      out.append('"').append(fields.get(i).getName()).append('"');
+    }
+    out.append(");\n")
+       .append("  }\n")
+       .append('\n');
+
+    out.append("  @Override\n")
+       .append("  public ").append(entryName).append(" newEntry() {\n")
+       .append("    return new ").append(entryName).append("();\n")
+       .append("  }\n")
+       .append('\n');
+
+    final String keyType;
+    if (index) {
+      keyType = "INDEX";
+    } else if (primaryKey.getType() == int.class) {
+      keyType = "INT_KEY";
+    } else if (primaryKey.getType() == String.class) {
+      keyType = "STRING_KEY";
+    } else {
+      keyType = "OTHER_KEY";
+    }
+
+    out.append("  @Override\n")
+       .append("  public int keyType() {\n")
+       .append("    return ").append(keyType).append(";\n")
+       .append("  }\n")
+       .append('\n');
+    if (!index) {
+      out.append("  @Override\n")
+         .append("  public String keyName() {\n")
+         .append("    return \"").append(primaryKey.getName()).append("\";\n")
+         .append("  }\n")
+         .append('\n');
+    }
+    if (keyType.equals("INT_KEY")) {
+      out.append("  @Override\n")
+         .append("  public int intKey(").append(entryName).append(" entry) {\n")
+         .append("    return entry.").append(primaryKey.getName()).append(";\n")
+         .append("  }\n")
+         .append('\n');
+    } else if (keyType.equals("STRING_KEY")) {
+      out.append("  @Override\n")
+         .append("  public String stringKey(").append(entryName).append(" entry) {\n")
+         .append("    return entry.").append(primaryKey.getName()).append(";\n")
+         .append("  }\n")
+         .append('\n');
+    }
+
+    out.append("  @Override\n")
+       .append("  public void bind(TxtParser in) {\n");
+    for (Field field : fields) {
+      Excel.Entry.Column column = field.getAnnotation(Excel.Entry.Column.class);
+      String[] columnNames = Excel.getColumnNames(field, column);
+      out.append("    ").append(field.getName()).append(" = ");
+      if (columnNames == null) {
+        if (field.getType().isArray()) {
+          out.append("new int[] { ").append(column.columnIndex()).append(" }");
+        } else {
+          out.append(column.columnIndex());
+        }
+      } else if (field.getType().isArray()) {
+        out.append("in.getColumnId(new String[] {");
+        for (int i = 0; i < columnNames.length; i++) {
+          if (i > 0) out.append(',');
+          out.append(" \"").append(StringEscapeUtils.escapeJava(columnNames[i])).append('"');
+        }
+        out.append(" })");
+      } else {
+        assert columnNames.length == 1 : "field should only correspond to 1 column: " + field.getName() + ", " + columnNames.length + " columns (is it supposed to be an array?)";
+        out.append("in.getColumnId(\"").append(StringEscapeUtils.escapeJava(columnNames[0])).append("\")");
+      }
+      out.append(";\n");
+    }
+    out.append("  }\n")
+       .append('\n');
+
+    out.append("  @Override\n")
+       .append("  public void readTxt(TxtParser in, ").append(entryName).append(" entry) {\n");
+    for (Field field : fields) {
+      out.append("    entry.").append(field.getName())
+         .append(" = in.get").append(getType(field)).append('(').append(field.getName()).append(");\n");
+    }
+    out.append("  }\n")
+       .append('\n');
+
+    out.append("  @Override\n")
+       .append("  public void readBin(DataInput in, ").append(entryName).append(" entry) throws IOException {\n");
+    for (Field field : fields) {
       Excel.Entry.Column column = field.getAnnotation(Excel.Entry.Column.class);
       if (!column.bin()) continue;
       Class type = field.getType();
       if (type.isArray()) {
-        type = type.getComponentType();
-        System.out.printf("for (%s x : %s) out.write%s(x);%n", type.getSimpleName(), field.getName(), getMethod(field));
+        int length = getLength(field, column);
+        out.append("    entry.").append(field.getName())
+           .append(" = new ").append(type.getComponentType().getSimpleName()).append('[').append(length).append("];\n");
+        out.append("    for (int x = 0; x < ").append(length).append("; x++) entry.").append(field.getName())
+           .append("[x] = in.read").append(getMethod(field)).append("();\n");
       } else {
-        System.out.printf("out.write%s(%s);%n", getMethod(field), field.getName());
+        out.append("    entry.").append(field.getName()).append(" = in.read").append(getMethod(field)).append("();\n");
       }
     }
+    out.append("  }\n")
+       .append('\n');
 
-    System.out.println("-----------------------------------");
-
-    for (int i = 0; i < fields.length; i++) {
-      Field field = fields[i];
+    out.append("  @Override\n")
+       .append("  public void writeBin(DataOutput out, ").append(entryName).append(" entry) throws IOException {\n");
+    for (Field field : fields) {
       Excel.Entry.Column column = field.getAnnotation(Excel.Entry.Column.class);
       if (!column.bin()) continue;
       Class type = field.getType();
       if (type.isArray()) {
-        type = type.getComponentType();
-        System.out.printf("%s = new %s[%d];%n", field.getName(), type.getSimpleName(), column.endIndex() - column.startIndex());
-        System.out.printf("for (int x = %d; x < %d; x++) %s[x] = in.read%s();%n", column.startIndex(), column.endIndex(), field.getName(), getMethod(field));
+        out.append("    for (").append(type.getComponentType().getSimpleName()).append(" x : entry.").append(field.getName())
+           .append(") out.write").append(getMethod(field)).append("(x);\n");
       } else {
-        System.out.printf("%s = in.read%s();%n", field.getName(), getMethod(field));
+        out.append("    out.write").append(getMethod(field)).append("(entry.").append(field.getName()).append(");\n");
       }
     }
+    out.append("  }\n")
+       .append('\n');
+
+    out.append("  @Override\n")
+       .append("  public void bind(ColumnTable in) {\n");
+    for (int i = 0; i < binned.size(); i++) {
+      out.append("    columnIds[").append(i).append("] = column(in, \"").append(binned.get(i).getName()).append("\");\n");
+    }
+    out.append("  }\n")
+       .append('\n');
+
+    out.append("  @Override\n")
+       .append("  public void readColumns(ColumnTable in, int row, ").append(entryName).append(" entry) {\n");
+    for (int i = 0; i < binned.size(); i++) {
+      Field field = binned.get(i);
+      out.append("    entry.").append(field.getName())
+         .append(" = in.get").append(getType(field)).append(field.getType().isArray() ? "s" : "")
+         .append("(row, columnIds[").append(i).append("]);\n");
+    }
+    out.append("  }\n")
+       .append('\n');
+
+    out.append("  @Override\n")
+       .append("  public boolean equal(").append(entryName).append(" e1, ").append(entryName).append(" e2) {\n")
+       .append("    return ");
+    boolean first = true;
+    for (Field field : fields) {
+      Excel.Entry.Column column = field.getAnnotation(Excel.Entry.Column.class);
+      if (!column.bin()) continue;
+      String name = field.getName();
+      if (first) {
+        first = false;
+      } else {
+        out.append("\n        && ");
+      }
+      if (field.getType().isArray()) {
+        out.append("Arrays.equals(e1.").append(name).append(", e2.").append(name).append(')');
+      } else if (field.getType() == String.class) {
+        out.append("StringUtils.equals(e1.").append(name).append(", e2.").append(name).append(')');
+      } else {
+        out.append("e1.").append(name).append(" == e2.").append(name);
+      }
+    }
+    if (first) out.append("true");
+    out.append(";\n")
+       .append("  }\n");
+
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static int getLength(Field field, Excel.Entry.Column column) {
+    String[] columnNames = Excel.getColumnNames(field, column);
+    return columnNames == null ? 1 : columnNames.length;
+  }
+
+  private static String getType(Field field) {
+    Class type = field.getType();
+    if (type.isArray()) {
+      type = type.getComponentType();
+    }
+
+    if (type == String.class) {
+      return "String";
+    } else if (type == byte.class) {
+      return "Byte";
+    } else if (type == short.class) {
+      return "Short";
+    } else if (type == int.class) {
+      return "Int";
+    } else if (type == long.class) {
+      return "Long";
+    } else if (type == boolean.class) {
+      return "Boolean";
+    } else {
+      throw new UnsupportedOperationException("No support for " + type + " fields");
+    }
   }
 
   private static String getMethod(Field field) {